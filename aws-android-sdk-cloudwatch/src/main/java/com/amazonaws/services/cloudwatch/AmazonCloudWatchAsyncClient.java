@@ -17,11 +17,11 @@ package com.amazonaws.services.cloudwatch;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -105,15 +105,15 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     @Deprecated
     public AmazonCloudWatchAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * CloudWatch using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -123,7 +123,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *            to use when authenticating with AWS services.
      */
     public AmazonCloudWatchAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -171,8 +171,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * CloudWatch using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -183,7 +183,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *            services.
      */
     public AmazonCloudWatchAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -223,8 +223,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public AmazonCloudWatchAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -292,9 +292,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest)
+    public SdkFuture<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteAlarmsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAlarms(deleteAlarmsRequest);
                 return null;
@@ -320,10 +320,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest,
+    public SdkFuture<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteAlarmsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -360,10 +360,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
+    public SdkFuture<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
+        return AsyncRuntime.submit(executorService, describeAlarmHistoryRequest, new Callable<DescribeAlarmHistoryResult>() {
             public DescribeAlarmHistoryResult call() throws Exception {
                 return describeAlarmHistory(describeAlarmHistoryRequest);
             }
@@ -392,11 +392,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
+    public SdkFuture<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
+        return AsyncRuntime.submit(executorService, describeAlarmHistoryRequest, new Callable<DescribeAlarmHistoryResult>() {
             public DescribeAlarmHistoryResult call() throws Exception {
                 DescribeAlarmHistoryResult result = null;
                 try {
@@ -430,10 +430,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsResult> describeAlarmsAsync(
+    public SdkFuture<DescribeAlarmsResult> describeAlarmsAsync(
             final DescribeAlarmsRequest describeAlarmsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
+        return AsyncRuntime.submit(executorService, describeAlarmsRequest, new Callable<DescribeAlarmsResult>() {
             public DescribeAlarmsResult call() throws Exception {
                 return describeAlarms(describeAlarmsRequest);
             }
@@ -459,11 +459,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsResult> describeAlarmsAsync(
+    public SdkFuture<DescribeAlarmsResult> describeAlarmsAsync(
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
+        return AsyncRuntime.submit(executorService, describeAlarmsRequest, new Callable<DescribeAlarmsResult>() {
             public DescribeAlarmsResult call() throws Exception {
                 DescribeAlarmsResult result = null;
                 try {
@@ -496,10 +496,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
+    public SdkFuture<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
+        return AsyncRuntime.submit(executorService, describeAlarmsForMetricRequest, new Callable<DescribeAlarmsForMetricResult>() {
             public DescribeAlarmsForMetricResult call() throws Exception {
                 return describeAlarmsForMetric(describeAlarmsForMetricRequest);
             }
@@ -524,11 +524,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
+    public SdkFuture<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
+        return AsyncRuntime.submit(executorService, describeAlarmsForMetricRequest, new Callable<DescribeAlarmsForMetricResult>() {
             public DescribeAlarmsForMetricResult call() throws Exception {
                 DescribeAlarmsForMetricResult result = null;
                 try {
@@ -563,10 +563,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disableAlarmActionsAsync(
+    public SdkFuture<Void> disableAlarmActionsAsync(
             final DisableAlarmActionsRequest disableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disableAlarmActionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disableAlarmActions(disableAlarmActionsRequest);
                 return null;
@@ -594,11 +594,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disableAlarmActionsAsync(
+    public SdkFuture<Void> disableAlarmActionsAsync(
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disableAlarmActionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -630,10 +630,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> enableAlarmActionsAsync(
+    public SdkFuture<Void> enableAlarmActionsAsync(
             final EnableAlarmActionsRequest enableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, enableAlarmActionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 enableAlarmActions(enableAlarmActionsRequest);
                 return null;
@@ -658,11 +658,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> enableAlarmActionsAsync(
+    public SdkFuture<Void> enableAlarmActionsAsync(
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, enableAlarmActionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -735,10 +735,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
+    public SdkFuture<GetMetricStatisticsResult> getMetricStatisticsAsync(
             final GetMetricStatisticsRequest getMetricStatisticsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
+        return AsyncRuntime.submit(executorService, getMetricStatisticsRequest, new Callable<GetMetricStatisticsResult>() {
             public GetMetricStatisticsResult call() throws Exception {
                 return getMetricStatistics(getMetricStatisticsRequest);
             }
@@ -803,11 +803,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
+    public SdkFuture<GetMetricStatisticsResult> getMetricStatisticsAsync(
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
+        return AsyncRuntime.submit(executorService, getMetricStatisticsRequest, new Callable<GetMetricStatisticsResult>() {
             public GetMetricStatisticsResult call() throws Exception {
                 GetMetricStatisticsResult result = null;
                 try {
@@ -849,9 +849,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest)
+    public SdkFuture<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
+        return AsyncRuntime.submit(executorService, listMetricsRequest, new Callable<ListMetricsResult>() {
             public ListMetricsResult call() throws Exception {
                 return listMetrics(listMetricsRequest);
             }
@@ -885,10 +885,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest,
+    public SdkFuture<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
+        return AsyncRuntime.submit(executorService, listMetricsRequest, new Callable<ListMetricsResult>() {
             public ListMetricsResult call() throws Exception {
                 ListMetricsResult result = null;
                 try {
@@ -964,9 +964,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest)
+    public SdkFuture<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, putMetricAlarmRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 putMetricAlarm(putMetricAlarmRequest);
                 return null;
@@ -1035,10 +1035,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest,
+    public SdkFuture<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, putMetricAlarmRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1092,9 +1092,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest)
+    public SdkFuture<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, putMetricDataRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 putMetricData(putMetricDataRequest);
                 return null;
@@ -1141,10 +1141,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest,
+    public SdkFuture<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, putMetricDataRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1186,9 +1186,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest)
+    public SdkFuture<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setAlarmStateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 setAlarmState(setAlarmStateRequest);
                 return null;
@@ -1223,10 +1223,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest,
+    public SdkFuture<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setAlarmStateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -197,10 +197,10 @@ public class CognitoDevice {
         if (callback == null) {
             throw new CognitoParameterInvalidException("callback is null");
         }
-        new Thread(new Runnable() {
+        user.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = user.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final GetDeviceResult getDeviceResult = getDeviceInternal(user.getCachedSession());
@@ -221,7 +221,7 @@ public class CognitoDevice {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -258,10 +258,10 @@ public class CognitoDevice {
         if (callback == null) {
             throw  new CognitoParameterInvalidException("callback is null");
         }
-        new Thread(new Runnable() {
+        user.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = user.getMainHandler();
                 Runnable returnCallback;
                 try {
                     forgetDeviceInternal(user.getCachedSession());
@@ -281,7 +281,7 @@ public class CognitoDevice {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -314,10 +314,10 @@ public class CognitoDevice {
         if (callback == null) {
             throw  new CognitoParameterInvalidException("callback is null");
         }
-        new Thread(new Runnable() {
+        user.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = user.getMainHandler();
                 Runnable returnCallback;
                 try {
                     updateDeviceStatusInternal(user.getCachedSession(), DEVICE_TYPE_REMEMBERED);
@@ -337,7 +337,7 @@ public class CognitoDevice {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -371,10 +371,10 @@ public class CognitoDevice {
             throw  new CognitoParameterInvalidException("callback is null");
         }
 
-        new Thread(new Runnable() {
+        user.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = user.getMainHandler();
                 Runnable returnCallback;
                 try {
                     updateDeviceStatusInternal(user.getCachedSession(), DEVICE_TYPE_NOT_REMEMBERED);
@@ -394,7 +394,7 @@ public class CognitoDevice {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -19,7 +19,6 @@ package com.amazonaws.mobileconnectors.cognitoidentityprovider;
 
 import android.content.Context;
 import android.os.Handler;
-import android.os.Looper;
 
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.continuations.AuthenticationContinuation;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.continuations.AuthenticationDetails;
@@ -120,6 +119,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -191,10 +191,11 @@ public class CognitoUser {
     /**
      * The current session.
      */
-    private CognitoUserSession cipSession;
+    private volatile CognitoUserSession cipSession;
 
     /**
-     * Lock for getCachedSession.
+     * Lock for getCachedSession, held while the session is read from the
+     * store or refreshed, so that concurrent callers share one refresh.
      */
     private static final Object GET_CACHED_SESSION_LOCK = new Object();
 
@@ -243,6 +244,26 @@ public class CognitoUser {
         return pool.getUserPoolId();
     }
 
+    /**
+     * Runs a task on the background executor of the user pool of this user,
+     * see {@link CognitoUserPool#setBackgroundExecutor(java.util.concurrent.Executor)}.
+     * Used by the continuations to run the next step of an operation in
+     * background.
+     *
+     * @param task REQUIRED: the task.
+     */
+    public void runInBackground(Runnable task) {
+        pool.runInBackground(task);
+    }
+
+    /**
+     * Returns the handler posting the results of background operations to
+     * the main thread.
+     */
+    Handler getMainHandler() {
+        return pool.getMainHandler();
+    }
+
     /**
      * Method low-level client for Amazon Cognito Identity Provider.
      *
@@ -324,10 +345,10 @@ public class CognitoUser {
         if (callback == null) {
             throw new CognitoParameterInvalidException("callback is null");
         }
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     confirmSignUpInternal(confirmationCode, forcedAliasCreation, clientMetadata);
@@ -347,7 +368,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -438,10 +459,10 @@ public class CognitoUser {
         if (callback == null) {
             throw new CognitoParameterInvalidException("callback is null");
         }
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final ResendConfirmationCodeResult resendConfirmationCodeResult =
@@ -463,7 +484,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -602,10 +623,10 @@ public class CognitoUser {
 
         final CognitoUser cognitoUser = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final ForgotPasswordResult forgotPasswordResult = forgotPasswordInternal(clientMetadata);
@@ -630,7 +651,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -740,10 +761,10 @@ public class CognitoUser {
         if (callback == null) {
             throw new CognitoParameterInvalidException("callback is null");
         }
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     confirmPasswordInternal(verificationCode, newPassword, clientMetadata);
@@ -763,7 +784,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -892,44 +913,78 @@ public class CognitoUser {
 
         final CognitoUser cognitoUser = this;
 
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
-                Runnable returnCallback;
-                try {
-                    getCachedSession();
-                    returnCallback = new Runnable() {
-                        @Override
-                        public void run() {
-                            callback.onSuccess(cipSession, null);
-                        }
-                    };
-                } catch (final CognitoNotAuthorizedException e) {
-                    returnCallback = new Runnable() {
-                        @Override
-                        public void run() {
-                            final AuthenticationContinuation authenticationContinuation =
-                                    new AuthenticationContinuation(
-                                        cognitoUser,
-                                        context,
-                                        AuthenticationContinuation.RUN_IN_BACKGROUND, callback
-                                    );
-                            callback.getAuthenticationDetails(authenticationContinuation,
-                                    cognitoUser.getUserId());
-                        }
-                    };
-                } catch (final Exception e) {
-                    returnCallback = new Runnable() {
-                        @Override
-                        public void run() {
-                            callback.onFailure(e);
-                        }
-                    };
+        // Concurrent calls for the same user share the call in flight.
+        if (!pool.addSessionCallback(userId, callback)) {
+            return;
+        }
+
+        try {
+            pool.runInBackground(new Runnable() {
+                @Override
+                public void run() {
+                    CognitoUserSession session = null;
+                    Exception failure = null;
+                    try {
+                        session = getCachedSession();
+                    } catch (final Exception e) {
+                        failure = e;
+                    }
+                    postSessionCallbacks(cognitoUser, session, failure);
                 }
-                handler.post(returnCallback);
-            }
-        }).start();
+            });
+        } catch (final RejectedExecutionException e) {
+            // The callbacks that joined this call would otherwise wait forever.
+            postSessionCallbacks(cognitoUser, null, e);
+        }
+    }
+
+    /**
+     * Posts the result of getSessionInBackground to the callbacks waiting for
+     * it, which are then removed from the pool.
+     */
+    private void postSessionCallbacks(final CognitoUser cognitoUser,
+            final CognitoUserSession session, final Exception failure) {
+        final Handler handler = pool.getMainHandler();
+        for (final AuthenticationHandler pendingCallback : pool.removeSessionCallbacks(userId)) {
+            handler.post(getSessionCallback(cognitoUser, pendingCallback, session, failure));
+        }
+    }
+
+    /**
+     * Returns the callback of getSessionInBackground for its result.
+     */
+    private Runnable getSessionCallback(final CognitoUser cognitoUser,
+            final AuthenticationHandler callback, final CognitoUserSession session,
+            final Exception failure) {
+        if (failure == null) {
+            return new Runnable() {
+                @Override
+                public void run() {
+                    callback.onSuccess(session, null);
+                }
+            };
+        } else if (failure instanceof CognitoNotAuthorizedException) {
+            return new Runnable() {
+                @Override
+                public void run() {
+                    final AuthenticationContinuation authenticationContinuation =
+                            new AuthenticationContinuation(
+                                cognitoUser,
+                                context,
+                                AuthenticationContinuation.RUN_IN_BACKGROUND, callback
+                            );
+                    callback.getAuthenticationDetails(authenticationContinuation,
+                            cognitoUser.getUserId());
+                }
+            };
+        } else {
+            return new Runnable() {
+                @Override
+                public void run() {
+                    callback.onFailure(failure);
+                }
+            };
+        }
     }
 
     /**
@@ -1092,7 +1147,7 @@ public class CognitoUser {
             @Override
             public void onSuccess(final CognitoUserSession userSession, final CognitoDevice newDevice) {
                 if (runInBackground) {
-                    new Handler(Looper.getMainLooper()).post(new Runnable() {
+                    pool.getMainHandler().post(new Runnable() {
                         @Override
                         public void run() {
                             callback.onSuccess(userSession, newDevice);
@@ -1106,7 +1161,7 @@ public class CognitoUser {
             @Override
             public void getAuthenticationDetails(final AuthenticationContinuation authenticationContinuation, final String userId) {
                 if (runInBackground) {
-                    new Handler(Looper.getMainLooper()).post(new Runnable() {
+                    pool.getMainHandler().post(new Runnable() {
                         @Override
                         public void run() {
                             callback.getAuthenticationDetails(authenticationContinuation, userId);
@@ -1120,7 +1175,7 @@ public class CognitoUser {
             @Override
             public void getMFACode(final MultiFactorAuthenticationContinuation continuation) {
                 if (runInBackground) {
-                    new Handler(Looper.getMainLooper()).post(new Runnable() {
+                    pool.getMainHandler().post(new Runnable() {
                         @Override
                         public void run() {
                             callback.getMFACode(continuation);
@@ -1134,7 +1189,7 @@ public class CognitoUser {
             @Override
             public void authenticationChallenge(final ChallengeContinuation continuation) {
                 if (runInBackground) {
-                    new Handler(Looper.getMainLooper()).post(new Runnable() {
+                    pool.getMainHandler().post(new Runnable() {
                         @Override
                         public void run() {
                             callback.authenticationChallenge(continuation);
@@ -1148,7 +1203,7 @@ public class CognitoUser {
             @Override
             public void onFailure(final Exception exception) {
                 if (runInBackground) {
-                    new Handler(Looper.getMainLooper()).post(new Runnable() {
+                    pool.getMainHandler().post(new Runnable() {
                         @Override
                         public void run() {
                             callback.onFailure(exception);
@@ -1165,12 +1220,7 @@ public class CognitoUser {
             return new Runnable() {
                 @Override
                 public void run() {
-                    new Thread(new Runnable() {
-                        @Override
-                        public void run() {
-                            task.run();
-                        }
-                    }).start();
+                    pool.runInBackground(task);
                 }
             };
         } else {
@@ -1277,11 +1327,22 @@ public class CognitoUser {
      *         otherwise.
      */
     protected CognitoUserSession getCachedSession() {
-        synchronized (GET_CACHED_SESSION_LOCK) {
-            if (userId == null) {
-                throw new CognitoNotAuthorizedException("User-ID is null");
-            }
+        if (userId == null) {
+            throw new CognitoNotAuthorizedException("User-ID is null");
+        }
+
+        // A valid current session is returned without locking. This user
+        // still becomes the last authenticated user, which only goes to the
+        // store if the pool last wrote another user.
+        final CognitoUserSession currentSession = cipSession;
+        if (currentSession != null && currentSession.isValidForThreshold()) {
+            cacheLastAuthUser();
+            return currentSession;
+        }
 
+        synchronized (GET_CACHED_SESSION_LOCK) {
+            // Another caller may have refreshed the session while this one
+            // was waiting for the lock.
             if (cipSession != null) {
                 if (cipSession.isValidForThreshold()) {
                     cacheLastAuthUser();
@@ -1337,10 +1398,10 @@ public class CognitoUser {
 
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -1361,7 +1422,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -1428,10 +1489,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -1452,7 +1513,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -1549,10 +1610,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -1576,7 +1637,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -1691,10 +1752,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -1715,7 +1776,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -1783,10 +1844,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 boolean useSessionToken;
                 try {
@@ -1846,7 +1907,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -1944,10 +2005,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession cognitoTokens = user.getCachedSession();
@@ -1989,7 +2050,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2116,10 +2177,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -2151,7 +2212,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2249,10 +2310,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -2273,7 +2334,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2379,10 +2440,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -2404,7 +2465,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2463,10 +2524,10 @@ public class CognitoUser {
         }
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final CognitoUserSession session = user.getCachedSession();
@@ -2487,7 +2548,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2549,10 +2610,10 @@ public class CognitoUser {
         }
         final CognitoUserSession session = this.getCachedSession();
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     setUserSettingsInternal(cognitoUserSettings, session);
@@ -2572,7 +2633,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2636,10 +2697,10 @@ public class CognitoUser {
         }
         final CognitoUserSession session = this.getCachedSession();
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     setUserMfaSettingsInternal(mfaSettings, session);
@@ -2659,7 +2720,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
@@ -2792,12 +2853,15 @@ public class CognitoUser {
             final String csiLastUserKey = "CognitoIdentityProvider." + clientId + ".LastAuthUser";
 
             // Store the data in Shared Preferences
+            final Map<String, String> entries = new HashMap<String, String>();
             if (session != null) {
-                pool.awsKeyValueStore.put(csiIdTokenKey, session.getIdToken() != null ? session.getIdToken().getJWTToken() : null);
-                pool.awsKeyValueStore.put(csiAccessTokenKey, session.getAccessToken() != null ? session.getAccessToken().getJWTToken() : null);
-                pool.awsKeyValueStore.put(csiRefreshTokenKey, session.getRefreshToken() != null ? session.getRefreshToken().getToken() : null);
+                entries.put(csiIdTokenKey, session.getIdToken() != null ? session.getIdToken().getJWTToken() : null);
+                entries.put(csiAccessTokenKey, session.getAccessToken() != null ? session.getAccessToken().getJWTToken() : null);
+                entries.put(csiRefreshTokenKey, session.getRefreshToken() != null ? session.getRefreshToken().getToken() : null);
             }
-            pool.awsKeyValueStore.put(csiLastUserKey, userId);
+            entries.put(csiLastUserKey, userId);
+            pool.awsKeyValueStore.putAll(entries);
+            pool.lastAuthUser = userId;
         } catch (final Exception e) {
             // Logging exception, this is not a fatal error
             LOGGER.error("Error while writing to SharedPreferences.", e);
@@ -2805,9 +2869,15 @@ public class CognitoUser {
     }
 
     void cacheLastAuthUser() {
+        if (userId != null && userId.equals(pool.lastAuthUser)) {
+            return;
+        }
         try {
             final String csiLastUserKey = "CognitoIdentityProvider." + clientId + ".LastAuthUser";
-            pool.awsKeyValueStore.put(csiLastUserKey, userId);
+            if (userId == null || !userId.equals(pool.awsKeyValueStore.get(csiLastUserKey))) {
+                pool.awsKeyValueStore.put(csiLastUserKey, userId);
+            }
+            pool.lastAuthUser = userId;
         } catch (final Exception e) {
             // Logging exception, this is not a fatal error
             LOGGER.error("Error while writing to SharedPreferences.", e);
@@ -3754,10 +3824,10 @@ public class CognitoUser {
 
         final CognitoUser user = this;
 
-        new Thread(new Runnable() {
+        pool.runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = pool.getMainHandler();
                 Runnable returnCallback;
                 try {
                     final ListDevicesResult listDevicesResult = listDevicesInternal(
@@ -3783,7 +3853,7 @@ public class CognitoUser {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
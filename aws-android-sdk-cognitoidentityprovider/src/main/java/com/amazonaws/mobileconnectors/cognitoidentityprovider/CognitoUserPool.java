@@ -23,6 +23,7 @@ import android.os.Handler;
 import androidx.annotation.VisibleForTesting;
 
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.async.AsyncRuntime;
 import com.amazonaws.auth.AnonymousAWSCredentials;
 import com.amazonaws.internal.keyvaluestore.AWSKeyValueStore;
 import com.amazonaws.cognito.clientcontext.data.UserContextDataProvider;
@@ -47,8 +48,12 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 /**
@@ -137,6 +142,39 @@ public class CognitoUserPool {
      */
     AWSKeyValueStore awsKeyValueStore;
 
+    /**
+     * Last authenticated user this pool wrote to the store, so that users
+     * with a valid session don't read the store on every call. Null until
+     * written.
+     */
+    volatile String lastAuthUser;
+
+    /**
+     * Default maximum number of background operations of a user pool that
+     * run at once.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_BACKGROUND_OPERATIONS = 4;
+
+    /**
+     * Runs the background operations of this pool and of its users and
+     * devices. Created on first use, unless set by the app.
+     */
+    private Executor backgroundExecutor;
+
+    /**
+     * Posts the results of background operations to the main thread.
+     */
+    private volatile Handler mainHandler;
+
+    private final AtomicLong backgroundOperationCount = new AtomicLong();
+    private final AtomicLong backgroundQueueWaitNanos = new AtomicLong();
+
+    /**
+     * Callbacks of the getSessionInBackground calls in flight, by userId.
+     */
+    private final Map<String, List<AuthenticationHandler>> pendingSessionCallbacks =
+            new HashMap<String, List<AuthenticationHandler>>();
+
     /**
      * @deprecated use {@link CognitoUserPool#CognitoUserPool(Context, String, String, String, ClientConfiguration, Regions)}
      * <p>
@@ -403,6 +441,120 @@ public class CognitoUserPool {
         CognitoDeviceHelper.setPersistenceEnabled(isPersistenceEnabled);
     }
 
+    /**
+     * Sets the executor of the background operations of this pool and of its
+     * users and devices, such as {@link CognitoUser#getSessionInBackground}.
+     * By default, at most {@link #DEFAULT_MAX_CONCURRENT_BACKGROUND_OPERATIONS}
+     * of them run at once, on threads shared with the other clients of the SDK.
+     *
+     * @param executor REQUIRED: the executor.
+     */
+    public synchronized void setBackgroundExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        this.backgroundExecutor = executor;
+    }
+
+    /**
+     * Returns the executor of the background operations of this pool and of
+     * its users and devices.
+     *
+     * @return the executor.
+     */
+    public synchronized Executor getBackgroundExecutor() {
+        if (backgroundExecutor == null) {
+            backgroundExecutor = AsyncRuntime.newClientExecutor(
+                    DEFAULT_MAX_CONCURRENT_BACKGROUND_OPERATIONS);
+        }
+        return backgroundExecutor;
+    }
+
+    /**
+     * Returns the number of background operations of this pool that started.
+     *
+     * @return the number of background operations.
+     */
+    public long getBackgroundOperationCount() {
+        return backgroundOperationCount.get();
+    }
+
+    /**
+     * Returns the total time the background operations of this pool waited
+     * between their call and their start, including the creation of threads.
+     *
+     * @return the total wait, in milliseconds.
+     */
+    public long getBackgroundQueueWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(backgroundQueueWaitNanos.get());
+    }
+
+    /**
+     * Runs the task on the background executor.
+     *
+     * @param task REQUIRED: the task.
+     */
+    void runInBackground(final Runnable task) {
+        final long submitted = System.nanoTime();
+        getBackgroundExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                backgroundQueueWaitNanos.addAndGet(System.nanoTime() - submitted);
+                backgroundOperationCount.incrementAndGet();
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * Returns the handler posting the results of background operations to
+     * the main thread.
+     *
+     * @return the handler.
+     */
+    Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(context.getMainLooper());
+        }
+        return mainHandler;
+    }
+
+    /**
+     * Registers the callback of a getSessionInBackground call.
+     *
+     * @param userId the userId of the user.
+     * @param callback REQUIRED: the callback.
+     * @return true if no call for this user is in flight, in which case the
+     *         caller runs one; false if the callback joined the call in flight.
+     */
+    boolean addSessionCallback(String userId, AuthenticationHandler callback) {
+        synchronized (pendingSessionCallbacks) {
+            List<AuthenticationHandler> callbacks = pendingSessionCallbacks.get(userId);
+            if (callbacks != null) {
+                callbacks.add(callback);
+                return false;
+            }
+            callbacks = new ArrayList<AuthenticationHandler>();
+            callbacks.add(callback);
+            pendingSessionCallbacks.put(userId, callbacks);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the callbacks of the getSessionInBackground call in flight for
+     * the user, once it completes.
+     *
+     * @param userId the userId of the user.
+     * @return the callbacks to give the result to.
+     */
+    List<AuthenticationHandler> removeSessionCallbacks(String userId) {
+        synchronized (pendingSessionCallbacks) {
+            final List<AuthenticationHandler> callbacks = pendingSessionCallbacks.remove(userId);
+            return callbacks != null ? callbacks : Collections.<AuthenticationHandler>emptyList();
+        }
+    }
+
     /**
      * Runs user registration in background.
      *
@@ -454,10 +606,10 @@ public class CognitoUserPool {
                                          final Map<String, String> validationData,
                                          final Map<String, String> clientMetadata,
                                          final SignUpHandler callback) {
-        new Thread(new Runnable() {
+        runInBackground(new Runnable() {
             @Override
             public void run() {
-                final Handler handler = new Handler(context.getMainLooper());
+                final Handler handler = getMainHandler();
                 Runnable returnCallback;
                 try {
                     final SignUpResult signUpResult = signUpInternal(userId, password,
@@ -479,7 +631,7 @@ public class CognitoUserPool {
                 }
                 handler.post(returnCallback);
             }
-        }).start();
+        });
     }
 
     /**
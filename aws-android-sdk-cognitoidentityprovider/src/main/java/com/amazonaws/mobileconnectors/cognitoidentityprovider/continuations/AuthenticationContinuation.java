@@ -114,7 +114,7 @@ public class AuthenticationContinuation implements CognitoIdentityProviderContin
     @Override
     public void continueTask() {
         if (runInBackground) {
-            new Thread(new Runnable() {
+            user.runInBackground(new Runnable() {
                 @Override
                 public void run() {
                     final Handler handler = new Handler(context.getMainLooper());
@@ -131,7 +131,7 @@ public class AuthenticationContinuation implements CognitoIdentityProviderContin
                     }
                     handler.post(nextStep);
                 }
-            }).start();
+            });
         } else {
             Runnable nextStep;
             try {
@@ -169,7 +169,7 @@ public class ChallengeContinuation implements CognitoIdentityProviderContinuatio
             respondToAuthChallengeRequest.setClientMetadata(clientMetaData);
         }
         if (runInBackground) {
-            new Thread(new Runnable() {
+            user.runInBackground(new Runnable() {
                 @Override
                 public void run() {
                     final Handler handler = new Handler(context.getMainLooper());
@@ -186,7 +186,7 @@ public class ChallengeContinuation implements CognitoIdentityProviderContinuatio
                     }
                     handler.post(nextStep);
                 }
-            }).start();
+            });
         } else {
             Runnable nextStep;
             try {
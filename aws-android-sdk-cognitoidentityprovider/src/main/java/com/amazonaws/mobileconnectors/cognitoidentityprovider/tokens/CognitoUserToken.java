@@ -17,6 +17,11 @@
 
 package com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens;
 
+import com.amazonaws.mobileconnectors.cognitoidentityprovider.exceptions.CognitoParameterInvalidException;
+import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.CognitoJWTParser;
+
+import java.util.Map;
+
 /**
  * Base class for Cognito tokens.
  */
@@ -24,6 +29,9 @@ public class CognitoUserToken {
     // A Cognito Token - can be an Access, Id or Refresh token
     private final String token;
 
+    // Claims of the token, parsed once on first access.
+    private volatile Map<String, String> claims;
+
     /**
      * Constructor.
      *
@@ -36,4 +44,26 @@ public class CognitoUserToken {
     protected String getToken() {
         return token;
     }
+
+    /**
+     * Returns a claim of this token. The claims are parsed on the first call
+     * and kept for the next ones.
+     *
+     * @param claim REQUIRED: claim name.
+     * @return the claim as a String.
+     * @throws CognitoParameterInvalidException if this token is not a valid
+     *             JWT or does not have the claim.
+     */
+    protected String getClaim(String claim) {
+        Map<String, String> parsedClaims = claims;
+        if (parsedClaims == null) {
+            parsedClaims = CognitoJWTParser.getClaims(token);
+            claims = parsedClaims;
+        }
+        final String value = parsedClaims.get(claim);
+        if (value == null) {
+            throw new CognitoParameterInvalidException("invalid token");
+        }
+        return value;
+    }
 }
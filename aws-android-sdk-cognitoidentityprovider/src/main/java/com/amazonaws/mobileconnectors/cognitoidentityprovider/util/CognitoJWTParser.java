@@ -25,6 +25,10 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Utility class for all operations on JWT.
@@ -115,6 +119,27 @@ public class CognitoJWTParser {
         return null;
     }
 
+    /**
+     * Returns all the claims, from the {@code JWT}s' payload, as Strings.
+     *
+     * @param jwt       REQUIRED: valid JSON Web Token as String.
+     * @return  an unmodifiable map of the claims from the JWT.
+     */
+    public static Map<String, String> getClaims(String jwt) {
+        try {
+            final JSONObject payload = getPayload(jwt);
+            final Map<String, String> claims = new HashMap<String, String>();
+            final Iterator<String> keys = payload.keys();
+            while (keys.hasNext()) {
+                final String claim = keys.next();
+                claims.put(claim, payload.get(claim).toString());
+            }
+            return Collections.unmodifiableMap(claims);
+        } catch (final Exception e) {
+            throw new CognitoParameterInvalidException("invalid token");
+        }
+    }
+
     /**
      * Checks if a JWT token contains a claim.
      * @param jwt A string, possibly not event a JWT
@@ -16,18 +16,28 @@ package com.amazonaws.mobileconnectors.cognitoidentityprovider;
 
 import static androidx.test.core.app.ApplicationProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.util.Base64;
 import android.util.Log;
 
+import com.amazonaws.internal.keyvaluestore.AWSKeyValueStore;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.continuations.AuthenticationContinuation;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.continuations.AuthenticationDetails;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.continuations.ChallengeContinuation;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.continuations.MultiFactorAuthenticationContinuation;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.handlers.AuthenticationHandler;
+import com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens.CognitoAccessToken;
+import com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens.CognitoIdToken;
+import com.amazonaws.mobileconnectors.cognitoidentityprovider.tokens.CognitoRefreshToken;
 import com.amazonaws.mobileconnectors.cognitoidentityprovider.util.CognitoServiceConstants;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.cognitoidentityprovider.AmazonCognitoIdentityProvider;
@@ -44,11 +54,16 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 import org.robolectric.shadows.ShadowLog;
+import org.robolectric.shadows.ShadowLooper;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(manifest= Config.NONE, sdk = 27)
@@ -97,6 +112,128 @@ public class CognitoUserPoolTest {
         assertEquals(USER1, currentUser1.getUserId());
     }
 
+    /**
+     * Verify that the last auth user is saved when a valid session is already
+     * in memory.
+     */
+    @Test
+    public void verifyLastAuthUserWithSessionsInMemory() {
+        final String validJWT = getValidJWT(3600);
+        final CognitoUser user1 = cognitoUserPool.getUser(USER1);
+        final CognitoUser user2 = cognitoUserPool.getUser(USER2);
+        for (CognitoUser user : new CognitoUser[] {user1, user2}) {
+            user.cacheTokens(new CognitoUserSession(new CognitoIdToken(validJWT),
+                    new CognitoAccessToken(validJWT), new CognitoRefreshToken("refreshToken")));
+            // Reads the session from the store into memory.
+            user.getCachedSession();
+        }
+        assertEquals(USER2, cognitoUserPool.getCurrentUser().getUserId());
+
+        final CognitoUserSession session1 = user1.getCachedSession();
+        assertEquals(USER1, cognitoUserPool.getCurrentUser().getUserId());
+
+        // user1 is already the last auth user: the store isn't read again.
+        final AWSKeyValueStore store = spy(cognitoUserPool.awsKeyValueStore);
+        cognitoUserPool.awsKeyValueStore = store;
+        assertSame(session1, user1.getCachedSession());
+        verify(store, never()).get(anyString());
+
+        user2.getCachedSession();
+        assertEquals(USER2, cognitoUserPool.getCurrentUser().getUserId());
+    }
+
+    /**
+     * Verify that concurrent callers share one refresh of an expiring session,
+     * and that the refreshed session is then returned from memory.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void verifyConcurrentGetCachedSessionRefreshesOnce() throws InterruptedException {
+        final CognitoUser user = cognitoUserPool.getUser(USER1);
+        final String expiringJWT = getValidJWT(60);
+        user.cacheTokens(new CognitoUserSession(new CognitoIdToken(expiringJWT),
+                new CognitoAccessToken(expiringJWT), new CognitoRefreshToken("refreshToken")));
+
+        final AtomicInteger refreshCount = new AtomicInteger();
+        when(mockProvider.initiateAuth(any(InitiateAuthRequest.class))).thenAnswer(answer -> {
+            refreshCount.incrementAndGet();
+            Thread.sleep(100);
+            String validJWT = getValidJWT(3600);
+            return new InitiateAuthResult()
+                .withAuthenticationResult(new AuthenticationResultType()
+                                              .withAccessToken(validJWT)
+                                              .withIdToken(validJWT));
+        });
+
+        final int callers = 4;
+        final CountDownLatch done = new CountDownLatch(callers);
+        final CognitoUserSession[] sessions = new CognitoUserSession[callers];
+        for (int i = 0; i < callers; i++) {
+            final int caller = i;
+            new Thread(() -> {
+                sessions[caller] = user.getCachedSession();
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, refreshCount.get());
+        for (CognitoUserSession session : sessions) {
+            assertSame(sessions[0], session);
+        }
+        assertSame(sessions[0], user.getCachedSession());
+        assertEquals(1, refreshCount.get());
+    }
+
+    /**
+     * Verify that concurrent getSessionInBackground calls for a user run once
+     * on the background executor of the pool, and all get the session.
+     */
+    @Test
+    public void verifyConcurrentGetSessionInBackgroundShareOneCall() {
+        final String validJWT = getValidJWT(3600);
+        cognitoUserPool.getUser(USER1).cacheTokens(new CognitoUserSession(new CognitoIdToken(validJWT),
+                new CognitoAccessToken(validJWT), new CognitoRefreshToken("refreshToken")));
+        final List<Runnable> tasks = new ArrayList<>();
+        cognitoUserPool.setBackgroundExecutor(tasks::add);
+
+        final AuthenticationHandler[] callbacks = new AuthenticationHandler[3];
+        for (int i = 0; i < callbacks.length; i++) {
+            callbacks[i] = mock(AuthenticationHandler.class);
+            cognitoUserPool.getUser(USER1).getSessionInBackground(callbacks[i]);
+        }
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        ShadowLooper.idleMainLooper();
+        for (AuthenticationHandler callback : callbacks) {
+            verify(callback).onSuccess(any(CognitoUserSession.class), any(CognitoDevice.class));
+        }
+        assertEquals(1, cognitoUserPool.getBackgroundOperationCount());
+    }
+
+    /**
+     * Verify that getSessionInBackground reports a rejected background task
+     * to its callback, and that the next call isn't left waiting on it.
+     */
+    @Test
+    public void verifyRejectedGetSessionInBackgroundFails() {
+        cognitoUserPool.setBackgroundExecutor(task -> {
+            throw new RejectedExecutionException("rejected");
+        });
+
+        final AuthenticationHandler callback = mock(AuthenticationHandler.class);
+        cognitoUserPool.getUser(USER1).getSessionInBackground(callback);
+        ShadowLooper.idleMainLooper();
+        verify(callback).onFailure(any(RejectedExecutionException.class));
+
+        final List<Runnable> tasks = new ArrayList<>();
+        cognitoUserPool.setBackgroundExecutor(tasks::add);
+        cognitoUserPool.getUser(USER1).getSessionInBackground(mock(AuthenticationHandler.class));
+        assertEquals(1, tasks.size());
+    }
+
     static final class LatchedAuthenticationHandler implements AuthenticationHandler {
         private final CountDownLatch loginLatch;
 
@@ -17,11 +17,11 @@ package com.amazonaws.services.comprehend;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -91,15 +91,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     @Deprecated
     public AmazonComprehendAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Comprehend using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -109,7 +109,7 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *            to use when authenticating with AWS services.
      */
     public AmazonComprehendAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -157,8 +157,8 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Comprehend using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -169,7 +169,7 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *            services.
      */
     public AmazonComprehendAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -209,8 +209,8 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     public AmazonComprehendAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -285,10 +285,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
+    public SdkFuture<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectDominantLanguageRequest, new Callable<BatchDetectDominantLanguageResult>() {
             public BatchDetectDominantLanguageResult call() throws Exception {
                 return batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
             }
@@ -320,11 +320,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
+    public SdkFuture<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest,
             final AsyncHandler<BatchDetectDominantLanguageRequest, BatchDetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectDominantLanguageRequest, new Callable<BatchDetectDominantLanguageResult>() {
             public BatchDetectDominantLanguageResult call() throws Exception {
                 BatchDetectDominantLanguageResult result = null;
                 try {
@@ -363,10 +363,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
+    public SdkFuture<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectEntitiesRequest, new Callable<BatchDetectEntitiesResult>() {
             public BatchDetectEntitiesResult call() throws Exception {
                 return batchDetectEntities(batchDetectEntitiesRequest);
             }
@@ -397,11 +397,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
+    public SdkFuture<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest,
             final AsyncHandler<BatchDetectEntitiesRequest, BatchDetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectEntitiesRequest, new Callable<BatchDetectEntitiesResult>() {
             public BatchDetectEntitiesResult call() throws Exception {
                 BatchDetectEntitiesResult result = null;
                 try {
@@ -438,10 +438,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
+    public SdkFuture<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectKeyPhrasesRequest, new Callable<BatchDetectKeyPhrasesResult>() {
             public BatchDetectKeyPhrasesResult call() throws Exception {
                 return batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
             }
@@ -470,11 +470,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
+    public SdkFuture<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest,
             final AsyncHandler<BatchDetectKeyPhrasesRequest, BatchDetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectKeyPhrasesRequest, new Callable<BatchDetectKeyPhrasesResult>() {
             public BatchDetectKeyPhrasesResult call() throws Exception {
                 BatchDetectKeyPhrasesResult result = null;
                 try {
@@ -513,10 +513,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSentimentResult> batchDetectSentimentAsync(
+    public SdkFuture<BatchDetectSentimentResult> batchDetectSentimentAsync(
             final BatchDetectSentimentRequest batchDetectSentimentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectSentimentRequest, new Callable<BatchDetectSentimentResult>() {
             public BatchDetectSentimentResult call() throws Exception {
                 return batchDetectSentiment(batchDetectSentimentRequest);
             }
@@ -547,11 +547,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSentimentResult> batchDetectSentimentAsync(
+    public SdkFuture<BatchDetectSentimentResult> batchDetectSentimentAsync(
             final BatchDetectSentimentRequest batchDetectSentimentRequest,
             final AsyncHandler<BatchDetectSentimentRequest, BatchDetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectSentimentRequest, new Callable<BatchDetectSentimentResult>() {
             public BatchDetectSentimentResult call() throws Exception {
                 BatchDetectSentimentResult result = null;
                 try {
@@ -590,10 +590,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
+    public SdkFuture<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectSyntaxRequest, new Callable<BatchDetectSyntaxResult>() {
             public BatchDetectSyntaxResult call() throws Exception {
                 return batchDetectSyntax(batchDetectSyntaxRequest);
             }
@@ -624,11 +624,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
+    public SdkFuture<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest,
             final AsyncHandler<BatchDetectSyntaxRequest, BatchDetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
+        return AsyncRuntime.submit(executorService, batchDetectSyntaxRequest, new Callable<BatchDetectSyntaxResult>() {
             public BatchDetectSyntaxResult call() throws Exception {
                 BatchDetectSyntaxResult result = null;
                 try {
@@ -666,10 +666,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ClassifyDocumentResult> classifyDocumentAsync(
+    public SdkFuture<ClassifyDocumentResult> classifyDocumentAsync(
             final ClassifyDocumentRequest classifyDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
+        return AsyncRuntime.submit(executorService, classifyDocumentRequest, new Callable<ClassifyDocumentResult>() {
             public ClassifyDocumentResult call() throws Exception {
                 return classifyDocument(classifyDocumentRequest);
             }
@@ -699,11 +699,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ClassifyDocumentResult> classifyDocumentAsync(
+    public SdkFuture<ClassifyDocumentResult> classifyDocumentAsync(
             final ClassifyDocumentRequest classifyDocumentRequest,
             final AsyncHandler<ClassifyDocumentRequest, ClassifyDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
+        return AsyncRuntime.submit(executorService, classifyDocumentRequest, new Callable<ClassifyDocumentResult>() {
             public ClassifyDocumentResult call() throws Exception {
                 ClassifyDocumentResult result = null;
                 try {
@@ -741,10 +741,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ContainsPiiEntitiesResult> containsPiiEntitiesAsync(
+    public SdkFuture<ContainsPiiEntitiesResult> containsPiiEntitiesAsync(
             final ContainsPiiEntitiesRequest containsPiiEntitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ContainsPiiEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, containsPiiEntitiesRequest, new Callable<ContainsPiiEntitiesResult>() {
             public ContainsPiiEntitiesResult call() throws Exception {
                 return containsPiiEntities(containsPiiEntitiesRequest);
             }
@@ -774,11 +774,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ContainsPiiEntitiesResult> containsPiiEntitiesAsync(
+    public SdkFuture<ContainsPiiEntitiesResult> containsPiiEntitiesAsync(
             final ContainsPiiEntitiesRequest containsPiiEntitiesRequest,
             final AsyncHandler<ContainsPiiEntitiesRequest, ContainsPiiEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ContainsPiiEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, containsPiiEntitiesRequest, new Callable<ContainsPiiEntitiesResult>() {
             public ContainsPiiEntitiesResult call() throws Exception {
                 ContainsPiiEntitiesResult result = null;
                 try {
@@ -823,10 +823,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateDocumentClassifierResult> createDocumentClassifierAsync(
+    public SdkFuture<CreateDocumentClassifierResult> createDocumentClassifierAsync(
             final CreateDocumentClassifierRequest createDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, createDocumentClassifierRequest, new Callable<CreateDocumentClassifierResult>() {
             public CreateDocumentClassifierResult call() throws Exception {
                 return createDocumentClassifier(createDocumentClassifierRequest);
             }
@@ -863,11 +863,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateDocumentClassifierResult> createDocumentClassifierAsync(
+    public SdkFuture<CreateDocumentClassifierResult> createDocumentClassifierAsync(
             final CreateDocumentClassifierRequest createDocumentClassifierRequest,
             final AsyncHandler<CreateDocumentClassifierRequest, CreateDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, createDocumentClassifierRequest, new Callable<CreateDocumentClassifierResult>() {
             public CreateDocumentClassifierResult call() throws Exception {
                 CreateDocumentClassifierResult result = null;
                 try {
@@ -907,10 +907,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEndpointResult> createEndpointAsync(
+    public SdkFuture<CreateEndpointResult> createEndpointAsync(
             final CreateEndpointRequest createEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
+        return AsyncRuntime.submit(executorService, createEndpointRequest, new Callable<CreateEndpointResult>() {
             public CreateEndpointResult call() throws Exception {
                 return createEndpoint(createEndpointRequest);
             }
@@ -942,11 +942,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEndpointResult> createEndpointAsync(
+    public SdkFuture<CreateEndpointResult> createEndpointAsync(
             final CreateEndpointRequest createEndpointRequest,
             final AsyncHandler<CreateEndpointRequest, CreateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
+        return AsyncRuntime.submit(executorService, createEndpointRequest, new Callable<CreateEndpointResult>() {
             public CreateEndpointResult call() throws Exception {
                 CreateEndpointResult result = null;
                 try {
@@ -988,10 +988,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEntityRecognizerResult> createEntityRecognizerAsync(
+    public SdkFuture<CreateEntityRecognizerResult> createEntityRecognizerAsync(
             final CreateEntityRecognizerRequest createEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, createEntityRecognizerRequest, new Callable<CreateEntityRecognizerResult>() {
             public CreateEntityRecognizerResult call() throws Exception {
                 return createEntityRecognizer(createEntityRecognizerRequest);
             }
@@ -1025,11 +1025,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEntityRecognizerResult> createEntityRecognizerAsync(
+    public SdkFuture<CreateEntityRecognizerResult> createEntityRecognizerAsync(
             final CreateEntityRecognizerRequest createEntityRecognizerRequest,
             final AsyncHandler<CreateEntityRecognizerRequest, CreateEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, createEntityRecognizerRequest, new Callable<CreateEntityRecognizerResult>() {
             public CreateEntityRecognizerResult call() throws Exception {
                 CreateEntityRecognizerResult result = null;
                 try {
@@ -1078,10 +1078,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
+    public SdkFuture<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, deleteDocumentClassifierRequest, new Callable<DeleteDocumentClassifierResult>() {
             public DeleteDocumentClassifierResult call() throws Exception {
                 return deleteDocumentClassifier(deleteDocumentClassifierRequest);
             }
@@ -1122,11 +1122,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
+    public SdkFuture<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest,
             final AsyncHandler<DeleteDocumentClassifierRequest, DeleteDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, deleteDocumentClassifierRequest, new Callable<DeleteDocumentClassifierResult>() {
             public DeleteDocumentClassifierResult call() throws Exception {
                 DeleteDocumentClassifierResult result = null;
                 try {
@@ -1163,10 +1163,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEndpointResult> deleteEndpointAsync(
+    public SdkFuture<DeleteEndpointResult> deleteEndpointAsync(
             final DeleteEndpointRequest deleteEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
+        return AsyncRuntime.submit(executorService, deleteEndpointRequest, new Callable<DeleteEndpointResult>() {
             public DeleteEndpointResult call() throws Exception {
                 return deleteEndpoint(deleteEndpointRequest);
             }
@@ -1195,11 +1195,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEndpointResult> deleteEndpointAsync(
+    public SdkFuture<DeleteEndpointResult> deleteEndpointAsync(
             final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
+        return AsyncRuntime.submit(executorService, deleteEndpointRequest, new Callable<DeleteEndpointResult>() {
             public DeleteEndpointResult call() throws Exception {
                 DeleteEndpointResult result = null;
                 try {
@@ -1248,10 +1248,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
+    public SdkFuture<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, deleteEntityRecognizerRequest, new Callable<DeleteEntityRecognizerResult>() {
             public DeleteEntityRecognizerResult call() throws Exception {
                 return deleteEntityRecognizer(deleteEntityRecognizerRequest);
             }
@@ -1292,11 +1292,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
+    public SdkFuture<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest,
             final AsyncHandler<DeleteEntityRecognizerRequest, DeleteEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, deleteEntityRecognizerRequest, new Callable<DeleteEntityRecognizerResult>() {
             public DeleteEntityRecognizerResult call() throws Exception {
                 DeleteEntityRecognizerResult result = null;
                 try {
@@ -1331,10 +1331,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteResourcePolicyResult> deleteResourcePolicyAsync(
+    public SdkFuture<DeleteResourcePolicyResult> deleteResourcePolicyAsync(
             final DeleteResourcePolicyRequest deleteResourcePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteResourcePolicyResult>() {
+        return AsyncRuntime.submit(executorService, deleteResourcePolicyRequest, new Callable<DeleteResourcePolicyResult>() {
             public DeleteResourcePolicyResult call() throws Exception {
                 return deleteResourcePolicy(deleteResourcePolicyRequest);
             }
@@ -1361,11 +1361,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteResourcePolicyResult> deleteResourcePolicyAsync(
+    public SdkFuture<DeleteResourcePolicyResult> deleteResourcePolicyAsync(
             final DeleteResourcePolicyRequest deleteResourcePolicyRequest,
             final AsyncHandler<DeleteResourcePolicyRequest, DeleteResourcePolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteResourcePolicyResult>() {
+        return AsyncRuntime.submit(executorService, deleteResourcePolicyRequest, new Callable<DeleteResourcePolicyResult>() {
             public DeleteResourcePolicyResult call() throws Exception {
                 DeleteResourcePolicyResult result = null;
                 try {
@@ -1402,10 +1402,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
+    public SdkFuture<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
+        return AsyncRuntime.submit(executorService, describeDocumentClassificationJobRequest, new Callable<DescribeDocumentClassificationJobResult>() {
             public DescribeDocumentClassificationJobResult call() throws Exception {
                 return describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
             }
@@ -1434,11 +1434,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
+    public SdkFuture<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest,
             final AsyncHandler<DescribeDocumentClassificationJobRequest, DescribeDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
+        return AsyncRuntime.submit(executorService, describeDocumentClassificationJobRequest, new Callable<DescribeDocumentClassificationJobResult>() {
             public DescribeDocumentClassificationJobResult call() throws Exception {
                 DescribeDocumentClassificationJobResult result = null;
                 try {
@@ -1474,10 +1474,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
+    public SdkFuture<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, describeDocumentClassifierRequest, new Callable<DescribeDocumentClassifierResult>() {
             public DescribeDocumentClassifierResult call() throws Exception {
                 return describeDocumentClassifier(describeDocumentClassifierRequest);
             }
@@ -1505,11 +1505,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
+    public SdkFuture<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest,
             final AsyncHandler<DescribeDocumentClassifierRequest, DescribeDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, describeDocumentClassifierRequest, new Callable<DescribeDocumentClassifierResult>() {
             public DescribeDocumentClassifierResult call() throws Exception {
                 DescribeDocumentClassifierResult result = null;
                 try {
@@ -1546,10 +1546,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
+    public SdkFuture<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeDominantLanguageDetectionJobRequest, new Callable<DescribeDominantLanguageDetectionJobResult>() {
             public DescribeDominantLanguageDetectionJobResult call() throws Exception {
                 return describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
             }
@@ -1578,11 +1578,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
+    public SdkFuture<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest,
             final AsyncHandler<DescribeDominantLanguageDetectionJobRequest, DescribeDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeDominantLanguageDetectionJobRequest, new Callable<DescribeDominantLanguageDetectionJobResult>() {
             public DescribeDominantLanguageDetectionJobResult call() throws Exception {
                 DescribeDominantLanguageDetectionJobResult result = null;
                 try {
@@ -1619,10 +1619,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointResult> describeEndpointAsync(
+    public SdkFuture<DescribeEndpointResult> describeEndpointAsync(
             final DescribeEndpointRequest describeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
+        return AsyncRuntime.submit(executorService, describeEndpointRequest, new Callable<DescribeEndpointResult>() {
             public DescribeEndpointResult call() throws Exception {
                 return describeEndpoint(describeEndpointRequest);
             }
@@ -1651,11 +1651,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointResult> describeEndpointAsync(
+    public SdkFuture<DescribeEndpointResult> describeEndpointAsync(
             final DescribeEndpointRequest describeEndpointRequest,
             final AsyncHandler<DescribeEndpointRequest, DescribeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
+        return AsyncRuntime.submit(executorService, describeEndpointRequest, new Callable<DescribeEndpointResult>() {
             public DescribeEndpointResult call() throws Exception {
                 DescribeEndpointResult result = null;
                 try {
@@ -1692,10 +1692,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
+    public SdkFuture<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeEntitiesDetectionJobRequest, new Callable<DescribeEntitiesDetectionJobResult>() {
             public DescribeEntitiesDetectionJobResult call() throws Exception {
                 return describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
             }
@@ -1724,11 +1724,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
+    public SdkFuture<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest,
             final AsyncHandler<DescribeEntitiesDetectionJobRequest, DescribeEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeEntitiesDetectionJobRequest, new Callable<DescribeEntitiesDetectionJobResult>() {
             public DescribeEntitiesDetectionJobResult call() throws Exception {
                 DescribeEntitiesDetectionJobResult result = null;
                 try {
@@ -1765,10 +1765,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
+    public SdkFuture<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, describeEntityRecognizerRequest, new Callable<DescribeEntityRecognizerResult>() {
             public DescribeEntityRecognizerResult call() throws Exception {
                 return describeEntityRecognizer(describeEntityRecognizerRequest);
             }
@@ -1797,11 +1797,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
+    public SdkFuture<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest,
             final AsyncHandler<DescribeEntityRecognizerRequest, DescribeEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, describeEntityRecognizerRequest, new Callable<DescribeEntityRecognizerResult>() {
             public DescribeEntityRecognizerResult call() throws Exception {
                 DescribeEntityRecognizerResult result = null;
                 try {
@@ -1837,10 +1837,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEventsDetectionJobResult> describeEventsDetectionJobAsync(
+    public SdkFuture<DescribeEventsDetectionJobResult> describeEventsDetectionJobAsync(
             final DescribeEventsDetectionJobRequest describeEventsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeEventsDetectionJobRequest, new Callable<DescribeEventsDetectionJobResult>() {
             public DescribeEventsDetectionJobResult call() throws Exception {
                 return describeEventsDetectionJob(describeEventsDetectionJobRequest);
             }
@@ -1868,11 +1868,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEventsDetectionJobResult> describeEventsDetectionJobAsync(
+    public SdkFuture<DescribeEventsDetectionJobResult> describeEventsDetectionJobAsync(
             final DescribeEventsDetectionJobRequest describeEventsDetectionJobRequest,
             final AsyncHandler<DescribeEventsDetectionJobRequest, DescribeEventsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeEventsDetectionJobRequest, new Callable<DescribeEventsDetectionJobResult>() {
             public DescribeEventsDetectionJobResult call() throws Exception {
                 DescribeEventsDetectionJobResult result = null;
                 try {
@@ -1909,10 +1909,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
+    public SdkFuture<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeKeyPhrasesDetectionJobRequest, new Callable<DescribeKeyPhrasesDetectionJobResult>() {
             public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
                 return describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
             }
@@ -1941,11 +1941,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
+    public SdkFuture<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest,
             final AsyncHandler<DescribeKeyPhrasesDetectionJobRequest, DescribeKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeKeyPhrasesDetectionJobRequest, new Callable<DescribeKeyPhrasesDetectionJobResult>() {
             public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
                 DescribeKeyPhrasesDetectionJobResult result = null;
                 try {
@@ -1982,10 +1982,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribePiiEntitiesDetectionJobResult> describePiiEntitiesDetectionJobAsync(
+    public SdkFuture<DescribePiiEntitiesDetectionJobResult> describePiiEntitiesDetectionJobAsync(
             final DescribePiiEntitiesDetectionJobRequest describePiiEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePiiEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describePiiEntitiesDetectionJobRequest, new Callable<DescribePiiEntitiesDetectionJobResult>() {
             public DescribePiiEntitiesDetectionJobResult call() throws Exception {
                 return describePiiEntitiesDetectionJob(describePiiEntitiesDetectionJobRequest);
             }
@@ -2014,11 +2014,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribePiiEntitiesDetectionJobResult> describePiiEntitiesDetectionJobAsync(
+    public SdkFuture<DescribePiiEntitiesDetectionJobResult> describePiiEntitiesDetectionJobAsync(
             final DescribePiiEntitiesDetectionJobRequest describePiiEntitiesDetectionJobRequest,
             final AsyncHandler<DescribePiiEntitiesDetectionJobRequest, DescribePiiEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePiiEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describePiiEntitiesDetectionJobRequest, new Callable<DescribePiiEntitiesDetectionJobResult>() {
             public DescribePiiEntitiesDetectionJobResult call() throws Exception {
                 DescribePiiEntitiesDetectionJobResult result = null;
                 try {
@@ -2054,10 +2054,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeResourcePolicyResult> describeResourcePolicyAsync(
+    public SdkFuture<DescribeResourcePolicyResult> describeResourcePolicyAsync(
             final DescribeResourcePolicyRequest describeResourcePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResourcePolicyResult>() {
+        return AsyncRuntime.submit(executorService, describeResourcePolicyRequest, new Callable<DescribeResourcePolicyResult>() {
             public DescribeResourcePolicyResult call() throws Exception {
                 return describeResourcePolicy(describeResourcePolicyRequest);
             }
@@ -2085,11 +2085,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeResourcePolicyResult> describeResourcePolicyAsync(
+    public SdkFuture<DescribeResourcePolicyResult> describeResourcePolicyAsync(
             final DescribeResourcePolicyRequest describeResourcePolicyRequest,
             final AsyncHandler<DescribeResourcePolicyRequest, DescribeResourcePolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResourcePolicyResult>() {
+        return AsyncRuntime.submit(executorService, describeResourcePolicyRequest, new Callable<DescribeResourcePolicyResult>() {
             public DescribeResourcePolicyResult call() throws Exception {
                 DescribeResourcePolicyResult result = null;
                 try {
@@ -2126,10 +2126,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
+    public SdkFuture<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeSentimentDetectionJobRequest, new Callable<DescribeSentimentDetectionJobResult>() {
             public DescribeSentimentDetectionJobResult call() throws Exception {
                 return describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
             }
@@ -2158,11 +2158,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
+    public SdkFuture<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest,
             final AsyncHandler<DescribeSentimentDetectionJobRequest, DescribeSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeSentimentDetectionJobRequest, new Callable<DescribeSentimentDetectionJobResult>() {
             public DescribeSentimentDetectionJobResult call() throws Exception {
                 DescribeSentimentDetectionJobResult result = null;
                 try {
@@ -2199,10 +2199,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
+    public SdkFuture<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeTopicsDetectionJobRequest, new Callable<DescribeTopicsDetectionJobResult>() {
             public DescribeTopicsDetectionJobResult call() throws Exception {
                 return describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
             }
@@ -2231,11 +2231,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
+    public SdkFuture<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest,
             final AsyncHandler<DescribeTopicsDetectionJobRequest, DescribeTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, describeTopicsDetectionJobRequest, new Callable<DescribeTopicsDetectionJobResult>() {
             public DescribeTopicsDetectionJobResult call() throws Exception {
                 DescribeTopicsDetectionJobResult result = null;
                 try {
@@ -2273,10 +2273,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDominantLanguageResult> detectDominantLanguageAsync(
+    public SdkFuture<DetectDominantLanguageResult> detectDominantLanguageAsync(
             final DetectDominantLanguageRequest detectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
+        return AsyncRuntime.submit(executorService, detectDominantLanguageRequest, new Callable<DetectDominantLanguageResult>() {
             public DetectDominantLanguageResult call() throws Exception {
                 return detectDominantLanguage(detectDominantLanguageRequest);
             }
@@ -2306,11 +2306,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDominantLanguageResult> detectDominantLanguageAsync(
+    public SdkFuture<DetectDominantLanguageResult> detectDominantLanguageAsync(
             final DetectDominantLanguageRequest detectDominantLanguageRequest,
             final AsyncHandler<DetectDominantLanguageRequest, DetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
+        return AsyncRuntime.submit(executorService, detectDominantLanguageRequest, new Callable<DetectDominantLanguageResult>() {
             public DetectDominantLanguageResult call() throws Exception {
                 DetectDominantLanguageResult result = null;
                 try {
@@ -2347,10 +2347,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectEntitiesResult> detectEntitiesAsync(
+    public SdkFuture<DetectEntitiesResult> detectEntitiesAsync(
             final DetectEntitiesRequest detectEntitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, detectEntitiesRequest, new Callable<DetectEntitiesResult>() {
             public DetectEntitiesResult call() throws Exception {
                 return detectEntities(detectEntitiesRequest);
             }
@@ -2379,11 +2379,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectEntitiesResult> detectEntitiesAsync(
+    public SdkFuture<DetectEntitiesResult> detectEntitiesAsync(
             final DetectEntitiesRequest detectEntitiesRequest,
             final AsyncHandler<DetectEntitiesRequest, DetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, detectEntitiesRequest, new Callable<DetectEntitiesResult>() {
             public DetectEntitiesResult call() throws Exception {
                 DetectEntitiesResult result = null;
                 try {
@@ -2419,10 +2419,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
+    public SdkFuture<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
+        return AsyncRuntime.submit(executorService, detectKeyPhrasesRequest, new Callable<DetectKeyPhrasesResult>() {
             public DetectKeyPhrasesResult call() throws Exception {
                 return detectKeyPhrases(detectKeyPhrasesRequest);
             }
@@ -2450,11 +2450,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
+    public SdkFuture<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest,
             final AsyncHandler<DetectKeyPhrasesRequest, DetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
+        return AsyncRuntime.submit(executorService, detectKeyPhrasesRequest, new Callable<DetectKeyPhrasesResult>() {
             public DetectKeyPhrasesResult call() throws Exception {
                 DetectKeyPhrasesResult result = null;
                 try {
@@ -2491,10 +2491,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectPiiEntitiesResult> detectPiiEntitiesAsync(
+    public SdkFuture<DetectPiiEntitiesResult> detectPiiEntitiesAsync(
             final DetectPiiEntitiesRequest detectPiiEntitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectPiiEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, detectPiiEntitiesRequest, new Callable<DetectPiiEntitiesResult>() {
             public DetectPiiEntitiesResult call() throws Exception {
                 return detectPiiEntities(detectPiiEntitiesRequest);
             }
@@ -2523,11 +2523,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectPiiEntitiesResult> detectPiiEntitiesAsync(
+    public SdkFuture<DetectPiiEntitiesResult> detectPiiEntitiesAsync(
             final DetectPiiEntitiesRequest detectPiiEntitiesRequest,
             final AsyncHandler<DetectPiiEntitiesRequest, DetectPiiEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectPiiEntitiesResult>() {
+        return AsyncRuntime.submit(executorService, detectPiiEntitiesRequest, new Callable<DetectPiiEntitiesResult>() {
             public DetectPiiEntitiesResult call() throws Exception {
                 DetectPiiEntitiesResult result = null;
                 try {
@@ -2564,10 +2564,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSentimentResult> detectSentimentAsync(
+    public SdkFuture<DetectSentimentResult> detectSentimentAsync(
             final DetectSentimentRequest detectSentimentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
+        return AsyncRuntime.submit(executorService, detectSentimentRequest, new Callable<DetectSentimentResult>() {
             public DetectSentimentResult call() throws Exception {
                 return detectSentiment(detectSentimentRequest);
             }
@@ -2596,11 +2596,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSentimentResult> detectSentimentAsync(
+    public SdkFuture<DetectSentimentResult> detectSentimentAsync(
             final DetectSentimentRequest detectSentimentRequest,
             final AsyncHandler<DetectSentimentRequest, DetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
+        return AsyncRuntime.submit(executorService, detectSentimentRequest, new Callable<DetectSentimentResult>() {
             public DetectSentimentResult call() throws Exception {
                 DetectSentimentResult result = null;
                 try {
@@ -2636,10 +2636,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSyntaxResult> detectSyntaxAsync(
+    public SdkFuture<DetectSyntaxResult> detectSyntaxAsync(
             final DetectSyntaxRequest detectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
+        return AsyncRuntime.submit(executorService, detectSyntaxRequest, new Callable<DetectSyntaxResult>() {
             public DetectSyntaxResult call() throws Exception {
                 return detectSyntax(detectSyntaxRequest);
             }
@@ -2667,11 +2667,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSyntaxResult> detectSyntaxAsync(
+    public SdkFuture<DetectSyntaxResult> detectSyntaxAsync(
             final DetectSyntaxRequest detectSyntaxRequest,
             final AsyncHandler<DetectSyntaxRequest, DetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
+        return AsyncRuntime.submit(executorService, detectSyntaxRequest, new Callable<DetectSyntaxResult>() {
             public DetectSyntaxResult call() throws Exception {
                 DetectSyntaxResult result = null;
                 try {
@@ -2720,9 +2720,9 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ImportModelResult> importModelAsync(final ImportModelRequest importModelRequest)
+    public SdkFuture<ImportModelResult> importModelAsync(final ImportModelRequest importModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportModelResult>() {
+        return AsyncRuntime.submit(executorService, importModelRequest, new Callable<ImportModelResult>() {
             public ImportModelResult call() throws Exception {
                 return importModel(importModelRequest);
             }
@@ -2763,10 +2763,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ImportModelResult> importModelAsync(final ImportModelRequest importModelRequest,
+    public SdkFuture<ImportModelResult> importModelAsync(final ImportModelRequest importModelRequest,
             final AsyncHandler<ImportModelRequest, ImportModelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportModelResult>() {
+        return AsyncRuntime.submit(executorService, importModelRequest, new Callable<ImportModelResult>() {
             public ImportModelResult call() throws Exception {
                 ImportModelResult result = null;
                 try {
@@ -2803,10 +2803,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
+    public SdkFuture<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
+        return AsyncRuntime.submit(executorService, listDocumentClassificationJobsRequest, new Callable<ListDocumentClassificationJobsResult>() {
             public ListDocumentClassificationJobsResult call() throws Exception {
                 return listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
             }
@@ -2835,11 +2835,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
+    public SdkFuture<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest,
             final AsyncHandler<ListDocumentClassificationJobsRequest, ListDocumentClassificationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
+        return AsyncRuntime.submit(executorService, listDocumentClassificationJobsRequest, new Callable<ListDocumentClassificationJobsResult>() {
             public ListDocumentClassificationJobsResult call() throws Exception {
                 ListDocumentClassificationJobsResult result = null;
                 try {
@@ -2875,10 +2875,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassifierSummariesResult> listDocumentClassifierSummariesAsync(
+    public SdkFuture<ListDocumentClassifierSummariesResult> listDocumentClassifierSummariesAsync(
             final ListDocumentClassifierSummariesRequest listDocumentClassifierSummariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifierSummariesResult>() {
+        return AsyncRuntime.submit(executorService, listDocumentClassifierSummariesRequest, new Callable<ListDocumentClassifierSummariesResult>() {
             public ListDocumentClassifierSummariesResult call() throws Exception {
                 return listDocumentClassifierSummaries(listDocumentClassifierSummariesRequest);
             }
@@ -2906,11 +2906,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassifierSummariesResult> listDocumentClassifierSummariesAsync(
+    public SdkFuture<ListDocumentClassifierSummariesResult> listDocumentClassifierSummariesAsync(
             final ListDocumentClassifierSummariesRequest listDocumentClassifierSummariesRequest,
             final AsyncHandler<ListDocumentClassifierSummariesRequest, ListDocumentClassifierSummariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifierSummariesResult>() {
+        return AsyncRuntime.submit(executorService, listDocumentClassifierSummariesRequest, new Callable<ListDocumentClassifierSummariesResult>() {
             public ListDocumentClassifierSummariesResult call() throws Exception {
                 ListDocumentClassifierSummariesResult result = null;
                 try {
@@ -2946,10 +2946,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
+    public SdkFuture<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
+        return AsyncRuntime.submit(executorService, listDocumentClassifiersRequest, new Callable<ListDocumentClassifiersResult>() {
             public ListDocumentClassifiersResult call() throws Exception {
                 return listDocumentClassifiers(listDocumentClassifiersRequest);
             }
@@ -2977,11 +2977,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
+    public SdkFuture<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest,
             final AsyncHandler<ListDocumentClassifiersRequest, ListDocumentClassifiersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
+        return AsyncRuntime.submit(executorService, listDocumentClassifiersRequest, new Callable<ListDocumentClassifiersResult>() {
             public ListDocumentClassifiersResult call() throws Exception {
                 ListDocumentClassifiersResult result = null;
                 try {
@@ -3018,10 +3018,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
+    public SdkFuture<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listDominantLanguageDetectionJobsRequest, new Callable<ListDominantLanguageDetectionJobsResult>() {
             public ListDominantLanguageDetectionJobsResult call() throws Exception {
                 return listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
             }
@@ -3050,11 +3050,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
+    public SdkFuture<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest,
             final AsyncHandler<ListDominantLanguageDetectionJobsRequest, ListDominantLanguageDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listDominantLanguageDetectionJobsRequest, new Callable<ListDominantLanguageDetectionJobsResult>() {
             public ListDominantLanguageDetectionJobsResult call() throws Exception {
                 ListDominantLanguageDetectionJobsResult result = null;
                 try {
@@ -3088,10 +3088,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEndpointsResult> listEndpointsAsync(
+    public SdkFuture<ListEndpointsResult> listEndpointsAsync(
             final ListEndpointsRequest listEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, listEndpointsRequest, new Callable<ListEndpointsResult>() {
             public ListEndpointsResult call() throws Exception {
                 return listEndpoints(listEndpointsRequest);
             }
@@ -3117,11 +3117,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEndpointsResult> listEndpointsAsync(
+    public SdkFuture<ListEndpointsResult> listEndpointsAsync(
             final ListEndpointsRequest listEndpointsRequest,
             final AsyncHandler<ListEndpointsRequest, ListEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, listEndpointsRequest, new Callable<ListEndpointsResult>() {
             public ListEndpointsResult call() throws Exception {
                 ListEndpointsResult result = null;
                 try {
@@ -3157,10 +3157,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
+    public SdkFuture<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listEntitiesDetectionJobsRequest, new Callable<ListEntitiesDetectionJobsResult>() {
             public ListEntitiesDetectionJobsResult call() throws Exception {
                 return listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
             }
@@ -3188,11 +3188,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
+    public SdkFuture<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest,
             final AsyncHandler<ListEntitiesDetectionJobsRequest, ListEntitiesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listEntitiesDetectionJobsRequest, new Callable<ListEntitiesDetectionJobsResult>() {
             public ListEntitiesDetectionJobsResult call() throws Exception {
                 ListEntitiesDetectionJobsResult result = null;
                 try {
@@ -3228,10 +3228,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntityRecognizerSummariesResult> listEntityRecognizerSummariesAsync(
+    public SdkFuture<ListEntityRecognizerSummariesResult> listEntityRecognizerSummariesAsync(
             final ListEntityRecognizerSummariesRequest listEntityRecognizerSummariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizerSummariesResult>() {
+        return AsyncRuntime.submit(executorService, listEntityRecognizerSummariesRequest, new Callable<ListEntityRecognizerSummariesResult>() {
             public ListEntityRecognizerSummariesResult call() throws Exception {
                 return listEntityRecognizerSummaries(listEntityRecognizerSummariesRequest);
             }
@@ -3259,11 +3259,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntityRecognizerSummariesResult> listEntityRecognizerSummariesAsync(
+    public SdkFuture<ListEntityRecognizerSummariesResult> listEntityRecognizerSummariesAsync(
             final ListEntityRecognizerSummariesRequest listEntityRecognizerSummariesRequest,
             final AsyncHandler<ListEntityRecognizerSummariesRequest, ListEntityRecognizerSummariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizerSummariesResult>() {
+        return AsyncRuntime.submit(executorService, listEntityRecognizerSummariesRequest, new Callable<ListEntityRecognizerSummariesResult>() {
             public ListEntityRecognizerSummariesResult call() throws Exception {
                 ListEntityRecognizerSummariesResult result = null;
                 try {
@@ -3307,10 +3307,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntityRecognizersResult> listEntityRecognizersAsync(
+    public SdkFuture<ListEntityRecognizersResult> listEntityRecognizersAsync(
             final ListEntityRecognizersRequest listEntityRecognizersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
+        return AsyncRuntime.submit(executorService, listEntityRecognizersRequest, new Callable<ListEntityRecognizersResult>() {
             public ListEntityRecognizersResult call() throws Exception {
                 return listEntityRecognizers(listEntityRecognizersRequest);
             }
@@ -3346,11 +3346,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntityRecognizersResult> listEntityRecognizersAsync(
+    public SdkFuture<ListEntityRecognizersResult> listEntityRecognizersAsync(
             final ListEntityRecognizersRequest listEntityRecognizersRequest,
             final AsyncHandler<ListEntityRecognizersRequest, ListEntityRecognizersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
+        return AsyncRuntime.submit(executorService, listEntityRecognizersRequest, new Callable<ListEntityRecognizersResult>() {
             public ListEntityRecognizersResult call() throws Exception {
                 ListEntityRecognizersResult result = null;
                 try {
@@ -3386,10 +3386,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEventsDetectionJobsResult> listEventsDetectionJobsAsync(
+    public SdkFuture<ListEventsDetectionJobsResult> listEventsDetectionJobsAsync(
             final ListEventsDetectionJobsRequest listEventsDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEventsDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listEventsDetectionJobsRequest, new Callable<ListEventsDetectionJobsResult>() {
             public ListEventsDetectionJobsResult call() throws Exception {
                 return listEventsDetectionJobs(listEventsDetectionJobsRequest);
             }
@@ -3417,11 +3417,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEventsDetectionJobsResult> listEventsDetectionJobsAsync(
+    public SdkFuture<ListEventsDetectionJobsResult> listEventsDetectionJobsAsync(
             final ListEventsDetectionJobsRequest listEventsDetectionJobsRequest,
             final AsyncHandler<ListEventsDetectionJobsRequest, ListEventsDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEventsDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listEventsDetectionJobsRequest, new Callable<ListEventsDetectionJobsResult>() {
             public ListEventsDetectionJobsResult call() throws Exception {
                 ListEventsDetectionJobsResult result = null;
                 try {
@@ -3457,10 +3457,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
+    public SdkFuture<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listKeyPhrasesDetectionJobsRequest, new Callable<ListKeyPhrasesDetectionJobsResult>() {
             public ListKeyPhrasesDetectionJobsResult call() throws Exception {
                 return listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
             }
@@ -3488,11 +3488,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
+    public SdkFuture<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest,
             final AsyncHandler<ListKeyPhrasesDetectionJobsRequest, ListKeyPhrasesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listKeyPhrasesDetectionJobsRequest, new Callable<ListKeyPhrasesDetectionJobsResult>() {
             public ListKeyPhrasesDetectionJobsResult call() throws Exception {
                 ListKeyPhrasesDetectionJobsResult result = null;
                 try {
@@ -3528,10 +3528,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPiiEntitiesDetectionJobsResult> listPiiEntitiesDetectionJobsAsync(
+    public SdkFuture<ListPiiEntitiesDetectionJobsResult> listPiiEntitiesDetectionJobsAsync(
             final ListPiiEntitiesDetectionJobsRequest listPiiEntitiesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPiiEntitiesDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listPiiEntitiesDetectionJobsRequest, new Callable<ListPiiEntitiesDetectionJobsResult>() {
             public ListPiiEntitiesDetectionJobsResult call() throws Exception {
                 return listPiiEntitiesDetectionJobs(listPiiEntitiesDetectionJobsRequest);
             }
@@ -3559,11 +3559,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPiiEntitiesDetectionJobsResult> listPiiEntitiesDetectionJobsAsync(
+    public SdkFuture<ListPiiEntitiesDetectionJobsResult> listPiiEntitiesDetectionJobsAsync(
             final ListPiiEntitiesDetectionJobsRequest listPiiEntitiesDetectionJobsRequest,
             final AsyncHandler<ListPiiEntitiesDetectionJobsRequest, ListPiiEntitiesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPiiEntitiesDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listPiiEntitiesDetectionJobsRequest, new Callable<ListPiiEntitiesDetectionJobsResult>() {
             public ListPiiEntitiesDetectionJobsResult call() throws Exception {
                 ListPiiEntitiesDetectionJobsResult result = null;
                 try {
@@ -3599,10 +3599,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
+    public SdkFuture<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listSentimentDetectionJobsRequest, new Callable<ListSentimentDetectionJobsResult>() {
             public ListSentimentDetectionJobsResult call() throws Exception {
                 return listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
             }
@@ -3630,11 +3630,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
+    public SdkFuture<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest,
             final AsyncHandler<ListSentimentDetectionJobsRequest, ListSentimentDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listSentimentDetectionJobsRequest, new Callable<ListSentimentDetectionJobsResult>() {
             public ListSentimentDetectionJobsResult call() throws Exception {
                 ListSentimentDetectionJobsResult result = null;
                 try {
@@ -3669,10 +3669,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 return listTagsForResource(listTagsForResourceRequest);
             }
@@ -3699,11 +3699,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 ListTagsForResourceResult result = null;
                 try {
@@ -3739,10 +3739,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
+    public SdkFuture<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listTopicsDetectionJobsRequest, new Callable<ListTopicsDetectionJobsResult>() {
             public ListTopicsDetectionJobsResult call() throws Exception {
                 return listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
             }
@@ -3770,11 +3770,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
+    public SdkFuture<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest,
             final AsyncHandler<ListTopicsDetectionJobsRequest, ListTopicsDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listTopicsDetectionJobsRequest, new Callable<ListTopicsDetectionJobsResult>() {
             public ListTopicsDetectionJobsResult call() throws Exception {
                 ListTopicsDetectionJobsResult result = null;
                 try {
@@ -3811,10 +3811,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutResourcePolicyResult> putResourcePolicyAsync(
+    public SdkFuture<PutResourcePolicyResult> putResourcePolicyAsync(
             final PutResourcePolicyRequest putResourcePolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutResourcePolicyResult>() {
+        return AsyncRuntime.submit(executorService, putResourcePolicyRequest, new Callable<PutResourcePolicyResult>() {
             public PutResourcePolicyResult call() throws Exception {
                 return putResourcePolicy(putResourcePolicyRequest);
             }
@@ -3843,11 +3843,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutResourcePolicyResult> putResourcePolicyAsync(
+    public SdkFuture<PutResourcePolicyResult> putResourcePolicyAsync(
             final PutResourcePolicyRequest putResourcePolicyRequest,
             final AsyncHandler<PutResourcePolicyRequest, PutResourcePolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutResourcePolicyResult>() {
+        return AsyncRuntime.submit(executorService, putResourcePolicyRequest, new Callable<PutResourcePolicyResult>() {
             public PutResourcePolicyResult call() throws Exception {
                 PutResourcePolicyResult result = null;
                 try {
@@ -3887,10 +3887,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
+    public SdkFuture<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
+        return AsyncRuntime.submit(executorService, startDocumentClassificationJobRequest, new Callable<StartDocumentClassificationJobResult>() {
             public StartDocumentClassificationJobResult call() throws Exception {
                 return startDocumentClassificationJob(startDocumentClassificationJobRequest);
             }
@@ -3922,11 +3922,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
+    public SdkFuture<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest,
             final AsyncHandler<StartDocumentClassificationJobRequest, StartDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
+        return AsyncRuntime.submit(executorService, startDocumentClassificationJobRequest, new Callable<StartDocumentClassificationJobResult>() {
             public StartDocumentClassificationJobResult call() throws Exception {
                 StartDocumentClassificationJobResult result = null;
                 try {
@@ -3964,10 +3964,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
+    public SdkFuture<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startDominantLanguageDetectionJobRequest, new Callable<StartDominantLanguageDetectionJobResult>() {
             public StartDominantLanguageDetectionJobResult call() throws Exception {
                 return startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
             }
@@ -3997,11 +3997,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
+    public SdkFuture<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest,
             final AsyncHandler<StartDominantLanguageDetectionJobRequest, StartDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startDominantLanguageDetectionJobRequest, new Callable<StartDominantLanguageDetectionJobResult>() {
             public StartDominantLanguageDetectionJobResult call() throws Exception {
                 StartDominantLanguageDetectionJobResult result = null;
                 try {
@@ -4047,10 +4047,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
+    public SdkFuture<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startEntitiesDetectionJobRequest, new Callable<StartEntitiesDetectionJobResult>() {
             public StartEntitiesDetectionJobResult call() throws Exception {
                 return startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
             }
@@ -4088,11 +4088,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
+    public SdkFuture<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest,
             final AsyncHandler<StartEntitiesDetectionJobRequest, StartEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startEntitiesDetectionJobRequest, new Callable<StartEntitiesDetectionJobResult>() {
             public StartEntitiesDetectionJobResult call() throws Exception {
                 StartEntitiesDetectionJobResult result = null;
                 try {
@@ -4129,10 +4129,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartEventsDetectionJobResult> startEventsDetectionJobAsync(
+    public SdkFuture<StartEventsDetectionJobResult> startEventsDetectionJobAsync(
             final StartEventsDetectionJobRequest startEventsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEventsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startEventsDetectionJobRequest, new Callable<StartEventsDetectionJobResult>() {
             public StartEventsDetectionJobResult call() throws Exception {
                 return startEventsDetectionJob(startEventsDetectionJobRequest);
             }
@@ -4161,11 +4161,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartEventsDetectionJobResult> startEventsDetectionJobAsync(
+    public SdkFuture<StartEventsDetectionJobResult> startEventsDetectionJobAsync(
             final StartEventsDetectionJobRequest startEventsDetectionJobRequest,
             final AsyncHandler<StartEventsDetectionJobRequest, StartEventsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEventsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startEventsDetectionJobRequest, new Callable<StartEventsDetectionJobResult>() {
             public StartEventsDetectionJobResult call() throws Exception {
                 StartEventsDetectionJobResult result = null;
                 try {
@@ -4203,10 +4203,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
+    public SdkFuture<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startKeyPhrasesDetectionJobRequest, new Callable<StartKeyPhrasesDetectionJobResult>() {
             public StartKeyPhrasesDetectionJobResult call() throws Exception {
                 return startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
             }
@@ -4236,11 +4236,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
+    public SdkFuture<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StartKeyPhrasesDetectionJobRequest, StartKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startKeyPhrasesDetectionJobRequest, new Callable<StartKeyPhrasesDetectionJobResult>() {
             public StartKeyPhrasesDetectionJobResult call() throws Exception {
                 StartKeyPhrasesDetectionJobResult result = null;
                 try {
@@ -4278,10 +4278,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartPiiEntitiesDetectionJobResult> startPiiEntitiesDetectionJobAsync(
+    public SdkFuture<StartPiiEntitiesDetectionJobResult> startPiiEntitiesDetectionJobAsync(
             final StartPiiEntitiesDetectionJobRequest startPiiEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartPiiEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startPiiEntitiesDetectionJobRequest, new Callable<StartPiiEntitiesDetectionJobResult>() {
             public StartPiiEntitiesDetectionJobResult call() throws Exception {
                 return startPiiEntitiesDetectionJob(startPiiEntitiesDetectionJobRequest);
             }
@@ -4311,11 +4311,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartPiiEntitiesDetectionJobResult> startPiiEntitiesDetectionJobAsync(
+    public SdkFuture<StartPiiEntitiesDetectionJobResult> startPiiEntitiesDetectionJobAsync(
             final StartPiiEntitiesDetectionJobRequest startPiiEntitiesDetectionJobRequest,
             final AsyncHandler<StartPiiEntitiesDetectionJobRequest, StartPiiEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartPiiEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startPiiEntitiesDetectionJobRequest, new Callable<StartPiiEntitiesDetectionJobResult>() {
             public StartPiiEntitiesDetectionJobResult call() throws Exception {
                 StartPiiEntitiesDetectionJobResult result = null;
                 try {
@@ -4353,10 +4353,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
+    public SdkFuture<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startSentimentDetectionJobRequest, new Callable<StartSentimentDetectionJobResult>() {
             public StartSentimentDetectionJobResult call() throws Exception {
                 return startSentimentDetectionJob(startSentimentDetectionJobRequest);
             }
@@ -4386,11 +4386,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
+    public SdkFuture<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest,
             final AsyncHandler<StartSentimentDetectionJobRequest, StartSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startSentimentDetectionJobRequest, new Callable<StartSentimentDetectionJobResult>() {
             public StartSentimentDetectionJobResult call() throws Exception {
                 StartSentimentDetectionJobResult result = null;
                 try {
@@ -4429,10 +4429,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
+    public SdkFuture<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startTopicsDetectionJobRequest, new Callable<StartTopicsDetectionJobResult>() {
             public StartTopicsDetectionJobResult call() throws Exception {
                 return startTopicsDetectionJob(startTopicsDetectionJobRequest);
             }
@@ -4463,11 +4463,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
+    public SdkFuture<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest,
             final AsyncHandler<StartTopicsDetectionJobRequest, StartTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, startTopicsDetectionJobRequest, new Callable<StartTopicsDetectionJobResult>() {
             public StartTopicsDetectionJobResult call() throws Exception {
                 StartTopicsDetectionJobResult result = null;
                 try {
@@ -4518,10 +4518,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
+    public SdkFuture<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopDominantLanguageDetectionJobRequest, new Callable<StopDominantLanguageDetectionJobResult>() {
             public StopDominantLanguageDetectionJobResult call() throws Exception {
                 return stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
             }
@@ -4564,11 +4564,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
+    public SdkFuture<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest,
             final AsyncHandler<StopDominantLanguageDetectionJobRequest, StopDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopDominantLanguageDetectionJobRequest, new Callable<StopDominantLanguageDetectionJobResult>() {
             public StopDominantLanguageDetectionJobResult call() throws Exception {
                 StopDominantLanguageDetectionJobResult result = null;
                 try {
@@ -4619,10 +4619,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
+    public SdkFuture<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopEntitiesDetectionJobRequest, new Callable<StopEntitiesDetectionJobResult>() {
             public StopEntitiesDetectionJobResult call() throws Exception {
                 return stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
             }
@@ -4665,11 +4665,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
+    public SdkFuture<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest,
             final AsyncHandler<StopEntitiesDetectionJobRequest, StopEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopEntitiesDetectionJobRequest, new Callable<StopEntitiesDetectionJobResult>() {
             public StopEntitiesDetectionJobResult call() throws Exception {
                 StopEntitiesDetectionJobResult result = null;
                 try {
@@ -4704,10 +4704,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopEventsDetectionJobResult> stopEventsDetectionJobAsync(
+    public SdkFuture<StopEventsDetectionJobResult> stopEventsDetectionJobAsync(
             final StopEventsDetectionJobRequest stopEventsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEventsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopEventsDetectionJobRequest, new Callable<StopEventsDetectionJobResult>() {
             public StopEventsDetectionJobResult call() throws Exception {
                 return stopEventsDetectionJob(stopEventsDetectionJobRequest);
             }
@@ -4734,11 +4734,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopEventsDetectionJobResult> stopEventsDetectionJobAsync(
+    public SdkFuture<StopEventsDetectionJobResult> stopEventsDetectionJobAsync(
             final StopEventsDetectionJobRequest stopEventsDetectionJobRequest,
             final AsyncHandler<StopEventsDetectionJobRequest, StopEventsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEventsDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopEventsDetectionJobRequest, new Callable<StopEventsDetectionJobResult>() {
             public StopEventsDetectionJobResult call() throws Exception {
                 StopEventsDetectionJobResult result = null;
                 try {
@@ -4789,10 +4789,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
+    public SdkFuture<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopKeyPhrasesDetectionJobRequest, new Callable<StopKeyPhrasesDetectionJobResult>() {
             public StopKeyPhrasesDetectionJobResult call() throws Exception {
                 return stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
             }
@@ -4835,11 +4835,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
+    public SdkFuture<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StopKeyPhrasesDetectionJobRequest, StopKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopKeyPhrasesDetectionJobRequest, new Callable<StopKeyPhrasesDetectionJobResult>() {
             public StopKeyPhrasesDetectionJobResult call() throws Exception {
                 StopKeyPhrasesDetectionJobResult result = null;
                 try {
@@ -4874,10 +4874,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopPiiEntitiesDetectionJobResult> stopPiiEntitiesDetectionJobAsync(
+    public SdkFuture<StopPiiEntitiesDetectionJobResult> stopPiiEntitiesDetectionJobAsync(
             final StopPiiEntitiesDetectionJobRequest stopPiiEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopPiiEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopPiiEntitiesDetectionJobRequest, new Callable<StopPiiEntitiesDetectionJobResult>() {
             public StopPiiEntitiesDetectionJobResult call() throws Exception {
                 return stopPiiEntitiesDetectionJob(stopPiiEntitiesDetectionJobRequest);
             }
@@ -4904,11 +4904,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopPiiEntitiesDetectionJobResult> stopPiiEntitiesDetectionJobAsync(
+    public SdkFuture<StopPiiEntitiesDetectionJobResult> stopPiiEntitiesDetectionJobAsync(
             final StopPiiEntitiesDetectionJobRequest stopPiiEntitiesDetectionJobRequest,
             final AsyncHandler<StopPiiEntitiesDetectionJobRequest, StopPiiEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopPiiEntitiesDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopPiiEntitiesDetectionJobRequest, new Callable<StopPiiEntitiesDetectionJobResult>() {
             public StopPiiEntitiesDetectionJobResult call() throws Exception {
                 StopPiiEntitiesDetectionJobResult result = null;
                 try {
@@ -4959,10 +4959,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
+    public SdkFuture<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopSentimentDetectionJobRequest, new Callable<StopSentimentDetectionJobResult>() {
             public StopSentimentDetectionJobResult call() throws Exception {
                 return stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
             }
@@ -5005,11 +5005,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
+    public SdkFuture<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest,
             final AsyncHandler<StopSentimentDetectionJobRequest, StopSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
+        return AsyncRuntime.submit(executorService, stopSentimentDetectionJobRequest, new Callable<StopSentimentDetectionJobResult>() {
             public StopSentimentDetectionJobResult call() throws Exception {
                 StopSentimentDetectionJobResult result = null;
                 try {
@@ -5053,10 +5053,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
+    public SdkFuture<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, stopTrainingDocumentClassifierRequest, new Callable<StopTrainingDocumentClassifierResult>() {
             public StopTrainingDocumentClassifierResult call() throws Exception {
                 return stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
             }
@@ -5092,11 +5092,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
+    public SdkFuture<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest,
             final AsyncHandler<StopTrainingDocumentClassifierRequest, StopTrainingDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
+        return AsyncRuntime.submit(executorService, stopTrainingDocumentClassifierRequest, new Callable<StopTrainingDocumentClassifierResult>() {
             public StopTrainingDocumentClassifierResult call() throws Exception {
                 StopTrainingDocumentClassifierResult result = null;
                 try {
@@ -5140,10 +5140,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
+    public SdkFuture<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, stopTrainingEntityRecognizerRequest, new Callable<StopTrainingEntityRecognizerResult>() {
             public StopTrainingEntityRecognizerResult call() throws Exception {
                 return stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
             }
@@ -5179,11 +5179,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
+    public SdkFuture<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest,
             final AsyncHandler<StopTrainingEntityRecognizerRequest, StopTrainingEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
+        return AsyncRuntime.submit(executorService, stopTrainingEntityRecognizerRequest, new Callable<StopTrainingEntityRecognizerResult>() {
             public StopTrainingEntityRecognizerResult call() throws Exception {
                 StopTrainingEntityRecognizerResult result = null;
                 try {
@@ -5222,9 +5222,9 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public SdkFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<TagResourceResult>() {
             public TagResourceResult call() throws Exception {
                 return tagResource(tagResourceRequest);
             }
@@ -5255,10 +5255,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public SdkFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<TagResourceResult>() {
             public TagResourceResult call() throws Exception {
                 TagResourceResult result = null;
                 try {
@@ -5294,10 +5294,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public SdkFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<UntagResourceResult>() {
             public UntagResourceResult call() throws Exception {
                 return untagResource(untagResourceRequest);
             }
@@ -5325,11 +5325,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public SdkFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<UntagResourceResult>() {
             public UntagResourceResult call() throws Exception {
                 UntagResourceResult result = null;
                 try {
@@ -5367,10 +5367,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateEndpointResult> updateEndpointAsync(
+    public SdkFuture<UpdateEndpointResult> updateEndpointAsync(
             final UpdateEndpointRequest updateEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
+        return AsyncRuntime.submit(executorService, updateEndpointRequest, new Callable<UpdateEndpointResult>() {
             public UpdateEndpointResult call() throws Exception {
                 return updateEndpoint(updateEndpointRequest);
             }
@@ -5400,11 +5400,11 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateEndpointResult> updateEndpointAsync(
+    public SdkFuture<UpdateEndpointResult> updateEndpointAsync(
             final UpdateEndpointRequest updateEndpointRequest,
             final AsyncHandler<UpdateEndpointRequest, UpdateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
+        return AsyncRuntime.submit(executorService, updateEndpointRequest, new Callable<UpdateEndpointResult>() {
             public UpdateEndpointResult call() throws Exception {
                 UpdateEndpointResult result = null;
                 try {
@@ -17,11 +17,11 @@ package com.amazonaws.services.connect;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -115,15 +115,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     @Deprecated
     public AmazonConnectAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Connect using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -133,7 +133,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *            to use when authenticating with AWS services.
      */
     public AmazonConnectAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -180,8 +180,8 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Connect using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -192,7 +192,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *            services.
      */
     public AmazonConnectAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -232,8 +232,8 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public AmazonConnectAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -311,10 +311,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateApprovedOriginAsync(
+    public SdkFuture<Void> associateApprovedOriginAsync(
             final AssociateApprovedOriginRequest associateApprovedOriginRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateApprovedOriginRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateApprovedOrigin(associateApprovedOriginRequest);
                 return null;
@@ -350,11 +350,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateApprovedOriginAsync(
+    public SdkFuture<Void> associateApprovedOriginAsync(
             final AssociateApprovedOriginRequest associateApprovedOriginRequest,
             final AsyncHandler<AssociateApprovedOriginRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateApprovedOriginRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -397,9 +397,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateBotAsync(final AssociateBotRequest associateBotRequest)
+    public SdkFuture<Void> associateBotAsync(final AssociateBotRequest associateBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateBot(associateBotRequest);
                 return null;
@@ -435,10 +435,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateBotAsync(final AssociateBotRequest associateBotRequest,
+    public SdkFuture<Void> associateBotAsync(final AssociateBotRequest associateBotRequest,
             final AsyncHandler<AssociateBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -477,10 +477,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AssociateDefaultVocabularyResult> associateDefaultVocabularyAsync(
+    public SdkFuture<AssociateDefaultVocabularyResult> associateDefaultVocabularyAsync(
             final AssociateDefaultVocabularyRequest associateDefaultVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateDefaultVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, associateDefaultVocabularyRequest, new Callable<AssociateDefaultVocabularyResult>() {
             public AssociateDefaultVocabularyResult call() throws Exception {
                 return associateDefaultVocabulary(associateDefaultVocabularyRequest);
             }
@@ -511,11 +511,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AssociateDefaultVocabularyResult> associateDefaultVocabularyAsync(
+    public SdkFuture<AssociateDefaultVocabularyResult> associateDefaultVocabularyAsync(
             final AssociateDefaultVocabularyRequest associateDefaultVocabularyRequest,
             final AsyncHandler<AssociateDefaultVocabularyRequest, AssociateDefaultVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateDefaultVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, associateDefaultVocabularyRequest, new Callable<AssociateDefaultVocabularyResult>() {
             public AssociateDefaultVocabularyResult call() throws Exception {
                 AssociateDefaultVocabularyResult result = null;
                 try {
@@ -566,10 +566,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AssociateInstanceStorageConfigResult> associateInstanceStorageConfigAsync(
+    public SdkFuture<AssociateInstanceStorageConfigResult> associateInstanceStorageConfigAsync(
             final AssociateInstanceStorageConfigRequest associateInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateInstanceStorageConfigResult>() {
+        return AsyncRuntime.submit(executorService, associateInstanceStorageConfigRequest, new Callable<AssociateInstanceStorageConfigResult>() {
             public AssociateInstanceStorageConfigResult call() throws Exception {
                 return associateInstanceStorageConfig(associateInstanceStorageConfigRequest);
             }
@@ -612,11 +612,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AssociateInstanceStorageConfigResult> associateInstanceStorageConfigAsync(
+    public SdkFuture<AssociateInstanceStorageConfigResult> associateInstanceStorageConfigAsync(
             final AssociateInstanceStorageConfigRequest associateInstanceStorageConfigRequest,
             final AsyncHandler<AssociateInstanceStorageConfigRequest, AssociateInstanceStorageConfigResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateInstanceStorageConfigResult>() {
+        return AsyncRuntime.submit(executorService, associateInstanceStorageConfigRequest, new Callable<AssociateInstanceStorageConfigResult>() {
             public AssociateInstanceStorageConfigResult call() throws Exception {
                 AssociateInstanceStorageConfigResult result = null;
                 try {
@@ -660,10 +660,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateLambdaFunctionAsync(
+    public SdkFuture<Void> associateLambdaFunctionAsync(
             final AssociateLambdaFunctionRequest associateLambdaFunctionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateLambdaFunctionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateLambdaFunction(associateLambdaFunctionRequest);
                 return null;
@@ -700,11 +700,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateLambdaFunctionAsync(
+    public SdkFuture<Void> associateLambdaFunctionAsync(
             final AssociateLambdaFunctionRequest associateLambdaFunctionRequest,
             final AsyncHandler<AssociateLambdaFunctionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateLambdaFunctionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -747,9 +747,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateLexBotAsync(final AssociateLexBotRequest associateLexBotRequest)
+    public SdkFuture<Void> associateLexBotAsync(final AssociateLexBotRequest associateLexBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateLexBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateLexBot(associateLexBotRequest);
                 return null;
@@ -785,10 +785,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateLexBotAsync(final AssociateLexBotRequest associateLexBotRequest,
+    public SdkFuture<Void> associateLexBotAsync(final AssociateLexBotRequest associateLexBotRequest,
             final AsyncHandler<AssociateLexBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateLexBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -830,10 +830,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateQueueQuickConnectsAsync(
+    public SdkFuture<Void> associateQueueQuickConnectsAsync(
             final AssociateQueueQuickConnectsRequest associateQueueQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateQueueQuickConnectsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateQueueQuickConnects(associateQueueQuickConnectsRequest);
                 return null;
@@ -868,11 +868,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateQueueQuickConnectsAsync(
+    public SdkFuture<Void> associateQueueQuickConnectsAsync(
             final AssociateQueueQuickConnectsRequest associateQueueQuickConnectsRequest,
             final AsyncHandler<AssociateQueueQuickConnectsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateQueueQuickConnectsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -909,10 +909,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateRoutingProfileQueuesAsync(
+    public SdkFuture<Void> associateRoutingProfileQueuesAsync(
             final AssociateRoutingProfileQueuesRequest associateRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateRoutingProfileQueuesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateRoutingProfileQueues(associateRoutingProfileQueuesRequest);
                 return null;
@@ -942,11 +942,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> associateRoutingProfileQueuesAsync(
+    public SdkFuture<Void> associateRoutingProfileQueuesAsync(
             final AssociateRoutingProfileQueuesRequest associateRoutingProfileQueuesRequest,
             final AsyncHandler<AssociateRoutingProfileQueuesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateRoutingProfileQueuesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -989,10 +989,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AssociateSecurityKeyResult> associateSecurityKeyAsync(
+    public SdkFuture<AssociateSecurityKeyResult> associateSecurityKeyAsync(
             final AssociateSecurityKeyRequest associateSecurityKeyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateSecurityKeyResult>() {
+        return AsyncRuntime.submit(executorService, associateSecurityKeyRequest, new Callable<AssociateSecurityKeyResult>() {
             public AssociateSecurityKeyResult call() throws Exception {
                 return associateSecurityKey(associateSecurityKeyRequest);
             }
@@ -1027,11 +1027,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AssociateSecurityKeyResult> associateSecurityKeyAsync(
+    public SdkFuture<AssociateSecurityKeyResult> associateSecurityKeyAsync(
             final AssociateSecurityKeyRequest associateSecurityKeyRequest,
             final AsyncHandler<AssociateSecurityKeyRequest, AssociateSecurityKeyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateSecurityKeyResult>() {
+        return AsyncRuntime.submit(executorService, associateSecurityKeyRequest, new Callable<AssociateSecurityKeyResult>() {
             public AssociateSecurityKeyResult call() throws Exception {
                 AssociateSecurityKeyResult result = null;
                 try {
@@ -1073,10 +1073,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateAgentStatusResult> createAgentStatusAsync(
+    public SdkFuture<CreateAgentStatusResult> createAgentStatusAsync(
             final CreateAgentStatusRequest createAgentStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateAgentStatusResult>() {
+        return AsyncRuntime.submit(executorService, createAgentStatusRequest, new Callable<CreateAgentStatusResult>() {
             public CreateAgentStatusResult call() throws Exception {
                 return createAgentStatus(createAgentStatusRequest);
             }
@@ -1110,11 +1110,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateAgentStatusResult> createAgentStatusAsync(
+    public SdkFuture<CreateAgentStatusResult> createAgentStatusAsync(
             final CreateAgentStatusRequest createAgentStatusRequest,
             final AsyncHandler<CreateAgentStatusRequest, CreateAgentStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAgentStatusResult>() {
+        return AsyncRuntime.submit(executorService, createAgentStatusRequest, new Callable<CreateAgentStatusResult>() {
             public CreateAgentStatusResult call() throws Exception {
                 CreateAgentStatusResult result = null;
                 try {
@@ -1158,10 +1158,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateContactFlowResult> createContactFlowAsync(
+    public SdkFuture<CreateContactFlowResult> createContactFlowAsync(
             final CreateContactFlowRequest createContactFlowRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowResult>() {
+        return AsyncRuntime.submit(executorService, createContactFlowRequest, new Callable<CreateContactFlowResult>() {
             public CreateContactFlowResult call() throws Exception {
                 return createContactFlow(createContactFlowRequest);
             }
@@ -1197,11 +1197,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateContactFlowResult> createContactFlowAsync(
+    public SdkFuture<CreateContactFlowResult> createContactFlowAsync(
             final CreateContactFlowRequest createContactFlowRequest,
             final AsyncHandler<CreateContactFlowRequest, CreateContactFlowResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowResult>() {
+        return AsyncRuntime.submit(executorService, createContactFlowRequest, new Callable<CreateContactFlowResult>() {
             public CreateContactFlowResult call() throws Exception {
                 CreateContactFlowResult result = null;
                 try {
@@ -1243,10 +1243,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateContactFlowModuleResult> createContactFlowModuleAsync(
+    public SdkFuture<CreateContactFlowModuleResult> createContactFlowModuleAsync(
             final CreateContactFlowModuleRequest createContactFlowModuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowModuleResult>() {
+        return AsyncRuntime.submit(executorService, createContactFlowModuleRequest, new Callable<CreateContactFlowModuleResult>() {
             public CreateContactFlowModuleResult call() throws Exception {
                 return createContactFlowModule(createContactFlowModuleRequest);
             }
@@ -1280,11 +1280,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateContactFlowModuleResult> createContactFlowModuleAsync(
+    public SdkFuture<CreateContactFlowModuleResult> createContactFlowModuleAsync(
             final CreateContactFlowModuleRequest createContactFlowModuleRequest,
             final AsyncHandler<CreateContactFlowModuleRequest, CreateContactFlowModuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateContactFlowModuleResult>() {
+        return AsyncRuntime.submit(executorService, createContactFlowModuleRequest, new Callable<CreateContactFlowModuleResult>() {
             public CreateContactFlowModuleResult call() throws Exception {
                 CreateContactFlowModuleResult result = null;
                 try {
@@ -1327,10 +1327,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateHoursOfOperationResult> createHoursOfOperationAsync(
+    public SdkFuture<CreateHoursOfOperationResult> createHoursOfOperationAsync(
             final CreateHoursOfOperationRequest createHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHoursOfOperationResult>() {
+        return AsyncRuntime.submit(executorService, createHoursOfOperationRequest, new Callable<CreateHoursOfOperationResult>() {
             public CreateHoursOfOperationResult call() throws Exception {
                 return createHoursOfOperation(createHoursOfOperationRequest);
             }
@@ -1365,11 +1365,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateHoursOfOperationResult> createHoursOfOperationAsync(
+    public SdkFuture<CreateHoursOfOperationResult> createHoursOfOperationAsync(
             final CreateHoursOfOperationRequest createHoursOfOperationRequest,
             final AsyncHandler<CreateHoursOfOperationRequest, CreateHoursOfOperationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHoursOfOperationResult>() {
+        return AsyncRuntime.submit(executorService, createHoursOfOperationRequest, new Callable<CreateHoursOfOperationResult>() {
             public CreateHoursOfOperationResult call() throws Exception {
                 CreateHoursOfOperationResult result = null;
                 try {
@@ -1419,10 +1419,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateInstanceResult> createInstanceAsync(
+    public SdkFuture<CreateInstanceResult> createInstanceAsync(
             final CreateInstanceRequest createInstanceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
+        return AsyncRuntime.submit(executorService, createInstanceRequest, new Callable<CreateInstanceResult>() {
             public CreateInstanceResult call() throws Exception {
                 return createInstance(createInstanceRequest);
             }
@@ -1464,11 +1464,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateInstanceResult> createInstanceAsync(
+    public SdkFuture<CreateInstanceResult> createInstanceAsync(
             final CreateInstanceRequest createInstanceRequest,
             final AsyncHandler<CreateInstanceRequest, CreateInstanceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
+        return AsyncRuntime.submit(executorService, createInstanceRequest, new Callable<CreateInstanceResult>() {
             public CreateInstanceResult call() throws Exception {
                 CreateInstanceResult result = null;
                 try {
@@ -1506,10 +1506,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateIntegrationAssociationResult> createIntegrationAssociationAsync(
+    public SdkFuture<CreateIntegrationAssociationResult> createIntegrationAssociationAsync(
             final CreateIntegrationAssociationRequest createIntegrationAssociationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateIntegrationAssociationResult>() {
+        return AsyncRuntime.submit(executorService, createIntegrationAssociationRequest, new Callable<CreateIntegrationAssociationResult>() {
             public CreateIntegrationAssociationResult call() throws Exception {
                 return createIntegrationAssociation(createIntegrationAssociationRequest);
             }
@@ -1539,11 +1539,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateIntegrationAssociationResult> createIntegrationAssociationAsync(
+    public SdkFuture<CreateIntegrationAssociationResult> createIntegrationAssociationAsync(
             final CreateIntegrationAssociationRequest createIntegrationAssociationRequest,
             final AsyncHandler<CreateIntegrationAssociationRequest, CreateIntegrationAssociationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateIntegrationAssociationResult>() {
+        return AsyncRuntime.submit(executorService, createIntegrationAssociationRequest, new Callable<CreateIntegrationAssociationResult>() {
             public CreateIntegrationAssociationResult call() throws Exception {
                 CreateIntegrationAssociationResult result = null;
                 try {
@@ -1585,9 +1585,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
+    public SdkFuture<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
+        return AsyncRuntime.submit(executorService, createQueueRequest, new Callable<CreateQueueResult>() {
             public CreateQueueResult call() throws Exception {
                 return createQueue(createQueueRequest);
             }
@@ -1621,10 +1621,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
+    public SdkFuture<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
+        return AsyncRuntime.submit(executorService, createQueueRequest, new Callable<CreateQueueResult>() {
             public CreateQueueResult call() throws Exception {
                 CreateQueueResult result = null;
                 try {
@@ -1662,10 +1662,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateQuickConnectResult> createQuickConnectAsync(
+    public SdkFuture<CreateQuickConnectResult> createQuickConnectAsync(
             final CreateQuickConnectRequest createQuickConnectRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQuickConnectResult>() {
+        return AsyncRuntime.submit(executorService, createQuickConnectRequest, new Callable<CreateQuickConnectResult>() {
             public CreateQuickConnectResult call() throws Exception {
                 return createQuickConnect(createQuickConnectRequest);
             }
@@ -1695,11 +1695,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateQuickConnectResult> createQuickConnectAsync(
+    public SdkFuture<CreateQuickConnectResult> createQuickConnectAsync(
             final CreateQuickConnectRequest createQuickConnectRequest,
             final AsyncHandler<CreateQuickConnectRequest, CreateQuickConnectResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQuickConnectResult>() {
+        return AsyncRuntime.submit(executorService, createQuickConnectRequest, new Callable<CreateQuickConnectResult>() {
             public CreateQuickConnectResult call() throws Exception {
                 CreateQuickConnectResult result = null;
                 try {
@@ -1738,10 +1738,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateRoutingProfileResult> createRoutingProfileAsync(
+    public SdkFuture<CreateRoutingProfileResult> createRoutingProfileAsync(
             final CreateRoutingProfileRequest createRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoutingProfileResult>() {
+        return AsyncRuntime.submit(executorService, createRoutingProfileRequest, new Callable<CreateRoutingProfileResult>() {
             public CreateRoutingProfileResult call() throws Exception {
                 return createRoutingProfile(createRoutingProfileRequest);
             }
@@ -1772,11 +1772,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateRoutingProfileResult> createRoutingProfileAsync(
+    public SdkFuture<CreateRoutingProfileResult> createRoutingProfileAsync(
             final CreateRoutingProfileRequest createRoutingProfileRequest,
             final AsyncHandler<CreateRoutingProfileRequest, CreateRoutingProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoutingProfileResult>() {
+        return AsyncRuntime.submit(executorService, createRoutingProfileRequest, new Callable<CreateRoutingProfileResult>() {
             public CreateRoutingProfileResult call() throws Exception {
                 CreateRoutingProfileResult result = null;
                 try {
@@ -1819,10 +1819,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateSecurityProfileResult> createSecurityProfileAsync(
+    public SdkFuture<CreateSecurityProfileResult> createSecurityProfileAsync(
             final CreateSecurityProfileRequest createSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityProfileResult>() {
+        return AsyncRuntime.submit(executorService, createSecurityProfileRequest, new Callable<CreateSecurityProfileResult>() {
             public CreateSecurityProfileResult call() throws Exception {
                 return createSecurityProfile(createSecurityProfileRequest);
             }
@@ -1857,11 +1857,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateSecurityProfileResult> createSecurityProfileAsync(
+    public SdkFuture<CreateSecurityProfileResult> createSecurityProfileAsync(
             final CreateSecurityProfileRequest createSecurityProfileRequest,
             final AsyncHandler<CreateSecurityProfileRequest, CreateSecurityProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityProfileResult>() {
+        return AsyncRuntime.submit(executorService, createSecurityProfileRequest, new Callable<CreateSecurityProfileResult>() {
             public CreateSecurityProfileResult call() throws Exception {
                 CreateSecurityProfileResult result = null;
                 try {
@@ -1897,10 +1897,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUseCaseResult> createUseCaseAsync(
+    public SdkFuture<CreateUseCaseResult> createUseCaseAsync(
             final CreateUseCaseRequest createUseCaseRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateUseCaseResult>() {
+        return AsyncRuntime.submit(executorService, createUseCaseRequest, new Callable<CreateUseCaseResult>() {
             public CreateUseCaseResult call() throws Exception {
                 return createUseCase(createUseCaseRequest);
             }
@@ -1928,11 +1928,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUseCaseResult> createUseCaseAsync(
+    public SdkFuture<CreateUseCaseResult> createUseCaseAsync(
             final CreateUseCaseRequest createUseCaseRequest,
             final AsyncHandler<CreateUseCaseRequest, CreateUseCaseResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUseCaseResult>() {
+        return AsyncRuntime.submit(executorService, createUseCaseRequest, new Callable<CreateUseCaseResult>() {
             public CreateUseCaseResult call() throws Exception {
                 CreateUseCaseResult result = null;
                 try {
@@ -1976,9 +1976,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest)
+    public SdkFuture<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
+        return AsyncRuntime.submit(executorService, createUserRequest, new Callable<CreateUserResult>() {
             public CreateUserResult call() throws Exception {
                 return createUser(createUserRequest);
             }
@@ -2014,10 +2014,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest,
+    public SdkFuture<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest,
             final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
+        return AsyncRuntime.submit(executorService, createUserRequest, new Callable<CreateUserResult>() {
             public CreateUserResult call() throws Exception {
                 CreateUserResult result = null;
                 try {
@@ -2056,10 +2056,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUserHierarchyGroupResult> createUserHierarchyGroupAsync(
+    public SdkFuture<CreateUserHierarchyGroupResult> createUserHierarchyGroupAsync(
             final CreateUserHierarchyGroupRequest createUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserHierarchyGroupResult>() {
+        return AsyncRuntime.submit(executorService, createUserHierarchyGroupRequest, new Callable<CreateUserHierarchyGroupResult>() {
             public CreateUserHierarchyGroupResult call() throws Exception {
                 return createUserHierarchyGroup(createUserHierarchyGroupRequest);
             }
@@ -2090,11 +2090,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUserHierarchyGroupResult> createUserHierarchyGroupAsync(
+    public SdkFuture<CreateUserHierarchyGroupResult> createUserHierarchyGroupAsync(
             final CreateUserHierarchyGroupRequest createUserHierarchyGroupRequest,
             final AsyncHandler<CreateUserHierarchyGroupRequest, CreateUserHierarchyGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserHierarchyGroupResult>() {
+        return AsyncRuntime.submit(executorService, createUserHierarchyGroupRequest, new Callable<CreateUserHierarchyGroupResult>() {
             public CreateUserHierarchyGroupResult call() throws Exception {
                 CreateUserHierarchyGroupResult result = null;
                 try {
@@ -2135,10 +2135,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyResult> createVocabularyAsync(
+    public SdkFuture<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, createVocabularyRequest, new Callable<CreateVocabularyResult>() {
             public CreateVocabularyResult call() throws Exception {
                 return createVocabulary(createVocabularyRequest);
             }
@@ -2171,11 +2171,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyResult> createVocabularyAsync(
+    public SdkFuture<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest,
             final AsyncHandler<CreateVocabularyRequest, CreateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, createVocabularyRequest, new Callable<CreateVocabularyResult>() {
             public CreateVocabularyResult call() throws Exception {
                 CreateVocabularyResult result = null;
                 try {
@@ -2212,10 +2212,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteContactFlowAsync(
+    public SdkFuture<Void> deleteContactFlowAsync(
             final DeleteContactFlowRequest deleteContactFlowRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteContactFlowRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteContactFlow(deleteContactFlowRequest);
                 return null;
@@ -2245,11 +2245,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteContactFlowAsync(
+    public SdkFuture<Void> deleteContactFlowAsync(
             final DeleteContactFlowRequest deleteContactFlowRequest,
             final AsyncHandler<DeleteContactFlowRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteContactFlowRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2287,10 +2287,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteContactFlowModuleResult> deleteContactFlowModuleAsync(
+    public SdkFuture<DeleteContactFlowModuleResult> deleteContactFlowModuleAsync(
             final DeleteContactFlowModuleRequest deleteContactFlowModuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteContactFlowModuleResult>() {
+        return AsyncRuntime.submit(executorService, deleteContactFlowModuleRequest, new Callable<DeleteContactFlowModuleResult>() {
             public DeleteContactFlowModuleResult call() throws Exception {
                 return deleteContactFlowModule(deleteContactFlowModuleRequest);
             }
@@ -2320,11 +2320,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteContactFlowModuleResult> deleteContactFlowModuleAsync(
+    public SdkFuture<DeleteContactFlowModuleResult> deleteContactFlowModuleAsync(
             final DeleteContactFlowModuleRequest deleteContactFlowModuleRequest,
             final AsyncHandler<DeleteContactFlowModuleRequest, DeleteContactFlowModuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteContactFlowModuleResult>() {
+        return AsyncRuntime.submit(executorService, deleteContactFlowModuleRequest, new Callable<DeleteContactFlowModuleResult>() {
             public DeleteContactFlowModuleResult call() throws Exception {
                 DeleteContactFlowModuleResult result = null;
                 try {
@@ -2365,10 +2365,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteHoursOfOperationAsync(
+    public SdkFuture<Void> deleteHoursOfOperationAsync(
             final DeleteHoursOfOperationRequest deleteHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteHoursOfOperationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteHoursOfOperation(deleteHoursOfOperationRequest);
                 return null;
@@ -2402,11 +2402,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteHoursOfOperationAsync(
+    public SdkFuture<Void> deleteHoursOfOperationAsync(
             final DeleteHoursOfOperationRequest deleteHoursOfOperationRequest,
             final AsyncHandler<DeleteHoursOfOperationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteHoursOfOperationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2451,9 +2451,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest)
+    public SdkFuture<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteInstanceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteInstance(deleteInstanceRequest);
                 return null;
@@ -2491,10 +2491,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest,
+    public SdkFuture<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest,
             final AsyncHandler<DeleteInstanceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteInstanceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2532,10 +2532,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteIntegrationAssociationAsync(
+    public SdkFuture<Void> deleteIntegrationAssociationAsync(
             final DeleteIntegrationAssociationRequest deleteIntegrationAssociationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteIntegrationAssociationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteIntegrationAssociation(deleteIntegrationAssociationRequest);
                 return null;
@@ -2566,11 +2566,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteIntegrationAssociationAsync(
+    public SdkFuture<Void> deleteIntegrationAssociationAsync(
             final DeleteIntegrationAssociationRequest deleteIntegrationAssociationRequest,
             final AsyncHandler<DeleteIntegrationAssociationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteIntegrationAssociationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2606,10 +2606,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteQuickConnectAsync(
+    public SdkFuture<Void> deleteQuickConnectAsync(
             final DeleteQuickConnectRequest deleteQuickConnectRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteQuickConnectRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteQuickConnect(deleteQuickConnectRequest);
                 return null;
@@ -2638,11 +2638,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteQuickConnectAsync(
+    public SdkFuture<Void> deleteQuickConnectAsync(
             final DeleteQuickConnectRequest deleteQuickConnectRequest,
             final AsyncHandler<DeleteQuickConnectRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteQuickConnectRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2685,10 +2685,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteSecurityProfileAsync(
+    public SdkFuture<Void> deleteSecurityProfileAsync(
             final DeleteSecurityProfileRequest deleteSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSecurityProfileRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSecurityProfile(deleteSecurityProfileRequest);
                 return null;
@@ -2724,11 +2724,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteSecurityProfileAsync(
+    public SdkFuture<Void> deleteSecurityProfileAsync(
             final DeleteSecurityProfileRequest deleteSecurityProfileRequest,
             final AsyncHandler<DeleteSecurityProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSecurityProfileRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2763,9 +2763,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUseCaseAsync(final DeleteUseCaseRequest deleteUseCaseRequest)
+    public SdkFuture<Void> deleteUseCaseAsync(final DeleteUseCaseRequest deleteUseCaseRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteUseCaseRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUseCase(deleteUseCaseRequest);
                 return null;
@@ -2793,10 +2793,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUseCaseAsync(final DeleteUseCaseRequest deleteUseCaseRequest,
+    public SdkFuture<Void> deleteUseCaseAsync(final DeleteUseCaseRequest deleteUseCaseRequest,
             final AsyncHandler<DeleteUseCaseRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteUseCaseRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2839,9 +2839,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest)
+    public SdkFuture<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteUserRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUser(deleteUserRequest);
                 return null;
@@ -2877,10 +2877,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest,
+    public SdkFuture<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest,
             final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteUserRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2919,10 +2919,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUserHierarchyGroupAsync(
+    public SdkFuture<Void> deleteUserHierarchyGroupAsync(
             final DeleteUserHierarchyGroupRequest deleteUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteUserHierarchyGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteUserHierarchyGroup(deleteUserHierarchyGroupRequest);
                 return null;
@@ -2954,11 +2954,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUserHierarchyGroupAsync(
+    public SdkFuture<Void> deleteUserHierarchyGroupAsync(
             final DeleteUserHierarchyGroupRequest deleteUserHierarchyGroupRequest,
             final AsyncHandler<DeleteUserHierarchyGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteUserHierarchyGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2995,10 +2995,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteVocabularyResult> deleteVocabularyAsync(
+    public SdkFuture<DeleteVocabularyResult> deleteVocabularyAsync(
             final DeleteVocabularyRequest deleteVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, deleteVocabularyRequest, new Callable<DeleteVocabularyResult>() {
             public DeleteVocabularyResult call() throws Exception {
                 return deleteVocabulary(deleteVocabularyRequest);
             }
@@ -3027,11 +3027,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteVocabularyResult> deleteVocabularyAsync(
+    public SdkFuture<DeleteVocabularyResult> deleteVocabularyAsync(
             final DeleteVocabularyRequest deleteVocabularyRequest,
             final AsyncHandler<DeleteVocabularyRequest, DeleteVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, deleteVocabularyRequest, new Callable<DeleteVocabularyResult>() {
             public DeleteVocabularyResult call() throws Exception {
                 DeleteVocabularyResult result = null;
                 try {
@@ -3072,10 +3072,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAgentStatusResult> describeAgentStatusAsync(
+    public SdkFuture<DescribeAgentStatusResult> describeAgentStatusAsync(
             final DescribeAgentStatusRequest describeAgentStatusRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAgentStatusResult>() {
+        return AsyncRuntime.submit(executorService, describeAgentStatusRequest, new Callable<DescribeAgentStatusResult>() {
             public DescribeAgentStatusResult call() throws Exception {
                 return describeAgentStatus(describeAgentStatusRequest);
             }
@@ -3108,11 +3108,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAgentStatusResult> describeAgentStatusAsync(
+    public SdkFuture<DescribeAgentStatusResult> describeAgentStatusAsync(
             final DescribeAgentStatusRequest describeAgentStatusRequest,
             final AsyncHandler<DescribeAgentStatusRequest, DescribeAgentStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAgentStatusResult>() {
+        return AsyncRuntime.submit(executorService, describeAgentStatusRequest, new Callable<DescribeAgentStatusResult>() {
             public DescribeAgentStatusResult call() throws Exception {
                 DescribeAgentStatusResult result = null;
                 try {
@@ -3158,10 +3158,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContactResult> describeContactAsync(
+    public SdkFuture<DescribeContactResult> describeContactAsync(
             final DescribeContactRequest describeContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactResult>() {
+        return AsyncRuntime.submit(executorService, describeContactRequest, new Callable<DescribeContactResult>() {
             public DescribeContactResult call() throws Exception {
                 return describeContact(describeContactRequest);
             }
@@ -3199,11 +3199,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContactResult> describeContactAsync(
+    public SdkFuture<DescribeContactResult> describeContactAsync(
             final DescribeContactRequest describeContactRequest,
             final AsyncHandler<DescribeContactRequest, DescribeContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactResult>() {
+        return AsyncRuntime.submit(executorService, describeContactRequest, new Callable<DescribeContactResult>() {
             public DescribeContactResult call() throws Exception {
                 DescribeContactResult result = null;
                 try {
@@ -3246,10 +3246,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContactFlowResult> describeContactFlowAsync(
+    public SdkFuture<DescribeContactFlowResult> describeContactFlowAsync(
             final DescribeContactFlowRequest describeContactFlowRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowResult>() {
+        return AsyncRuntime.submit(executorService, describeContactFlowRequest, new Callable<DescribeContactFlowResult>() {
             public DescribeContactFlowResult call() throws Exception {
                 return describeContactFlow(describeContactFlowRequest);
             }
@@ -3284,11 +3284,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContactFlowResult> describeContactFlowAsync(
+    public SdkFuture<DescribeContactFlowResult> describeContactFlowAsync(
             final DescribeContactFlowRequest describeContactFlowRequest,
             final AsyncHandler<DescribeContactFlowRequest, DescribeContactFlowResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowResult>() {
+        return AsyncRuntime.submit(executorService, describeContactFlowRequest, new Callable<DescribeContactFlowResult>() {
             public DescribeContactFlowResult call() throws Exception {
                 DescribeContactFlowResult result = null;
                 try {
@@ -3326,10 +3326,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContactFlowModuleResult> describeContactFlowModuleAsync(
+    public SdkFuture<DescribeContactFlowModuleResult> describeContactFlowModuleAsync(
             final DescribeContactFlowModuleRequest describeContactFlowModuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowModuleResult>() {
+        return AsyncRuntime.submit(executorService, describeContactFlowModuleRequest, new Callable<DescribeContactFlowModuleResult>() {
             public DescribeContactFlowModuleResult call() throws Exception {
                 return describeContactFlowModule(describeContactFlowModuleRequest);
             }
@@ -3359,11 +3359,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContactFlowModuleResult> describeContactFlowModuleAsync(
+    public SdkFuture<DescribeContactFlowModuleResult> describeContactFlowModuleAsync(
             final DescribeContactFlowModuleRequest describeContactFlowModuleRequest,
             final AsyncHandler<DescribeContactFlowModuleRequest, DescribeContactFlowModuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContactFlowModuleResult>() {
+        return AsyncRuntime.submit(executorService, describeContactFlowModuleRequest, new Callable<DescribeContactFlowModuleResult>() {
             public DescribeContactFlowModuleResult call() throws Exception {
                 DescribeContactFlowModuleResult result = null;
                 try {
@@ -3404,10 +3404,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeHoursOfOperationResult> describeHoursOfOperationAsync(
+    public SdkFuture<DescribeHoursOfOperationResult> describeHoursOfOperationAsync(
             final DescribeHoursOfOperationRequest describeHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHoursOfOperationResult>() {
+        return AsyncRuntime.submit(executorService, describeHoursOfOperationRequest, new Callable<DescribeHoursOfOperationResult>() {
             public DescribeHoursOfOperationResult call() throws Exception {
                 return describeHoursOfOperation(describeHoursOfOperationRequest);
             }
@@ -3440,11 +3440,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeHoursOfOperationResult> describeHoursOfOperationAsync(
+    public SdkFuture<DescribeHoursOfOperationResult> describeHoursOfOperationAsync(
             final DescribeHoursOfOperationRequest describeHoursOfOperationRequest,
             final AsyncHandler<DescribeHoursOfOperationRequest, DescribeHoursOfOperationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHoursOfOperationResult>() {
+        return AsyncRuntime.submit(executorService, describeHoursOfOperationRequest, new Callable<DescribeHoursOfOperationResult>() {
             public DescribeHoursOfOperationResult call() throws Exception {
                 DescribeHoursOfOperationResult result = null;
                 try {
@@ -3490,10 +3490,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeInstanceResult> describeInstanceAsync(
+    public SdkFuture<DescribeInstanceResult> describeInstanceAsync(
             final DescribeInstanceRequest describeInstanceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceRequest, new Callable<DescribeInstanceResult>() {
             public DescribeInstanceResult call() throws Exception {
                 return describeInstance(describeInstanceRequest);
             }
@@ -3531,11 +3531,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeInstanceResult> describeInstanceAsync(
+    public SdkFuture<DescribeInstanceResult> describeInstanceAsync(
             final DescribeInstanceRequest describeInstanceRequest,
             final AsyncHandler<DescribeInstanceRequest, DescribeInstanceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceRequest, new Callable<DescribeInstanceResult>() {
             public DescribeInstanceResult call() throws Exception {
                 DescribeInstanceResult result = null;
                 try {
@@ -3576,10 +3576,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
+    public SdkFuture<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceAttributeRequest, new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
                 return describeInstanceAttribute(describeInstanceAttributeRequest);
             }
@@ -3612,11 +3612,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
+    public SdkFuture<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceAttributeRequest, new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
                 DescribeInstanceAttributeResult result = null;
                 try {
@@ -3658,10 +3658,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeInstanceStorageConfigResult> describeInstanceStorageConfigAsync(
+    public SdkFuture<DescribeInstanceStorageConfigResult> describeInstanceStorageConfigAsync(
             final DescribeInstanceStorageConfigRequest describeInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStorageConfigResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceStorageConfigRequest, new Callable<DescribeInstanceStorageConfigResult>() {
             public DescribeInstanceStorageConfigResult call() throws Exception {
                 return describeInstanceStorageConfig(describeInstanceStorageConfigRequest);
             }
@@ -3695,11 +3695,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeInstanceStorageConfigResult> describeInstanceStorageConfigAsync(
+    public SdkFuture<DescribeInstanceStorageConfigResult> describeInstanceStorageConfigAsync(
             final DescribeInstanceStorageConfigRequest describeInstanceStorageConfigRequest,
             final AsyncHandler<DescribeInstanceStorageConfigRequest, DescribeInstanceStorageConfigResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStorageConfigResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceStorageConfigRequest, new Callable<DescribeInstanceStorageConfigResult>() {
             public DescribeInstanceStorageConfigResult call() throws Exception {
                 DescribeInstanceStorageConfigResult result = null;
                 try {
@@ -3739,10 +3739,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeQueueResult> describeQueueAsync(
+    public SdkFuture<DescribeQueueResult> describeQueueAsync(
             final DescribeQueueRequest describeQueueRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeQueueResult>() {
+        return AsyncRuntime.submit(executorService, describeQueueRequest, new Callable<DescribeQueueResult>() {
             public DescribeQueueResult call() throws Exception {
                 return describeQueue(describeQueueRequest);
             }
@@ -3774,11 +3774,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeQueueResult> describeQueueAsync(
+    public SdkFuture<DescribeQueueResult> describeQueueAsync(
             final DescribeQueueRequest describeQueueRequest,
             final AsyncHandler<DescribeQueueRequest, DescribeQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeQueueResult>() {
+        return AsyncRuntime.submit(executorService, describeQueueRequest, new Callable<DescribeQueueResult>() {
             public DescribeQueueResult call() throws Exception {
                 DescribeQueueResult result = null;
                 try {
@@ -3815,10 +3815,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeQuickConnectResult> describeQuickConnectAsync(
+    public SdkFuture<DescribeQuickConnectResult> describeQuickConnectAsync(
             final DescribeQuickConnectRequest describeQuickConnectRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeQuickConnectResult>() {
+        return AsyncRuntime.submit(executorService, describeQuickConnectRequest, new Callable<DescribeQuickConnectResult>() {
             public DescribeQuickConnectResult call() throws Exception {
                 return describeQuickConnect(describeQuickConnectRequest);
             }
@@ -3847,11 +3847,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeQuickConnectResult> describeQuickConnectAsync(
+    public SdkFuture<DescribeQuickConnectResult> describeQuickConnectAsync(
             final DescribeQuickConnectRequest describeQuickConnectRequest,
             final AsyncHandler<DescribeQuickConnectRequest, DescribeQuickConnectResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeQuickConnectResult>() {
+        return AsyncRuntime.submit(executorService, describeQuickConnectRequest, new Callable<DescribeQuickConnectResult>() {
             public DescribeQuickConnectResult call() throws Exception {
                 DescribeQuickConnectResult result = null;
                 try {
@@ -3888,10 +3888,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeRoutingProfileResult> describeRoutingProfileAsync(
+    public SdkFuture<DescribeRoutingProfileResult> describeRoutingProfileAsync(
             final DescribeRoutingProfileRequest describeRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRoutingProfileResult>() {
+        return AsyncRuntime.submit(executorService, describeRoutingProfileRequest, new Callable<DescribeRoutingProfileResult>() {
             public DescribeRoutingProfileResult call() throws Exception {
                 return describeRoutingProfile(describeRoutingProfileRequest);
             }
@@ -3920,11 +3920,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeRoutingProfileResult> describeRoutingProfileAsync(
+    public SdkFuture<DescribeRoutingProfileResult> describeRoutingProfileAsync(
             final DescribeRoutingProfileRequest describeRoutingProfileRequest,
             final AsyncHandler<DescribeRoutingProfileRequest, DescribeRoutingProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRoutingProfileResult>() {
+        return AsyncRuntime.submit(executorService, describeRoutingProfileRequest, new Callable<DescribeRoutingProfileResult>() {
             public DescribeRoutingProfileResult call() throws Exception {
                 DescribeRoutingProfileResult result = null;
                 try {
@@ -3965,10 +3965,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeSecurityProfileResult> describeSecurityProfileAsync(
+    public SdkFuture<DescribeSecurityProfileResult> describeSecurityProfileAsync(
             final DescribeSecurityProfileRequest describeSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityProfileResult>() {
+        return AsyncRuntime.submit(executorService, describeSecurityProfileRequest, new Callable<DescribeSecurityProfileResult>() {
             public DescribeSecurityProfileResult call() throws Exception {
                 return describeSecurityProfile(describeSecurityProfileRequest);
             }
@@ -4001,11 +4001,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeSecurityProfileResult> describeSecurityProfileAsync(
+    public SdkFuture<DescribeSecurityProfileResult> describeSecurityProfileAsync(
             final DescribeSecurityProfileRequest describeSecurityProfileRequest,
             final AsyncHandler<DescribeSecurityProfileRequest, DescribeSecurityProfileResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityProfileResult>() {
+        return AsyncRuntime.submit(executorService, describeSecurityProfileRequest, new Callable<DescribeSecurityProfileResult>() {
             public DescribeSecurityProfileResult call() throws Exception {
                 DescribeSecurityProfileResult result = null;
                 try {
@@ -4044,10 +4044,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserResult> describeUserAsync(
+    public SdkFuture<DescribeUserResult> describeUserAsync(
             final DescribeUserRequest describeUserRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
+        return AsyncRuntime.submit(executorService, describeUserRequest, new Callable<DescribeUserResult>() {
             public DescribeUserResult call() throws Exception {
                 return describeUser(describeUserRequest);
             }
@@ -4078,11 +4078,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserResult> describeUserAsync(
+    public SdkFuture<DescribeUserResult> describeUserAsync(
             final DescribeUserRequest describeUserRequest,
             final AsyncHandler<DescribeUserRequest, DescribeUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
+        return AsyncRuntime.submit(executorService, describeUserRequest, new Callable<DescribeUserResult>() {
             public DescribeUserResult call() throws Exception {
                 DescribeUserResult result = null;
                 try {
@@ -4119,10 +4119,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
+    public SdkFuture<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
+        return AsyncRuntime.submit(executorService, describeUserHierarchyGroupRequest, new Callable<DescribeUserHierarchyGroupResult>() {
             public DescribeUserHierarchyGroupResult call() throws Exception {
                 return describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
             }
@@ -4151,11 +4151,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
+    public SdkFuture<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest,
             final AsyncHandler<DescribeUserHierarchyGroupRequest, DescribeUserHierarchyGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
+        return AsyncRuntime.submit(executorService, describeUserHierarchyGroupRequest, new Callable<DescribeUserHierarchyGroupResult>() {
             public DescribeUserHierarchyGroupResult call() throws Exception {
                 DescribeUserHierarchyGroupResult result = null;
                 try {
@@ -4193,10 +4193,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
+    public SdkFuture<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
+        return AsyncRuntime.submit(executorService, describeUserHierarchyStructureRequest, new Callable<DescribeUserHierarchyStructureResult>() {
             public DescribeUserHierarchyStructureResult call() throws Exception {
                 return describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
             }
@@ -4226,11 +4226,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
+    public SdkFuture<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest,
             final AsyncHandler<DescribeUserHierarchyStructureRequest, DescribeUserHierarchyStructureResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
+        return AsyncRuntime.submit(executorService, describeUserHierarchyStructureRequest, new Callable<DescribeUserHierarchyStructureResult>() {
             public DescribeUserHierarchyStructureResult call() throws Exception {
                 DescribeUserHierarchyStructureResult result = null;
                 try {
@@ -4266,10 +4266,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeVocabularyResult> describeVocabularyAsync(
+    public SdkFuture<DescribeVocabularyResult> describeVocabularyAsync(
             final DescribeVocabularyRequest describeVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, describeVocabularyRequest, new Callable<DescribeVocabularyResult>() {
             public DescribeVocabularyResult call() throws Exception {
                 return describeVocabulary(describeVocabularyRequest);
             }
@@ -4297,11 +4297,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeVocabularyResult> describeVocabularyAsync(
+    public SdkFuture<DescribeVocabularyResult> describeVocabularyAsync(
             final DescribeVocabularyRequest describeVocabularyRequest,
             final AsyncHandler<DescribeVocabularyRequest, DescribeVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, describeVocabularyRequest, new Callable<DescribeVocabularyResult>() {
             public DescribeVocabularyResult call() throws Exception {
                 DescribeVocabularyResult result = null;
                 try {
@@ -4342,10 +4342,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateApprovedOriginAsync(
+    public SdkFuture<Void> disassociateApprovedOriginAsync(
             final DisassociateApprovedOriginRequest disassociateApprovedOriginRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateApprovedOriginRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateApprovedOrigin(disassociateApprovedOriginRequest);
                 return null;
@@ -4379,11 +4379,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateApprovedOriginAsync(
+    public SdkFuture<Void> disassociateApprovedOriginAsync(
             final DisassociateApprovedOriginRequest disassociateApprovedOriginRequest,
             final AsyncHandler<DisassociateApprovedOriginRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateApprovedOriginRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4423,9 +4423,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateBotAsync(final DisassociateBotRequest disassociateBotRequest)
+    public SdkFuture<Void> disassociateBotAsync(final DisassociateBotRequest disassociateBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateBot(disassociateBotRequest);
                 return null;
@@ -4458,10 +4458,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateBotAsync(final DisassociateBotRequest disassociateBotRequest,
+    public SdkFuture<Void> disassociateBotAsync(final DisassociateBotRequest disassociateBotRequest,
             final AsyncHandler<DisassociateBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4503,10 +4503,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateInstanceStorageConfigAsync(
+    public SdkFuture<Void> disassociateInstanceStorageConfigAsync(
             final DisassociateInstanceStorageConfigRequest disassociateInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateInstanceStorageConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateInstanceStorageConfig(disassociateInstanceStorageConfigRequest);
                 return null;
@@ -4541,11 +4541,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateInstanceStorageConfigAsync(
+    public SdkFuture<Void> disassociateInstanceStorageConfigAsync(
             final DisassociateInstanceStorageConfigRequest disassociateInstanceStorageConfigRequest,
             final AsyncHandler<DisassociateInstanceStorageConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateInstanceStorageConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4587,10 +4587,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateLambdaFunctionAsync(
+    public SdkFuture<Void> disassociateLambdaFunctionAsync(
             final DisassociateLambdaFunctionRequest disassociateLambdaFunctionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateLambdaFunctionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateLambdaFunction(disassociateLambdaFunctionRequest);
                 return null;
@@ -4625,11 +4625,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateLambdaFunctionAsync(
+    public SdkFuture<Void> disassociateLambdaFunctionAsync(
             final DisassociateLambdaFunctionRequest disassociateLambdaFunctionRequest,
             final AsyncHandler<DisassociateLambdaFunctionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateLambdaFunctionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4670,10 +4670,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateLexBotAsync(
+    public SdkFuture<Void> disassociateLexBotAsync(
             final DisassociateLexBotRequest disassociateLexBotRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateLexBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateLexBot(disassociateLexBotRequest);
                 return null;
@@ -4707,11 +4707,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateLexBotAsync(
+    public SdkFuture<Void> disassociateLexBotAsync(
             final DisassociateLexBotRequest disassociateLexBotRequest,
             final AsyncHandler<DisassociateLexBotRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateLexBotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4752,10 +4752,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateQueueQuickConnectsAsync(
+    public SdkFuture<Void> disassociateQueueQuickConnectsAsync(
             final DisassociateQueueQuickConnectsRequest disassociateQueueQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateQueueQuickConnectsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateQueueQuickConnects(disassociateQueueQuickConnectsRequest);
                 return null;
@@ -4789,11 +4789,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateQueueQuickConnectsAsync(
+    public SdkFuture<Void> disassociateQueueQuickConnectsAsync(
             final DisassociateQueueQuickConnectsRequest disassociateQueueQuickConnectsRequest,
             final AsyncHandler<DisassociateQueueQuickConnectsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateQueueQuickConnectsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4830,10 +4830,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateRoutingProfileQueuesAsync(
+    public SdkFuture<Void> disassociateRoutingProfileQueuesAsync(
             final DisassociateRoutingProfileQueuesRequest disassociateRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateRoutingProfileQueuesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateRoutingProfileQueues(disassociateRoutingProfileQueuesRequest);
                 return null;
@@ -4863,11 +4863,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateRoutingProfileQueuesAsync(
+    public SdkFuture<Void> disassociateRoutingProfileQueuesAsync(
             final DisassociateRoutingProfileQueuesRequest disassociateRoutingProfileQueuesRequest,
             final AsyncHandler<DisassociateRoutingProfileQueuesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateRoutingProfileQueuesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4908,10 +4908,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateSecurityKeyAsync(
+    public SdkFuture<Void> disassociateSecurityKeyAsync(
             final DisassociateSecurityKeyRequest disassociateSecurityKeyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateSecurityKeyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateSecurityKey(disassociateSecurityKeyRequest);
                 return null;
@@ -4945,11 +4945,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disassociateSecurityKeyAsync(
+    public SdkFuture<Void> disassociateSecurityKeyAsync(
             final DisassociateSecurityKeyRequest disassociateSecurityKeyRequest,
             final AsyncHandler<DisassociateSecurityKeyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateSecurityKeyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4984,10 +4984,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetContactAttributesResult> getContactAttributesAsync(
+    public SdkFuture<GetContactAttributesResult> getContactAttributesAsync(
             final GetContactAttributesRequest getContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getContactAttributesRequest, new Callable<GetContactAttributesResult>() {
             public GetContactAttributesResult call() throws Exception {
                 return getContactAttributes(getContactAttributesRequest);
             }
@@ -5014,11 +5014,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetContactAttributesResult> getContactAttributesAsync(
+    public SdkFuture<GetContactAttributesResult> getContactAttributesAsync(
             final GetContactAttributesRequest getContactAttributesRequest,
             final AsyncHandler<GetContactAttributesRequest, GetContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getContactAttributesRequest, new Callable<GetContactAttributesResult>() {
             public GetContactAttributesResult call() throws Exception {
                 GetContactAttributesResult result = null;
                 try {
@@ -5062,10 +5062,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
+    public SdkFuture<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
+        return AsyncRuntime.submit(executorService, getCurrentMetricDataRequest, new Callable<GetCurrentMetricDataResult>() {
             public GetCurrentMetricDataResult call() throws Exception {
                 return getCurrentMetricData(getCurrentMetricDataRequest);
             }
@@ -5101,11 +5101,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
+    public SdkFuture<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest,
             final AsyncHandler<GetCurrentMetricDataRequest, GetCurrentMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
+        return AsyncRuntime.submit(executorService, getCurrentMetricDataRequest, new Callable<GetCurrentMetricDataResult>() {
             public GetCurrentMetricDataResult call() throws Exception {
                 GetCurrentMetricDataResult result = null;
                 try {
@@ -5152,10 +5152,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetFederationTokenResult> getFederationTokenAsync(
+    public SdkFuture<GetFederationTokenResult> getFederationTokenAsync(
             final GetFederationTokenRequest getFederationTokenRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
+        return AsyncRuntime.submit(executorService, getFederationTokenRequest, new Callable<GetFederationTokenResult>() {
             public GetFederationTokenResult call() throws Exception {
                 return getFederationToken(getFederationTokenRequest);
             }
@@ -5194,11 +5194,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetFederationTokenResult> getFederationTokenAsync(
+    public SdkFuture<GetFederationTokenResult> getFederationTokenAsync(
             final GetFederationTokenRequest getFederationTokenRequest,
             final AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
+        return AsyncRuntime.submit(executorService, getFederationTokenRequest, new Callable<GetFederationTokenResult>() {
             public GetFederationTokenResult call() throws Exception {
                 GetFederationTokenResult result = null;
                 try {
@@ -5240,10 +5240,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricDataResult> getMetricDataAsync(
+    public SdkFuture<GetMetricDataResult> getMetricDataAsync(
             final GetMetricDataRequest getMetricDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
+        return AsyncRuntime.submit(executorService, getMetricDataRequest, new Callable<GetMetricDataResult>() {
             public GetMetricDataResult call() throws Exception {
                 return getMetricData(getMetricDataRequest);
             }
@@ -5277,11 +5277,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricDataResult> getMetricDataAsync(
+    public SdkFuture<GetMetricDataResult> getMetricDataAsync(
             final GetMetricDataRequest getMetricDataRequest,
             final AsyncHandler<GetMetricDataRequest, GetMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
+        return AsyncRuntime.submit(executorService, getMetricDataRequest, new Callable<GetMetricDataResult>() {
             public GetMetricDataResult call() throws Exception {
                 GetMetricDataResult result = null;
                 try {
@@ -5321,10 +5321,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListAgentStatusesResult> listAgentStatusesAsync(
+    public SdkFuture<ListAgentStatusesResult> listAgentStatusesAsync(
             final ListAgentStatusesRequest listAgentStatusesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListAgentStatusesResult>() {
+        return AsyncRuntime.submit(executorService, listAgentStatusesRequest, new Callable<ListAgentStatusesResult>() {
             public ListAgentStatusesResult call() throws Exception {
                 return listAgentStatuses(listAgentStatusesRequest);
             }
@@ -5356,11 +5356,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListAgentStatusesResult> listAgentStatusesAsync(
+    public SdkFuture<ListAgentStatusesResult> listAgentStatusesAsync(
             final ListAgentStatusesRequest listAgentStatusesRequest,
             final AsyncHandler<ListAgentStatusesRequest, ListAgentStatusesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAgentStatusesResult>() {
+        return AsyncRuntime.submit(executorService, listAgentStatusesRequest, new Callable<ListAgentStatusesResult>() {
             public ListAgentStatusesResult call() throws Exception {
                 ListAgentStatusesResult result = null;
                 try {
@@ -5402,10 +5402,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListApprovedOriginsResult> listApprovedOriginsAsync(
+    public SdkFuture<ListApprovedOriginsResult> listApprovedOriginsAsync(
             final ListApprovedOriginsRequest listApprovedOriginsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApprovedOriginsResult>() {
+        return AsyncRuntime.submit(executorService, listApprovedOriginsRequest, new Callable<ListApprovedOriginsResult>() {
             public ListApprovedOriginsResult call() throws Exception {
                 return listApprovedOrigins(listApprovedOriginsRequest);
             }
@@ -5439,11 +5439,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListApprovedOriginsResult> listApprovedOriginsAsync(
+    public SdkFuture<ListApprovedOriginsResult> listApprovedOriginsAsync(
             final ListApprovedOriginsRequest listApprovedOriginsRequest,
             final AsyncHandler<ListApprovedOriginsRequest, ListApprovedOriginsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApprovedOriginsResult>() {
+        return AsyncRuntime.submit(executorService, listApprovedOriginsRequest, new Callable<ListApprovedOriginsResult>() {
             public ListApprovedOriginsResult call() throws Exception {
                 ListApprovedOriginsResult result = null;
                 try {
@@ -5483,9 +5483,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListBotsResult> listBotsAsync(final ListBotsRequest listBotsRequest)
+    public SdkFuture<ListBotsResult> listBotsAsync(final ListBotsRequest listBotsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBotsResult>() {
+        return AsyncRuntime.submit(executorService, listBotsRequest, new Callable<ListBotsResult>() {
             public ListBotsResult call() throws Exception {
                 return listBots(listBotsRequest);
             }
@@ -5517,10 +5517,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListBotsResult> listBotsAsync(final ListBotsRequest listBotsRequest,
+    public SdkFuture<ListBotsResult> listBotsAsync(final ListBotsRequest listBotsRequest,
             final AsyncHandler<ListBotsRequest, ListBotsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBotsResult>() {
+        return AsyncRuntime.submit(executorService, listBotsRequest, new Callable<ListBotsResult>() {
             public ListBotsResult call() throws Exception {
                 ListBotsResult result = null;
                 try {
@@ -5559,10 +5559,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactFlowModulesResult> listContactFlowModulesAsync(
+    public SdkFuture<ListContactFlowModulesResult> listContactFlowModulesAsync(
             final ListContactFlowModulesRequest listContactFlowModulesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowModulesResult>() {
+        return AsyncRuntime.submit(executorService, listContactFlowModulesRequest, new Callable<ListContactFlowModulesResult>() {
             public ListContactFlowModulesResult call() throws Exception {
                 return listContactFlowModules(listContactFlowModulesRequest);
             }
@@ -5593,11 +5593,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactFlowModulesResult> listContactFlowModulesAsync(
+    public SdkFuture<ListContactFlowModulesResult> listContactFlowModulesAsync(
             final ListContactFlowModulesRequest listContactFlowModulesRequest,
             final AsyncHandler<ListContactFlowModulesRequest, ListContactFlowModulesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowModulesResult>() {
+        return AsyncRuntime.submit(executorService, listContactFlowModulesRequest, new Callable<ListContactFlowModulesResult>() {
             public ListContactFlowModulesResult call() throws Exception {
                 ListContactFlowModulesResult result = null;
                 try {
@@ -5644,10 +5644,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactFlowsResult> listContactFlowsAsync(
+    public SdkFuture<ListContactFlowsResult> listContactFlowsAsync(
             final ListContactFlowsRequest listContactFlowsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
+        return AsyncRuntime.submit(executorService, listContactFlowsRequest, new Callable<ListContactFlowsResult>() {
             public ListContactFlowsResult call() throws Exception {
                 return listContactFlows(listContactFlowsRequest);
             }
@@ -5686,11 +5686,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactFlowsResult> listContactFlowsAsync(
+    public SdkFuture<ListContactFlowsResult> listContactFlowsAsync(
             final ListContactFlowsRequest listContactFlowsRequest,
             final AsyncHandler<ListContactFlowsRequest, ListContactFlowsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
+        return AsyncRuntime.submit(executorService, listContactFlowsRequest, new Callable<ListContactFlowsResult>() {
             public ListContactFlowsResult call() throws Exception {
                 ListContactFlowsResult result = null;
                 try {
@@ -5732,10 +5732,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactReferencesResult> listContactReferencesAsync(
+    public SdkFuture<ListContactReferencesResult> listContactReferencesAsync(
             final ListContactReferencesRequest listContactReferencesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactReferencesResult>() {
+        return AsyncRuntime.submit(executorService, listContactReferencesRequest, new Callable<ListContactReferencesResult>() {
             public ListContactReferencesResult call() throws Exception {
                 return listContactReferences(listContactReferencesRequest);
             }
@@ -5769,11 +5769,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactReferencesResult> listContactReferencesAsync(
+    public SdkFuture<ListContactReferencesResult> listContactReferencesAsync(
             final ListContactReferencesRequest listContactReferencesRequest,
             final AsyncHandler<ListContactReferencesRequest, ListContactReferencesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactReferencesResult>() {
+        return AsyncRuntime.submit(executorService, listContactReferencesRequest, new Callable<ListContactReferencesResult>() {
             public ListContactReferencesResult call() throws Exception {
                 ListContactReferencesResult result = null;
                 try {
@@ -5809,10 +5809,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDefaultVocabulariesResult> listDefaultVocabulariesAsync(
+    public SdkFuture<ListDefaultVocabulariesResult> listDefaultVocabulariesAsync(
             final ListDefaultVocabulariesRequest listDefaultVocabulariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDefaultVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, listDefaultVocabulariesRequest, new Callable<ListDefaultVocabulariesResult>() {
             public ListDefaultVocabulariesResult call() throws Exception {
                 return listDefaultVocabularies(listDefaultVocabulariesRequest);
             }
@@ -5840,11 +5840,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDefaultVocabulariesResult> listDefaultVocabulariesAsync(
+    public SdkFuture<ListDefaultVocabulariesResult> listDefaultVocabulariesAsync(
             final ListDefaultVocabulariesRequest listDefaultVocabulariesRequest,
             final AsyncHandler<ListDefaultVocabulariesRequest, ListDefaultVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDefaultVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, listDefaultVocabulariesRequest, new Callable<ListDefaultVocabulariesResult>() {
             public ListDefaultVocabulariesResult call() throws Exception {
                 ListDefaultVocabulariesResult result = null;
                 try {
@@ -5888,10 +5888,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
+    public SdkFuture<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
+        return AsyncRuntime.submit(executorService, listHoursOfOperationsRequest, new Callable<ListHoursOfOperationsResult>() {
             public ListHoursOfOperationsResult call() throws Exception {
                 return listHoursOfOperations(listHoursOfOperationsRequest);
             }
@@ -5927,11 +5927,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
+    public SdkFuture<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest,
             final AsyncHandler<ListHoursOfOperationsRequest, ListHoursOfOperationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
+        return AsyncRuntime.submit(executorService, listHoursOfOperationsRequest, new Callable<ListHoursOfOperationsResult>() {
             public ListHoursOfOperationsResult call() throws Exception {
                 ListHoursOfOperationsResult result = null;
                 try {
@@ -5972,10 +5972,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListInstanceAttributesResult> listInstanceAttributesAsync(
+    public SdkFuture<ListInstanceAttributesResult> listInstanceAttributesAsync(
             final ListInstanceAttributesRequest listInstanceAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceAttributesResult>() {
+        return AsyncRuntime.submit(executorService, listInstanceAttributesRequest, new Callable<ListInstanceAttributesResult>() {
             public ListInstanceAttributesResult call() throws Exception {
                 return listInstanceAttributes(listInstanceAttributesRequest);
             }
@@ -6008,11 +6008,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListInstanceAttributesResult> listInstanceAttributesAsync(
+    public SdkFuture<ListInstanceAttributesResult> listInstanceAttributesAsync(
             final ListInstanceAttributesRequest listInstanceAttributesRequest,
             final AsyncHandler<ListInstanceAttributesRequest, ListInstanceAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceAttributesResult>() {
+        return AsyncRuntime.submit(executorService, listInstanceAttributesRequest, new Callable<ListInstanceAttributesResult>() {
             public ListInstanceAttributesResult call() throws Exception {
                 ListInstanceAttributesResult result = null;
                 try {
@@ -6054,10 +6054,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListInstanceStorageConfigsResult> listInstanceStorageConfigsAsync(
+    public SdkFuture<ListInstanceStorageConfigsResult> listInstanceStorageConfigsAsync(
             final ListInstanceStorageConfigsRequest listInstanceStorageConfigsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceStorageConfigsResult>() {
+        return AsyncRuntime.submit(executorService, listInstanceStorageConfigsRequest, new Callable<ListInstanceStorageConfigsResult>() {
             public ListInstanceStorageConfigsResult call() throws Exception {
                 return listInstanceStorageConfigs(listInstanceStorageConfigsRequest);
             }
@@ -6091,11 +6091,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListInstanceStorageConfigsResult> listInstanceStorageConfigsAsync(
+    public SdkFuture<ListInstanceStorageConfigsResult> listInstanceStorageConfigsAsync(
             final ListInstanceStorageConfigsRequest listInstanceStorageConfigsRequest,
             final AsyncHandler<ListInstanceStorageConfigsRequest, ListInstanceStorageConfigsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceStorageConfigsResult>() {
+        return AsyncRuntime.submit(executorService, listInstanceStorageConfigsRequest, new Callable<ListInstanceStorageConfigsResult>() {
             public ListInstanceStorageConfigsResult call() throws Exception {
                 ListInstanceStorageConfigsResult result = null;
                 try {
@@ -6135,10 +6135,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListInstancesResult> listInstancesAsync(
+    public SdkFuture<ListInstancesResult> listInstancesAsync(
             final ListInstancesRequest listInstancesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListInstancesResult>() {
+        return AsyncRuntime.submit(executorService, listInstancesRequest, new Callable<ListInstancesResult>() {
             public ListInstancesResult call() throws Exception {
                 return listInstances(listInstancesRequest);
             }
@@ -6170,11 +6170,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListInstancesResult> listInstancesAsync(
+    public SdkFuture<ListInstancesResult> listInstancesAsync(
             final ListInstancesRequest listInstancesRequest,
             final AsyncHandler<ListInstancesRequest, ListInstancesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstancesResult>() {
+        return AsyncRuntime.submit(executorService, listInstancesRequest, new Callable<ListInstancesResult>() {
             public ListInstancesResult call() throws Exception {
                 ListInstancesResult result = null;
                 try {
@@ -6211,10 +6211,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListIntegrationAssociationsResult> listIntegrationAssociationsAsync(
+    public SdkFuture<ListIntegrationAssociationsResult> listIntegrationAssociationsAsync(
             final ListIntegrationAssociationsRequest listIntegrationAssociationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIntegrationAssociationsResult>() {
+        return AsyncRuntime.submit(executorService, listIntegrationAssociationsRequest, new Callable<ListIntegrationAssociationsResult>() {
             public ListIntegrationAssociationsResult call() throws Exception {
                 return listIntegrationAssociations(listIntegrationAssociationsRequest);
             }
@@ -6243,11 +6243,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListIntegrationAssociationsResult> listIntegrationAssociationsAsync(
+    public SdkFuture<ListIntegrationAssociationsResult> listIntegrationAssociationsAsync(
             final ListIntegrationAssociationsRequest listIntegrationAssociationsRequest,
             final AsyncHandler<ListIntegrationAssociationsRequest, ListIntegrationAssociationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIntegrationAssociationsResult>() {
+        return AsyncRuntime.submit(executorService, listIntegrationAssociationsRequest, new Callable<ListIntegrationAssociationsResult>() {
             public ListIntegrationAssociationsResult call() throws Exception {
                 ListIntegrationAssociationsResult result = null;
                 try {
@@ -6289,10 +6289,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListLambdaFunctionsResult> listLambdaFunctionsAsync(
+    public SdkFuture<ListLambdaFunctionsResult> listLambdaFunctionsAsync(
             final ListLambdaFunctionsRequest listLambdaFunctionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLambdaFunctionsResult>() {
+        return AsyncRuntime.submit(executorService, listLambdaFunctionsRequest, new Callable<ListLambdaFunctionsResult>() {
             public ListLambdaFunctionsResult call() throws Exception {
                 return listLambdaFunctions(listLambdaFunctionsRequest);
             }
@@ -6326,11 +6326,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListLambdaFunctionsResult> listLambdaFunctionsAsync(
+    public SdkFuture<ListLambdaFunctionsResult> listLambdaFunctionsAsync(
             final ListLambdaFunctionsRequest listLambdaFunctionsRequest,
             final AsyncHandler<ListLambdaFunctionsRequest, ListLambdaFunctionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLambdaFunctionsResult>() {
+        return AsyncRuntime.submit(executorService, listLambdaFunctionsRequest, new Callable<ListLambdaFunctionsResult>() {
             public ListLambdaFunctionsResult call() throws Exception {
                 ListLambdaFunctionsResult result = null;
                 try {
@@ -6371,9 +6371,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListLexBotsResult> listLexBotsAsync(final ListLexBotsRequest listLexBotsRequest)
+    public SdkFuture<ListLexBotsResult> listLexBotsAsync(final ListLexBotsRequest listLexBotsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLexBotsResult>() {
+        return AsyncRuntime.submit(executorService, listLexBotsRequest, new Callable<ListLexBotsResult>() {
             public ListLexBotsResult call() throws Exception {
                 return listLexBots(listLexBotsRequest);
             }
@@ -6406,10 +6406,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListLexBotsResult> listLexBotsAsync(final ListLexBotsRequest listLexBotsRequest,
+    public SdkFuture<ListLexBotsResult> listLexBotsAsync(final ListLexBotsRequest listLexBotsRequest,
             final AsyncHandler<ListLexBotsRequest, ListLexBotsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLexBotsResult>() {
+        return AsyncRuntime.submit(executorService, listLexBotsRequest, new Callable<ListLexBotsResult>() {
             public ListLexBotsResult call() throws Exception {
                 ListLexBotsResult result = null;
                 try {
@@ -6452,10 +6452,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPhoneNumbersResult> listPhoneNumbersAsync(
+    public SdkFuture<ListPhoneNumbersResult> listPhoneNumbersAsync(
             final ListPhoneNumbersRequest listPhoneNumbersRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
+        return AsyncRuntime.submit(executorService, listPhoneNumbersRequest, new Callable<ListPhoneNumbersResult>() {
             public ListPhoneNumbersResult call() throws Exception {
                 return listPhoneNumbers(listPhoneNumbersRequest);
             }
@@ -6490,11 +6490,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPhoneNumbersResult> listPhoneNumbersAsync(
+    public SdkFuture<ListPhoneNumbersResult> listPhoneNumbersAsync(
             final ListPhoneNumbersRequest listPhoneNumbersRequest,
             final AsyncHandler<ListPhoneNumbersRequest, ListPhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
+        return AsyncRuntime.submit(executorService, listPhoneNumbersRequest, new Callable<ListPhoneNumbersResult>() {
             public ListPhoneNumbersResult call() throws Exception {
                 ListPhoneNumbersResult result = null;
                 try {
@@ -6531,9 +6531,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPromptsResult> listPromptsAsync(final ListPromptsRequest listPromptsRequest)
+    public SdkFuture<ListPromptsResult> listPromptsAsync(final ListPromptsRequest listPromptsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPromptsResult>() {
+        return AsyncRuntime.submit(executorService, listPromptsRequest, new Callable<ListPromptsResult>() {
             public ListPromptsResult call() throws Exception {
                 return listPrompts(listPromptsRequest);
             }
@@ -6562,10 +6562,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPromptsResult> listPromptsAsync(final ListPromptsRequest listPromptsRequest,
+    public SdkFuture<ListPromptsResult> listPromptsAsync(final ListPromptsRequest listPromptsRequest,
             final AsyncHandler<ListPromptsRequest, ListPromptsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPromptsResult>() {
+        return AsyncRuntime.submit(executorService, listPromptsRequest, new Callable<ListPromptsResult>() {
             public ListPromptsResult call() throws Exception {
                 ListPromptsResult result = null;
                 try {
@@ -6606,10 +6606,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQueueQuickConnectsResult> listQueueQuickConnectsAsync(
+    public SdkFuture<ListQueueQuickConnectsResult> listQueueQuickConnectsAsync(
             final ListQueueQuickConnectsRequest listQueueQuickConnectsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueueQuickConnectsResult>() {
+        return AsyncRuntime.submit(executorService, listQueueQuickConnectsRequest, new Callable<ListQueueQuickConnectsResult>() {
             public ListQueueQuickConnectsResult call() throws Exception {
                 return listQueueQuickConnects(listQueueQuickConnectsRequest);
             }
@@ -6642,11 +6642,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQueueQuickConnectsResult> listQueueQuickConnectsAsync(
+    public SdkFuture<ListQueueQuickConnectsResult> listQueueQuickConnectsAsync(
             final ListQueueQuickConnectsRequest listQueueQuickConnectsRequest,
             final AsyncHandler<ListQueueQuickConnectsRequest, ListQueueQuickConnectsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueueQuickConnectsResult>() {
+        return AsyncRuntime.submit(executorService, listQueueQuickConnectsRequest, new Callable<ListQueueQuickConnectsResult>() {
             public ListQueueQuickConnectsResult call() throws Exception {
                 ListQueueQuickConnectsResult result = null;
                 try {
@@ -6695,9 +6695,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
+    public SdkFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listQueuesRequest, new Callable<ListQueuesResult>() {
             public ListQueuesResult call() throws Exception {
                 return listQueues(listQueuesRequest);
             }
@@ -6738,10 +6738,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
+    public SdkFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listQueuesRequest, new Callable<ListQueuesResult>() {
             public ListQueuesResult call() throws Exception {
                 ListQueuesResult result = null;
                 try {
@@ -6778,10 +6778,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQuickConnectsResult> listQuickConnectsAsync(
+    public SdkFuture<ListQuickConnectsResult> listQuickConnectsAsync(
             final ListQuickConnectsRequest listQuickConnectsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListQuickConnectsResult>() {
+        return AsyncRuntime.submit(executorService, listQuickConnectsRequest, new Callable<ListQuickConnectsResult>() {
             public ListQuickConnectsResult call() throws Exception {
                 return listQuickConnects(listQuickConnectsRequest);
             }
@@ -6810,11 +6810,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQuickConnectsResult> listQuickConnectsAsync(
+    public SdkFuture<ListQuickConnectsResult> listQuickConnectsAsync(
             final ListQuickConnectsRequest listQuickConnectsRequest,
             final AsyncHandler<ListQuickConnectsRequest, ListQuickConnectsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQuickConnectsResult>() {
+        return AsyncRuntime.submit(executorService, listQuickConnectsRequest, new Callable<ListQuickConnectsResult>() {
             public ListQuickConnectsResult call() throws Exception {
                 ListQuickConnectsResult result = null;
                 try {
@@ -6851,10 +6851,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListRoutingProfileQueuesResult> listRoutingProfileQueuesAsync(
+    public SdkFuture<ListRoutingProfileQueuesResult> listRoutingProfileQueuesAsync(
             final ListRoutingProfileQueuesRequest listRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfileQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listRoutingProfileQueuesRequest, new Callable<ListRoutingProfileQueuesResult>() {
             public ListRoutingProfileQueuesResult call() throws Exception {
                 return listRoutingProfileQueues(listRoutingProfileQueuesRequest);
             }
@@ -6883,11 +6883,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListRoutingProfileQueuesResult> listRoutingProfileQueuesAsync(
+    public SdkFuture<ListRoutingProfileQueuesResult> listRoutingProfileQueuesAsync(
             final ListRoutingProfileQueuesRequest listRoutingProfileQueuesRequest,
             final AsyncHandler<ListRoutingProfileQueuesRequest, ListRoutingProfileQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfileQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listRoutingProfileQueuesRequest, new Callable<ListRoutingProfileQueuesResult>() {
             public ListRoutingProfileQueuesResult call() throws Exception {
                 ListRoutingProfileQueuesResult result = null;
                 try {
@@ -6933,10 +6933,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListRoutingProfilesResult> listRoutingProfilesAsync(
+    public SdkFuture<ListRoutingProfilesResult> listRoutingProfilesAsync(
             final ListRoutingProfilesRequest listRoutingProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
+        return AsyncRuntime.submit(executorService, listRoutingProfilesRequest, new Callable<ListRoutingProfilesResult>() {
             public ListRoutingProfilesResult call() throws Exception {
                 return listRoutingProfiles(listRoutingProfilesRequest);
             }
@@ -6974,11 +6974,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListRoutingProfilesResult> listRoutingProfilesAsync(
+    public SdkFuture<ListRoutingProfilesResult> listRoutingProfilesAsync(
             final ListRoutingProfilesRequest listRoutingProfilesRequest,
             final AsyncHandler<ListRoutingProfilesRequest, ListRoutingProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
+        return AsyncRuntime.submit(executorService, listRoutingProfilesRequest, new Callable<ListRoutingProfilesResult>() {
             public ListRoutingProfilesResult call() throws Exception {
                 ListRoutingProfilesResult result = null;
                 try {
@@ -7019,10 +7019,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityKeysResult> listSecurityKeysAsync(
+    public SdkFuture<ListSecurityKeysResult> listSecurityKeysAsync(
             final ListSecurityKeysRequest listSecurityKeysRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityKeysResult>() {
+        return AsyncRuntime.submit(executorService, listSecurityKeysRequest, new Callable<ListSecurityKeysResult>() {
             public ListSecurityKeysResult call() throws Exception {
                 return listSecurityKeys(listSecurityKeysRequest);
             }
@@ -7055,11 +7055,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityKeysResult> listSecurityKeysAsync(
+    public SdkFuture<ListSecurityKeysResult> listSecurityKeysAsync(
             final ListSecurityKeysRequest listSecurityKeysRequest,
             final AsyncHandler<ListSecurityKeysRequest, ListSecurityKeysResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityKeysResult>() {
+        return AsyncRuntime.submit(executorService, listSecurityKeysRequest, new Callable<ListSecurityKeysResult>() {
             public ListSecurityKeysResult call() throws Exception {
                 ListSecurityKeysResult result = null;
                 try {
@@ -7100,10 +7100,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityProfilePermissionsResult> listSecurityProfilePermissionsAsync(
+    public SdkFuture<ListSecurityProfilePermissionsResult> listSecurityProfilePermissionsAsync(
             final ListSecurityProfilePermissionsRequest listSecurityProfilePermissionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilePermissionsResult>() {
+        return AsyncRuntime.submit(executorService, listSecurityProfilePermissionsRequest, new Callable<ListSecurityProfilePermissionsResult>() {
             public ListSecurityProfilePermissionsResult call() throws Exception {
                 return listSecurityProfilePermissions(listSecurityProfilePermissionsRequest);
             }
@@ -7136,11 +7136,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityProfilePermissionsResult> listSecurityProfilePermissionsAsync(
+    public SdkFuture<ListSecurityProfilePermissionsResult> listSecurityProfilePermissionsAsync(
             final ListSecurityProfilePermissionsRequest listSecurityProfilePermissionsRequest,
             final AsyncHandler<ListSecurityProfilePermissionsRequest, ListSecurityProfilePermissionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilePermissionsResult>() {
+        return AsyncRuntime.submit(executorService, listSecurityProfilePermissionsRequest, new Callable<ListSecurityProfilePermissionsResult>() {
             public ListSecurityProfilePermissionsResult call() throws Exception {
                 ListSecurityProfilePermissionsResult result = null;
                 try {
@@ -7183,10 +7183,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityProfilesResult> listSecurityProfilesAsync(
+    public SdkFuture<ListSecurityProfilesResult> listSecurityProfilesAsync(
             final ListSecurityProfilesRequest listSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
+        return AsyncRuntime.submit(executorService, listSecurityProfilesRequest, new Callable<ListSecurityProfilesResult>() {
             public ListSecurityProfilesResult call() throws Exception {
                 return listSecurityProfiles(listSecurityProfilesRequest);
             }
@@ -7221,11 +7221,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityProfilesResult> listSecurityProfilesAsync(
+    public SdkFuture<ListSecurityProfilesResult> listSecurityProfilesAsync(
             final ListSecurityProfilesRequest listSecurityProfilesRequest,
             final AsyncHandler<ListSecurityProfilesRequest, ListSecurityProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
+        return AsyncRuntime.submit(executorService, listSecurityProfilesRequest, new Callable<ListSecurityProfilesResult>() {
             public ListSecurityProfilesResult call() throws Exception {
                 ListSecurityProfilesResult result = null;
                 try {
@@ -7268,10 +7268,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 return listTagsForResource(listTagsForResourceRequest);
             }
@@ -7306,11 +7306,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 ListTagsForResourceResult result = null;
                 try {
@@ -7348,10 +7348,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUseCasesResult> listUseCasesAsync(
+    public SdkFuture<ListUseCasesResult> listUseCasesAsync(
             final ListUseCasesRequest listUseCasesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListUseCasesResult>() {
+        return AsyncRuntime.submit(executorService, listUseCasesRequest, new Callable<ListUseCasesResult>() {
             public ListUseCasesResult call() throws Exception {
                 return listUseCases(listUseCasesRequest);
             }
@@ -7381,11 +7381,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUseCasesResult> listUseCasesAsync(
+    public SdkFuture<ListUseCasesResult> listUseCasesAsync(
             final ListUseCasesRequest listUseCasesRequest,
             final AsyncHandler<ListUseCasesRequest, ListUseCasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUseCasesResult>() {
+        return AsyncRuntime.submit(executorService, listUseCasesRequest, new Callable<ListUseCasesResult>() {
             public ListUseCasesResult call() throws Exception {
                 ListUseCasesResult result = null;
                 try {
@@ -7429,10 +7429,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
+    public SdkFuture<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
+        return AsyncRuntime.submit(executorService, listUserHierarchyGroupsRequest, new Callable<ListUserHierarchyGroupsResult>() {
             public ListUserHierarchyGroupsResult call() throws Exception {
                 return listUserHierarchyGroups(listUserHierarchyGroupsRequest);
             }
@@ -7468,11 +7468,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
+    public SdkFuture<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest,
             final AsyncHandler<ListUserHierarchyGroupsRequest, ListUserHierarchyGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
+        return AsyncRuntime.submit(executorService, listUserHierarchyGroupsRequest, new Callable<ListUserHierarchyGroupsResult>() {
             public ListUserHierarchyGroupsResult call() throws Exception {
                 ListUserHierarchyGroupsResult result = null;
                 try {
@@ -7509,9 +7509,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest)
+    public SdkFuture<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
+        return AsyncRuntime.submit(executorService, listUsersRequest, new Callable<ListUsersResult>() {
             public ListUsersResult call() throws Exception {
                 return listUsers(listUsersRequest);
             }
@@ -7540,10 +7540,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest,
+    public SdkFuture<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest,
             final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
+        return AsyncRuntime.submit(executorService, listUsersRequest, new Callable<ListUsersResult>() {
             public ListUsersResult call() throws Exception {
                 ListUsersResult result = null;
                 try {
@@ -7582,10 +7582,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ResumeContactRecordingResult> resumeContactRecordingAsync(
+    public SdkFuture<ResumeContactRecordingResult> resumeContactRecordingAsync(
             final ResumeContactRecordingRequest resumeContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResumeContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, resumeContactRecordingRequest, new Callable<ResumeContactRecordingResult>() {
             public ResumeContactRecordingResult call() throws Exception {
                 return resumeContactRecording(resumeContactRecordingRequest);
             }
@@ -7616,11 +7616,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ResumeContactRecordingResult> resumeContactRecordingAsync(
+    public SdkFuture<ResumeContactRecordingResult> resumeContactRecordingAsync(
             final ResumeContactRecordingRequest resumeContactRecordingRequest,
             final AsyncHandler<ResumeContactRecordingRequest, ResumeContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResumeContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, resumeContactRecordingRequest, new Callable<ResumeContactRecordingResult>() {
             public ResumeContactRecordingResult call() throws Exception {
                 ResumeContactRecordingResult result = null;
                 try {
@@ -7657,10 +7657,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<SearchVocabulariesResult> searchVocabulariesAsync(
+    public SdkFuture<SearchVocabulariesResult> searchVocabulariesAsync(
             final SearchVocabulariesRequest searchVocabulariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, searchVocabulariesRequest, new Callable<SearchVocabulariesResult>() {
             public SearchVocabulariesResult call() throws Exception {
                 return searchVocabularies(searchVocabulariesRequest);
             }
@@ -7689,11 +7689,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<SearchVocabulariesResult> searchVocabulariesAsync(
+    public SdkFuture<SearchVocabulariesResult> searchVocabulariesAsync(
             final SearchVocabulariesRequest searchVocabulariesRequest,
             final AsyncHandler<SearchVocabulariesRequest, SearchVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, searchVocabulariesRequest, new Callable<SearchVocabulariesResult>() {
             public SearchVocabulariesResult call() throws Exception {
                 SearchVocabulariesResult result = null;
                 try {
@@ -7772,10 +7772,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartChatContactResult> startChatContactAsync(
+    public SdkFuture<StartChatContactResult> startChatContactAsync(
             final StartChatContactRequest startChatContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
+        return AsyncRuntime.submit(executorService, startChatContactRequest, new Callable<StartChatContactResult>() {
             public StartChatContactResult call() throws Exception {
                 return startChatContact(startChatContactRequest);
             }
@@ -7846,11 +7846,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartChatContactResult> startChatContactAsync(
+    public SdkFuture<StartChatContactResult> startChatContactAsync(
             final StartChatContactRequest startChatContactRequest,
             final AsyncHandler<StartChatContactRequest, StartChatContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
+        return AsyncRuntime.submit(executorService, startChatContactRequest, new Callable<StartChatContactResult>() {
             public StartChatContactResult call() throws Exception {
                 StartChatContactResult result = null;
                 try {
@@ -7901,10 +7901,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartContactRecordingResult> startContactRecordingAsync(
+    public SdkFuture<StartContactRecordingResult> startContactRecordingAsync(
             final StartContactRecordingRequest startContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, startContactRecordingRequest, new Callable<StartContactRecordingResult>() {
             public StartContactRecordingResult call() throws Exception {
                 return startContactRecording(startContactRecordingRequest);
             }
@@ -7947,11 +7947,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartContactRecordingResult> startContactRecordingAsync(
+    public SdkFuture<StartContactRecordingResult> startContactRecordingAsync(
             final StartContactRecordingRequest startContactRecordingRequest,
             final AsyncHandler<StartContactRecordingRequest, StartContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, startContactRecordingRequest, new Callable<StartContactRecordingResult>() {
             public StartContactRecordingResult call() throws Exception {
                 StartContactRecordingResult result = null;
                 try {
@@ -7994,10 +7994,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartContactStreamingResult> startContactStreamingAsync(
+    public SdkFuture<StartContactStreamingResult> startContactStreamingAsync(
             final StartContactStreamingRequest startContactStreamingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactStreamingResult>() {
+        return AsyncRuntime.submit(executorService, startContactStreamingRequest, new Callable<StartContactStreamingResult>() {
             public StartContactStreamingResult call() throws Exception {
                 return startContactStreaming(startContactStreamingRequest);
             }
@@ -8032,11 +8032,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartContactStreamingResult> startContactStreamingAsync(
+    public SdkFuture<StartContactStreamingResult> startContactStreamingAsync(
             final StartContactStreamingRequest startContactStreamingRequest,
             final AsyncHandler<StartContactStreamingRequest, StartContactStreamingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartContactStreamingResult>() {
+        return AsyncRuntime.submit(executorService, startContactStreamingRequest, new Callable<StartContactStreamingResult>() {
             public StartContactStreamingResult call() throws Exception {
                 StartContactStreamingResult result = null;
                 try {
@@ -8106,10 +8106,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
+    public SdkFuture<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
+        return AsyncRuntime.submit(executorService, startOutboundVoiceContactRequest, new Callable<StartOutboundVoiceContactResult>() {
             public StartOutboundVoiceContactResult call() throws Exception {
                 return startOutboundVoiceContact(startOutboundVoiceContactRequest);
             }
@@ -8171,11 +8171,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
+    public SdkFuture<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest,
             final AsyncHandler<StartOutboundVoiceContactRequest, StartOutboundVoiceContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
+        return AsyncRuntime.submit(executorService, startOutboundVoiceContactRequest, new Callable<StartOutboundVoiceContactResult>() {
             public StartOutboundVoiceContactResult call() throws Exception {
                 StartOutboundVoiceContactResult result = null;
                 try {
@@ -8212,10 +8212,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTaskContactResult> startTaskContactAsync(
+    public SdkFuture<StartTaskContactResult> startTaskContactAsync(
             final StartTaskContactRequest startTaskContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<StartTaskContactResult>() {
+        return AsyncRuntime.submit(executorService, startTaskContactRequest, new Callable<StartTaskContactResult>() {
             public StartTaskContactResult call() throws Exception {
                 return startTaskContact(startTaskContactRequest);
             }
@@ -8244,11 +8244,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTaskContactResult> startTaskContactAsync(
+    public SdkFuture<StartTaskContactResult> startTaskContactAsync(
             final StartTaskContactRequest startTaskContactRequest,
             final AsyncHandler<StartTaskContactRequest, StartTaskContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTaskContactResult>() {
+        return AsyncRuntime.submit(executorService, startTaskContactRequest, new Callable<StartTaskContactResult>() {
             public StartTaskContactResult call() throws Exception {
                 StartTaskContactResult result = null;
                 try {
@@ -8284,9 +8284,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest)
+    public SdkFuture<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
+        return AsyncRuntime.submit(executorService, stopContactRequest, new Callable<StopContactResult>() {
             public StopContactResult call() throws Exception {
                 return stopContact(stopContactRequest);
             }
@@ -8314,10 +8314,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest,
+    public SdkFuture<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest,
             final AsyncHandler<StopContactRequest, StopContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
+        return AsyncRuntime.submit(executorService, stopContactRequest, new Callable<StopContactResult>() {
             public StopContactResult call() throws Exception {
                 StopContactResult result = null;
                 try {
@@ -8361,10 +8361,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactRecordingResult> stopContactRecordingAsync(
+    public SdkFuture<StopContactRecordingResult> stopContactRecordingAsync(
             final StopContactRecordingRequest stopContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, stopContactRecordingRequest, new Callable<StopContactRecordingResult>() {
             public StopContactRecordingResult call() throws Exception {
                 return stopContactRecording(stopContactRecordingRequest);
             }
@@ -8400,11 +8400,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactRecordingResult> stopContactRecordingAsync(
+    public SdkFuture<StopContactRecordingResult> stopContactRecordingAsync(
             final StopContactRecordingRequest stopContactRecordingRequest,
             final AsyncHandler<StopContactRecordingRequest, StopContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, stopContactRecordingRequest, new Callable<StopContactRecordingResult>() {
             public StopContactRecordingResult call() throws Exception {
                 StopContactRecordingResult result = null;
                 try {
@@ -8443,10 +8443,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactStreamingResult> stopContactStreamingAsync(
+    public SdkFuture<StopContactStreamingResult> stopContactStreamingAsync(
             final StopContactStreamingRequest stopContactStreamingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactStreamingResult>() {
+        return AsyncRuntime.submit(executorService, stopContactStreamingRequest, new Callable<StopContactStreamingResult>() {
             public StopContactStreamingResult call() throws Exception {
                 return stopContactStreaming(stopContactStreamingRequest);
             }
@@ -8477,11 +8477,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactStreamingResult> stopContactStreamingAsync(
+    public SdkFuture<StopContactStreamingResult> stopContactStreamingAsync(
             final StopContactStreamingRequest stopContactStreamingRequest,
             final AsyncHandler<StopContactStreamingRequest, StopContactStreamingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactStreamingResult>() {
+        return AsyncRuntime.submit(executorService, stopContactStreamingRequest, new Callable<StopContactStreamingResult>() {
             public StopContactStreamingResult call() throws Exception {
                 StopContactStreamingResult result = null;
                 try {
@@ -8526,10 +8526,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<SuspendContactRecordingResult> suspendContactRecordingAsync(
+    public SdkFuture<SuspendContactRecordingResult> suspendContactRecordingAsync(
             final SuspendContactRecordingRequest suspendContactRecordingRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SuspendContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, suspendContactRecordingRequest, new Callable<SuspendContactRecordingResult>() {
             public SuspendContactRecordingResult call() throws Exception {
                 return suspendContactRecording(suspendContactRecordingRequest);
             }
@@ -8566,11 +8566,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<SuspendContactRecordingResult> suspendContactRecordingAsync(
+    public SdkFuture<SuspendContactRecordingResult> suspendContactRecordingAsync(
             final SuspendContactRecordingRequest suspendContactRecordingRequest,
             final AsyncHandler<SuspendContactRecordingRequest, SuspendContactRecordingResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SuspendContactRecordingResult>() {
+        return AsyncRuntime.submit(executorService, suspendContactRecordingRequest, new Callable<SuspendContactRecordingResult>() {
             public SuspendContactRecordingResult call() throws Exception {
                 SuspendContactRecordingResult result = null;
                 try {
@@ -8616,9 +8616,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public SdkFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 tagResource(tagResourceRequest);
                 return null;
@@ -8657,10 +8657,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public SdkFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -8696,9 +8696,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
+    public SdkFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 untagResource(untagResourceRequest);
                 return null;
@@ -8727,10 +8727,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
+    public SdkFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -8772,10 +8772,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateAgentStatusAsync(
+    public SdkFuture<Void> updateAgentStatusAsync(
             final UpdateAgentStatusRequest updateAgentStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateAgentStatusRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateAgentStatus(updateAgentStatusRequest);
                 return null;
@@ -8810,11 +8810,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateAgentStatusAsync(
+    public SdkFuture<Void> updateAgentStatusAsync(
             final UpdateAgentStatusRequest updateAgentStatusRequest,
             final AsyncHandler<UpdateAgentStatusRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateAgentStatusRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -8862,10 +8862,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactResult> updateContactAsync(
+    public SdkFuture<UpdateContactResult> updateContactAsync(
             final UpdateContactRequest updateContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactResult>() {
+        return AsyncRuntime.submit(executorService, updateContactRequest, new Callable<UpdateContactResult>() {
             public UpdateContactResult call() throws Exception {
                 return updateContact(updateContactRequest);
             }
@@ -8905,11 +8905,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactResult> updateContactAsync(
+    public SdkFuture<UpdateContactResult> updateContactAsync(
             final UpdateContactRequest updateContactRequest,
             final AsyncHandler<UpdateContactRequest, UpdateContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactResult>() {
+        return AsyncRuntime.submit(executorService, updateContactRequest, new Callable<UpdateContactResult>() {
             public UpdateContactResult call() throws Exception {
                 UpdateContactResult result = null;
                 try {
@@ -8973,10 +8973,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactAttributesResult> updateContactAttributesAsync(
+    public SdkFuture<UpdateContactAttributesResult> updateContactAttributesAsync(
             final UpdateContactAttributesRequest updateContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
+        return AsyncRuntime.submit(executorService, updateContactAttributesRequest, new Callable<UpdateContactAttributesResult>() {
             public UpdateContactAttributesResult call() throws Exception {
                 return updateContactAttributes(updateContactAttributesRequest);
             }
@@ -9032,11 +9032,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactAttributesResult> updateContactAttributesAsync(
+    public SdkFuture<UpdateContactAttributesResult> updateContactAttributesAsync(
             final UpdateContactAttributesRequest updateContactAttributesRequest,
             final AsyncHandler<UpdateContactAttributesRequest, UpdateContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
+        return AsyncRuntime.submit(executorService, updateContactAttributesRequest, new Callable<UpdateContactAttributesResult>() {
             public UpdateContactAttributesResult call() throws Exception {
                 UpdateContactAttributesResult result = null;
                 try {
@@ -9079,10 +9079,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateContactFlowContentAsync(
+    public SdkFuture<Void> updateContactFlowContentAsync(
             final UpdateContactFlowContentRequest updateContactFlowContentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowContentRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateContactFlowContent(updateContactFlowContentRequest);
                 return null;
@@ -9118,11 +9118,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateContactFlowContentAsync(
+    public SdkFuture<Void> updateContactFlowContentAsync(
             final UpdateContactFlowContentRequest updateContactFlowContentRequest,
             final AsyncHandler<UpdateContactFlowContentRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowContentRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9160,10 +9160,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateContactFlowMetadataAsync(
+    public SdkFuture<Void> updateContactFlowMetadataAsync(
             final UpdateContactFlowMetadataRequest updateContactFlowMetadataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowMetadataRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateContactFlowMetadata(updateContactFlowMetadataRequest);
                 return null;
@@ -9194,11 +9194,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateContactFlowMetadataAsync(
+    public SdkFuture<Void> updateContactFlowMetadataAsync(
             final UpdateContactFlowMetadataRequest updateContactFlowMetadataRequest,
             final AsyncHandler<UpdateContactFlowMetadataRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowMetadataRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9237,10 +9237,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactFlowModuleContentResult> updateContactFlowModuleContentAsync(
+    public SdkFuture<UpdateContactFlowModuleContentResult> updateContactFlowModuleContentAsync(
             final UpdateContactFlowModuleContentRequest updateContactFlowModuleContentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleContentResult>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowModuleContentRequest, new Callable<UpdateContactFlowModuleContentResult>() {
             public UpdateContactFlowModuleContentResult call() throws Exception {
                 return updateContactFlowModuleContent(updateContactFlowModuleContentRequest);
             }
@@ -9271,11 +9271,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactFlowModuleContentResult> updateContactFlowModuleContentAsync(
+    public SdkFuture<UpdateContactFlowModuleContentResult> updateContactFlowModuleContentAsync(
             final UpdateContactFlowModuleContentRequest updateContactFlowModuleContentRequest,
             final AsyncHandler<UpdateContactFlowModuleContentRequest, UpdateContactFlowModuleContentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleContentResult>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowModuleContentRequest, new Callable<UpdateContactFlowModuleContentResult>() {
             public UpdateContactFlowModuleContentResult call() throws Exception {
                 UpdateContactFlowModuleContentResult result = null;
                 try {
@@ -9314,10 +9314,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactFlowModuleMetadataResult> updateContactFlowModuleMetadataAsync(
+    public SdkFuture<UpdateContactFlowModuleMetadataResult> updateContactFlowModuleMetadataAsync(
             final UpdateContactFlowModuleMetadataRequest updateContactFlowModuleMetadataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleMetadataResult>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowModuleMetadataRequest, new Callable<UpdateContactFlowModuleMetadataResult>() {
             public UpdateContactFlowModuleMetadataResult call() throws Exception {
                 return updateContactFlowModuleMetadata(updateContactFlowModuleMetadataRequest);
             }
@@ -9348,11 +9348,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactFlowModuleMetadataResult> updateContactFlowModuleMetadataAsync(
+    public SdkFuture<UpdateContactFlowModuleMetadataResult> updateContactFlowModuleMetadataAsync(
             final UpdateContactFlowModuleMetadataRequest updateContactFlowModuleMetadataRequest,
             final AsyncHandler<UpdateContactFlowModuleMetadataRequest, UpdateContactFlowModuleMetadataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactFlowModuleMetadataResult>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowModuleMetadataRequest, new Callable<UpdateContactFlowModuleMetadataResult>() {
             public UpdateContactFlowModuleMetadataResult call() throws Exception {
                 UpdateContactFlowModuleMetadataResult result = null;
                 try {
@@ -9395,10 +9395,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateContactFlowNameAsync(
+    public SdkFuture<Void> updateContactFlowNameAsync(
             final UpdateContactFlowNameRequest updateContactFlowNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateContactFlowName(updateContactFlowNameRequest);
                 return null;
@@ -9434,11 +9434,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateContactFlowNameAsync(
+    public SdkFuture<Void> updateContactFlowNameAsync(
             final UpdateContactFlowNameRequest updateContactFlowNameRequest,
             final AsyncHandler<UpdateContactFlowNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateContactFlowNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9476,10 +9476,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactScheduleResult> updateContactScheduleAsync(
+    public SdkFuture<UpdateContactScheduleResult> updateContactScheduleAsync(
             final UpdateContactScheduleRequest updateContactScheduleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactScheduleResult>() {
+        return AsyncRuntime.submit(executorService, updateContactScheduleRequest, new Callable<UpdateContactScheduleResult>() {
             public UpdateContactScheduleResult call() throws Exception {
                 return updateContactSchedule(updateContactScheduleRequest);
             }
@@ -9509,11 +9509,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactScheduleResult> updateContactScheduleAsync(
+    public SdkFuture<UpdateContactScheduleResult> updateContactScheduleAsync(
             final UpdateContactScheduleRequest updateContactScheduleRequest,
             final AsyncHandler<UpdateContactScheduleRequest, UpdateContactScheduleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactScheduleResult>() {
+        return AsyncRuntime.submit(executorService, updateContactScheduleRequest, new Callable<UpdateContactScheduleResult>() {
             public UpdateContactScheduleResult call() throws Exception {
                 UpdateContactScheduleResult result = null;
                 try {
@@ -9555,10 +9555,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateHoursOfOperationAsync(
+    public SdkFuture<Void> updateHoursOfOperationAsync(
             final UpdateHoursOfOperationRequest updateHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateHoursOfOperationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateHoursOfOperation(updateHoursOfOperationRequest);
                 return null;
@@ -9593,11 +9593,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateHoursOfOperationAsync(
+    public SdkFuture<Void> updateHoursOfOperationAsync(
             final UpdateHoursOfOperationRequest updateHoursOfOperationRequest,
             final AsyncHandler<UpdateHoursOfOperationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateHoursOfOperationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9638,10 +9638,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateInstanceAttributeAsync(
+    public SdkFuture<Void> updateInstanceAttributeAsync(
             final UpdateInstanceAttributeRequest updateInstanceAttributeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateInstanceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateInstanceAttribute(updateInstanceAttributeRequest);
                 return null;
@@ -9675,11 +9675,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateInstanceAttributeAsync(
+    public SdkFuture<Void> updateInstanceAttributeAsync(
             final UpdateInstanceAttributeRequest updateInstanceAttributeRequest,
             final AsyncHandler<UpdateInstanceAttributeRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateInstanceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9721,10 +9721,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateInstanceStorageConfigAsync(
+    public SdkFuture<Void> updateInstanceStorageConfigAsync(
             final UpdateInstanceStorageConfigRequest updateInstanceStorageConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateInstanceStorageConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateInstanceStorageConfig(updateInstanceStorageConfigRequest);
                 return null;
@@ -9759,11 +9759,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateInstanceStorageConfigAsync(
+    public SdkFuture<Void> updateInstanceStorageConfigAsync(
             final UpdateInstanceStorageConfigRequest updateInstanceStorageConfigRequest,
             final AsyncHandler<UpdateInstanceStorageConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateInstanceStorageConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9804,10 +9804,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueHoursOfOperationAsync(
+    public SdkFuture<Void> updateQueueHoursOfOperationAsync(
             final UpdateQueueHoursOfOperationRequest updateQueueHoursOfOperationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueHoursOfOperationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQueueHoursOfOperation(updateQueueHoursOfOperationRequest);
                 return null;
@@ -9841,11 +9841,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueHoursOfOperationAsync(
+    public SdkFuture<Void> updateQueueHoursOfOperationAsync(
             final UpdateQueueHoursOfOperationRequest updateQueueHoursOfOperationRequest,
             final AsyncHandler<UpdateQueueHoursOfOperationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueHoursOfOperationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9887,10 +9887,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueMaxContactsAsync(
+    public SdkFuture<Void> updateQueueMaxContactsAsync(
             final UpdateQueueMaxContactsRequest updateQueueMaxContactsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueMaxContactsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQueueMaxContacts(updateQueueMaxContactsRequest);
                 return null;
@@ -9925,11 +9925,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueMaxContactsAsync(
+    public SdkFuture<Void> updateQueueMaxContactsAsync(
             final UpdateQueueMaxContactsRequest updateQueueMaxContactsRequest,
             final AsyncHandler<UpdateQueueMaxContactsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueMaxContactsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -9971,9 +9971,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueNameAsync(final UpdateQueueNameRequest updateQueueNameRequest)
+    public SdkFuture<Void> updateQueueNameAsync(final UpdateQueueNameRequest updateQueueNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQueueName(updateQueueNameRequest);
                 return null;
@@ -10008,10 +10008,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueNameAsync(final UpdateQueueNameRequest updateQueueNameRequest,
+    public SdkFuture<Void> updateQueueNameAsync(final UpdateQueueNameRequest updateQueueNameRequest,
             final AsyncHandler<UpdateQueueNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10053,10 +10053,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueOutboundCallerConfigAsync(
+    public SdkFuture<Void> updateQueueOutboundCallerConfigAsync(
             final UpdateQueueOutboundCallerConfigRequest updateQueueOutboundCallerConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueOutboundCallerConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQueueOutboundCallerConfig(updateQueueOutboundCallerConfigRequest);
                 return null;
@@ -10091,11 +10091,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueOutboundCallerConfigAsync(
+    public SdkFuture<Void> updateQueueOutboundCallerConfigAsync(
             final UpdateQueueOutboundCallerConfigRequest updateQueueOutboundCallerConfigRequest,
             final AsyncHandler<UpdateQueueOutboundCallerConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueOutboundCallerConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10135,10 +10135,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueStatusAsync(
+    public SdkFuture<Void> updateQueueStatusAsync(
             final UpdateQueueStatusRequest updateQueueStatusRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueStatusRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQueueStatus(updateQueueStatusRequest);
                 return null;
@@ -10171,11 +10171,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQueueStatusAsync(
+    public SdkFuture<Void> updateQueueStatusAsync(
             final UpdateQueueStatusRequest updateQueueStatusRequest,
             final AsyncHandler<UpdateQueueStatusRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQueueStatusRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10212,10 +10212,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQuickConnectConfigAsync(
+    public SdkFuture<Void> updateQuickConnectConfigAsync(
             final UpdateQuickConnectConfigRequest updateQuickConnectConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQuickConnectConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQuickConnectConfig(updateQuickConnectConfigRequest);
                 return null;
@@ -10245,11 +10245,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQuickConnectConfigAsync(
+    public SdkFuture<Void> updateQuickConnectConfigAsync(
             final UpdateQuickConnectConfigRequest updateQuickConnectConfigRequest,
             final AsyncHandler<UpdateQuickConnectConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQuickConnectConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10288,10 +10288,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQuickConnectNameAsync(
+    public SdkFuture<Void> updateQuickConnectNameAsync(
             final UpdateQuickConnectNameRequest updateQuickConnectNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQuickConnectNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateQuickConnectName(updateQuickConnectNameRequest);
                 return null;
@@ -10323,11 +10323,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateQuickConnectNameAsync(
+    public SdkFuture<Void> updateQuickConnectNameAsync(
             final UpdateQuickConnectNameRequest updateQuickConnectNameRequest,
             final AsyncHandler<UpdateQuickConnectNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateQuickConnectNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10365,10 +10365,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileConcurrencyAsync(
+    public SdkFuture<Void> updateRoutingProfileConcurrencyAsync(
             final UpdateRoutingProfileConcurrencyRequest updateRoutingProfileConcurrencyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileConcurrencyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateRoutingProfileConcurrency(updateRoutingProfileConcurrencyRequest);
                 return null;
@@ -10399,11 +10399,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileConcurrencyAsync(
+    public SdkFuture<Void> updateRoutingProfileConcurrencyAsync(
             final UpdateRoutingProfileConcurrencyRequest updateRoutingProfileConcurrencyRequest,
             final AsyncHandler<UpdateRoutingProfileConcurrencyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileConcurrencyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10440,10 +10440,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileDefaultOutboundQueueAsync(
+    public SdkFuture<Void> updateRoutingProfileDefaultOutboundQueueAsync(
             final UpdateRoutingProfileDefaultOutboundQueueRequest updateRoutingProfileDefaultOutboundQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileDefaultOutboundQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateRoutingProfileDefaultOutboundQueue(updateRoutingProfileDefaultOutboundQueueRequest);
                 return null;
@@ -10473,11 +10473,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileDefaultOutboundQueueAsync(
+    public SdkFuture<Void> updateRoutingProfileDefaultOutboundQueueAsync(
             final UpdateRoutingProfileDefaultOutboundQueueRequest updateRoutingProfileDefaultOutboundQueueRequest,
             final AsyncHandler<UpdateRoutingProfileDefaultOutboundQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileDefaultOutboundQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10517,10 +10517,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileNameAsync(
+    public SdkFuture<Void> updateRoutingProfileNameAsync(
             final UpdateRoutingProfileNameRequest updateRoutingProfileNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateRoutingProfileName(updateRoutingProfileNameRequest);
                 return null;
@@ -10553,11 +10553,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileNameAsync(
+    public SdkFuture<Void> updateRoutingProfileNameAsync(
             final UpdateRoutingProfileNameRequest updateRoutingProfileNameRequest,
             final AsyncHandler<UpdateRoutingProfileNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10595,10 +10595,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileQueuesAsync(
+    public SdkFuture<Void> updateRoutingProfileQueuesAsync(
             final UpdateRoutingProfileQueuesRequest updateRoutingProfileQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileQueuesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateRoutingProfileQueues(updateRoutingProfileQueuesRequest);
                 return null;
@@ -10629,11 +10629,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateRoutingProfileQueuesAsync(
+    public SdkFuture<Void> updateRoutingProfileQueuesAsync(
             final UpdateRoutingProfileQueuesRequest updateRoutingProfileQueuesRequest,
             final AsyncHandler<UpdateRoutingProfileQueuesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateRoutingProfileQueuesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10674,10 +10674,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateSecurityProfileAsync(
+    public SdkFuture<Void> updateSecurityProfileAsync(
             final UpdateSecurityProfileRequest updateSecurityProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateSecurityProfileRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateSecurityProfile(updateSecurityProfileRequest);
                 return null;
@@ -10711,11 +10711,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateSecurityProfileAsync(
+    public SdkFuture<Void> updateSecurityProfileAsync(
             final UpdateSecurityProfileRequest updateSecurityProfileRequest,
             final AsyncHandler<UpdateSecurityProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateSecurityProfileRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10752,10 +10752,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyAsync(
+    public SdkFuture<Void> updateUserHierarchyAsync(
             final UpdateUserHierarchyRequest updateUserHierarchyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserHierarchyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserHierarchy(updateUserHierarchyRequest);
                 return null;
@@ -10785,11 +10785,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyAsync(
+    public SdkFuture<Void> updateUserHierarchyAsync(
             final UpdateUserHierarchyRequest updateUserHierarchyRequest,
             final AsyncHandler<UpdateUserHierarchyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserHierarchyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10827,10 +10827,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyGroupNameAsync(
+    public SdkFuture<Void> updateUserHierarchyGroupNameAsync(
             final UpdateUserHierarchyGroupNameRequest updateUserHierarchyGroupNameRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserHierarchyGroupNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserHierarchyGroupName(updateUserHierarchyGroupNameRequest);
                 return null;
@@ -10861,11 +10861,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyGroupNameAsync(
+    public SdkFuture<Void> updateUserHierarchyGroupNameAsync(
             final UpdateUserHierarchyGroupNameRequest updateUserHierarchyGroupNameRequest,
             final AsyncHandler<UpdateUserHierarchyGroupNameRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserHierarchyGroupNameRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10904,10 +10904,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyStructureAsync(
+    public SdkFuture<Void> updateUserHierarchyStructureAsync(
             final UpdateUserHierarchyStructureRequest updateUserHierarchyStructureRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserHierarchyStructureRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserHierarchyStructure(updateUserHierarchyStructureRequest);
                 return null;
@@ -10939,11 +10939,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyStructureAsync(
+    public SdkFuture<Void> updateUserHierarchyStructureAsync(
             final UpdateUserHierarchyStructureRequest updateUserHierarchyStructureRequest,
             final AsyncHandler<UpdateUserHierarchyStructureRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserHierarchyStructureRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -10993,10 +10993,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserIdentityInfoAsync(
+    public SdkFuture<Void> updateUserIdentityInfoAsync(
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserIdentityInfoRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserIdentityInfo(updateUserIdentityInfoRequest);
                 return null;
@@ -11039,11 +11039,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserIdentityInfoAsync(
+    public SdkFuture<Void> updateUserIdentityInfoAsync(
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest,
             final AsyncHandler<UpdateUserIdentityInfoRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserIdentityInfoRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -11080,10 +11080,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserPhoneConfigAsync(
+    public SdkFuture<Void> updateUserPhoneConfigAsync(
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserPhoneConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserPhoneConfig(updateUserPhoneConfigRequest);
                 return null;
@@ -11113,11 +11113,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserPhoneConfigAsync(
+    public SdkFuture<Void> updateUserPhoneConfigAsync(
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest,
             final AsyncHandler<UpdateUserPhoneConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserPhoneConfigRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -11154,10 +11154,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserRoutingProfileAsync(
+    public SdkFuture<Void> updateUserRoutingProfileAsync(
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserRoutingProfileRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserRoutingProfile(updateUserRoutingProfileRequest);
                 return null;
@@ -11187,11 +11187,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserRoutingProfileAsync(
+    public SdkFuture<Void> updateUserRoutingProfileAsync(
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest,
             final AsyncHandler<UpdateUserRoutingProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserRoutingProfileRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -11228,10 +11228,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserSecurityProfilesAsync(
+    public SdkFuture<Void> updateUserSecurityProfilesAsync(
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserSecurityProfilesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
                 return null;
@@ -11261,11 +11261,11 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserSecurityProfilesAsync(
+    public SdkFuture<Void> updateUserSecurityProfilesAsync(
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest,
             final AsyncHandler<UpdateUserSecurityProfilesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateUserSecurityProfilesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
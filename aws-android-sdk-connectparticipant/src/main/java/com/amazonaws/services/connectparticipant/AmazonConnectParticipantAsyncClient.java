@@ -17,11 +17,11 @@ package com.amazonaws.services.connectparticipant;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -63,7 +63,7 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      * will not return until the service call completes.
      */
     public AmazonConnectParticipantAsyncClient() {
-        this(Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -78,7 +78,7 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *            proxy settings, retry counts, etc.).
      */
     public AmazonConnectParticipantAsyncClient(ClientConfiguration clientConfiguration) {
-        this(clientConfiguration, Executors.newFixedThreadPool(clientConfiguration
+        this(clientConfiguration, AsyncRuntime.newClientExecutor(clientConfiguration
                 .getMaxConnections()));
     }
 
@@ -171,10 +171,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<CompleteAttachmentUploadResult> completeAttachmentUploadAsync(
+    public SdkFuture<CompleteAttachmentUploadResult> completeAttachmentUploadAsync(
             final CompleteAttachmentUploadRequest completeAttachmentUploadRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteAttachmentUploadResult>() {
+        return AsyncRuntime.submit(executorService, completeAttachmentUploadRequest, new Callable<CompleteAttachmentUploadResult>() {
             public CompleteAttachmentUploadResult call() throws Exception {
                 return completeAttachmentUpload(completeAttachmentUploadRequest);
             }
@@ -210,11 +210,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<CompleteAttachmentUploadResult> completeAttachmentUploadAsync(
+    public SdkFuture<CompleteAttachmentUploadResult> completeAttachmentUploadAsync(
             final CompleteAttachmentUploadRequest completeAttachmentUploadRequest,
             final AsyncHandler<CompleteAttachmentUploadRequest, CompleteAttachmentUploadResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteAttachmentUploadResult>() {
+        return AsyncRuntime.submit(executorService, completeAttachmentUploadRequest, new Callable<CompleteAttachmentUploadResult>() {
             public CompleteAttachmentUploadResult call() throws Exception {
                 CompleteAttachmentUploadResult result = null;
                 try {
@@ -298,10 +298,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<CreateParticipantConnectionResult> createParticipantConnectionAsync(
+    public SdkFuture<CreateParticipantConnectionResult> createParticipantConnectionAsync(
             final CreateParticipantConnectionRequest createParticipantConnectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
+        return AsyncRuntime.submit(executorService, createParticipantConnectionRequest, new Callable<CreateParticipantConnectionResult>() {
             public CreateParticipantConnectionResult call() throws Exception {
                 return createParticipantConnection(createParticipantConnectionRequest);
             }
@@ -377,11 +377,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<CreateParticipantConnectionResult> createParticipantConnectionAsync(
+    public SdkFuture<CreateParticipantConnectionResult> createParticipantConnectionAsync(
             final CreateParticipantConnectionRequest createParticipantConnectionRequest,
             final AsyncHandler<CreateParticipantConnectionRequest, CreateParticipantConnectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
+        return AsyncRuntime.submit(executorService, createParticipantConnectionRequest, new Callable<CreateParticipantConnectionResult>() {
             public CreateParticipantConnectionResult call() throws Exception {
                 CreateParticipantConnectionResult result = null;
                 try {
@@ -423,10 +423,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<DisconnectParticipantResult> disconnectParticipantAsync(
+    public SdkFuture<DisconnectParticipantResult> disconnectParticipantAsync(
             final DisconnectParticipantRequest disconnectParticipantRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
+        return AsyncRuntime.submit(executorService, disconnectParticipantRequest, new Callable<DisconnectParticipantResult>() {
             public DisconnectParticipantResult call() throws Exception {
                 return disconnectParticipant(disconnectParticipantRequest);
             }
@@ -460,11 +460,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<DisconnectParticipantResult> disconnectParticipantAsync(
+    public SdkFuture<DisconnectParticipantResult> disconnectParticipantAsync(
             final DisconnectParticipantRequest disconnectParticipantRequest,
             final AsyncHandler<DisconnectParticipantRequest, DisconnectParticipantResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
+        return AsyncRuntime.submit(executorService, disconnectParticipantRequest, new Callable<DisconnectParticipantResult>() {
             public DisconnectParticipantResult call() throws Exception {
                 DisconnectParticipantResult result = null;
                 try {
@@ -506,10 +506,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<GetAttachmentResult> getAttachmentAsync(
+    public SdkFuture<GetAttachmentResult> getAttachmentAsync(
             final GetAttachmentRequest getAttachmentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetAttachmentResult>() {
+        return AsyncRuntime.submit(executorService, getAttachmentRequest, new Callable<GetAttachmentResult>() {
             public GetAttachmentResult call() throws Exception {
                 return getAttachment(getAttachmentRequest);
             }
@@ -543,11 +543,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<GetAttachmentResult> getAttachmentAsync(
+    public SdkFuture<GetAttachmentResult> getAttachmentAsync(
             final GetAttachmentRequest getAttachmentRequest,
             final AsyncHandler<GetAttachmentRequest, GetAttachmentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttachmentResult>() {
+        return AsyncRuntime.submit(executorService, getAttachmentRequest, new Callable<GetAttachmentResult>() {
             public GetAttachmentResult call() throws Exception {
                 GetAttachmentResult result = null;
                 try {
@@ -590,10 +590,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<GetTranscriptResult> getTranscriptAsync(
+    public SdkFuture<GetTranscriptResult> getTranscriptAsync(
             final GetTranscriptRequest getTranscriptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
+        return AsyncRuntime.submit(executorService, getTranscriptRequest, new Callable<GetTranscriptResult>() {
             public GetTranscriptResult call() throws Exception {
                 return getTranscript(getTranscriptRequest);
             }
@@ -628,11 +628,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<GetTranscriptResult> getTranscriptAsync(
+    public SdkFuture<GetTranscriptResult> getTranscriptAsync(
             final GetTranscriptRequest getTranscriptRequest,
             final AsyncHandler<GetTranscriptRequest, GetTranscriptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
+        return AsyncRuntime.submit(executorService, getTranscriptRequest, new Callable<GetTranscriptResult>() {
             public GetTranscriptResult call() throws Exception {
                 GetTranscriptResult result = null;
                 try {
@@ -673,9 +673,9 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest)
+    public SdkFuture<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
+        return AsyncRuntime.submit(executorService, sendEventRequest, new Callable<SendEventResult>() {
             public SendEventResult call() throws Exception {
                 return sendEvent(sendEventRequest);
             }
@@ -708,10 +708,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest,
+    public SdkFuture<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest,
             final AsyncHandler<SendEventRequest, SendEventResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
+        return AsyncRuntime.submit(executorService, sendEventRequest, new Callable<SendEventResult>() {
             public SendEventResult call() throws Exception {
                 SendEventResult result = null;
                 try {
@@ -752,9 +752,9 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
+    public SdkFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
+        return AsyncRuntime.submit(executorService, sendMessageRequest, new Callable<SendMessageResult>() {
             public SendMessageResult call() throws Exception {
                 return sendMessage(sendMessageRequest);
             }
@@ -787,10 +787,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
+    public SdkFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
+        return AsyncRuntime.submit(executorService, sendMessageRequest, new Callable<SendMessageResult>() {
             public SendMessageResult call() throws Exception {
                 SendMessageResult result = null;
                 try {
@@ -833,10 +833,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<StartAttachmentUploadResult> startAttachmentUploadAsync(
+    public SdkFuture<StartAttachmentUploadResult> startAttachmentUploadAsync(
             final StartAttachmentUploadRequest startAttachmentUploadRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartAttachmentUploadResult>() {
+        return AsyncRuntime.submit(executorService, startAttachmentUploadRequest, new Callable<StartAttachmentUploadResult>() {
             public StartAttachmentUploadResult call() throws Exception {
                 return startAttachmentUpload(startAttachmentUploadRequest);
             }
@@ -871,11 +871,11 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<StartAttachmentUploadResult> startAttachmentUploadAsync(
+    public SdkFuture<StartAttachmentUploadResult> startAttachmentUploadAsync(
             final StartAttachmentUploadRequest startAttachmentUploadRequest,
             final AsyncHandler<StartAttachmentUploadRequest, StartAttachmentUploadResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartAttachmentUploadResult>() {
+        return AsyncRuntime.submit(executorService, startAttachmentUploadRequest, new Callable<StartAttachmentUploadResult>() {
             public StartAttachmentUploadResult call() throws Exception {
                 StartAttachmentUploadResult result = null;
                 try {
@@ -24,6 +24,7 @@ import static com.amazonaws.internal.keyvaluestore.AWSKeyValueStore.SHARED_PREFE
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import android.content.Context;
@@ -33,8 +34,11 @@ import android.util.Log;
 
 import java.security.Key;
 import java.security.KeyStore;
+import java.util.HashMap;
 import java.util.Map;
 
+import javax.crypto.spec.SecretKeySpec;
+
 public class AWSKeyValueStoreIntegrationTest extends CoreIntegrationTestBase {
 
     private static AWSKeyValueStore awsKeyValueStore;
@@ -52,6 +56,7 @@ public class AWSKeyValueStoreIntegrationTest extends CoreIntegrationTestBase {
     public void tearDown() {
         awsKeyValueStore.clear();
         deleteAllEncryptionKeys();
+        AWSKeyValueStore.encryptionKeyCache.clear();
     }
 
     @Test
@@ -228,6 +233,85 @@ public class AWSKeyValueStoreIntegrationTest extends CoreIntegrationTestBase {
         assertEquals(value, keyStore2.get(key));
     }
 
+    @Test
+    public void testPutAll() {
+        awsKeyValueStore.put("session-token", "a-dummy-session-token");
+
+        final Map<String, String> entries = new HashMap<String, String>();
+        entries.put("access-key", "a-dummy-access-key");
+        entries.put("secret-key", "a-dummy-secret-key");
+        entries.put("session-token", null);
+        awsKeyValueStore.putAll(entries);
+        assertEquals("a-dummy-access-key", awsKeyValueStore.get("access-key"));
+        assertEquals("a-dummy-secret-key", awsKeyValueStore.get("secret-key"));
+        assertNull(awsKeyValueStore.get("session-token"));
+
+        AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
+        AWSKeyValueStore keyStore2 = new AWSKeyValueStore(ApplicationProvider.getApplicationContext(),
+                DEFAULT_SHARED_PREFERENCES_NAME,
+                true);
+        assertEquals("a-dummy-access-key", keyStore2.get("access-key"));
+        assertEquals("a-dummy-secret-key", keyStore2.get("secret-key"));
+        assertNull(keyStore2.get("session-token"));
+    }
+
+    @Test
+    public void testPutAllWithEncryptionFailure() {
+        final Map<String, String> entries = new HashMap<String, String>();
+        entries.put("access-key", "a-dummy-access-key");
+        entries.put("secret-key", "a-dummy-secret-key");
+        awsKeyValueStore.putAll(entries);
+
+        // A key that fails to encrypt.
+        final KeyProvider keyProvider = awsKeyValueStore.keyProvider;
+        awsKeyValueStore.keyProvider = new KeyProvider() {
+            @Override
+            public Key generateKey(String keyAlias) {
+                return new SecretKeySpec(new byte[3], "AES");
+            }
+
+            @Override
+            public Key retrieveKey(String keyAlias) {
+                return new SecretKeySpec(new byte[3], "AES");
+            }
+
+            @Override
+            public void deleteKey(String keyAlias) {
+            }
+        };
+        AWSKeyValueStore.encryptionKeyCache.clear();
+        entries.put("access-key", "b-dummy-access-key");
+        entries.put("secret-key", "b-dummy-secret-key");
+        awsKeyValueStore.putAll(entries);
+        assertEquals("b-dummy-access-key", awsKeyValueStore.get("access-key"));
+
+        // None of the new values was persisted.
+        awsKeyValueStore.keyProvider = keyProvider;
+        AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
+        AWSKeyValueStore keyStore2 = new AWSKeyValueStore(ApplicationProvider.getApplicationContext(),
+                DEFAULT_SHARED_PREFERENCES_NAME,
+                true);
+        assertEquals("a-dummy-access-key", keyStore2.get("access-key"));
+        assertEquals("a-dummy-secret-key", keyStore2.get("secret-key"));
+    }
+
+    @Test
+    public void testTwoStoresShareEncryptionKey() {
+        awsKeyValueStore.put("access-key", "a-dummy-access-key");
+        assertEquals(1, AWSKeyValueStore.encryptionKeyCache.size());
+        final Key key = AWSKeyValueStore.encryptionKeyCache.values().iterator().next();
+
+        AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore keyStore2 = new AWSKeyValueStore(ApplicationProvider.getApplicationContext(),
+                DEFAULT_SHARED_PREFERENCES_NAME,
+                true);
+        assertEquals("a-dummy-access-key", keyStore2.get("access-key"));
+        assertEquals(1, AWSKeyValueStore.encryptionKeyCache.size());
+        assertSame(key, AWSKeyValueStore.encryptionKeyCache.values().iterator().next());
+    }
+
     @Test
     public void testGetSetTwoStores() {
         AWSKeyValueStore keyStore1 = new AWSKeyValueStore(ApplicationProvider.getApplicationContext(),
@@ -434,4 +518,29 @@ public class AWSKeyValueStoreIntegrationTest extends CoreIntegrationTestBase {
 
         Log.d(TAG, "KeyStore load time: " + String.valueOf(end - begin) + " ns.");
     }
+
+    @Test
+    public void benchmarkSessionSave() {
+        final Map<String, String> session = new HashMap<String, String>();
+        session.put("access-key", "a-dummy-access-key");
+        session.put("secret-key", "a-dummy-secret-key");
+        session.put("session-token", "a-dummy-session-token");
+        session.put("expiration", "1546300800000");
+
+        long begin = System.nanoTime();
+        for (Map.Entry<String, String> entry : session.entrySet()) {
+            awsKeyValueStore.put(entry.getKey(), entry.getValue());
+        }
+        long end = System.nanoTime();
+        Log.d(TAG, "Session save time with put: " + String.valueOf(end - begin) + " ns.");
+
+        begin = System.nanoTime();
+        awsKeyValueStore.putAll(session);
+        end = System.nanoTime();
+        Log.d(TAG, "Session save time with putAll: " + String.valueOf(end - begin) + " ns.");
+
+        for (Map.Entry<String, String> entry : session.entrySet()) {
+            assertEquals(entry.getValue(), awsKeyValueStore.get(entry.getKey()));
+        }
+    }
 }
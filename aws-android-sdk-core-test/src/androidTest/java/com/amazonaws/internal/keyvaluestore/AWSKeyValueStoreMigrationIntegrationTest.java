@@ -88,6 +88,7 @@ public class AWSKeyValueStoreMigrationIntegrationTest extends CoreIntegrationTes
                 .commit();
 
         AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
         deleteAllEncryptionKeys();
     }
 
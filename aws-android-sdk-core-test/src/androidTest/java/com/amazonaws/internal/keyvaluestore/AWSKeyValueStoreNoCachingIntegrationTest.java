@@ -70,6 +70,7 @@ public class AWSKeyValueStoreNoCachingIntegrationTest extends CoreIntegrationTes
                 .commit();
 
         AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
 
         credentialsProviders = new ArrayList<CognitoCachingCredentialsProvider>();
         credentialsProvider = new CognitoCachingCredentialsProvider(
@@ -88,6 +89,7 @@ public class AWSKeyValueStoreNoCachingIntegrationTest extends CoreIntegrationTes
                 .commit();
 
         AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
         deleteAllEncryptionKeys();
     }
 
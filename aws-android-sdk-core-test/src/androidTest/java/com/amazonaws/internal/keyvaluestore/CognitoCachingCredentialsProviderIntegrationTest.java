@@ -71,6 +71,7 @@ public class CognitoCachingCredentialsProviderIntegrationTest extends CoreIntegr
                 .commit();
 
         AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
 
         credentialsProviders = new ArrayList<CognitoCachingCredentialsProvider>();
         credentialsProvider = new CognitoCachingCredentialsProvider(
@@ -88,6 +89,7 @@ public class CognitoCachingCredentialsProviderIntegrationTest extends CoreIntegr
                 .commit();
 
         AWSKeyValueStore.cacheFactory.clear();
+        AWSKeyValueStore.encryptionKeyCache.clear();
         deleteAllEncryptionKeys();
     }
 
@@ -38,6 +38,12 @@ public class ClientConfiguration {
     /** The default max connection pool size. */
     public static final int DEFAULT_MAX_CONNECTIONS = 10;
 
+    /** The default time a pooled connection can stay idle. */
+    public static final long DEFAULT_CONNECTION_MAX_IDLE_MILLIS = 60 * 1000;
+
+    /** The default timeout for waiting for a pooled connection. */
+    public static final int DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = 10 * 1000;
+
     /** The default HTTP user agent header for AWS Java SDK clients. */
     public static final String DEFAULT_USER_AGENT = VersionInfoUtils.getUserAgent();
 
@@ -121,6 +127,24 @@ public class ClientConfiguration {
     /** The maximum number of open HTTP connections. */
     private int maxConnections = DEFAULT_MAX_CONNECTIONS;
 
+    /**
+     * Whether the HTTP client pools its connections, see
+     * {@link #setUseConnectionPool(boolean)}.
+     */
+    private boolean useConnectionPool = false;
+
+    /**
+     * The maximum amount of time (in milliseconds) a pooled connection can
+     * stay idle before it is closed.
+     */
+    private long connectionMaxIdleMillis = DEFAULT_CONNECTION_MAX_IDLE_MILLIS;
+
+    /**
+     * The maximum amount of time (in milliseconds) to wait for a pooled
+     * connection to a host.
+     */
+    private int connectionAcquisitionTimeout = DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
+
     /**
      * The amount of time to wait (in milliseconds) for data to be transfered
      * over an established, open connection before the connection is timed out.
@@ -186,6 +210,9 @@ public class ClientConfiguration {
     public ClientConfiguration(ClientConfiguration other) {
         this.connectionTimeout = other.connectionTimeout;
         this.maxConnections = other.maxConnections;
+        this.useConnectionPool = other.useConnectionPool;
+        this.connectionMaxIdleMillis = other.connectionMaxIdleMillis;
+        this.connectionAcquisitionTimeout = other.connectionAcquisitionTimeout;
         this.maxErrorRetry = other.maxErrorRetry;
         this.retryPolicy = other.retryPolicy;
         this.localAddress = other.localAddress;
@@ -268,7 +295,8 @@ public class ClientConfiguration {
     }
 
     /**
-     * Returns the maximum number of allowed open HTTP connections.
+     * Returns the maximum number of allowed open HTTP connections. When
+     * {@link #isUseConnectionPool()} is set, the limit applies to each host.
      *
      * @return The maximum number of allowed open HTTP connections.
      */
@@ -302,6 +330,124 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns whether the HTTP client pools its connections.
+     *
+     * @return Whether the HTTP client pools its connections.
+     * @see #setUseConnectionPool(boolean)
+     */
+    public boolean isUseConnectionPool() {
+        return useConnectionPool;
+    }
+
+    /**
+     * Sets whether the HTTP client pools its connections. When set, the
+     * client opens at most {@link #getMaxConnections()} connections to each
+     * host at a time, drains unread response bodies on close so that their connections
+     * are reused, closes connections idle for longer than
+     * {@link #getConnectionMaxIdleMillis()}, and reports the reuse of
+     * connections in the request metrics. Defaults to false.
+     *
+     * @param useConnectionPool Whether the HTTP client pools its connections.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setUseConnectionPool(boolean useConnectionPool) {
+        this.useConnectionPool = useConnectionPool;
+    }
+
+    /**
+     * Sets whether the HTTP client pools its connections, and returns the
+     * updated ClientConfiguration object.
+     *
+     * @param useConnectionPool Whether the HTTP client pools its connections.
+     * @return The updated ClientConfiguration object.
+     * @see #setUseConnectionPool(boolean)
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withUseConnectionPool(boolean useConnectionPool) {
+        setUseConnectionPool(useConnectionPool);
+        return this;
+    }
+
+    /**
+     * Returns the maximum amount of time (in milliseconds) a pooled connection
+     * can stay idle before it is closed.
+     *
+     * @return The maximum idle time of a pooled connection, in milliseconds.
+     */
+    public long getConnectionMaxIdleMillis() {
+        return connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a pooled connection
+     * can stay idle before it is closed. Zero leaves idle connections to the
+     * platform. Only applies when {@link #isUseConnectionPool()} is set.
+     *
+     * @param connectionMaxIdleMillis The maximum idle time of a pooled
+     *            connection, in milliseconds.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        this.connectionMaxIdleMillis = connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a pooled connection
+     * can stay idle before it is closed, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param connectionMaxIdleMillis The maximum idle time of a pooled
+     *            connection, in milliseconds.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        setConnectionMaxIdleMillis(connectionMaxIdleMillis);
+        return this;
+    }
+
+    /**
+     * Returns the maximum amount of time (in milliseconds) a request waits
+     * for one of the {@link #getMaxConnections()} connections to its host
+     * when they are all being opened.
+     *
+     * @return The connection acquisition timeout, in milliseconds.
+     */
+    public int getConnectionAcquisitionTimeout() {
+        return connectionAcquisitionTimeout;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a request waits for
+     * one of the {@link #getMaxConnections()} connections to its host when
+     * they are all being opened. A value of 0 means infinity. Only applies
+     * when {@link #isUseConnectionPool()} is set.
+     *
+     * @param connectionAcquisitionTimeout The connection acquisition timeout,
+     *            in milliseconds.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setConnectionAcquisitionTimeout(int connectionAcquisitionTimeout) {
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a request waits for a
+     * pooled connection to its host, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param connectionAcquisitionTimeout The connection acquisition timeout,
+     *            in milliseconds.
+     * @return The updated ClientConfiguration object.
+     * @see #setConnectionAcquisitionTimeout(int)
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionAcquisitionTimeout(int connectionAcquisitionTimeout) {
+        setConnectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        return this;
+    }
+
     /**
      * Returns the HTTP user agent header to send with all requests.
      *
@@ -79,6 +79,9 @@ public class DefaultRequest<T> implements Request<T> {
     /** encoded uri resource path */
     private String encodedUriResourcePath;
 
+    /** The hex encoded SHA-256 hash of the content, if known */
+    private String contentSha256;
+
     /**
      * Constructs a new DefaultRequest with the specified service name and the
      * original, user facing request object.
@@ -226,6 +229,9 @@ public class DefaultRequest<T> implements Request<T> {
      */
     @Override
     public void setContent(InputStream content) {
+        if (content != this.content) {
+            contentSha256 = null;
+        }
         this.content = content;
     }
 
@@ -384,4 +390,25 @@ public class DefaultRequest<T> implements Request<T> {
     public void setEncodedResourcePath(String encodedUriResourcePath) {
         this.encodedUriResourcePath = encodedUriResourcePath;
     }
+
+    /**
+     * Returns the hex encoded SHA-256 hash of the content, once computed by a
+     * signer or provided by the caller, so that it's not computed again when
+     * the request is retried with the same content.
+     *
+     * @return the hash of the content, or null if it's not known
+     */
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    /**
+     * Sets the hex encoded SHA-256 hash of the content. It's cleared when the
+     * content is replaced by another stream.
+     *
+     * @param contentSha256 the hash of the content, or null
+     */
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
 }
@@ -100,6 +100,24 @@ public class SDKGlobalConfiguration {
     public static final String DEFAULT_S3_STREAM_BUFFER_SIZE =
             "com.amazonaws.sdk.s3.defaultStreamBufferSize";
 
+    /**
+     * By default, JSON request bodies are encoded to UTF-8 as they are
+     * written, straight into the request content. Setting this system
+     * property to anything other than {@code null} will make the SDK write
+     * them with the Gson based writer instead.
+     */
+    public static final String DISABLE_UTF8_JSON_WRITER_SYSTEM_PROPERTY =
+            "com.amazonaws.sdk.disableUtf8JsonWriter";
+
+    /**
+     * By default, JSON responses are tokenized straight from their UTF-8
+     * bytes. Setting this system property to anything other than
+     * {@code null} will make the SDK read them with the Gson based reader
+     * instead.
+     */
+    public static final String DISABLE_UTF8_JSON_READER_SYSTEM_PROPERTY =
+            "com.amazonaws.sdk.disableUtf8JsonReader";
+
     /**
      * @deprecated by {@link #DEFAULT_METRICS_SYSTEM_PROPERTY}. Internal system
      *             property to enable timing info collection.
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+
+/**
+ * Internal class that lets a service call made on the {@link AsyncRuntime}
+ * wait for its retry backoff on a timer instead of sleeping in a worker
+ * thread. This class may change without notice and may not be reflected in
+ * the SDK versioning scheme.
+ * <p>
+ * A context belongs to a task that makes a single service call, such as the
+ * tasks of the generated async clients, and only applies to the requests of
+ * that call: other requests made by the task, such as a request for
+ * credentials, wait for their backoff in place. When a retry is due, the HTTP
+ * client calls {@link #defer(int, AmazonClientException, long)}, which
+ * records how far the call went and unwinds it. The runtime runs the task
+ * again once the delay has elapsed, and the HTTP client resumes from the
+ * recorded attempt instead of starting over. Only the attempt count and the
+ * backoff carry over: the rest of the task, including marshalling and the
+ * request handlers, runs again (see
+ * {@link AsyncRuntime#submit(java.util.concurrent.ExecutorService, AmazonWebServiceRequest, java.util.concurrent.Callable)}).
+ */
+public final class AsyncRetryContext {
+
+    private static final ThreadLocal<AsyncRetryContext> CURRENT =
+            new ThreadLocal<AsyncRetryContext>();
+
+    private final AmazonWebServiceRequest serviceRequest;
+    private boolean active;
+    private boolean completed;
+    private boolean resuming;
+    private int requestCount;
+    private AmazonClientException retriedException;
+    private long backoffDelay;
+
+    AsyncRetryContext(AmazonWebServiceRequest serviceRequest) {
+        this.serviceRequest = serviceRequest;
+    }
+
+    /**
+     * Binds the given context to the current thread.
+     *
+     * @return the context previously bound
+     */
+    static AsyncRetryContext bind(AsyncRetryContext context) {
+        final AsyncRetryContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    /**
+     * Called by the HTTP client when it starts executing a request. Returns
+     * the context of the task running on the current thread if the request
+     * is the service call of the task. Any other request, and the service
+     * call once it has completed, waits for its backoff in place.
+     *
+     * @param request the request about to be executed
+     * @return the context, or null if retries can't be deferred
+     */
+    public static AsyncRetryContext enter(Request<?> request) {
+        final AsyncRetryContext context = CURRENT.get();
+        if (context == null || context.active || context.completed
+                || context.serviceRequest == null
+                || request.getOriginalRequest() != context.serviceRequest) {
+            return null;
+        }
+        context.active = true;
+        return context;
+    }
+
+    /**
+     * Called by the HTTP client when it is done with the request for which
+     * {@link #enter(Request)} returned this context. Unless the request was
+     * deferred, the service call of the task is then complete.
+     */
+    public void exit() {
+        active = false;
+        if (!resuming) {
+            completed = true;
+        }
+    }
+
+    /**
+     * @return the number of requests already sent, zero unless the call is
+     *         resuming after a deferred retry.
+     */
+    public int getRequestCount() {
+        return resuming ? requestCount : 0;
+    }
+
+    /**
+     * @return the exception that caused the deferred retry, or null.
+     */
+    public AmazonClientException getRetriedException() {
+        return resuming ? retriedException : null;
+    }
+
+    /**
+     * @return true if the call is resuming after a deferred retry whose
+     *         backoff has elapsed.
+     */
+    public boolean isResuming() {
+        return resuming;
+    }
+
+    /**
+     * Marks the deferred retry as resumed.
+     *
+     * @return the backoff delay that elapsed, in milliseconds
+     */
+    public long resume() {
+        resuming = false;
+        retriedException = null;
+        return backoffDelay;
+    }
+
+    /**
+     * Defers the next attempt of the call by the given delay. This method
+     * doesn't return: it unwinds the call, which the runtime runs again once
+     * the delay has elapsed.
+     *
+     * @param requestCount the number of requests already sent
+     * @param retriedException the exception that caused the retry
+     * @param delay the backoff delay, in milliseconds
+     */
+    public void defer(int requestCount, AmazonClientException retriedException, long delay) {
+        this.requestCount = requestCount;
+        this.retriedException = retriedException;
+        this.backoffDelay = delay;
+        this.resuming = true;
+        throw new Deferral(delay);
+    }
+
+    /**
+     * Unwinds a call whose retry is deferred. It is an {@link Error} so that
+     * the catch blocks of the call, which handle exceptions, let it through.
+     */
+    static final class Deferral extends Error {
+        private static final long serialVersionUID = 1L;
+
+        private final long delay;
+
+        Deferral(long delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // Thrown on every deferred retry, never reported.
+            return this;
+        }
+
+        long getDelay() {
+            return delay;
+        }
+    }
+}
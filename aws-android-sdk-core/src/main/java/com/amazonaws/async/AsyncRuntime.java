@@ -0,0 +1,152 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The execution runtime shared by the asynchronous clients. Instead of a
+ * thread pool per client, the clients share a bounded pool of daemon
+ * threads, which exit when idle, and a single timer thread:
+ * <ul>
+ * <li>each client gets an executor from {@link #newClientExecutor(int)},
+ * which limits how many of its calls run at once;</li>
+ * <li>when a service call submitted with
+ * {@link #submit(ExecutorService, AmazonWebServiceRequest, Callable)} needs to
+ * retry, its backoff elapses on the timer instead of in a sleeping worker
+ * thread;</li>
+ * <li>calls return an {@link SdkFuture}, to which callbacks can be attached
+ * instead of blocking in {@link java.util.concurrent.Future#get()}.</li>
+ * </ul>
+ */
+public final class AsyncRuntime {
+
+    /** Maximum number of threads of the shared pool. */
+    public static final int SHARED_POOL_SIZE =
+            Math.max(8, 4 * Runtime.getRuntime().availableProcessors());
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private AsyncRuntime() {
+    }
+
+    private static final class Holder {
+        static final ThreadPoolExecutor SHARED_EXECUTOR;
+        static final ScheduledExecutorService TIMER =
+                new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("aws-sdk-async-timer"));
+
+        static {
+            SHARED_EXECUTOR = new ThreadPoolExecutor(SHARED_POOL_SIZE, SHARED_POOL_SIZE,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                    new DaemonThreadFactory("aws-sdk-async"));
+            SHARED_EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * Creates the executor of an async client. Its tasks run on the shared
+     * pool, at most {@code maxConcurrency} at a time. Shutting it down
+     * doesn't affect the shared pool.
+     *
+     * @param maxConcurrency maximum number of tasks of the client that run at
+     *            once
+     * @return a new executor
+     */
+    public static ExecutorService newClientExecutor(int maxConcurrency) {
+        return new ClientExecutor(Holder.SHARED_EXECUTOR, Holder.TIMER, maxConcurrency);
+    }
+
+    /**
+     * Submits a task to the given executor and returns its future. The task
+     * runs as it would with {@link ExecutorService#submit(Callable)}.
+     *
+     * @param <T> the type of the result
+     * @param executor the executor to run the task
+     * @param task the task
+     * @return the future of the task
+     */
+    public static <T> SdkFuture<T> submit(ExecutorService executor, Callable<T> task) {
+        if (executor instanceof ClientExecutor) {
+            return ((ClientExecutor) executor).submit(task);
+        }
+        final SdkFuture<T> future = new SdkFuture<T>(task);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * Submits a task that makes a single service call with the given request,
+     * as the async clients do, and returns its future. With an executor of
+     * this runtime, the retries of that call wait for their backoff on the
+     * timer, and the task runs again from the start once it has elapsed: it
+     * must do nothing but that call, and its callbacks. Other service calls
+     * the task makes, such as requests for credentials, retry in place.
+     * <p>
+     * Because the task runs again, so does everything the client does before
+     * and after sending the request: each run marshalls the service request
+     * into a new {@link com.amazonaws.Request}, calls
+     * {@link com.amazonaws.handlers.RequestHandler2#beforeRequest(com.amazonaws.Request)}
+     * on it, and ends the client execution, which reports the request
+     * metrics of that run. Request handlers aren't told about the failed
+     * attempt that led to the backoff:
+     * {@link com.amazonaws.handlers.RequestHandler2#afterResponse(com.amazonaws.Request, com.amazonaws.Response)}
+     * or
+     * {@link com.amazonaws.handlers.RequestHandler2#afterError(com.amazonaws.Request, com.amazonaws.Response, Exception)}
+     * is only called once the call completes, for the request of the last
+     * run. With
+     * any other executor, such as one given to the constructor of a client,
+     * the task runs as it would with {@link ExecutorService#submit(Callable)}.
+     *
+     * @param <T> the type of the result
+     * @param executor the executor to run the task
+     * @param serviceRequest the request of the service call made by the task
+     * @param task the task
+     * @return the future of the task
+     */
+    public static <T> SdkFuture<T> submit(ExecutorService executor,
+            AmazonWebServiceRequest serviceRequest, Callable<T> task) {
+        if (executor instanceof ClientExecutor) {
+            return ((ClientExecutor) executor).submitServiceCall(serviceRequest, task);
+        }
+        return submit(executor, task);
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
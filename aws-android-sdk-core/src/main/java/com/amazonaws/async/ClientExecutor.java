@@ -0,0 +1,241 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executor of one async client. Its tasks run on the threads of the
+ * shared {@link AsyncRuntime}, at most {@code maxConcurrency} at a time; the
+ * others wait in a queue of this executor, so a busy client doesn't take all
+ * the shared threads. Shutting it down only affects the tasks of its client.
+ */
+final class ClientExecutor extends AbstractExecutorService {
+
+    private final Executor sharedExecutor;
+    private final ScheduledExecutorService timer;
+    private final int maxConcurrency;
+
+    private final LinkedList<Runnable> queue = new LinkedList<Runnable>();
+    private final Set<Thread> activeThreads = new HashSet<Thread>();
+    private final Set<SdkFuture<?>> deferredTasks = new HashSet<SdkFuture<?>>();
+    private int running;
+    private boolean shutdown;
+    private boolean stopped;
+
+    ClientExecutor(Executor sharedExecutor, ScheduledExecutorService timer, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.sharedExecutor = sharedExecutor;
+        this.timer = timer;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command == null");
+        }
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The client has been shut down");
+            }
+        }
+        enqueue(command);
+    }
+
+    private void enqueue(Runnable command) {
+        synchronized (this) {
+            if (running >= maxConcurrency) {
+                queue.add(command);
+                return;
+            }
+            running++;
+        }
+        dispatch(command);
+    }
+
+    @Override
+    protected <T> SdkFuture<T> newTaskFor(Callable<T> callable) {
+        return new SdkFuture<T>(callable);
+    }
+
+    @Override
+    protected <T> SdkFuture<T> newTaskFor(final Runnable runnable, final T value) {
+        return newTaskFor(new Callable<T>() {
+            @Override
+            public T call() {
+                runnable.run();
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public <T> SdkFuture<T> submit(Callable<T> task) {
+        return (SdkFuture<T>) super.submit(task);
+    }
+
+    /**
+     * Submits a task that makes the given service call and nothing else. The
+     * retries of that call wait for their backoff on the timer, which runs
+     * the task again once it has elapsed, so the task must not have done
+     * anything else by then.
+     *
+     * @param serviceRequest the request of the service call
+     * @param task the task
+     * @return the future of the task
+     */
+    <T> SdkFuture<T> submitServiceCall(AmazonWebServiceRequest serviceRequest,
+            Callable<T> task) {
+        final SdkFuture<T> future = new SdkFuture<T>(task);
+        future.setRetryContext(this, new AsyncRetryContext(serviceRequest));
+        execute(future);
+        return future;
+    }
+
+    /**
+     * Runs the given task again after the given delay, without holding a
+     * thread meanwhile. The task was accepted before any shutdown, so it runs
+     * unless {@link #shutdownNow()} is called.
+     */
+    void runLater(final SdkFuture<?> task, long delayMillis) {
+        synchronized (this) {
+            if (stopped) {
+                task.cancel(false);
+                return;
+            }
+            deferredTasks.add(task);
+        }
+        final Runnable resubmit = new Runnable() {
+            @Override
+            public void run() {
+                synchronized (ClientExecutor.this) {
+                    if (!deferredTasks.remove(task)) {
+                        // Cancelled by shutdownNow.
+                        return;
+                    }
+                    ClientExecutor.this.notifyAll();
+                }
+                enqueue(task);
+            }
+        };
+        try {
+            timer.schedule(resubmit, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            synchronized (this) {
+                deferredTasks.remove(task);
+                notifyAll();
+            }
+            task.setException(e);
+        }
+    }
+
+    private void dispatch(final Runnable command) {
+        sharedExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final Thread thread = Thread.currentThread();
+                synchronized (ClientExecutor.this) {
+                    activeThreads.add(thread);
+                }
+                try {
+                    command.run();
+                } finally {
+                    final Runnable next;
+                    synchronized (ClientExecutor.this) {
+                        activeThreads.remove(thread);
+                        next = queue.poll();
+                        if (next == null) {
+                            running--;
+                            ClientExecutor.this.notifyAll();
+                        }
+                    }
+                    // Dispatched anew rather than run here, so that the tasks
+                    // of other clients get their turn on the shared threads.
+                    if (next != null) {
+                        dispatch(next);
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        notifyAll();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending;
+        final List<SdkFuture<?>> deferred;
+        synchronized (this) {
+            shutdown = true;
+            stopped = true;
+            pending = new ArrayList<Runnable>(queue);
+            queue.clear();
+            deferred = new ArrayList<SdkFuture<?>>(deferredTasks);
+            deferredTasks.clear();
+            for (final Thread thread : activeThreads) {
+                thread.interrupt();
+            }
+            notifyAll();
+        }
+        for (final SdkFuture<?> task : deferred) {
+            task.cancel(false);
+        }
+        return pending;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && running == 0 && deferredTasks.isEmpty();
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The result of an asynchronous service call. Besides blocking in
+ * {@link #get()}, callers can register a {@link Callback} that is called when
+ * the call completes, and derive new futures from the result with
+ * {@link #transform(Transformer)}, so that nothing has to wait for the call.
+ * <p>
+ * Callbacks registered before completion are called on the thread that
+ * completes the future, usually a thread of the {@link AsyncRuntime}; they
+ * should not block. Callbacks registered after completion are called right
+ * away on the registering thread.
+ *
+ * @param <T> the type of the result
+ */
+public class SdkFuture<T> implements RunnableFuture<T> {
+
+    private static final Log log = LogFactory.getLog(SdkFuture.class);
+
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    /**
+     * Computes the result of a future from the result of another.
+     *
+     * @param <I> the type of the input
+     * @param <O> the type of the output
+     */
+    public interface Transformer<I, O> {
+        /**
+         * @param input the result of the source future
+         * @return the result of the derived future
+         * @throws Exception to fail the derived future
+         */
+        O apply(I input) throws Exception;
+    }
+
+    private final Callable<T> callable;
+    private int state = PENDING;
+    private T result;
+    private Throwable failure;
+    private Thread runner;
+    private List<Callback<? super T>> callbacks;
+
+    // Set when the task is a service call submitted to a ClientExecutor.
+    private ClientExecutor executor;
+    private AsyncRetryContext retryContext;
+
+    /**
+     * Creates a future that runs the given task.
+     *
+     * @param callable the task
+     */
+    public SdkFuture(Callable<T> callable) {
+        if (callable == null) {
+            throw new NullPointerException("callable == null");
+        }
+        this.callable = callable;
+    }
+
+    /**
+     * Creates a future that is completed with {@link #set(Object)} or
+     * {@link #setException(Throwable)}.
+     */
+    protected SdkFuture() {
+        this.callable = null;
+    }
+
+    /**
+     * Returns a future that has already succeeded.
+     *
+     * @param <T> the type of the result
+     * @param result the result
+     * @return a completed future
+     */
+    public static <T> SdkFuture<T> succeeded(T result) {
+        final SdkFuture<T> future = new SdkFuture<T>();
+        future.set(result);
+        return future;
+    }
+
+    /**
+     * Returns a future that has already failed.
+     *
+     * @param <T> the type of the result
+     * @param failure the cause of the failure
+     * @return a completed future
+     */
+    public static <T> SdkFuture<T> failed(Throwable failure) {
+        final SdkFuture<T> future = new SdkFuture<T>();
+        future.setException(failure);
+        return future;
+    }
+
+    @Override
+    public void run() {
+        if (callable == null) {
+            return;
+        }
+        synchronized (this) {
+            if (state != PENDING || runner != null) {
+                return;
+            }
+            runner = Thread.currentThread();
+        }
+        final AsyncRetryContext previous = AsyncRetryContext.bind(retryContext);
+        try {
+            set(callable.call());
+        } catch (final AsyncRetryContext.Deferral deferral) {
+            synchronized (this) {
+                runner = null;
+            }
+            executor.runLater(this, deferral.getDelay());
+        } catch (final Throwable t) {
+            setException(t);
+        } finally {
+            AsyncRetryContext.bind(previous);
+            synchronized (this) {
+                if (runner == Thread.currentThread()) {
+                    runner = null;
+                }
+            }
+            if (isCancelled()) {
+                // Clears an interrupt meant for the task only.
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Completes this future with the given result, unless it is already
+     * complete.
+     *
+     * @param value the result
+     * @return true if this call completed the future
+     */
+    protected boolean set(T value) {
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            result = value;
+            state = SUCCEEDED;
+            notifyAll();
+        }
+        fireCallbacks();
+        return true;
+    }
+
+    /**
+     * Fails this future with the given cause, unless it is already complete.
+     *
+     * @param cause the cause of the failure
+     * @return true if this call completed the future
+     */
+    protected boolean setException(Throwable cause) {
+        if (cause == null) {
+            throw new NullPointerException("cause == null");
+        }
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            failure = cause;
+            state = FAILED;
+            notifyAll();
+        }
+        fireCallbacks();
+        return true;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            state = CANCELLED;
+            if (mayInterruptIfRunning && runner != null) {
+                runner.interrupt();
+            }
+            notifyAll();
+        }
+        fireCallbacks();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return report();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (state == PENDING) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    /**
+     * Registers a callback called with the result, or with the exception if
+     * the future fails or is cancelled. A failure that isn't an
+     * {@link Exception} is reported wrapped in an {@link ExecutionException};
+     * a cancellation as a {@link CancellationException}.
+     *
+     * @param callback the callback
+     * @return this future
+     */
+    public SdkFuture<T> addCallback(Callback<? super T> callback) {
+        if (callback == null) {
+            throw new NullPointerException("callback == null");
+        }
+        synchronized (this) {
+            if (state == PENDING) {
+                if (callbacks == null) {
+                    callbacks = new ArrayList<Callback<? super T>>(2);
+                }
+                callbacks.add(callback);
+                return this;
+            }
+        }
+        invoke(callback);
+        return this;
+    }
+
+    /**
+     * Returns a future completed with the result of the given transformer
+     * applied to the result of this one, once it succeeds. If this future
+     * fails, or the transformer throws, the returned future fails too.
+     * Cancelling the returned future doesn't cancel this one.
+     *
+     * @param <O> the type of the result of the returned future
+     * @param transformer computes the result of the returned future
+     * @return a new future
+     */
+    public <O> SdkFuture<O> transform(final Transformer<? super T, ? extends O> transformer) {
+        if (transformer == null) {
+            throw new NullPointerException("transformer == null");
+        }
+        final SdkFuture<O> derived = new SdkFuture<O>();
+        addCallback(new Callback<T>() {
+            @Override
+            public void onResult(T value) {
+                try {
+                    derived.set(transformer.apply(value));
+                } catch (final Exception e) {
+                    derived.setException(e);
+                }
+            }
+
+            @Override
+            public void onError(Exception e) {
+                derived.setException(e instanceof ExecutionException && e.getCause() != null
+                        ? e.getCause() : e);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Lets the retries of the service call of this task wait for their
+     * backoff on the timer of the given executor.
+     */
+    void setRetryContext(ClientExecutor executor, AsyncRetryContext retryContext) {
+        this.executor = executor;
+        this.retryContext = retryContext;
+    }
+
+    private T report() throws ExecutionException {
+        if (state == SUCCEEDED) {
+            return result;
+        }
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        }
+        throw new ExecutionException(failure);
+    }
+
+    private void fireCallbacks() {
+        final List<Callback<? super T>> toNotify;
+        synchronized (this) {
+            toNotify = callbacks;
+            callbacks = null;
+        }
+        if (toNotify != null) {
+            for (final Callback<? super T> callback : toNotify) {
+                invoke(callback);
+            }
+        }
+    }
+
+    private void invoke(Callback<? super T> callback) {
+        final int completedState;
+        final T value;
+        final Throwable cause;
+        synchronized (this) {
+            completedState = state;
+            value = result;
+            cause = failure;
+        }
+        try {
+            if (completedState == SUCCEEDED) {
+                callback.onResult(value);
+            } else if (completedState == CANCELLED) {
+                callback.onError(new CancellationException());
+            } else if (cause instanceof Exception) {
+                callback.onError((Exception) cause);
+            } else {
+                callback.onError(new ExecutionException(cause));
+            }
+        } catch (final RuntimeException e) {
+            log.warn("Callback of an asynchronous call failed", e);
+        }
+    }
+}
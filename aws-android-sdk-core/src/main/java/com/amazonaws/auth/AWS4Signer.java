@@ -16,6 +16,7 @@
 package com.amazonaws.auth;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
 import com.amazonaws.util.AwsHostNameUtils;
 import com.amazonaws.util.BinaryUtils;
@@ -32,7 +33,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Signer implementation that signs requests with the AWS4 signing protocol.
@@ -45,6 +48,25 @@ public class AWS4Signer extends AbstractAWSSigner
     private static final String DATE_PATTERN = "yyyyMMdd";
     private static final String TIME_PATTERN = "yyyyMMdd'T'HHmmss'Z'";
     private static final long MILLISEC = 1000L;
+    private static final int SHA256_HEX_LENGTH = 64;
+
+    /** Max number of derived signing keys kept by the cache */
+    private static final int SIGNING_KEY_CACHE_MAX_SIZE = 300;
+    private static final SigningKeyCache SIGNING_KEY_CACHE =
+            new SigningKeyCache(SIGNING_KEY_CACHE_MAX_SIZE);
+
+    /**
+     * Largest builder kept by a thread to build canonical requests; builders
+     * grown by unusually large requests are dropped.
+     */
+    private static final int MAX_CACHED_BUILDER_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> CANONICAL_REQUEST_BUILDER =
+            new ThreadLocal<StringBuilder>() {
+                @Override
+                protected StringBuilder initialValue() {
+                    return new StringBuilder(512);
+                }
+            };
 
     /** Seconds in a week, which is the max expiration time Sig-v4 accepts */
     private static final long MAX_EXPIRATION_TIME_IN_SECONDS = 60 * 60 * 24 * 7;
@@ -208,43 +230,14 @@ public class AWS4Signer extends AbstractAWSSigner
     }
 
     protected String getCanonicalizedHeaderString(Request<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>();
-        sortedHeaders.addAll(request.getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
         final StringBuilder buffer = new StringBuilder();
-        for (final String header : sortedHeaders) {
-            if (needsSign(header)) {
-                final String key = StringUtils.lowerCase(header).replaceAll("\\s+", " ");
-                final String value = request.getHeaders().get(header);
-
-                buffer.append(key).append(":");
-                if (value != null) {
-                    buffer.append(value.replaceAll("\\s+", " "));
-                }
-
-                buffer.append("\n");
-            }
-        }
-
+        appendCanonicalizedHeaders(buffer, request, getSortedSignedHeaders(request));
         return buffer.toString();
     }
 
     protected String getSignedHeadersString(Request<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>();
-        sortedHeaders.addAll(request.getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
         final StringBuilder buffer = new StringBuilder();
-        for (final String header : sortedHeaders) {
-            if (needsSign(header)) {
-                if (buffer.length() > 0) {
-                    buffer.append(";");
-                }
-                buffer.append(StringUtils.lowerCase(header));
-            }
-        }
-
+        appendSignedHeaders(buffer, getSortedSignedHeaders(request));
         return buffer.toString();
     }
 
@@ -259,29 +252,43 @@ public class AWS4Signer extends AbstractAWSSigner
                     request.getResourcePath());
         };
 
-        final String canonicalRequest =
-                request.getHttpMethod().toString() + "\n" +
-                        /*
-                         * This would optionally double url-encode the resource
-                         * path
-                         */
-                        getCanonicalizedResourcePath(path, doubleUrlEncode) + "\n" +
-                        getCanonicalizedQueryString(request) + "\n" +
-                        getCanonicalizedHeaderString(request) + "\n" +
-                        getSignedHeadersString(request) + "\n" +
-                        contentSha256;
-        log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
+        /* This would optionally double url-encode the resource path */
+        final String canonicalizedResourcePath = getCanonicalizedResourcePath(path, doubleUrlEncode);
+        final String canonicalizedQueryString = getCanonicalizedQueryString(request);
+        final List<String> signedHeaders = getSortedSignedHeaders(request);
+
+        final StringBuilder buffer = CANONICAL_REQUEST_BUILDER.get();
+        buffer.setLength(0);
+        buffer.append(request.getHttpMethod().toString()).append('\n')
+                .append(canonicalizedResourcePath).append('\n')
+                .append(canonicalizedQueryString).append('\n');
+        appendCanonicalizedHeaders(buffer, request, signedHeaders);
+        buffer.append('\n');
+        appendSignedHeaders(buffer, signedHeaders);
+        buffer.append('\n').append(contentSha256);
+
+        final String canonicalRequest = buffer.toString();
+        if (buffer.capacity() > MAX_CACHED_BUILDER_CAPACITY) {
+            CANONICAL_REQUEST_BUILDER.remove();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
+        }
         return canonicalRequest;
     }
 
     protected String getStringToSign(String algorithm, String dateTime, String scope,
             String canonicalRequest) {
-        final String stringToSign =
-                algorithm + "\n" +
-                        dateTime + "\n" +
-                        scope + "\n" +
-                        BinaryUtils.toHex(hash(canonicalRequest));
-        log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
+        final String stringToSign = new StringBuilder(algorithm.length() + dateTime.length()
+                + scope.length() + SHA256_HEX_LENGTH + 3)
+                .append(algorithm).append('\n')
+                .append(dateTime).append('\n')
+                .append(scope).append('\n')
+                .append(BinaryUtils.toHex(hash(canonicalRequest)))
+                .toString();
+        if (log.isDebugEnabled()) {
+            log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
+        }
         return stringToSign;
     }
 
@@ -300,20 +307,93 @@ public class AWS4Signer extends AbstractAWSSigner
         final String stringToSign = getStringToSign(algorithm, timeStamp, scope,
                 getCanonicalRequest(request, contentSha256));
 
-        // AWS4 uses a series of derived keys, formed by hashing different
-        // pieces of data
-        final byte[] kSecret = ("AWS4" + sanitizedCredentials.getAWSSecretKey())
-                .getBytes(StringUtils.UTF8);
-        final byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
-        final byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
-        final byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
-        final byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+        final byte[] kSigning = getSigningKey(sanitizedCredentials.getAWSSecretKey(),
+                dateStamp, regionName, serviceName, scope);
 
         final byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
                 SigningAlgorithm.HmacSHA256);
         return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
     }
 
+    /**
+     * Returns the key derived from the secret key for the given scope. AWS4
+     * uses a series of derived keys, formed by hashing different pieces of
+     * data. The key only changes with the date, so it is kept in a cache
+     * shared by all the signers rather than derived again for each request.
+     */
+    private byte[] getSigningKey(String secretKey, String dateStamp, String regionName,
+            String serviceName, String scope) {
+        final String cacheKey = secretKey + "/" + scope;
+        byte[] kSigning = SIGNING_KEY_CACHE.get(cacheKey);
+        if (kSigning == null) {
+            final byte[] kSecret = ("AWS4" + secretKey).getBytes(StringUtils.UTF8);
+            final byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
+            final byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
+            final byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
+            kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+            SIGNING_KEY_CACHE.put(cacheKey, kSigning);
+        }
+        return kSigning;
+    }
+
+    /**
+     * Returns the headers of the request that need to be signed, sorted in a
+     * case insensitive order.
+     */
+    private List<String> getSortedSignedHeaders(Request<?> request) {
+        final List<String> sortedHeaders = new ArrayList<String>(request.getHeaders().size());
+        for (final String header : request.getHeaders().keySet()) {
+            if (needsSign(header)) {
+                sortedHeaders.add(header);
+            }
+        }
+        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+        return sortedHeaders;
+    }
+
+    private void appendCanonicalizedHeaders(StringBuilder buffer, Request<?> request,
+            List<String> sortedHeaders) {
+        for (final String header : sortedHeaders) {
+            appendCompactedWhitespace(buffer, StringUtils.lowerCase(header));
+            buffer.append(':');
+            final String value = request.getHeaders().get(header);
+            if (value != null) {
+                appendCompactedWhitespace(buffer, value);
+            }
+            buffer.append('\n');
+        }
+    }
+
+    private void appendSignedHeaders(StringBuilder buffer, List<String> sortedHeaders) {
+        for (int i = 0; i < sortedHeaders.size(); i++) {
+            if (i > 0) {
+                buffer.append(';');
+            }
+            buffer.append(StringUtils.lowerCase(sortedHeaders.get(i)));
+        }
+    }
+
+    /**
+     * Appends the value with each run of whitespace replaced by a single
+     * space, the same as {@code value.replaceAll("\\s+", " ")} without
+     * compiling a pattern.
+     */
+    private static void appendCompactedWhitespace(StringBuilder buffer, String value) {
+        boolean inWhitespace = false;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                if (!inWhitespace) {
+                    buffer.append(' ');
+                    inWhitespace = true;
+                }
+            } else {
+                buffer.append(c);
+                inWhitespace = false;
+            }
+        }
+    }
+
     protected final String getTimeStamp(long dateMilli) {
         return DateUtils.format(TIME_PATTERN, new Date(dateMilli));
     }
@@ -355,8 +435,18 @@ public class AWS4Signer extends AbstractAWSSigner
      * do any other necessary set-ups on the request headers. (e.g. aws-chunked
      * uses a pre-defined header value, and needs to change some headers
      * relating to content-encoding and content-length.)
+     * <p>
+     * The hash of the content is kept on a {@link DefaultRequest}, so the
+     * content isn't read again when the request is signed again on retry. A
+     * hash already set with {@link DefaultRequest#setContentSha256(String)},
+     * for example one computed while the content was produced, is used as is.
      */
     protected String calculateContentHash(Request<?> request) {
+        final DefaultRequest<?> defaultRequest = request.getContent() != null
+                && request instanceof DefaultRequest ? (DefaultRequest<?>) request : null;
+        if (defaultRequest != null && defaultRequest.getContentSha256() != null) {
+            return defaultRequest.getContentSha256();
+        }
         final InputStream payloadStream = getBinaryRequestPayloadStream(request);
         payloadStream.mark(-1);
         final String contentSha256 = BinaryUtils.toHex(hash(payloadStream));
@@ -366,6 +456,9 @@ public class AWS4Signer extends AbstractAWSSigner
             throw new AmazonClientException(
                     "Unable to reset stream after calculating AWS4 signature", e);
         }
+        if (defaultRequest != null) {
+            defaultRequest.setContentSha256(contentSha256);
+        }
         return contentSha256;
     }
 
@@ -501,4 +594,35 @@ public class AWS4Signer extends AbstractAWSSigner
                 || "host".equalsIgnoreCase(header)
                 || header.startsWith("x-amz") || header.startsWith("X-Amz");
     }
+
+    /**
+     * A bounded cache of derived signing keys, keyed by secret key and scope.
+     * The least recently used key is evicted once the max size is reached.
+     */
+    static final class SigningKeyCache {
+        private final Map<String, byte[]> cache;
+
+        SigningKeyCache(final int maxSize) {
+            cache = new LinkedHashMap<String, byte[]>(maxSize, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized byte[] get(String key) {
+            return cache.get(key);
+        }
+
+        synchronized void put(String key, byte[] signingKey) {
+            cache.put(key, signingKey);
+        }
+
+        synchronized int size() {
+            return cache.size();
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.amazonaws.SDKGlobalConfiguration;
 import com.amazonaws.internal.SdkDigestInputStream;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.HttpUtils;
 import com.amazonaws.util.StringInputStream;
 import com.amazonaws.util.StringUtils;
@@ -34,11 +35,10 @@ import java.net.URI;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -58,6 +58,12 @@ public abstract class AbstractAWSSigner implements Signer {
     private static final int DEFAULT_BUFFER_SIZE = 1024;
     private static final int BUFFER_SIZE_MULTIPLIER = 5;
     private static final int TIME_MILLISEC = 1000;
+    private static final Comparator<String[]> PAIR_KEY_COMPARATOR = new Comparator<String[]>() {
+        @Override
+        public int compare(String[] left, String[] right) {
+            return left[0].compareTo(right[0]);
+        }
+    };
 
     static {
         SHA256_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
@@ -119,7 +125,7 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
         try {
-            final Mac mac = Mac.getInstance(algorithm.toString());
+            final Mac mac = algorithm.getMac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (final Exception e) {
@@ -158,9 +164,14 @@ public abstract class AbstractAWSSigner implements Signer {
             final MessageDigest md = getMessageDigestInstance();
             @SuppressWarnings("resource")
             final DigestInputStream digestInputStream = new SdkDigestInputStream(input, md);
-            final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
-            while (digestInputStream.read(buffer) > -1) {
-                ;
+            final BufferPool pool = BufferPool.getSharedPool();
+            final byte[] buffer = pool.acquire();
+            try {
+                while (digestInputStream.read(buffer) > -1) {
+                    ;
+                }
+            } finally {
+                pool.release(buffer);
             }
             return digestInputStream.getMessageDigest().digest();
         } catch (final Exception e) {
@@ -199,27 +210,28 @@ public abstract class AbstractAWSSigner implements Signer {
      * @return A canonicalized form for the specified query string parameters.
      */
     protected String getCanonicalizedQueryString(Map<String, String> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
 
-        final SortedMap<String, String> sorted = new TreeMap<String, String>();
-
-        Iterator<Map.Entry<String, String>> pairs = parameters.entrySet().iterator();
-        while (pairs.hasNext()) {
-            final Map.Entry<String, String> pair = pairs.next();
-            final String key = pair.getKey();
-            final String value = pair.getValue();
-            sorted.put(HttpUtils.urlEncode(key, false), HttpUtils.urlEncode(value, false));
+        // Sorts the encoded pairs by key in place instead of through a sorted
+        // map; keys are unique, so are their encodings.
+        final String[][] sorted = new String[parameters.size()][];
+        int i = 0;
+        for (final Map.Entry<String, String> pair : parameters.entrySet()) {
+            sorted[i++] = new String[] {
+                    HttpUtils.urlEncode(pair.getKey(), false),
+                    HttpUtils.urlEncode(pair.getValue(), false)
+            };
         }
+        Arrays.sort(sorted, PAIR_KEY_COMPARATOR);
 
         final StringBuilder builder = new StringBuilder();
-        pairs = sorted.entrySet().iterator();
-        while (pairs.hasNext()) {
-            final Map.Entry<String, String> pair = pairs.next();
-            builder.append(pair.getKey());
-            builder.append("=");
-            builder.append(pair.getValue());
-            if (pairs.hasNext()) {
-                builder.append("&");
+        for (i = 0; i < sorted.length; i++) {
+            if (i > 0) {
+                builder.append('&');
             }
+            builder.append(sorted[i][0]).append('=').append(sorted[i][1]);
         }
 
         return builder.toString();
@@ -29,6 +29,7 @@ import com.amazonaws.services.securitytoken.AWSSecurityTokenService;
 import com.amazonaws.util.VersionInfoUtils;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -464,9 +465,14 @@ public class CognitoCachingCredentialsProvider
         return identityId;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see com.amazonaws.auth.CognitoCredentialsProvider#getOrStartSession()
+     * Loads the cached credentials before starting a new session, and saves
+     * the credentials of a new session.
+     */
     @Override
-    public AWSSessionCredentials getCredentials() {
-    	credentialsLock.writeLock().lock();
+    protected AWSSessionCredentials getOrStartSession() {
         try {
             // return only if the credentials are valid
         	if (sessionCredentials == null) {
@@ -479,7 +485,7 @@ public class CognitoCachingCredentialsProvider
         	// super will validate loaded credentials
         	// and fetch if necessary
             LOG.debug("Making a network call to fetch credentials.");
-        	super.getCredentials();
+        	super.getOrStartSession();
 
         	// null check before saving credentials
         	if (sessionCredentialsExpiration != null) {
@@ -493,14 +499,12 @@ public class CognitoCachingCredentialsProvider
                 // If the fetch failed then the credentials don't
                 // match the current id, so clear them
                 super.setIdentityId(null);
-                super.getCredentials();
+                super.getOrStartSession();
                 return sessionCredentials;
             }
             else {
                 throw e;
             }
-        } finally {
-        	credentialsLock.writeLock().unlock();
         }
     }
     
@@ -638,10 +642,12 @@ public class CognitoCachingCredentialsProvider
     private void saveCredentials(final AWSSessionCredentials sessionCredentials, final long time) {
         LOG.debug("Saving credentials to SharedPreferences");
         if (sessionCredentials != null) {
-            awsKeyValueStore.put(namespace(AK_KEY), sessionCredentials.getAWSAccessKeyId());
-            awsKeyValueStore.put(namespace(SK_KEY), sessionCredentials.getAWSSecretKey());
-            awsKeyValueStore.put(namespace(ST_KEY), sessionCredentials.getSessionToken());
-            awsKeyValueStore.put(namespace(EXP_KEY), String.valueOf(time));
+            final Map<String, String> entries = new HashMap<String, String>();
+            entries.put(namespace(AK_KEY), sessionCredentials.getAWSAccessKeyId());
+            entries.put(namespace(SK_KEY), sessionCredentials.getAWSSecretKey());
+            entries.put(namespace(ST_KEY), sessionCredentials.getSessionToken());
+            entries.put(namespace(EXP_KEY), String.valueOf(time));
+            awsKeyValueStore.putAll(entries);
         }
     }
 
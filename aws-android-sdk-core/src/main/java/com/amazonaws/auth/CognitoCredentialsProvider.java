@@ -20,6 +20,7 @@ import com.amazonaws.AmazonWebServiceClient;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.async.AsyncRuntime;
 import com.amazonaws.mobile.config.AWSConfiguration;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
@@ -38,6 +39,10 @@ import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 import org.json.JSONObject;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.Date;
 import java.util.HashMap;
@@ -91,6 +96,26 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
 
     protected final ReentrantReadWriteLock credentialsLock;
 
+    /** Minimum time between two failed background refreshes */
+    private static final long BACKGROUND_REFRESH_RETRY_MILLIS = 10 * 1000;
+
+    /**
+     * The current credentials and their expiration, published for
+     * {@link #getCredentials()} to read without locking. Replaced whenever
+     * the credentials change, with the write lock held.
+     */
+    private volatile CredentialsSnapshot credentialsSnapshot;
+
+    /** Runs the background refreshes, one at a time */
+    private final ExecutorService refreshExecutor = AsyncRuntime.newClientExecutor(1);
+    private final AtomicBoolean backgroundRefreshInFlight = new AtomicBoolean();
+    private volatile long nextBackgroundRefreshTime;
+
+    private final AtomicLong credentialsHitCount = new AtomicLong();
+    private final AtomicLong credentialsMissCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private volatile long lastRefreshLatency;
+
     /**
      * Constructs a new {@link CognitoCredentialsProvider}, which will use the
      * specified Amazon Cognito identity pool to make a request, using the basic
@@ -435,6 +460,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         credentialsLock.writeLock().lock();
         try {
             sessionCredentialsExpiration = expiration;
+            publishCredentials();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -462,23 +488,145 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     }
 
     /**
-     * If the current session has expired/credentials are invalid, a new session
-     * is started, establishing the credentials. In either case, those
-     * credentials are returned
+     * Returns the current credentials without locking while they haven't
+     * expired. Once they are within twice the refresh threshold of their
+     * expiration, a new session is started in the background, and the current
+     * credentials are returned until it is established. Only when there are
+     * no credentials, or they have expired, does the caller wait for a new
+     * session to be started.
      */
     @Override
     public AWSSessionCredentials getCredentials() {
+        final CredentialsSnapshot snapshot = credentialsSnapshot;
+        if (snapshot != null) {
+            final long timeRemaining = snapshot.expirationTime - getCurrentTime();
+            if (timeRemaining > 0) {
+                if (timeRemaining < 2L * refreshThreshold * 1000) {
+                    startBackgroundRefresh();
+                }
+                credentialsHitCount.incrementAndGet();
+                return snapshot.credentials;
+            }
+        }
+
+        credentialsMissCount.incrementAndGet();
         credentialsLock.writeLock().lock();
         try {
-            if (needsNewSession()) {
-                startSession();
+            final AWSSessionCredentials credentials = getOrStartSession();
+            publishCredentials();
+            return credentials;
+        } finally {
+            credentialsLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * If the current session has expired/credentials are invalid, a new session
+     * is started, establishing the credentials. In either case, those
+     * credentials are returned. Called with the write lock of
+     * {@link #credentialsLock} held, by callers which found no valid
+     * credentials; one of them may have started a session meanwhile.
+     *
+     * @return the session credentials
+     */
+    protected AWSSessionCredentials getOrStartSession() {
+        if (needsNewSession()) {
+            startSession();
+        }
+        return sessionCredentials;
+    }
+
+    /**
+     * Starts a new session on the refresh executor, unless one is already
+     * being started.
+     */
+    private void startBackgroundRefresh() {
+        if (System.currentTimeMillis() < nextBackgroundRefreshTime
+                || !backgroundRefreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        refreshIfUnchanged(credentialsSnapshot);
+                    } catch (final RuntimeException e) {
+                        log.warn("Failed to refresh credentials in the background.", e);
+                        nextBackgroundRefreshTime = System.currentTimeMillis()
+                                + BACKGROUND_REFRESH_RETRY_MILLIS;
+                    } finally {
+                        backgroundRefreshInFlight.set(false);
+                    }
+                }
+            });
+        } catch (final RuntimeException e) {
+            backgroundRefreshInFlight.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Refreshes the credentials, unless another caller has replaced them
+     * since the snapshot was taken.
+     */
+    private void refreshIfUnchanged(CredentialsSnapshot snapshot) {
+        credentialsLock.writeLock().lock();
+        try {
+            if (credentialsSnapshot == snapshot) {
+                refresh();
             }
-            return sessionCredentials;
         } finally {
             credentialsLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Publishes the current credentials and their expiration for
+     * {@link #getCredentials()}. Must be called with the write lock of
+     * {@link #credentialsLock} held.
+     */
+    private void publishCredentials() {
+        if (sessionCredentials == null || sessionCredentialsExpiration == null) {
+            credentialsSnapshot = null;
+        } else if (credentialsSnapshot == null
+                || credentialsSnapshot.credentials != sessionCredentials
+                || credentialsSnapshot.expirationTime != sessionCredentialsExpiration.getTime()) {
+            credentialsSnapshot = new CredentialsSnapshot(sessionCredentials,
+                    sessionCredentialsExpiration.getTime());
+        }
+    }
+
+    /**
+     * @return the number of calls to {@link #getCredentials()} served with
+     *         the current credentials, without waiting.
+     */
+    public long getCredentialsHitCount() {
+        return credentialsHitCount.get();
+    }
+
+    /**
+     * @return the number of calls to {@link #getCredentials()} which found no
+     *         valid credentials and waited for a session to be started.
+     */
+    public long getCredentialsMissCount() {
+        return credentialsMissCount.get();
+    }
+
+    /**
+     * @return the number of sessions started, successfully or not.
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * @return how long the last session took to start, in milliseconds.
+     */
+    public long getLastRefreshLatency() {
+        return lastRefreshLatency;
+    }
+
     /**
      * Set the duration of the session credentials created by this client in
      * seconds. Values must be supported by AssumeRoleWithWebIdentityRequest.
@@ -638,6 +786,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         credentialsLock.writeLock().lock();
         try {
             startSession();
+            publishCredentials();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -668,6 +817,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         try {
             sessionCredentials = null;
             sessionCredentialsExpiration = null;
+            publishCredentials();
         } finally {
             credentialsLock.writeLock().unlock();
         }
@@ -677,6 +827,16 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
      * Starts a new session by getting short lived session credentials.
      */
     protected void startSession() {
+        final long start = System.nanoTime();
+        try {
+            startSessionWithIdentity();
+        } finally {
+            refreshCount.incrementAndGet();
+            lastRefreshLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    private void startSessionWithIdentity() {
 
         // make sure we have an identityId. In the case of cognito identity,
         // the try catch will handle a deleted or corrupted id.
@@ -856,13 +1016,19 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         if (sessionCredentials == null) {
             return true;
         }
-        long currentTime = System.currentTimeMillis()
-                - SDKGlobalConfiguration.getGlobalTimeOffset() * 1000;
         long timeRemaining = sessionCredentialsExpiration.getTime()
-                - currentTime;
+                - getCurrentTime();
         return timeRemaining < (refreshThreshold * 1000);
     }
 
+    /**
+     * @return the current time, adjusted by the global time offset.
+     */
+    private static long getCurrentTime() {
+        return System.currentTimeMillis()
+                - SDKGlobalConfiguration.getGlobalTimeOffset() * 1000;
+    }
+
     /**
      * Append user agent string to the request. The final string is what is set
      * in the ClientCofniguration concatenated with the given userAgent string.
@@ -904,4 +1070,17 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     public void unregisterIdentityChangedListener(IdentityChangedListener listener) {
         identityProvider.unregisterIdentityChangedListener(listener);
     }
+
+    /**
+     * Credentials and their expiration time, read together without locking.
+     */
+    private static final class CredentialsSnapshot {
+        final AWSSessionCredentials credentials;
+        final long expirationTime;
+
+        CredentialsSnapshot(AWSSessionCredentials credentials, long expirationTime) {
+            this.credentials = credentials;
+            this.expirationTime = expirationTime;
+        }
+    }
 }
@@ -31,6 +31,18 @@ import com.amazonaws.util.TimingInfo;
  * Note {@link TimingInfo} is accessible via
  * {@link Request#getAWSRequestMetrics()} and hence is omitted from the
  * interface to reduce duplication by design.
+ * <p>
+ * A call is normally seen once: {@link #beforeRequest(Request)}, then either
+ * {@link #afterResponse(Request, Response)} or
+ * {@link #afterError(Request, Response, Exception)}, with retries in between
+ * invisible to the handler. A call made by a task submitted with
+ * {@link com.amazonaws.async.AsyncRuntime#submit(java.util.concurrent.ExecutorService, com.amazonaws.AmazonWebServiceRequest, java.util.concurrent.Callable)}
+ * is the exception: when it waits for a retry backoff, the task runs again
+ * from the start, so {@link #beforeRequest(Request)} is called again with a
+ * new request for each run, and only the request of the last run is passed
+ * to {@link #afterResponse(Request, Response)} or
+ * {@link #afterError(Request, Response, Exception)}. Handlers that keep state
+ * per call must not rely on seeing the same request object throughout.
  */
 public abstract class RequestHandler2 {
 
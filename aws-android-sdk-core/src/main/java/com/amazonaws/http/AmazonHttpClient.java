@@ -27,6 +27,7 @@ import com.amazonaws.RequestClientOptions.Marker;
 import com.amazonaws.Response;
 import com.amazonaws.ResponseMetadata;
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.async.AsyncRetryContext;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.handlers.CredentialsRequestHandler;
@@ -34,7 +35,9 @@ import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.ClientSideRateLimiter;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryQuota;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
@@ -70,6 +73,7 @@ public class AmazonHttpClient {
     private static final int HTTP_STATUS_TEMP_REDIRECT = 307;
     private static final int HTTP_STATUS_MULTIPLE_CHOICES = 300;
     private static final int HTTP_STATUS_REQ_TOO_LONG = 413;
+    private static final int HTTP_STATUS_TOO_MANY_REQUESTS = 429;
     private static final int HTTP_STATUS_SERVICE_UNAVAILABLE = 503;
 
     private static final long TIME_MILLISEC = 1000L;
@@ -104,6 +108,12 @@ public class AmazonHttpClient {
 
     private final HttpRequestFactory requestFactory = new HttpRequestFactory();
 
+    /** Retry budget of the client, used in adaptive retry mode. */
+    private final RetryQuota retryQuota = new RetryQuota();
+
+    /** Send rate limiter of the client, used in adaptive retry mode. */
+    private final ClientSideRateLimiter rateLimiter = new ClientSideRateLimiter();
+
     /**
      * Constructs a new AWS client using the specified client configuration
      * options (ex: max retry attempts, proxy settings, etc).
@@ -225,15 +235,20 @@ public class AmazonHttpClient {
         final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         Response<T> response = null;
+        final AsyncRetryContext asyncRetryContext = AsyncRetryContext.enter(request);
         try {
             response = executeHelper(request, responseHandler, errorResponseHandler,
-                    executionContext);
+                    executionContext, asyncRetryContext);
             final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
             afterResponse(request, requestHandler2s, response, timingInfo);
             return response;
         } catch (final AmazonClientException e) {
             afterError(request, response, requestHandler2s, e);
             throw e;
+        } finally {
+            if (asyncRetryContext != null) {
+                asyncRetryContext.exit();
+            }
         }
     }
 
@@ -280,11 +295,24 @@ public class AmazonHttpClient {
      * @see AmazonHttpClient#execute(Request, HttpResponseHandler,
      *      HttpResponseHandler, ExecutionContext)
      */
-    @SuppressWarnings("checkstyle:methodlength")
     <T> Response<T> executeHelper(Request<?> request,
             HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
             ExecutionContext executionContext) {
+        return executeHelper(request, responseHandler, errorResponseHandler, executionContext,
+                null);
+    }
+
+    /**
+     * Internal method to execute the HTTP method given. When the call runs on
+     * the {@link com.amazonaws.async.AsyncRuntime}, the given context lets
+     * retries wait for their backoff on a timer instead of sleeping.
+     */
+    @SuppressWarnings("checkstyle:methodlength")
+    <T> Response<T> executeHelper(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext, AsyncRetryContext asyncRetryContext) {
         /*
          * Depending on which response handler we end up choosing to handle the
          * HTTP response, it might require us to leave the underlying HTTP
@@ -305,10 +333,12 @@ public class AmazonHttpClient {
         // user-agent.
         setUserAgent(request);
         request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
-        int requestCount = 0;
+        // A call resuming after a deferred retry picks up where it left off.
+        int requestCount = asyncRetryContext == null ? 0 : asyncRetryContext.getRequestCount();
         long lastBackoffDelay = 0;
         URI redirectedURI = null;
-        AmazonClientException retriedException = null;
+        AmazonClientException retriedException = asyncRetryContext == null ? null
+                : asyncRetryContext.getRetriedException();
 
         // Make a copy of the original request params and headers so that we can
         // permute it in this loop and start over with the original every time.
@@ -321,6 +351,8 @@ public class AmazonHttpClient {
             originalContent.mark(-1);
         }
 
+        final boolean adaptive = config.getRetryPolicy() != null
+                && config.getRetryPolicy().getRetryMode() == RetryPolicy.RetryMode.ADAPTIVE;
         final AWSCredentials credentials = executionContext.getCredentials();
         Signer signer = null;
         HttpResponse httpResponse = null;
@@ -341,16 +373,34 @@ public class AmazonHttpClient {
                 request.setResourcePath(redirectedURI.getPath());
             }
 
+            boolean backoffElapsed = false;
+            if (requestCount > 1 && asyncRetryContext != null) {
+                if (asyncRetryContext.isResuming()) {
+                    lastBackoffDelay = asyncRetryContext.resume();
+                    backoffElapsed = true;
+                } else if (retriedException != null) {
+                    // Frees the thread during the backoff; the call runs
+                    // again once it has elapsed.
+                    asyncRetryContext.defer(requestCount - 1, retriedException,
+                            delayBeforeNextRetry(request.getOriginalRequest(),
+                                    retriedException,
+                                    requestCount,
+                                    config.getRetryPolicy()));
+                }
+            }
+
             try {
                 if (requestCount > 1) { // retry
-                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
-                    try {
-                        lastBackoffDelay = pauseBeforeNextRetry(request.getOriginalRequest(),
-                                retriedException,
-                                requestCount,
-                                config.getRetryPolicy());
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                    if (!backoffElapsed) {
+                        awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                        try {
+                            lastBackoffDelay = pauseBeforeNextRetry(request.getOriginalRequest(),
+                                    retriedException,
+                                    requestCount,
+                                    config.getRetryPolicy());
+                        } finally {
+                            awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                        }
                     }
                     final InputStream content = request.getContent();
                     if (content != null && content.markSupported()) {
@@ -359,6 +409,9 @@ public class AmazonHttpClient {
                 }
                 request.addHeader(HEADER_SDK_RETRY_INFO,
                         (requestCount - 1) + "/" + lastBackoffDelay);
+                if (adaptive) {
+                    acquireSendToken();
+                }
 
                 // Sign the request if a signer was provided
                 if (signer == null) {
@@ -387,9 +440,14 @@ public class AmazonHttpClient {
                 } finally {
                     awsRequestMetrics.endEvent(Field.HttpRequestTime);
                 }
+                recordConnectionMetrics(httpResponse, awsRequestMetrics);
 
                 if (isRequestSuccessful(httpResponse)) {
                     awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
+                    if (adaptive) {
+                        retryQuota.release(requestCount > 1);
+                        updateSendingRate(false, awsRequestMetrics);
+                    }
                     /*
                      * If we get back any 2xx status code, then we know we
                      * should treat the service call as successful.
@@ -422,6 +480,9 @@ public class AmazonHttpClient {
                     awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
                     awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
                     awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
+                    if (adaptive) {
+                        updateSendingRate(isThrottling(ase), awsRequestMetrics);
+                    }
 
                     if (!shouldRetry(request.getOriginalRequest(),
                             httpRequest.getContent(),
@@ -490,6 +551,25 @@ public class AmazonHttpClient {
         } /* end while (true) */
     }
 
+    /**
+     * Records whether the http client reused a pooled connection, when it
+     * reports it. Only HTTPS connections are reported, so a new connection
+     * means a TLS handshake.
+     */
+    private void recordConnectionMetrics(HttpResponse httpResponse,
+            AWSRequestMetrics awsRequestMetrics) {
+        final Boolean reused = httpResponse.isConnectionReused();
+        if (reused == null) {
+            return;
+        }
+        if (reused) {
+            awsRequestMetrics.incrementCounter(Field.HttpClientPoolHitCount);
+        } else {
+            awsRequestMetrics.incrementCounter(Field.HttpClientPoolMissCount);
+            awsRequestMetrics.incrementCounter(Field.HttpClientHandshakeCount);
+        }
+    }
+
     /**
      * Handles an unexpected failure, returning the Throwable instance as given.
      */
@@ -616,9 +696,50 @@ public class AmazonHttpClient {
 
         // Pass all the context information to the RetryCondition and let it
         // decide whether it should be retried.
-        return retryPolicy.getRetryCondition().shouldRetry(originalRequest,
+        if (!retryPolicy.getRetryCondition().shouldRetry(originalRequest,
                 exception,
-                retries);
+                retries)) {
+            return false;
+        }
+
+        // In adaptive mode, the retry also needs tokens of the client's quota.
+        if (retryPolicy.getRetryMode() == RetryPolicy.RetryMode.ADAPTIVE
+                && !retryQuota.tryAcquire()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Retry quota exhausted");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Waits for the client-side rate limiter to let the next request through.
+     */
+    private void acquireSendToken() {
+        try {
+            rateLimiter.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Feeds the response to a request to the client-side rate limiter and
+     * records the state of the adaptive retry mode. Transport errors aren't
+     * fed, as they tell nothing about throttling by the service.
+     */
+    private void updateSendingRate(boolean throttled, AWSRequestMetrics awsRequestMetrics) {
+        rateLimiter.updateSendingRate(throttled);
+        awsRequestMetrics.addProperty(Field.ClientSendRate, rateLimiter.getSendRate());
+        awsRequestMetrics.addProperty(Field.RetryQuotaCapacity,
+                retryQuota.getAvailableCapacity());
+    }
+
+    private static boolean isThrottling(AmazonServiceException ase) {
+        return RetryUtils.isThrottlingException(ase)
+                || ase.getStatusCode() == HTTP_STATUS_TOO_MANY_REQUESTS;
     }
 
     private static boolean isTemporaryRedirect(HttpResponse response) {
@@ -744,8 +865,7 @@ public class AmazonHttpClient {
     }
 
     /**
-     * Sleep for a period of time on failed request to avoid flooding a service
-     * with retries.
+     * Returns the delay before the next retry of a failed request.
      *
      * @param originalRequest The original service request that is being
      *            executed.
@@ -755,7 +875,7 @@ public class AmazonHttpClient {
      *            after the delay)
      * @param retryPolicy The retry policy configured in this http client.
      */
-    private long pauseBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+    private long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
             AmazonClientException previousException,
             int requestCount,
             RetryPolicy retryPolicy) {
@@ -770,6 +890,27 @@ public class AmazonHttpClient {
             log.debug("Retriable error detected, " +
                     "will retry in " + delay + "ms, attempt number: " + retries);
         }
+        return delay;
+    }
+
+    /**
+     * Sleep for a period of time on failed request to avoid flooding a service
+     * with retries.
+     *
+     * @param originalRequest The original service request that is being
+     *            executed.
+     * @param previousException Exception information for the previous attempt,
+     *            if any.
+     * @param requestCount current request count (including the next attempt
+     *            after the delay)
+     * @param retryPolicy The retry policy configured in this http client.
+     */
+    private long pauseBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+            AmazonClientException previousException,
+            int requestCount,
+            RetryPolicy retryPolicy) {
+        final long delay = delayBeforeNextRetry(originalRequest, previousException,
+                requestCount, retryPolicy);
 
         try {
             Thread.sleep(delay);
@@ -34,14 +34,17 @@ public class HttpResponse {
     // Raw content input stream without decoding
     private final InputStream rawContent;
     private final Map<String, String> headers;
+    // Whether a pooled connection was reused, null if the client can't tell
+    private final Boolean connectionReused;
     private InputStream content;
 
     private HttpResponse(String statusText, int statusCode, Map<String, String> headers,
-            InputStream rawContent) {
+            InputStream rawContent, Boolean connectionReused) {
         this.statusText = statusText;
         this.statusCode = statusCode;
         this.headers = headers;
         this.rawContent = rawContent;
+        this.connectionReused = connectionReused;
     }
 
     /**
@@ -103,6 +106,15 @@ public class HttpResponse {
         return statusCode;
     }
 
+    /**
+     * @return whether the response was received over a connection reused from
+     *         the pool of the http client, or null if the client doesn't
+     *         report it.
+     */
+    Boolean isConnectionReused() {
+        return connectionReused;
+    }
+
     /**
      * Creates a builder for {@link HttpResponse}.
      *
@@ -119,6 +131,7 @@ public class HttpResponse {
         private String statusText;
         private int statusCode;
         private InputStream content;
+        private Boolean connectionReused;
         private final Map<String, String> headers = new HashMap<String, String>();
 
         /**
@@ -169,6 +182,19 @@ public class HttpResponse {
             return this;
         }
 
+        /**
+         * Sets whether the response was received over a reused connection.
+         *
+         * @param connectionReused whether the connection was reused, or null
+         *            if unknown
+         * @return builder itself
+         */
+        @SuppressWarnings("checkstyle:hiddenfield")
+        Builder connectionReused(Boolean connectionReused) {
+            this.connectionReused = connectionReused;
+            return this;
+        }
+
         /**
          * Builds an instance of {@link HttpResponse}
          *
@@ -176,7 +202,7 @@ public class HttpResponse {
          */
         public HttpResponse build() {
             return new HttpResponse(statusText, statusCode,
-                    Collections.unmodifiableMap(headers), content);
+                    Collections.unmodifiableMap(headers), content, connectionReused);
         }
     }
 }
@@ -21,6 +21,7 @@ import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.transform.JsonUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.VoidJsonUnmarshaller;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.CRC32ChecksumCalculatingInputStream;
 import com.amazonaws.util.StringUtils;
 import com.amazonaws.util.json.AwsJsonReader;
@@ -32,8 +33,7 @@ import com.amazonaws.logging.LogFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
 
@@ -115,8 +115,7 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             content = new GZIPInputStream(content);
         }
 
-        final AwsJsonReader jsonReader = JsonUtils.getJsonReader(new InputStreamReader(content,
-                StringUtils.UTF8));
+        final AwsJsonReader jsonReader = JsonUtils.getJsonReader(content);
 
         try {
             final AmazonWebServiceResponse<T> awsResponse = new AmazonWebServiceResponse<T>();
@@ -126,6 +125,9 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             final T result = responseUnmarshaller.unmarshall(unmarshallerContext);
 
             if (checksumCalculatingInputStream != null) {
+                // The reader may stop at the end of the document, before the
+                // end of the stream, which the checksum must cover.
+                drain(content);
                 final long serverSideCRC = Long.parseLong(crc32Checksum);
                 final long clientSideCRC = checksumCalculatingInputStream.getCRC32Checksum();
                 if (clientSideCRC != serverSideCRC) {
@@ -136,8 +138,8 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
 
             awsResponse.setResult(result);
 
-            final Map<String, String> metadata = new HashMap<String, String>();
-            metadata.put(ResponseMetadata.AWS_REQUEST_ID,
+            final Map<String, String> metadata = Collections.singletonMap(
+                    ResponseMetadata.AWS_REQUEST_ID,
                     response.getHeaders().get("x-amzn-RequestId"));
             awsResponse.setResponseMetadata(new ResponseMetadata(metadata));
 
@@ -154,6 +156,18 @@ public class JsonResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
         }
     }
 
+    private static void drain(InputStream in) throws IOException {
+        final BufferPool pool = BufferPool.getSharedPool();
+        final byte[] buffer = pool.acquire();
+        try {
+            while (in.read(buffer) != -1) {
+                // discard
+            }
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
     /**
      * Hook for subclasses to override in order to collect additional metadata
      * from service responses.
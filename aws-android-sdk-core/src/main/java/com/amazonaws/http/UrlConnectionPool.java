@@ -0,0 +1,418 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.util.BufferPool;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * The connection pool of a {@link UrlHttpClient} in pooled mode.
+ * {@link HttpURLConnection} keeps its own cache of keep-alive connections,
+ * which this class steers rather than replaces:
+ * <ul>
+ * <li>each request leases one of the {@code maxConnectionsPerHost} slots of
+ * its host until its response headers are received, so that no more
+ * connections are opened to a host at a time than can be kept alive. The
+ * slot is not held while the body is read, so a response that is never
+ * closed doesn't block the requests after it;</li>
+ * <li>the response body is drained when closed early, so that the connection
+ * goes back to the cache instead of being discarded;</li>
+ * <li>HTTPS connections are opened through a socket factory of the pool,
+ * which tells new connections from reused ones, and closes the connections
+ * of a host once no request or response body of it has been open for
+ * {@code maxIdleMillis}.</li>
+ * </ul>
+ * Plain HTTP connections are limited and drained, but can't be observed.
+ */
+final class UrlConnectionPool {
+
+    private static final Log log = LogFactory.getLog(UrlConnectionPool.class);
+
+    /**
+     * Maximum number of bytes read from an unread response body to reuse its
+     * connection; above that, reconnecting is cheaper.
+     */
+    static final int MAX_DRAIN_BYTES = 64 * 1024;
+
+    private final int maxConnectionsPerHost;
+    private final long maxIdleMillis;
+    private final Map<String, Route> routes = new HashMap<String, Route>();
+    private final ThreadLocal<Lease> currentLease = new ThreadLocal<Lease>();
+
+    private SSLSocketFactory delegateFactory;
+    private SSLSocketFactory socketFactory;
+
+    /**
+     * @param maxConnectionsPerHost maximum number of requests to a host
+     *            waiting for their response headers
+     * @param maxIdleMillis time after which the idle connections of a host
+     *            are closed, or zero to leave them to {@link HttpURLConnection}
+     */
+    UrlConnectionPool(int maxConnectionsPerHost, long maxIdleMillis) {
+        if (maxConnectionsPerHost < 1) {
+            throw new IllegalArgumentException("maxConnectionsPerHost must be positive");
+        }
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    /**
+     * Returns the socket factory through which the pool observes the
+     * connections opened with the given factory. The same instance is
+     * returned as long as the given factory is the same, which
+     * {@link HttpURLConnection} requires to reuse connections.
+     */
+    synchronized SSLSocketFactory getSocketFactory(SSLSocketFactory delegate) {
+        if (delegate != delegateFactory) {
+            delegateFactory = delegate;
+            socketFactory = new ObservingSocketFactory(delegate);
+        }
+        return socketFactory;
+    }
+
+    /**
+     * Leases a connection slot for a request to the given URL, waiting up to
+     * the given timeout for one to be released.
+     *
+     * @param url the URL of the request
+     * @param timeoutMillis maximum time to wait, zero to wait indefinitely
+     * @return the lease, bound to the current thread until
+     *         {@link Lease#connected()}
+     * @throws IOException if no slot was released in time
+     */
+    Lease lease(URL url, long timeoutMillis) throws IOException {
+        final int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        final String key = url.getProtocol() + "://" + url.getHost() + ":" + port;
+        final Lease lease;
+        synchronized (this) {
+            evictIdle(System.currentTimeMillis(), false);
+            Route route = routes.get(key);
+            if (route == null) {
+                route = new Route(key);
+                routes.put(key, route);
+            }
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (route.leased >= maxConnectionsPerHost) {
+                final long remaining = deadline - System.nanoTime();
+                if (timeoutMillis > 0 && remaining <= 0) {
+                    throw new SocketTimeoutException("Timed out waiting for a connection to "
+                            + key);
+                }
+                try {
+                    if (timeoutMillis > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } else {
+                        wait();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for a connection to "
+                            + key);
+                }
+            }
+            route.leased++;
+            lease = new Lease(route, "https".equalsIgnoreCase(url.getProtocol()));
+        }
+        currentLease.set(lease);
+        return lease;
+    }
+
+    /**
+     * Closes the idle connections observed by the pool.
+     */
+    synchronized void shutdown() {
+        evictIdle(System.currentTimeMillis(), true);
+    }
+
+    private synchronized void connected(Route route) {
+        route.leased--;
+        route.open++;
+        notifyAll();
+    }
+
+    private synchronized void release(Route route, boolean connected) {
+        if (connected) {
+            route.open--;
+        } else {
+            route.leased--;
+            notifyAll();
+        }
+        if (route.leased == 0 && route.open == 0) {
+            route.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    private synchronized void track(Route route, Socket socket) {
+        for (final Iterator<Socket> it = route.sockets.iterator(); it.hasNext();) {
+            if (it.next().isClosed()) {
+                it.remove();
+            }
+        }
+        route.sockets.add(socket);
+    }
+
+    private void evictIdle(long now, boolean all) {
+        for (final Iterator<Route> it = routes.values().iterator(); it.hasNext();) {
+            final Route route = it.next();
+            if (route.leased > 0 || route.open > 0) {
+                continue;
+            }
+            if (!all && (maxIdleMillis <= 0 || now - route.idleSince < maxIdleMillis)) {
+                continue;
+            }
+            for (final Socket socket : route.sockets) {
+                try {
+                    socket.close();
+                } catch (final IOException e) {
+                    log.debug("Unable to close idle connection to " + route.key, e);
+                }
+            }
+            it.remove();
+        }
+    }
+
+    private static final class Route {
+        final String key;
+        final List<Socket> sockets = new ArrayList<Socket>(2);
+        // Requests waiting for their response headers, and responses whose
+        // body is still open.
+        int leased;
+        int open;
+        long idleSince;
+
+        Route(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * A connection slot held by one request until its response headers are
+     * received.
+     */
+    final class Lease {
+        private final Route route;
+        private final boolean observed;
+        private boolean newConnection;
+        private boolean connected;
+        private boolean released;
+
+        Lease(Route route, boolean observed) {
+            this.route = route;
+            this.observed = observed;
+        }
+
+        /**
+         * Called once the response headers are received. Releases the slot,
+         * the connection counts as busy until {@link #release()}.
+         *
+         * @return whether the request was sent over a reused connection, or
+         *         null if the pool can't tell
+         */
+        Boolean connected() {
+            if (currentLease.get() == this) {
+                currentLease.remove();
+            }
+            synchronized (this) {
+                if (!connected && !released) {
+                    connected = true;
+                    UrlConnectionPool.this.connected(route);
+                }
+            }
+            return observed ? Boolean.valueOf(!newConnection) : null;
+        }
+
+        /**
+         * Releases the slot, or the connection once the response body is
+         * consumed or closed. Calling it again has no effect.
+         */
+        void release() {
+            if (currentLease.get() == this) {
+                currentLease.remove();
+            }
+            final boolean wasConnected;
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                wasConnected = connected;
+            }
+            UrlConnectionPool.this.release(route, wasConnected);
+        }
+
+        void onNewConnection(Socket socket) {
+            newConnection = true;
+            track(route, socket);
+        }
+    }
+
+    /**
+     * The body of a pooled response. It releases the connection of the
+     * request once fully read or closed, and drains what is left of it on close so
+     * that the connection can be reused.
+     */
+    static final class PooledInputStream extends FilterInputStream {
+        private final HttpURLConnection connection;
+        private final Lease lease;
+        private boolean eof;
+        private boolean closed;
+
+        PooledInputStream(InputStream in, HttpURLConnection connection, Lease lease) {
+            super(in);
+            this.connection = connection;
+            this.lease = lease;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                endOfStream();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read == -1) {
+                endOfStream();
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final boolean reusable = eof || drain();
+            try {
+                super.close();
+            } finally {
+                if (!reusable) {
+                    connection.disconnect();
+                }
+                lease.release();
+            }
+        }
+
+        private void endOfStream() {
+            eof = true;
+            lease.release();
+        }
+
+        private boolean drain() {
+            final BufferPool pool = BufferPool.getSharedPool();
+            final byte[] buffer = pool.acquire();
+            try {
+                long drained = 0;
+                int read;
+                while (drained <= MAX_DRAIN_BYTES && (read = in.read(buffer)) != -1) {
+                    drained += read;
+                }
+                return drained <= MAX_DRAIN_BYTES;
+            } catch (final IOException e) {
+                return false;
+            } finally {
+                pool.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Opens sockets with the delegate factory and reports them to the lease
+     * of the current thread.
+     */
+    private final class ObservingSocketFactory extends SSLSocketFactory {
+        private final SSLSocketFactory delegate;
+
+        ObservingSocketFactory(SSLSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        private Socket observe(Socket socket) {
+            final Lease lease = currentLease.get();
+            if (lease != null) {
+                lease.onNewConnection(socket);
+            }
+            return socket;
+        }
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return observe(delegate.createSocket());
+        }
+
+        @Override
+        public Socket createSocket(Socket s, String host, int port, boolean autoClose)
+                throws IOException {
+            return observe(delegate.createSocket(s, host, port, autoClose));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            return observe(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+                throws IOException {
+            return observe(delegate.createSocket(host, port, localHost, localPort));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            return observe(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+                int localPort) throws IOException {
+            return observe(delegate.createSocket(address, port, localAddress, localPort));
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package com.amazonaws.http;
 
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.util.BufferPool;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
@@ -35,6 +36,7 @@ import java.util.Map;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 
 /**
@@ -46,14 +48,23 @@ import javax.net.ssl.TrustManager;
  * some issue when talking to S3 service. See <a
  * href="http://docs.aws.amazon.com/AmazonS3/latest/API/RESTObjectPUT.html">S3's
  * Put Object API</a> for the requirement of handling 100-continue.
+ * <p>
+ * When {@link ClientConfiguration#isUseConnectionPool()} is set, the client
+ * limits the connections being opened to each host to
+ * {@link ClientConfiguration#getMaxConnections()}, waiting up to
+ * {@link ClientConfiguration#getConnectionAcquisitionTimeout()} for one,
+ * drains unread response bodies on close so that their connections are
+ * reused, and closes connections idle for longer than
+ * {@link ClientConfiguration#getConnectionMaxIdleMillis()}. These settings
+ * are read when the client is created.
  */
 public class UrlHttpClient implements HttpClient {
 
     private static final String TAG = "amazonaws";
     private static final Log log = LogFactory.getLog(UrlHttpClient.class);
-    private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private static final int BUFFER_SIZE_MULTIPLIER = 8;
     private final ClientConfiguration config;
+    // Null unless the client is in pooled mode.
+    private final UrlConnectionPool connectionPool;
 
     /**
      * Constructor.
@@ -61,33 +72,57 @@ public class UrlHttpClient implements HttpClient {
      */
     public UrlHttpClient(ClientConfiguration config) {
         this.config = config;
+        this.connectionPool = config.isUseConnectionPool()
+                ? new UrlConnectionPool(config.getMaxConnections(),
+                        config.getConnectionMaxIdleMillis())
+                : null;
     }
 
     @Override
     public HttpResponse execute(final HttpRequest request) throws IOException {
         final URL url = request.getUri().toURL();
-        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        final CurlBuilder curlBuilder = config.isCurlLogging()
-                ? new CurlBuilder(request.getUri().toURL()) : null;
+        final UrlConnectionPool.Lease lease = connectionPool == null ? null
+                : connectionPool.lease(url, config.getConnectionAcquisitionTimeout());
+        HttpResponse response = null;
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) url.openConnection();
+            final CurlBuilder curlBuilder = config.isCurlLogging()
+                    ? new CurlBuilder(request.getUri().toURL()) : null;
+
+            configureConnection(request, connection);
+            applyHeadersAndMethod(request, connection, curlBuilder);
+            writeContentToConnection(request, connection, curlBuilder);
 
-        configureConnection(request, connection);
-        applyHeadersAndMethod(request, connection, curlBuilder);
-        writeContentToConnection(request, connection, curlBuilder);
+            if (curlBuilder != null) {
+                if (curlBuilder.isValid()) {
+                    printToLog(curlBuilder.build());
+                } else {
+                    printToLog("Failed to create curl, content too long");
+                }
+            }
 
-        if (curlBuilder != null) {
-            if (curlBuilder.isValid()) {
-                printToLog(curlBuilder.build());
-            } else {
-                printToLog("Failed to create curl, content too long");
+            response = createHttpResponse(request, connection, lease);
+            return response;
+        } finally {
+            if (response == null && lease != null) {
+                // The connection is in an unknown state, don't reuse it.
+                if (connection != null) {
+                    connection.disconnect();
+                }
+                lease.release();
             }
         }
-
-        return createHttpResponse(request, connection);
     }
 
-    @SuppressWarnings("checkstyle:emptyblock")
     HttpResponse createHttpResponse(final HttpRequest request, final HttpURLConnection connection)
             throws IOException {
+        return createHttpResponse(request, connection, null /* lease */);
+    }
+
+    @SuppressWarnings("checkstyle:emptyblock")
+    HttpResponse createHttpResponse(final HttpRequest request, final HttpURLConnection connection,
+            final UrlConnectionPool.Lease lease) throws IOException {
         // connection.setDoOutput(true);
         final String statusText = connection.getResponseMessage();
         final int statusCode = connection.getResponseCode();
@@ -106,8 +141,16 @@ public class UrlHttpClient implements HttpClient {
 
         final HttpResponse.Builder builder = HttpResponse.builder()
                 .statusCode(statusCode)
-                .statusText(statusText)
-                .content(content);
+                .statusText(statusText);
+        if (lease != null) {
+            builder.connectionReused(lease.connected());
+            if (content == null) {
+                lease.release();
+            } else {
+                content = new UrlConnectionPool.PooledInputStream(content, connection, lease);
+            }
+        }
+        builder.content(content);
         for (final Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
             // skip null field that stores connection status
             if (header.getKey() == null) {
@@ -122,11 +165,14 @@ public class UrlHttpClient implements HttpClient {
     }
 
     /**
-     * This is no op.
+     * Closes the idle connections of the client in pooled mode, no op
+     * otherwise.
      */
     @Override
     public void shutdown() {
-        // No op
+        if (connectionPool != null) {
+            connectionPool.shutdown();
+        }
     }
 
     /**
@@ -239,17 +285,22 @@ public class UrlHttpClient implements HttpClient {
 
     private void write(InputStream is, OutputStream os, CurlBuilder curlBuilder,
             ByteBuffer curlBuffer) throws IOException {
-        final byte[] buf = new byte[DEFAULT_BUFFER_SIZE * BUFFER_SIZE_MULTIPLIER];
-        int len;
-        while ((len = is.read(buf)) != -1) {
-            try {
-                if (curlBuffer != null) {
-                    curlBuffer.put(buf, 0 /* offset */, len);
+        final BufferPool pool = BufferPool.getSharedPool();
+        final byte[] buf = pool.acquire();
+        try {
+            int len;
+            while ((len = is.read(buf)) != -1) {
+                try {
+                    if (curlBuffer != null) {
+                        curlBuffer.put(buf, 0 /* offset */, len);
+                    }
+                } catch (final BufferOverflowException e) {
+                    curlBuilder.setContentOverflow(true);
                 }
-            } catch (final BufferOverflowException e) {
-                curlBuilder.setContentOverflow(true);
+                os.write(buf, 0, len);
             }
-            os.write(buf, 0, len);
+        } finally {
+            pool.release(buf);
         }
     }
 
@@ -280,25 +331,32 @@ public class UrlHttpClient implements HttpClient {
             if (config.getTrustManager() != null) {
                 enableCustomTrustManager(https);
             }
+            if (connectionPool != null) {
+                https.setSSLSocketFactory(
+                        connectionPool.getSocketFactory(https.getSSLSocketFactory()));
+            }
         }
     }
 
-    private SSLContext sc = null;
+    private SSLSocketFactory sslSocketFactory = null;
 
     private void enableCustomTrustManager(HttpsURLConnection connection) {
-        if (sc == null) {
+        // The factory is created once: HttpsURLConnection only reuses
+        // connections opened with the same factory instance.
+        if (sslSocketFactory == null) {
             final TrustManager[] customTrustManagers = new TrustManager[] {
                     config.getTrustManager()
             };
             try {
-                sc = SSLContext.getInstance("TLS");
+                final SSLContext sc = SSLContext.getInstance("TLS");
                 sc.init(null, customTrustManagers, null);
+                sslSocketFactory = sc.getSocketFactory();
             } catch (final GeneralSecurityException e) {
                 throw new RuntimeException(e);
             }
         }
 
-        connection.setSSLSocketFactory(sc.getSocketFactory());
+        connection.setSSLSocketFactory(sslSocketFactory);
     }
 
     /*
@@ -29,6 +29,15 @@ public class SdkFilterInputStream extends FilterInputStream implements MetricAwa
         super(in);
     }
 
+    /**
+     * Returns the input stream this stream filters.
+     *
+     * @return the wrapped input stream
+     */
+    public InputStream getDelegateStream() {
+        return in;
+    }
+
     @Override
     @Deprecated
     public boolean isMetricActivated() {
@@ -26,10 +26,14 @@ import com.amazonaws.util.Base64;
 import java.security.Key;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
@@ -44,7 +48,18 @@ public class AWSKeyValueStore {
     // This cacheFactory will maintain a reference to the same cache for the same
     // SharedPreferences Name thus producing a 1:1 mapping between a in-memory cache
     // and the SharedPreferences.
-    static Map<String, HashMap<String, String>> cacheFactory = new HashMap<String, HashMap<String, String>>();
+    // The caches are shared by the instances, hence synchronized on their own.
+    static final ConcurrentMap<String, Map<String, String>> cacheFactory =
+            new ConcurrentHashMap<String, Map<String, String>>();
+
+    // The encryption keys once retrieved or generated, so that the key store
+    // is not accessed on every read and write. Keyed by the SharedPreferences
+    // name and the encryption key alias, since the stores with the same name
+    // share a key, while the alias of KeyProvider10 is the same for all stores.
+    // A key is dropped when it is deleted or generated again, or when it fails
+    // to encrypt or decrypt, to be retrieved again.
+    static final ConcurrentMap<String, Key> encryptionKeyCache =
+            new ConcurrentHashMap<String, Key>();
 
     // In-memory store operates on the key passed in and does not use the suffixes.
     private Map<String, String> cache;
@@ -99,13 +114,16 @@ public class AWSKeyValueStore {
     private static final int AWS_KEY_VALUE_STORE_VERSION = 1;
 
     private static Map<String, String> getCacheForKey(String key) {
-        if (cacheFactory.containsKey(key)) {
-            return cacheFactory.get(key);
-        } else {
-            HashMap<String, String> cache = new HashMap<String, String>();
-            cacheFactory.put(key, cache);
-            return cache;
+        Map<String, String> cache = cacheFactory.get(key);
+        if (cache == null) {
+            final Map<String, String> newCache =
+                    Collections.synchronizedMap(new HashMap<String, String>());
+            cache = cacheFactory.putIfAbsent(key, newCache);
+            if (cache == null) {
+                cache = newCache;
+            }
         }
+        return cache;
     }
 
     /**
@@ -220,7 +238,7 @@ public class AWSKeyValueStore {
         // If the encryption key cannot be retrieved, return null and
         // the consumer of get would treat it as if this data is not present
         // on the persistent store.
-        Key decryptionKey = retrieveEncryptionKey(encryptionKeyAlias);
+        Key decryptionKey = getEncryptionKey(encryptionKeyAlias);
         if (decryptionKey == null) {
             logger.error("Error in retrieving the decryption key " +
                     "used to decrypt the data from the persistent store. " +
@@ -252,6 +270,10 @@ public class AWSKeyValueStore {
             String decryptedDataInString = decrypt(decryptionKey,
                     getInitializationVector(dataKeyInPersistentStore),
                     encryptedData);
+            if (decryptedDataInString == null) {
+                // The key may be stale; retrieve it again on the next access.
+                invalidateEncryptionKey(encryptionKeyAlias, decryptionKey);
+            }
 
             // Update the in-memory cache after read from disk.
             cache.put(dataKey, decryptedDataInString);
@@ -284,69 +306,138 @@ public class AWSKeyValueStore {
             return;
         }
 
+        putAll(Collections.singletonMap(dataKey, value));
+    }
+
+    /**
+     * Store the key-value pairs in the key-value store.
+     *
+     * Same as calling {@link #put(String, String)} for each pair, except
+     * that when isPersistenceEnabled is true, all the pairs are encrypted
+     * with the same key and written to the persistent store together.
+     * A null value removes the pair.
+     *
+     * The pairs are persisted all or nothing: if any of them cannot be
+     * encrypted, none of them is written, and the persistent store keeps its
+     * previous values. They are still stored in memory.
+     *
+     * @param entries the key-value pairs to be stored
+     */
+    public synchronized void putAll(final Map<String, String> entries) {
+        storeAll(entries);
+    }
+
+    /**
+     * Same as {@link #putAll(Map)}, telling whether the pairs reached the
+     * persistent store.
+     *
+     * @param entries the key-value pairs to be stored
+     * @return true if the pairs were written to the persistent store, false
+     *         if they are only stored in memory.
+     */
+    synchronized boolean storeAll(final Map<String, String> entries) {
         // Irrespective of persistence is enabled or not, store in memory.
-        cache.put(dataKey, value);
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            if (entry.getKey() == null) {
+                logger.error("dataKey is null.");
+            } else if (entry.getValue() == null && isPersistenceEnabled) {
+                cache.remove(entry.getKey());
+            } else {
+                cache.put(entry.getKey(), entry.getValue());
+            }
+        }
         if (!isPersistenceEnabled) {
-            return;
+            return false;
         }
 
-        // Persistence
-        // Convert string to bytes -> Encrypt -> Base64 encode -> Store
-        if (value == null) {
-            logger.debug("Value is null. Removing the data, IV and version from SharedPreferences");
-            cache.remove(dataKey);
-            remove(dataKey);
-            return;
+        // The key held in memory may have been deleted from the key store
+        // since. It is dropped when it fails to encrypt, so a second attempt
+        // retrieves or generates the key again.
+        if (!persistAll(entries) && !persistAll(entries)) {
+            logger.error("None of the " + entries.size() +
+                    " values has been stored in the persistent store.");
+            return false;
         }
+        return true;
+    }
 
-        // dataKey becomes dataKey.encrypted
-        String dataKeyInPersistentStore = getDataKeyUsedInPersistentStore(dataKey);
+    /**
+     * Writes the key-value pairs to the persistent store in one editor,
+     * only if all of them can be encrypted.
+     *
+     * @return true if the pairs were written.
+     */
+    private boolean persistAll(final Map<String, String> entries) {
+        SharedPreferences.Editor editor = sharedPreferencesForData.edit();
+        Key key = null;
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            final String dataKey = entry.getKey();
+            final String value = entry.getValue();
+            if (dataKey == null) {
+                continue;
+            }
 
-        String encryptionKeyAlias = getEncryptionKeyAlias();
+            // dataKey becomes dataKey.encrypted
+            String dataKeyInPersistentStore = getDataKeyUsedInPersistentStore(dataKey);
 
-        // Based on the encryption key alias, retrieve the encryption key
-        // If the encryption key cannot be retrieved, create a new encryption key
-        // with the encryption key alias.
-        Key encryptionKey = retrieveEncryptionKey(encryptionKeyAlias);
-        if (encryptionKey == null) {
-            // If the encryption key is null, create a new encryption key
-            logger.warn("No encryption key found for encryptionKeyAlias: " + encryptionKeyAlias);
-            encryptionKey = generateEncryptionKey(encryptionKeyAlias);
-            if (encryptionKey == null) {
-                logger.error("Error in generating the encryption key for encryptionKeyAlias: " +
-                        encryptionKeyAlias + " used to encrypt the data before storing. " +
-                        "Skipping persisting the data in the persistent store.");
-                return;
+            if (value == null) {
+                logger.debug("Value is null. Removing the data, IV and version from SharedPreferences");
+                editor.remove(dataKeyInPersistentStore)
+                        .remove(dataKeyInPersistentStore + SHARED_PREFERENCES_IV_SUFFIX)
+                        .remove(dataKeyInPersistentStore + SHARED_PREFERENCES_STORE_VERSION_SUFFIX);
+                continue;
             }
-        }
 
-        try {
-            // Encrypt
-            byte[] iv = generateInitializationVector();
-            if (iv == null) {
-                throw new Exception("The generated IV for dataKey = " + dataKey +" is null.");
+            if (key == null) {
+                key = getOrGenerateEncryptionKey();
+                if (key == null) {
+                    return false;
+                }
             }
 
-            String base64EncodedEncryptedString = encrypt(encryptionKey,
-                    getAlgorithmParameterSpecForIV(iv),
-                    value);
-
-            // Persist
-            String base64EncodedIV = Base64.encodeAsString(iv);
-            if (base64EncodedIV == null) {
-                throw new Exception("Error in Base64 encoding the IV for dataKey = " + dataKey);
+            try {
+                persist(editor, key, dataKey, dataKeyInPersistentStore, value);
+            } catch (Exception ex) {
+                logger.error("Error in storing value for dataKey = " + dataKey + ".", ex);
+                return false;
             }
+        }
+        editor.apply();
+        return true;
+    }
 
-            sharedPreferencesForData
-                    .edit()
-                    .putString(dataKeyInPersistentStore, base64EncodedEncryptedString) // Data
-                    .putString(dataKeyInPersistentStore + SHARED_PREFERENCES_IV_SUFFIX, base64EncodedIV) // IV
-                    .putString(dataKeyInPersistentStore + SHARED_PREFERENCES_STORE_VERSION_SUFFIX, String.valueOf(AWS_KEY_VALUE_STORE_VERSION)) // KeyValueStore Version
-                    .apply();
-        } catch (Exception ex) {
-            logger.error("Error in storing value for dataKey = " + dataKey +
-                    ". This data has not been stored in the persistent store.", ex);
+    /**
+     * Encrypts the value and adds it to the editor, along with its IV and
+     * the version of the store.
+     */
+    private void persist(final SharedPreferences.Editor editor,
+                         final Key encryptionKey,
+                         final String dataKey,
+                         final String dataKeyInPersistentStore,
+                         final String value) throws Exception {
+        // Convert string to bytes -> Encrypt -> Base64 encode -> Store
+        byte[] iv = generateInitializationVector();
+        if (iv == null) {
+            throw new Exception("The generated IV for dataKey = " + dataKey +" is null.");
+        }
+
+        String base64EncodedEncryptedString = encrypt(encryptionKey,
+                getAlgorithmParameterSpecForIV(iv),
+                value);
+        if (base64EncodedEncryptedString == null) {
+            // The key may be stale; retrieve it again on the next access.
+            invalidateEncryptionKey(getEncryptionKeyAlias(), encryptionKey);
+            throw new Exception("Error in encrypting the value for dataKey = " + dataKey);
+        }
+
+        String base64EncodedIV = Base64.encodeAsString(iv);
+        if (base64EncodedIV == null) {
+            throw new Exception("Error in Base64 encoding the IV for dataKey = " + dataKey);
         }
+
+        editor.putString(dataKeyInPersistentStore, base64EncodedEncryptedString) // Data
+                .putString(dataKeyInPersistentStore + SHARED_PREFERENCES_IV_SUFFIX, base64EncodedIV) // IV
+                .putString(dataKeyInPersistentStore + SHARED_PREFERENCES_STORE_VERSION_SUFFIX, String.valueOf(AWS_KEY_VALUE_STORE_VERSION)); // KeyValueStore Version
     }
 
     /**
@@ -475,6 +566,61 @@ public class AWSKeyValueStore {
         }
     }
 
+    /**
+     * Returns the encryption key, retrieving it from the key provider only
+     * if it is not held in memory yet.
+     */
+    private synchronized Key getEncryptionKey(final String encryptionKeyAlias) {
+        final String cacheKey = getEncryptionKeyCacheKey(encryptionKeyAlias);
+        Key key = encryptionKeyCache.get(cacheKey);
+        if (key == null) {
+            key = retrieveEncryptionKey(encryptionKeyAlias);
+            if (key != null) {
+                encryptionKeyCache.put(cacheKey, key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Drops the encryption key from memory, unless another store has already
+     * replaced it.
+     */
+    private void invalidateEncryptionKey(final String encryptionKeyAlias, final Key key) {
+        encryptionKeyCache.remove(getEncryptionKeyCacheKey(encryptionKeyAlias), key);
+    }
+
+    private String getEncryptionKeyCacheKey(final String encryptionKeyAlias) {
+        return sharedPreferencesName + "/" + encryptionKeyAlias;
+    }
+
+    /**
+     * Returns the encryption key, generating one if it cannot be retrieved.
+     *
+     * @return the key, or null if it cannot be generated.
+     */
+    private synchronized Key getOrGenerateEncryptionKey() {
+        String encryptionKeyAlias = getEncryptionKeyAlias();
+
+        // Based on the encryption key alias, retrieve the encryption key
+        // If the encryption key cannot be retrieved, create a new encryption key
+        // with the encryption key alias.
+        Key key = getEncryptionKey(encryptionKeyAlias);
+        if (key == null) {
+            // If the encryption key is null, create a new encryption key
+            logger.warn("No encryption key found for encryptionKeyAlias: " + encryptionKeyAlias);
+            key = generateEncryptionKey(encryptionKeyAlias);
+            if (key == null) {
+                logger.error("Error in generating the encryption key for encryptionKeyAlias: " +
+                        encryptionKeyAlias + " used to encrypt the data before storing. " +
+                        "Skipping persisting the data in the persistent store.");
+            } else {
+                encryptionKeyCache.put(getEncryptionKeyCacheKey(encryptionKeyAlias), key);
+            }
+        }
+        return key;
+    }
+
     private synchronized Key retrieveEncryptionKey(final String encryptionKeyAlias) {
         try {
             return keyProvider.retrieveKey(encryptionKeyAlias);
@@ -488,12 +634,15 @@ public class AWSKeyValueStore {
             // Clears the encryption keys if stored on SharedPreferences
             logger.info("Deleting the encryption key identified by the keyAlias: " + encryptionKeyAlias);
             keyProvider.deleteKey(encryptionKeyAlias);
+            encryptionKeyCache.remove(getEncryptionKeyCacheKey(encryptionKeyAlias));
             return null;
         }
     }
 
     synchronized Key generateEncryptionKey(final String encryptionKeyAlias) {
         // Try to generate a new key.
+        // A new key replaces the one held in memory, if any.
+        encryptionKeyCache.remove(getEncryptionKeyCacheKey(encryptionKeyAlias));
         try {
             return keyProvider.generateKey(encryptionKeyAlias);
         } catch (KeyNotGeneratedException keyNotGeneratedException) {
@@ -557,6 +706,7 @@ public class AWSKeyValueStore {
      */
     private void onMigrateFromNoEncryption() {
         Map<String, ?> map = sharedPreferencesForData.getAll();
+        Map<String, String> migratedEntries = new LinkedHashMap<String, String>();
         for (String keyOfUnencryptedData : map.keySet()) {
             if (!keyOfUnencryptedData.endsWith(SHARED_PREFERENCES_DATA_IDENTIFIER_SUFFIX) &&
                 !keyOfUnencryptedData.endsWith(SHARED_PREFERENCES_IV_SUFFIX) &&
@@ -565,18 +715,18 @@ public class AWSKeyValueStore {
                 // Check if its an instance of the dataType.
                 if (map.get(keyOfUnencryptedData) instanceof Long) {
                     Long longValue = sharedPreferencesForData.getLong(keyOfUnencryptedData, 0);
-                    put(keyOfUnencryptedData, String.valueOf(longValue));
+                    migratedEntries.put(keyOfUnencryptedData, String.valueOf(longValue));
                 } else if (map.get(keyOfUnencryptedData) instanceof String) {
-                    put(keyOfUnencryptedData, sharedPreferencesForData.getString(keyOfUnencryptedData, null));
+                    migratedEntries.put(keyOfUnencryptedData, sharedPreferencesForData.getString(keyOfUnencryptedData, null));
                 } else if (map.get(keyOfUnencryptedData) instanceof Float) {
                     Float floatValue = sharedPreferencesForData.getFloat(keyOfUnencryptedData, 0);
-                    put(keyOfUnencryptedData, String.valueOf(floatValue));
+                    migratedEntries.put(keyOfUnencryptedData, String.valueOf(floatValue));
                 } else if (map.get(keyOfUnencryptedData) instanceof Boolean) {
                     Boolean booleanValue = sharedPreferencesForData.getBoolean(keyOfUnencryptedData, false);
-                    put(keyOfUnencryptedData, String.valueOf(booleanValue));
+                    migratedEntries.put(keyOfUnencryptedData, String.valueOf(booleanValue));
                 } else if (map.get(keyOfUnencryptedData) instanceof Integer) {
                     Integer intValue = sharedPreferencesForData.getInt(keyOfUnencryptedData, 0);
-                    put(keyOfUnencryptedData, String.valueOf(intValue));
+                    migratedEntries.put(keyOfUnencryptedData, String.valueOf(intValue));
                 } else if (map.get(keyOfUnencryptedData) instanceof Set) {
                     Set<String> stringSet = (Set<String>) map.get(keyOfUnencryptedData);
                     StringBuilder stringBuilder = new StringBuilder();
@@ -587,12 +737,26 @@ public class AWSKeyValueStore {
                             stringBuilder.append(",");
                         }
                     }
-                    put(keyOfUnencryptedData, stringBuilder.toString());
+                    migratedEntries.put(keyOfUnencryptedData, stringBuilder.toString());
                 }
-
-                // Remove the key since key.encrypted is written.
-                sharedPreferencesForData.edit().remove(keyOfUnencryptedData).apply();
             }
         }
+        if (migratedEntries.isEmpty()) {
+            return;
+        }
+
+        // The unencrypted values are kept until the encrypted ones are
+        // written, so that migration is attempted again on the next start.
+        if (!storeAll(migratedEntries)) {
+            logger.error("Unable to migrate the unencrypted values, keeping them.");
+            return;
+        }
+
+        // Remove the keys since key.encrypted is written.
+        SharedPreferences.Editor editor = sharedPreferencesForData.edit();
+        for (String keyOfUnencryptedData : migratedEntries.keySet()) {
+            editor.remove(keyOfUnencryptedData);
+        }
+        editor.apply();
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The send rate limiter of a client in {@link RetryPolicy.RetryMode#ADAPTIVE}
+ * mode. It lets requests through freely until the service first throttles;
+ * from then on, requests take a token from a bucket refilled at the allowed
+ * rate, waiting for one if needed.
+ * <p>
+ * The allowed rate follows the CUBIC congestion control algorithm: a throttled
+ * response cuts it to {@link #BETA} times the rate measured at that time;
+ * successful responses then grow it along a cubic curve, slowly around the
+ * rate at which the service last throttled and faster beyond it.
+ */
+public final class ClientSideRateLimiter {
+
+    /** Multiplier applied to the send rate on throttling. */
+    static final double BETA = 0.7;
+
+    /** Scale of the cubic growth of the send rate. */
+    static final double SCALE_CONSTANT = 0.4;
+
+    /** Weight of the latest measure in the measured send rate. */
+    static final double SMOOTH = 0.8;
+
+    /** Minimum rate, in requests per second. */
+    static final double MIN_FILL_RATE = 0.5;
+
+    /** Minimum number of tokens of the bucket. */
+    static final double MIN_CAPACITY = 1;
+
+    // All rates are in requests per second, all times in seconds.
+    private boolean enabled;
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp = Double.NaN;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    /**
+     * Creates a limiter that doesn't limit anything until the first throttled
+     * response.
+     */
+    public ClientSideRateLimiter() {
+        this(now());
+    }
+
+    ClientSideRateLimiter(double timestamp) {
+        lastTxRateBucket = Math.floor(timestamp);
+        lastThrottleTime = timestamp;
+    }
+
+    /**
+     * Takes a token for the next request, waiting until one is available.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        final long waitNanos = reserve(now());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token at the given time.
+     *
+     * @return how long to wait for the token, in nanoseconds
+     */
+    synchronized long reserve(double timestamp) {
+        if (!enabled) {
+            return 0;
+        }
+        refill(timestamp);
+        // A missing token is borrowed from the next refills, so that the
+        // requests waiting for a token get them in turn.
+        final double missing = 1 - currentCapacity;
+        currentCapacity -= 1;
+        if (missing <= 0) {
+            return 0;
+        }
+        return (long) (missing / fillRate * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Updates the allowed send rate with the outcome of a request.
+     *
+     * @param throttled whether the service throttled the request
+     */
+    public void updateSendingRate(boolean throttled) {
+        updateSendingRate(throttled, now());
+    }
+
+    synchronized void updateSendingRate(boolean throttled, double timestamp) {
+        updateMeasuredRate(timestamp);
+        final double calculatedRate;
+        if (throttled) {
+            final double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = timestamp;
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            final double dt = timestamp - lastThrottleTime;
+            calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+        }
+        updateRate(Math.min(calculatedRate, 2 * measuredTxRate), timestamp);
+    }
+
+    /**
+     * @return whether requests are limited, which they are from the first
+     *         throttled response on.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the allowed send rate, in requests per second, or zero while
+     *         requests aren't limited.
+     */
+    public synchronized double getSendRate() {
+        return enabled ? fillRate : 0;
+    }
+
+    /**
+     * @return the measured send rate, in requests per second.
+     */
+    public synchronized double getMeasuredSendRate() {
+        return measuredTxRate;
+    }
+
+    private void refill(double timestamp) {
+        if (!Double.isNaN(lastTimestamp)) {
+            final double fillAmount = (timestamp - lastTimestamp) * fillRate;
+            currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
+        }
+        lastTimestamp = timestamp;
+    }
+
+    private void updateRate(double newRate, double timestamp) {
+        refill(timestamp);
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate(double timestamp) {
+        // Requests are counted in buckets of half a second.
+        final double timeBucket = Math.floor(timestamp * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            final double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        // The time the cubic curve takes to grow back to lastMaxRate.
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    private static double now() {
+        return System.nanoTime() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -114,6 +114,37 @@ public class PredefinedRetryPolicies {
                 true);
     }
 
+    /**
+     * @return the SDK default retry policy in adaptive retry mode, which
+     *         limits the retries and the request rate of a client while the
+     *         service fails or throttles. This policy will honor the
+     *         maxErrorRetry set in ClientConfiguration.
+     *
+     * @see RetryPolicy.RetryMode#ADAPTIVE
+     */
+    public static RetryPolicy getAdaptiveRetryPolicy() {
+        return new RetryPolicy(DEFAULT_RETRY_CONDITION,
+                DEFAULT_BACKOFF_STRATEGY,
+                DEFAULT_MAX_ERROR_RETRY,
+                true,
+                RetryPolicy.RetryMode.ADAPTIVE);
+    }
+
+    /**
+     * @return the default retry policy for DynamoDB client in adaptive retry
+     *         mode. This policy will honor the maxErrorRetry set in
+     *         ClientConfiguration.
+     *
+     * @see RetryPolicy.RetryMode#ADAPTIVE
+     */
+    public static RetryPolicy getDynamoDBAdaptiveRetryPolicy() {
+        return new RetryPolicy(DEFAULT_RETRY_CONDITION,
+                DEFAULT_BACKOFF_STRATEGY,
+                DYNAMODB_DEFAULT_MAX_ERROR_RETRY,
+                true,
+                RetryPolicy.RetryMode.ADAPTIVE);
+    }
+
     /**
      * @param maxErrorRetry the max error retry count.
      * @return the SDK default retry policy with the specified max retry count.
@@ -54,6 +54,12 @@ public final class RetryPolicy {
      */
     private final boolean honorMaxErrorRetryInClientConfig;
 
+    /**
+     * How the client paces its requests and retries. This field should not be
+     * null.
+     */
+    private final RetryMode retryMode;
+
     /**
      * Constructs a new retry policy. See {@link PredefinedRetryPolicies} for
      * some pre-defined policy components, and also the default policies used by
@@ -77,6 +83,36 @@ public final class RetryPolicy {
             BackoffStrategy backoffStrategy,
             int maxErrorRetry,
             boolean honorMaxErrorRetryInClientConfig) {
+        this(retryCondition, backoffStrategy, maxErrorRetry, honorMaxErrorRetryInClientConfig,
+                RetryMode.STANDARD);
+    }
+
+    /**
+     * Constructs a new retry policy with the given retry mode. See
+     * {@link PredefinedRetryPolicies} for some pre-defined policy components,
+     * and also the default policies used by SDK.
+     *
+     * @param retryCondition Retry condition on whether a specific request and
+     *            exception should be retried. If null value is specified, the
+     *            SDK' default retry condition is used.
+     * @param backoffStrategy Back-off strategy for controlling how long the
+     *            next retry should wait. If null value is specified, the SDK'
+     *            default exponential back-off strategy is used.
+     * @param maxErrorRetry Maximum number of retry attempts for failed
+     *            requests.
+     * @param honorMaxErrorRetryInClientConfig Whether this retry policy should
+     *            honor the max error retry set by
+     *            {@link ClientConfiguration#setMaxErrorRetry(int)}
+     * @param retryMode How the client paces its requests and retries. If null
+     *            value is specified, {@link RetryMode#STANDARD} is used.
+     * @see ClientConfiguration
+     * @see PredefinedRetryPolicies
+     */
+    public RetryPolicy(RetryCondition retryCondition,
+            BackoffStrategy backoffStrategy,
+            int maxErrorRetry,
+            boolean honorMaxErrorRetryInClientConfig,
+            RetryMode retryMode) {
         if (retryCondition == null) {
             retryCondition = PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION;
         }
@@ -92,6 +128,7 @@ public final class RetryPolicy {
         this.backoffStrategy = backoffStrategy;
         this.maxErrorRetry = maxErrorRetry;
         this.honorMaxErrorRetryInClientConfig = honorMaxErrorRetryInClientConfig;
+        this.retryMode = retryMode == null ? RetryMode.STANDARD : retryMode;
     };
 
     /**
@@ -133,6 +170,36 @@ public final class RetryPolicy {
         return honorMaxErrorRetryInClientConfig;
     }
 
+    /**
+     * Returns how the client paces its requests and retries.
+     *
+     * @return the retry mode of this policy.
+     */
+    public RetryMode getRetryMode() {
+        return retryMode;
+    }
+
+    /**
+     * How a client paces its requests and retries.
+     */
+    public static enum RetryMode {
+        /**
+         * Each request retries on its own, as decided by the retry condition
+         * and the back-off strategy.
+         */
+        STANDARD,
+
+        /**
+         * On top of the retry condition and the back-off strategy, the
+         * requests of a client share a {@link RetryQuota}, which refuses
+         * retries once too many have failed, and a
+         * {@link ClientSideRateLimiter}, which slows the requests down when
+         * the service throttles and ramps them back up as they succeed. The
+         * state is kept per client, not per policy.
+         */
+        ADAPTIVE
+    }
+
     /**
      * The hook for providing custom condition on whether a failed request
      * should be retried.
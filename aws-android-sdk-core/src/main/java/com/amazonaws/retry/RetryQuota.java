@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+/**
+ * The retry budget shared by the requests of a client in
+ * {@link RetryPolicy.RetryMode#ADAPTIVE} mode. Each retry takes
+ * {@link #RETRY_COST} tokens from the bucket and is refused once it is empty;
+ * each successful request puts tokens back. While a service keeps failing,
+ * the client stops retrying after a bounded number of retries instead of
+ * multiplying its load, and retries again as requests succeed.
+ */
+public final class RetryQuota {
+
+    /** The default number of tokens of the bucket. */
+    public static final int DEFAULT_CAPACITY = 500;
+
+    /** Number of tokens taken by a retry. */
+    public static final int RETRY_COST = 5;
+
+    /** Number of tokens put back by a request that succeeds at once. */
+    public static final int NO_RETRY_REFUND = 1;
+
+    private final int capacity;
+    private int available;
+
+    /**
+     * Creates a full bucket of {@link #DEFAULT_CAPACITY} tokens.
+     */
+    public RetryQuota() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity the number of tokens of the bucket
+     */
+    public RetryQuota(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        this.capacity = capacity;
+        this.available = capacity;
+    }
+
+    /**
+     * Takes the tokens of a retry, if there are enough left.
+     *
+     * @return true if the retry may proceed
+     */
+    public synchronized boolean tryAcquire() {
+        if (available < RETRY_COST) {
+            return false;
+        }
+        available -= RETRY_COST;
+        return true;
+    }
+
+    /**
+     * Puts tokens back for a successful request: the cost of its retry if it
+     * was retried, {@link #NO_RETRY_REFUND} otherwise.
+     *
+     * @param retried whether the request succeeded after a retry
+     */
+    public synchronized void release(boolean retried) {
+        available = Math.min(capacity, available + (retried ? RETRY_COST : NO_RETRY_REFUND));
+    }
+
+    /**
+     * @return the number of tokens left.
+     */
+    public synchronized int getAvailableCapacity() {
+        return available;
+    }
+}
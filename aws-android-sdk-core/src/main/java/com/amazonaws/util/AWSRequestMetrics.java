@@ -112,9 +112,33 @@ public class AWSRequestMetrics {
          * excluding any retry.
          */
         HttpClientReceiveResponseTime,
+        /**
+         * Number of requests sent over a connection reused from the pool of
+         * the http client.
+         */
+        HttpClientPoolHitCount,
+        /**
+         * Number of requests for which the http client opened a new
+         * connection.
+         */
+        HttpClientPoolMissCount,
+        /**
+         * Number of TLS handshakes made by the http client.
+         */
+        HttpClientHandshakeCount,
 
         /** RetryPauseTime. */
         RetryPauseTime,
+        /**
+         * Send rate (requests per second) allowed by the client-side rate
+         * limiter in adaptive retry mode, zero while requests aren't limited.
+         */
+        ClientSendRate,
+        /**
+         * Number of tokens left in the retry quota of the client in adaptive
+         * retry mode.
+         */
+        RetryQuotaCapacity,
         // S3DownloadThroughput, // migrated to S3RequestMetric in the S3 clint
         // library
         // S3UploadThroughput, // migrated to S3RequestMetric in the S3 clint
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of byte arrays of the same size used to copy streams, so
+ * that transfers and requests don't allocate a new buffer each time.
+ * <p>
+ * A buffer taken with {@link #acquire()} must be given back with
+ * {@link #release(byte[])} once it is no longer used, typically in a finally
+ * block, and must not be used afterwards. A buffer released while the pool is
+ * full is left to the garbage collector. The pool counts hits, misses and
+ * discarded buffers, which helps sizing it.
+ */
+public final class BufferPool {
+
+    /**
+     * Size of the buffers of the shared pool.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Maximum number of buffers kept by the shared pool.
+     */
+    public static final int DEFAULT_MAX_POOLED_BUFFERS = 16;
+
+    private static final BufferPool SHARED_POOL = new BufferPool(DEFAULT_BUFFER_SIZE,
+            DEFAULT_MAX_POOLED_BUFFERS);
+
+    private final int bufferSize;
+    private final int maxPooledBuffers;
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<byte[]>();
+    private final AtomicInteger pooledCount = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong discards = new AtomicLong();
+
+    /**
+     * Creates a pool.
+     *
+     * @param bufferSize size in bytes of the buffers
+     * @param maxPooledBuffers maximum number of buffers kept for reuse
+     */
+    public BufferPool(int bufferSize, int maxPooledBuffers) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        if (maxPooledBuffers < 0) {
+            throw new IllegalArgumentException("maxPooledBuffers can't be negative");
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    /**
+     * Returns the pool shared by the SDK, with buffers of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @return the shared pool
+     */
+    public static BufferPool getSharedPool() {
+        return SHARED_POOL;
+    }
+
+    /**
+     * Takes a buffer from the pool, or allocates one if the pool is empty.
+     * The content of the buffer is undefined.
+     *
+     * @return a buffer of {@link #getBufferSize()} bytes
+     */
+    public byte[] acquire() {
+        final byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            misses.incrementAndGet();
+            return new byte[bufferSize];
+        }
+        pooledCount.decrementAndGet();
+        hits.incrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the pool. Buffers of another size are ignored.
+     *
+     * @param buffer a buffer taken with {@link #acquire()}, may be null
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null || buffer.length != bufferSize) {
+            return;
+        }
+        if (pooledCount.incrementAndGet() > maxPooledBuffers) {
+            pooledCount.decrementAndGet();
+            discards.incrementAndGet();
+            return;
+        }
+        buffers.offer(buffer);
+    }
+
+    /**
+     * @return the size in bytes of the buffers of this pool.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return the number of buffers currently kept for reuse.
+     */
+    public int getPooledCount() {
+        return Math.max(pooledCount.get(), 0);
+    }
+
+    /**
+     * @return the number of acquisitions served by a pooled buffer.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of acquisitions that allocated a new buffer.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of released buffers dropped because the pool was
+     *         full.
+     */
+    public long getDiscardCount() {
+        return discards.get();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An output stream that keeps the bytes written in memory, in chunks that
+ * grow up to {@link BufferPool#DEFAULT_BUFFER_SIZE} bytes. Unlike
+ * {@link java.io.ByteArrayOutputStream}, the data is never copied when the
+ * stream grows, and {@link #toInputStream()} reads the chunks as they are
+ * instead of copying them into a single array, so a request body is held in
+ * memory only once and its length is known before it is sent.
+ * <p>
+ * The chunks aren't taken from a {@link BufferPool}: a request body can be
+ * read again on retry until the request is garbage collected, so there is no
+ * point at which they could be given back safely.
+ */
+public final class ChunkedByteArrayOutputStream extends OutputStream {
+
+    private static final int FIRST_CHUNK_SIZE = 256;
+
+    private final List<byte[]> chunks = new ArrayList<byte[]>();
+    private byte[] current;
+    private int currentCount;
+    private int size;
+
+    @Override
+    public void write(int b) {
+        if (current == null || currentCount == current.length) {
+            addChunk();
+        }
+        current[currentCount++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        int remaining = len;
+        int offset = off;
+        while (remaining > 0) {
+            if (current == null || currentCount == current.length) {
+                addChunk();
+            }
+            final int count = Math.min(remaining, current.length - currentCount);
+            System.arraycopy(b, offset, current, currentCount, count);
+            currentCount += count;
+            offset += count;
+            remaining -= count;
+        }
+        size += len;
+    }
+
+    /**
+     * @return the number of bytes written.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the bytes written.
+     *
+     * @return the bytes written
+     */
+    public byte[] toByteArray() {
+        final byte[] bytes = new byte[size];
+        int offset = 0;
+        for (final byte[] chunk : chunks) {
+            final int count = Math.min(chunk.length, size - offset);
+            System.arraycopy(chunk, 0, bytes, offset, count);
+            offset += count;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a stream that reads the bytes written so far, without copying
+     * them. The stream supports mark and reset. Bytes written afterwards
+     * aren't visible to it.
+     *
+     * @return a stream of the bytes written
+     */
+    public InputStream toInputStream() {
+        return new ChunkedInputStream(new ArrayList<byte[]>(chunks), size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(toByteArray(), StringUtils.UTF8);
+    }
+
+    private void addChunk() {
+        final int chunkSize = current == null ? FIRST_CHUNK_SIZE
+                : Math.min(current.length * 2, BufferPool.DEFAULT_BUFFER_SIZE);
+        current = new byte[chunkSize];
+        currentCount = 0;
+        chunks.add(current);
+    }
+
+    private static final class ChunkedInputStream extends InputStream {
+        private final List<byte[]> chunks;
+        private final int size;
+
+        private int position;
+        private int chunkIndex;
+        private int chunkOffset;
+        private int markPosition;
+
+        ChunkedInputStream(List<byte[]> chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            final byte[] chunk = nextChunk();
+            position++;
+            return chunk[chunkOffset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (off < 0 || len < 0 || off + len > b.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= size) {
+                return -1;
+            }
+            int read = 0;
+            while (read < len && position < size) {
+                final byte[] chunk = nextChunk();
+                final int count = Math.min(Math.min(len - read, chunk.length - chunkOffset),
+                        size - position);
+                System.arraycopy(chunk, chunkOffset, b, off + read, count);
+                chunkOffset += count;
+                position += count;
+                read += count;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            final int skipped = (int) Math.min(n, size - position);
+            seek(position + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return size - position;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            markPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() {
+            seek(markPosition);
+        }
+
+        // Returns the chunk holding the byte at the current position.
+        private byte[] nextChunk() {
+            byte[] chunk = chunks.get(chunkIndex);
+            while (chunkOffset == chunk.length) {
+                chunkIndex++;
+                chunkOffset = 0;
+                chunk = chunks.get(chunkIndex);
+            }
+            return chunk;
+        }
+
+        private void seek(int target) {
+            position = 0;
+            chunkIndex = 0;
+            chunkOffset = 0;
+            int remaining = target;
+            while (remaining > 0) {
+                final int length = chunks.get(chunkIndex).length;
+                if (remaining < length) {
+                    chunkOffset = remaining;
+                    break;
+                }
+                remaining -= length;
+                if (remaining == 0) {
+                    // Stays at the end of this chunk; nextChunk moves on.
+                    chunkOffset = length;
+                    break;
+                }
+                chunkIndex++;
+            }
+            position = target;
+        }
+    }
+}
@@ -16,8 +16,14 @@
 package com.amazonaws.util.json;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -90,6 +96,40 @@ public class JsonUtils {
         return FACTORY.getJsonWriter(out);
     }
 
+    /**
+     * Gets a JSON writer that writes UTF-8 encoded JSON to the given stream.
+     * The JSON is encoded as it is written, without building a String first,
+     * unless the system property
+     * {@link SDKGlobalConfiguration#DISABLE_UTF8_JSON_WRITER_SYSTEM_PROPERTY}
+     * is set, in which case the Gson based writer is used.
+     *
+     * @param out output stream
+     * @return a JSON writer
+     */
+    public static AwsJsonWriter getJsonWriter(OutputStream out) {
+        if (System.getProperty(SDKGlobalConfiguration.DISABLE_UTF8_JSON_WRITER_SYSTEM_PROPERTY) != null) {
+            return FACTORY.getJsonWriter(new OutputStreamWriter(out, StringUtils.UTF8));
+        }
+        return new Utf8JsonWriter(out);
+    }
+
+    /**
+     * Gets a JSON reader of UTF-8 encoded JSON from the given stream. The
+     * JSON is tokenized from its bytes, without decoding it through a
+     * {@link Reader} first, unless the system property
+     * {@link SDKGlobalConfiguration#DISABLE_UTF8_JSON_READER_SYSTEM_PROPERTY}
+     * is set, in which case the Gson based reader is used.
+     *
+     * @param in input stream
+     * @return a JSON reader
+     */
+    public static AwsJsonReader getJsonReader(InputStream in) {
+        if (System.getProperty(SDKGlobalConfiguration.DISABLE_UTF8_JSON_READER_SYSTEM_PROPERTY) != null) {
+            return FACTORY.getJsonReader(new InputStreamReader(in, StringUtils.UTF8));
+        }
+        return new Utf8JsonReader(in);
+    }
+
     /**
      * Convenient method to convert a JSON string to a map. Any object or array
      * will be discarded. Number and boolean are stored as string.
@@ -0,0 +1,729 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import com.amazonaws.util.BufferPool;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * An {@link AwsJsonReader} that tokenizes UTF-8 encoded JSON straight from an
+ * {@link InputStream}, without decoding it through a {@link java.io.Reader}
+ * first. It accepts the same documents as the Gson based reader, which is
+ * strict, and returns the same values.
+ * <p>
+ * The bytes are read into a buffer taken from the shared {@link BufferPool},
+ * which is given back when the reader is closed. Short ASCII field names,
+ * such as the "S", "N", "M" and "L" of DynamoDB attribute values, are
+ * interned in a small cache shared by all readers, so that the same String is
+ * returned each time instead of a new one.
+ */
+final class Utf8JsonReader implements AwsJsonReader {
+
+    // Tokens, as peeked.
+    private static final int PEEKED_NONE = 0;
+    private static final int PEEKED_BEGIN_OBJECT = 1;
+    private static final int PEEKED_END_OBJECT = 2;
+    private static final int PEEKED_BEGIN_ARRAY = 3;
+    private static final int PEEKED_END_ARRAY = 4;
+    private static final int PEEKED_TRUE = 5;
+    private static final int PEEKED_FALSE = 6;
+    private static final int PEEKED_NULL = 7;
+    private static final int PEEKED_STRING = 8;
+    private static final int PEEKED_NAME = 9;
+    private static final int PEEKED_NUMBER = 10;
+    private static final int PEEKED_EOF = 11;
+
+    // Scopes of the nesting stack.
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+    private static final int CLOSED = 8;
+
+    /** Longest field name kept by the name cache, in bytes. */
+    static final int MAX_INTERNED_NAME_LENGTH = 32;
+    private static final int NAME_CACHE_SIZE = 512;
+    /**
+     * Field names recently read, by hash of their bytes. Reads and writes of
+     * the slots race, which is harmless: Strings are immutable and a miss
+     * only creates a new String.
+     */
+    private static final String[] NAME_CACHE = new String[NAME_CACHE_SIZE];
+
+    private static final char REPLACEMENT_CHARACTER = 0xFFFD;
+    private static final int HEX_RADIX = 16;
+
+    private final InputStream in;
+    private final BufferPool pool = BufferPool.getSharedPool();
+    private byte[] buffer;
+    private int pos;
+    private int limit;
+    // Number of bytes before the start of the buffer, for error messages.
+    private long bufferOffset;
+
+    // Scratch space used to decode strings and numbers.
+    private char[] chars = new char[64];
+    private int charCount;
+
+    private int peeked = PEEKED_NONE;
+    private String peekedNumber;
+
+    private int[] stack = new int[32];
+    private int stackSize;
+
+    Utf8JsonReader(InputStream in) {
+        if (in == null) {
+            throw new NullPointerException("in == null");
+        }
+        this.in = in;
+        this.buffer = pool.acquire();
+        push(EMPTY_DOCUMENT);
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        if (p != PEEKED_BEGIN_ARRAY) {
+            throw unexpected("BEGIN_ARRAY");
+        }
+        push(EMPTY_ARRAY);
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        if (p != PEEKED_END_ARRAY) {
+            throw unexpected("END_ARRAY");
+        }
+        stackSize--;
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        if (p != PEEKED_BEGIN_OBJECT) {
+            throw unexpected("BEGIN_OBJECT");
+        }
+        push(EMPTY_OBJECT);
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        if (p != PEEKED_END_OBJECT) {
+            throw unexpected("END_OBJECT");
+        }
+        stackSize--;
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public boolean isContainer() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        return p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY && p != PEEKED_EOF;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        if (p != PEEKED_NAME) {
+            throw unexpected("a name");
+        }
+        final String name = readString(true);
+        peeked = PEEKED_NONE;
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        final String result;
+        switch (p) {
+            case PEEKED_STRING:
+                result = readString(false);
+                break;
+            case PEEKED_NUMBER:
+                result = peekedNumber;
+                peekedNumber = null;
+                break;
+            case PEEKED_NULL:
+                result = null;
+                break;
+            case PEEKED_TRUE:
+                result = "true";
+                break;
+            case PEEKED_FALSE:
+                result = "false";
+                break;
+            default:
+                throw unexpected("a string");
+        }
+        peeked = PEEKED_NONE;
+        return result;
+    }
+
+    @Override
+    public AwsJsonToken peek() throws IOException {
+        final int p;
+        try {
+            p = peeked == PEEKED_NONE ? doPeek() : peeked;
+        } catch (final EOFException e) {
+            return null;
+        }
+        return toToken(p);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int count = 0;
+        do {
+            final int p = peeked == PEEKED_NONE ? doPeek() : peeked;
+            switch (p) {
+                case PEEKED_BEGIN_ARRAY:
+                    push(EMPTY_ARRAY);
+                    count++;
+                    break;
+                case PEEKED_BEGIN_OBJECT:
+                    push(EMPTY_OBJECT);
+                    count++;
+                    break;
+                case PEEKED_END_ARRAY:
+                case PEEKED_END_OBJECT:
+                    stackSize--;
+                    count--;
+                    break;
+                case PEEKED_NAME:
+                case PEEKED_STRING:
+                    skipString();
+                    break;
+                case PEEKED_EOF:
+                    throw new EOFException("End of input" + location());
+                default:
+                    peekedNumber = null;
+                    break;
+            }
+            peeked = PEEKED_NONE;
+        } while (count > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        peeked = PEEKED_NONE;
+        stackSize = 0;
+        push(CLOSED);
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+        in.close();
+    }
+
+    private int doPeek() throws IOException {
+        final int peekStack = stack[stackSize - 1];
+        if (peekStack == EMPTY_ARRAY) {
+            stack[stackSize - 1] = NONEMPTY_ARRAY;
+        } else if (peekStack == NONEMPTY_ARRAY) {
+            final int c = nextNonWhitespace(true);
+            if (c == ']') {
+                return peeked = PEEKED_END_ARRAY;
+            } else if (c != ',') {
+                throw syntaxError("Unterminated array");
+            }
+        } else if (peekStack == EMPTY_OBJECT || peekStack == NONEMPTY_OBJECT) {
+            stack[stackSize - 1] = DANGLING_NAME;
+            if (peekStack == NONEMPTY_OBJECT) {
+                final int c = nextNonWhitespace(true);
+                if (c == '}') {
+                    return peeked = PEEKED_END_OBJECT;
+                } else if (c != ',') {
+                    throw syntaxError("Unterminated object");
+                }
+            }
+            final int c = nextNonWhitespace(true);
+            if (c == '"') {
+                return peeked = PEEKED_NAME;
+            } else if (c == '}' && peekStack == EMPTY_OBJECT) {
+                return peeked = PEEKED_END_OBJECT;
+            }
+            throw syntaxError("Expected name");
+        } else if (peekStack == DANGLING_NAME) {
+            stack[stackSize - 1] = NONEMPTY_OBJECT;
+            if (nextNonWhitespace(true) != ':') {
+                throw syntaxError("Expected ':'");
+            }
+        } else if (peekStack == EMPTY_DOCUMENT) {
+            stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+        } else if (peekStack == NONEMPTY_DOCUMENT) {
+            if (nextNonWhitespace(false) == -1) {
+                return peeked = PEEKED_EOF;
+            }
+            throw syntaxError("JSON must have only one top-level value");
+        } else if (peekStack == CLOSED) {
+            throw new IllegalStateException("JsonReader is closed");
+        }
+
+        final int c = nextNonWhitespace(true);
+        switch (c) {
+            case ']':
+                if (peekStack == EMPTY_ARRAY) {
+                    return peeked = PEEKED_END_ARRAY;
+                }
+                throw syntaxError("Expected value");
+            case '"':
+                return peeked = PEEKED_STRING;
+            case '[':
+                return peeked = PEEKED_BEGIN_ARRAY;
+            case '{':
+                return peeked = PEEKED_BEGIN_OBJECT;
+            case 't':
+                return peeked = readLiteral("rue", PEEKED_TRUE);
+            case 'f':
+                return peeked = readLiteral("alse", PEEKED_FALSE);
+            case 'n':
+                return peeked = readLiteral("ull", PEEKED_NULL);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    peekedNumber = readNumber();
+                    return peeked = PEEKED_NUMBER;
+                }
+                throw syntaxError("Expected value");
+        }
+    }
+
+    /**
+     * Returns the next byte that isn't whitespace and consumes it, or -1 at
+     * the end of the input if it's allowed.
+     */
+    private int nextNonWhitespace(boolean throwOnEof) throws IOException {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                if (throwOnEof) {
+                    throw new EOFException("End of input" + location());
+                }
+                return -1;
+            }
+            final int c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\t' && c != '\r') {
+                return c;
+            }
+        }
+    }
+
+    private int readLiteral(String rest, int token) throws IOException {
+        final int length = rest.length();
+        if (limit - pos < length && !fill(length)) {
+            throw syntaxError("Expected value");
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[pos + i] != rest.charAt(i)) {
+                throw syntaxError("Expected value");
+            }
+        }
+        pos += length;
+        if ((pos < limit || fill(1)) && isLiteral(buffer[pos])) {
+            throw syntaxError("Expected value");
+        }
+        return token;
+    }
+
+    /**
+     * Reads a number and returns it as it appears in the document. It must
+     * follow the JSON grammar.
+     */
+    private String readNumber() throws IOException {
+        charCount = 0;
+        while (pos < limit || fill(1)) {
+            final int c = buffer[pos];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e'
+                    || c == 'E') {
+                appendChar((char) c);
+                pos++;
+            } else if (isLiteral(c)) {
+                throw syntaxError("Malformed number");
+            } else {
+                break;
+            }
+        }
+        if (!isValidNumber(chars, charCount)) {
+            throw syntaxError("Malformed number");
+        }
+        return new String(chars, 0, charCount);
+    }
+
+    private static boolean isValidNumber(char[] number, int length) {
+        int i = 0;
+        if (i < length && number[i] == '-') {
+            i++;
+        }
+        if (i == length) {
+            return false;
+        }
+        if (number[i] == '0') {
+            i++;
+        } else {
+            final int start = i;
+            while (i < length && number[i] >= '0' && number[i] <= '9') {
+                i++;
+            }
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && number[i] == '.') {
+            final int start = ++i;
+            while (i < length && number[i] >= '0' && number[i] <= '9') {
+                i++;
+            }
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && (number[i] == 'e' || number[i] == 'E')) {
+            i++;
+            if (i < length && (number[i] == '+' || number[i] == '-')) {
+                i++;
+            }
+            final int start = i;
+            while (i < length && number[i] >= '0' && number[i] <= '9') {
+                i++;
+            }
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static boolean isLiteral(int c) {
+        switch (c) {
+            case '/':
+            case '\\':
+            case ';':
+            case '#':
+            case '=':
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case ':':
+            case ',':
+            case ' ':
+            case '\t':
+            case '\f':
+            case '\r':
+            case '\n':
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Reads a string whose opening quote has been consumed, up to and
+     * including its closing quote. ASCII strings without escapes that are in
+     * the buffer are converted directly.
+     */
+    private String readString(boolean intern) throws IOException {
+        final byte[] b = buffer;
+        final int start = pos;
+        for (int p = start; p < limit; p++) {
+            final int c = b[p];
+            if (c == '"') {
+                pos = p + 1;
+                return intern ? internAscii(start, p - start) : asciiString(start, p - start);
+            }
+            if (c == '\\' || c < 0) {
+                break;
+            }
+        }
+        return readStringSlow();
+    }
+
+    private String asciiString(int start, int length) {
+        ensureChars(length);
+        final byte[] b = buffer;
+        final char[] c = chars;
+        for (int i = 0; i < length; i++) {
+            c[i] = (char) b[start + i];
+        }
+        return new String(c, 0, length);
+    }
+
+    private String internAscii(int start, int length) {
+        if (length > MAX_INTERNED_NAME_LENGTH) {
+            return asciiString(start, length);
+        }
+        final byte[] b = buffer;
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + b[start + i];
+        }
+        final int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        final String cached = NAME_CACHE[slot];
+        if (cached != null && cached.length() == length) {
+            boolean same = true;
+            for (int i = 0; i < length; i++) {
+                if (cached.charAt(i) != b[start + i]) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return cached;
+            }
+        }
+        final String name = asciiString(start, length);
+        NAME_CACHE[slot] = name;
+        return name;
+    }
+
+    private String readStringSlow() throws IOException {
+        charCount = 0;
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+            final int c = buffer[pos++];
+            if (c == '"') {
+                return new String(chars, 0, charCount);
+            } else if (c == '\\') {
+                appendChar(readEscapeCharacter());
+            } else if (c >= 0) {
+                appendChar((char) c);
+            } else {
+                decodeMultiByte(c & 0xFF);
+            }
+        }
+    }
+
+    /**
+     * Decodes a character encoded on several bytes whose first byte has been
+     * consumed. Malformed sequences are decoded as U+FFFD, as
+     * {@link java.io.InputStreamReader} does.
+     */
+    private void decodeMultiByte(int first) throws IOException {
+        final int extra;
+        int codePoint;
+        int min = 0x80;
+        int max = 0xBF;
+        if (first >= 0xC2 && first <= 0xDF) {
+            extra = 1;
+            codePoint = first & 0x1F;
+        } else if (first >= 0xE0 && first <= 0xEF) {
+            extra = 2;
+            codePoint = first & 0x0F;
+            if (first == 0xE0) {
+                min = 0xA0;
+            }
+        } else if (first >= 0xF0 && first <= 0xF4) {
+            extra = 3;
+            codePoint = first & 0x07;
+            if (first == 0xF0) {
+                min = 0x90;
+            } else if (first == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            appendChar(REPLACEMENT_CHARACTER);
+            return;
+        }
+        for (int i = 0; i < extra; i++) {
+            if (pos == limit && !fill(1)) {
+                appendChar(REPLACEMENT_CHARACTER);
+                return;
+            }
+            final int next = buffer[pos] & 0xFF;
+            if (next < min || next > max) {
+                // Not consumed, it may start the next character.
+                appendChar(REPLACEMENT_CHARACTER);
+                return;
+            }
+            min = 0x80;
+            max = 0xBF;
+            codePoint = (codePoint << 6) | (next & 0x3F);
+            pos++;
+        }
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            // An encoded surrogate is malformed as a whole.
+            appendChar(REPLACEMENT_CHARACTER);
+        } else if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            final int offset = codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            appendChar((char) (Character.MIN_HIGH_SURROGATE + (offset >>> 10)));
+            appendChar((char) (Character.MIN_LOW_SURROGATE + (offset & 0x3FF)));
+        } else {
+            appendChar((char) codePoint);
+        }
+    }
+
+    private char readEscapeCharacter() throws IOException {
+        if (pos == limit && !fill(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        final int escaped = buffer[pos++];
+        switch (escaped) {
+            case 'u':
+                if (limit - pos < 4 && !fill(4)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                int result = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(buffer[pos + i], HEX_RADIX);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed unicode escape");
+                    }
+                    result = (result << 4) | digit;
+                }
+                pos += 4;
+                return (char) result;
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case '\n':
+            case '\'':
+            case '"':
+            case '\\':
+            case '/':
+                return (char) escaped;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+            final int c = buffer[pos++];
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                readEscapeCharacter();
+            }
+        }
+    }
+
+    private void appendChar(char c) {
+        if (charCount == chars.length) {
+            chars = Arrays.copyOf(chars, charCount * 2);
+        }
+        chars[charCount++] = c;
+    }
+
+    private void ensureChars(int length) {
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+    }
+
+    /**
+     * Reads more input so that at least the given number of bytes are in the
+     * buffer after the current position.
+     *
+     * @return false if the input ended before
+     */
+    private boolean fill(int minimum) throws IOException {
+        if (buffer == null) {
+            throw new IllegalStateException("JsonReader is closed");
+        }
+        if (pos > 0) {
+            bufferOffset += pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        while (limit < minimum) {
+            final int read = in.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                return false;
+            }
+            limit += read;
+        }
+        return true;
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private static AwsJsonToken toToken(int p) {
+        switch (p) {
+            case PEEKED_BEGIN_OBJECT:
+                return AwsJsonToken.BEGIN_OBJECT;
+            case PEEKED_END_OBJECT:
+                return AwsJsonToken.END_OBJECT;
+            case PEEKED_BEGIN_ARRAY:
+                return AwsJsonToken.BEGIN_ARRAY;
+            case PEEKED_END_ARRAY:
+                return AwsJsonToken.END_ARRAY;
+            case PEEKED_NAME:
+                return AwsJsonToken.FIELD_NAME;
+            case PEEKED_TRUE:
+            case PEEKED_FALSE:
+                return AwsJsonToken.VALUE_BOOLEAN;
+            case PEEKED_NULL:
+                return AwsJsonToken.VALUE_NULL;
+            case PEEKED_STRING:
+                return AwsJsonToken.VALUE_STRING;
+            case PEEKED_NUMBER:
+                return AwsJsonToken.VALUE_NUMBER;
+            case PEEKED_EOF:
+                return null;
+            default:
+                return AwsJsonToken.UNKNOWN;
+        }
+    }
+
+    private IllegalStateException unexpected(String expected) throws IOException {
+        return new IllegalStateException("Expected " + expected + " but was " + peek()
+                + location());
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + location());
+    }
+
+    private String location() {
+        return " at offset " + (bufferOffset + pos);
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * An {@link AwsJsonWriter} that encodes JSON as UTF-8 straight into an
+ * {@link OutputStream}, without going through a {@link java.io.Writer} and a
+ * String. Its output is the same as the Gson based writer: strings are
+ * escaped the same way and numbers are formatted the same way.
+ * <p>
+ * Bytes are staged in a buffer taken from the shared {@link BufferPool},
+ * which is given back when the writer is closed.
+ */
+final class Utf8JsonWriter implements AwsJsonWriter {
+
+    private static final int NEGATIVE_THREE = -3;
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 6;
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+    private static final byte[] NULL = {
+            'n', 'u', 'l', 'l'
+    };
+    private static final byte[] TRUE = {
+            't', 'r', 'u', 'e'
+    };
+    private static final byte[] FALSE = {
+            'f', 'a', 'l', 's', 'e'
+    };
+    private static final byte[] HEX = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    // Scopes of the nesting stack, the same as Gson's.
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+    private static final int CLOSED = 8;
+
+    private final OutputStream out;
+    private final BufferPool pool = BufferPool.getSharedPool();
+    private byte[] buffer;
+    private int count;
+
+    private int[] stack = new int[32];
+    private int stackSize;
+
+    Utf8JsonWriter(OutputStream out) {
+        if (out == null) {
+            throw new NullPointerException("out == null");
+        }
+        this.out = out;
+        this.buffer = pool.acquire();
+        push(EMPTY_DOCUMENT);
+    }
+
+    @Override
+    public AwsJsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        writeByte('[');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter endArray() throws IOException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    @Override
+    public AwsJsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        writeByte('{');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter endObject() throws IOException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    @Override
+    public AwsJsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new NullPointerException("name == null");
+        }
+        final int context = peek();
+        if (context == NONEMPTY_OBJECT) {
+            writeByte(',');
+        } else if (context != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        replaceTop(DANGLING_NAME);
+        writeString(name);
+        writeByte(':');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return value();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(long value) throws IOException {
+        beforeValue();
+        writeAscii(Long.toString(value));
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return value();
+        }
+        final String string = value.toString();
+        if (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN")) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        beforeValue();
+        writeAscii(string);
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value(Date value) throws IOException {
+        final BigDecimal dateValue = BigDecimal.valueOf(value.getTime());
+        return value(dateValue.scaleByPowerOfTen(NEGATIVE_THREE));
+    }
+
+    @Override
+    public AwsJsonWriter value(ByteBuffer value) throws IOException {
+        value.mark();
+        final byte[] bytes = new byte[value.remaining()];
+        value.get(bytes, 0, bytes.length);
+        value.reset();
+        beforeValue();
+        writeByte('"');
+        // Base64 is plain ASCII, it never needs escaping.
+        writeAscii(BinaryUtils.toBase64(bytes));
+        writeByte('"');
+        return this;
+    }
+
+    @Override
+    public AwsJsonWriter value() throws IOException {
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (stackSize == 0 || peek() == CLOSED) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stackSize > 0 && peek() == CLOSED) {
+            return;
+        }
+        try {
+            flushBuffer();
+            out.close();
+        } finally {
+            pool.release(buffer);
+            buffer = null;
+        }
+        final boolean complete = stackSize == 1 && peek() == NONEMPTY_DOCUMENT;
+        stackSize = 0;
+        push(CLOSED);
+        if (!complete) {
+            throw new IOException("Incomplete document");
+        }
+    }
+
+    private AwsJsonWriter close(int empty, int nonempty, char bracket) throws IOException {
+        final int context = peek();
+        if (context != nonempty && context != empty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+        stackSize--;
+        writeByte(bracket);
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        switch (peek()) {
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON must have only one top-level value.");
+            case EMPTY_DOCUMENT:
+                replaceTop(NONEMPTY_DOCUMENT);
+                break;
+            case EMPTY_ARRAY:
+                replaceTop(NONEMPTY_ARRAY);
+                break;
+            case NONEMPTY_ARRAY:
+                writeByte(',');
+                break;
+            case DANGLING_NAME:
+                replaceTop(NONEMPTY_OBJECT);
+                break;
+            default:
+                throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private int peek() {
+        if (stackSize == 0) {
+            throw new IllegalStateException("JsonWriter is closed.");
+        }
+        return stack[stackSize - 1];
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private void replaceTop(int scope) {
+        stack[stackSize - 1] = scope;
+    }
+
+    /**
+     * Writes a quoted string, escaped the same way as Gson does, and encoded
+     * in UTF-8. An unpaired surrogate is encoded as '?', like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    private void writeString(String value) throws IOException {
+        writeByte('"');
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (buffer.length - count < MAX_UTF8_BYTES_PER_CHAR) {
+                flushBuffer();
+            }
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buffer[count++] = (byte) c;
+                } else {
+                    writeEscaped(c);
+                }
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR) {
+                writeEscaped(c);
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                final char low = i + 1 < length ? value.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    final int codePoint = Character.toCodePoint(c, low);
+                    buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                    i++;
+                } else {
+                    buffer[count++] = '?';
+                }
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    // Assumes there is room for 6 bytes in the buffer.
+    private void writeEscaped(char c) {
+        buffer[count++] = '\\';
+        switch (c) {
+            case '"':
+                buffer[count++] = '"';
+                break;
+            case '\\':
+                buffer[count++] = '\\';
+                break;
+            case '\t':
+                buffer[count++] = 't';
+                break;
+            case '\b':
+                buffer[count++] = 'b';
+                break;
+            case '\n':
+                buffer[count++] = 'n';
+                break;
+            case '\r':
+                buffer[count++] = 'r';
+                break;
+            case '\f':
+                buffer[count++] = 'f';
+                break;
+            default:
+                buffer[count++] = 'u';
+                buffer[count++] = HEX[(c >> 12) & 0xF];
+                buffer[count++] = HEX[(c >> 8) & 0xF];
+                buffer[count++] = HEX[(c >> 4) & 0xF];
+                buffer[count++] = HEX[c & 0xF];
+                break;
+        }
+    }
+
+    // Writes a string known to be ASCII, such as a number.
+    private void writeAscii(String value) throws IOException {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeByte(char b) throws IOException {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (buffer.length - count < bytes.length) {
+            flushBuffer();
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
@@ -55,6 +55,26 @@ public class ClientConfigurationTest {
         c.setMaxConnections(2);
         assertEquals(c.getMaxConnections(), 2);
 
+        assertFalse(c.isUseConnectionPool());
+        c.withUseConnectionPool(true);
+        assertTrue(c.isUseConnectionPool());
+        c.setUseConnectionPool(false);
+        assertFalse(c.isUseConnectionPool());
+
+        assertEquals(c.getConnectionMaxIdleMillis(),
+                ClientConfiguration.DEFAULT_CONNECTION_MAX_IDLE_MILLIS);
+        c.withConnectionMaxIdleMillis(1);
+        assertEquals(c.getConnectionMaxIdleMillis(), 1);
+        c.setConnectionMaxIdleMillis(2);
+        assertEquals(c.getConnectionMaxIdleMillis(), 2);
+
+        assertEquals(c.getConnectionAcquisitionTimeout(),
+                ClientConfiguration.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT);
+        c.withConnectionAcquisitionTimeout(1);
+        assertEquals(c.getConnectionAcquisitionTimeout(), 1);
+        c.setConnectionAcquisitionTimeout(2);
+        assertEquals(c.getConnectionAcquisitionTimeout(), 2);
+
         c.withMaxErrorRetry(1);
         assertEquals(c.getMaxErrorRetry(), 1);
         c.setMaxErrorRetry(2);
@@ -134,6 +154,9 @@ public class ClientConfigurationTest {
         InetAddress ina = InetAddress.getByName(null);
         c.withLocalAddress(ina);
         c.withMaxConnections(1);
+        c.withUseConnectionPool(true);
+        c.withConnectionMaxIdleMillis(1);
+        c.withConnectionAcquisitionTimeout(1);
         c.withMaxErrorRetry(1);
         c.withPreemptiveBasicProxyAuth(true);
         c.withProtocol(Protocol.HTTP);
@@ -155,6 +178,9 @@ public class ClientConfigurationTest {
         assertEquals(c.getConnectionTimeout(), n.getConnectionTimeout());
         assertEquals(c.getLocalAddress(), n.getLocalAddress());
         assertEquals(c.getMaxConnections(), n.getMaxConnections());
+        assertEquals(c.isUseConnectionPool(), n.isUseConnectionPool());
+        assertEquals(c.getConnectionMaxIdleMillis(), n.getConnectionMaxIdleMillis());
+        assertEquals(c.getConnectionAcquisitionTimeout(), n.getConnectionAcquisitionTimeout());
         assertEquals(c.getMaxErrorRetry(), n.getMaxErrorRetry());
         assertEquals(c.isPreemptiveBasicProxyAuth(), n.isPreemptiveBasicProxyAuth());
         assertEquals(c.getProtocol(), n.getProtocol());
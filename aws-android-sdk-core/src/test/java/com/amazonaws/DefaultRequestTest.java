@@ -16,9 +16,13 @@
 package com.amazonaws;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
 public class DefaultRequestTest {
 
     @Test
@@ -35,4 +39,18 @@ public class DefaultRequestTest {
         assertEquals(r.getTimeOffset(), 1000L);
     }
 
+    @Test
+    public void testContentSha256IsClearedWhenContentIsReplaced() {
+        DefaultRequest r = new DefaultRequest("test");
+        InputStream content = new ByteArrayInputStream(new byte[] {1});
+        r.setContent(content);
+        r.setContentSha256("hash");
+
+        r.setContent(content);
+        assertEquals("hash", r.getContentSha256());
+
+        r.setContent(new ByteArrayInputStream(new byte[] {2}));
+        assertNull(r.getContentSha256());
+    }
+
 }
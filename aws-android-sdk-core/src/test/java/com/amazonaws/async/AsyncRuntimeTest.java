@@ -0,0 +1,388 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AsyncRuntimeTest {
+
+    private static final long BACKOFF_MILLIS = 300;
+
+    @Test
+    public void testClientExecutorLimitsConcurrency() throws Exception {
+        final ExecutorService executor = AsyncRuntime.newClientExecutor(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<SdkFuture<Integer>> futures = new ArrayList<SdkFuture<Integer>>();
+        for (int i = 0; i < 8; i++) {
+            final int value = i;
+            futures.add(AsyncRuntime.submit(executor, new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    final int now = running.incrementAndGet();
+                    synchronized (maxRunning) {
+                        maxRunning.set(Math.max(maxRunning.get(), now));
+                    }
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                    return value;
+                }
+            }));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(Integer.valueOf(i), futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, maxRunning.get());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCallbacksAndTransform() throws Exception {
+        final ExecutorService executor = AsyncRuntime.newClientExecutor(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final SdkFuture<String> future = AsyncRuntime.submit(executor, new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                release.await();
+                return "result";
+            }
+        });
+        final AtomicReference<String> received = new AtomicReference<String>();
+        final CountDownLatch called = new CountDownLatch(1);
+        future.addCallback(new Callback<String>() {
+            @Override
+            public void onResult(String result) {
+                received.set(result);
+                called.countDown();
+            }
+
+            @Override
+            public void onError(Exception e) {
+                called.countDown();
+            }
+        });
+        final SdkFuture<Integer> length = future.transform(
+                new SdkFuture.Transformer<String, Integer>() {
+                    @Override
+                    public Integer apply(String input) {
+                        return input.length();
+                    }
+                });
+        assertFalse(length.isDone());
+
+        release.countDown();
+        assertEquals(Integer.valueOf(6), length.get(5, TimeUnit.SECONDS));
+        assertTrue(called.await(5, TimeUnit.SECONDS));
+        assertEquals("result", received.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testFailureIsPropagatedToCallbacksAndTransforms() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("boom");
+        final SdkFuture<String> future = SdkFuture.failed(failure);
+        final AtomicReference<Exception> received = new AtomicReference<Exception>();
+        future.addCallback(new Callback<String>() {
+            @Override
+            public void onResult(String result) {
+                fail("should fail");
+            }
+
+            @Override
+            public void onError(Exception e) {
+                received.set(e);
+            }
+        });
+        assertSame(failure, received.get());
+
+        final SdkFuture<Integer> derived = future.transform(
+                new SdkFuture.Transformer<String, Integer>() {
+                    @Override
+                    public Integer apply(String input) {
+                        return input.length();
+                    }
+                });
+        try {
+            derived.get();
+            fail("should fail");
+        } catch (final ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void testSubmitToPlainExecutor() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final SdkFuture<String> future = AsyncRuntime.submit(executor,
+                    new Callable<String>() {
+                        @Override
+                        public String call() {
+                            return "plain";
+                        }
+                    });
+            assertEquals("plain", future.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownNowOnlyAffectsItsClient() throws Exception {
+        final ExecutorService first = AsyncRuntime.newClientExecutor(1);
+        final ExecutorService second = AsyncRuntime.newClientExecutor(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final SdkFuture<String> blocked = AsyncRuntime.submit(first, new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                started.countDown();
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                return "not interrupted";
+            }
+        });
+        final SdkFuture<String> queued = AsyncRuntime.submit(first, new Callable<String>() {
+            @Override
+            public String call() {
+                return "queued";
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, first.shutdownNow().size());
+        try {
+            blocked.get(5, TimeUnit.SECONDS);
+            fail("should be interrupted");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof InterruptedException);
+        }
+        assertFalse(queued.isDone());
+        assertTrue(first.awaitTermination(5, TimeUnit.SECONDS));
+        try {
+            first.submit(Executors.callable(new Thread()));
+            fail("should be rejected");
+        } catch (final RejectedExecutionException e) {
+            // expected
+        }
+
+        assertEquals("second", AsyncRuntime.submit(second, new Callable<String>() {
+            @Override
+            public String call() {
+                return "second";
+            }
+        }).get(5, TimeUnit.SECONDS));
+        second.shutdown();
+    }
+
+    @Test
+    public void testRetryBackoffDoesNotHoldThread() throws Exception {
+        final FailingHttpClient httpClient = new FailingHttpClient(1);
+        final AmazonHttpClient client = new AmazonHttpClient(retryConfig(), httpClient);
+
+        // A single thread for the client: the second call can only complete
+        // first if the backoff of the first doesn't hold it.
+        final ExecutorService executor = AsyncRuntime.newClientExecutor(1);
+        final List<String> completions = Collections.synchronizedList(new ArrayList<String>());
+        final AmazonWebServiceRequest serviceRequest = new TestRequest();
+        final SdkFuture<String> retried = AsyncRuntime.submit(executor, serviceRequest,
+                new Callable<String>() {
+                    @Override
+                    public String call() {
+                        final String result = execute(client, serviceRequest);
+                        completions.add("retried");
+                        return result;
+                    }
+                });
+        final long start = System.nanoTime();
+        while (httpClient.attempts.get() == 0) {
+            Thread.sleep(5);
+        }
+        AsyncRuntime.submit(executor, new Callable<Void>() {
+            @Override
+            public Void call() {
+                completions.add("other");
+                return null;
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals("result", retried.get(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(BACKOFF_MILLIS));
+        assertEquals(2, httpClient.attempts.get());
+        assertEquals("0/0", httpClient.retryHeaders.get(0));
+        assertEquals("1/" + BACKOFF_MILLIS, httpClient.retryHeaders.get(1));
+        assertEquals(2, completions.size());
+        assertEquals("other", completions.get(0));
+        executor.shutdown();
+    }
+
+    @Test
+    public void testOtherCallsOfServiceCallTaskRetryInPlace() throws Exception {
+        // Fails the first attempt of the credentials call and of the service
+        // call.
+        final FailingHttpClient httpClient = new FailingHttpClient(1, 3);
+        final AmazonHttpClient client = new AmazonHttpClient(retryConfig(), httpClient);
+        final ExecutorService executor = AsyncRuntime.newClientExecutor(1);
+        final AmazonWebServiceRequest serviceRequest = new TestRequest();
+        final AtomicInteger runs = new AtomicInteger();
+        final SdkFuture<String> future = AsyncRuntime.submit(executor, serviceRequest,
+                new Callable<String>() {
+                    @Override
+                    public String call() {
+                        // Only fetches the credentials on the first run, as
+                        // a credentials provider would cache them.
+                        if (runs.incrementAndGet() == 1) {
+                            execute(client, new TestRequest());
+                        }
+                        return execute(client, serviceRequest);
+                    }
+                });
+
+        assertEquals("result", future.get(5, TimeUnit.SECONDS));
+        assertEquals(2, runs.get());
+        assertEquals(4, httpClient.attempts.get());
+        // The credentials call retried in place, then the service call
+        // started from its first attempt and resumed after its backoff.
+        assertEquals("0/0", httpClient.retryHeaders.get(0));
+        assertEquals("1/" + BACKOFF_MILLIS, httpClient.retryHeaders.get(1));
+        assertEquals("0/0", httpClient.retryHeaders.get(2));
+        assertEquals("1/" + BACKOFF_MILLIS, httpClient.retryHeaders.get(3));
+        executor.shutdown();
+    }
+
+    @Test
+    public void testTaskWithSeveralCallsIsNotRunAgain() throws Exception {
+        final FailingHttpClient httpClient = new FailingHttpClient(2);
+        final AmazonHttpClient client = new AmazonHttpClient(retryConfig(), httpClient);
+        final ExecutorService executor = AsyncRuntime.newClientExecutor(1);
+        final AtomicInteger runs = new AtomicInteger();
+        final Future<String> future = executor.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                runs.incrementAndGet();
+                execute(client, new TestRequest());
+                return execute(client, new TestRequest());
+            }
+        });
+
+        assertEquals("result", future.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(3, httpClient.attempts.get());
+        executor.shutdown();
+    }
+
+    private static String execute(AmazonHttpClient client, AmazonWebServiceRequest original) {
+        final DefaultRequest<Void> request = new DefaultRequest<Void>(original, "TestService");
+        request.setHttpMethod(HttpMethodName.GET);
+        request.setEndpoint(URI.create("https://test.amazonaws.com"));
+        return client.execute(request, new StringHandler(), null, new ExecutionContext())
+                .getAwsResponse();
+    }
+
+    private static ClientConfiguration retryConfig() {
+        return new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION,
+                        new RetryPolicy.BackoffStrategy() {
+                            @Override
+                            public long delayBeforeNextRetry(
+                                    AmazonWebServiceRequest originalRequest,
+                                    AmazonClientException exception, int retriesAttempted) {
+                                return BACKOFF_MILLIS;
+                            }
+                        }, 3, false));
+    }
+
+    private static final class TestRequest extends AmazonWebServiceRequest {
+    }
+
+    /**
+     * Fails the given attempts with an I/O error.
+     */
+    private static final class FailingHttpClient implements HttpClient {
+        final List<String> retryHeaders = Collections.synchronizedList(new ArrayList<String>());
+        final AtomicInteger attempts = new AtomicInteger();
+        private final List<Integer> failedAttempts = new ArrayList<Integer>();
+
+        FailingHttpClient(Integer... failedAttempts) {
+            Collections.addAll(this.failedAttempts, failedAttempts);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            retryHeaders.add(request.getHeaders().get("aws-sdk-retry"));
+            if (failedAttempts.contains(attempts.incrementAndGet())) {
+                throw new IOException("connection reset");
+            }
+            return HttpResponse.builder().statusCode(200).build();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private static final class StringHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) {
+            final AmazonWebServiceResponse<String> awsResponse =
+                    new AmazonWebServiceResponse<String>();
+            awsResponse.setResult("result");
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link AWS4Signer#sign(Request, AWSCredentials)}
+ * on small requests such as DynamoDB or Kinesis calls, in the style of a JMH
+ * benchmark: a few warmup iterations followed by measured iterations of a
+ * fixed duration. It isn't run with the unit tests; run its main method.
+ * <p>
+ * The "cachedKey" mode signs with the same credentials every time, which is
+ * the common case. The "derivedKey" mode uses new credentials for each
+ * request, so the signing key is derived every time, as it was before the
+ * signing key cache. Comparing the two shows the gain of the cache.
+ */
+public class AWS4SignerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final long ITERATION_MILLIS = 1000;
+    private static final byte[] PAYLOAD = ("{\"StreamName\":\"stream\",\"PartitionKey\":\"key\","
+            + "\"Data\":\"ZGF0YQ==\"}").getBytes(StringUtils.UTF8);
+
+    private final AWS4Signer signer = new AWS4Signer();
+    private final AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+    private long counter;
+
+    public static void main(String[] args) {
+        final AWS4SignerBenchmark benchmark = new AWS4SignerBenchmark();
+        benchmark.signer.setServiceName("kinesis");
+        benchmark.signer.setRegionName("us-east-1");
+        benchmark.run("cachedKey", false);
+        benchmark.run("derivedKey", true);
+    }
+
+    private void run(String mode, boolean newCredentials) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iteration(newCredentials);
+        }
+        double total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final double opsPerMs = iteration(newCredentials);
+            total += opsPerMs;
+            System.out.println(String.format("%s iteration %d: %.3f ops/ms", mode, i + 1,
+                    opsPerMs));
+        }
+        System.out.println(String.format("%s average: %.3f ops/ms", mode,
+                total / MEASUREMENT_ITERATIONS));
+    }
+
+    private double iteration(boolean newCredentials) {
+        final long start = System.nanoTime();
+        final long end = start + TimeUnit.MILLISECONDS.toNanos(ITERATION_MILLIS);
+        long ops = 0;
+        long now;
+        do {
+            final AWSCredentials signingCredentials = newCredentials
+                    ? new BasicAWSCredentials("access", "secret" + counter++)
+                    : credentials;
+            signer.sign(newRequest(), signingCredentials);
+            ops++;
+            now = System.nanoTime();
+        } while (now < end);
+        return ops / ((now - start) / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static Request<?> newRequest() {
+        final Request<?> request = new DefaultRequest<Void>("AmazonKinesis");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setEndpoint(URI.create("https://kinesis.us-east-1.amazonaws.com"));
+        request.setResourcePath("/");
+        request.addHeader("X-Amz-Target", "Kinesis_20131202.PutRecord");
+        request.addHeader("Content-Type", "application/x-amz-json-1.1");
+        request.addHeader("Content-Length", String.valueOf(PAYLOAD.length));
+        request.setContent(new ByteArrayInputStream(PAYLOAD));
+        return request;
+    }
+}
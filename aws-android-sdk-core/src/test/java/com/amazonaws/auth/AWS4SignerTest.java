@@ -22,12 +22,14 @@ import static org.junit.Assert.assertTrue;
 
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
+import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.StringUtils;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -189,6 +191,85 @@ public class AWS4SignerTest {
         assertNull(request.getHeaders().get("Authorization"));
     }
 
+    @Test
+    public void testContentHashIsCachedOnRequest() throws Exception {
+        final AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        final DefaultRequest<?> request = (DefaultRequest<?>) generateBasicRequest();
+        request.addHeader("x-amz-content-sha256", "required");
+        signer.sign(request, credentials);
+
+        final String contentSha256 = request.getHeaders().get("x-amz-content-sha256");
+        assertEquals(BinaryUtils.toHex(signer.hash("{\"TableName\": \"foo\"}")), contentSha256);
+        assertEquals(contentSha256, request.getContentSha256());
+
+        // On retry the same content is set again and isn't read to be hashed.
+        final InputStream content = request.getContent();
+        content.skip(Long.MAX_VALUE);
+        request.setContent(content);
+        request.addHeader("x-amz-content-sha256", "required");
+        signer.sign(request, credentials);
+        assertEquals(contentSha256, request.getHeaders().get("x-amz-content-sha256"));
+    }
+
+    @Test
+    public void testPrecomputedContentHashIsUsed() throws Exception {
+        final AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        final DefaultRequest<?> request = (DefaultRequest<?>) generateBasicRequest();
+        final String contentSha256 = BinaryUtils.toHex(signer.hash("precomputed"));
+        request.setContentSha256(contentSha256);
+        request.addHeader("x-amz-content-sha256", "required");
+        signer.sign(request, credentials);
+
+        assertEquals(contentSha256, request.getHeaders().get("x-amz-content-sha256"));
+    }
+
+    @Test
+    public void testSigningKeyIsCached() throws Exception {
+        final AWSCredentials credentials = new BasicAWSCredentials("access",
+                "testSigningKeyIsCached");
+        final Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        signer.overrideDate(c.getTime());
+
+        final Request<?> first = generateBasicRequest();
+        signer.sign(first, credentials);
+        final Request<?> second = generateBasicRequest();
+        signer.sign(second, credentials);
+        assertEquals(first.getHeaders().get("Authorization"),
+                second.getHeaders().get("Authorization"));
+
+        // A new secret key must not reuse the cached key.
+        final Request<?> other = generateBasicRequest();
+        signer.sign(other, new BasicAWSCredentials("access", "otherSecret"));
+        assertFalse(first.getHeaders().get("Authorization")
+                .equals(other.getHeaders().get("Authorization")));
+    }
+
+    @Test
+    public void testSigningKeyCacheIsBounded() {
+        final AWS4Signer.SigningKeyCache cache = new AWS4Signer.SigningKeyCache(2);
+        cache.put("a", new byte[] {1});
+        cache.put("b", new byte[] {2});
+        cache.get("a");
+        cache.put("c", new byte[] {3});
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a")[0]);
+    }
+
+    @Test
+    public void testCanonicalizedHeadersCompactWhitespace() {
+        final Request<?> request = generateBasicRequest();
+        request.addHeader("X-Amz-Meta", " a \t\n b  ");
+        request.addHeader("Content-Type", "ignored");
+        assertEquals("host:demo.us-east-1.amazonaws.com\n"
+                + "x-amz-archive-description:test test\n"
+                + "x-amz-meta: a b \n", signer.getCanonicalizedHeaderString(request));
+        assertEquals("host;x-amz-archive-description;x-amz-meta",
+                signer.getSignedHeadersString(request));
+    }
+
     private Request<?> generateBasicRequest() {
         final Request<?> request = new DefaultRequest<Void>("Foo");
         request.setContent(new ByteArrayInputStream("{\"TableName\": \"foo\"}"
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.regions.Regions;
+import com.amazonaws.services.cognitoidentity.AmazonCognitoIdentityClient;
+import com.amazonaws.services.cognitoidentity.model.Credentials;
+import com.amazonaws.services.cognitoidentity.model.GetCredentialsForIdentityRequest;
+import com.amazonaws.services.cognitoidentity.model.GetCredentialsForIdentityResult;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class CognitoCredentialsProviderTest {
+
+    private static final String IDENTITY_ID = "us-east-1:identity";
+
+    private AmazonCognitoIdentityClient cib;
+    private CognitoCredentialsProvider provider;
+
+    @Before
+    public void setup() {
+        final AWSCognitoIdentityProvider identityProvider = mock(AWSCognitoIdentityProvider.class);
+        when(identityProvider.getIdentityId()).thenReturn(IDENTITY_ID);
+        when(identityProvider.getLogins()).thenReturn(new HashMap<String, String>());
+        cib = mock(AmazonCognitoIdentityClient.class);
+        when(cib.getRegions()).thenReturn(Regions.US_EAST_1);
+        provider = new CognitoCredentialsProvider(identityProvider, cib);
+    }
+
+    @Test
+    public void testFreshCredentialsAreReadWithoutRefresh() {
+        when(cib.getCredentialsForIdentity(any(GetCredentialsForIdentityRequest.class)))
+                .thenReturn(result("first", 3600));
+
+        assertEquals("first", provider.getCredentials().getAWSAccessKeyId());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("first", provider.getCredentials().getAWSAccessKeyId());
+        }
+        assertEquals(1, provider.getCredentialsMissCount());
+        assertEquals(10, provider.getCredentialsHitCount());
+        assertEquals(1, provider.getRefreshCount());
+        verify(cib, times(1)).getCredentialsForIdentity(any(GetCredentialsForIdentityRequest.class));
+    }
+
+    @Test
+    public void testOldCredentialsAreServedDuringBackgroundRefresh() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        // expires within twice the refresh threshold, but not within it
+        when(cib.getCredentialsForIdentity(any(GetCredentialsForIdentityRequest.class)))
+                .thenReturn(result("first", 2 * CognitoCredentialsProvider.DEFAULT_THRESHOLD_SECONDS - 60))
+                .thenAnswer(new Answer<GetCredentialsForIdentityResult>() {
+                    @Override
+                    public GetCredentialsForIdentityResult answer(InvocationOnMock invocation)
+                            throws Throwable {
+                        release.await();
+                        return result("second", 3600);
+                    }
+                });
+
+        assertEquals("first", provider.getCredentials().getAWSAccessKeyId());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("first", provider.getCredentials().getAWSAccessKeyId());
+        }
+        release.countDown();
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"second".equals(provider.getCredentials().getAWSAccessKeyId())) {
+            assertTrue("background refresh timed out", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        assertEquals(1, provider.getCredentialsMissCount());
+        assertEquals(2, provider.getRefreshCount());
+        verify(cib, times(2)).getCredentialsForIdentity(any(GetCredentialsForIdentityRequest.class));
+    }
+
+    @Test
+    public void testExpiredCredentialsAreRefreshedBeforeReturning() {
+        when(cib.getCredentialsForIdentity(any(GetCredentialsForIdentityRequest.class)))
+                .thenReturn(result("expired", -1))
+                .thenReturn(result("second", 3600));
+
+        assertEquals("expired", provider.getCredentials().getAWSAccessKeyId());
+        assertEquals("second", provider.getCredentials().getAWSAccessKeyId());
+        assertEquals(2, provider.getCredentialsMissCount());
+        assertEquals(0, provider.getCredentialsHitCount());
+
+        provider.clearCredentials();
+        when(cib.getCredentialsForIdentity(any(GetCredentialsForIdentityRequest.class)))
+                .thenReturn(result("third", 3600));
+        assertEquals("third", provider.getCredentials().getAWSAccessKeyId());
+        assertEquals(3, provider.getCredentialsMissCount());
+    }
+
+    private static GetCredentialsForIdentityResult result(String accessKeyId, int expiresInSeconds) {
+        return new GetCredentialsForIdentityResult()
+                .withIdentityId(IDENTITY_ID)
+                .withCredentials(new Credentials()
+                        .withAccessKeyId(accessKeyId)
+                        .withSecretKey("secret")
+                        .withSessionToken("token")
+                        .withExpiration(new Date(System.currentTimeMillis()
+                                + expiresInSeconds * 1000L)));
+    }
+}
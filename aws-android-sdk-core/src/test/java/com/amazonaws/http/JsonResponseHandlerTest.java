@@ -28,10 +28,12 @@ import com.amazonaws.util.StringUtils;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 public class JsonResponseHandlerTest {
 
@@ -91,6 +93,46 @@ public class JsonResponseHandlerTest {
         assertEquals(awsResponse.getResult(), "Content");
     }
 
+    @Test
+    public void testHandleWithGzipAndCRC32OfLargeResponse() throws Exception {
+        // The document ends well before the stream, which is checksummed whole.
+        StringBuilder json = new StringBuilder("{\"key\" :\"Content\"}");
+        for (int i = 0; i < 100000; i++) {
+            json.append(' ');
+        }
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(gzipped);
+        gzip.write(json.toString().getBytes(StringUtils.UTF8));
+        gzip.close();
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(gzipped.toByteArray());
+        HttpResponse response = new HttpResponse.Builder().statusText("testResponse")
+                .statusCode(200).header("Content-Encoding", "gzip")
+                .header("x-amz-crc32", String.valueOf(crc32.getValue()))
+                .header("x-amzn-RequestId", "requestId")
+                .content(new ByteArrayInputStream(gzipped.toByteArray())).build();
+
+        Unmarshaller<String, JsonUnmarshallerContext> unmarshaller = new Unmarshaller<String, JsonUnmarshallerContext>() {
+
+            @Override
+            public String unmarshall(JsonUnmarshallerContext in) throws Exception {
+                in.getReader().beginObject();
+                in.getReader().nextName();
+                String value = in.getReader().nextString();
+                in.getReader().endObject();
+                return value;
+            }
+
+        };
+
+        JsonResponseHandler<String> toTest = new JsonResponseHandler<String>(unmarshaller);
+
+        AmazonWebServiceResponse<String> awsResponse = toTest.handle(response);
+        assertEquals("Content", awsResponse.getResult());
+        assertEquals("requestId", awsResponse.getResponseMetadata().getRequestId());
+    }
+
     @Test
     public void testHandleWithNullContent() throws Exception {
 
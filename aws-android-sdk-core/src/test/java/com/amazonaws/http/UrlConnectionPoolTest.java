@@ -0,0 +1,253 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.ClientConfiguration;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.net.ssl.SSLSocketFactory;
+
+public class UrlConnectionPoolTest {
+
+    private final UrlHttpClient client = new UrlHttpClient(new ClientConfiguration());
+
+    @Test
+    public void testLeaseLimitsConnectionsPerHost() throws IOException {
+        final UrlConnectionPool pool = new UrlConnectionPool(1, 0);
+        final UrlConnectionPool.Lease lease = pool.lease(new URL("https://a.amazonaws.com/x"), 0);
+        try {
+            pool.lease(new URL("https://a.amazonaws.com/y"), 50);
+            fail("the only connection to the host is leased");
+        } catch (final SocketTimeoutException e) {
+            // expected
+        }
+        pool.lease(new URL("https://b.amazonaws.com/"), 50).release();
+        pool.lease(new URL("http://a.amazonaws.com/"), 50).release();
+
+        lease.release();
+        lease.release();
+        final UrlConnectionPool.Lease next = pool.lease(new URL("https://a.amazonaws.com/"), 50);
+        try {
+            pool.lease(new URL("https://a.amazonaws.com:443/"), 50);
+            fail("the default port is the same host");
+        } catch (final SocketTimeoutException e) {
+            // expected
+        }
+        next.release();
+    }
+
+    @Test
+    public void testNewConnectionsAreObservedAndEvictedWhenIdle() throws Exception {
+        final UrlConnectionPool pool = new UrlConnectionPool(2, 1);
+        final StubSocketFactory delegate = new StubSocketFactory();
+        final SSLSocketFactory factory = pool.getSocketFactory(delegate);
+        assertSame(factory, pool.getSocketFactory(delegate));
+
+        final UrlConnectionPool.Lease reused = pool.lease(new URL("https://a.amazonaws.com/"), 0);
+        assertEquals(Boolean.TRUE, reused.connected());
+        reused.release();
+
+        final UrlConnectionPool.Lease created = pool.lease(new URL("https://a.amazonaws.com/"), 0);
+        final Socket socket = factory.createSocket("a.amazonaws.com", 443);
+        assertEquals(Boolean.FALSE, created.connected());
+        assertNull(pool.lease(new URL("http://a.amazonaws.com/"), 0).connected());
+
+        // Sockets opened outside of a lease aren't tracked.
+        final Socket untracked = factory.createSocket("a.amazonaws.com", 443);
+        assertEquals(2, delegate.sockets.size());
+
+        Thread.sleep(10);
+        pool.lease(new URL("https://b.amazonaws.com/"), 0).release();
+        assertFalse("the connection is leased", socket.isClosed());
+
+        created.release();
+        Thread.sleep(10);
+        pool.lease(new URL("https://b.amazonaws.com/"), 0).release();
+        assertTrue(socket.isClosed());
+        assertFalse(untracked.isClosed());
+        untracked.close();
+    }
+
+    @Test
+    public void testShutdownClosesIdleConnections() throws Exception {
+        final UrlConnectionPool pool = new UrlConnectionPool(2, 0);
+        final SSLSocketFactory factory = pool.getSocketFactory(new StubSocketFactory());
+        final UrlConnectionPool.Lease idle = pool.lease(new URL("https://a.amazonaws.com/"), 0);
+        final Socket idleSocket = factory.createSocket("a.amazonaws.com", 443);
+        idle.connected();
+        idle.release();
+        final UrlConnectionPool.Lease busy = pool.lease(new URL("https://b.amazonaws.com/"), 0);
+        final Socket busySocket = factory.createSocket("b.amazonaws.com", 443);
+        busy.connected();
+
+        pool.shutdown();
+        assertTrue(idleSocket.isClosed());
+        assertFalse(busySocket.isClosed());
+        busy.release();
+        busySocket.close();
+    }
+
+    @Test
+    public void testPooledResponseIsDrainedOnClose() throws Exception {
+        final UrlConnectionPool pool = new UrlConnectionPool(1, 0);
+        final URL url = new URL("https://a.amazonaws.com/");
+        final ByteArrayInputStream body = new ByteArrayInputStream(new byte[1000]);
+        final RecordingConnection connection = new RecordingConnection(url, body);
+        final HttpResponse response = client.createHttpResponse(new HttpRequest("GET",
+                url.toURI()), connection, pool.lease(url, 0));
+        assertEquals(Boolean.TRUE, response.isConnectionReused());
+        assertTrue(response.getRawContent() instanceof UrlConnectionPool.PooledInputStream);
+
+        assertEquals(10, response.getContent().read(new byte[10]));
+        response.getContent().close();
+        assertEquals(0, body.available());
+        assertEquals(0, connection.disconnected);
+        pool.lease(url, 50).release();
+    }
+
+    @Test
+    public void testUnclosedResponseDoesNotHoldSlot() throws Exception {
+        final UrlConnectionPool pool = new UrlConnectionPool(1, 1);
+        final SSLSocketFactory factory = pool.getSocketFactory(new StubSocketFactory());
+        final URL url = new URL("https://a.amazonaws.com/");
+        final UrlConnectionPool.Lease lease = pool.lease(url, 0);
+        final Socket socket = factory.createSocket("a.amazonaws.com", 443);
+        final HttpResponse response = client.createHttpResponse(new HttpRequest("GET",
+                url.toURI()), new RecordingConnection(url, new ByteArrayInputStream(new byte[10])),
+                lease);
+
+        // The body is never read nor closed.
+        assertEquals(Boolean.FALSE, response.isConnectionReused());
+        pool.lease(url, 50).release();
+        Thread.sleep(10);
+        pool.lease(new URL("https://b.amazonaws.com/"), 0).release();
+        assertFalse("the response is still open", socket.isClosed());
+        socket.close();
+    }
+
+    @Test
+    public void testLargeUnreadResponseIsDiscarded() throws Exception {
+        final UrlConnectionPool pool = new UrlConnectionPool(1, 0);
+        final URL url = new URL("https://a.amazonaws.com/");
+        final ByteArrayInputStream body = new ByteArrayInputStream(
+                new byte[4 * UrlConnectionPool.MAX_DRAIN_BYTES]);
+        final RecordingConnection connection = new RecordingConnection(url, body);
+        client.createHttpResponse(new HttpRequest("GET", url.toURI()), connection,
+                pool.lease(url, 0)).getContent().close();
+        assertTrue(body.available() > 0);
+        assertEquals(1, connection.disconnected);
+        pool.lease(url, 50).release();
+    }
+
+    @Test
+    public void testReadToEndReleasesConnection() throws Exception {
+        final UrlConnectionPool pool = new UrlConnectionPool(1, 0);
+        final URL url = new URL("https://a.amazonaws.com/");
+        final InputStream content = client.createHttpResponse(new HttpRequest("GET",
+                url.toURI()), new RecordingConnection(url, new ByteArrayInputStream(new byte[3])),
+                pool.lease(url, 0)).getContent();
+        while (content.read() != -1) {
+            // read to the end without closing
+        }
+
+        final HttpResponse head = client.createHttpResponse(new HttpRequest("HEAD", url.toURI()),
+                new RecordingConnection(url, null), pool.lease(url, 50));
+        assertNull(head.getRawContent());
+        pool.lease(url, 50).release();
+    }
+
+    private static final class RecordingConnection extends MockHttpURLConnection {
+        int disconnected;
+
+        RecordingConnection(URL url, InputStream body) {
+            super(url);
+            setResponseCode(200);
+            setResponseMessage("OK");
+            setInputStream(body);
+            setHeaderFields(new HashMap<String, List<String>>());
+        }
+
+        @Override
+        public void disconnect() {
+            disconnected++;
+        }
+    }
+
+    private static final class StubSocketFactory extends SSLSocketFactory {
+        final List<Socket> sockets = new ArrayList<Socket>();
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return new String[0];
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return new String[0];
+        }
+
+        @Override
+        public Socket createSocket(Socket s, String host, int port, boolean autoClose) {
+            return newSocket();
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) {
+            return newSocket();
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) {
+            return newSocket();
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) {
+            return newSocket();
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+                int localPort) {
+            return newSocket();
+        }
+
+        private Socket newSocket() {
+            final Socket socket = new Socket();
+            sockets.add(socket);
+            return socket;
+        }
+    }
+}
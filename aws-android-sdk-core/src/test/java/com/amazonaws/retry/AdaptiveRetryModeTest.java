@@ -0,0 +1,135 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+public class AdaptiveRetryModeTest extends RetryPolicyTestBase {
+
+    @Test
+    public void testRetriesStopOnceQuotaIsSpent() {
+        final CountingHttpClient httpClient = new CountingHttpClient(500, "InternalFailure");
+        final AmazonHttpClient client = newAdaptiveClient(httpClient, 3);
+
+        ExecutionContext context = null;
+        final int calls = 40;
+        for (int i = 0; i < calls; i++) {
+            context = new ExecutionContext(true);
+            execute(client, context);
+        }
+        // The quota allows DEFAULT_CAPACITY / RETRY_COST retries in all.
+        final int allowedRetries = RetryQuota.DEFAULT_CAPACITY / RetryQuota.RETRY_COST;
+        assertEquals(calls + allowedRetries, httpClient.count);
+
+        final List<Object> capacity = ((AWSRequestMetricsFullSupport) context
+                .getAwsRequestMetrics()).getProperty(AWSRequestMetrics.Field.RetryQuotaCapacity);
+        assertEquals(0, capacity.get(capacity.size() - 1));
+    }
+
+    @Test
+    public void testStandardModeIgnoresQuota() {
+        final CountingHttpClient httpClient = new CountingHttpClient(500, "InternalFailure");
+        final AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(null, RetryPolicy.BackoffStrategy.NO_DELAY, 3,
+                        false)));
+        injectMockHttpClient(client, httpClient);
+        for (int i = 0; i < 40; i++) {
+            execute(client, new ExecutionContext());
+        }
+        assertEquals(40 * 4, httpClient.count);
+    }
+
+    @Test
+    public void testThrottlingEnablesRateLimiter() {
+        final CountingHttpClient httpClient = new CountingHttpClient(400, "ThrottlingException");
+        final AmazonHttpClient client = newAdaptiveClient(httpClient, 0);
+        final ExecutionContext context = new ExecutionContext(true);
+        execute(client, context);
+
+        final List<Object> rate = ((AWSRequestMetricsFullSupport) context
+                .getAwsRequestMetrics()).getProperty(AWSRequestMetrics.Field.ClientSendRate);
+        assertTrue((Double) rate.get(0) >= ClientSideRateLimiter.MIN_FILL_RATE);
+    }
+
+    @Test
+    public void testTransportErrorsDoNotFeedRateLimiter() {
+        final AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(null, RetryPolicy.BackoffStrategy.NO_DELAY, 2,
+                        false, RetryPolicy.RetryMode.ADAPTIVE)));
+        injectMockHttpClient(client, new ThrowingExceptionHttpClient(new IOException("reset")));
+        final ExecutionContext context = new ExecutionContext(true);
+        try {
+            client.execute(getSampleRequestWithRepeatableContent(originalRequest), null,
+                    errorResponseHandler, context);
+            fail("AmazonClientException is expected.");
+        } catch (final AmazonClientException ace) {
+            // expected
+        }
+
+        assertNull(((AWSRequestMetricsFullSupport) context.getAwsRequestMetrics())
+                .getProperty(AWSRequestMetrics.Field.ClientSendRate));
+    }
+
+    private static AmazonHttpClient newAdaptiveClient(CountingHttpClient httpClient,
+            int maxErrorRetry) {
+        final AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(null, RetryPolicy.BackoffStrategy.NO_DELAY,
+                        maxErrorRetry, false, RetryPolicy.RetryMode.ADAPTIVE)));
+        injectMockHttpClient(client, httpClient);
+        return client;
+    }
+
+    private static void execute(AmazonHttpClient client, ExecutionContext context) {
+        try {
+            client.execute(getSampleRequestWithRepeatableContent(originalRequest), null,
+                    errorResponseHandler, context);
+            fail("AmazonServiceException is expected.");
+        } catch (final AmazonServiceException ase) {
+            // expected
+        }
+    }
+
+    private static final class CountingHttpClient extends ReturnServiceErrorHttpClient {
+        int count;
+
+        CountingHttpClient(int statusCode, String reasonPhrase) {
+            super(statusCode, reasonPhrase);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws IOException {
+            count++;
+            return super.execute(request);
+        }
+    }
+}
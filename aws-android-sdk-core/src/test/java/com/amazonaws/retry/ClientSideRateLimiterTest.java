@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class ClientSideRateLimiterTest {
+
+    private static final double DELTA = 1e-6;
+
+    @Test
+    public void testNoLimitUntilThrottled() {
+        final ClientSideRateLimiter limiter = new ClientSideRateLimiter(0);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.reserve(i * 0.01));
+            limiter.updateSendingRate(false, i * 0.01);
+        }
+        assertFalse(limiter.isEnabled());
+        assertEquals(0, limiter.getSendRate(), DELTA);
+    }
+
+    @Test
+    public void testThrottlingCutsRateThenSuccessesRampItUp() {
+        final ClientSideRateLimiter limiter = new ClientSideRateLimiter(0);
+        // 10 requests per second for 5 seconds.
+        double t = 0;
+        for (int i = 0; i < 50; i++) {
+            t = i * 0.1;
+            limiter.updateSendingRate(false, t);
+        }
+        final double measured = limiter.getMeasuredSendRate();
+        assertEquals(10, measured, 0.5);
+
+        t += 0.1;
+        limiter.updateSendingRate(true, t);
+        assertTrue(limiter.isEnabled());
+        final double throttledRate = limiter.getSendRate();
+        assertEquals(limiter.getMeasuredSendRate() * ClientSideRateLimiter.BETA, throttledRate,
+                DELTA);
+
+        // Right after throttling, the rate grows slowly.
+        limiter.updateSendingRate(false, t + 0.1);
+        assertTrue(limiter.getSendRate() < throttledRate / ClientSideRateLimiter.BETA);
+
+        // Past the time window, it grows beyond the rate at which the service
+        // throttled, up to twice the measured rate.
+        final double timeWindow = Math.cbrt(throttledRate / ClientSideRateLimiter.BETA
+                * (1 - ClientSideRateLimiter.BETA) / ClientSideRateLimiter.SCALE_CONSTANT);
+        double now = t;
+        for (int i = 1; i <= (timeWindow + 2) * 10; i++) {
+            now = t + i * 0.1;
+            limiter.updateSendingRate(false, now);
+        }
+        assertTrue(limiter.getSendRate() > throttledRate / ClientSideRateLimiter.BETA);
+        assertTrue(limiter.getSendRate() <= 2 * limiter.getMeasuredSendRate() + DELTA);
+    }
+
+    @Test
+    public void testRequestsWaitForTokensOnceLimited() {
+        final ClientSideRateLimiter limiter = new ClientSideRateLimiter(0);
+        for (int i = 0; i < 20; i++) {
+            limiter.updateSendingRate(false, i * 0.25);
+        }
+        limiter.updateSendingRate(true, 5);
+        final double rate = limiter.getSendRate();
+        assertTrue(rate >= ClientSideRateLimiter.MIN_FILL_RATE);
+
+        // Once the tokens left are taken, each request waits for the tokens
+        // taken before it, plus its own.
+        long first = 0;
+        for (int i = 0; first == 0 && i < 100; i++) {
+            first = limiter.reserve(5);
+        }
+        assertTrue(first > 0);
+        final long second = limiter.reserve(5);
+        assertEquals(TimeUnit.SECONDS.toNanos(1) / rate, second - first, 1e3);
+
+        // Once the tokens are refilled, requests go through at once.
+        assertEquals(0, limiter.reserve(5 + 10 / rate));
+    }
+}
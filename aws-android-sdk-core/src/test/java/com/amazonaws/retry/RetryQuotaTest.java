@@ -0,0 +1,51 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RetryQuotaTest {
+
+    @Test
+    public void testRetriesAreRefusedOnceQuotaIsSpent() {
+        final RetryQuota quota = new RetryQuota(3 * RetryQuota.RETRY_COST + 2);
+        assertTrue(quota.tryAcquire());
+        assertTrue(quota.tryAcquire());
+        assertTrue(quota.tryAcquire());
+        assertEquals(2, quota.getAvailableCapacity());
+        assertFalse(quota.tryAcquire());
+        assertEquals(2, quota.getAvailableCapacity());
+
+        quota.release(false);
+        quota.release(false);
+        quota.release(false);
+        assertTrue(quota.tryAcquire());
+        assertEquals(0, quota.getAvailableCapacity());
+    }
+
+    @Test
+    public void testReleaseDoesNotExceedCapacity() {
+        final RetryQuota quota = new RetryQuota();
+        assertEquals(RetryQuota.DEFAULT_CAPACITY, quota.getAvailableCapacity());
+        assertTrue(quota.tryAcquire());
+        quota.release(true);
+        quota.release(true);
+        assertEquals(RetryQuota.DEFAULT_CAPACITY, quota.getAvailableCapacity());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class BufferPoolTest {
+
+    @Test
+    public void testReleasedBufferIsReused() {
+        BufferPool pool = new BufferPool(64, 2);
+        byte[] buffer = pool.acquire();
+        assertEquals(64, buffer.length);
+        assertEquals(1, pool.getMissCount());
+
+        pool.release(buffer);
+        assertEquals(1, pool.getPooledCount());
+        assertSame(buffer, pool.acquire());
+        assertEquals(1, pool.getHitCount());
+        assertEquals(0, pool.getPooledCount());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        BufferPool pool = new BufferPool(64, 2);
+        byte[] first = pool.acquire();
+        byte[] second = pool.acquire();
+        byte[] third = pool.acquire();
+        assertEquals(3, pool.getMissCount());
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        assertEquals(2, pool.getPooledCount());
+        assertEquals(1, pool.getDiscardCount());
+    }
+
+    @Test
+    public void testBufferOfOtherSizeIsIgnored() {
+        BufferPool pool = new BufferPool(64, 2);
+        pool.release(new byte[32]);
+        pool.release(null);
+        assertEquals(0, pool.getPooledCount());
+        assertEquals(64, pool.acquire().length);
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBufferSize() {
+        new BufferPool(0, 2);
+    }
+}
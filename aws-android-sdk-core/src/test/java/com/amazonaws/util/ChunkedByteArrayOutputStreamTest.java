@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ChunkedByteArrayOutputStreamTest {
+
+    private static byte[] data(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        return bytes;
+    }
+
+    private static byte[] readAll(InputStream in, int bufferSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testWriteAcrossChunks() throws IOException {
+        byte[] expected = data(100000);
+        ChunkedByteArrayOutputStream out = new ChunkedByteArrayOutputStream();
+        out.write(expected[0]);
+        out.write(expected, 1, 999);
+        out.write(expected, 1000, expected.length - 1000);
+
+        assertEquals(expected.length, out.size());
+        assertArrayEquals(expected, out.toByteArray());
+        assertArrayEquals(expected, readAll(out.toInputStream(), 7000));
+    }
+
+    @Test
+    public void testInputStreamMarkResetAndSkip() throws IOException {
+        byte[] expected = data(20000);
+        ChunkedByteArrayOutputStream out = new ChunkedByteArrayOutputStream();
+        out.write(expected);
+        InputStream in = out.toInputStream();
+
+        in.mark(-1);
+        assertEquals(expected[0] & 0xFF, in.read());
+        assertEquals(256, in.skip(256));
+        assertEquals(expected[257] & 0xFF, in.read());
+        assertEquals(expected.length - 258, in.available());
+        in.reset();
+        assertArrayEquals(expected, readAll(in, 1000));
+        assertEquals(-1, in.read());
+
+        // The position right at the end of the first chunk.
+        in.reset();
+        assertEquals(255, in.skip(255));
+        in.mark(-1);
+        assertEquals(expected[255] & 0xFF, in.read());
+        in.reset();
+        assertEquals(expected[255] & 0xFF, in.read());
+        assertEquals(expected[256] & 0xFF, in.read());
+        assertEquals(expected.length - 1000, in.skip(expected.length - 1000));
+        in.mark(-1);
+        in.reset();
+        assertEquals(expected[expected.length - 743] & 0xFF, in.read());
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        ChunkedByteArrayOutputStream out = new ChunkedByteArrayOutputStream();
+        assertEquals(0, out.size());
+        assertEquals(0, out.toByteArray().length);
+        assertEquals(-1, out.toInputStream().read());
+        assertEquals(-1, out.toInputStream().read(new byte[4]));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import com.amazonaws.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of reading a DynamoDB Scan response of 100 items
+ * with the Gson based reader and with {@link Utf8JsonReader}, in the style of
+ * a JMH benchmark: a few warmup iterations followed by measured iterations of
+ * a fixed duration. It isn't run with the unit tests; run its main method.
+ */
+public class JsonReaderBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final long ITERATION_MILLIS = 1000;
+    private static final int ITEMS = 100;
+
+    private final byte[] response;
+    private final AwsJsonFactory gson = new GsonFactory();
+
+    JsonReaderBenchmark() {
+        final StringBuilder json = new StringBuilder("{\"Count\":").append(ITEMS)
+                .append(",\"Items\":[");
+        for (int i = 0; i < ITEMS; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\":{\"S\":\"item-").append(i).append("\"},")
+                    .append("\"price\":{\"N\":\"").append(i).append(".99\"},")
+                    .append("\"title\":{\"S\":\"A title for item number ").append(i)
+                    .append(", caf\u00e9\"},")
+                    .append("\"inStock\":{\"BOOL\":true},")
+                    .append("\"tags\":{\"L\":[{\"S\":\"red\"},{\"S\":\"green\"},{\"S\":\"blue\"}]},")
+                    .append("\"dimensions\":{\"M\":{\"width\":{\"N\":\"12\"},")
+                    .append("\"height\":{\"N\":\"34\"},\"depth\":{\"N\":\"56\"}}}}");
+        }
+        json.append("],\"ScannedCount\":").append(ITEMS).append("}");
+        response = json.toString().getBytes(StringUtils.UTF8);
+    }
+
+    public static void main(String[] args) throws IOException {
+        final JsonReaderBenchmark benchmark = new JsonReaderBenchmark();
+        System.out.println("Response of " + benchmark.response.length + " bytes");
+        benchmark.run("gson", false);
+        benchmark.run("utf8", true);
+    }
+
+    private void run(String mode, boolean utf8Reader) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iteration(utf8Reader);
+        }
+        double total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final double opsPerMs = iteration(utf8Reader);
+            total += opsPerMs;
+            System.out.println(String.format("%s iteration %d: %.3f ops/ms", mode, i + 1,
+                    opsPerMs));
+        }
+        System.out.println(String.format("%s average: %.3f ops/ms", mode,
+                total / MEASUREMENT_ITERATIONS));
+    }
+
+    private double iteration(boolean utf8Reader) throws IOException {
+        final long start = System.nanoTime();
+        final long end = start + TimeUnit.MILLISECONDS.toNanos(ITERATION_MILLIS);
+        long ops = 0;
+        long now;
+        do {
+            final ByteArrayInputStream in = new ByteArrayInputStream(response);
+            read(utf8Reader ? new Utf8JsonReader(in)
+                    : gson.getJsonReader(new InputStreamReader(in, StringUtils.UTF8)));
+            ops++;
+            now = System.nanoTime();
+        } while (now < end);
+        return ops / ((now - start) / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    // Reads every token, the way the unmarshallers do.
+    private static void read(AwsJsonReader reader) throws IOException {
+        AwsJsonToken token;
+        while ((token = reader.peek()) != null) {
+            switch (token) {
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    break;
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    break;
+                case FIELD_NAME:
+                    reader.nextName();
+                    break;
+                default:
+                    reader.nextString();
+                    break;
+            }
+        }
+        reader.close();
+    }
+}
@@ -15,21 +15,33 @@
 
 package com.amazonaws.util.json;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.util.ChunkedByteArrayOutputStream;
+import com.amazonaws.util.StringUtils;
+
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class JsonUtilsTest {
@@ -277,6 +289,250 @@ public class JsonUtilsTest {
         out.getBuffer().setLength(0);
     }
 
+    @Test
+    public void testUtf8JsonWriter() throws IOException {
+        ChunkedByteArrayOutputStream out = new ChunkedByteArrayOutputStream();
+        AwsJsonWriter writer = JsonUtils.getJsonWriter(out);
+        writer.beginObject()
+                .name("string").value("string")
+                .name("long").value(123)
+                .name("double").value(123.45)
+                .name("null").value()
+                .name("true").value(true)
+                .name("false").value(false)
+                .name("encoding").value("Chloë")
+                .name("array").beginArray()
+                .value("string").value(123).value(123.45).value().value(true).value(false)
+                .endArray()
+                .name("object").beginObject().endObject()
+                .endObject().close();
+        assertEquals("same json", JSON_STRING, new String(out.toByteArray(), StringUtils.UTF8));
+    }
+
+    @Test
+    public void testUtf8JsonWriterMatchesGsonWriter() throws IOException {
+        String text = "quote\" backslash\\ controls\t\b\n\r\f\u0000\u001f slash/ "
+                + "html<>&=' accents\u00e9\u07ff cjk\u4e2d\uffff separators\u2028\u2029 "
+                + "emoji\ud83d\ude00 unpaired\ud83d end\ude00";
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            large.append("\u00e9value").append(i);
+        }
+
+        StringWriter gsonOut = new StringWriter();
+        ChunkedByteArrayOutputStream utf8Out = new ChunkedByteArrayOutputStream();
+        AwsJsonWriter[] writers = {
+                JsonUtils.getJsonWriter(gsonOut), JsonUtils.getJsonWriter(utf8Out)
+        };
+        for (AwsJsonWriter writer : writers) {
+            writer.beginArray()
+                    .value(text)
+                    .value(large.toString())
+                    .value(1.0E10).value(-0.0).value(Long.MIN_VALUE)
+                    .value(new BigDecimal("1.50")).value((Number) null).value((String) null)
+                    .value(new Date(0L)).value(new Date(1423875641895L))
+                    .value(generateByteBuffer(33))
+                    .beginObject().name(text).beginArray().endArray().endObject()
+                    .endArray()
+                    .close();
+        }
+        // Marshallers used to encode the Gson output with String.getBytes.
+        assertArrayEquals(gsonOut.toString().getBytes(StringUtils.UTF8), utf8Out.toByteArray());
+    }
+
+    @Test
+    public void testUtf8JsonWriterRejectsIncompleteDocument() throws IOException {
+        AwsJsonWriter writer = JsonUtils.getJsonWriter(new ChunkedByteArrayOutputStream());
+        writer.beginObject().name("key");
+        try {
+            writer.name("other");
+            fail("name after name");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            writer.close();
+            fail("incomplete document");
+        } catch (IOException e) {
+            assertEquals("Incomplete document", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testUtf8JsonWriterCanBeDisabled() throws IOException {
+        System.setProperty(SDKGlobalConfiguration.DISABLE_UTF8_JSON_WRITER_SYSTEM_PROPERTY, "");
+        try {
+            AwsJsonWriter writer = JsonUtils.getJsonWriter(new ChunkedByteArrayOutputStream());
+            assertFalse(writer instanceof Utf8JsonWriter);
+        } finally {
+            System.clearProperty(SDKGlobalConfiguration.DISABLE_UTF8_JSON_WRITER_SYSTEM_PROPERTY);
+        }
+        assertTrue(JsonUtils.getJsonWriter(new ChunkedByteArrayOutputStream())
+                instanceof Utf8JsonWriter);
+    }
+
+    @Test
+    public void testUtf8JsonReader() throws IOException {
+        AwsJsonReader reader = JsonUtils.getJsonReader(
+                new ByteArrayInputStream(JSON_STRING.getBytes(StringUtils.UTF8)));
+        assertTrue(reader instanceof Utf8JsonReader);
+        assertEquals(readTokens(JsonUtils.getJsonReader(new StringReader(JSON_STRING))),
+                readTokens(reader));
+    }
+
+    @Test
+    public void testUtf8JsonReaderMatchesGsonReader() throws IOException {
+        StringBuilder large = new StringBuilder("{\"Items\":[");
+        for (int i = 0; i < 2000; i++) {
+            large.append(i == 0 ? "" : ",").append("{\"id\":{\"N\":\"").append(i)
+                    .append("\"},\"name\":{\"S\":\"\u00e9\u4e2d\ud83d\ude00 ").append(i)
+                    .append("\"},\"tags\":{\"L\":[{\"S\":\"a\\n\\u00e9\"},")
+                    .append("{\"BOOL\":true},{\"NULL\":null},{\"M\":{}}]}}");
+        }
+        large.append("],\"Count\":2000}");
+        String[] documents = {
+                JSON_STRING_WITH_ARRAYS,
+                " [\"escapes \\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u0041\\u00e9\\ud83d\\ude00\", "
+                        + "0, -0, 1.5e10, -2E-3, 12345678901234567890, \"\u2028\"] ",
+                "{}", "[]", "\"string\"", "123", "null",
+                large.toString()
+        };
+        for (String document : documents) {
+            byte[] bytes = document.getBytes(StringUtils.UTF8);
+            List<String> expected = readTokens(
+                    JsonUtils.getJsonReader(new StringReader(document)));
+            assertEquals(expected, readTokens(
+                    JsonUtils.getJsonReader(new ByteArrayInputStream(bytes))));
+            // Splits the tokens and characters across reads.
+            assertEquals(expected, readTokens(
+                    JsonUtils.getJsonReader(new OneByteInputStream(bytes))));
+        }
+    }
+
+    @Test
+    public void testUtf8JsonReaderDecodesMalformedUtf8LikeInputStreamReader()
+            throws IOException {
+        byte[] bytes = {
+                '[', '"', 'a', (byte) 0xC3, '"', ',', '"', (byte) 0xE4, (byte) 0xB8, 'b', '"',
+                ',', '"', (byte) 0xFF, (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"', ']'
+        };
+        List<String> expected = readTokens(JsonUtils.getJsonReader(
+                new InputStreamReader(new ByteArrayInputStream(bytes), StringUtils.UTF8)));
+        assertEquals(expected, readTokens(
+                JsonUtils.getJsonReader(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    public void testUtf8JsonReaderInternsNames() throws IOException {
+        String json = "{\"S\":\"S\"}";
+        AwsJsonReader first = JsonUtils.getJsonReader(
+                new ByteArrayInputStream(json.getBytes(StringUtils.UTF8)));
+        AwsJsonReader second = JsonUtils.getJsonReader(
+                new ByteArrayInputStream(json.getBytes(StringUtils.UTF8)));
+        first.beginObject();
+        second.beginObject();
+        String name = first.nextName();
+        assertEquals("S", name);
+        assertSame(name, second.nextName());
+        assertNotSame("values aren't interned", first.nextString(), second.nextString());
+    }
+
+    @Test
+    public void testUtf8JsonReaderRejectsMalformedJson() throws IOException {
+        String[] documents = {
+                "{\"a\" 1}", "{\"a\":1,}", "[1,]", "[1 2]", "{a:1}", "['a']", "[tru]",
+                "[nul]", "[01]", "[1.]", "[-]", "[1e]", "[1x]", "[\"a]", "[\"\\x\"]",
+                "[\"\\u00g0\"]", "[] []", "[/* comment */]"
+        };
+        for (String document : documents) {
+            AwsJsonReader reader = JsonUtils.getJsonReader(
+                    new ByteArrayInputStream(document.getBytes(StringUtils.UTF8)));
+            try {
+                readTokens(reader);
+                fail("malformed " + document);
+            } catch (IOException e) {
+                // expected
+            }
+        }
+
+        AwsJsonReader reader = JsonUtils.getJsonReader(
+                new ByteArrayInputStream("[\"a\"]".getBytes(StringUtils.UTF8)));
+        try {
+            reader.beginObject();
+            fail("wrong token");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(AwsJsonToken.BEGIN_ARRAY, reader.peek());
+    }
+
+    @Test
+    public void testUtf8JsonReaderSkipValue() throws IOException {
+        AwsJsonReader reader = JsonUtils.getJsonReader(new ByteArrayInputStream(
+                "{\"skip\":{\"a\":[1,\"\\\"}\",{}]},\"keep\":\"value\"}"
+                        .getBytes(StringUtils.UTF8)));
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+        assertEquals("keep", reader.nextName());
+        assertEquals("value", reader.nextString());
+        reader.endObject();
+        assertNull(reader.peek());
+        reader.close();
+    }
+
+    @Test
+    public void testUtf8JsonReaderCanBeDisabled() throws IOException {
+        System.setProperty(SDKGlobalConfiguration.DISABLE_UTF8_JSON_READER_SYSTEM_PROPERTY, "");
+        try {
+            AwsJsonReader reader = JsonUtils.getJsonReader(new ByteArrayInputStream(new byte[0]));
+            assertFalse(reader instanceof Utf8JsonReader);
+        } finally {
+            System.clearProperty(SDKGlobalConfiguration.DISABLE_UTF8_JSON_READER_SYSTEM_PROPERTY);
+        }
+    }
+
+    private static List<String> readTokens(AwsJsonReader reader) throws IOException {
+        List<String> tokens = new ArrayList<String>();
+        AwsJsonToken token;
+        while ((token = reader.peek()) != null) {
+            tokens.add(token.name());
+            switch (token) {
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    break;
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    break;
+                case FIELD_NAME:
+                    tokens.add(reader.nextName());
+                    break;
+                default:
+                    tokens.add(reader.nextString());
+                    break;
+            }
+        }
+        reader.close();
+        return tokens;
+    }
+
+    private static final class OneByteInputStream extends ByteArrayInputStream {
+        OneByteInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+
     private ByteBuffer generateByteBuffer(int length) {
         byte[] bytes = new byte[length];
         for (int i = 0; i < length; i++) {
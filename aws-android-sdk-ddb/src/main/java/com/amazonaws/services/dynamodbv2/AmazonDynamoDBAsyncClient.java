@@ -17,11 +17,11 @@ package com.amazonaws.services.dynamodbv2;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -107,15 +107,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     @Deprecated
     public AmazonDynamoDBAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * DynamoDB using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -125,7 +125,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *            to use when authenticating with AWS services.
      */
     public AmazonDynamoDBAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -172,8 +172,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * DynamoDB using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -184,7 +184,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *            services.
      */
     public AmazonDynamoDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -224,8 +224,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public AmazonDynamoDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -372,10 +372,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchGetItemResult> batchGetItemAsync(
+    public SdkFuture<BatchGetItemResult> batchGetItemAsync(
             final BatchGetItemRequest batchGetItemRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
+        return AsyncRuntime.submit(executorService, batchGetItemRequest, new Callable<BatchGetItemResult>() {
             public BatchGetItemResult call() throws Exception {
                 return batchGetItem(batchGetItemRequest);
             }
@@ -479,11 +479,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchGetItemResult> batchGetItemAsync(
+    public SdkFuture<BatchGetItemResult> batchGetItemAsync(
             final BatchGetItemRequest batchGetItemRequest,
             final AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
+        return AsyncRuntime.submit(executorService, batchGetItemRequest, new Callable<BatchGetItemResult>() {
             public BatchGetItemResult call() throws Exception {
                 BatchGetItemResult result = null;
                 try {
@@ -638,10 +638,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchWriteItemResult> batchWriteItemAsync(
+    public SdkFuture<BatchWriteItemResult> batchWriteItemAsync(
             final BatchWriteItemRequest batchWriteItemRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
+        return AsyncRuntime.submit(executorService, batchWriteItemRequest, new Callable<BatchWriteItemResult>() {
             public BatchWriteItemResult call() throws Exception {
                 return batchWriteItem(batchWriteItemRequest);
             }
@@ -788,11 +788,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchWriteItemResult> batchWriteItemAsync(
+    public SdkFuture<BatchWriteItemResult> batchWriteItemAsync(
             final BatchWriteItemRequest batchWriteItemRequest,
             final AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
+        return AsyncRuntime.submit(executorService, batchWriteItemRequest, new Callable<BatchWriteItemResult>() {
             public BatchWriteItemResult call() throws Exception {
                 BatchWriteItemResult result = null;
                 try {
@@ -881,10 +881,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateBackupResult> createBackupAsync(
+    public SdkFuture<CreateBackupResult> createBackupAsync(
             final CreateBackupRequest createBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateBackupResult>() {
+        return AsyncRuntime.submit(executorService, createBackupRequest, new Callable<CreateBackupResult>() {
             public CreateBackupResult call() throws Exception {
                 return createBackup(createBackupRequest);
             }
@@ -965,11 +965,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateBackupResult> createBackupAsync(
+    public SdkFuture<CreateBackupResult> createBackupAsync(
             final CreateBackupRequest createBackupRequest,
             final AsyncHandler<CreateBackupRequest, CreateBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateBackupResult>() {
+        return AsyncRuntime.submit(executorService, createBackupRequest, new Callable<CreateBackupResult>() {
             public CreateBackupResult call() throws Exception {
                 CreateBackupResult result = null;
                 try {
@@ -1064,10 +1064,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateGlobalTableResult> createGlobalTableAsync(
+    public SdkFuture<CreateGlobalTableResult> createGlobalTableAsync(
             final CreateGlobalTableRequest createGlobalTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateGlobalTableResult>() {
+        return AsyncRuntime.submit(executorService, createGlobalTableRequest, new Callable<CreateGlobalTableResult>() {
             public CreateGlobalTableResult call() throws Exception {
                 return createGlobalTable(createGlobalTableRequest);
             }
@@ -1154,11 +1154,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateGlobalTableResult> createGlobalTableAsync(
+    public SdkFuture<CreateGlobalTableResult> createGlobalTableAsync(
             final CreateGlobalTableRequest createGlobalTableRequest,
             final AsyncHandler<CreateGlobalTableRequest, CreateGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGlobalTableResult>() {
+        return AsyncRuntime.submit(executorService, createGlobalTableRequest, new Callable<CreateGlobalTableResult>() {
             public CreateGlobalTableResult call() throws Exception {
                 CreateGlobalTableResult result = null;
                 try {
@@ -1216,9 +1216,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest)
+    public SdkFuture<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
+        return AsyncRuntime.submit(executorService, createTableRequest, new Callable<CreateTableResult>() {
             public CreateTableResult call() throws Exception {
                 return createTable(createTableRequest);
             }
@@ -1268,10 +1268,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest,
+    public SdkFuture<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest,
             final AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
+        return AsyncRuntime.submit(executorService, createTableRequest, new Callable<CreateTableResult>() {
             public CreateTableResult call() throws Exception {
                 CreateTableResult result = null;
                 try {
@@ -1310,10 +1310,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteBackupResult> deleteBackupAsync(
+    public SdkFuture<DeleteBackupResult> deleteBackupAsync(
             final DeleteBackupRequest deleteBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteBackupResult>() {
+        return AsyncRuntime.submit(executorService, deleteBackupRequest, new Callable<DeleteBackupResult>() {
             public DeleteBackupResult call() throws Exception {
                 return deleteBackup(deleteBackupRequest);
             }
@@ -1344,11 +1344,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteBackupResult> deleteBackupAsync(
+    public SdkFuture<DeleteBackupResult> deleteBackupAsync(
             final DeleteBackupRequest deleteBackupRequest,
             final AsyncHandler<DeleteBackupRequest, DeleteBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBackupResult>() {
+        return AsyncRuntime.submit(executorService, deleteBackupRequest, new Callable<DeleteBackupResult>() {
             public DeleteBackupResult call() throws Exception {
                 DeleteBackupResult result = null;
                 try {
@@ -1403,9 +1403,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest)
+    public SdkFuture<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
+        return AsyncRuntime.submit(executorService, deleteItemRequest, new Callable<DeleteItemResult>() {
             public DeleteItemResult call() throws Exception {
                 return deleteItem(deleteItemRequest);
             }
@@ -1452,10 +1452,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest,
+    public SdkFuture<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest,
             final AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
+        return AsyncRuntime.submit(executorService, deleteItemRequest, new Callable<DeleteItemResult>() {
             public DeleteItemResult call() throws Exception {
                 DeleteItemResult result = null;
                 try {
@@ -1519,9 +1519,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest)
+    public SdkFuture<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
+        return AsyncRuntime.submit(executorService, deleteTableRequest, new Callable<DeleteTableResult>() {
             public DeleteTableResult call() throws Exception {
                 return deleteTable(deleteTableRequest);
             }
@@ -1577,10 +1577,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest,
+    public SdkFuture<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest,
             final AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
+        return AsyncRuntime.submit(executorService, deleteTableRequest, new Callable<DeleteTableResult>() {
             public DeleteTableResult call() throws Exception {
                 DeleteTableResult result = null;
                 try {
@@ -1617,10 +1617,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeBackupResult> describeBackupAsync(
+    public SdkFuture<DescribeBackupResult> describeBackupAsync(
             final DescribeBackupRequest describeBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeBackupResult>() {
+        return AsyncRuntime.submit(executorService, describeBackupRequest, new Callable<DescribeBackupResult>() {
             public DescribeBackupResult call() throws Exception {
                 return describeBackup(describeBackupRequest);
             }
@@ -1649,11 +1649,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeBackupResult> describeBackupAsync(
+    public SdkFuture<DescribeBackupResult> describeBackupAsync(
             final DescribeBackupRequest describeBackupRequest,
             final AsyncHandler<DescribeBackupRequest, DescribeBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBackupResult>() {
+        return AsyncRuntime.submit(executorService, describeBackupRequest, new Callable<DescribeBackupResult>() {
             public DescribeBackupResult call() throws Exception {
                 DescribeBackupResult result = null;
                 try {
@@ -1705,10 +1705,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
+    public SdkFuture<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
             final DescribeContinuousBackupsRequest describeContinuousBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContinuousBackupsResult>() {
+        return AsyncRuntime.submit(executorService, describeContinuousBackupsRequest, new Callable<DescribeContinuousBackupsResult>() {
             public DescribeContinuousBackupsResult call() throws Exception {
                 return describeContinuousBackups(describeContinuousBackupsRequest);
             }
@@ -1752,11 +1752,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
+    public SdkFuture<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
             final DescribeContinuousBackupsRequest describeContinuousBackupsRequest,
             final AsyncHandler<DescribeContinuousBackupsRequest, DescribeContinuousBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContinuousBackupsResult>() {
+        return AsyncRuntime.submit(executorService, describeContinuousBackupsRequest, new Callable<DescribeContinuousBackupsResult>() {
             public DescribeContinuousBackupsResult call() throws Exception {
                 DescribeContinuousBackupsResult result = null;
                 try {
@@ -1783,10 +1783,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointsResult> describeEndpointsAsync(
+    public SdkFuture<DescribeEndpointsResult> describeEndpointsAsync(
             final DescribeEndpointsRequest describeEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, describeEndpointsRequest, new Callable<DescribeEndpointsResult>() {
             public DescribeEndpointsResult call() throws Exception {
                 return describeEndpoints(describeEndpointsRequest);
             }
@@ -1805,11 +1805,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointsResult> describeEndpointsAsync(
+    public SdkFuture<DescribeEndpointsResult> describeEndpointsAsync(
             final DescribeEndpointsRequest describeEndpointsRequest,
             final AsyncHandler<DescribeEndpointsRequest, DescribeEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, describeEndpointsRequest, new Callable<DescribeEndpointsResult>() {
             public DescribeEndpointsResult call() throws Exception {
                 DescribeEndpointsResult result = null;
                 try {
@@ -1843,10 +1843,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableResult> describeGlobalTableAsync(
+    public SdkFuture<DescribeGlobalTableResult> describeGlobalTableAsync(
             final DescribeGlobalTableRequest describeGlobalTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableResult>() {
+        return AsyncRuntime.submit(executorService, describeGlobalTableRequest, new Callable<DescribeGlobalTableResult>() {
             public DescribeGlobalTableResult call() throws Exception {
                 return describeGlobalTable(describeGlobalTableRequest);
             }
@@ -1872,11 +1872,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableResult> describeGlobalTableAsync(
+    public SdkFuture<DescribeGlobalTableResult> describeGlobalTableAsync(
             final DescribeGlobalTableRequest describeGlobalTableRequest,
             final AsyncHandler<DescribeGlobalTableRequest, DescribeGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableResult>() {
+        return AsyncRuntime.submit(executorService, describeGlobalTableRequest, new Callable<DescribeGlobalTableResult>() {
             public DescribeGlobalTableResult call() throws Exception {
                 DescribeGlobalTableResult result = null;
                 try {
@@ -1910,10 +1910,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
+    public SdkFuture<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
             final DescribeGlobalTableSettingsRequest describeGlobalTableSettingsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableSettingsResult>() {
+        return AsyncRuntime.submit(executorService, describeGlobalTableSettingsRequest, new Callable<DescribeGlobalTableSettingsResult>() {
             public DescribeGlobalTableSettingsResult call() throws Exception {
                 return describeGlobalTableSettings(describeGlobalTableSettingsRequest);
             }
@@ -1939,11 +1939,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
+    public SdkFuture<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
             final DescribeGlobalTableSettingsRequest describeGlobalTableSettingsRequest,
             final AsyncHandler<DescribeGlobalTableSettingsRequest, DescribeGlobalTableSettingsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableSettingsResult>() {
+        return AsyncRuntime.submit(executorService, describeGlobalTableSettingsRequest, new Callable<DescribeGlobalTableSettingsResult>() {
             public DescribeGlobalTableSettingsResult call() throws Exception {
                 DescribeGlobalTableSettingsResult result = null;
                 try {
@@ -2079,10 +2079,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLimitsResult> describeLimitsAsync(
+    public SdkFuture<DescribeLimitsResult> describeLimitsAsync(
             final DescribeLimitsRequest describeLimitsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeLimitsResult>() {
+        return AsyncRuntime.submit(executorService, describeLimitsRequest, new Callable<DescribeLimitsResult>() {
             public DescribeLimitsResult call() throws Exception {
                 return describeLimits(describeLimitsRequest);
             }
@@ -2210,11 +2210,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLimitsResult> describeLimitsAsync(
+    public SdkFuture<DescribeLimitsResult> describeLimitsAsync(
             final DescribeLimitsRequest describeLimitsRequest,
             final AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLimitsResult>() {
+        return AsyncRuntime.submit(executorService, describeLimitsRequest, new Callable<DescribeLimitsResult>() {
             public DescribeLimitsResult call() throws Exception {
                 DescribeLimitsResult result = null;
                 try {
@@ -2262,10 +2262,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTableResult> describeTableAsync(
+    public SdkFuture<DescribeTableResult> describeTableAsync(
             final DescribeTableRequest describeTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
+        return AsyncRuntime.submit(executorService, describeTableRequest, new Callable<DescribeTableResult>() {
             public DescribeTableResult call() throws Exception {
                 return describeTable(describeTableRequest);
             }
@@ -2305,11 +2305,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTableResult> describeTableAsync(
+    public SdkFuture<DescribeTableResult> describeTableAsync(
             final DescribeTableRequest describeTableRequest,
             final AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
+        return AsyncRuntime.submit(executorService, describeTableRequest, new Callable<DescribeTableResult>() {
             public DescribeTableResult call() throws Exception {
                 DescribeTableResult result = null;
                 try {
@@ -2344,10 +2344,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTimeToLiveResult> describeTimeToLiveAsync(
+    public SdkFuture<DescribeTimeToLiveResult> describeTimeToLiveAsync(
             final DescribeTimeToLiveRequest describeTimeToLiveRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeToLiveResult>() {
+        return AsyncRuntime.submit(executorService, describeTimeToLiveRequest, new Callable<DescribeTimeToLiveResult>() {
             public DescribeTimeToLiveResult call() throws Exception {
                 return describeTimeToLive(describeTimeToLiveRequest);
             }
@@ -2374,11 +2374,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTimeToLiveResult> describeTimeToLiveAsync(
+    public SdkFuture<DescribeTimeToLiveResult> describeTimeToLiveAsync(
             final DescribeTimeToLiveRequest describeTimeToLiveRequest,
             final AsyncHandler<DescribeTimeToLiveRequest, DescribeTimeToLiveResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeToLiveResult>() {
+        return AsyncRuntime.submit(executorService, describeTimeToLiveRequest, new Callable<DescribeTimeToLiveResult>() {
             public DescribeTimeToLiveResult call() throws Exception {
                 DescribeTimeToLiveResult result = null;
                 try {
@@ -2424,9 +2424,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest)
+    public SdkFuture<GetItemResult> getItemAsync(final GetItemRequest getItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
+        return AsyncRuntime.submit(executorService, getItemRequest, new Callable<GetItemResult>() {
             public GetItemResult call() throws Exception {
                 return getItem(getItemRequest);
             }
@@ -2464,10 +2464,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest,
+    public SdkFuture<GetItemResult> getItemAsync(final GetItemRequest getItemRequest,
             final AsyncHandler<GetItemRequest, GetItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
+        return AsyncRuntime.submit(executorService, getItemRequest, new Callable<GetItemResult>() {
             public GetItemResult call() throws Exception {
                 GetItemResult result = null;
                 try {
@@ -2511,9 +2511,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest)
+    public SdkFuture<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBackupsResult>() {
+        return AsyncRuntime.submit(executorService, listBackupsRequest, new Callable<ListBackupsResult>() {
             public ListBackupsResult call() throws Exception {
                 return listBackups(listBackupsRequest);
             }
@@ -2549,10 +2549,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest,
+    public SdkFuture<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest,
             final AsyncHandler<ListBackupsRequest, ListBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBackupsResult>() {
+        return AsyncRuntime.submit(executorService, listBackupsRequest, new Callable<ListBackupsResult>() {
             public ListBackupsResult call() throws Exception {
                 ListBackupsResult result = null;
                 try {
@@ -2584,10 +2584,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListGlobalTablesResult> listGlobalTablesAsync(
+    public SdkFuture<ListGlobalTablesResult> listGlobalTablesAsync(
             final ListGlobalTablesRequest listGlobalTablesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListGlobalTablesResult>() {
+        return AsyncRuntime.submit(executorService, listGlobalTablesRequest, new Callable<ListGlobalTablesResult>() {
             public ListGlobalTablesResult call() throws Exception {
                 return listGlobalTables(listGlobalTablesRequest);
             }
@@ -2611,11 +2611,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListGlobalTablesResult> listGlobalTablesAsync(
+    public SdkFuture<ListGlobalTablesResult> listGlobalTablesAsync(
             final ListGlobalTablesRequest listGlobalTablesRequest,
             final AsyncHandler<ListGlobalTablesRequest, ListGlobalTablesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGlobalTablesResult>() {
+        return AsyncRuntime.submit(executorService, listGlobalTablesRequest, new Callable<ListGlobalTablesResult>() {
             public ListGlobalTablesResult call() throws Exception {
                 ListGlobalTablesResult result = null;
                 try {
@@ -2651,9 +2651,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest)
+    public SdkFuture<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
+        return AsyncRuntime.submit(executorService, listTablesRequest, new Callable<ListTablesResult>() {
             public ListTablesResult call() throws Exception {
                 return listTables(listTablesRequest);
             }
@@ -2681,10 +2681,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest,
+    public SdkFuture<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest,
             final AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
+        return AsyncRuntime.submit(executorService, listTablesRequest, new Callable<ListTablesResult>() {
             public ListTablesResult call() throws Exception {
                 ListTablesResult result = null;
                 try {
@@ -2724,10 +2724,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsOfResourceResult> listTagsOfResourceAsync(
+    public SdkFuture<ListTagsOfResourceResult> listTagsOfResourceAsync(
             final ListTagsOfResourceRequest listTagsOfResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsOfResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsOfResourceRequest, new Callable<ListTagsOfResourceResult>() {
             public ListTagsOfResourceResult call() throws Exception {
                 return listTagsOfResource(listTagsOfResourceRequest);
             }
@@ -2759,11 +2759,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsOfResourceResult> listTagsOfResourceAsync(
+    public SdkFuture<ListTagsOfResourceResult> listTagsOfResourceAsync(
             final ListTagsOfResourceRequest listTagsOfResourceRequest,
             final AsyncHandler<ListTagsOfResourceRequest, ListTagsOfResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsOfResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsOfResourceRequest, new Callable<ListTagsOfResourceResult>() {
             public ListTagsOfResourceResult call() throws Exception {
                 ListTagsOfResourceResult result = null;
                 try {
@@ -2904,9 +2904,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest)
+    public SdkFuture<PutItemResult> putItemAsync(final PutItemRequest putItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
+        return AsyncRuntime.submit(executorService, putItemRequest, new Callable<PutItemResult>() {
             public PutItemResult call() throws Exception {
                 return putItem(putItemRequest);
             }
@@ -3039,10 +3039,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest,
+    public SdkFuture<PutItemResult> putItemAsync(final PutItemRequest putItemRequest,
             final AsyncHandler<PutItemRequest, PutItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
+        return AsyncRuntime.submit(executorService, putItemRequest, new Callable<PutItemResult>() {
             public PutItemResult call() throws Exception {
                 PutItemResult result = null;
                 try {
@@ -3148,9 +3148,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<QueryResult> queryAsync(final QueryRequest queryRequest)
+    public SdkFuture<QueryResult> queryAsync(final QueryRequest queryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
+        return AsyncRuntime.submit(executorService, queryRequest, new Callable<QueryResult>() {
             public QueryResult call() throws Exception {
                 return query(queryRequest);
             }
@@ -3248,10 +3248,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<QueryResult> queryAsync(final QueryRequest queryRequest,
+    public SdkFuture<QueryResult> queryAsync(final QueryRequest queryRequest,
             final AsyncHandler<QueryRequest, QueryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
+        return AsyncRuntime.submit(executorService, queryRequest, new Callable<QueryResult>() {
             public QueryResult call() throws Exception {
                 QueryResult result = null;
                 try {
@@ -3330,10 +3330,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
+    public SdkFuture<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
             final RestoreTableFromBackupRequest restoreTableFromBackupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableFromBackupResult>() {
+        return AsyncRuntime.submit(executorService, restoreTableFromBackupRequest, new Callable<RestoreTableFromBackupResult>() {
             public RestoreTableFromBackupResult call() throws Exception {
                 return restoreTableFromBackup(restoreTableFromBackupRequest);
             }
@@ -3404,11 +3404,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
+    public SdkFuture<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
             final RestoreTableFromBackupRequest restoreTableFromBackupRequest,
             final AsyncHandler<RestoreTableFromBackupRequest, RestoreTableFromBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableFromBackupResult>() {
+        return AsyncRuntime.submit(executorService, restoreTableFromBackupRequest, new Callable<RestoreTableFromBackupResult>() {
             public RestoreTableFromBackupResult call() throws Exception {
                 RestoreTableFromBackupResult result = null;
                 try {
@@ -3527,10 +3527,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
+    public SdkFuture<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
             final RestoreTableToPointInTimeRequest restoreTableToPointInTimeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableToPointInTimeResult>() {
+        return AsyncRuntime.submit(executorService, restoreTableToPointInTimeRequest, new Callable<RestoreTableToPointInTimeResult>() {
             public RestoreTableToPointInTimeResult call() throws Exception {
                 return restoreTableToPointInTime(restoreTableToPointInTimeRequest);
             }
@@ -3641,11 +3641,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
+    public SdkFuture<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
             final RestoreTableToPointInTimeRequest restoreTableToPointInTimeRequest,
             final AsyncHandler<RestoreTableToPointInTimeRequest, RestoreTableToPointInTimeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableToPointInTimeResult>() {
+        return AsyncRuntime.submit(executorService, restoreTableToPointInTimeRequest, new Callable<RestoreTableToPointInTimeResult>() {
             public RestoreTableToPointInTimeResult call() throws Exception {
                 RestoreTableToPointInTimeResult result = null;
                 try {
@@ -3719,9 +3719,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ScanResult> scanAsync(final ScanRequest scanRequest)
+    public SdkFuture<ScanResult> scanAsync(final ScanRequest scanRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
+        return AsyncRuntime.submit(executorService, scanRequest, new Callable<ScanResult>() {
             public ScanResult call() throws Exception {
                 return scan(scanRequest);
             }
@@ -3787,10 +3787,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ScanResult> scanAsync(final ScanRequest scanRequest,
+    public SdkFuture<ScanResult> scanAsync(final ScanRequest scanRequest,
             final AsyncHandler<ScanRequest, ScanResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
+        return AsyncRuntime.submit(executorService, scanRequest, new Callable<ScanResult>() {
             public ScanResult call() throws Exception {
                 ScanResult result = null;
                 try {
@@ -3833,9 +3833,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public SdkFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 tagResource(tagResourceRequest);
                 return null;
@@ -3871,10 +3871,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public SdkFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -3915,9 +3915,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
+    public SdkFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 untagResource(untagResourceRequest);
                 return null;
@@ -3951,10 +3951,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
+    public SdkFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4006,10 +4006,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
+    public SdkFuture<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
             final UpdateContinuousBackupsRequest updateContinuousBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContinuousBackupsResult>() {
+        return AsyncRuntime.submit(executorService, updateContinuousBackupsRequest, new Callable<UpdateContinuousBackupsResult>() {
             public UpdateContinuousBackupsResult call() throws Exception {
                 return updateContinuousBackups(updateContinuousBackupsRequest);
             }
@@ -4053,11 +4053,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
+    public SdkFuture<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
             final UpdateContinuousBackupsRequest updateContinuousBackupsRequest,
             final AsyncHandler<UpdateContinuousBackupsRequest, UpdateContinuousBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContinuousBackupsResult>() {
+        return AsyncRuntime.submit(executorService, updateContinuousBackupsRequest, new Callable<UpdateContinuousBackupsResult>() {
             public UpdateContinuousBackupsResult call() throws Exception {
                 UpdateContinuousBackupsResult result = null;
                 try {
@@ -4127,10 +4127,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableResult> updateGlobalTableAsync(
+    public SdkFuture<UpdateGlobalTableResult> updateGlobalTableAsync(
             final UpdateGlobalTableRequest updateGlobalTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableResult>() {
+        return AsyncRuntime.submit(executorService, updateGlobalTableRequest, new Callable<UpdateGlobalTableResult>() {
             public UpdateGlobalTableResult call() throws Exception {
                 return updateGlobalTable(updateGlobalTableRequest);
             }
@@ -4192,11 +4192,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableResult> updateGlobalTableAsync(
+    public SdkFuture<UpdateGlobalTableResult> updateGlobalTableAsync(
             final UpdateGlobalTableRequest updateGlobalTableRequest,
             final AsyncHandler<UpdateGlobalTableRequest, UpdateGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableResult>() {
+        return AsyncRuntime.submit(executorService, updateGlobalTableRequest, new Callable<UpdateGlobalTableResult>() {
             public UpdateGlobalTableResult call() throws Exception {
                 UpdateGlobalTableResult result = null;
                 try {
@@ -4234,10 +4234,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
+    public SdkFuture<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
             final UpdateGlobalTableSettingsRequest updateGlobalTableSettingsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableSettingsResult>() {
+        return AsyncRuntime.submit(executorService, updateGlobalTableSettingsRequest, new Callable<UpdateGlobalTableSettingsResult>() {
             public UpdateGlobalTableSettingsResult call() throws Exception {
                 return updateGlobalTableSettings(updateGlobalTableSettingsRequest);
             }
@@ -4267,11 +4267,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
+    public SdkFuture<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
             final UpdateGlobalTableSettingsRequest updateGlobalTableSettingsRequest,
             final AsyncHandler<UpdateGlobalTableSettingsRequest, UpdateGlobalTableSettingsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableSettingsResult>() {
+        return AsyncRuntime.submit(executorService, updateGlobalTableSettingsRequest, new Callable<UpdateGlobalTableSettingsResult>() {
             public UpdateGlobalTableSettingsResult call() throws Exception {
                 UpdateGlobalTableSettingsResult result = null;
                 try {
@@ -4318,9 +4318,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest)
+    public SdkFuture<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
+        return AsyncRuntime.submit(executorService, updateItemRequest, new Callable<UpdateItemResult>() {
             public UpdateItemResult call() throws Exception {
                 return updateItem(updateItemRequest);
             }
@@ -4359,10 +4359,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest,
+    public SdkFuture<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest,
             final AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
+        return AsyncRuntime.submit(executorService, updateItemRequest, new Callable<UpdateItemResult>() {
             public UpdateItemResult call() throws Exception {
                 UpdateItemResult result = null;
                 try {
@@ -4435,9 +4435,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest)
+    public SdkFuture<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
+        return AsyncRuntime.submit(executorService, updateTableRequest, new Callable<UpdateTableResult>() {
             public UpdateTableResult call() throws Exception {
                 return updateTable(updateTableRequest);
             }
@@ -4502,10 +4502,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest,
+    public SdkFuture<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest,
             final AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
+        return AsyncRuntime.submit(executorService, updateTableRequest, new Callable<UpdateTableResult>() {
             public UpdateTableResult call() throws Exception {
                 UpdateTableResult result = null;
                 try {
@@ -4582,10 +4582,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTimeToLiveResult> updateTimeToLiveAsync(
+    public SdkFuture<UpdateTimeToLiveResult> updateTimeToLiveAsync(
             final UpdateTimeToLiveRequest updateTimeToLiveRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTimeToLiveResult>() {
+        return AsyncRuntime.submit(executorService, updateTimeToLiveRequest, new Callable<UpdateTimeToLiveResult>() {
             public UpdateTimeToLiveResult call() throws Exception {
                 return updateTimeToLive(updateTimeToLiveRequest);
             }
@@ -4654,11 +4654,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTimeToLiveResult> updateTimeToLiveAsync(
+    public SdkFuture<UpdateTimeToLiveResult> updateTimeToLiveAsync(
             final UpdateTimeToLiveRequest updateTimeToLiveRequest,
             final AsyncHandler<UpdateTimeToLiveRequest, UpdateTimeToLiveResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTimeToLiveResult>() {
+        return AsyncRuntime.submit(executorService, updateTimeToLiveRequest, new Callable<UpdateTimeToLiveResult>() {
             public UpdateTimeToLiveResult call() throws Exception {
                 UpdateTimeToLiveResult result = null;
                 try {
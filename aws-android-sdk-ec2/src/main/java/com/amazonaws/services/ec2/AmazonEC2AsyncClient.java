@@ -16,11 +16,11 @@ package com.amazonaws.services.ec2;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -94,14 +94,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     @Deprecated
     public AmazonEC2AsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime.newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
-     * AmazonEC2 using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * AmazonEC2 using the specified AWS account credentials. Default client
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -112,7 +112,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *                       when authenticating with AWS services.
      */
     public AmazonEC2AsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -165,9 +165,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
-     * AmazonEC2 using the specified AWS account credentials provider.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * AmazonEC2 using the specified AWS account credentials provider. Default
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -179,7 +179,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *            to authenticate requests with AWS services.
      */
     public AmazonEC2AsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -222,7 +222,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public AmazonEC2AsyncClient(AWSCredentialsProvider awsCredentialsProvider,
                 ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime.newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -300,9 +300,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
+    public SdkFuture<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deletePlacementGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deletePlacementGroup(deletePlacementGroupRequest);
                 return null;
@@ -339,11 +339,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlacementGroupAsync(
+    public SdkFuture<Void> deletePlacementGroupAsync(
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deletePlacementGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deletePlacementGroup(deletePlacementGroupRequest);
@@ -436,9 +436,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
+    public SdkFuture<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
+        return AsyncRuntime.submit(executorService, createDhcpOptionsRequest, new Callable<CreateDhcpOptionsResult>() {
             public CreateDhcpOptionsResult call() throws Exception {
                 return createDhcpOptions(createDhcpOptionsRequest);
         }
@@ -528,11 +528,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(
+    public SdkFuture<CreateDhcpOptionsResult> createDhcpOptionsAsync(
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
+        return AsyncRuntime.submit(executorService, createDhcpOptionsRequest, new Callable<CreateDhcpOptionsResult>() {
             public CreateDhcpOptionsResult call() throws Exception {
               CreateDhcpOptionsResult result;
                 try {
@@ -592,9 +592,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
+    public SdkFuture<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
+        return AsyncRuntime.submit(executorService, createVpnConnectionRequest, new Callable<CreateVpnConnectionResult>() {
             public CreateVpnConnectionResult call() throws Exception {
                 return createVpnConnection(createVpnConnectionRequest);
         }
@@ -650,11 +650,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(
+    public SdkFuture<CreateVpnConnectionResult> createVpnConnectionAsync(
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
+        return AsyncRuntime.submit(executorService, createVpnConnectionRequest, new Callable<CreateVpnConnectionResult>() {
             public CreateVpnConnectionResult call() throws Exception {
               CreateVpnConnectionResult result;
                 try {
@@ -697,9 +697,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
+    public SdkFuture<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateRouteTableRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateRouteTable(disassociateRouteTableRequest);
                 return null;
@@ -739,11 +739,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateRouteTableAsync(
+    public SdkFuture<Void> disassociateRouteTableAsync(
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateRouteTableRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 disassociateRouteTable(disassociateRouteTableRequest);
@@ -786,9 +786,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
+    public SdkFuture<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
+        return AsyncRuntime.submit(executorService, modifyReservedInstancesRequest, new Callable<ModifyReservedInstancesResult>() {
             public ModifyReservedInstancesResult call() throws Exception {
                 return modifyReservedInstances(modifyReservedInstancesRequest);
         }
@@ -828,11 +828,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(
+    public SdkFuture<ModifyReservedInstancesResult> modifyReservedInstancesAsync(
             final ModifyReservedInstancesRequest modifyReservedInstancesRequest,
             final AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
+        return AsyncRuntime.submit(executorService, modifyReservedInstancesRequest, new Callable<ModifyReservedInstancesResult>() {
             public ModifyReservedInstancesResult call() throws Exception {
               ModifyReservedInstancesResult result;
                 try {
@@ -867,9 +867,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
+    public SdkFuture<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
+        return AsyncRuntime.submit(executorService, importSnapshotRequest, new Callable<ImportSnapshotResult>() {
             public ImportSnapshotResult call() throws Exception {
                 return importSnapshot(importSnapshotRequest);
         }
@@ -900,11 +900,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportSnapshotResult> importSnapshotAsync(
+    public SdkFuture<ImportSnapshotResult> importSnapshotAsync(
             final ImportSnapshotRequest importSnapshotRequest,
             final AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
+        return AsyncRuntime.submit(executorService, importSnapshotRequest, new Callable<ImportSnapshotResult>() {
             public ImportSnapshotResult call() throws Exception {
               ImportSnapshotResult result;
                 try {
@@ -967,9 +967,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
+    public SdkFuture<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
+        return AsyncRuntime.submit(executorService, terminateInstancesRequest, new Callable<TerminateInstancesResult>() {
             public TerminateInstancesResult call() throws Exception {
                 return terminateInstances(terminateInstancesRequest);
         }
@@ -1028,11 +1028,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<TerminateInstancesResult> terminateInstancesAsync(
+    public SdkFuture<TerminateInstancesResult> terminateInstancesAsync(
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
+        return AsyncRuntime.submit(executorService, terminateInstancesRequest, new Callable<TerminateInstancesResult>() {
             public TerminateInstancesResult call() throws Exception {
               TerminateInstancesResult result;
                 try {
@@ -1071,9 +1071,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
+    public SdkFuture<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
+        return AsyncRuntime.submit(executorService, confirmProductInstanceRequest, new Callable<ConfirmProductInstanceResult>() {
             public ConfirmProductInstanceResult call() throws Exception {
                 return confirmProductInstance(confirmProductInstanceRequest);
         }
@@ -1108,11 +1108,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(
+    public SdkFuture<ConfirmProductInstanceResult> confirmProductInstanceAsync(
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
+        return AsyncRuntime.submit(executorService, confirmProductInstanceRequest, new Callable<ConfirmProductInstanceResult>() {
             public ConfirmProductInstanceResult call() throws Exception {
               ConfirmProductInstanceResult result;
                 try {
@@ -1166,9 +1166,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
+    public SdkFuture<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSnapshotRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSnapshot(deleteSnapshotRequest);
                 return null;
@@ -1219,11 +1219,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSnapshotAsync(
+    public SdkFuture<Void> deleteSnapshotAsync(
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSnapshotRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteSnapshot(deleteSnapshotRequest);
@@ -1267,9 +1267,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
+    public SdkFuture<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesModificationsRequest, new Callable<DescribeReservedInstancesModificationsResult>() {
             public DescribeReservedInstancesModificationsResult call() throws Exception {
                 return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
         }
@@ -1310,11 +1310,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(
+    public SdkFuture<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(
             final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
             final AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesModificationsRequest, new Callable<DescribeReservedInstancesModificationsResult>() {
             public DescribeReservedInstancesModificationsResult call() throws Exception {
               DescribeReservedInstancesModificationsResult result;
                 try {
@@ -1361,9 +1361,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
+    public SdkFuture<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
+        return AsyncRuntime.submit(executorService, importInstanceRequest, new Callable<ImportInstanceResult>() {
             public ImportInstanceResult call() throws Exception {
                 return importInstance(importInstanceRequest);
         }
@@ -1406,11 +1406,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportInstanceResult> importInstanceAsync(
+    public SdkFuture<ImportInstanceResult> importInstanceAsync(
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
+        return AsyncRuntime.submit(executorService, importInstanceRequest, new Callable<ImportInstanceResult>() {
             public ImportInstanceResult call() throws Exception {
               ImportInstanceResult result;
                 try {
@@ -1455,9 +1455,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
+    public SdkFuture<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
+        return AsyncRuntime.submit(executorService, describeAvailabilityZonesRequest, new Callable<DescribeAvailabilityZonesResult>() {
             public DescribeAvailabilityZonesResult call() throws Exception {
                 return describeAvailabilityZones(describeAvailabilityZonesRequest);
         }
@@ -1498,11 +1498,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(
+    public SdkFuture<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
+        return AsyncRuntime.submit(executorService, describeAvailabilityZonesRequest, new Callable<DescribeAvailabilityZonesResult>() {
             public DescribeAvailabilityZonesResult call() throws Exception {
               DescribeAvailabilityZonesResult result;
                 try {
@@ -1585,9 +1585,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
+    public SdkFuture<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
+        return AsyncRuntime.submit(executorService, attachVolumeRequest, new Callable<AttachVolumeResult>() {
             public AttachVolumeResult call() throws Exception {
                 return attachVolume(attachVolumeRequest);
         }
@@ -1666,11 +1666,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVolumeResult> attachVolumeAsync(
+    public SdkFuture<AttachVolumeResult> attachVolumeAsync(
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
+        return AsyncRuntime.submit(executorService, attachVolumeRequest, new Callable<AttachVolumeResult>() {
             public AttachVolumeResult call() throws Exception {
               AttachVolumeResult result;
                 try {
@@ -1712,9 +1712,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
+    public SdkFuture<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
+        return AsyncRuntime.submit(executorService, disableVpcClassicLinkDnsSupportRequest, new Callable<DisableVpcClassicLinkDnsSupportResult>() {
             public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
                 return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
         }
@@ -1752,11 +1752,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(
+    public SdkFuture<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(
             final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
+        return AsyncRuntime.submit(executorService, disableVpcClassicLinkDnsSupportRequest, new Callable<DisableVpcClassicLinkDnsSupportResult>() {
             public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
               DisableVpcClassicLinkDnsSupportResult result;
                 try {
@@ -1796,9 +1796,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
+    public SdkFuture<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, attachInternetGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 attachInternetGateway(attachInternetGatewayRequest);
                 return null;
@@ -1835,11 +1835,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> attachInternetGatewayAsync(
+    public SdkFuture<Void> attachInternetGatewayAsync(
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, attachInternetGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 attachInternetGateway(attachInternetGatewayRequest);
@@ -1877,9 +1877,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest) 
+    public SdkFuture<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
+        return AsyncRuntime.submit(executorService, describeStaleSecurityGroupsRequest, new Callable<DescribeStaleSecurityGroupsResult>() {
             public DescribeStaleSecurityGroupsResult call() throws Exception {
                 return describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
         }
@@ -1914,11 +1914,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(
+    public SdkFuture<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(
             final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest,
             final AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
+        return AsyncRuntime.submit(executorService, describeStaleSecurityGroupsRequest, new Callable<DescribeStaleSecurityGroupsResult>() {
             public DescribeStaleSecurityGroupsResult call() throws Exception {
               DescribeStaleSecurityGroupsResult result;
                 try {
@@ -1955,9 +1955,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
+    public SdkFuture<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, enableVgwRoutePropagationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
                 return null;
@@ -1991,11 +1991,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVgwRoutePropagationAsync(
+    public SdkFuture<Void> enableVgwRoutePropagationAsync(
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, enableVgwRoutePropagationRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
@@ -2031,9 +2031,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
+    public SdkFuture<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
+        return AsyncRuntime.submit(executorService, allocateHostsRequest, new Callable<AllocateHostsResult>() {
             public AllocateHostsResult call() throws Exception {
                 return allocateHosts(allocateHostsRequest);
         }
@@ -2066,11 +2066,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateHostsResult> allocateHostsAsync(
+    public SdkFuture<AllocateHostsResult> allocateHostsAsync(
             final AllocateHostsRequest allocateHostsRequest,
             final AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
+        return AsyncRuntime.submit(executorService, allocateHostsRequest, new Callable<AllocateHostsResult>() {
             public AllocateHostsResult call() throws Exception {
               AllocateHostsResult result;
                 try {
@@ -2106,9 +2106,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
+    public SdkFuture<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcClassicLinkRequest, new Callable<DescribeVpcClassicLinkResult>() {
             public DescribeVpcClassicLinkResult call() throws Exception {
                 return describeVpcClassicLink(describeVpcClassicLinkRequest);
         }
@@ -2140,11 +2140,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(
+    public SdkFuture<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(
             final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
             final AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcClassicLinkRequest, new Callable<DescribeVpcClassicLinkResult>() {
             public DescribeVpcClassicLinkResult call() throws Exception {
               DescribeVpcClassicLinkResult result;
                 try {
@@ -2182,9 +2182,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
+    public SdkFuture<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
+        return AsyncRuntime.submit(executorService, attachVpnGatewayRequest, new Callable<AttachVpnGatewayResult>() {
             public AttachVpnGatewayResult call() throws Exception {
                 return attachVpnGateway(attachVpnGatewayRequest);
         }
@@ -2218,11 +2218,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(
+    public SdkFuture<AttachVpnGatewayResult> attachVpnGatewayAsync(
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
+        return AsyncRuntime.submit(executorService, attachVpnGatewayRequest, new Callable<AttachVpnGatewayResult>() {
             public AttachVpnGatewayResult call() throws Exception {
               AttachVpnGatewayResult result;
                 try {
@@ -2260,9 +2260,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
+    public SdkFuture<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, cancelExportTaskRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 cancelExportTask(cancelExportTaskRequest);
                 return null;
@@ -2297,11 +2297,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelExportTaskAsync(
+    public SdkFuture<Void> cancelExportTaskAsync(
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, cancelExportTaskRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 cancelExportTask(cancelExportTaskRequest);
@@ -2347,9 +2347,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
+    public SdkFuture<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeInstancesRequest, new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
                 return describeInstances(describeInstancesRequest);
         }
@@ -2392,11 +2392,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstancesResult> describeInstancesAsync(
+    public SdkFuture<DescribeInstancesResult> describeInstancesAsync(
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeInstancesRequest, new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
               DescribeInstancesResult result;
                 try {
@@ -2445,9 +2445,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
+    public SdkFuture<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
+        return AsyncRuntime.submit(executorService, runScheduledInstancesRequest, new Callable<RunScheduledInstancesResult>() {
             public RunScheduledInstancesResult call() throws Exception {
                 return runScheduledInstances(runScheduledInstancesRequest);
         }
@@ -2492,11 +2492,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(
+    public SdkFuture<RunScheduledInstancesResult> runScheduledInstancesAsync(
             final RunScheduledInstancesRequest runScheduledInstancesRequest,
             final AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
+        return AsyncRuntime.submit(executorService, runScheduledInstancesRequest, new Callable<RunScheduledInstancesResult>() {
             public RunScheduledInstancesResult call() throws Exception {
               RunScheduledInstancesResult result;
                 try {
@@ -2532,9 +2532,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
+    public SdkFuture<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
+        return AsyncRuntime.submit(executorService, importImageRequest, new Callable<ImportImageResult>() {
             public ImportImageResult call() throws Exception {
                 return importImage(importImageRequest);
         }
@@ -2566,11 +2566,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportImageResult> importImageAsync(
+    public SdkFuture<ImportImageResult> importImageAsync(
             final ImportImageRequest importImageRequest,
             final AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
+        return AsyncRuntime.submit(executorService, importImageRequest, new Callable<ImportImageResult>() {
             public ImportImageResult call() throws Exception {
               ImportImageResult result;
                 try {
@@ -2618,9 +2618,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
+    public SdkFuture<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
+        return AsyncRuntime.submit(executorService, createImageRequest, new Callable<CreateImageResult>() {
             public CreateImageResult call() throws Exception {
                 return createImage(createImageRequest);
         }
@@ -2664,11 +2664,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateImageResult> createImageAsync(
+    public SdkFuture<CreateImageResult> createImageAsync(
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
+        return AsyncRuntime.submit(executorService, createImageRequest, new Callable<CreateImageResult>() {
             public CreateImageResult call() throws Exception {
               CreateImageResult result;
                 try {
@@ -2713,9 +2713,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
+    public SdkFuture<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVolumeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVolume(deleteVolumeRequest);
                 return null;
@@ -2757,11 +2757,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVolumeAsync(
+    public SdkFuture<Void> deleteVolumeAsync(
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVolumeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteVolume(deleteVolumeRequest);
@@ -2799,9 +2799,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
+    public SdkFuture<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
+        return AsyncRuntime.submit(executorService, describeMovingAddressesRequest, new Callable<DescribeMovingAddressesResult>() {
             public DescribeMovingAddressesResult call() throws Exception {
                 return describeMovingAddresses(describeMovingAddressesRequest);
         }
@@ -2836,11 +2836,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(
+    public SdkFuture<DescribeMovingAddressesResult> describeMovingAddressesAsync(
             final DescribeMovingAddressesRequest describeMovingAddressesRequest,
             final AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
+        return AsyncRuntime.submit(executorService, describeMovingAddressesRequest, new Callable<DescribeMovingAddressesResult>() {
             public DescribeMovingAddressesResult call() throws Exception {
               DescribeMovingAddressesResult result;
                 try {
@@ -2875,9 +2875,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
+    public SdkFuture<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcEndpointsRequest, new Callable<DescribeVpcEndpointsResult>() {
             public DescribeVpcEndpointsResult call() throws Exception {
                 return describeVpcEndpoints(describeVpcEndpointsRequest);
         }
@@ -2908,11 +2908,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(
+    public SdkFuture<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(
             final DescribeVpcEndpointsRequest describeVpcEndpointsRequest,
             final AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcEndpointsRequest, new Callable<DescribeVpcEndpointsResult>() {
             public DescribeVpcEndpointsResult call() throws Exception {
               DescribeVpcEndpointsResult result;
                 try {
@@ -2948,9 +2948,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
+    public SdkFuture<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSubnetRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSubnet(deleteSubnetRequest);
                 return null;
@@ -2983,11 +2983,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSubnetAsync(
+    public SdkFuture<Void> deleteSubnetAsync(
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSubnetRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteSubnet(deleteSubnetRequest);
@@ -3025,9 +3025,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
+    public SdkFuture<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeClassicLinkInstancesRequest, new Callable<DescribeClassicLinkInstancesResult>() {
             public DescribeClassicLinkInstancesResult call() throws Exception {
                 return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
         }
@@ -3062,11 +3062,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(
+    public SdkFuture<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(
             final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
             final AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeClassicLinkInstancesRequest, new Callable<DescribeClassicLinkInstancesResult>() {
             public DescribeClassicLinkInstancesResult call() throws Exception {
               DescribeClassicLinkInstancesResult result;
                 try {
@@ -3119,9 +3119,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
+    public SdkFuture<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesOfferingsRequest, new Callable<DescribeReservedInstancesOfferingsResult>() {
             public DescribeReservedInstancesOfferingsResult call() throws Exception {
                 return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
         }
@@ -3170,11 +3170,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(
+    public SdkFuture<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesOfferingsRequest, new Callable<DescribeReservedInstancesOfferingsResult>() {
             public DescribeReservedInstancesOfferingsResult call() throws Exception {
               DescribeReservedInstancesOfferingsResult result;
                 try {
@@ -3214,9 +3214,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
+    public SdkFuture<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, deleteVpcPeeringConnectionRequest, new Callable<DeleteVpcPeeringConnectionResult>() {
             public DeleteVpcPeeringConnectionResult call() throws Exception {
                 return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
         }
@@ -3252,11 +3252,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(
+    public SdkFuture<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(
             final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
             final AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, deleteVpcPeeringConnectionRequest, new Callable<DeleteVpcPeeringConnectionResult>() {
             public DeleteVpcPeeringConnectionResult call() throws Exception {
               DeleteVpcPeeringConnectionResult result;
                 try {
@@ -3354,9 +3354,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
+    public SdkFuture<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
+        return AsyncRuntime.submit(executorService, runInstancesRequest, new Callable<RunInstancesResult>() {
             public RunInstancesResult call() throws Exception {
                 return runInstances(runInstancesRequest);
         }
@@ -3450,11 +3450,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunInstancesResult> runInstancesAsync(
+    public SdkFuture<RunInstancesResult> runInstancesAsync(
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
+        return AsyncRuntime.submit(executorService, runInstancesRequest, new Callable<RunInstancesResult>() {
             public RunInstancesResult call() throws Exception {
               RunInstancesResult result;
                 try {
@@ -3490,9 +3490,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
+    public SdkFuture<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, enableVolumeIORequest, new Callable<Void>() {
             public Void call() throws Exception {
                 enableVolumeIO(enableVolumeIORequest);
                 return null;
@@ -3525,11 +3525,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVolumeIOAsync(
+    public SdkFuture<Void> enableVolumeIOAsync(
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, enableVolumeIORequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 enableVolumeIO(enableVolumeIORequest);
@@ -3571,9 +3571,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
+    public SdkFuture<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotFleetRequestHistoryRequest, new Callable<DescribeSpotFleetRequestHistoryResult>() {
             public DescribeSpotFleetRequestHistoryResult call() throws Exception {
                 return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
         }
@@ -3612,11 +3612,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(
+    public SdkFuture<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(
             final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest,
             final AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotFleetRequestHistoryRequest, new Callable<DescribeSpotFleetRequestHistoryResult>() {
             public DescribeSpotFleetRequestHistoryResult call() throws Exception {
               DescribeSpotFleetRequestHistoryResult result;
                 try {
@@ -3657,9 +3657,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
+    public SdkFuture<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
+        return AsyncRuntime.submit(executorService, createSpotDatafeedSubscriptionRequest, new Callable<CreateSpotDatafeedSubscriptionResult>() {
             public CreateSpotDatafeedSubscriptionResult call() throws Exception {
                 return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
         }
@@ -3696,11 +3696,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(
+    public SdkFuture<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
+        return AsyncRuntime.submit(executorService, createSpotDatafeedSubscriptionRequest, new Callable<CreateSpotDatafeedSubscriptionResult>() {
             public CreateSpotDatafeedSubscriptionResult call() throws Exception {
               CreateSpotDatafeedSubscriptionResult result;
                 try {
@@ -3740,9 +3740,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
+    public SdkFuture<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
+        return AsyncRuntime.submit(executorService, restoreAddressToClassicRequest, new Callable<RestoreAddressToClassicResult>() {
             public RestoreAddressToClassicResult call() throws Exception {
                 return restoreAddressToClassic(restoreAddressToClassicRequest);
         }
@@ -3778,11 +3778,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(
+    public SdkFuture<RestoreAddressToClassicResult> restoreAddressToClassicAsync(
             final RestoreAddressToClassicRequest restoreAddressToClassicRequest,
             final AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
+        return AsyncRuntime.submit(executorService, restoreAddressToClassicRequest, new Callable<RestoreAddressToClassicResult>() {
             public RestoreAddressToClassicResult call() throws Exception {
               RestoreAddressToClassicResult result;
                 try {
@@ -3824,9 +3824,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
+    public SdkFuture<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
+        return AsyncRuntime.submit(executorService, describeImagesRequest, new Callable<DescribeImagesResult>() {
             public DescribeImagesResult call() throws Exception {
                 return describeImages(describeImagesRequest);
         }
@@ -3864,11 +3864,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImagesResult> describeImagesAsync(
+    public SdkFuture<DescribeImagesResult> describeImagesAsync(
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
+        return AsyncRuntime.submit(executorService, describeImagesRequest, new Callable<DescribeImagesResult>() {
             public DescribeImagesResult call() throws Exception {
               DescribeImagesResult result;
                 try {
@@ -3903,9 +3903,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
+    public SdkFuture<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcsRequest, new Callable<DescribeVpcsResult>() {
             public DescribeVpcsResult call() throws Exception {
                 return describeVpcs(describeVpcsRequest);
         }
@@ -3936,11 +3936,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcsResult> describeVpcsAsync(
+    public SdkFuture<DescribeVpcsResult> describeVpcsAsync(
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcsRequest, new Callable<DescribeVpcsResult>() {
             public DescribeVpcsResult call() throws Exception {
               DescribeVpcsResult result;
                 try {
@@ -3998,9 +3998,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
+    public SdkFuture<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, authorizeSecurityGroupEgressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
                 return null;
@@ -4055,11 +4055,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupEgressAsync(
+    public SdkFuture<Void> authorizeSecurityGroupEgressAsync(
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, authorizeSecurityGroupEgressRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
@@ -4111,9 +4111,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
+    public SdkFuture<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
+        return AsyncRuntime.submit(executorService, copySnapshotRequest, new Callable<CopySnapshotResult>() {
             public CopySnapshotResult call() throws Exception {
                 return copySnapshot(copySnapshotRequest);
         }
@@ -4162,11 +4162,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopySnapshotResult> copySnapshotAsync(
+    public SdkFuture<CopySnapshotResult> copySnapshotAsync(
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
+        return AsyncRuntime.submit(executorService, copySnapshotRequest, new Callable<CopySnapshotResult>() {
             public CopySnapshotResult call() throws Exception {
               CopySnapshotResult result;
                 try {
@@ -4210,9 +4210,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
+    public SdkFuture<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, detachVpnGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 detachVpnGateway(detachVpnGatewayRequest);
                 return null;
@@ -4253,11 +4253,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachVpnGatewayAsync(
+    public SdkFuture<Void> detachVpnGatewayAsync(
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, detachVpnGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 detachVpnGateway(detachVpnGatewayRequest);
@@ -4300,9 +4300,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
+    public SdkFuture<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceAttributeRequest, new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
                 return describeInstanceAttribute(describeInstanceAttributeRequest);
         }
@@ -4342,11 +4342,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
+    public SdkFuture<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceAttributeRequest, new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
               DescribeInstanceAttributeResult result;
                 try {
@@ -4382,9 +4382,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
+    public SdkFuture<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotFleetInstancesRequest, new Callable<DescribeSpotFleetInstancesResult>() {
             public DescribeSpotFleetInstancesResult call() throws Exception {
                 return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
         }
@@ -4416,11 +4416,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(
+    public SdkFuture<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(
             final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest,
             final AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotFleetInstancesRequest, new Callable<DescribeSpotFleetInstancesResult>() {
             public DescribeSpotFleetInstancesResult call() throws Exception {
               DescribeSpotFleetInstancesResult result;
                 try {
@@ -4462,9 +4462,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
+    public SdkFuture<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
+        return AsyncRuntime.submit(executorService, createNetworkAclRequest, new Callable<CreateNetworkAclResult>() {
             public CreateNetworkAclResult call() throws Exception {
                 return createNetworkAcl(createNetworkAclRequest);
         }
@@ -4502,11 +4502,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkAclResult> createNetworkAclAsync(
+    public SdkFuture<CreateNetworkAclResult> createNetworkAclAsync(
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
+        return AsyncRuntime.submit(executorService, createNetworkAclRequest, new Callable<CreateNetworkAclResult>() {
             public CreateNetworkAclResult call() throws Exception {
               CreateNetworkAclResult result;
                 try {
@@ -4553,9 +4553,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
+    public SdkFuture<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotPriceHistoryRequest, new Callable<DescribeSpotPriceHistoryResult>() {
             public DescribeSpotPriceHistoryResult call() throws Exception {
                 return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
         }
@@ -4598,11 +4598,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(
+    public SdkFuture<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotPriceHistoryRequest, new Callable<DescribeSpotPriceHistoryResult>() {
             public DescribeSpotPriceHistoryResult call() throws Exception {
               DescribeSpotPriceHistoryResult result;
                 try {
@@ -4639,9 +4639,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
+    public SdkFuture<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeImportImageTasksRequest, new Callable<DescribeImportImageTasksResult>() {
             public DescribeImportImageTasksResult call() throws Exception {
                 return describeImportImageTasks(describeImportImageTasksRequest);
         }
@@ -4674,11 +4674,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(
+    public SdkFuture<DescribeImportImageTasksResult> describeImportImageTasksAsync(
             final DescribeImportImageTasksRequest describeImportImageTasksRequest,
             final AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeImportImageTasksRequest, new Callable<DescribeImportImageTasksResult>() {
             public DescribeImportImageTasksResult call() throws Exception {
               DescribeImportImageTasksResult result;
                 try {
@@ -4714,9 +4714,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
+    public SdkFuture<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeInternetGatewaysRequest, new Callable<DescribeInternetGatewaysResult>() {
             public DescribeInternetGatewaysResult call() throws Exception {
                 return describeInternetGateways(describeInternetGatewaysRequest);
         }
@@ -4748,11 +4748,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(
+    public SdkFuture<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeInternetGatewaysRequest, new Callable<DescribeInternetGatewaysResult>() {
             public DescribeInternetGatewaysResult call() throws Exception {
               DescribeInternetGatewaysResult result;
                 try {
@@ -4793,9 +4793,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
+    public SdkFuture<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
+        return AsyncRuntime.submit(executorService, describeHostsRequest, new Callable<DescribeHostsResult>() {
             public DescribeHostsResult call() throws Exception {
                 return describeHosts(describeHostsRequest);
         }
@@ -4832,11 +4832,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeHostsResult> describeHostsAsync(
+    public SdkFuture<DescribeHostsResult> describeHostsAsync(
             final DescribeHostsRequest describeHostsRequest,
             final AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
+        return AsyncRuntime.submit(executorService, describeHostsRequest, new Callable<DescribeHostsResult>() {
             public DescribeHostsResult call() throws Exception {
               DescribeHostsResult result;
                 try {
@@ -4876,9 +4876,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
+    public SdkFuture<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
+        return AsyncRuntime.submit(executorService, describeSubnetsRequest, new Callable<DescribeSubnetsResult>() {
             public DescribeSubnetsResult call() throws Exception {
                 return describeSubnets(describeSubnetsRequest);
         }
@@ -4914,11 +4914,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSubnetsResult> describeSubnetsAsync(
+    public SdkFuture<DescribeSubnetsResult> describeSubnetsAsync(
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
+        return AsyncRuntime.submit(executorService, describeSubnetsRequest, new Callable<DescribeSubnetsResult>() {
             public DescribeSubnetsResult call() throws Exception {
               DescribeSubnetsResult result;
                 try {
@@ -4972,9 +4972,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
+    public SdkFuture<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
+        return AsyncRuntime.submit(executorService, getPasswordDataRequest, new Callable<GetPasswordDataResult>() {
             public GetPasswordDataResult call() throws Exception {
                 return getPasswordData(getPasswordDataRequest);
         }
@@ -5024,11 +5024,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetPasswordDataResult> getPasswordDataAsync(
+    public SdkFuture<GetPasswordDataResult> getPasswordDataAsync(
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
+        return AsyncRuntime.submit(executorService, getPasswordDataRequest, new Callable<GetPasswordDataResult>() {
             public GetPasswordDataResult call() throws Exception {
               GetPasswordDataResult result;
                 try {
@@ -5072,9 +5072,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
+    public SdkFuture<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, cancelConversionTaskRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 cancelConversionTask(cancelConversionTaskRequest);
                 return null;
@@ -5115,11 +5115,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelConversionTaskAsync(
+    public SdkFuture<Void> cancelConversionTaskAsync(
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, cancelConversionTaskRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 cancelConversionTask(cancelConversionTaskRequest);
@@ -5155,9 +5155,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
+    public SdkFuture<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteCustomerGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCustomerGateway(deleteCustomerGatewayRequest);
                 return null;
@@ -5191,11 +5191,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomerGatewayAsync(
+    public SdkFuture<Void> deleteCustomerGatewayAsync(
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteCustomerGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteCustomerGateway(deleteCustomerGatewayRequest);
@@ -5254,9 +5254,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
+    public SdkFuture<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, authorizeSecurityGroupIngressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
                 return null;
@@ -5313,11 +5313,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupIngressAsync(
+    public SdkFuture<Void> authorizeSecurityGroupIngressAsync(
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, authorizeSecurityGroupIngressRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
@@ -5359,9 +5359,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
+    public SdkFuture<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, replaceRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 replaceRoute(replaceRouteRequest);
                 return null;
@@ -5401,11 +5401,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceRouteAsync(
+    public SdkFuture<Void> replaceRouteAsync(
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, replaceRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 replaceRoute(replaceRouteRequest);
@@ -5453,9 +5453,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
+    public SdkFuture<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
+        return AsyncRuntime.submit(executorService, purchaseScheduledInstancesRequest, new Callable<PurchaseScheduledInstancesResult>() {
             public PurchaseScheduledInstancesResult call() throws Exception {
                 return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
         }
@@ -5500,11 +5500,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(
+    public SdkFuture<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(
             final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest,
             final AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
+        return AsyncRuntime.submit(executorService, purchaseScheduledInstancesRequest, new Callable<PurchaseScheduledInstancesResult>() {
             public PurchaseScheduledInstancesResult call() throws Exception {
               PurchaseScheduledInstancesResult result;
                 try {
@@ -5550,9 +5550,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
+    public SdkFuture<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
+        return AsyncRuntime.submit(executorService, describeRouteTablesRequest, new Callable<DescribeRouteTablesResult>() {
             public DescribeRouteTablesResult call() throws Exception {
                 return describeRouteTables(describeRouteTablesRequest);
         }
@@ -5594,11 +5594,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(
+    public SdkFuture<DescribeRouteTablesResult> describeRouteTablesAsync(
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
+        return AsyncRuntime.submit(executorService, describeRouteTablesRequest, new Callable<DescribeRouteTablesResult>() {
             public DescribeRouteTablesResult call() throws Exception {
               DescribeRouteTablesResult result;
                 try {
@@ -5646,9 +5646,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
+    public SdkFuture<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyVolumeAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifyVolumeAttribute(modifyVolumeAttributeRequest);
                 return null;
@@ -5693,11 +5693,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVolumeAttributeAsync(
+    public SdkFuture<Void> modifyVolumeAttributeAsync(
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyVolumeAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifyVolumeAttribute(modifyVolumeAttributeRequest);
@@ -5737,9 +5737,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
+    public SdkFuture<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
+        return AsyncRuntime.submit(executorService, createNetworkInterfaceRequest, new Callable<CreateNetworkInterfaceResult>() {
             public CreateNetworkInterfaceResult call() throws Exception {
                 return createNetworkInterface(createNetworkInterfaceRequest);
         }
@@ -5776,11 +5776,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(
+    public SdkFuture<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
+        return AsyncRuntime.submit(executorService, createNetworkInterfaceRequest, new Callable<CreateNetworkInterfaceResult>() {
             public CreateNetworkInterfaceResult call() throws Exception {
               CreateNetworkInterfaceResult result;
                 try {
@@ -5839,9 +5839,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
+    public SdkFuture<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
+        return AsyncRuntime.submit(executorService, associateAddressRequest, new Callable<AssociateAddressResult>() {
             public AssociateAddressResult call() throws Exception {
                 return associateAddress(associateAddressRequest);
         }
@@ -5896,11 +5896,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateAddressResult> associateAddressAsync(
+    public SdkFuture<AssociateAddressResult> associateAddressAsync(
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
+        return AsyncRuntime.submit(executorService, associateAddressRequest, new Callable<AssociateAddressResult>() {
             public AssociateAddressResult call() throws Exception {
               AssociateAddressResult result;
                 try {
@@ -5968,9 +5968,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
+    public SdkFuture<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceStatusRequest, new Callable<DescribeInstanceStatusResult>() {
             public DescribeInstanceStatusResult call() throws Exception {
                 return describeInstanceStatus(describeInstanceStatusRequest);
         }
@@ -6034,11 +6034,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(
+    public SdkFuture<DescribeInstanceStatusResult> describeInstanceStatusAsync(
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
+        return AsyncRuntime.submit(executorService, describeInstanceStatusRequest, new Callable<DescribeInstanceStatusResult>() {
             public DescribeInstanceStatusResult call() throws Exception {
               DescribeInstanceStatusResult result;
                 try {
@@ -6081,9 +6081,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
+    public SdkFuture<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
+        return AsyncRuntime.submit(executorService, createVpcEndpointRequest, new Callable<CreateVpcEndpointResult>() {
             public CreateVpcEndpointResult call() throws Exception {
                 return createVpcEndpoint(createVpcEndpointRequest);
         }
@@ -6122,11 +6122,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcEndpointResult> createVpcEndpointAsync(
+    public SdkFuture<CreateVpcEndpointResult> createVpcEndpointAsync(
             final CreateVpcEndpointRequest createVpcEndpointRequest,
             final AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
+        return AsyncRuntime.submit(executorService, createVpcEndpointRequest, new Callable<CreateVpcEndpointResult>() {
             public CreateVpcEndpointResult call() throws Exception {
               CreateVpcEndpointResult result;
                 try {
@@ -6161,9 +6161,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
+    public SdkFuture<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeExportTasksRequest, new Callable<DescribeExportTasksResult>() {
             public DescribeExportTasksResult call() throws Exception {
                 return describeExportTasks(describeExportTasksRequest);
         }
@@ -6194,11 +6194,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeExportTasksResult> describeExportTasksAsync(
+    public SdkFuture<DescribeExportTasksResult> describeExportTasksAsync(
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeExportTasksRequest, new Callable<DescribeExportTasksResult>() {
             public DescribeExportTasksResult call() throws Exception {
               DescribeExportTasksResult result;
                 try {
@@ -6258,9 +6258,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
+    public SdkFuture<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
+        return AsyncRuntime.submit(executorService, startInstancesRequest, new Callable<StartInstancesResult>() {
             public StartInstancesResult call() throws Exception {
                 return startInstances(startInstancesRequest);
         }
@@ -6316,11 +6316,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StartInstancesResult> startInstancesAsync(
+    public SdkFuture<StartInstancesResult> startInstancesAsync(
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
+        return AsyncRuntime.submit(executorService, startInstancesRequest, new Callable<StartInstancesResult>() {
             public StartInstancesResult call() throws Exception {
               StartInstancesResult result;
                 try {
@@ -6360,9 +6360,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
+    public SdkFuture<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return AsyncRuntime.submit(executorService, describeTagsRequest, new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
                 return describeTags(describeTagsRequest);
         }
@@ -6398,11 +6398,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(
+    public SdkFuture<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return AsyncRuntime.submit(executorService, describeTagsRequest, new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
               DescribeTagsResult result;
                 try {
@@ -6442,9 +6442,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
+    public SdkFuture<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
+        return AsyncRuntime.submit(executorService, replaceNetworkAclAssociationRequest, new Callable<ReplaceNetworkAclAssociationResult>() {
             public ReplaceNetworkAclAssociationResult call() throws Exception {
                 return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
         }
@@ -6480,11 +6480,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(
+    public SdkFuture<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
+        return AsyncRuntime.submit(executorService, replaceNetworkAclAssociationRequest, new Callable<ReplaceNetworkAclAssociationResult>() {
             public ReplaceNetworkAclAssociationResult call() throws Exception {
               ReplaceNetworkAclAssociationResult result;
                 try {
@@ -6553,9 +6553,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
+    public SdkFuture<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return AsyncRuntime.submit(executorService, createSnapshotRequest, new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
                 return createSnapshot(createSnapshotRequest);
         }
@@ -6620,11 +6620,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSnapshotResult> createSnapshotAsync(
+    public SdkFuture<CreateSnapshotResult> createSnapshotAsync(
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return AsyncRuntime.submit(executorService, createSnapshotRequest, new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
               CreateSnapshotResult result;
                 try {
@@ -6660,9 +6660,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
+    public SdkFuture<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
+        return AsyncRuntime.submit(executorService, attachNetworkInterfaceRequest, new Callable<AttachNetworkInterfaceResult>() {
             public AttachNetworkInterfaceResult call() throws Exception {
                 return attachNetworkInterface(attachNetworkInterfaceRequest);
         }
@@ -6694,11 +6694,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(
+    public SdkFuture<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
+        return AsyncRuntime.submit(executorService, attachNetworkInterfaceRequest, new Callable<AttachNetworkInterfaceResult>() {
             public AttachNetworkInterfaceResult call() throws Exception {
               AttachNetworkInterfaceResult result;
                 try {
@@ -6762,9 +6762,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
+    public SdkFuture<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesListingsRequest, new Callable<DescribeReservedInstancesListingsResult>() {
             public DescribeReservedInstancesListingsResult call() throws Exception {
                 return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
         }
@@ -6824,11 +6824,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(
+    public SdkFuture<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesListingsRequest, new Callable<DescribeReservedInstancesListingsResult>() {
             public DescribeReservedInstancesListingsResult call() throws Exception {
               DescribeReservedInstancesListingsResult result;
                 try {
@@ -6870,9 +6870,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
+    public SdkFuture<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTags(deleteTagsRequest);
                 return null;
@@ -6911,11 +6911,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(
+    public SdkFuture<Void> deleteTagsAsync(
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteTags(deleteTagsRequest);
@@ -6952,9 +6952,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
+    public SdkFuture<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeNetworkInterfaceAttributeRequest, new Callable<DescribeNetworkInterfaceAttributeResult>() {
             public DescribeNetworkInterfaceAttributeResult call() throws Exception {
                 return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
         }
@@ -6988,11 +6988,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(
+    public SdkFuture<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeNetworkInterfaceAttributeRequest, new Callable<DescribeNetworkInterfaceAttributeResult>() {
             public DescribeNetworkInterfaceAttributeResult call() throws Exception {
               DescribeNetworkInterfaceAttributeResult result;
                 try {
@@ -7030,9 +7030,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
+    public SdkFuture<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetImageAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 resetImageAttribute(resetImageAttributeRequest);
                 return null;
@@ -7067,11 +7067,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetImageAttributeAsync(
+    public SdkFuture<Void> resetImageAttributeAsync(
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetImageAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 resetImageAttribute(resetImageAttributeRequest);
@@ -7107,9 +7107,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
+    public SdkFuture<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeImageAttributeRequest, new Callable<DescribeImageAttributeResult>() {
             public DescribeImageAttributeResult call() throws Exception {
                 return describeImageAttribute(describeImageAttributeRequest);
         }
@@ -7142,11 +7142,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(
+    public SdkFuture<DescribeImageAttributeResult> describeImageAttributeAsync(
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeImageAttributeRequest, new Callable<DescribeImageAttributeResult>() {
             public DescribeImageAttributeResult call() throws Exception {
               DescribeImageAttributeResult result;
                 try {
@@ -7185,9 +7185,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
+    public SdkFuture<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
+        return AsyncRuntime.submit(executorService, describePlacementGroupsRequest, new Callable<DescribePlacementGroupsResult>() {
             public DescribePlacementGroupsResult call() throws Exception {
                 return describePlacementGroups(describePlacementGroupsRequest);
         }
@@ -7222,11 +7222,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(
+    public SdkFuture<DescribePlacementGroupsResult> describePlacementGroupsAsync(
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
+        return AsyncRuntime.submit(executorService, describePlacementGroupsRequest, new Callable<DescribePlacementGroupsResult>() {
             public DescribePlacementGroupsResult call() throws Exception {
               DescribePlacementGroupsResult result;
                 try {
@@ -7275,9 +7275,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
+    public SdkFuture<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifySnapshotAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifySnapshotAttribute(modifySnapshotAttributeRequest);
                 return null;
@@ -7323,11 +7323,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySnapshotAttributeAsync(
+    public SdkFuture<Void> modifySnapshotAttributeAsync(
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifySnapshotAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifySnapshotAttribute(modifySnapshotAttributeRequest);
@@ -7391,9 +7391,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
+    public SdkFuture<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
+        return AsyncRuntime.submit(executorService, createSecurityGroupRequest, new Callable<CreateSecurityGroupResult>() {
             public CreateSecurityGroupResult call() throws Exception {
                 return createSecurityGroup(createSecurityGroupRequest);
         }
@@ -7454,11 +7454,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSecurityGroupResult> createSecurityGroupAsync(
+    public SdkFuture<CreateSecurityGroupResult> createSecurityGroupAsync(
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
+        return AsyncRuntime.submit(executorService, createSecurityGroupRequest, new Callable<CreateSecurityGroupResult>() {
             public CreateSecurityGroupResult call() throws Exception {
               CreateSecurityGroupResult result;
                 try {
@@ -7520,9 +7520,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
+    public SdkFuture<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
+        return AsyncRuntime.submit(executorService, createReservedInstancesListingRequest, new Callable<CreateReservedInstancesListingResult>() {
             public CreateReservedInstancesListingResult call() throws Exception {
                 return createReservedInstancesListing(createReservedInstancesListingRequest);
         }
@@ -7580,11 +7580,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(
+    public SdkFuture<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
+        return AsyncRuntime.submit(executorService, createReservedInstancesListingRequest, new Callable<CreateReservedInstancesListingResult>() {
             public CreateReservedInstancesListingResult call() throws Exception {
               CreateReservedInstancesListingResult result;
                 try {
@@ -7621,9 +7621,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
+    public SdkFuture<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteNetworkInterfaceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNetworkInterface(deleteNetworkInterfaceRequest);
                 return null;
@@ -7657,11 +7657,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkInterfaceAsync(
+    public SdkFuture<Void> deleteNetworkInterfaceAsync(
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteNetworkInterfaceRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteNetworkInterface(deleteNetworkInterfaceRequest);
@@ -7707,9 +7707,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
+    public SdkFuture<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
+        return AsyncRuntime.submit(executorService, replaceRouteTableAssociationRequest, new Callable<ReplaceRouteTableAssociationResult>() {
             public ReplaceRouteTableAssociationResult call() throws Exception {
                 return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
         }
@@ -7752,11 +7752,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(
+    public SdkFuture<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
+        return AsyncRuntime.submit(executorService, replaceRouteTableAssociationRequest, new Callable<ReplaceRouteTableAssociationResult>() {
             public ReplaceRouteTableAssociationResult call() throws Exception {
               ReplaceRouteTableAssociationResult result;
                 try {
@@ -7811,9 +7811,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
+    public SdkFuture<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyIdFormatRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifyIdFormat(modifyIdFormatRequest);
                 return null;
@@ -7865,11 +7865,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyIdFormatAsync(
+    public SdkFuture<Void> modifyIdFormatAsync(
             final ModifyIdFormatRequest modifyIdFormatRequest,
             final AsyncHandler<ModifyIdFormatRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyIdFormatRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifyIdFormat(modifyIdFormatRequest);
@@ -7906,9 +7906,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
+    public SdkFuture<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, detachInternetGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 detachInternetGateway(detachInternetGatewayRequest);
                 return null;
@@ -7943,11 +7943,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachInternetGatewayAsync(
+    public SdkFuture<Void> detachInternetGatewayAsync(
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, detachInternetGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 detachInternetGateway(detachInternetGatewayRequest);
@@ -7988,9 +7988,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
+    public SdkFuture<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeVolumeAttributeRequest, new Callable<DescribeVolumeAttributeResult>() {
             public DescribeVolumeAttributeResult call() throws Exception {
                 return describeVolumeAttribute(describeVolumeAttributeRequest);
         }
@@ -8028,11 +8028,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(
+    public SdkFuture<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeVolumeAttributeRequest, new Callable<DescribeVolumeAttributeResult>() {
             public DescribeVolumeAttributeResult call() throws Exception {
               DescribeVolumeAttributeResult result;
                 try {
@@ -8068,9 +8068,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
+    public SdkFuture<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotFleetRequestsRequest, new Callable<DescribeSpotFleetRequestsResult>() {
             public DescribeSpotFleetRequestsResult call() throws Exception {
                 return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
         }
@@ -8102,11 +8102,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(
+    public SdkFuture<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(
             final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest,
             final AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotFleetRequestsRequest, new Callable<DescribeSpotFleetRequestsResult>() {
             public DescribeSpotFleetRequestsResult call() throws Exception {
               DescribeSpotFleetRequestsResult result;
                 try {
@@ -8144,9 +8144,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
+    public SdkFuture<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyNetworkInterfaceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
                 return null;
@@ -8181,11 +8181,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyNetworkInterfaceAttributeAsync(
+    public SdkFuture<Void> modifyNetworkInterfaceAttributeAsync(
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyNetworkInterfaceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
@@ -8221,9 +8221,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
+    public SdkFuture<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, unassignPrivateIpAddressesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
                 return null;
@@ -8257,11 +8257,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> unassignPrivateIpAddressesAsync(
+    public SdkFuture<Void> unassignPrivateIpAddressesAsync(
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, unassignPrivateIpAddressesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
@@ -8299,9 +8299,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
+    public SdkFuture<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deregisterImageRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deregisterImage(deregisterImageRequest);
                 return null;
@@ -8337,11 +8337,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deregisterImageAsync(
+    public SdkFuture<Void> deregisterImageAsync(
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deregisterImageRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deregisterImage(deregisterImageRequest);
@@ -8383,9 +8383,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
+    public SdkFuture<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyInstanceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifyInstanceAttribute(modifyInstanceAttributeRequest);
                 return null;
@@ -8425,11 +8425,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyInstanceAttributeAsync(
+    public SdkFuture<Void> modifyInstanceAttributeAsync(
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyInstanceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifyInstanceAttribute(modifyInstanceAttributeRequest);
@@ -8471,9 +8471,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
+    public SdkFuture<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createPlacementGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createPlacementGroup(createPlacementGroupRequest);
                 return null;
@@ -8513,11 +8513,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createPlacementGroupAsync(
+    public SdkFuture<Void> createPlacementGroupAsync(
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createPlacementGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 createPlacementGroup(createPlacementGroupRequest);
@@ -8556,9 +8556,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
+    public SdkFuture<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
+        return AsyncRuntime.submit(executorService, describeNetworkAclsRequest, new Callable<DescribeNetworkAclsResult>() {
             public DescribeNetworkAclsResult call() throws Exception {
                 return describeNetworkAcls(describeNetworkAclsRequest);
         }
@@ -8594,11 +8594,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(
+    public SdkFuture<DescribeNetworkAclsResult> describeNetworkAclsAsync(
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
+        return AsyncRuntime.submit(executorService, describeNetworkAclsRequest, new Callable<DescribeNetworkAclsResult>() {
             public DescribeNetworkAclsResult call() throws Exception {
               DescribeNetworkAclsResult result;
                 try {
@@ -8656,9 +8656,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
+    public SdkFuture<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
+        return AsyncRuntime.submit(executorService, getConsoleOutputRequest, new Callable<GetConsoleOutputResult>() {
             public GetConsoleOutputResult call() throws Exception {
                 return getConsoleOutput(getConsoleOutputRequest);
         }
@@ -8712,11 +8712,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleOutputResult> getConsoleOutputAsync(
+    public SdkFuture<GetConsoleOutputResult> getConsoleOutputAsync(
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
+        return AsyncRuntime.submit(executorService, getConsoleOutputRequest, new Callable<GetConsoleOutputResult>() {
             public GetConsoleOutputResult call() throws Exception {
               GetConsoleOutputResult result;
                 try {
@@ -8752,9 +8752,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
+    public SdkFuture<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, detachNetworkInterfaceRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 detachNetworkInterface(detachNetworkInterfaceRequest);
                 return null;
@@ -8787,11 +8787,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachNetworkInterfaceAsync(
+    public SdkFuture<Void> detachNetworkInterfaceAsync(
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, detachNetworkInterfaceRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 detachNetworkInterface(detachNetworkInterfaceRequest);
@@ -8840,9 +8840,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
+    public SdkFuture<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotInstanceRequestsRequest, new Callable<DescribeSpotInstanceRequestsResult>() {
             public DescribeSpotInstanceRequestsResult call() throws Exception {
                 return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
         }
@@ -8888,11 +8888,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(
+    public SdkFuture<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotInstanceRequestsRequest, new Callable<DescribeSpotInstanceRequestsResult>() {
             public DescribeSpotInstanceRequestsResult call() throws Exception {
               DescribeSpotInstanceRequestsResult result;
                 try {
@@ -8928,9 +8928,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
+    public SdkFuture<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcAttributeRequest, new Callable<DescribeVpcAttributeResult>() {
             public DescribeVpcAttributeResult call() throws Exception {
                 return describeVpcAttribute(describeVpcAttributeRequest);
         }
@@ -8962,11 +8962,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(
+    public SdkFuture<DescribeVpcAttributeResult> describeVpcAttributeAsync(
             final DescribeVpcAttributeRequest describeVpcAttributeRequest,
             final AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcAttributeRequest, new Callable<DescribeVpcAttributeResult>() {
             public DescribeVpcAttributeResult call() throws Exception {
               DescribeVpcAttributeResult result;
                 try {
@@ -9011,9 +9011,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
+    public SdkFuture<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
+        return AsyncRuntime.submit(executorService, importKeyPairRequest, new Callable<ImportKeyPairResult>() {
             public ImportKeyPairResult call() throws Exception {
                 return importKeyPair(importKeyPairRequest);
         }
@@ -9054,11 +9054,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportKeyPairResult> importKeyPairAsync(
+    public SdkFuture<ImportKeyPairResult> importKeyPairAsync(
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
+        return AsyncRuntime.submit(executorService, importKeyPairRequest, new Callable<ImportKeyPairResult>() {
             public ImportKeyPairResult call() throws Exception {
               ImportKeyPairResult result;
                 try {
@@ -9099,9 +9099,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
+    public SdkFuture<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createNatGatewayRequest, new Callable<CreateNatGatewayResult>() {
             public CreateNatGatewayResult call() throws Exception {
                 return createNatGateway(createNatGatewayRequest);
         }
@@ -9138,11 +9138,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNatGatewayResult> createNatGatewayAsync(
+    public SdkFuture<CreateNatGatewayResult> createNatGatewayAsync(
             final CreateNatGatewayRequest createNatGatewayRequest,
             final AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createNatGatewayRequest, new Callable<CreateNatGatewayResult>() {
             public CreateNatGatewayResult call() throws Exception {
               CreateNatGatewayResult result;
                 try {
@@ -9211,9 +9211,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
+    public SdkFuture<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
+        return AsyncRuntime.submit(executorService, createRouteRequest, new Callable<CreateRouteResult>() {
             public CreateRouteResult call() throws Exception {
                 return createRoute(createRouteRequest);
         }
@@ -9278,11 +9278,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteResult> createRouteAsync(
+    public SdkFuture<CreateRouteResult> createRouteAsync(
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
+        return AsyncRuntime.submit(executorService, createRouteRequest, new Callable<CreateRouteResult>() {
             public CreateRouteResult call() throws Exception {
               CreateRouteResult result;
                 try {
@@ -9323,9 +9323,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
+    public SdkFuture<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
+        return AsyncRuntime.submit(executorService, allocateAddressRequest, new Callable<AllocateAddressResult>() {
             public AllocateAddressResult call() throws Exception {
                 return allocateAddress(allocateAddressRequest);
         }
@@ -9362,11 +9362,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateAddressResult> allocateAddressAsync(
+    public SdkFuture<AllocateAddressResult> allocateAddressAsync(
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
+        return AsyncRuntime.submit(executorService, allocateAddressRequest, new Callable<AllocateAddressResult>() {
             public AllocateAddressResult call() throws Exception {
               AllocateAddressResult result;
                 try {
@@ -9402,9 +9402,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
+    public SdkFuture<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeScheduledInstancesRequest, new Callable<DescribeScheduledInstancesResult>() {
             public DescribeScheduledInstancesResult call() throws Exception {
                 return describeScheduledInstances(describeScheduledInstancesRequest);
         }
@@ -9436,11 +9436,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(
+    public SdkFuture<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(
             final DescribeScheduledInstancesRequest describeScheduledInstancesRequest,
             final AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeScheduledInstancesRequest, new Callable<DescribeScheduledInstancesResult>() {
             public DescribeScheduledInstancesResult call() throws Exception {
               DescribeScheduledInstancesResult result;
                 try {
@@ -9478,9 +9478,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
+    public SdkFuture<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
+        return AsyncRuntime.submit(executorService, deleteNatGatewayRequest, new Callable<DeleteNatGatewayResult>() {
             public DeleteNatGatewayResult call() throws Exception {
                 return deleteNatGateway(deleteNatGatewayRequest);
         }
@@ -9514,11 +9514,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(
+    public SdkFuture<DeleteNatGatewayResult> deleteNatGatewayAsync(
             final DeleteNatGatewayRequest deleteNatGatewayRequest,
             final AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
+        return AsyncRuntime.submit(executorService, deleteNatGatewayRequest, new Callable<DeleteNatGatewayResult>() {
             public DeleteNatGatewayResult call() throws Exception {
               DeleteNatGatewayResult result;
                 try {
@@ -9575,9 +9575,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
+    public SdkFuture<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createNetworkAclEntryRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createNetworkAclEntry(createNetworkAclEntryRequest);
                 return null;
@@ -9631,11 +9631,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createNetworkAclEntryAsync(
+    public SdkFuture<Void> createNetworkAclEntryAsync(
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createNetworkAclEntryRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 createNetworkAclEntry(createNetworkAclEntryRequest);
@@ -9682,9 +9682,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
+    public SdkFuture<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
+        return AsyncRuntime.submit(executorService, bundleInstanceRequest, new Callable<BundleInstanceResult>() {
             public BundleInstanceResult call() throws Exception {
                 return bundleInstance(bundleInstanceRequest);
         }
@@ -9728,11 +9728,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<BundleInstanceResult> bundleInstanceAsync(
+    public SdkFuture<BundleInstanceResult> bundleInstanceAsync(
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
+        return AsyncRuntime.submit(executorService, bundleInstanceRequest, new Callable<BundleInstanceResult>() {
             public BundleInstanceResult call() throws Exception {
               BundleInstanceResult result;
                 try {
@@ -9774,9 +9774,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
+    public SdkFuture<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
+        return AsyncRuntime.submit(executorService, describeSecurityGroupsRequest, new Callable<DescribeSecurityGroupsResult>() {
             public DescribeSecurityGroupsResult call() throws Exception {
                 return describeSecurityGroups(describeSecurityGroupsRequest);
         }
@@ -9814,11 +9814,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(
+    public SdkFuture<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
+        return AsyncRuntime.submit(executorService, describeSecurityGroupsRequest, new Callable<DescribeSecurityGroupsResult>() {
             public DescribeSecurityGroupsResult call() throws Exception {
               DescribeSecurityGroupsResult result;
                 try {
@@ -9890,9 +9890,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
+    public SdkFuture<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
+        return AsyncRuntime.submit(executorService, stopInstancesRequest, new Callable<StopInstancesResult>() {
             public StopInstancesResult call() throws Exception {
                 return stopInstances(stopInstancesRequest);
         }
@@ -9960,11 +9960,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StopInstancesResult> stopInstancesAsync(
+    public SdkFuture<StopInstancesResult> stopInstancesAsync(
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
+        return AsyncRuntime.submit(executorService, stopInstancesRequest, new Callable<StopInstancesResult>() {
             public StopInstancesResult call() throws Exception {
               StopInstancesResult result;
                 try {
@@ -10017,9 +10017,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
+    public SdkFuture<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
+        return AsyncRuntime.submit(executorService, describeIdFormatRequest, new Callable<DescribeIdFormatResult>() {
             public DescribeIdFormatResult call() throws Exception {
                 return describeIdFormat(describeIdFormatRequest);
         }
@@ -10068,11 +10068,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeIdFormatResult> describeIdFormatAsync(
+    public SdkFuture<DescribeIdFormatResult> describeIdFormatAsync(
             final DescribeIdFormatRequest describeIdFormatRequest,
             final AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
+        return AsyncRuntime.submit(executorService, describeIdFormatRequest, new Callable<DescribeIdFormatResult>() {
             public DescribeIdFormatResult call() throws Exception {
               DescribeIdFormatResult result;
                 try {
@@ -10114,9 +10114,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
+    public SdkFuture<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createVpnGatewayRequest, new Callable<CreateVpnGatewayResult>() {
             public CreateVpnGatewayResult call() throws Exception {
                 return createVpnGateway(createVpnGatewayRequest);
         }
@@ -10154,11 +10154,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(
+    public SdkFuture<CreateVpnGatewayResult> createVpnGatewayAsync(
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createVpnGatewayRequest, new Callable<CreateVpnGatewayResult>() {
             public CreateVpnGatewayResult call() throws Exception {
               CreateVpnGatewayResult result;
                 try {
@@ -10211,9 +10211,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
+    public SdkFuture<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
+        return AsyncRuntime.submit(executorService, detachVolumeRequest, new Callable<DetachVolumeResult>() {
             public DetachVolumeResult call() throws Exception {
                 return detachVolume(detachVolumeRequest);
         }
@@ -10262,11 +10262,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachVolumeResult> detachVolumeAsync(
+    public SdkFuture<DetachVolumeResult> detachVolumeAsync(
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
+        return AsyncRuntime.submit(executorService, detachVolumeRequest, new Callable<DetachVolumeResult>() {
             public DetachVolumeResult call() throws Exception {
               DetachVolumeResult result;
                 try {
@@ -10308,9 +10308,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
+    public SdkFuture<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
+        return AsyncRuntime.submit(executorService, modifyHostsRequest, new Callable<ModifyHostsResult>() {
             public ModifyHostsResult call() throws Exception {
                 return modifyHosts(modifyHostsRequest);
         }
@@ -10348,11 +10348,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyHostsResult> modifyHostsAsync(
+    public SdkFuture<ModifyHostsResult> modifyHostsAsync(
             final ModifyHostsRequest modifyHostsRequest,
             final AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
+        return AsyncRuntime.submit(executorService, modifyHostsRequest, new Callable<ModifyHostsResult>() {
             public ModifyHostsResult call() throws Exception {
               ModifyHostsResult result;
                 try {
@@ -10426,9 +10426,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
+    public SdkFuture<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
+        return AsyncRuntime.submit(executorService, registerImageRequest, new Callable<RegisterImageResult>() {
             public RegisterImageResult call() throws Exception {
                 return registerImage(registerImageRequest);
         }
@@ -10498,11 +10498,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RegisterImageResult> registerImageAsync(
+    public SdkFuture<RegisterImageResult> registerImageAsync(
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
+        return AsyncRuntime.submit(executorService, registerImageRequest, new Callable<RegisterImageResult>() {
             public RegisterImageResult call() throws Exception {
               RegisterImageResult result;
                 try {
@@ -10550,9 +10550,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
+    public SdkFuture<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetInstanceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 resetInstanceAttribute(resetInstanceAttributeRequest);
                 return null;
@@ -10597,11 +10597,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetInstanceAttributeAsync(
+    public SdkFuture<Void> resetInstanceAttributeAsync(
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetInstanceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 resetInstanceAttribute(resetInstanceAttributeRequest);
@@ -10652,9 +10652,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
+    public SdkFuture<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
+        return AsyncRuntime.submit(executorService, createKeyPairRequest, new Callable<CreateKeyPairResult>() {
             public CreateKeyPairResult call() throws Exception {
                 return createKeyPair(createKeyPairRequest);
         }
@@ -10702,11 +10702,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateKeyPairResult> createKeyPairAsync(
+    public SdkFuture<CreateKeyPairResult> createKeyPairAsync(
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
+        return AsyncRuntime.submit(executorService, createKeyPairRequest, new Callable<CreateKeyPairResult>() {
             public CreateKeyPairResult call() throws Exception {
               CreateKeyPairResult result;
                 try {
@@ -10755,9 +10755,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
+    public SdkFuture<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
+        return AsyncRuntime.submit(executorService, attachClassicLinkVpcRequest, new Callable<AttachClassicLinkVpcResult>() {
             public AttachClassicLinkVpcResult call() throws Exception {
                 return attachClassicLinkVpc(attachClassicLinkVpcRequest);
         }
@@ -10802,11 +10802,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(
+    public SdkFuture<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(
             final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
             final AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
+        return AsyncRuntime.submit(executorService, attachClassicLinkVpcRequest, new Callable<AttachClassicLinkVpcResult>() {
             public AttachClassicLinkVpcResult call() throws Exception {
               AttachClassicLinkVpcResult result;
                 try {
@@ -10846,9 +10846,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
+    public SdkFuture<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyImageAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifyImageAttribute(modifyImageAttributeRequest);
                 return null;
@@ -10885,11 +10885,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyImageAttributeAsync(
+    public SdkFuture<Void> modifyImageAttributeAsync(
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyImageAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifyImageAttribute(modifyImageAttributeRequest);
@@ -10925,9 +10925,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
+    public SdkFuture<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
+        return AsyncRuntime.submit(executorService, disableVpcClassicLinkRequest, new Callable<DisableVpcClassicLinkResult>() {
             public DisableVpcClassicLinkResult call() throws Exception {
                 return disableVpcClassicLink(disableVpcClassicLinkRequest);
         }
@@ -10960,11 +10960,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(
+    public SdkFuture<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(
             final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
             final AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
+        return AsyncRuntime.submit(executorService, disableVpcClassicLinkRequest, new Callable<DisableVpcClassicLinkResult>() {
             public DisableVpcClassicLinkResult call() throws Exception {
               DisableVpcClassicLinkResult result;
                 try {
@@ -11001,9 +11001,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
+    public SdkFuture<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disableVgwRoutePropagationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
                 return null;
@@ -11037,11 +11037,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disableVgwRoutePropagationAsync(
+    public SdkFuture<Void> disableVgwRoutePropagationAsync(
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disableVgwRoutePropagationRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
@@ -11081,9 +11081,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
+    public SdkFuture<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetSnapshotAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 resetSnapshotAttribute(resetSnapshotAttributeRequest);
                 return null;
@@ -11121,11 +11121,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetSnapshotAttributeAsync(
+    public SdkFuture<Void> resetSnapshotAttributeAsync(
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetSnapshotAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 resetSnapshotAttribute(resetSnapshotAttributeRequest);
@@ -11170,9 +11170,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
+    public SdkFuture<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, assignPrivateIpAddressesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
                 return null;
@@ -11215,11 +11215,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> assignPrivateIpAddressesAsync(
+    public SdkFuture<Void> assignPrivateIpAddressesAsync(
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, assignPrivateIpAddressesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
@@ -11262,9 +11262,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
+    public SdkFuture<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
+        return AsyncRuntime.submit(executorService, enableVpcClassicLinkDnsSupportRequest, new Callable<EnableVpcClassicLinkDnsSupportResult>() {
             public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
                 return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
         }
@@ -11304,11 +11304,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(
+    public SdkFuture<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(
             final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
+        return AsyncRuntime.submit(executorService, enableVpcClassicLinkDnsSupportRequest, new Callable<EnableVpcClassicLinkDnsSupportResult>() {
             public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
               EnableVpcClassicLinkDnsSupportResult result;
                 try {
@@ -11345,9 +11345,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
+    public SdkFuture<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
+        return AsyncRuntime.submit(executorService, modifyVpcEndpointRequest, new Callable<ModifyVpcEndpointResult>() {
             public ModifyVpcEndpointResult call() throws Exception {
                 return modifyVpcEndpoint(modifyVpcEndpointRequest);
         }
@@ -11380,11 +11380,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(
+    public SdkFuture<ModifyVpcEndpointResult> modifyVpcEndpointAsync(
             final ModifyVpcEndpointRequest modifyVpcEndpointRequest,
             final AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
+        return AsyncRuntime.submit(executorService, modifyVpcEndpointRequest, new Callable<ModifyVpcEndpointResult>() {
             public ModifyVpcEndpointResult call() throws Exception {
               ModifyVpcEndpointResult result;
                 try {
@@ -11420,9 +11420,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
+    public SdkFuture<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
+        return AsyncRuntime.submit(executorService, describeNetworkInterfacesRequest, new Callable<DescribeNetworkInterfacesResult>() {
             public DescribeNetworkInterfacesResult call() throws Exception {
                 return describeNetworkInterfaces(describeNetworkInterfacesRequest);
         }
@@ -11454,11 +11454,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(
+    public SdkFuture<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
+        return AsyncRuntime.submit(executorService, describeNetworkInterfacesRequest, new Callable<DescribeNetworkInterfacesResult>() {
             public DescribeNetworkInterfacesResult call() throws Exception {
               DescribeNetworkInterfacesResult result;
                 try {
@@ -11504,9 +11504,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
+    public SdkFuture<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
+        return AsyncRuntime.submit(executorService, cancelSpotInstanceRequestsRequest, new Callable<CancelSpotInstanceRequestsResult>() {
             public CancelSpotInstanceRequestsResult call() throws Exception {
                 return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
         }
@@ -11548,11 +11548,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(
+    public SdkFuture<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
+        return AsyncRuntime.submit(executorService, cancelSpotInstanceRequestsRequest, new Callable<CancelSpotInstanceRequestsResult>() {
             public CancelSpotInstanceRequestsResult call() throws Exception {
               CancelSpotInstanceRequestsResult result;
                 try {
@@ -11590,9 +11590,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
+    public SdkFuture<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
+        return AsyncRuntime.submit(executorService, monitorInstancesRequest, new Callable<MonitorInstancesResult>() {
             public MonitorInstancesResult call() throws Exception {
                 return monitorInstances(monitorInstancesRequest);
         }
@@ -11626,11 +11626,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MonitorInstancesResult> monitorInstancesAsync(
+    public SdkFuture<MonitorInstancesResult> monitorInstancesAsync(
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
+        return AsyncRuntime.submit(executorService, monitorInstancesRequest, new Callable<MonitorInstancesResult>() {
             public MonitorInstancesResult call() throws Exception {
               MonitorInstancesResult result;
                 try {
@@ -11673,9 +11673,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
+    public SdkFuture<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
+        return AsyncRuntime.submit(executorService, cancelReservedInstancesListingRequest, new Callable<CancelReservedInstancesListingResult>() {
             public CancelReservedInstancesListingResult call() throws Exception {
                 return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
         }
@@ -11714,11 +11714,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(
+    public SdkFuture<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
+        return AsyncRuntime.submit(executorService, cancelReservedInstancesListingRequest, new Callable<CancelReservedInstancesListingResult>() {
             public CancelReservedInstancesListingResult call() throws Exception {
               CancelReservedInstancesListingResult result;
                 try {
@@ -11758,9 +11758,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
+    public SdkFuture<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+        return AsyncRuntime.submit(executorService, describeKeyPairsRequest, new Callable<DescribeKeyPairsResult>() {
             public DescribeKeyPairsResult call() throws Exception {
                 return describeKeyPairs(describeKeyPairsRequest);
         }
@@ -11796,11 +11796,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(
+    public SdkFuture<DescribeKeyPairsResult> describeKeyPairsAsync(
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+        return AsyncRuntime.submit(executorService, describeKeyPairsRequest, new Callable<DescribeKeyPairsResult>() {
             public DescribeKeyPairsResult call() throws Exception {
               DescribeKeyPairsResult result;
                 try {
@@ -11871,9 +11871,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
+    public SdkFuture<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
+        return AsyncRuntime.submit(executorService, describeAccountAttributesRequest, new Callable<DescribeAccountAttributesResult>() {
             public DescribeAccountAttributesResult call() throws Exception {
                 return describeAccountAttributes(describeAccountAttributesRequest);
         }
@@ -11940,11 +11940,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(
+    public SdkFuture<DescribeAccountAttributesResult> describeAccountAttributesAsync(
             final DescribeAccountAttributesRequest describeAccountAttributesRequest,
             final AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
+        return AsyncRuntime.submit(executorService, describeAccountAttributesRequest, new Callable<DescribeAccountAttributesResult>() {
             public DescribeAccountAttributesResult call() throws Exception {
               DescribeAccountAttributesResult result;
                 try {
@@ -11985,9 +11985,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
+    public SdkFuture<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpnConnectionsRequest, new Callable<DescribeVpnConnectionsResult>() {
             public DescribeVpnConnectionsResult call() throws Exception {
                 return describeVpnConnections(describeVpnConnectionsRequest);
         }
@@ -12024,11 +12024,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(
+    public SdkFuture<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpnConnectionsRequest, new Callable<DescribeVpnConnectionsResult>() {
             public DescribeVpnConnectionsResult call() throws Exception {
               DescribeVpnConnectionsResult result;
                 try {
@@ -12069,9 +12069,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
+    public SdkFuture<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
+        return AsyncRuntime.submit(executorService, requestSpotInstancesRequest, new Callable<RequestSpotInstancesResult>() {
             public RequestSpotInstancesResult call() throws Exception {
                 return requestSpotInstances(requestSpotInstancesRequest);
         }
@@ -12108,11 +12108,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(
+    public SdkFuture<RequestSpotInstancesResult> requestSpotInstancesAsync(
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
+        return AsyncRuntime.submit(executorService, requestSpotInstancesRequest, new Callable<RequestSpotInstancesResult>() {
             public RequestSpotInstancesResult call() throws Exception {
               RequestSpotInstancesResult result;
                 try {
@@ -12147,9 +12147,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
+    public SdkFuture<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
+        return AsyncRuntime.submit(executorService, cancelImportTaskRequest, new Callable<CancelImportTaskResult>() {
             public CancelImportTaskResult call() throws Exception {
                 return cancelImportTask(cancelImportTaskRequest);
         }
@@ -12180,11 +12180,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelImportTaskResult> cancelImportTaskAsync(
+    public SdkFuture<CancelImportTaskResult> cancelImportTaskAsync(
             final CancelImportTaskRequest cancelImportTaskRequest,
             final AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
+        return AsyncRuntime.submit(executorService, cancelImportTaskRequest, new Callable<CancelImportTaskResult>() {
             public CancelImportTaskResult call() throws Exception {
               CancelImportTaskResult result;
                 try {
@@ -12224,9 +12224,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
+    public SdkFuture<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeVpnGatewaysRequest, new Callable<DescribeVpnGatewaysResult>() {
             public DescribeVpnGatewaysResult call() throws Exception {
                 return describeVpnGateways(describeVpnGatewaysRequest);
         }
@@ -12262,11 +12262,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(
+    public SdkFuture<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeVpnGatewaysRequest, new Callable<DescribeVpnGatewaysResult>() {
             public DescribeVpnGatewaysResult call() throws Exception {
               DescribeVpnGatewaysResult result;
                 try {
@@ -12305,9 +12305,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleScreenshotResult> getConsoleScreenshotAsync(final GetConsoleScreenshotRequest getConsoleScreenshotRequest) 
+    public SdkFuture<GetConsoleScreenshotResult> getConsoleScreenshotAsync(final GetConsoleScreenshotRequest getConsoleScreenshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
+        return AsyncRuntime.submit(executorService, getConsoleScreenshotRequest, new Callable<GetConsoleScreenshotResult>() {
             public GetConsoleScreenshotResult call() throws Exception {
                 return getConsoleScreenshot(getConsoleScreenshotRequest);
         }
@@ -12342,11 +12342,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleScreenshotResult> getConsoleScreenshotAsync(
+    public SdkFuture<GetConsoleScreenshotResult> getConsoleScreenshotAsync(
             final GetConsoleScreenshotRequest getConsoleScreenshotRequest,
             final AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
+        return AsyncRuntime.submit(executorService, getConsoleScreenshotRequest, new Callable<GetConsoleScreenshotResult>() {
             public GetConsoleScreenshotResult call() throws Exception {
               GetConsoleScreenshotResult result;
                 try {
@@ -12387,9 +12387,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
+    public SdkFuture<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
+        return AsyncRuntime.submit(executorService, createRouteTableRequest, new Callable<CreateRouteTableResult>() {
             public CreateRouteTableResult call() throws Exception {
                 return createRouteTable(createRouteTableRequest);
         }
@@ -12426,11 +12426,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteTableResult> createRouteTableAsync(
+    public SdkFuture<CreateRouteTableResult> createRouteTableAsync(
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
+        return AsyncRuntime.submit(executorService, createRouteTableRequest, new Callable<CreateRouteTableResult>() {
             public CreateRouteTableResult call() throws Exception {
               CreateRouteTableResult result;
                 try {
@@ -12479,9 +12479,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
+    public SdkFuture<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
+        return AsyncRuntime.submit(executorService, describeScheduledInstanceAvailabilityRequest, new Callable<DescribeScheduledInstanceAvailabilityResult>() {
             public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
                 return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
         }
@@ -12526,11 +12526,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(
+    public SdkFuture<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(
             final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest,
             final AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
+        return AsyncRuntime.submit(executorService, describeScheduledInstanceAvailabilityRequest, new Callable<DescribeScheduledInstanceAvailabilityResult>() {
             public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
               DescribeScheduledInstanceAvailabilityResult result;
                 try {
@@ -12574,9 +12574,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
+    public SdkFuture<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcClassicLinkDnsSupportRequest, new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
             public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
                 return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
         }
@@ -12616,11 +12616,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(
+    public SdkFuture<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(
             final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcClassicLinkDnsSupportRequest, new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
             public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
               DescribeVpcClassicLinkDnsSupportResult result;
                 try {
@@ -12658,9 +12658,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
+    public SdkFuture<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
+        return AsyncRuntime.submit(executorService, unmonitorInstancesRequest, new Callable<UnmonitorInstancesResult>() {
             public UnmonitorInstancesResult call() throws Exception {
                 return unmonitorInstances(unmonitorInstancesRequest);
         }
@@ -12694,11 +12694,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(
+    public SdkFuture<UnmonitorInstancesResult> unmonitorInstancesAsync(
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
+        return AsyncRuntime.submit(executorService, unmonitorInstancesRequest, new Callable<UnmonitorInstancesResult>() {
             public UnmonitorInstancesResult call() throws Exception {
               UnmonitorInstancesResult result;
                 try {
@@ -12735,9 +12735,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
+    public SdkFuture<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteRouteTableRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteRouteTable(deleteRouteTableRequest);
                 return null;
@@ -12771,11 +12771,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteTableAsync(
+    public SdkFuture<Void> deleteRouteTableAsync(
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteRouteTableRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteRouteTable(deleteRouteTableRequest);
@@ -12836,9 +12836,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
+    public SdkFuture<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
+        return AsyncRuntime.submit(executorService, modifySpotFleetRequestRequest, new Callable<ModifySpotFleetRequestResult>() {
             public ModifySpotFleetRequestResult call() throws Exception {
                 return modifySpotFleetRequest(modifySpotFleetRequestRequest);
         }
@@ -12896,11 +12896,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(
+    public SdkFuture<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(
             final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest,
             final AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
+        return AsyncRuntime.submit(executorService, modifySpotFleetRequestRequest, new Callable<ModifySpotFleetRequestResult>() {
             public ModifySpotFleetRequestResult call() throws Exception {
               ModifySpotFleetRequestResult result;
                 try {
@@ -12949,9 +12949,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
+    public SdkFuture<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, createVpcPeeringConnectionRequest, new Callable<CreateVpcPeeringConnectionResult>() {
             public CreateVpcPeeringConnectionResult call() throws Exception {
                 return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
         }
@@ -12996,11 +12996,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(
+    public SdkFuture<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(
             final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
             final AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, createVpcPeeringConnectionRequest, new Callable<CreateVpcPeeringConnectionResult>() {
             public CreateVpcPeeringConnectionResult call() throws Exception {
               CreateVpcPeeringConnectionResult result;
                 try {
@@ -13040,9 +13040,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
+    public SdkFuture<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
+        return AsyncRuntime.submit(executorService, describeDhcpOptionsRequest, new Callable<DescribeDhcpOptionsResult>() {
             public DescribeDhcpOptionsResult call() throws Exception {
                 return describeDhcpOptions(describeDhcpOptionsRequest);
         }
@@ -13078,11 +13078,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(
+    public SdkFuture<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
+        return AsyncRuntime.submit(executorService, describeDhcpOptionsRequest, new Callable<DescribeDhcpOptionsResult>() {
             public DescribeDhcpOptionsResult call() throws Exception {
               DescribeDhcpOptionsResult result;
                 try {
@@ -13117,9 +13117,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
+    public SdkFuture<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyVpcAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifyVpcAttribute(modifyVpcAttributeRequest);
                 return null;
@@ -13151,11 +13151,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVpcAttributeAsync(
+    public SdkFuture<Void> modifyVpcAttributeAsync(
             final ModifyVpcAttributeRequest modifyVpcAttributeRequest,
             final AsyncHandler<ModifyVpcAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifyVpcAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifyVpcAttribute(modifyVpcAttributeRequest);
@@ -13190,9 +13190,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
+    public SdkFuture<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifySubnetAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 modifySubnetAttribute(modifySubnetAttributeRequest);
                 return null;
@@ -13225,11 +13225,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySubnetAttributeAsync(
+    public SdkFuture<Void> modifySubnetAttributeAsync(
             final ModifySubnetAttributeRequest modifySubnetAttributeRequest,
             final AsyncHandler<ModifySubnetAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, modifySubnetAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 modifySubnetAttribute(modifySubnetAttributeRequest);
@@ -13268,9 +13268,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
+    public SdkFuture<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, acceptVpcPeeringConnectionRequest, new Callable<AcceptVpcPeeringConnectionResult>() {
             public AcceptVpcPeeringConnectionResult call() throws Exception {
                 return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
         }
@@ -13306,11 +13306,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(
+    public SdkFuture<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(
             final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
             final AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, acceptVpcPeeringConnectionRequest, new Callable<AcceptVpcPeeringConnectionResult>() {
             public AcceptVpcPeeringConnectionResult call() throws Exception {
               AcceptVpcPeeringConnectionResult result;
                 try {
@@ -13352,9 +13352,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
+    public SdkFuture<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
+        return AsyncRuntime.submit(executorService, copyImageRequest, new Callable<CopyImageResult>() {
             public CopyImageResult call() throws Exception {
                 return copyImage(copyImageRequest);
         }
@@ -13392,11 +13392,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopyImageResult> copyImageAsync(
+    public SdkFuture<CopyImageResult> copyImageAsync(
             final CopyImageRequest copyImageRequest,
             final AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
+        return AsyncRuntime.submit(executorService, copyImageRequest, new Callable<CopyImageResult>() {
             public CopyImageResult call() throws Exception {
               CopyImageResult result;
                 try {
@@ -13434,9 +13434,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
+    public SdkFuture<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteDhcpOptionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDhcpOptions(deleteDhcpOptionsRequest);
                 return null;
@@ -13471,11 +13471,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDhcpOptionsAsync(
+    public SdkFuture<Void> deleteDhcpOptionsAsync(
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteDhcpOptionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteDhcpOptions(deleteDhcpOptionsRequest);
@@ -13524,9 +13524,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
+    public SdkFuture<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return AsyncRuntime.submit(executorService, describeVolumesRequest, new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
                 return describeVolumes(describeVolumesRequest);
         }
@@ -13572,11 +13572,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumesResult> describeVolumesAsync(
+    public SdkFuture<DescribeVolumesResult> describeVolumesAsync(
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return AsyncRuntime.submit(executorService, describeVolumesRequest, new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
               DescribeVolumesResult result;
                 try {
@@ -13612,9 +13612,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
+    public SdkFuture<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteNetworkAclRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNetworkAcl(deleteNetworkAclRequest);
                 return null;
@@ -13647,11 +13647,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclAsync(
+    public SdkFuture<Void> deleteNetworkAclAsync(
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteNetworkAclRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteNetworkAcl(deleteNetworkAclRequest);
@@ -13696,9 +13696,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
+    public SdkFuture<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpnConnectionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpnConnection(deleteVpnConnectionRequest);
                 return null;
@@ -13741,11 +13741,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionAsync(
+    public SdkFuture<Void> deleteVpnConnectionAsync(
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpnConnectionRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteVpnConnection(deleteVpnConnectionRequest);
@@ -13789,9 +13789,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
+    public SdkFuture<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
+        return AsyncRuntime.submit(executorService, cancelSpotFleetRequestsRequest, new Callable<CancelSpotFleetRequestsResult>() {
             public CancelSpotFleetRequestsResult call() throws Exception {
                 return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
         }
@@ -13832,11 +13832,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(
+    public SdkFuture<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(
             final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest,
             final AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
+        return AsyncRuntime.submit(executorService, cancelSpotFleetRequestsRequest, new Callable<CancelSpotFleetRequestsResult>() {
             public CancelSpotFleetRequestsResult call() throws Exception {
               CancelSpotFleetRequestsResult result;
                 try {
@@ -13899,9 +13899,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest) 
+    public SdkFuture<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
+        return AsyncRuntime.submit(executorService, modifyVpcPeeringConnectionOptionsRequest, new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
             public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
                 return modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
         }
@@ -13960,11 +13960,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(
+    public SdkFuture<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(
             final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest,
             final AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
+        return AsyncRuntime.submit(executorService, modifyVpcPeeringConnectionOptionsRequest, new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
             public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
               ModifyVpcPeeringConnectionOptionsResult result;
                 try {
@@ -14067,9 +14067,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
+    public SdkFuture<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+        return AsyncRuntime.submit(executorService, describeSnapshotsRequest, new Callable<DescribeSnapshotsResult>() {
             public DescribeSnapshotsResult call() throws Exception {
                 return describeSnapshots(describeSnapshotsRequest);
         }
@@ -14168,11 +14168,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotsResult> describeSnapshotsAsync(
+    public SdkFuture<DescribeSnapshotsResult> describeSnapshotsAsync(
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+        return AsyncRuntime.submit(executorService, describeSnapshotsRequest, new Callable<DescribeSnapshotsResult>() {
             public DescribeSnapshotsResult call() throws Exception {
               DescribeSnapshotsResult result;
                 try {
@@ -14211,9 +14211,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
+    public SdkFuture<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
+        return AsyncRuntime.submit(executorService, describePrefixListsRequest, new Callable<DescribePrefixListsResult>() {
             public DescribePrefixListsResult call() throws Exception {
                 return describePrefixLists(describePrefixListsRequest);
         }
@@ -14248,11 +14248,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePrefixListsResult> describePrefixListsAsync(
+    public SdkFuture<DescribePrefixListsResult> describePrefixListsAsync(
             final DescribePrefixListsRequest describePrefixListsRequest,
             final AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
+        return AsyncRuntime.submit(executorService, describePrefixListsRequest, new Callable<DescribePrefixListsResult>() {
             public DescribePrefixListsResult call() throws Exception {
               DescribePrefixListsResult result;
                 try {
@@ -14291,9 +14291,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
+    public SdkFuture<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, replaceNetworkAclEntryRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
                 return null;
@@ -14329,11 +14329,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceNetworkAclEntryAsync(
+    public SdkFuture<Void> replaceNetworkAclEntryAsync(
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, replaceNetworkAclEntryRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
@@ -14378,9 +14378,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
+    public SdkFuture<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
+        return AsyncRuntime.submit(executorService, createFlowLogsRequest, new Callable<CreateFlowLogsResult>() {
             public CreateFlowLogsResult call() throws Exception {
                 return createFlowLogs(createFlowLogsRequest);
         }
@@ -14422,11 +14422,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateFlowLogsResult> createFlowLogsAsync(
+    public SdkFuture<CreateFlowLogsResult> createFlowLogsAsync(
             final CreateFlowLogsRequest createFlowLogsRequest,
             final AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
+        return AsyncRuntime.submit(executorService, createFlowLogsRequest, new Callable<CreateFlowLogsResult>() {
             public CreateFlowLogsResult call() throws Exception {
               CreateFlowLogsResult result;
                 try {
@@ -14463,9 +14463,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
+    public SdkFuture<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteInternetGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteInternetGateway(deleteInternetGatewayRequest);
                 return null;
@@ -14499,11 +14499,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteInternetGatewayAsync(
+    public SdkFuture<Void> deleteInternetGatewayAsync(
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteInternetGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteInternetGateway(deleteInternetGatewayRequest);
@@ -14584,9 +14584,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
+    public SdkFuture<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
+        return AsyncRuntime.submit(executorService, describeVolumeStatusRequest, new Callable<DescribeVolumeStatusResult>() {
             public DescribeVolumeStatusResult call() throws Exception {
                 return describeVolumeStatus(describeVolumeStatusRequest);
         }
@@ -14664,11 +14664,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(
+    public SdkFuture<DescribeVolumeStatusResult> describeVolumeStatusAsync(
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
+        return AsyncRuntime.submit(executorService, describeVolumeStatusRequest, new Callable<DescribeVolumeStatusResult>() {
             public DescribeVolumeStatusResult call() throws Exception {
               DescribeVolumeStatusResult result;
                 try {
@@ -14705,9 +14705,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
+    public SdkFuture<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSpotDatafeedSubscriptionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
                 return null;
@@ -14741,11 +14741,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSpotDatafeedSubscriptionAsync(
+    public SdkFuture<Void> deleteSpotDatafeedSubscriptionAsync(
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSpotDatafeedSubscriptionRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
@@ -14803,9 +14803,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
+    public SdkFuture<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
+        return AsyncRuntime.submit(executorService, modifyInstancePlacementRequest, new Callable<ModifyInstancePlacementResult>() {
             public ModifyInstancePlacementResult call() throws Exception {
                 return modifyInstancePlacement(modifyInstancePlacementRequest);
         }
@@ -14860,11 +14860,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(
+    public SdkFuture<ModifyInstancePlacementResult> modifyInstancePlacementAsync(
             final ModifyInstancePlacementRequest modifyInstancePlacementRequest,
             final AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
+        return AsyncRuntime.submit(executorService, modifyInstancePlacementRequest, new Callable<ModifyInstancePlacementResult>() {
             public ModifyInstancePlacementResult call() throws Exception {
               ModifyInstancePlacementResult result;
                 try {
@@ -14900,9 +14900,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
+    public SdkFuture<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
+        return AsyncRuntime.submit(executorService, cancelBundleTaskRequest, new Callable<CancelBundleTaskResult>() {
             public CancelBundleTaskResult call() throws Exception {
                 return cancelBundleTask(cancelBundleTaskRequest);
         }
@@ -14934,11 +14934,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(
+    public SdkFuture<CancelBundleTaskResult> cancelBundleTaskAsync(
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
+        return AsyncRuntime.submit(executorService, cancelBundleTaskRequest, new Callable<CancelBundleTaskResult>() {
             public CancelBundleTaskResult call() throws Exception {
               CancelBundleTaskResult result;
                 try {
@@ -14980,9 +14980,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
+    public SdkFuture<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createInternetGatewayRequest, new Callable<CreateInternetGatewayResult>() {
             public CreateInternetGatewayResult call() throws Exception {
                 return createInternetGateway(createInternetGatewayRequest);
         }
@@ -15020,11 +15020,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(
+    public SdkFuture<CreateInternetGatewayResult> createInternetGatewayAsync(
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createInternetGatewayRequest, new Callable<CreateInternetGatewayResult>() {
             public CreateInternetGatewayResult call() throws Exception {
               CreateInternetGatewayResult result;
                 try {
@@ -15082,9 +15082,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
+    public SdkFuture<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
+        return AsyncRuntime.submit(executorService, requestSpotFleetRequest, new Callable<RequestSpotFleetResult>() {
             public RequestSpotFleetResult call() throws Exception {
                 return requestSpotFleet(requestSpotFleetRequest);
         }
@@ -15138,11 +15138,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotFleetResult> requestSpotFleetAsync(
+    public SdkFuture<RequestSpotFleetResult> requestSpotFleetAsync(
             final RequestSpotFleetRequest requestSpotFleetRequest,
             final AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
+        return AsyncRuntime.submit(executorService, requestSpotFleetRequest, new Callable<RequestSpotFleetResult>() {
             public RequestSpotFleetResult call() throws Exception {
               RequestSpotFleetResult result;
                 try {
@@ -15183,9 +15183,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
+    public SdkFuture<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesRequest, new Callable<DescribeReservedInstancesResult>() {
             public DescribeReservedInstancesResult call() throws Exception {
                 return describeReservedInstances(describeReservedInstancesRequest);
         }
@@ -15222,11 +15222,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(
+    public SdkFuture<DescribeReservedInstancesResult> describeReservedInstancesAsync(
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
+        return AsyncRuntime.submit(executorService, describeReservedInstancesRequest, new Callable<DescribeReservedInstancesResult>() {
             public DescribeReservedInstancesResult call() throws Exception {
               DescribeReservedInstancesResult result;
                 try {
@@ -15265,9 +15265,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest) 
+    public SdkFuture<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
+        return AsyncRuntime.submit(executorService, describeSecurityGroupReferencesRequest, new Callable<DescribeSecurityGroupReferencesResult>() {
             public DescribeSecurityGroupReferencesResult call() throws Exception {
                 return describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
         }
@@ -15302,11 +15302,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(
+    public SdkFuture<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(
             final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest,
             final AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
+        return AsyncRuntime.submit(executorService, describeSecurityGroupReferencesRequest, new Callable<DescribeSecurityGroupReferencesResult>() {
             public DescribeSecurityGroupReferencesResult call() throws Exception {
               DescribeSecurityGroupReferencesResult result;
                 try {
@@ -15342,9 +15342,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
+    public SdkFuture<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeImportSnapshotTasksRequest, new Callable<DescribeImportSnapshotTasksResult>() {
             public DescribeImportSnapshotTasksResult call() throws Exception {
                 return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
         }
@@ -15376,11 +15376,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(
+    public SdkFuture<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(
             final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest,
             final AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeImportSnapshotTasksRequest, new Callable<DescribeImportSnapshotTasksResult>() {
             public DescribeImportSnapshotTasksResult call() throws Exception {
               DescribeImportSnapshotTasksResult result;
                 try {
@@ -15423,9 +15423,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
+    public SdkFuture<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
+        return AsyncRuntime.submit(executorService, enableVpcClassicLinkRequest, new Callable<EnableVpcClassicLinkResult>() {
             public EnableVpcClassicLinkResult call() throws Exception {
                 return enableVpcClassicLink(enableVpcClassicLinkRequest);
         }
@@ -15464,11 +15464,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(
+    public SdkFuture<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(
             final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
             final AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
+        return AsyncRuntime.submit(executorService, enableVpcClassicLinkRequest, new Callable<EnableVpcClassicLinkResult>() {
             public EnableVpcClassicLinkResult call() throws Exception {
               EnableVpcClassicLinkResult result;
                 try {
@@ -15508,9 +15508,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
+    public SdkFuture<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpcRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpc(deleteVpcRequest);
                 return null;
@@ -15547,11 +15547,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpcAsync(
+    public SdkFuture<Void> deleteVpcAsync(
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpcRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteVpc(deleteVpcRequest);
@@ -15587,9 +15587,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
+    public SdkFuture<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
+        return AsyncRuntime.submit(executorService, describeFlowLogsRequest, new Callable<DescribeFlowLogsResult>() {
             public DescribeFlowLogsResult call() throws Exception {
                 return describeFlowLogs(describeFlowLogsRequest);
         }
@@ -15622,11 +15622,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeFlowLogsResult> describeFlowLogsAsync(
+    public SdkFuture<DescribeFlowLogsResult> describeFlowLogsAsync(
             final DescribeFlowLogsRequest describeFlowLogsRequest,
             final AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
+        return AsyncRuntime.submit(executorService, describeFlowLogsRequest, new Callable<DescribeFlowLogsResult>() {
             public DescribeFlowLogsResult call() throws Exception {
               DescribeFlowLogsResult result;
                 try {
@@ -15692,9 +15692,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
+    public SdkFuture<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
+        return AsyncRuntime.submit(executorService, createSubnetRequest, new Callable<CreateSubnetResult>() {
             public CreateSubnetResult call() throws Exception {
                 return createSubnet(createSubnetRequest);
         }
@@ -15756,11 +15756,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSubnetResult> createSubnetAsync(
+    public SdkFuture<CreateSubnetResult> createSubnetAsync(
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
+        return AsyncRuntime.submit(executorService, createSubnetRequest, new Callable<CreateSubnetResult>() {
             public CreateSubnetResult call() throws Exception {
               CreateSubnetResult result;
                 try {
@@ -15798,9 +15798,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
+    public SdkFuture<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetNetworkInterfaceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
                 return null;
@@ -15835,11 +15835,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetNetworkInterfaceAttributeAsync(
+    public SdkFuture<Void> resetNetworkInterfaceAttributeAsync(
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, resetNetworkInterfaceAttributeRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
@@ -15887,9 +15887,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
+    public SdkFuture<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
+        return AsyncRuntime.submit(executorService, releaseHostsRequest, new Callable<ReleaseHostsResult>() {
             public ReleaseHostsResult call() throws Exception {
                 return releaseHosts(releaseHostsRequest);
         }
@@ -15934,11 +15934,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReleaseHostsResult> releaseHostsAsync(
+    public SdkFuture<ReleaseHostsResult> releaseHostsAsync(
             final ReleaseHostsRequest releaseHostsRequest,
             final AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
+        return AsyncRuntime.submit(executorService, releaseHostsRequest, new Callable<ReleaseHostsResult>() {
             public ReleaseHostsResult call() throws Exception {
               ReleaseHostsResult result;
                 try {
@@ -15982,9 +15982,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
+    public SdkFuture<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, reportInstanceStatusRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 reportInstanceStatus(reportInstanceStatusRequest);
                 return null;
@@ -16025,11 +16025,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> reportInstanceStatusAsync(
+    public SdkFuture<Void> reportInstanceStatusAsync(
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, reportInstanceStatusRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 reportInstanceStatus(reportInstanceStatusRequest);
@@ -16063,9 +16063,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
+    public SdkFuture<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeNatGatewaysRequest, new Callable<DescribeNatGatewaysResult>() {
             public DescribeNatGatewaysResult call() throws Exception {
                 return describeNatGateways(describeNatGatewaysRequest);
         }
@@ -16096,11 +16096,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(
+    public SdkFuture<DescribeNatGatewaysResult> describeNatGatewaysAsync(
             final DescribeNatGatewaysRequest describeNatGatewaysRequest,
             final AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeNatGatewaysRequest, new Callable<DescribeNatGatewaysResult>() {
             public DescribeNatGatewaysResult call() throws Exception {
               DescribeNatGatewaysResult result;
                 try {
@@ -16137,9 +16137,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
+    public SdkFuture<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcPeeringConnectionsRequest, new Callable<DescribeVpcPeeringConnectionsResult>() {
             public DescribeVpcPeeringConnectionsResult call() throws Exception {
                 return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
         }
@@ -16172,11 +16172,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(
+    public SdkFuture<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(
             final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
             final AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcPeeringConnectionsRequest, new Callable<DescribeVpcPeeringConnectionsResult>() {
             public DescribeVpcPeeringConnectionsResult call() throws Exception {
               DescribeVpcPeeringConnectionsResult result;
                 try {
@@ -16233,9 +16233,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
+    public SdkFuture<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
+        return AsyncRuntime.submit(executorService, createVolumeRequest, new Callable<CreateVolumeResult>() {
             public CreateVolumeResult call() throws Exception {
                 return createVolume(createVolumeRequest);
         }
@@ -16288,11 +16288,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVolumeResult> createVolumeAsync(
+    public SdkFuture<CreateVolumeResult> createVolumeAsync(
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
+        return AsyncRuntime.submit(executorService, createVolumeRequest, new Callable<CreateVolumeResult>() {
             public CreateVolumeResult call() throws Exception {
               CreateVolumeResult result;
                 try {
@@ -16338,9 +16338,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
+    public SdkFuture<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
+        return AsyncRuntime.submit(executorService, importVolumeRequest, new Callable<ImportVolumeResult>() {
             public ImportVolumeResult call() throws Exception {
                 return importVolume(importVolumeRequest);
         }
@@ -16382,11 +16382,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportVolumeResult> importVolumeAsync(
+    public SdkFuture<ImportVolumeResult> importVolumeAsync(
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
+        return AsyncRuntime.submit(executorService, importVolumeRequest, new Callable<ImportVolumeResult>() {
             public ImportVolumeResult call() throws Exception {
               ImportVolumeResult result;
                 try {
@@ -16428,9 +16428,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
+    public SdkFuture<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
+        return AsyncRuntime.submit(executorService, createInstanceExportTaskRequest, new Callable<CreateInstanceExportTaskResult>() {
             public CreateInstanceExportTaskResult call() throws Exception {
                 return createInstanceExportTask(createInstanceExportTaskRequest);
         }
@@ -16468,11 +16468,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(
+    public SdkFuture<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
+        return AsyncRuntime.submit(executorService, createInstanceExportTaskRequest, new Callable<CreateInstanceExportTaskResult>() {
             public CreateInstanceExportTaskResult call() throws Exception {
               CreateInstanceExportTaskResult result;
                 try {
@@ -16508,9 +16508,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
+    public SdkFuture<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteKeyPairRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteKeyPair(deleteKeyPairRequest);
                 return null;
@@ -16543,11 +16543,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteKeyPairAsync(
+    public SdkFuture<Void> deleteKeyPairAsync(
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteKeyPairRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteKeyPair(deleteKeyPairRequest);
@@ -16587,9 +16587,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
+    public SdkFuture<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
+        return AsyncRuntime.submit(executorService, describeAddressesRequest, new Callable<DescribeAddressesResult>() {
             public DescribeAddressesResult call() throws Exception {
                 return describeAddresses(describeAddressesRequest);
         }
@@ -16626,11 +16626,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAddressesResult> describeAddressesAsync(
+    public SdkFuture<DescribeAddressesResult> describeAddressesAsync(
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
+        return AsyncRuntime.submit(executorService, describeAddressesRequest, new Callable<DescribeAddressesResult>() {
             public DescribeAddressesResult call() throws Exception {
               DescribeAddressesResult result;
                 try {
@@ -16665,9 +16665,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
+    public SdkFuture<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteRoute(deleteRouteRequest);
                 return null;
@@ -16699,11 +16699,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteAsync(
+    public SdkFuture<Void> deleteRouteAsync(
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteRoute(deleteRouteRequest);
@@ -16750,9 +16750,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
+    public SdkFuture<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, revokeSecurityGroupIngressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
                 return null;
@@ -16797,11 +16797,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupIngressAsync(
+    public SdkFuture<Void> revokeSecurityGroupIngressAsync(
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, revokeSecurityGroupIngressRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
@@ -16837,9 +16837,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
+    public SdkFuture<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, deleteVpcEndpointsRequest, new Callable<DeleteVpcEndpointsResult>() {
             public DeleteVpcEndpointsResult call() throws Exception {
                 return deleteVpcEndpoints(deleteVpcEndpointsRequest);
         }
@@ -16872,11 +16872,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(
+    public SdkFuture<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(
             final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest,
             final AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
+        return AsyncRuntime.submit(executorService, deleteVpcEndpointsRequest, new Callable<DeleteVpcEndpointsResult>() {
             public DeleteVpcEndpointsResult call() throws Exception {
               DeleteVpcEndpointsResult result;
                 try {
@@ -16930,9 +16930,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
+    public SdkFuture<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, releaseAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 releaseAddress(releaseAddressRequest);
                 return null;
@@ -16983,11 +16983,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> releaseAddressAsync(
+    public SdkFuture<Void> releaseAddressAsync(
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, releaseAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 releaseAddress(releaseAddressRequest);
@@ -17025,9 +17025,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
+    public SdkFuture<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotDatafeedSubscriptionRequest, new Callable<DescribeSpotDatafeedSubscriptionResult>() {
             public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
                 return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
         }
@@ -17062,11 +17062,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(
+    public SdkFuture<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+        return AsyncRuntime.submit(executorService, describeSpotDatafeedSubscriptionRequest, new Callable<DescribeSpotDatafeedSubscriptionResult>() {
             public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
               DescribeSpotDatafeedSubscriptionResult result;
                 try {
@@ -17101,9 +17101,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
+    public SdkFuture<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
+        return AsyncRuntime.submit(executorService, deleteFlowLogsRequest, new Callable<DeleteFlowLogsResult>() {
             public DeleteFlowLogsResult call() throws Exception {
                 return deleteFlowLogs(deleteFlowLogsRequest);
         }
@@ -17134,11 +17134,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(
+    public SdkFuture<DeleteFlowLogsResult> deleteFlowLogsAsync(
             final DeleteFlowLogsRequest deleteFlowLogsRequest,
             final AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
+        return AsyncRuntime.submit(executorService, deleteFlowLogsRequest, new Callable<DeleteFlowLogsResult>() {
             public DeleteFlowLogsResult call() throws Exception {
               DeleteFlowLogsResult result;
                 try {
@@ -17178,9 +17178,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
+    public SdkFuture<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
+        return AsyncRuntime.submit(executorService, describeRegionsRequest, new Callable<DescribeRegionsResult>() {
             public DescribeRegionsResult call() throws Exception {
                 return describeRegions(describeRegionsRequest);
         }
@@ -17216,11 +17216,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRegionsResult> describeRegionsAsync(
+    public SdkFuture<DescribeRegionsResult> describeRegionsAsync(
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
+        return AsyncRuntime.submit(executorService, describeRegionsRequest, new Callable<DescribeRegionsResult>() {
             public DescribeRegionsResult call() throws Exception {
               DescribeRegionsResult result;
                 try {
@@ -17257,9 +17257,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
+    public SdkFuture<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteNetworkAclEntryRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
                 return null;
@@ -17293,11 +17293,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclEntryAsync(
+    public SdkFuture<Void> deleteNetworkAclEntryAsync(
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteNetworkAclEntryRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
@@ -17341,9 +17341,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
+    public SdkFuture<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeConversionTasksRequest, new Callable<DescribeConversionTasksResult>() {
             public DescribeConversionTasksResult call() throws Exception {
                 return describeConversionTasks(describeConversionTasksRequest);
         }
@@ -17384,11 +17384,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeConversionTasksResult> describeConversionTasksAsync(
+    public SdkFuture<DescribeConversionTasksResult> describeConversionTasksAsync(
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeConversionTasksRequest, new Callable<DescribeConversionTasksResult>() {
             public DescribeConversionTasksResult call() throws Exception {
               DescribeConversionTasksResult result;
                 try {
@@ -17439,9 +17439,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
+    public SdkFuture<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
+        return AsyncRuntime.submit(executorService, purchaseReservedInstancesOfferingRequest, new Callable<PurchaseReservedInstancesOfferingResult>() {
             public PurchaseReservedInstancesOfferingResult call() throws Exception {
                 return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
         }
@@ -17488,11 +17488,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(
+    public SdkFuture<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
+        return AsyncRuntime.submit(executorService, purchaseReservedInstancesOfferingRequest, new Callable<PurchaseReservedInstancesOfferingResult>() {
             public PurchaseReservedInstancesOfferingResult call() throws Exception {
               PurchaseReservedInstancesOfferingResult result;
                 try {
@@ -17538,9 +17538,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
+    public SdkFuture<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 disassociateAddress(disassociateAddressRequest);
                 return null;
@@ -17583,11 +17583,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateAddressAsync(
+    public SdkFuture<Void> disassociateAddressAsync(
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, disassociateAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 disassociateAddress(disassociateAddressRequest);
@@ -17627,9 +17627,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
+    public SdkFuture<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSecurityGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteSecurityGroup(deleteSecurityGroupRequest);
                 return null;
@@ -17667,11 +17667,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSecurityGroupAsync(
+    public SdkFuture<Void> deleteSecurityGroupAsync(
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteSecurityGroupRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteSecurityGroup(deleteSecurityGroupRequest);
@@ -17717,9 +17717,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
+    public SdkFuture<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, rebootInstancesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 rebootInstances(rebootInstancesRequest);
                 return null;
@@ -17763,11 +17763,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> rebootInstancesAsync(
+    public SdkFuture<Void> rebootInstancesAsync(
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, rebootInstancesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 rebootInstances(rebootInstancesRequest);
@@ -17807,9 +17807,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
+    public SdkFuture<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, rejectVpcPeeringConnectionRequest, new Callable<RejectVpcPeeringConnectionResult>() {
             public RejectVpcPeeringConnectionResult call() throws Exception {
                 return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
         }
@@ -17846,11 +17846,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(
+    public SdkFuture<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(
             final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
             final AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
+        return AsyncRuntime.submit(executorService, rejectVpcPeeringConnectionRequest, new Callable<RejectVpcPeeringConnectionResult>() {
             public RejectVpcPeeringConnectionResult call() throws Exception {
               RejectVpcPeeringConnectionResult result;
                 try {
@@ -17887,9 +17887,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
+    public SdkFuture<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcEndpointServicesRequest, new Callable<DescribeVpcEndpointServicesResult>() {
             public DescribeVpcEndpointServicesResult call() throws Exception {
                 return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
         }
@@ -17922,11 +17922,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(
+    public SdkFuture<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(
             final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest,
             final AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
+        return AsyncRuntime.submit(executorService, describeVpcEndpointServicesRequest, new Callable<DescribeVpcEndpointServicesResult>() {
             public DescribeVpcEndpointServicesResult call() throws Exception {
               DescribeVpcEndpointServicesResult result;
                 try {
@@ -17969,9 +17969,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
+    public SdkFuture<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createTags(createTagsRequest);
                 return null;
@@ -18011,11 +18011,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createTagsAsync(
+    public SdkFuture<Void> createTagsAsync(
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createTagsRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 createTags(createTagsRequest);
@@ -18063,9 +18063,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
+    public SdkFuture<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateDhcpOptionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 associateDhcpOptions(associateDhcpOptionsRequest);
                 return null;
@@ -18111,11 +18111,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> associateDhcpOptionsAsync(
+    public SdkFuture<Void> associateDhcpOptionsAsync(
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, associateDhcpOptionsRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 associateDhcpOptions(associateDhcpOptionsRequest);
@@ -18158,9 +18158,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
+    public SdkFuture<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createVpnConnectionRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createVpnConnectionRoute(createVpnConnectionRouteRequest);
                 return null;
@@ -18201,11 +18201,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createVpnConnectionRouteAsync(
+    public SdkFuture<Void> createVpnConnectionRouteAsync(
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createVpnConnectionRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 createVpnConnectionRoute(createVpnConnectionRouteRequest);
@@ -18242,9 +18242,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
+    public SdkFuture<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
+        return AsyncRuntime.submit(executorService, detachClassicLinkVpcRequest, new Callable<DetachClassicLinkVpcResult>() {
             public DetachClassicLinkVpcResult call() throws Exception {
                 return detachClassicLinkVpc(detachClassicLinkVpcRequest);
         }
@@ -18278,11 +18278,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(
+    public SdkFuture<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(
             final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
             final AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
+        return AsyncRuntime.submit(executorService, detachClassicLinkVpcRequest, new Callable<DetachClassicLinkVpcResult>() {
             public DetachClassicLinkVpcResult call() throws Exception {
               DetachClassicLinkVpcResult result;
                 try {
@@ -18348,9 +18348,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
+    public SdkFuture<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createCustomerGatewayRequest, new Callable<CreateCustomerGatewayResult>() {
             public CreateCustomerGatewayResult call() throws Exception {
                 return createCustomerGateway(createCustomerGatewayRequest);
         }
@@ -18412,11 +18412,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(
+    public SdkFuture<CreateCustomerGatewayResult> createCustomerGatewayAsync(
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
+        return AsyncRuntime.submit(executorService, createCustomerGatewayRequest, new Callable<CreateCustomerGatewayResult>() {
             public CreateCustomerGatewayResult call() throws Exception {
               CreateCustomerGatewayResult result;
                 try {
@@ -18458,9 +18458,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
+    public SdkFuture<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeSnapshotAttributeRequest, new Callable<DescribeSnapshotAttributeResult>() {
             public DescribeSnapshotAttributeResult call() throws Exception {
                 return describeSnapshotAttribute(describeSnapshotAttributeRequest);
         }
@@ -18498,11 +18498,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(
+    public SdkFuture<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
+        return AsyncRuntime.submit(executorService, describeSnapshotAttributeRequest, new Callable<DescribeSnapshotAttributeResult>() {
             public DescribeSnapshotAttributeResult call() throws Exception {
               DescribeSnapshotAttributeResult result;
                 try {
@@ -18543,9 +18543,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
+    public SdkFuture<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeCustomerGatewaysRequest, new Callable<DescribeCustomerGatewaysResult>() {
             public DescribeCustomerGatewaysResult call() throws Exception {
                 return describeCustomerGateways(describeCustomerGatewaysRequest);
         }
@@ -18582,11 +18582,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
+    public SdkFuture<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
             final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
             final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
+        return AsyncRuntime.submit(executorService, describeCustomerGatewaysRequest, new Callable<DescribeCustomerGatewaysResult>() {
             public DescribeCustomerGatewaysResult call() throws Exception {
               DescribeCustomerGatewaysResult result;
                 try {
@@ -18628,9 +18628,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
+    public SdkFuture<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
+        return AsyncRuntime.submit(executorService, moveAddressToVpcRequest, new Callable<MoveAddressToVpcResult>() {
             public MoveAddressToVpcResult call() throws Exception {
                 return moveAddressToVpc(moveAddressToVpcRequest);
         }
@@ -18668,11 +18668,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(
+    public SdkFuture<MoveAddressToVpcResult> moveAddressToVpcAsync(
             final MoveAddressToVpcRequest moveAddressToVpcRequest,
             final AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
+        return AsyncRuntime.submit(executorService, moveAddressToVpcRequest, new Callable<MoveAddressToVpcResult>() {
             public MoveAddressToVpcResult call() throws Exception {
               MoveAddressToVpcResult result;
                 try {
@@ -18711,9 +18711,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
+    public SdkFuture<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpnConnectionRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
                 return null;
@@ -18749,11 +18749,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionRouteAsync(
+    public SdkFuture<Void> deleteVpnConnectionRouteAsync(
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpnConnectionRouteRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
@@ -18791,9 +18791,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
+    public SdkFuture<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpnGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVpnGateway(deleteVpnGatewayRequest);
                 return null;
@@ -18829,11 +18829,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnGatewayAsync(
+    public SdkFuture<Void> deleteVpnGatewayAsync(
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVpnGatewayRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteVpnGateway(deleteVpnGatewayRequest);
@@ -18882,9 +18882,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
+    public SdkFuture<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, revokeSecurityGroupEgressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
                 return null;
@@ -18931,11 +18931,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupEgressAsync(
+    public SdkFuture<Void> revokeSecurityGroupEgressAsync(
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, revokeSecurityGroupEgressRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
@@ -18975,9 +18975,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
+    public SdkFuture<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeBundleTasksRequest, new Callable<DescribeBundleTasksResult>() {
             public DescribeBundleTasksResult call() throws Exception {
                 return describeBundleTasks(describeBundleTasksRequest);
         }
@@ -19014,11 +19014,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(
+    public SdkFuture<DescribeBundleTasksResult> describeBundleTasksAsync(
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
+        return AsyncRuntime.submit(executorService, describeBundleTasksRequest, new Callable<DescribeBundleTasksResult>() {
             public DescribeBundleTasksResult call() throws Exception {
               DescribeBundleTasksResult result;
                 try {
@@ -19074,9 +19074,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
+    public SdkFuture<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
+        return AsyncRuntime.submit(executorService, createVpcRequest, new Callable<CreateVpcResult>() {
             public CreateVpcResult call() throws Exception {
                 return createVpc(createVpcRequest);
         }
@@ -19128,11 +19128,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcResult> createVpcAsync(
+    public SdkFuture<CreateVpcResult> createVpcAsync(
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
+        return AsyncRuntime.submit(executorService, createVpcRequest, new Callable<CreateVpcResult>() {
             public CreateVpcResult call() throws Exception {
               CreateVpcResult result;
                 try {
@@ -19177,9 +19177,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
+    public SdkFuture<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+        return AsyncRuntime.submit(executorService, associateRouteTableRequest, new Callable<AssociateRouteTableResult>() {
             public AssociateRouteTableResult call() throws Exception {
                 return associateRouteTable(associateRouteTableRequest);
         }
@@ -19220,11 +19220,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateRouteTableResult> associateRouteTableAsync(
+    public SdkFuture<AssociateRouteTableResult> associateRouteTableAsync(
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+        return AsyncRuntime.submit(executorService, associateRouteTableRequest, new Callable<AssociateRouteTableResult>() {
             public AssociateRouteTableResult call() throws Exception {
               AssociateRouteTableResult result;
                 try {
@@ -23,6 +23,7 @@ import android.text.TextUtils;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.async.AsyncRuntime;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.regions.Region;
 import com.amazonaws.util.StringUtils;
@@ -41,17 +42,25 @@ import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
 
+import java.io.File;
+import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.UnrecoverableKeyException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import javax.net.SocketFactory;
 
@@ -124,6 +133,21 @@ public class AWSIotMqttManager {
      * to proved per-topic message arrived callbacks.
      */
     private final Map<String, AWSIotMqttTopic> topicListeners;
+    /**
+     * The topic filters of topicListeners, to find the subscriptions matching
+     * the topic of an incoming message.
+     */
+    private final TopicTrie<AWSIotMqttTopic> topicTrie = new TopicTrie<AWSIotMqttTopic>();
+    /**
+     * Subscriptions matching the incoming message being dispatched. Only used
+     * by the MQTT client callback thread, which handles messages one by one.
+     */
+    private final List<AWSIotMqttTopic> matchedTopics = new ArrayList<AWSIotMqttTopic>();
+    /**
+     * Executor on which the callbacks of incoming messages are invoked, or
+     * null to invoke them on the MQTT client callback thread.
+     */
+    private volatile Executor messageDispatchExecutor;
     /**
      * Queue for messages attempted to publish while MQTT client was offline.
      * Republished upon reconnect.
@@ -158,6 +182,38 @@ public class AWSIotMqttManager {
     private boolean fullQueueKeepsOldest;
     /** Milliseconds between publishes when publishing queued messages (draining interval). */
     private long drainingInterval;
+    /** Bound of the total payload size of the offline publish queue, 0 for none. */
+    private long offlinePublishQueueByteBound;
+    /**
+     * Guards the offline publish queue with its message and byte counts, and
+     * its journal.
+     */
+    private final Object offlinePublishQueueLock = new Object();
+    /** Number of messages in the offline publish queue. */
+    private int offlinePublishQueueSize;
+    /** Total payload size of the messages in the offline publish queue. */
+    private long offlinePublishQueueBytes;
+    /** File copy of the offline publish queue, or null to keep it in memory only. */
+    private AWSIotMqttQueueJournal offlinePublishQueueJournal;
+    /**
+     * Number of queued messages kept in flight while draining, or 0 to drain
+     * one message every draining interval.
+     */
+    private volatile int drainingInflightWindow;
+    /**
+     * Queued messages published and not yet delivered, in order. They are no
+     * longer counted in the queue, but stay in its file, ahead of the queued
+     * messages, until they are delivered. Guarded by offlinePublishQueueLock.
+     */
+    private final LinkedList<AWSIotMqttQueueMessage> inflightQueuedMessages =
+            new LinkedList<AWSIotMqttQueueMessage>();
+    /**
+     * Runs the draining of the offline publish queue, one task at a time.
+     * Created when draining starts, shut down on disconnect.
+     */
+    private ExecutorService drainingExecutor;
+    /** Guards drainingExecutor. */
+    private final Object drainingExecutorLock = new Object();
     /** Was this disconnect requested by the user? */
     private boolean userDisconnect;
     /** Do we need to resubscribe upon reconnecting? */
@@ -542,6 +598,179 @@ public class AWSIotMqttManager {
         fullQueueKeepsOldest = false;
     }
 
+    /**
+     * Get the bound of the total payload size of the messages queued while
+     * offline.
+     *
+     * @return max total payload size in bytes, or 0 if only the number of
+     *         messages is bounded.
+     */
+    public long getOfflinePublishQueueByteBound() {
+        return offlinePublishQueueByteBound;
+    }
+
+    /**
+     * Set the bound of the total payload size of the messages queued while
+     * offline. A queue over this bound is full, as is a queue of
+     * {@link #getOfflinePublishQueueBound()} messages. A message larger than
+     * the bound is never queued.
+     *
+     * @param bound max total payload size in bytes, or 0 to only bound the
+     *            number of messages (the default).
+     */
+    public void setOfflinePublishQueueByteBound(long bound) {
+        if (bound < 0) {
+            throw new IllegalArgumentException("Offline queue byte bound must be >= 0");
+        }
+        offlinePublishQueueByteBound = bound;
+    }
+
+    /**
+     * Keep a copy of the offline publish queue in the given file, so that
+     * queued messages survive the process. The messages left in the file by
+     * a previous process are queued again, ahead of the messages already
+     * queued, and the queue is no longer cleared on connect. Only the topic,
+     * payload and QoS of the messages are kept in the file: the delivery
+     * callbacks of messages queued by a previous process aren't invoked. If
+     * the queue then exceeds its bounds, messages are shed as by a full queue.
+     *
+     * @param file the file of the queue, for instance in the files directory
+     *            of the application, or null to keep the queue in memory only
+     *            (the default).
+     */
+    public void setOfflinePublishQueueFile(File file) {
+        synchronized (offlinePublishQueueLock) {
+            closeOfflinePublishQueueJournal();
+            if (file == null) {
+                return;
+            }
+            // Messages in flight aren't in the new file: publish them again.
+            requeueInflightMessages();
+            AWSIotMqttQueueJournal journal = null;
+            try {
+                journal = new AWSIotMqttQueueJournal(file);
+                final List<AWSIotMqttQueueMessage> messages = journal.load();
+                final int restored = messages.size();
+                messages.addAll(mqttMessageQueue);
+                if (trimToOfflinePublishQueueBounds(messages)) {
+                    journal.clear();
+                    for (final AWSIotMqttQueueMessage message : messages) {
+                        journal.append(message);
+                    }
+                } else {
+                    for (final AWSIotMqttQueueMessage message
+                            : messages.subList(restored, messages.size())) {
+                        journal.append(message);
+                    }
+                }
+                mqttMessageQueue.clear();
+                mqttMessageQueue.addAll(messages);
+                offlinePublishQueueSize = messages.size();
+                offlinePublishQueueBytes = 0;
+                for (final AWSIotMqttQueueMessage message : messages) {
+                    offlinePublishQueueBytes += message.getMessage().length;
+                }
+                offlinePublishQueueJournal = journal;
+            } catch (final IOException e) {
+                if (journal != null) {
+                    try {
+                        journal.close();
+                    } catch (final IOException ce) {
+                        LOGGER.debug("Unable to close the offline publish queue file.", ce);
+                    }
+                }
+                throw new AmazonClientException("Unable to open the offline publish queue file.",
+                        e);
+            }
+        }
+    }
+
+    /**
+     * Shed messages until the given queue fits the bounds of the offline
+     * publish queue, as a full queue would: the oldest messages, or the
+     * newest if the queue keeps the oldest.
+     *
+     * @param messages the messages of the queue, in order.
+     * @return true if messages were shed.
+     */
+    private boolean trimToOfflinePublishQueueBounds(List<AWSIotMqttQueueMessage> messages) {
+        long bytes = 0;
+        for (final AWSIotMqttQueueMessage message : messages) {
+            bytes += message.getMessage().length;
+        }
+        int shed = 0;
+        while (!messages.isEmpty() && (messages.size() > offlinePublishQueueBound
+                || (offlinePublishQueueByteBound > 0 && bytes > offlinePublishQueueByteBound))) {
+            final AWSIotMqttQueueMessage message =
+                    messages.remove(fullQueueKeepsOldest ? messages.size() - 1 : 0);
+            bytes -= message.getMessage().length;
+            shed++;
+        }
+        if (shed > 0) {
+            LOGGER.warn("Offline publish queue file exceeds the queue bounds, shed " + shed
+                    + " messages.");
+        }
+        return shed > 0;
+    }
+
+    /**
+     * Get the number of messages in the offline publish queue. Messages
+     * published from the queue are no longer counted, though they stay in the
+     * file of the queue until they are delivered, and are queued again if the
+     * connection is lost first.
+     *
+     * @return the number of queued messages.
+     */
+    public int getOfflinePublishQueueSize() {
+        synchronized (offlinePublishQueueLock) {
+            return offlinePublishQueueSize;
+        }
+    }
+
+    /**
+     * Get the total payload size of the messages in the offline publish
+     * queue.
+     *
+     * @return the total payload size of the queued messages, in bytes.
+     */
+    public long getOfflinePublishQueueBytes() {
+        synchronized (offlinePublishQueueLock) {
+            return offlinePublishQueueBytes;
+        }
+    }
+
+    /**
+     * Get the number of queued messages kept in flight while draining the
+     * offline publish queue.
+     *
+     * @return the number of messages in flight, or 0 if the queue is drained
+     *         one message every draining interval.
+     */
+    public int getDrainingInflightWindow() {
+        return drainingInflightWindow;
+    }
+
+    /**
+     * Drain the offline publish queue by keeping up to the given number of
+     * queued messages in flight, publishing the next one as soon as one is
+     * delivered (acknowledged for QoS 1, sent for QoS 0), instead of one
+     * message every draining interval. Draining then runs on a background
+     * thread. The window should not exceed the max inflight setting of the
+     * MQTT client, 10 by default.
+     *
+     * @param window the number of messages in flight, or 0 to drain one
+     *            message every draining interval (the default).
+     */
+    public void setDrainingInflightWindow(int window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Draining inflight window must be >= 0");
+        }
+        drainingInflightWindow = window;
+        if (window == 0) {
+            shutdownDrainingExecutor();
+        }
+    }
+
     /**
      * Get the MQTT keep alive time.
      *
@@ -657,6 +886,21 @@ public class AWSIotMqttManager {
         needResubscribe = enabled;
     }
 
+    /**
+     * Sets the executor on which the callbacks of incoming messages are
+     * invoked. By default, they are invoked on the MQTT client callback
+     * thread, which receives no other message until they return: callbacks
+     * that take time should use an executor. The callbacks of a message are
+     * invoked in turn on the same task; the messages are only delivered in
+     * order if the executor runs its tasks in order.
+     *
+     * @param executor the executor, or null to invoke the callbacks on the
+     *            MQTT client callback thread.
+     */
+    public void setMessageDispatchExecutor(Executor executor) {
+        this.messageDispatchExecutor = executor;
+    }
+
     /**
      * Set to true if the connection should be established with a clean session, false otherwise.
      * By default, this is set to true.
@@ -1150,7 +1394,16 @@ public class AWSIotMqttManager {
             ", username: " + options.getUserName());
 
         topicListeners.clear();
-        mqttMessageQueue.clear();
+        topicTrie.clear();
+        synchronized (offlinePublishQueueLock) {
+            // A queue kept in a file is meant to outlive the session.
+            if (offlinePublishQueueJournal == null) {
+                mqttMessageQueue.clear();
+                inflightQueuedMessages.clear();
+                offlinePublishQueueSize = 0;
+                offlinePublishQueueBytes = 0;
+            }
+        }
 
         resetReconnect();
         userDisconnect = false;
@@ -1168,6 +1421,7 @@ public class AWSIotMqttManager {
                     connectionState = MqttManagerConnectionState.Connected;
                     lastConnackTime = getSystemTimeMs();
                     sessionPresent = asyncActionToken.getSessionPresent();
+                    requeueInflightMessages();
                     if (mqttMessageQueue.size() > 0) {
                         publishMessagesFromQueue();
                     }
@@ -1263,7 +1517,9 @@ public class AWSIotMqttManager {
     public boolean disconnect() {
         userDisconnect = true;
         reset();
+        shutdownDrainingExecutor();
         topicListeners.clear();
+        topicTrie.clear();
         connectionState = MqttManagerConnectionState.Disconnected;
         userConnectionCallback();
         return true;
@@ -1338,6 +1594,7 @@ public class AWSIotMqttManager {
                         if (needResubscribe) {
                             resubscribeToTopics();
                         }
+                        requeueInflightMessages();
                         if (mqttMessageQueue.size() > 0) {
                             publishMessagesFromQueue();
                         }
@@ -1503,6 +1760,7 @@ public class AWSIotMqttManager {
             }
             final AWSIotMqttTopic topicModel = new AWSIotMqttTopic(topic, qos, callback);
             topicListeners.put(topic, topicModel);
+            topicTrie.put(topic, topicModel);
         }
     }
 
@@ -1524,6 +1782,7 @@ public class AWSIotMqttManager {
                 throw new AmazonClientException("Client error while unsubscribing.", e);
             }
             topicListeners.remove(topic);
+            topicTrie.remove(topic);
         }
     }
 
@@ -1718,18 +1977,211 @@ public class AWSIotMqttManager {
                                     PublishMessageUserData publishMessageUserData) {
         final AWSIotMqttQueueMessage message = new AWSIotMqttQueueMessage(topic, data, qos, publishMessageUserData);
 
-        if (mqttMessageQueue.size() >= offlinePublishQueueBound) {
-            if (fullQueueKeepsOldest) {
-                notifyPublishResult(publishMessageUserData.getUserCallback(), AWSIotMqttMessageDeliveryCallback.MessageDeliveryStatus.Fail,
-                        publishMessageUserData.getUserData(),
-                        new AmazonClientException("Failed to publish the message. Queue is full and set to hold onto the oldest messages."));
-                return;
+        String failure = null;
+        synchronized (offlinePublishQueueLock) {
+            if (offlinePublishQueueByteBound > 0 && data.length > offlinePublishQueueByteBound) {
+                failure = "Failed to publish the message. It is larger than the queue byte bound.";
             } else {
-                mqttMessageQueue.remove();
+                while (isOfflinePublishQueueFull(data.length)) {
+                    if (fullQueueKeepsOldest) {
+                        failure = "Failed to publish the message. Queue is full and set to hold onto the oldest messages.";
+                        break;
+                    }
+                    shedQueuedMessage();
+                }
+            }
+            if (failure == null) {
+                mqttMessageQueue.add(message);
+                offlinePublishQueueSize++;
+                offlinePublishQueueBytes += data.length;
+                if (offlinePublishQueueJournal != null) {
+                    try {
+                        offlinePublishQueueJournal.append(message);
+                    } catch (final IOException e) {
+                        offlinePublishQueueJournalFailed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            notifyPublishResult(publishMessageUserData.getUserCallback(), AWSIotMqttMessageDeliveryCallback.MessageDeliveryStatus.Fail,
+                    publishMessageUserData.getUserData(), new AmazonClientException(failure));
+            return;
+        }
+        if (drainingInflightWindow > 0 && connectionState == MqttManagerConnectionState.Connected) {
+            scheduleDraining();
+        }
+    }
+
+    /**
+     * Is the offline publish queue too full to add a message?
+     * Must be called holding offlinePublishQueueLock.
+     *
+     * @param messageBytes payload size of the message to add.
+     * @return true if the queue must shed a message to take the new one.
+     */
+    private boolean isOfflinePublishQueueFull(int messageBytes) {
+        return offlinePublishQueueSize >= offlinePublishQueueBound
+                || (offlinePublishQueueByteBound > 0
+                        && offlinePublishQueueBytes + messageBytes > offlinePublishQueueByteBound);
+    }
+
+    /**
+     * Shed the first message of the offline publish queue.
+     * Must be called holding offlinePublishQueueLock.
+     */
+    private void shedQueuedMessage() {
+        final AWSIotMqttQueueMessage message = mqttMessageQueue.poll();
+        if (message == null) {
+            return;
+        }
+        offlinePublishQueueSize--;
+        offlinePublishQueueBytes -= message.getMessage().length;
+        removeJournalRecord(inflightQueuedMessages.size());
+    }
+
+    /**
+     * Take the first message of the offline publish queue to publish it. The
+     * message stays in the file of the queue until it is delivered.
+     *
+     * @param window the number of queued messages that may be in flight, or
+     *            0 for no limit.
+     * @return the message, or null if the queue is empty or the window is
+     *         full.
+     */
+    private AWSIotMqttQueueMessage takeQueuedMessage(int window) {
+        synchronized (offlinePublishQueueLock) {
+            if (window > 0 && inflightQueuedMessages.size() >= window) {
+                return null;
+            }
+            final AWSIotMqttQueueMessage message = mqttMessageQueue.poll();
+            if (message == null) {
+                return null;
+            }
+            offlinePublishQueueSize--;
+            offlinePublishQueueBytes -= message.getMessage().length;
+            inflightQueuedMessages.add(message);
+            return message;
+        }
+    }
+
+    /**
+     * Put a message taken from the offline publish queue back at its front,
+     * unless it was queued again meanwhile.
+     */
+    private void returnQueuedMessage(AWSIotMqttQueueMessage message) {
+        synchronized (offlinePublishQueueLock) {
+            if (inflightQueuedMessages.peekLast() == message) {
+                inflightQueuedMessages.removeLast();
+                queueFirst(Collections.singletonList(message));
+            }
+        }
+    }
+
+    /**
+     * Queue the messages in flight again, ahead of the queued messages, as
+     * they won't be delivered once the connection is lost.
+     */
+    private void requeueInflightMessages() {
+        synchronized (offlinePublishQueueLock) {
+            if (!inflightQueuedMessages.isEmpty()) {
+                queueFirst(inflightQueuedMessages);
+                inflightQueuedMessages.clear();
+            }
+        }
+    }
+
+    /**
+     * Put messages at the front of the offline publish queue. Their records
+     * are already in its file, ahead of the queued messages.
+     * Must be called holding offlinePublishQueueLock.
+     */
+    private void queueFirst(List<AWSIotMqttQueueMessage> messages) {
+        final List<AWSIotMqttQueueMessage> queued =
+                new ArrayList<AWSIotMqttQueueMessage>(mqttMessageQueue);
+        mqttMessageQueue.clear();
+        mqttMessageQueue.addAll(messages);
+        mqttMessageQueue.addAll(queued);
+        for (final AWSIotMqttQueueMessage message : messages) {
+            offlinePublishQueueSize++;
+            offlinePublishQueueBytes += message.getMessage().length;
+        }
+    }
+
+    /**
+     * Remove a message taken from the offline publish queue once it is
+     * delivered, or failed, along with its record in the file of the queue.
+     * The message may have been queued again on reconnect, or shed.
+     */
+    private void completeQueuedMessage(AWSIotMqttQueueMessage message) {
+        synchronized (offlinePublishQueueLock) {
+            int index = indexOf(inflightQueuedMessages, message);
+            if (index >= 0) {
+                inflightQueuedMessages.remove(index);
+                removeJournalRecord(index);
+                return;
+            }
+            index = indexOf(mqttMessageQueue, message);
+            if (index >= 0) {
+                mqttMessageQueue.remove(message);
+                offlinePublishQueueSize--;
+                offlinePublishQueueBytes -= message.getMessage().length;
+                removeJournalRecord(inflightQueuedMessages.size() + index);
+            }
+        }
+    }
+
+    private static int indexOf(Iterable<AWSIotMqttQueueMessage> messages,
+            AWSIotMqttQueueMessage message) {
+        int index = 0;
+        for (final AWSIotMqttQueueMessage queued : messages) {
+            if (queued == message) {
+                return index;
             }
+            index++;
         }
+        return -1;
+    }
+
+    /**
+     * Remove a record from the file of the offline publish queue, if any.
+     * Must be called holding offlinePublishQueueLock.
+     *
+     * @param index the position of the message among the messages in flight
+     *            followed by the queued messages.
+     */
+    private void removeJournalRecord(int index) {
+        if (offlinePublishQueueJournal != null) {
+            try {
+                offlinePublishQueueJournal.remove(index);
+            } catch (final IOException e) {
+                offlinePublishQueueJournalFailed(e);
+            }
+        }
+    }
 
-        mqttMessageQueue.add(message);
+    /**
+     * Keep the offline publish queue in memory only after its file failed.
+     * Must be called holding offlinePublishQueueLock.
+     */
+    private void offlinePublishQueueJournalFailed(IOException e) {
+        LOGGER.error("Offline publish queue file failed, keeping the queue in memory only.", e);
+        closeOfflinePublishQueueJournal();
+    }
+
+    /**
+     * Close the file of the offline publish queue, if any.
+     * Must be called holding offlinePublishQueueLock.
+     */
+    private void closeOfflinePublishQueueJournal() {
+        if (offlinePublishQueueJournal != null) {
+            try {
+                offlinePublishQueueJournal.close();
+            } catch (final IOException e) {
+                LOGGER.debug("Unable to close the offline publish queue file.", e);
+            }
+            offlinePublishQueueJournal = null;
+        }
     }
 
     /**
@@ -1737,23 +2189,24 @@ public class AWSIotMqttManager {
      * Called to handle publishing messages accumulated in the message queue when the client was unable to publish.
      */
     void publishMessagesFromQueue() {
+        if (drainingInflightWindow > 0) {
+            LOGGER.debug("Draining offline publish queue: " + getOfflinePublishQueueSize()
+                    + " messages, " + getOfflinePublishQueueBytes() + " bytes.");
+            scheduleDraining();
+            return;
+        }
         if (connectionState == MqttManagerConnectionState.Connected &&
             mqttMessageQueue != null &&
             !mqttMessageQueue.isEmpty()) {
-            final AWSIotMqttQueueMessage message = mqttMessageQueue.poll();
+            final AWSIotMqttQueueMessage message = takeQueuedMessage(0);
             if (message != null) {
                 try {
-                    if (message.getUserData() != null && message.getUserData().getUserCallback() != null) {
-                        // this queued message has a callback, publish passing the user data
-                        mqttClient
-                                .publish(message.getTopic(), message.getMessage(), message.getQos()
-                                        .asInt(), false, message.getUserData(), null);
-                    } else {
-                        // this queued message does not have a callback
-                        mqttClient
-                                .publish(message.getTopic(), message.getMessage(), message.getQos()
-                                        .asInt(), false);
-                    }
+                    // The message stays in the file of the queue until it is delivered.
+                    mqttClient.publish(message.getTopic(), message.getMessage(),
+                            message.getQos().asInt(), false, new PublishMessageUserData(
+                                    message.getUserData().getUserCallback(),
+                                    message.getUserData().getUserData(), message),
+                            null);
                 } catch (final MqttException e) {
                     // Call this message a failure.  It is possible that this is due to a
                     // connection issue (we are in this path because the connection dropped),
@@ -1761,6 +2214,7 @@ public class AWSIotMqttManager {
                     // such that publishing this message would never succeed.  It is safer to
                     // remove the message from the queue and notify failure than to block
                     // the queue indefinitely.
+                    completeQueuedMessage(message);
                     notifyPublishResult(message.getUserData().getUserCallback(),
                             AWSIotMqttMessageDeliveryCallback.MessageDeliveryStatus.Fail,
                             message.getUserData().getUserData(),
@@ -1781,6 +2235,104 @@ public class AWSIotMqttManager {
         }
     }
 
+    /**
+     * Drain the offline publish queue on the draining executor.
+     */
+    private void scheduleDraining() {
+        synchronized (drainingExecutorLock) {
+            if (drainingInflightWindow <= 0) {
+                return;
+            }
+            if (drainingExecutor == null) {
+                drainingExecutor = AsyncRuntime.newClientExecutor(1);
+            }
+            drainingExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    drainQueuedMessages();
+                }
+            });
+        }
+    }
+
+    /**
+     * Shut down the draining executor, if any. Draining creates a new one
+     * when it starts again.
+     */
+    private void shutdownDrainingExecutor() {
+        synchronized (drainingExecutorLock) {
+            if (drainingExecutor != null) {
+                drainingExecutor.shutdown();
+                drainingExecutor = null;
+            }
+        }
+    }
+
+    /**
+     * Publish queued messages until drainingInflightWindow of them are in
+     * flight. Only runs on the draining executor.
+     */
+    private void drainQueuedMessages() {
+        while (connectionState == MqttManagerConnectionState.Connected) {
+            final int window = drainingInflightWindow;
+            if (window <= 0) {
+                return;
+            }
+            final AWSIotMqttQueueMessage message = takeQueuedMessage(window);
+            if (message == null) {
+                return;
+            }
+            final PublishMessageUserData userData = message.getUserData();
+            try {
+                mqttClient.publish(message.getTopic(), message.getMessage(),
+                        message.getQos().asInt(), false, new PublishMessageUserData(
+                                userData.getUserCallback(), userData.getUserData(), message),
+                        null);
+            } catch (final MqttException e) {
+                if (e.getReasonCode() == MqttException.REASON_CODE_MAX_INFLIGHT) {
+                    // Resumed when the client delivers a message.
+                    returnQueuedMessage(message);
+                    return;
+                }
+                completeQueuedMessage(message);
+                notifyPublishResult(userData.getUserCallback(),
+                        AWSIotMqttMessageDeliveryCallback.MessageDeliveryStatus.Fail,
+                        userData.getUserData(),
+                        new AmazonClientException("Client error while publishing.", e));
+            }
+        }
+    }
+
+    /**
+     * Remove a queued message from the offline publish queue once the client
+     * has delivered it, and continue draining the queue.
+     *
+     * @param queuedMessage the message taken from the queue, or null if the
+     *            delivered message wasn't queued.
+     */
+    private void onMessageDelivered(AWSIotMqttQueueMessage queuedMessage) {
+        if (queuedMessage != null) {
+            completeQueuedMessage(queuedMessage);
+        }
+        if (drainingInflightWindow > 0 && !mqttMessageQueue.isEmpty()) {
+            scheduleDraining();
+        }
+    }
+
+    /**
+     * Invokes the callbacks of the subscriptions matching the topic of a
+     * message.
+     */
+    private static void dispatchMessage(List<AWSIotMqttTopic> topicModels, String topic,
+            byte[] data) {
+        for (int i = 0; i < topicModels.size(); i++) {
+            final AWSIotMqttNewMessageCallback callback = topicModels.get(i).getCallback();
+            if (callback != null) {
+                callback.onMessageArrived(topic, data);
+            }
+        }
+    }
+
     /**
      * Setup the MQTT client calbacks. The Paho MQTT client exposes callbacks
      * for connection status, publish status and incoming messages. The Android
@@ -1807,34 +2359,49 @@ public class AWSIotMqttManager {
             }
 
             @Override
-            public void messageArrived(String topic, MqttMessage mqttMessage) throws Exception {
+            public void messageArrived(final String topic, MqttMessage mqttMessage) throws Exception {
                 LOGGER.info("message arrived on topic: " + topic);
                 final byte[] data = mqttMessage.getPayload();
 
-                for (final String topicKey : topicListeners.keySet()) {
-                    if (isTopicMatch(topicKey, topic)) {
-                        final AWSIotMqttTopic topicModel = topicListeners.get(topicKey);
-                        if (topicModel != null) {
-                            if (topicModel.getCallback() != null) {
-                                topicModel.getCallback().onMessageArrived(topic, data);
-                            }
-                        }
+                topicTrie.match(topic, matchedTopics);
+                if (matchedTopics.isEmpty()) {
+                    return;
+                }
+                final Executor executor = messageDispatchExecutor;
+                if (executor == null) {
+                    try {
+                        dispatchMessage(matchedTopics, topic, data);
+                    } finally {
+                        matchedTopics.clear();
                     }
+                } else {
+                    final List<AWSIotMqttTopic> topicModels =
+                            new ArrayList<AWSIotMqttTopic>(matchedTopics);
+                    matchedTopics.clear();
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            dispatchMessage(topicModels, topic, data);
+                        }
+                    });
                 }
             }
 
             @Override
             public void deliveryComplete(IMqttDeliveryToken token) {
                 LOGGER.info("delivery is complete");
+                AWSIotMqttQueueMessage queuedMessage = null;
                 if (token != null) {
                     final Object o = token.getUserContext();
                     if (o instanceof PublishMessageUserData) {
                         final PublishMessageUserData pmud = (PublishMessageUserData) o;
+                        queuedMessage = pmud.getQueuedMessage();
                         notifyPublishResult(pmud.getUserCallback(),
                                 AWSIotMqttMessageDeliveryCallback.MessageDeliveryStatus.Success,
                                 pmud.getUserData(), null);
                     }
                 }
+                onMessageDelivered(queuedMessage);
             }
         });
     }
@@ -1916,45 +2483,7 @@ public class AWSIotMqttManager {
      * @return true if the topic matches the filter, false otherwise.
      */
     static boolean isTopicMatch(String topicFilter, String topic) {
-        final String[] topicFilterTokens = topicFilter.split("/");
-        final String[] topicTokens = topic.split("/");
-
-        if (topicFilterTokens.length > topicTokens.length) {
-            return false;
-        }
-
-        for (int i = 0; i < topicFilterTokens.length; i++) {
-            final String topicFilterToken = topicFilterTokens[i];
-            final String topicToken = topicTokens[i];
-
-            // we're equal up to this point, the # matches all that is left
-            if (("#").equals(topicFilterToken)) {
-                return true;
-            }
-
-            // if the filter has a +, go to the next token
-            // if the filter token matches the topic token, go to the next token
-            // if neither are true then we've discovered a mismatch
-            if (!("+").equals(topicFilterToken) && !topicFilterToken.equals(topicToken)) {
-                return false;
-            }
-        }
-
-        // if we're here the strings matched token-for-token (including any
-        // '+'s)
-        // and we have reached the end of the topic filter
-        // we have a match unless there are more tokens left in the topic
-        // if we have filter 1/2/3 then:
-        // 1/2/3 matches
-        // 1/2/3/4 does not match
-        //
-        // if we have filter 1/2/+ then:
-        // 1/2/3 matches
-        // 1/2/3/4 does not match
-        //
-        // we already know the filter can't be longer than the topic (from
-        // above)
-        return (topicFilterTokens.length == topicTokens.length);
+        return TopicTrie.isMatch(topicFilter, topic);
     }
 
     /**
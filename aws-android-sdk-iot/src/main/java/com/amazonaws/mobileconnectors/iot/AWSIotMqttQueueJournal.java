@@ -0,0 +1,326 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.iot;
+
+import com.amazonaws.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * File copy of the offline publish queue, so that queued messages survive the
+ * process. Messages are appended at the end of the file; the file starts with
+ * the offset of the first message still queued, which is moved forward as
+ * messages leave the queue. A message leaving from the middle of the queue is
+ * marked as removed in place. The space of the messages that left is
+ * reclaimed once the queue is empty, or once it takes more than half of the
+ * file.
+ * <p>
+ * Appends and removals aren't synced to the storage device: the messages
+ * survive the process, not a power loss. Only the reclaiming of space is
+ * synced, so that no message is lost if it is interrupted. Only the topic, payload and QoS of messages are
+ * kept; their delivery callbacks don't survive the process.
+ */
+final class AWSIotMqttQueueJournal {
+
+    /** Size of the header holding the offset of the first queued message. */
+    private static final int HEADER_SIZE = 8;
+    /** Size of the record fields other than the topic and payload. */
+    private static final int RECORD_OVERHEAD = 4 + 1 + 4;
+    /** Topic length marking the end of the records, written by compaction. */
+    private static final int END_OF_RECORDS = -1;
+    private static final int END_OF_RECORDS_SIZE = 4;
+    /** QoS byte marking a record removed from the middle of the queue. */
+    private static final byte REMOVED = (byte) 0xff;
+    /** Minimum space taken by dequeued messages before it is reclaimed. */
+    static final int MIN_COMPACTION_BYTES = 64 * 1024;
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+
+    private final RandomAccessFile file;
+    /**
+     * Records from the head of the file, in order. The first one is never
+     * removed.
+     */
+    private final LinkedList<Record> records = new LinkedList<Record>();
+    private long head = HEADER_SIZE;
+
+    /**
+     * Opens the journal, creating the file if needed.
+     *
+     * @param file the file of the journal.
+     * @throws IOException if the file can't be opened.
+     */
+    AWSIotMqttQueueJournal(File file) throws IOException {
+        this.file = new RandomAccessFile(file, "rw");
+    }
+
+    /**
+     * Reads the messages queued in the file. A record cut short by the end
+     * of the process is discarded, as are the bytes after an end marker left
+     * by an interrupted compaction.
+     *
+     * @return the queued messages, in order.
+     * @throws IOException if the file can't be read.
+     */
+    synchronized List<AWSIotMqttQueueMessage> load() throws IOException {
+        records.clear();
+        final List<AWSIotMqttQueueMessage> messages = new ArrayList<AWSIotMqttQueueMessage>();
+        final long length = file.length();
+        if (length < HEADER_SIZE) {
+            reset();
+            return messages;
+        }
+        file.seek(0);
+        head = file.readLong();
+        if (head < HEADER_SIZE || head > length) {
+            reset();
+            return messages;
+        }
+        long position = head;
+        file.seek(position);
+        while (position < length) {
+            final AWSIotMqttQueueMessage message = readRecord(length - position);
+            if (message == null) {
+                break;
+            }
+            final Record record = new Record(recordSize(message),
+                    message.getTopic().getBytes(StringUtils.UTF8).length);
+            record.removed = message.getQos() == null;
+            if (!record.removed) {
+                messages.add(message);
+            }
+            records.add(record);
+            position += record.size;
+        }
+        if (position < length) {
+            file.setLength(position);
+        }
+        trimRemovedRecords();
+        return messages;
+    }
+
+    /**
+     * Appends a message at the end of the queue.
+     *
+     * @param message the message.
+     * @throws IOException if the file can't be written.
+     */
+    synchronized void append(AWSIotMqttQueueMessage message) throws IOException {
+        final byte[] topic = message.getTopic().getBytes(StringUtils.UTF8);
+        final byte[] payload = message.getMessage();
+        final byte[] record = new byte[RECORD_OVERHEAD + topic.length + payload.length];
+        int offset = putInt(record, 0, topic.length);
+        System.arraycopy(topic, 0, record, offset, topic.length);
+        offset += topic.length;
+        record[offset++] = (byte) message.getQos().asInt();
+        offset = putInt(record, offset, payload.length);
+        System.arraycopy(payload, 0, record, offset, payload.length);
+
+        if (records.isEmpty() && head != HEADER_SIZE) {
+            reset();
+        }
+        file.seek(file.length());
+        file.write(record);
+        records.add(new Record(record.length, topic.length));
+    }
+
+    /**
+     * Removes the first message of the queue.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    synchronized void removeFirst() throws IOException {
+        final Record first = records.poll();
+        if (first == null) {
+            return;
+        }
+        head += first.size;
+        trimRemovedRecords();
+        if (records.isEmpty()) {
+            reset();
+            return;
+        }
+        final long length = file.length();
+        // The queued messages are only moved to space they don't overlap,
+        // leaving room for the end marker.
+        if (head - HEADER_SIZE >= MIN_COMPACTION_BYTES
+                && head - HEADER_SIZE >= length - head + END_OF_RECORDS_SIZE) {
+            compact(length);
+        } else {
+            file.seek(0);
+            file.writeLong(head);
+        }
+    }
+
+    /**
+     * Removes a message of the queue. A message other than the first is only
+     * marked as removed, its space being reclaimed with the messages ahead
+     * of it.
+     *
+     * @param index the position of the message in the queue.
+     * @throws IOException if the file can't be written.
+     */
+    synchronized void remove(int index) throws IOException {
+        if (index == 0) {
+            removeFirst();
+            return;
+        }
+        long position = head;
+        int queued = 0;
+        for (final Record record : records) {
+            if (!record.removed && queued++ == index) {
+                file.seek(position + record.qosOffset);
+                file.writeByte(REMOVED);
+                record.removed = true;
+                return;
+            }
+            position += record.size;
+        }
+    }
+
+    /**
+     * Removes all the messages.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    synchronized void clear() throws IOException {
+        records.clear();
+        reset();
+    }
+
+    /**
+     * Closes the file, keeping the queued messages in it.
+     */
+    synchronized void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * @return the size of the file, in bytes.
+     */
+    synchronized long length() throws IOException {
+        return file.length();
+    }
+
+    /**
+     * Moves the head past the records removed from the middle of the queue
+     * that are now first.
+     */
+    private void trimRemovedRecords() {
+        while (!records.isEmpty() && records.peek().removed) {
+            head += records.poll().size;
+        }
+    }
+
+    private void reset() throws IOException {
+        head = HEADER_SIZE;
+        file.setLength(HEADER_SIZE);
+        file.seek(0);
+        file.writeLong(head);
+    }
+
+    /**
+     * Moves the queued messages to the start of the file. They are copied to
+     * space they don't overlap, so the file stays valid until the header
+     * points to the copy. The copy is followed by an end marker, then the
+     * header is written and synced before the file is truncated: if the
+     * process dies in between, loading stops at the marker.
+     */
+    private void compact(long length) throws IOException {
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long from = head;
+        long to = HEADER_SIZE;
+        while (from < length) {
+            file.seek(from);
+            final int read = file.read(buffer, 0, (int) Math.min(buffer.length, length - from));
+            if (read < 0) {
+                break;
+            }
+            file.seek(to);
+            file.write(buffer, 0, read);
+            from += read;
+            to += read;
+        }
+        file.seek(to);
+        file.writeInt(END_OF_RECORDS);
+        file.getFD().sync();
+        head = HEADER_SIZE;
+        file.seek(0);
+        file.writeLong(head);
+        file.getFD().sync();
+        file.setLength(to);
+    }
+
+    /**
+     * Reads the record at the current position of the file.
+     *
+     * @param available the number of bytes left in the file.
+     * @return the message, with a null QoS if it was removed, or null if the
+     *         record is incomplete.
+     */
+    private AWSIotMqttQueueMessage readRecord(long available) throws IOException {
+        if (available < RECORD_OVERHEAD) {
+            return null;
+        }
+        final int topicLength = file.readInt();
+        if (topicLength < 0 || topicLength > available - RECORD_OVERHEAD) {
+            return null;
+        }
+        final byte[] topic = new byte[topicLength];
+        file.readFully(topic);
+        final byte qosByte = file.readByte();
+        final AWSIotMqttQos qos = qosByte == REMOVED ? null
+                : qosByte == 0 ? AWSIotMqttQos.QOS0 : AWSIotMqttQos.QOS1;
+        final int payloadLength = file.readInt();
+        if (payloadLength < 0 || payloadLength > available - RECORD_OVERHEAD - topicLength) {
+            return null;
+        }
+        final byte[] payload = new byte[payloadLength];
+        file.readFully(payload);
+        return new AWSIotMqttQueueMessage(new String(topic, StringUtils.UTF8), payload, qos,
+                new PublishMessageUserData(null, null));
+    }
+
+    private static int recordSize(AWSIotMqttQueueMessage message) {
+        return RECORD_OVERHEAD + message.getTopic().getBytes(StringUtils.UTF8).length
+                + message.getMessage().length;
+    }
+
+    /** Size and layout of a record in the file. */
+    private static final class Record {
+        final int size;
+        /** Offset of the QoS byte in the record. */
+        final int qosOffset;
+        boolean removed;
+
+        Record(int size, int topicLength) {
+            this.size = size;
+            this.qosOffset = 4 + topicLength;
+        }
+    }
+
+    private static int putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+        return offset + 4;
+    }
+}
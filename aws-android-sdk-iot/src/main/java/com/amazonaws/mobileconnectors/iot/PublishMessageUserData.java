@@ -15,6 +15,11 @@ class PublishMessageUserData {
      * User defined context data.
      */
     private Object userData;
+    /**
+     * The message of the offline publish queue being published, or null if
+     * the message isn't published from the queue.
+     */
+    private AWSIotMqttQueueMessage queuedMessage;
 
     /**
      * Create a new PublishMessageUserData object.
@@ -22,8 +27,21 @@ class PublishMessageUserData {
      * @param userData User defined context data.
      */
     PublishMessageUserData(AWSIotMqttMessageDeliveryCallback userCallback, Object userData) {
+        this(userCallback, userData, null);
+    }
+
+    /**
+     * Create a new PublishMessageUserData object.
+     * @param userCallback User defined callback method.
+     * @param userData User defined context data.
+     * @param queuedMessage The message of the offline publish queue being
+     *            published, or null if it isn't published from the queue.
+     */
+    PublishMessageUserData(AWSIotMqttMessageDeliveryCallback userCallback, Object userData,
+            AWSIotMqttQueueMessage queuedMessage) {
         this.userCallback = userCallback;
         this.userData = userData;
+        this.queuedMessage = queuedMessage;
     }
 
     /**
@@ -41,4 +59,13 @@ class PublishMessageUserData {
     Object getUserData() {
         return userData;
     }
+
+    /**
+     * Return the message of the offline publish queue being published.
+     * @return the queued message, or null if the message isn't published from
+     *         the offline publish queue.
+     */
+    AWSIotMqttQueueMessage getQueuedMessage() {
+        return queuedMessage;
+    }
 }
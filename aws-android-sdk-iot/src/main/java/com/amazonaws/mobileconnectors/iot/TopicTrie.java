@@ -0,0 +1,288 @@
+/**
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.iot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps MQTT topic filters to values, and finds the values of the filters
+ * matching a topic in a single pass over it. A '+' level of a filter matches
+ * any single level of a topic; a trailing '#' level matches one or more
+ * levels.
+ * <p>
+ * The trie is immutable once built: updates replace the nodes along the path
+ * of the filter and publish a new root, so that matching takes no lock and
+ * allocates nothing while subscriptions change.
+ *
+ * @param <T> the type of the values
+ */
+final class TopicTrie<T> {
+
+    private static final char LEVEL_SEPARATOR = '/';
+    private static final char SINGLE_LEVEL_WILDCARD = '+';
+    private static final char MULTI_LEVEL_WILDCARD = '#';
+
+    private volatile Node<T> root = Node.empty();
+
+    /**
+     * Maps the topic filter to the value, replacing any previous value.
+     *
+     * @param topicFilter MQTT topic filter, possibly with wildcards.
+     * @param value the value, not null.
+     */
+    synchronized void put(String topicFilter, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null.");
+        }
+        root = update(root, topicFilter, 0, value);
+    }
+
+    /**
+     * Removes the value of the topic filter, if any.
+     *
+     * @param topicFilter MQTT topic filter, possibly with wildcards.
+     */
+    synchronized void remove(String topicFilter) {
+        root = update(root, topicFilter, 0, null);
+    }
+
+    /**
+     * Removes all the topic filters.
+     */
+    synchronized void clear() {
+        root = Node.empty();
+    }
+
+    /**
+     * Adds the values of the topic filters matching the topic to the list.
+     *
+     * @param topic the topic on which a message was published, without
+     *            wildcards.
+     * @param matches the list to add the values to.
+     */
+    void match(String topic, List<? super T> matches) {
+        match(root, topic, 0, matches);
+    }
+
+    private static <T> void match(Node<T> node, String topic, int start,
+            List<? super T> matches) {
+        // There is at least one level left from start, which '#' matches.
+        if (node.multiLevel != null) {
+            matches.add(node.multiLevel);
+        }
+        int end = topic.indexOf(LEVEL_SEPARATOR, start);
+        final boolean lastLevel = end < 0;
+        if (lastLevel) {
+            end = topic.length();
+        }
+        matchChild(node.find(topic, start, end), topic, end, lastLevel, matches);
+        matchChild(node.singleLevel, topic, end, lastLevel, matches);
+    }
+
+    private static <T> void matchChild(Node<T> child, String topic, int end, boolean lastLevel,
+            List<? super T> matches) {
+        if (child == null) {
+            return;
+        }
+        if (!lastLevel) {
+            match(child, topic, end + 1, matches);
+        } else if (child.value != null) {
+            matches.add(child.value);
+        }
+    }
+
+    /**
+     * Returns a copy of the node with the value of the filter, from the
+     * level at start, set to the given value, or removed if it is null.
+     */
+    private static <T> Node<T> update(Node<T> node, String topicFilter, int start, T value) {
+        int end = topicFilter.indexOf(LEVEL_SEPARATOR, start);
+        final boolean lastLevel = end < 0;
+        if (lastLevel) {
+            end = topicFilter.length();
+        }
+        final boolean singleLevel = isLevel(topicFilter, start, end, SINGLE_LEVEL_WILDCARD);
+        if (isLevel(topicFilter, start, end, MULTI_LEVEL_WILDCARD)) {
+            if (!lastLevel) {
+                throw new IllegalArgumentException("'#' must be the last level of a topic filter: "
+                        + topicFilter);
+            }
+            return new Node<T>(node.value, value, node.singleLevel, node.keys, node.children);
+        }
+
+        Node<T> child = singleLevel ? node.singleLevel : node.find(topicFilter, start, end);
+        if (child == null) {
+            child = Node.empty();
+        }
+        if (lastLevel) {
+            child = new Node<T>(value, child.multiLevel, child.singleLevel, child.keys,
+                    child.children);
+        } else {
+            child = update(child, topicFilter, end + 1, value);
+        }
+        if (child.isEmpty()) {
+            child = null;
+        }
+        if (singleLevel) {
+            return new Node<T>(node.value, node.multiLevel, child, node.keys, node.children);
+        }
+        return node.withChild(topicFilter.substring(start, end), child);
+    }
+
+    private static boolean isLevel(String topicFilter, int start, int end, char wildcard) {
+        return end - start == 1 && topicFilter.charAt(start) == wildcard;
+    }
+
+    /**
+     * Does the topic filter match the topic?
+     *
+     * @param topicFilter MQTT topic filter, possibly with wildcards.
+     * @param topic the topic on which a message was published.
+     * @return true if the topic matches the filter, false otherwise.
+     */
+    static boolean isMatch(String topicFilter, String topic) {
+        final TopicTrie<String> trie = new TopicTrie<String>();
+        trie.put(topicFilter, topicFilter);
+        final List<String> matches = new ArrayList<String>(1);
+        trie.match(topic, matches);
+        return !matches.isEmpty();
+    }
+
+    /**
+     * A level of the trie. The exact levels below it are kept sorted, to be
+     * looked up by binary search on a region of the topic.
+     */
+    private static final class Node<T> {
+        private static final String[] NO_KEYS = new String[0];
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static final Node EMPTY = new Node<Object>(null, null, null, NO_KEYS,
+                new Node[0]);
+
+        /** Value of the filter ending at this level. */
+        final T value;
+        /** Value of the filter ending with '#' below this level. */
+        final T multiLevel;
+        /** The '+' level below this one. */
+        final Node<T> singleLevel;
+        final String[] keys;
+        final Node<T>[] children;
+
+        Node(T value, T multiLevel, Node<T> singleLevel, String[] keys, Node<T>[] children) {
+            this.value = value;
+            this.multiLevel = multiLevel;
+            this.singleLevel = singleLevel;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Node<T> empty() {
+            return EMPTY;
+        }
+
+        boolean isEmpty() {
+            return value == null && multiLevel == null && singleLevel == null
+                    && keys.length == 0;
+        }
+
+        /**
+         * Returns the exact level below this one named by the region of the
+         * string between start and end, or null.
+         */
+        Node<T> find(String s, int start, int end) {
+            final int index = indexOf(s, start, end);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Returns a copy of this node with the given exact level below it,
+         * or without it if child is null.
+         */
+        @SuppressWarnings("unchecked")
+        Node<T> withChild(String key, Node<T> child) {
+            final int index = indexOf(key, 0, key.length());
+            final String[] newKeys;
+            final Node<T>[] newChildren;
+            if (index >= 0 && child != null) {
+                newKeys = keys;
+                newChildren = children.clone();
+                newChildren[index] = child;
+            } else if (index >= 0) {
+                newKeys = new String[keys.length - 1];
+                newChildren = new Node[keys.length - 1];
+                System.arraycopy(keys, 0, newKeys, 0, index);
+                System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(children, index + 1, newChildren, index,
+                        keys.length - index - 1);
+            } else if (child != null) {
+                final int insertion = -index - 1;
+                newKeys = new String[keys.length + 1];
+                newChildren = new Node[keys.length + 1];
+                System.arraycopy(keys, 0, newKeys, 0, insertion);
+                System.arraycopy(keys, insertion, newKeys, insertion + 1,
+                        keys.length - insertion);
+                System.arraycopy(children, 0, newChildren, 0, insertion);
+                System.arraycopy(children, insertion, newChildren, insertion + 1,
+                        keys.length - insertion);
+                newKeys[insertion] = key;
+                newChildren[insertion] = child;
+            } else {
+                return this;
+            }
+            return new Node<T>(value, multiLevel, singleLevel, newKeys, newChildren);
+        }
+
+        /**
+         * Binary search of the region of the string among the keys.
+         *
+         * @return the index of the key, or (-(insertion point) - 1) if absent.
+         */
+        private int indexOf(String s, int start, int end) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int cmp = compare(keys[mid], s, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Compares the key to the region of the string like
+         * {@link String#compareTo(String)}, without copying the region.
+         */
+        private static int compare(String key, String s, int start, int end) {
+            final int length = end - start;
+            final int common = Math.min(key.length(), length);
+            for (int i = 0; i < common; i++) {
+                final int diff = key.charAt(i) - s.charAt(start + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return key.length() - length;
+        }
+    }
+}
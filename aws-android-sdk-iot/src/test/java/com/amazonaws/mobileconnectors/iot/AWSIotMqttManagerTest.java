@@ -2401,6 +2401,257 @@ public class AWSIotMqttManagerTest {
         checkOfflinePublishingQueue(testClient, 1);
     }
 
+    @Test
+    public void testOfflinePublishQueueByteBound() throws Exception {
+        MockMqttClient mockClient = new MockMqttClient();
+
+        AWSIotMqttManager testClient = new AWSIotMqttManager("test-client",
+                Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+        testClient.setMqttClient(mockClient);
+        // room for 3 of the 14 byte payloads
+        testClient.setOfflinePublishQueueByteBound(45);
+
+        TestClientStatusCallback csb = new TestClientStatusCallback();
+        TestMessageDeliveryCallback mdcb = new TestMessageDeliveryCallback();
+
+        KeyStore testKeystore = AWSIotKeystoreHelper.getIotKeystore(CERT_ID, KEYSTORE_PATH,
+                KEYSTORE_NAME, KEYSTORE_PASSWORD);
+        testClient.connect(testKeystore, csb);
+        mockClient.mockConnectSuccess();
+        mockClient.mockDisconnect();
+        assertEquals(MqttManagerConnectionState.Reconnecting, testClient.getConnectionState());
+
+        for (int i = 0; i < 5; i++) {
+            testClient.publishString("test payload " + i, "test/topic", AWSIotMqttQos.QOS0);
+        }
+        assertEquals(3, testClient.getOfflinePublishQueueSize());
+        assertEquals(42, testClient.getOfflinePublishQueueBytes());
+        checkOfflinePublishingQueue(testClient, 2);
+
+        // a message larger than the bound is never queued
+        testClient.publishString(new String(new char[46]), "test/topic", AWSIotMqttQos.QOS0,
+                mdcb, "TEST_TOKEN_LARGE");
+        assertEquals(1, mdcb.statuses.size());
+        assertEquals(AWSIotMqttMessageDeliveryCallback.MessageDeliveryStatus.Fail,
+                mdcb.statuses.get(0));
+        assertEquals(3, testClient.getOfflinePublishQueueSize());
+    }
+
+    @Test
+    public void testOfflinePublishQueueFile() throws Exception {
+        File queueFile = File.createTempFile("iot-queue", ".journal");
+        try {
+            MockMqttClient mockClient = new MockMqttClient();
+
+            AWSIotMqttManager testClient = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            testClient.setMqttClient(mockClient);
+            testClient.setOfflinePublishQueueFile(queueFile);
+
+            TestClientStatusCallback csb = new TestClientStatusCallback();
+
+            KeyStore testKeystore = AWSIotKeystoreHelper.getIotKeystore(CERT_ID, KEYSTORE_PATH,
+                    KEYSTORE_NAME, KEYSTORE_PASSWORD);
+            testClient.connect(testKeystore, csb);
+            mockClient.mockConnectSuccess();
+            mockClient.mockDisconnect();
+
+            for (int i = 0; i < 3; i++) {
+                testClient.publishString("test payload " + i, "test/topic", AWSIotMqttQos.QOS1);
+            }
+            assertEquals(3, testClient.getOfflinePublishQueueSize());
+
+            // a new process finds the queued messages in the file
+            MockMqttClient newMockClient = new MockMqttClient();
+            AWSIotMqttManager newTestClient = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            newTestClient.setMqttClient(newMockClient);
+            newTestClient.setOfflinePublishQueueFile(queueFile);
+            assertEquals(3, newTestClient.getOfflinePublishQueueSize());
+            checkOfflinePublishingQueue(newTestClient);
+
+            // and keeps them on connect
+            newTestClient.connect(testKeystore, csb);
+            assertEquals(3, newTestClient.getOfflinePublishQueueSize());
+            newMockClient.mockConnectSuccess();
+            assertEquals(1, newMockClient.publishCalls);
+            assertEquals("test payload 0", new String(newMockClient.mostRecentPublishPayload));
+            assertEquals(AWSIotMqttQos.QOS1.asInt(), newMockClient.mostRecentPublishQoS);
+            assertEquals(2, newTestClient.getOfflinePublishQueueSize());
+            newTestClient.setOfflinePublishQueueFile(null);
+        } finally {
+            queueFile.delete();
+        }
+    }
+
+    @Test
+    public void testOfflinePublishQueueFileKeepsMessagesUntilDelivered() throws Exception {
+        File queueFile = File.createTempFile("iot-queue", ".journal");
+        try {
+            MockMqttClient mockClient = new MockMqttClient();
+
+            AWSIotMqttManager testClient = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            testClient.setMqttClient(mockClient);
+            testClient.setDrainingInterval(250L);
+            testClient.setOfflinePublishQueueFile(queueFile);
+
+            TestClientStatusCallback csb = new TestClientStatusCallback();
+
+            KeyStore testKeystore = AWSIotKeystoreHelper.getIotKeystore(CERT_ID, KEYSTORE_PATH,
+                    KEYSTORE_NAME, KEYSTORE_PASSWORD);
+            testClient.connect(testKeystore, csb);
+            mockClient.mockConnectSuccess();
+            mockClient.mockDisconnect();
+
+            for (int i = 0; i < 3; i++) {
+                testClient.publishString("test payload " + i, "test/topic", AWSIotMqttQos.QOS1);
+            }
+
+            Robolectric.getForegroundThreadScheduler().advanceBy(4100, TimeUnit.MILLISECONDS);
+            mockClient.mockConnectSuccess();
+            assertEquals(1, mockClient.publishCalls);
+            assertEquals(2, testClient.getOfflinePublishQueueSize());
+
+            // the message in flight stays in the file until it is delivered
+            AWSIotMqttManager fileReader = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            fileReader.setMqttClient(new MockMqttClient());
+            fileReader.setOfflinePublishQueueFile(queueFile);
+            assertEquals(3, fileReader.getOfflinePublishQueueSize());
+            fileReader.setOfflinePublishQueueFile(null);
+
+            MockDeliveryToken testDeliveryToken = new MockDeliveryToken();
+            testDeliveryToken.setUserContext(mockClient.mostRecentPublishUserContext);
+            mockClient.mockCallback.deliveryComplete(testDeliveryToken);
+
+            fileReader = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            fileReader.setMqttClient(new MockMqttClient());
+            fileReader.setOfflinePublishQueueFile(queueFile);
+            assertEquals(2, fileReader.getOfflinePublishQueueSize());
+            checkOfflinePublishingQueue(fileReader, 1);
+            fileReader.setOfflinePublishQueueFile(null);
+
+            // a message in flight when the connection is lost is published again
+            Robolectric.getForegroundThreadScheduler().advanceBy(250, TimeUnit.MILLISECONDS);
+            assertEquals(2, mockClient.publishCalls);
+            assertEquals("test payload 1", new String(mockClient.mostRecentPublishPayload));
+            mockClient.mockDisconnect();
+            Robolectric.getForegroundThreadScheduler().advanceBy(4100, TimeUnit.MILLISECONDS);
+            mockClient.mockConnectSuccess();
+            assertEquals(3, mockClient.publishCalls);
+            assertEquals("test payload 1", new String(mockClient.mostRecentPublishPayload));
+            assertEquals(1, testClient.getOfflinePublishQueueSize());
+            testClient.setOfflinePublishQueueFile(null);
+        } finally {
+            queueFile.delete();
+        }
+    }
+
+    @Test
+    public void testOfflinePublishQueueFileTrimmedToBound() throws Exception {
+        File queueFile = File.createTempFile("iot-queue", ".journal");
+        try {
+            MockMqttClient mockClient = new MockMqttClient();
+
+            AWSIotMqttManager testClient = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            testClient.setMqttClient(mockClient);
+            testClient.setOfflinePublishQueueFile(queueFile);
+
+            TestClientStatusCallback csb = new TestClientStatusCallback();
+
+            KeyStore testKeystore = AWSIotKeystoreHelper.getIotKeystore(CERT_ID, KEYSTORE_PATH,
+                    KEYSTORE_NAME, KEYSTORE_PASSWORD);
+            testClient.connect(testKeystore, csb);
+            mockClient.mockConnectSuccess();
+            mockClient.mockDisconnect();
+
+            for (int i = 0; i < 5; i++) {
+                testClient.publishString("test payload " + i, "test/topic", AWSIotMqttQos.QOS1);
+            }
+            assertEquals(5, testClient.getOfflinePublishQueueSize());
+
+            // a new process with a smaller bound sheds the oldest messages
+            AWSIotMqttManager newTestClient = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            newTestClient.setMqttClient(new MockMqttClient());
+            newTestClient.setOfflinePublishQueueBound(2);
+            newTestClient.setOfflinePublishQueueFile(queueFile);
+            assertEquals(2, newTestClient.getOfflinePublishQueueSize());
+            assertEquals(28, newTestClient.getOfflinePublishQueueBytes());
+            checkOfflinePublishingQueue(newTestClient, 3);
+            newTestClient.setOfflinePublishQueueFile(null);
+
+            // and so does the file
+            AWSIotMqttManager lastTestClient = new AWSIotMqttManager("test-client",
+                    Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+            lastTestClient.setMqttClient(new MockMqttClient());
+            lastTestClient.setOfflinePublishQueueFile(queueFile);
+            assertEquals(2, lastTestClient.getOfflinePublishQueueSize());
+            checkOfflinePublishingQueue(lastTestClient, 3);
+            lastTestClient.setOfflinePublishQueueFile(null);
+        } finally {
+            queueFile.delete();
+        }
+    }
+
+    @Test
+    public void testOfflinePublishQueueDrainingInflightWindow() throws Exception {
+        MockMqttClient mockClient = new MockMqttClient();
+
+        AWSIotMqttManager testClient = new AWSIotMqttManager("test-client",
+                Region.getRegion(Regions.US_EAST_1), TEST_ENDPOINT_PREFIX);
+        testClient.setMqttClient(mockClient);
+        testClient.setDrainingInflightWindow(2);
+
+        TestClientStatusCallback csb = new TestClientStatusCallback();
+        TestMessageDeliveryCallback mdcb = new TestMessageDeliveryCallback();
+
+        KeyStore testKeystore = AWSIotKeystoreHelper.getIotKeystore(CERT_ID, KEYSTORE_PATH,
+                KEYSTORE_NAME, KEYSTORE_PASSWORD);
+        testClient.connect(testKeystore, csb);
+        mockClient.mockConnectSuccess();
+        mockClient.mockDisconnect();
+
+        for (int i = 0; i < 5; i++) {
+            testClient.publishString("test payload " + i, "test/topic", AWSIotMqttQos.QOS1,
+                    mdcb, "TEST_TOKEN_" + i);
+        }
+        assertEquals(5, testClient.getOfflinePublishQueueSize());
+
+        Robolectric.getForegroundThreadScheduler().advanceBy(4100, TimeUnit.MILLISECONDS);
+        mockClient.mockConnectSuccess();
+
+        // two messages in flight, without waiting for the draining interval
+        waitForPublishCalls(mockClient, 2);
+        Thread.sleep(100);
+        assertEquals(2, mockClient.publishCalls);
+        assertEquals(3, testClient.getOfflinePublishQueueSize());
+
+        // each delivery lets the next message go
+        for (int i = 2; i < 5; i++) {
+            MockDeliveryToken testDeliveryToken = new MockDeliveryToken();
+            testDeliveryToken.setUserContext(mockClient.mostRecentPublishUserContext);
+            mockClient.mockCallback.deliveryComplete(testDeliveryToken);
+            waitForPublishCalls(mockClient, i + 1);
+        }
+        assertEquals("test payload 4", new String(mockClient.mostRecentPublishPayload));
+        assertEquals(0, testClient.getOfflinePublishQueueSize());
+        assertEquals(0, testClient.getOfflinePublishQueueBytes());
+        assertEquals(3, mdcb.statuses.size());
+    }
+
+    private static void waitForPublishCalls(MockMqttClient mockClient, int publishCalls)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (mockClient.publishCalls < publishCalls && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(publishCalls, mockClient.publishCalls);
+    }
+
     @Test
     public void testOfflinePublishQueueLimitOldest() throws Exception {
         MockMqttClient mockClient = new MockMqttClient();
@@ -0,0 +1,196 @@
+package com.amazonaws.mobileconnectors.iot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.util.StringUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+public class AWSIotMqttQueueJournalTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("iot-queue", ".journal");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testQueuedMessagesSurviveReopen() throws Exception {
+        AWSIotMqttQueueJournal journal = new AWSIotMqttQueueJournal(file);
+        assertEquals(0, journal.load().size());
+        for (int i = 0; i < 5; i++) {
+            journal.append(message("test/topic/" + i, "test payload " + i,
+                    i % 2 == 0 ? AWSIotMqttQos.QOS0 : AWSIotMqttQos.QOS1));
+        }
+        journal.removeFirst();
+        journal.removeFirst();
+        journal.close();
+
+        journal = new AWSIotMqttQueueJournal(file);
+        final List<AWSIotMqttQueueMessage> messages = journal.load();
+        assertEquals(3, messages.size());
+        for (int i = 0; i < 3; i++) {
+            final AWSIotMqttQueueMessage message = messages.get(i);
+            assertEquals("test/topic/" + (i + 2), message.getTopic());
+            assertEquals("test payload " + (i + 2), new String(message.getMessage(),
+                    StringUtils.UTF8));
+            assertEquals(i % 2 == 0 ? AWSIotMqttQos.QOS0 : AWSIotMqttQos.QOS1, message.getQos());
+            assertNull(message.getUserData().getUserCallback());
+        }
+
+        // Removal continues from the restored messages.
+        journal.removeFirst();
+        journal.append(message("test/topic/5", "test payload 5", AWSIotMqttQos.QOS1));
+        journal.close();
+        journal = new AWSIotMqttQueueJournal(file);
+        final List<AWSIotMqttQueueMessage> reloaded = journal.load();
+        assertEquals(3, reloaded.size());
+        assertEquals("test/topic/3", reloaded.get(0).getTopic());
+        assertEquals("test/topic/5", reloaded.get(2).getTopic());
+        journal.close();
+    }
+
+    @Test
+    public void testRemovedMessagesAreSkipped() throws Exception {
+        AWSIotMqttQueueJournal journal = new AWSIotMqttQueueJournal(file);
+        journal.load();
+        final long emptyLength = journal.length();
+        for (int i = 0; i < 4; i++) {
+            journal.append(message("test/topic/" + i, "test payload " + i, AWSIotMqttQos.QOS1));
+        }
+        journal.remove(1);
+        journal.remove(1);
+        journal.close();
+
+        journal = new AWSIotMqttQueueJournal(file);
+        List<AWSIotMqttQueueMessage> messages = journal.load();
+        assertEquals(2, messages.size());
+        assertEquals("test/topic/0", messages.get(0).getTopic());
+        assertEquals("test/topic/3", messages.get(1).getTopic());
+        assertEquals(AWSIotMqttQos.QOS1, messages.get(1).getQos());
+
+        // Removing the first message also removes the ones marked after it.
+        journal.removeFirst();
+        journal.close();
+        journal = new AWSIotMqttQueueJournal(file);
+        messages = journal.load();
+        assertEquals(1, messages.size());
+        assertEquals("test/topic/3", messages.get(0).getTopic());
+        journal.removeFirst();
+        assertEquals(emptyLength, journal.length());
+        journal.close();
+    }
+
+    @Test
+    public void testEmptyQueueTruncatesFile() throws Exception {
+        final AWSIotMqttQueueJournal journal = new AWSIotMqttQueueJournal(file);
+        journal.load();
+        final long emptyLength = journal.length();
+        journal.append(message("a", "1", AWSIotMqttQos.QOS0));
+        journal.append(message("b", "2", AWSIotMqttQos.QOS0));
+        assertTrue(journal.length() > emptyLength);
+        journal.removeFirst();
+        journal.removeFirst();
+        assertEquals(emptyLength, journal.length());
+
+        journal.append(message("c", "3", AWSIotMqttQos.QOS0));
+        journal.clear();
+        assertEquals(emptyLength, journal.length());
+        journal.close();
+    }
+
+    @Test
+    public void testDequeuedSpaceIsReclaimed() throws Exception {
+        final AWSIotMqttQueueJournal journal = new AWSIotMqttQueueJournal(file);
+        journal.load();
+        final String payload = new String(new char[1000]).replace('\0', 'x');
+        final int count = 3 * AWSIotMqttQueueJournal.MIN_COMPACTION_BYTES / 1000;
+        for (int i = 0; i < count; i++) {
+            journal.append(message("topic/" + i, payload, AWSIotMqttQos.QOS1));
+        }
+        final long fullLength = journal.length();
+        for (int i = 0; i < count - 1; i++) {
+            journal.removeFirst();
+        }
+        assertTrue(journal.length() < fullLength / 2);
+        journal.close();
+
+        final AWSIotMqttQueueJournal reopened = new AWSIotMqttQueueJournal(file);
+        final List<AWSIotMqttQueueMessage> messages = reopened.load();
+        assertEquals(1, messages.size());
+        assertEquals("topic/" + (count - 1), messages.get(0).getTopic());
+        reopened.close();
+    }
+
+    @Test
+    public void testIncompleteRecordIsDiscarded() throws Exception {
+        AWSIotMqttQueueJournal journal = new AWSIotMqttQueueJournal(file);
+        journal.load();
+        journal.append(message("a", "complete", AWSIotMqttQos.QOS1));
+        journal.append(message("b", "cut short", AWSIotMqttQos.QOS1));
+        journal.close();
+
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(raf.length() - 3);
+        raf.close();
+
+        journal = new AWSIotMqttQueueJournal(file);
+        final List<AWSIotMqttQueueMessage> messages = journal.load();
+        assertEquals(1, messages.size());
+        assertEquals("a", messages.get(0).getTopic());
+        journal.append(message("c", "appended", AWSIotMqttQos.QOS1));
+        journal.close();
+
+        journal = new AWSIotMqttQueueJournal(file);
+        assertEquals(2, journal.load().size());
+        journal.close();
+    }
+
+    @Test
+    public void testInterruptedCompactionKeepsMovedMessages() throws Exception {
+        AWSIotMqttQueueJournal journal = new AWSIotMqttQueueJournal(file);
+        journal.load();
+        journal.append(message("a", "moved", AWSIotMqttQos.QOS1));
+        journal.append(message("b", "moved", AWSIotMqttQos.QOS1));
+        journal.close();
+
+        // The file of a compaction interrupted after the header was written:
+        // the moved messages, the end marker, then what was left behind.
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final long end = raf.length();
+        raf.seek(end);
+        raf.writeInt(-1);
+        raf.write(new byte[] {
+                0, 0, 0, 1, 'c', 1, 0, 0, 0, 1, 'x', 0, 0
+        });
+        raf.close();
+
+        journal = new AWSIotMqttQueueJournal(file);
+        final List<AWSIotMqttQueueMessage> messages = journal.load();
+        assertEquals(2, messages.size());
+        assertEquals("a", messages.get(0).getTopic());
+        assertEquals("b", messages.get(1).getTopic());
+        assertEquals(end, journal.length());
+        journal.close();
+    }
+
+    private static AWSIotMqttQueueMessage message(String topic, String payload,
+            AWSIotMqttQos qos) {
+        return new AWSIotMqttQueueMessage(topic, payload.getBytes(StringUtils.UTF8), qos,
+                new PublishMessageUserData(null, null));
+    }
+}
@@ -0,0 +1,107 @@
+package com.amazonaws.mobileconnectors.iot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TopicTrieTest {
+
+    private static final String SHADOW_FILTER = "$aws/things/+/shadow/update/#";
+
+    @Test
+    public void testMatchesAllFiltersOfTopic() {
+        final TopicTrie<String> trie = new TopicTrie<String>();
+        for (final String filter : Arrays.asList("a/b/c", "a/+/c", "a/#", "+/+/+", "#", "a/b",
+                "a/b/c/d", "b/#", "a//c", "a/+")) {
+            trie.put(filter, filter);
+        }
+        assertMatches(trie, "a/b/c", "a/b/c", "a/+/c", "a/#", "+/+/+", "#");
+        assertMatches(trie, "a/b", "a/b", "a/#", "#", "a/+");
+        assertMatches(trie, "a//c", "a//c", "a/+/c", "a/#", "+/+/+", "#");
+        assertMatches(trie, "a", "#");
+        assertMatches(trie, "c/d/e/f", "#");
+    }
+
+    @Test
+    public void testRemoveAndReplace() {
+        final TopicTrie<String> trie = new TopicTrie<String>();
+        trie.put("a/b", "first");
+        trie.put("a/b", "second");
+        trie.put("a/b/c", "child");
+        trie.put("a/+", "single");
+        assertMatches(trie, "a/b", "second", "single");
+
+        trie.remove("a/b");
+        trie.remove("a/b/x");
+        trie.remove("a/#");
+        assertMatches(trie, "a/b", "single");
+        assertMatches(trie, "a/b/c", "child");
+
+        trie.remove("a/+");
+        trie.remove("a/b/c");
+        assertMatches(trie, "a/b");
+
+        trie.put("x", "x");
+        trie.clear();
+        assertMatches(trie, "x");
+    }
+
+    @Test
+    public void testManySubscriptions() {
+        final TopicTrie<String> trie = new TopicTrie<String>();
+        trie.put(SHADOW_FILTER, SHADOW_FILTER);
+        for (int i = 0; i < 200; i++) {
+            final String filter = "$aws/things/thing" + i + "/shadow/get/accepted";
+            trie.put(filter, filter);
+        }
+        assertMatches(trie, "$aws/things/thing42/shadow/get/accepted",
+                "$aws/things/thing42/shadow/get/accepted");
+        assertMatches(trie, "$aws/things/thing42/shadow/update/delta", SHADOW_FILTER);
+        assertMatches(trie, "$aws/things/thing200/shadow/get/accepted");
+        for (int i = 0; i < 200; i += 2) {
+            trie.remove("$aws/things/thing" + i + "/shadow/get/accepted");
+        }
+        assertMatches(trie, "$aws/things/thing42/shadow/get/accepted");
+        assertMatches(trie, "$aws/things/thing43/shadow/get/accepted",
+                "$aws/things/thing43/shadow/get/accepted");
+    }
+
+    @Test
+    public void testIsMatch() {
+        assertTrue(TopicTrie.isMatch("test/+/+/+/+", "test/1/2/3/4"));
+        assertFalse(TopicTrie.isMatch("test/+/+/+/+", "test/1/2/3/4/5"));
+        assertFalse(TopicTrie.isMatch("test/+/+/+/+", "test/1/2/3"));
+        assertTrue(TopicTrie.isMatch("+/1/+", "A/1/B"));
+        assertFalse(TopicTrie.isMatch("+/1", "test/12"));
+        assertTrue(TopicTrie.isMatch("test/#", "test/1/2/3/4/5"));
+        assertFalse(TopicTrie.isMatch("test/#", "not/1"));
+        assertFalse(TopicTrie.isMatch("test/1", "test/1/2"));
+    }
+
+    @Test
+    public void testMultiLevelWildcardMustBeLast() {
+        try {
+            new TopicTrie<String>().put("a/#/b", "value");
+            fail("'#' must be the last level");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void assertMatches(TopicTrie<String> trie, String topic, String... expected) {
+        final List<String> matches = new ArrayList<String>();
+        trie.match(topic, matches);
+        Collections.sort(matches);
+        final List<String> sorted = new ArrayList<String>(Arrays.asList(expected));
+        Collections.sort(sorted);
+        assertEquals(sorted, matches);
+    }
+}
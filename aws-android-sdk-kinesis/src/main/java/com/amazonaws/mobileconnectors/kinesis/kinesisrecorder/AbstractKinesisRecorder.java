@@ -25,7 +25,22 @@ import com.amazonaws.logging.LogFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * An abstract class for Amazon Kinesis recorders. It manages local file store
@@ -45,6 +60,11 @@ public abstract class AbstractKinesisRecorder {
      * Maximum size in bytes of records in PutRecordBatch.
      */
     private static final int MAX_BATCH_RECORDS_SIZE_BYTES = 512 * 1024;
+    /**
+     * Base delay before retrying records rejected by the service.
+     */
+    private static final long RETRY_BASE_DELAY_MS = 200;
+    private static final long SUBMISSION_THREAD_KEEP_ALIVE_SECONDS = 60;
 
     /**
      * The configurable options for Kinesis Recorder, includes the
@@ -53,6 +73,13 @@ public abstract class AbstractKinesisRecorder {
     protected KinesisRecorderConfig config;
     protected FileRecordStore recordStore;
 
+    /**
+     * Serializes submissions without holding the monitor of the recorder.
+     */
+    private final ReentrantLock submitLock = new ReentrantLock();
+    private ExecutorService submissionExecutor;
+    private final AutoFlushScheduler autoFlushScheduler;
+
     /**
      * Gets the sender to send saved records.
      *
@@ -72,6 +99,15 @@ public abstract class AbstractKinesisRecorder {
         }
         this.recordStore = recordStore;
         this.config = config;
+        this.autoFlushScheduler = new AutoFlushScheduler(this, config);
+    }
+
+    /**
+     * Starts submitting records in the background if auto flush is enabled in
+     * the configuration. Otherwise it starts with the first saved record.
+     */
+    void startAutoFlush() {
+        autoFlushScheduler.start();
     }
 
     /**
@@ -96,11 +132,14 @@ public abstract class AbstractKinesisRecorder {
      * @param streamName The stream to submit the data to.
      */
     public void saveRecord(byte[] data, String streamName) {
+        autoFlushScheduler.start();
+        final boolean stored;
         try {
-            recordStore.put(FileRecordParser.asString(streamName, data));
+            stored = recordStore.put(streamName, data);
         } catch (final IOException e) {
             throw new AmazonClientException("Error saving record", e);
         }
+        autoFlushScheduler.onRecordSaved(stored);
     }
 
     /**
@@ -111,107 +150,373 @@ public abstract class AbstractKinesisRecorder {
      * invalid) will be deleted. Note: Since KinesisRecorder uses synchronous
      * methods to make calls to Amazon Kinesis, do not call submitAll() on the
      * main thread of your application.
+     * <p>
+     * Saved records are read in windows and grouped into one batch per stream,
+     * and up to {@link KinesisRecorderConfig#getMaxConcurrentBatches()} batches
+     * are sent at the same time. Records rejected individually by the service
+     * are retried with exponential backoff; records still rejected after three
+     * attempts are kept in place for the next submission, which sends again
+     * the records saved after them.
+     * Records saved while a submission is running are not blocked by it.
      *
      * @throws AmazonClientException Thrown if there was an unrecoverable error
      *             during submission. Note: If the request appears to be
      *             invalid, the record will be deleted. If the request appears
      *             to be valid, it will be kept.
      */
-    public synchronized void submitAllRecords() {
-        final RecordSender sender = getRecordSender();
-        final RecordIterator iterator = recordStore.iterator();
-        final List<byte[]> data = new ArrayList<byte[]>(MAX_RECORDS_PER_BATCH);
-        int retry = 0;
-        int count = 0;
-        boolean unknownErrorRetried = false;
+    public void submitAllRecords() {
+        submitLock.lock();
+        final long startTime = System.currentTimeMillis();
+        final AtomicInteger count = new AtomicInteger();
+        AmazonClientException error = null;
+        boolean recoverable = false;
         try {
-            while (iterator.hasNext() && retry < MAX_RETRY_COUNT) {
-                final String streamName = nextBatch(iterator, data, MAX_RECORDS_PER_BATCH,
-                        MAX_BATCH_RECORDS_SIZE_BYTES);
-                if (streamName == null || data.isEmpty()) {
-                    break;
+            final RecordSender sender = getRecordSender();
+            final RecordIterator iterator = recordStore.iterator();
+            try {
+                while (iterator.hasNext()) {
+                    final List<StreamBatch> batches = nextWindow(iterator);
+                    if (batches.isEmpty()) {
+                        break;
+                    }
+                    if (!submitWindow(sender, iterator, batches, count)) {
+                        // Retries are exhausted, keep the rest for later.
+                        break;
+                    }
+                }
+            } finally {
+                LOGGER.debug(String.format("submitAllRecords sent %d records", count.get()));
+                try {
+                    iterator.close();
+                } catch (final IOException e) {
+                    throw new AmazonClientException("Failed to close record file", e);
+                }
+            }
+        } catch (final AmazonClientException e) {
+            error = e;
+            final RecordSender sender = getRecordSender();
+            recoverable = sender != null && sender.isRecoverable(e);
+            throw e;
+        } finally {
+            submitLock.unlock();
+            autoFlushScheduler.onSubmitted(startTime, count.get(), error, recoverable);
+        }
+    }
+
+    /**
+     * Sends the batches of a window and removes from the store the records at
+     * the head of the window that were either sent or dropped. The first
+     * record that was not sent, because of a recoverable error or because it
+     * is still rejected, and the records after it are kept in place.
+     *
+     * @return true if every record was either sent or dropped
+     */
+    private boolean submitWindow(RecordSender sender, RecordIterator iterator,
+            List<StreamBatch> batches, AtomicInteger count) {
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final int concurrency = Math.min(config.getMaxConcurrentBatches(), batches.size());
+        if (concurrency <= 1) {
+            for (final StreamBatch batch : batches) {
+                new BatchSendTask(sender, batch, aborted, count).call();
+            }
+        } else {
+            final List<Future<Void>> futures = new ArrayList<Future<Void>>(batches.size());
+            final ExecutorService executor = getSubmissionExecutor();
+            for (final StreamBatch batch : batches) {
+                futures.add(executor.submit(new BatchSendTask(sender, batch, aborted, count)));
+            }
+            waitFor(futures, aborted);
+        }
+
+        /**
+         * Records are never saved again: the store may be full, and they
+         * would go behind newer records. Instead only the records before the
+         * first one that was not sent are removed, so the records that were
+         * sent after it are submitted again. We prefer duplicates to losing
+         * records. https://github.com/aws/aws-sdk-android/issues/225
+         */
+        AmazonClientException recoverableError = null;
+        boolean skipped = false;
+        int windowSize = 0;
+        for (final StreamBatch batch : batches) {
+            windowSize += batch.data.size();
+        }
+        int removed = windowSize;
+        for (final StreamBatch batch : batches) {
+            if (batch.recoverable && recoverableError == null) {
+                recoverableError = batch.error;
+            }
+            skipped |= batch.skipped;
+            if (!batch.failures.isEmpty()) {
+                removed = Math.min(removed, firstUnsentPosition(batch));
+            }
+        }
+
+        AmazonClientException droppedError = null;
+        for (final StreamBatch batch : batches) {
+            if (batch.error == null || batch.recoverable) {
+                continue;
+            }
+            // Data is dead and should be added to dead letter queue. The
+            // records that are kept are sent again next time.
+            final List<byte[]> dropped = new ArrayList<byte[]>();
+            for (int i = 0; i < batch.data.size() && batch.positions.get(i) < removed; i++) {
+                dropped.add(batch.data.get(i));
+            }
+            if (!dropped.isEmpty()) {
+                notifyRecordsDropped(batch.streamName, dropped);
+                if (droppedError == null) {
+                    droppedError = batch.error;
                 }
+            }
+        }
+        try {
+            if (removed == windowSize) {
+                iterator.removeReadRecords();
+            } else if (removed > 0) {
+                iterator.removeReadRecords(removed);
+            }
+        } catch (final IOException e) {
+            throw new AmazonClientException(droppedError != null
+                    ? "Failed to drop bad records." : "Failed to remove read records", e);
+        }
 
+        if (recoverableError != null) {
+            throw logRecoverable(recoverableError);
+        }
+        if (skipped) {
+            throw new AmazonClientException("Submission was interrupted, the records will be kept");
+        }
+        if (droppedError != null) {
+            // We have reason to believe the values in the request
+            // is invalid and cannot be sent or recovered.
+            LOGGER.error(
+                    "ServiceException in submit all, the last request is presumed to be the cause and will be dropped",
+                    droppedError);
+            throw droppedError;
+        }
+        return removed == windowSize;
+    }
+
+    /**
+     * Returns the position in the window of the first record of a batch that
+     * was not sent.
+     */
+    private static int firstUnsentPosition(StreamBatch batch) {
+        final Set<byte[]> unsent = Collections.newSetFromMap(new IdentityHashMap<byte[], Boolean>());
+        unsent.addAll(batch.failures);
+        for (int i = 0; i < batch.data.size(); i++) {
+            if (unsent.contains(batch.data.get(i))) {
+                return batch.positions.get(i);
+            }
+        }
+        // The sender returned copies of the records, none of them is known
+        // to be sent.
+        return batch.positions.get(0);
+    }
+
+    private static AmazonClientException logRecoverable(AmazonClientException error) {
+        LOGGER.error(
+                "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
+                error);
+        return error;
+    }
+
+    private void waitFor(List<Future<Void>> futures, AtomicBoolean aborted) {
+        boolean interrupted = false;
+        for (final Future<Void> future : futures) {
+            while (true) {
                 try {
+                    future.get();
+                    break;
+                } catch (final InterruptedException e) {
+                    // Let the batches in flight finish, their outcome decides
+                    // what is removed from the store.
+                    interrupted = true;
+                    aborted.set(true);
+                } catch (final ExecutionException e) {
+                    throw new AmazonClientException("Failed to submit records", e.getCause());
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                    List<byte[]> failures = null;
-                    try {
-                        failures = sender.sendBatch(streamName, data);
-                    } catch (AmazonClientException ace) {
-                        if (!unknownErrorRetried
-                                && ace.getMessage() != null
-                                && ace.getMessage().contains("Unable to unmarshall error response")) {
-                            // Retry once for unforeseen error, possible kinesis error without shape
-                            unknownErrorRetried = true;
-                            failures = data;
-                        } else {
-                            throw ace;
-                        }
-                    }
+    private void notifyRecordsDropped(String streamName, List<byte[]> data) {
+        final DeadLetterListener listener = config.getDeadLetterListener();
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onRecordsDropped(streamName, data);
+        } catch (Exception e) {
+            LOGGER.error("DeadLetterListener onRecordsDropped has thrown an exception (user code)", e);
+        }
+    }
 
-                    final int successCount = data.size() - failures.size();
-                    count += successCount;
-
-                    /**
-                     * We hold off on removing records until we are sure that we
-                     * have successfully made the request. We would prefer to
-                     * send duplicates than to lose records. This is still not a
-                     * perfect solution as there is a chance for loss between
-                     * removing the read records and re-saving the failed
-                     * records.
-                     * https://github.com/aws/aws-sdk-android/issues/225 If this
-                     * errors it will throw an IOException. We don't wrap it so
-                     * it's handled separately from network errors which will be
-                     * wrapped by an AmazonClientException.
-                     */
-                    iterator.removeReadRecords();
-
-                    if (successCount == 0) {
-                        // no record went through, increase retry count.
-                        retry++;
-                    }
-                    if (!failures.isEmpty()) {
-                        for (final byte[] bytes : failures) {
-                            saveRecord(bytes, streamName);
-                        }
-                    }
+    /**
+     * Reads the next window of records, grouped into batches of the same
+     * stream in the order the streams first appear. A window holds at most
+     * {@link KinesisRecorderConfig#getMaxConcurrentBatches()} full batches
+     * worth of records.
+     *
+     * @param iterator record iterator
+     * @return the batches of the window, empty if there are no more records
+     */
+    List<StreamBatch> nextWindow(RecordIterator iterator) {
+        final int maxBatches = Math.max(config.getMaxConcurrentBatches(), 1);
+        final long maxCount = (long) maxBatches * MAX_RECORDS_PER_BATCH;
+        final long maxSize = (long) maxBatches * MAX_BATCH_RECORDS_SIZE_BYTES;
+
+        final List<StreamBatch> batches = new ArrayList<StreamBatch>();
+        final Map<String, StreamBatch> openBatches = new HashMap<String, StreamBatch>();
+        final List<byte[]> data = new ArrayList<byte[]>();
+        long count = 0;
+        long size = 0;
+        while (count < maxCount && size < maxSize && iterator.hasNext()) {
+            final String streamName = iterator.peek().streamName;
+            StreamBatch batch = openBatches.get(streamName);
+            if (batch == null || batch.data.size() >= MAX_RECORDS_PER_BATCH
+                    || batch.size >= MAX_BATCH_RECORDS_SIZE_BYTES) {
+                batch = new StreamBatch(streamName);
+                batches.add(batch);
+                openBatches.put(streamName, batch);
+            }
+            // Reads the records of the stream up to the next record of another
+            // stream, within what is left of the batch and of the window.
+            nextBatch(iterator, data,
+                    (int) Math.min(MAX_RECORDS_PER_BATCH - batch.data.size(), maxCount - count),
+                    (int) Math.min(MAX_BATCH_RECORDS_SIZE_BYTES - batch.size, maxSize - size));
+            for (final byte[] record : data) {
+                batch.data.add(record);
+                batch.positions.add((int) count);
+                batch.size += record.length;
+                count++;
+                size += record.length;
+            }
+        }
+        return batches;
+    }
+
+    private synchronized ExecutorService getSubmissionExecutor() {
+        if (submissionExecutor == null) {
+            final int threads = Math.max(config.getMaxConcurrentBatches(), 1);
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                    SUBMISSION_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>());
+            executor.allowCoreThreadTimeOut(true);
+            submissionExecutor = executor;
+        }
+        return submissionExecutor;
+    }
+
+    private static long exponentialBackoffWithJitter(int retryAttempt) {
+        final long delay = RETRY_BASE_DELAY_MS * (1L << (retryAttempt - 1));
+        final long jitter = (long) (RETRY_BASE_DELAY_MS * Math.random());
+        return delay + jitter;
+    }
+
+    /**
+     * Records of one stream that are sent in one request, and the outcome.
+     */
+    static class StreamBatch {
+        final String streamName;
+        final List<byte[]> data = new ArrayList<byte[]>();
+        /** Position of each record in the window, in the order of data. **/
+        final List<Integer> positions = new ArrayList<Integer>();
+        int size;
 
+        /**
+         * Records not sent: still rejected after the last attempt, or not
+         * sent because of a recoverable error.
+         **/
+        List<byte[]> failures = Collections.emptyList();
+
+        /** Error that ended the attempts, if any. **/
+        AmazonClientException error;
+
+        /** Whether the error allows to send the records later. **/
+        boolean recoverable;
+
+        /** Whether the batch was not sent because the window was aborted. **/
+        boolean skipped;
+
+        StreamBatch(String streamName) {
+            this.streamName = streamName;
+        }
+    }
+
+    /**
+     * Sends a batch, retrying the records rejected individually by the
+     * service.
+     */
+    private static final class BatchSendTask implements Callable<Void> {
+        private final RecordSender sender;
+        private final StreamBatch batch;
+        private final AtomicBoolean aborted;
+        private final AtomicInteger count;
+
+        BatchSendTask(RecordSender sender, StreamBatch batch, AtomicBoolean aborted,
+                AtomicInteger count) {
+            this.sender = sender;
+            this.batch = batch;
+            this.aborted = aborted;
+            this.count = count;
+        }
+
+        @Override
+        public Void call() {
+            List<byte[]> pending = batch.data;
+            boolean unknownErrorRetried = false;
+            int attempt = 1;
+            while (true) {
+                if (aborted.get()) {
+                    // Another batch hit a recoverable error, the records not
+                    // sent yet are kept.
+                    batch.skipped = true;
+                    batch.failures = pending;
+                    return null;
+                }
+
+                final List<byte[]> failures;
+                try {
+                    failures = sender.sendBatch(batch.streamName, pending);
                 } catch (final AmazonClientException ace) {
-                    if (sender.isRecoverable(ace)) {
-                        LOGGER.error(
-                                "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
-                                ace);
-                    } else {
-
-                        // Data is dead and should be added to dead letter queue
-                        try {
-                            this.config.getDeadLetterListener().onRecordsDropped(streamName, data);
-                        } catch (Exception e) {
-                            LOGGER.error("DeadLetterListener onRecordsDropped has thrown an exception (user code)", e);
-                        }
-
-                        try {
-                            iterator.removeReadRecords();
-                        } catch (final IOException e) {
-                            throw new AmazonClientException("Failed to drop bad records.", e);
-                        }
-                        // We have reason to believe the values in the request
-                        // is invalid and cannot be sent or recovered.
-                        LOGGER.error(
-                                "ServiceException in submit all, the last request is presumed to be the cause and will be dropped",
-                                ace);
+                    if (!unknownErrorRetried
+                            && ace.getMessage() != null
+                            && ace.getMessage().contains("Unable to unmarshall error response")) {
+                        // Retry once for unforeseen error, possible kinesis error without shape
+                        unknownErrorRetried = true;
+                        continue;
                     }
-                    throw ace;
-                } catch (final IOException e) {
-                    throw new AmazonClientException("Failed to remove read records", e);
+                    batch.error = ace;
+                    batch.recoverable = sender.isRecoverable(ace);
+                    if (batch.recoverable) {
+                        batch.failures = pending;
+                        aborted.set(true);
+                    }
+                    return null;
+                }
+
+                count.addAndGet(pending.size() - failures.size());
+                if (failures.isEmpty()) {
+                    return null;
+                }
+                if (attempt >= MAX_RETRY_COUNT) {
+                    batch.failures = failures;
+                    return null;
+                }
+
+                pending = failures;
+                try {
+                    Thread.sleep(exponentialBackoffWithJitter(attempt++));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    batch.failures = pending;
+                    return null;
                 }
-            }
-        } finally {
-            LOGGER.debug(String.format("submitAllRecords sent %d records", count));
-            try {
-                iterator.close();
-            } catch (final IOException e) {
-                throw new AmazonClientException("Failed to close record file", e);
             }
         }
     }
@@ -234,29 +539,16 @@ public abstract class AbstractKinesisRecorder {
         String lastStreamName = null;
         int size = 0;
         int count = 0;
-        final FileRecordParser frp = new FileRecordParser();
         while (iterator.hasNext() && count < maxCount && size < maxSize) {
-            final String line = iterator.peek();
-            if (line == null || line.isEmpty()) {
-                iterator.next();
-                continue;
-            }
-            // parse a line. Skip in case of corrupted data
-            try {
-                frp.parse(line);
-            } catch (final Exception e) {
-                LOGGER.warn("Failed to read line. Skip.", e);
-                iterator.next();
-                continue;
-            }
+            final FileRecord record = iterator.peek();
 
             // check whether it belongs to previous batch
-            if (lastStreamName == null || lastStreamName.equals(frp.streamName)) {
-                data.add(frp.bytes);
+            if (lastStreamName == null || lastStreamName.equals(record.streamName)) {
+                data.add(record.data);
                 // update counter
                 count++;
-                size += frp.bytes.length;
-                lastStreamName = frp.streamName;
+                size += record.data.length;
+                lastStreamName = record.streamName;
                 iterator.next();
             } else {
                 break;
@@ -266,6 +558,51 @@ public abstract class AbstractKinesisRecorder {
         return lastStreamName;
     }
 
+    /**
+     * Returns a snapshot of the records waiting to be submitted and of the
+     * time submissions took.
+     *
+     * @return the statistics of this recorder
+     */
+    public KinesisRecorderStatistics getStatistics() {
+        return autoFlushScheduler.getStatistics();
+    }
+
+    /**
+     * Informs the recorder whether the network is available. While it isn't,
+     * automatic submissions are paused. When it becomes available again, the
+     * records stored are submitted right away. It has no effect unless auto
+     * flush is enabled in {@link KinesisRecorderConfig}.
+     * <p>
+     * The recorder doesn't monitor the network itself, and assumes it is
+     * available until told otherwise. Apps that enable auto flush should call
+     * this method from their own connectivity listener, for example a
+     * {@code BroadcastReceiver} for {@code ConnectivityManager.CONNECTIVITY_ACTION},
+     * otherwise submissions made while offline fail and back off.
+     *
+     * @param available whether the network is available
+     */
+    public void setNetworkAvailable(boolean available) {
+        autoFlushScheduler.setNetworkAvailable(available);
+    }
+
+    /**
+     * Stops automatic submissions. If auto flush is enabled, the records still
+     * stored are submitted once more in the background; records that can't be
+     * sent are kept on disk. Records can still be saved and submitted
+     * manually afterwards.
+     */
+    public void shutdown() {
+        autoFlushScheduler.shutdown();
+    }
+
+    /**
+     * Waits for the final automatic submission started by {@link #shutdown()}.
+     */
+    boolean awaitShutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        return autoFlushScheduler.awaitTermination(timeout, unit);
+    }
+
     /**
      * Returns the KinesisRecorderConfig this Kinesis Recorder is using. This is
      * either the config passed into the constructor or the default one if one
@@ -303,11 +640,14 @@ public abstract class AbstractKinesisRecorder {
      * Removes all requests saved to disk in the directory provided this
      * KinesisRecorder.
      */
-    public synchronized void deleteAllRecords() {
+    public void deleteAllRecords() {
+        submitLock.lock();
         try {
             recordStore.iterator().removeAllRecords();
         } catch (final IOException e) {
             throw new AmazonClientException("Error deleting events", e);
+        } finally {
+            submitLock.unlock();
         }
     }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.AmazonClientException;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the records waiting in a recorder and of its submissions,
+ * and, when auto flush is enabled in {@link KinesisRecorderConfig}, submits
+ * the records on a background thread.
+ * <p>
+ * A submission is started as soon as the number of records saved, the bytes
+ * stored or the age of the oldest record reaches its threshold. The
+ * thresholds are checked when a record is saved, and the age on a timer.
+ * Automatic submissions are paused while the network is reported
+ * unavailable, and after a recoverable error, such as a network error, they
+ * back off exponentially until a submission succeeds. On shutdown the
+ * records still stored are submitted once more.
+ */
+class AutoFlushScheduler {
+
+    private static final Log LOGGER = LogFactory.getLog(AutoFlushScheduler.class);
+
+    /**
+     * Shortest interval between two checks of the age threshold.
+     */
+    static final long MIN_CHECK_INTERVAL_MS = 100;
+    /**
+     * Delay before the first automatic submission after a recoverable error.
+     */
+    static final long INITIAL_BACKOFF_MS = 5 * 1000L;
+    /**
+     * Longest delay between two automatic submissions after recoverable
+     * errors.
+     */
+    static final long MAX_BACKOFF_MS = 5 * 60 * 1000L;
+
+    private final AbstractKinesisRecorder recorder;
+    private final KinesisRecorderConfig config;
+
+    // Records saved and not submitted yet, and the time the oldest one was
+    // saved, or 0 if there is none.
+    private final AtomicLong pendingRecords = new AtomicLong();
+    private final AtomicLong oldestPendingTime = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private volatile boolean networkAvailable = true;
+    private volatile long nextAttemptTime;
+    private long backoffMs;
+
+    private volatile boolean started;
+    private ScheduledThreadPoolExecutor executor;
+    private boolean shutdown;
+
+    // Submission statistics, guarded by this.
+    private long flushCount;
+    private long failedFlushCount;
+    private long recordsSent;
+    private long lastFlushLatencyMs;
+    private long maxFlushLatencyMs;
+    private long totalFlushLatencyMs;
+
+    AutoFlushScheduler(AbstractKinesisRecorder recorder, KinesisRecorderConfig config) {
+        this.recorder = recorder;
+        this.config = config;
+    }
+
+    /**
+     * Starts the background thread if auto flush is enabled. Records left by
+     * a previous recorder count as saved now. Only the first call has an
+     * effect, later ones return without locking.
+     */
+    void start() {
+        if (started) {
+            return;
+        }
+        synchronized (this) {
+            if (started) {
+                return;
+            }
+            started = true;
+            if (!shutdown && config != null && config.isAutoFlushEnabled()) {
+                startExecutor();
+            }
+        }
+    }
+
+    private void startExecutor() {
+        if (recorder.getDiskBytesUsed() > 0) {
+            oldestPendingTime.compareAndSet(0, System.currentTimeMillis());
+        }
+        executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                final Thread thread = new Thread(r, "KinesisRecorder-AutoFlush");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final long interval = Math.max(config.getAutoFlushMaxRecordAge() / 4, MIN_CHECK_INTERVAL_MS);
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                if (shouldFlush(System.currentTimeMillis())) {
+                    flush();
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Counts a saved record and requests a submission if a threshold has been
+     * reached.
+     *
+     * @param stored whether the record was stored. A record is dropped when
+     *            the max storage size is reached, in which case a submission
+     *            is requested to make room.
+     */
+    void onRecordSaved(boolean stored) {
+        if (stored) {
+            pendingRecords.incrementAndGet();
+            oldestPendingTime.compareAndSet(0, System.currentTimeMillis());
+        }
+        if (!isRunning()) {
+            return;
+        }
+        if (!stored || shouldFlush(System.currentTimeMillis())) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Records the outcome of a submission, manual or automatic.
+     *
+     * @param startTime time the submission started
+     * @param sent number of records sent
+     * @param error the error that ended the submission, or null
+     * @param recoverable whether the records were kept because of the error
+     */
+    void onSubmitted(long startTime, int sent, AmazonClientException error, boolean recoverable) {
+        final long now = System.currentTimeMillis();
+        final long latency = now - startTime;
+        synchronized (this) {
+            flushCount++;
+            if (error != null) {
+                failedFlushCount++;
+            }
+            recordsSent += sent;
+            lastFlushLatencyMs = latency;
+            maxFlushLatencyMs = Math.max(maxFlushLatencyMs, latency);
+            totalFlushLatencyMs += latency;
+
+            if (error == null) {
+                backoffMs = 0;
+                nextAttemptTime = 0;
+            } else if (recoverable) {
+                backoffMs = backoffMs == 0 ? INITIAL_BACKOFF_MS
+                        : Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+                nextAttemptTime = now + backoffMs;
+                LOGGER.debug("Automatic submission paused for " + backoffMs + " ms");
+            }
+        }
+
+        long pending = pendingRecords.get();
+        while (!pendingRecords.compareAndSet(pending, Math.max(pending - sent, 0))) {
+            pending = pendingRecords.get();
+        }
+        if (recorder.getDiskBytesUsed() == 0) {
+            pendingRecords.set(0);
+            oldestPendingTime.set(0);
+        } else if (error == null) {
+            // The records left were saved during the submission, or are kept
+            // for the next one.
+            oldestPendingTime.set(startTime);
+        }
+    }
+
+    /**
+     * Sets whether the network is available. Automatic submissions are paused
+     * while it isn't, and resumed right away when it becomes available again.
+     *
+     * @param available whether the network is available
+     */
+    void setNetworkAvailable(boolean available) {
+        networkAvailable = available;
+        if (!available) {
+            return;
+        }
+        synchronized (this) {
+            backoffMs = 0;
+            nextAttemptTime = 0;
+        }
+        if (isRunning() && recorder.getDiskBytesUsed() > 0) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Stops the background thread. Records still stored are submitted once
+     * more, unless the network is unavailable, before the thread exits.
+     */
+    synchronized void shutdown() {
+        shutdown = true;
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (networkAvailable && recorder.getDiskBytesUsed() > 0) {
+                        flush();
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Auto flush is already shut down");
+        }
+        // Cancels the timer; the final submission still runs.
+        executor.shutdown();
+    }
+
+    /**
+     * Waits for the background thread to exit after {@link #shutdown()}.
+     *
+     * @return true if it exited, false if the timeout elapsed
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final ScheduledThreadPoolExecutor current;
+        synchronized (this) {
+            current = executor;
+        }
+        return current == null || current.awaitTermination(timeout, unit);
+    }
+
+    KinesisRecorderStatistics getStatistics() {
+        final long oldest = oldestPendingTime.get();
+        final long age = oldest == 0 ? 0 : System.currentTimeMillis() - oldest;
+        final long pendingBytes = recorder.getDiskBytesUsed();
+        synchronized (this) {
+            return new KinesisRecorderStatistics(pendingRecords.get(), pendingBytes, age,
+                    flushCount, failedFlushCount, recordsSent, lastFlushLatencyMs,
+                    maxFlushLatencyMs, totalFlushLatencyMs);
+        }
+    }
+
+    private synchronized boolean isRunning() {
+        return executor != null && !shutdown;
+    }
+
+    private boolean shouldFlush(long now) {
+        if (!networkAvailable || now < nextAttemptTime) {
+            return false;
+        }
+        final long oldest = oldestPendingTime.get();
+        return pendingRecords.get() >= config.getAutoFlushRecordCount()
+                || recorder.getDiskBytesUsed() >= config.getAutoFlushByteSize()
+                || (oldest != 0 && now - oldest >= config.getAutoFlushMaxRecordAge());
+    }
+
+    private synchronized void requestFlush() {
+        if (!isRunning() || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    flushRequested.set(false);
+                    if (networkAvailable && System.currentTimeMillis() >= nextAttemptTime) {
+                        flush();
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    private void flush() {
+        try {
+            recorder.submitAllRecords();
+        } catch (final AmazonClientException e) {
+            // Already counted, the records are either kept or dropped.
+            LOGGER.warn("Automatic submission of records failed", e);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Unexpected error in automatic submission of records", e);
+        }
+    }
+}
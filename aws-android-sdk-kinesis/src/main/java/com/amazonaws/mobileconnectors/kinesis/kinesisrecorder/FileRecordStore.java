@@ -17,41 +17,98 @@ package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.async.AsyncRuntime;
 import com.amazonaws.util.StringUtils;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.DeflaterOutputStream;
 
 /**
- * The FileRecordStore is responsible for recording Kinesis PutRecordRequests to
- * the Android disk. Currently it stores each request as a JSON object
- * representing it's properties. One request per line.
+ * The FileRecordStore is responsible for recording Kinesis records to the
+ * Android disk.
+ * <p>
+ * Records are appended to an append-only log made of rolling segment files
+ * named {@code <recordFileName>.<sequence>}. A new segment is started once the
+ * current one reaches {@link #DEFAULT_SEGMENT_SIZE} bytes. The position of the
+ * first record that has not been removed yet is kept in a cursor file, so
+ * removing read records only moves the cursor and deletes the segments that
+ * have been read completely; the log is never rewritten.
+ * <p>
+ * Records are stored in the binary format described in {@link SegmentFormat},
+ * with the stream names of a segment stored once. If compression is enabled,
+ * a segment is deflated in the background once it is complete; until then it
+ * is read as it was written. Records files and segments
+ * written by previous versions are read as they are and deleted once all of
+ * their records have been removed.
  */
 class FileRecordStore {
     private static final Log LOGGER = LogFactory.getLog(FileRecordStore.class);
     private final ReentrantLock accessLock = new ReentrantLock(true);
 
-    /** The file the requests are stored in. **/
-    private File recordFile;
+    /** Size in bytes after which a new segment is started. **/
+    static final long DEFAULT_SEGMENT_SIZE = 256 * 1024L;
+
+    private static final String CURSOR_FILE_SUFFIX = ".cursor";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 8 * 1024;
 
     /** The FileManager used for interacting with the FS. **/
     private final FileManager fileManager;
 
     private final String recordFileName;
     private final long maxStorageSize;
+    private final boolean compress;
+    private final long segmentSize;
+
+    /** Deflates complete segments without holding the access lock. **/
+    private final Executor compressionExecutor;
+
+    /** The directory the segments are stored in. **/
+    private File recordsDirectory;
+
+    /** Sequence numbers of the segments, the last one is appended to. **/
+    private final TreeSet<Long> segments = new TreeSet<Long>();
+
+    /** Sequence numbers of the deflated segments. **/
+    private final Set<Long> compressedSegments = new HashSet<Long>();
+
+    /** Total size of all segments on disk. **/
+    private long storedBytes;
+
+    /** Size of the segment that is appended to. **/
+    private long activeSegmentSize;
+
+    /** Ids of the stream names defined in the segment that is appended to. **/
+    private final Map<String, Integer> activeStreamIds = new HashMap<String, Integer>();
+
+    /** Position of the first record that has not been removed. **/
+    private long cursorSegment;
+    private long cursorOffset;
+
+    /** Writer of the last segment, kept open between puts. **/
+    private OutputStream writer;
+
+    /** Whether the next record has to go to a new segment. **/
+    private boolean rollPending;
 
     /**
      * Creates the FileRecordStore.
@@ -62,137 +119,466 @@ class FileRecordStore {
      * @param maxStorageSize Maximum storage size in bytes
      */
     public FileRecordStore(File workDirectory, String recordFileName, long maxStorageSize) {
+        this(workDirectory, recordFileName, maxStorageSize, false);
+    }
+
+    /**
+     * Creates the FileRecordStore.
+     *
+     * @param recorderDirectory The directory (which the FileRecordStore is only
+     *            used for the KinesisRecorder) to use to store requests in
+     * @param recordFileName Name of the record file
+     * @param maxStorageSize Maximum storage size in bytes
+     * @param compress whether complete segments are deflated
+     */
+    public FileRecordStore(File workDirectory, String recordFileName, long maxStorageSize,
+            boolean compress) {
+        this(workDirectory, recordFileName, maxStorageSize, compress, DEFAULT_SEGMENT_SIZE);
+    }
+
+    FileRecordStore(File workDirectory, String recordFileName, long maxStorageSize,
+            boolean compress, long segmentSize) {
+        this(workDirectory, recordFileName, maxStorageSize, compress, segmentSize,
+                compress ? AsyncRuntime.newClientExecutor(1) : null);
+    }
+
+    FileRecordStore(File workDirectory, String recordFileName, long maxStorageSize,
+            boolean compress, long segmentSize, Executor compressionExecutor) {
+        this.compressionExecutor = compressionExecutor;
         this.fileManager = new FileManager(workDirectory);
         this.recordFileName = recordFileName;
         this.maxStorageSize = maxStorageSize;
+        this.compress = compress;
+        this.segmentSize = segmentSize;
+        accessLock.lock();
         try {
-            tryCreateRecordsFile();
+            open();
         } catch (final IOException ioe) {
             throw new AmazonClientException("Failed to create file store", ioe);
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    /**
+     * Whether records of the given store exist on disk, either in a records
+     * file written by a previous version or in segments.
+     *
+     * @param workDirectory the work directory of the store
+     * @param recordFileName name of the record file
+     * @return true if there is a records file or at least one segment
+     */
+    static boolean exists(File workDirectory, String recordFileName) {
+        final File recordsDir = new File(workDirectory, Constants.RECORDS_DIRECTORY);
+        if (new File(recordsDir, recordFileName).isFile()) {
+            return true;
+        }
+        final File[] files = recordsDir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                if (parseSegmentSequence(recordFileName, file.getName()) >= 0) {
+                    return true;
+                }
+            }
         }
+        return false;
     }
 
-    public boolean put(final String record) throws IOException {
-        boolean success = false;
-        BufferedWriter writer = null;
+    /**
+     * Appends a record to the store.
+     *
+     * @param streamName the stream the record belongs to
+     * @param data the data of the record
+     * @return true if the record was saved, false if it would exceed the
+     *         maximum storage size
+     * @throws IOException if the record could not be written
+     */
+    public boolean put(final String streamName, final byte[] data) throws IOException {
         accessLock.lock();
         try {
-            writer = tryInitializeWriter();
-            if (recordFile.length() + record.getBytes(StringUtils.UTF8).length <= maxStorageSize) {
-                writer.write(record);
-                writer.newLine();
-                writer.flush();
-                success = true;
+            if (rollPending || activeSegmentSize >= segmentSize) {
+                rollSegment();
             }
-        } finally {
-            if (writer != null) {
-                writer.close();
+
+            final Integer streamId = activeStreamIds.get(streamName);
+            final byte[] name = streamId == null ? streamName.getBytes(StringUtils.UTF8) : null;
+            final int id = streamId == null ? activeStreamIds.size() : streamId;
+            long size = 1 + SegmentFormat.varIntSize(id) + SegmentFormat.varIntSize(data.length)
+                    + data.length;
+            if (activeSegmentSize == 0) {
+                size += SegmentFormat.HEADER_SIZE;
+            }
+            if (name != null) {
+                size += 1 + SegmentFormat.varIntSize(id) + SegmentFormat.varIntSize(name.length)
+                        + name.length;
+            }
+            if (getFileSize() + size > maxStorageSize) {
+                return false;
+            }
+
+            try {
+                final OutputStream out = tryInitializeWriter();
+                if (activeSegmentSize == 0) {
+                    SegmentFormat.writeHeader(out, 0);
+                }
+                if (name != null) {
+                    out.write(SegmentFormat.ENTRY_STREAM);
+                    SegmentFormat.writeVarInt(out, id);
+                    SegmentFormat.writeVarInt(out, name.length);
+                    out.write(name);
+                }
+                out.write(SegmentFormat.ENTRY_RECORD);
+                SegmentFormat.writeVarInt(out, id);
+                SegmentFormat.writeVarInt(out, data.length);
+                out.write(data);
+                out.flush();
+            } catch (final IOException ioe) {
+                // The segment may end with a partial record, continue in a
+                // new one.
+                closeWriter();
+                storedBytes = sumSegmentSizes();
+                rollPending = true;
+                throw ioe;
             }
+            if (name != null) {
+                activeStreamIds.put(streamName, id);
+            }
+            activeSegmentSize += size;
+            storedBytes += size;
+            return true;
+        } finally {
             accessLock.unlock();
         }
-
-        return success;
     }
 
+    /**
+     * Returns the number of bytes of the records that have not been removed.
+     * The removed records of a compressed segment are counted until the whole
+     * segment is deleted.
+     *
+     * @return size of the stored records in bytes
+     */
     public long getFileSize() {
-        return recordFile == null ? 0 : recordFile.length();
+        accessLock.lock();
+        try {
+            return compressedSegments.contains(cursorSegment)
+                    ? storedBytes : storedBytes - cursorOffset;
+        } finally {
+            accessLock.unlock();
+        }
     }
 
-    private void tryCreateRecordsFile() throws IOException {
-        if (recordFile != null && recordFile.exists()) {
-            return;
+    /**
+     * Deletes all files of the store. The store must not be used afterwards.
+     */
+    void delete() {
+        accessLock.lock();
+        try {
+            closeWriter();
+            while (!segments.isEmpty()) {
+                fileManager.deleteFile(segmentFile(segments.pollFirst()));
+            }
+            fileManager.deleteFile(new File(recordsDirectory, recordFileName + CURSOR_FILE_SUFFIX));
+            compressedSegments.clear();
+            storedBytes = 0;
+            activeSegmentSize = 0;
+            cursorOffset = 0;
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        recordsDirectory = fileManager.createDirectory(Constants.RECORDS_DIRECTORY);
+        if (recordsDirectory == null) {
+            throw new IOException("Failed to create records directory");
         }
 
-        synchronized (this) {
-            if (recordFile != null && recordFile.exists()) {
-                return;
+        for (final File file : fileManager.listFilesInDirectory(recordsDirectory)) {
+            final String fileName = file.getName();
+            final long sequence = parseSegmentSequence(recordFileName, fileName);
+            if (sequence >= 0) {
+                segments.add(sequence);
+            } else if (fileName.startsWith(recordFileName + ".")
+                    && fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                // Left by an interrupted compression or cursor update.
+                fileManager.deleteFile(file);
             }
+        }
+
+        // A records file written by a previous version is adopted as the
+        // next segment.
+        final File legacyFile = new File(recordsDirectory, recordFileName);
+        if (legacyFile.isFile()) {
+            final long sequence = segments.isEmpty() ? 0 : segments.last() + 1;
+            if (!legacyFile.renameTo(segmentFile(sequence))) {
+                throw new IOException("Failed to migrate records file");
+            }
+            segments.add(sequence);
+        }
+        fileManager.deleteFile(new File(recordsDirectory, recordFileName + TEMP_FILE_SUFFIX));
+
+        readCursor();
+
+        // Segments before the cursor have been read completely but were not
+        // deleted yet.
+        while (!segments.isEmpty() && segments.first() < cursorSegment) {
+            fileManager.deleteFile(segmentFile(segments.pollFirst()));
+        }
+        if (segments.isEmpty()) {
+            createSegment(cursorSegment);
+            cursorOffset = 0;
+        } else if (segments.first() > cursorSegment) {
+            cursorSegment = segments.first();
+            cursorOffset = 0;
+        }
+
+        for (final Long segment : segments) {
+            final int flags = SegmentFormat.readFlags(segmentFile(segment));
+            if (flags > 0 && (flags & SegmentFormat.FLAG_DEFLATE) != 0) {
+                compressedSegments.add(segment);
+            }
+        }
+        if (!compressedSegments.contains(cursorSegment)) {
+            cursorOffset = Math.min(cursorOffset, segmentFile(cursorSegment).length());
+        }
 
-            final File recordDir = fileManager.createDirectory(
-                    Constants.RECORDS_DIRECTORY);
-            recordFile = fileManager.createFile(new File(
-                    recordDir, recordFileName));
+        if (segmentFile(segments.last()).length() > 0) {
+            // Never append to a segment of a previous session, it may end
+            // with a partial record or be in an older format.
+            createSegment(segments.last() + 1);
         }
+        storedBytes = sumSegmentSizes();
     }
 
-    private BufferedWriter tryInitializeWriter() throws IOException {
-        BufferedWriter writer = null;
-        tryCreateRecordsFile();
-        final OutputStream stream = fileManager.newOutputStream(recordFile, true);
-        writer = new BufferedWriter(new OutputStreamWriter(stream, StringUtils.UTF8));
+    private void readCursor() {
+        final File cursorFile = new File(recordsDirectory, recordFileName + CURSOR_FILE_SUFFIX);
+        cursorSegment = segments.isEmpty() ? 0 : segments.first();
+        cursorOffset = 0;
+        if (!cursorFile.isFile()) {
+            return;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(fileManager.newInputStream(cursorFile));
+            final long segment = in.readLong();
+            final long offset = in.readLong();
+            if (segment >= 0 && offset >= 0) {
+                cursorSegment = segment;
+                cursorOffset = offset;
+            }
+        } catch (final IOException ioe) {
+            // Start over from the oldest segment, records may be sent twice
+            // but none is lost.
+            LOGGER.warn("Failed to read records cursor", ioe);
+        } finally {
+            closeQuietly(in);
+        }
+    }
 
+    private void writeCursor() throws IOException {
+        final File tempFile = new File(recordsDirectory,
+                recordFileName + CURSOR_FILE_SUFFIX + TEMP_FILE_SUFFIX);
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(fileManager.newOutputStream(tempFile, false));
+            out.writeLong(cursorSegment);
+            out.writeLong(cursorOffset);
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+        }
+        if (!tempFile.renameTo(new File(recordsDirectory, recordFileName + CURSOR_FILE_SUFFIX))) {
+            throw new IOException("Failed to persist records cursor");
+        }
+    }
+
+    private OutputStream tryInitializeWriter() throws IOException {
+        if (writer == null) {
+            writer = new BufferedOutputStream(
+                    fileManager.newOutputStream(segmentFile(segments.last()), true), BUFFER_SIZE);
+        }
         return writer;
     }
 
-    private File deleteAllRecords() throws IOException {
-        final File recordsDir = fileManager.createDirectory(
-                Constants.RECORDS_DIRECTORY);
+    private void rollSegment() throws IOException {
+        closeWriter();
+        final long sealedSegment = segments.last();
+        createSegment(sealedSegment + 1);
+        if (compress && activeSegmentSize > 0) {
+            scheduleCompression(sealedSegment);
+        }
+        activeSegmentSize = 0;
+        activeStreamIds.clear();
+        rollPending = false;
+    }
 
-        recordFile.delete();
+    private void createSegment(long sequence) throws IOException {
+        if (fileManager.createFile(segmentFile(sequence)) == null) {
+            throw new IOException("Failed to create records segment");
+        }
+        segments.add(sequence);
+    }
 
-        recordFile = fileManager.createFile(new File(
-                recordsDir, recordFileName));
-        return recordFile;
+    private void scheduleCompression(final long sequence) {
+        try {
+            compressionExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    compressSegment(sequence);
+                }
+            });
+        } catch (final RejectedExecutionException ree) {
+            LOGGER.warn("Failed to schedule compression of records segment", ree);
+        }
     }
 
-    private File deleteReadRecords(final int lineNumber) throws IOException {
-        // Write all records after line number to a temporary file
-        final File recordsDir = fileManager.createDirectory(
-                Constants.RECORDS_DIRECTORY);
-
-        File tempRecordsFile = null;
-        final File tempFile = new File(
-                recordsDir, recordFileName + ".tmp");
-        if (tempFile.exists()) {
-            if (!tempFile.delete()) {
-                throw new IOException("Failed to delete previous temp file");
+    /**
+     * Replaces a complete segment with its deflated copy. The logical
+     * positions of its records don't change. The segment is kept as it is if
+     * it can't be compressed.
+     * <p>
+     * Complete segments are never written again, so the copy is made without
+     * the access lock, which is only taken to replace the segment. A reader
+     * that already opened the segment keeps reading it as it was written.
+     */
+    private void compressSegment(long sequence) {
+        final File segment = segmentFile(sequence);
+        final File tempFile = new File(recordsDirectory,
+                recordFileName + "." + sequence + TEMP_FILE_SUFFIX);
+        InputStream in = null;
+        DeflaterOutputStream out = null;
+        try {
+            in = fileManager.newInputStream(segment);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            if (SegmentFormat.readFully(in, new byte[SegmentFormat.HEADER_SIZE])
+                    < SegmentFormat.HEADER_SIZE) {
+                return;
             }
-        }
-        tempRecordsFile = fileManager.createFile(tempFile);
+            final OutputStream fileStream = new BufferedOutputStream(
+                    fileManager.newOutputStream(tempFile, false), BUFFER_SIZE);
+            SegmentFormat.writeHeader(fileStream, SegmentFormat.FLAG_DEFLATE);
+            out = new DeflaterOutputStream(fileStream);
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.close();
+            out = null;
 
-        if (tempRecordsFile != null && recordFile.exists() && tempRecordsFile.exists()) {
-            BufferedReader reader = null;
-            PrintWriter writer = null;
+            accessLock.lock();
             try {
-                reader = new BufferedReader(new InputStreamReader(new FileInputStream(recordFile),
-                        StringUtils.UTF8));
-                writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(
-                        tempRecordsFile, true), StringUtils.UTF8));
-
-                String line = null;
-                int currentLineNumber = 0;
-                while ((line = reader.readLine()) != null) {
-                    currentLineNumber++;
-                    if (currentLineNumber > lineNumber) {
-                        writer.println(line);
-                        writer.flush();
+                // The segment may have been removed in the meantime.
+                if (segments.contains(sequence) && !compressedSegments.contains(sequence)) {
+                    final long savedBytes = segment.length() - tempFile.length();
+                    if (savedBytes > 0 && tempFile.renameTo(segment)) {
+                        storedBytes -= savedBytes;
+                        compressedSegments.add(sequence);
                     }
                 }
             } finally {
-                if (writer != null) {
-                    writer.close();
-                }
-                if (reader != null) {
-                    try {
-                        reader.close();
-                    } catch (final IOException e) {
-                        LOGGER.error("failed to close reader", e);
-                    }
-                }
-
-                if (!recordFile.delete() || !tempRecordsFile.renameTo(recordFile)) {
-                    throw new IOException(
-                            "Failed to delete read records and persist unread records");
-                }
+                accessLock.unlock();
             }
+        } catch (final IOException ioe) {
+            LOGGER.warn("Failed to compress records segment", ioe);
+        } finally {
+            closeQuietly(in);
+            closeQuietly(out);
+            fileManager.deleteFile(tempFile);
+        }
+    }
 
-            if (tempFile.exists()) {
-                if (!tempFile.delete()) {
-                    LOGGER.error("Failed to delete temp file");
-                }
+    private void closeWriter() {
+        closeQuietly(writer);
+        writer = null;
+    }
+
+    /**
+     * Moves the cursor to the given position and deletes the segments before
+     * it. When every record has been removed, the log starts over in a new
+     * segment.
+     */
+    private void deleteReadRecords(long segment, long offset) throws IOException {
+        if (segment < cursorSegment || (segment == cursorSegment && offset <= cursorOffset)) {
+            return;
+        }
+        final long lastSegment = segments.last();
+        if (segment == lastSegment && offset >= activeSegmentSize) {
+            deleteAllRecords();
+            return;
+        }
+
+        cursorSegment = segment;
+        cursorOffset = offset;
+        writeCursor();
+        while (segments.first() < cursorSegment) {
+            final long sequence = segments.pollFirst();
+            final File file = segmentFile(sequence);
+            storedBytes -= file.length();
+            compressedSegments.remove(sequence);
+            fileManager.deleteFile(file);
+        }
+    }
+
+    private void deleteAllRecords() throws IOException {
+        closeWriter();
+        final long newSegment = segments.last() + 1;
+        createSegment(newSegment);
+        cursorSegment = newSegment;
+        cursorOffset = 0;
+        writeCursor();
+        while (segments.first() < newSegment) {
+            fileManager.deleteFile(segmentFile(segments.pollFirst()));
+        }
+        compressedSegments.clear();
+        storedBytes = 0;
+        activeSegmentSize = 0;
+        activeStreamIds.clear();
+        rollPending = false;
+    }
+
+    private long sumSegmentSizes() {
+        long size = 0;
+        for (final Long segment : segments) {
+            size += segmentFile(segment).length();
+        }
+        return size;
+    }
+
+    private File segmentFile(long sequence) {
+        return new File(recordsDirectory, recordFileName + "." + sequence);
+    }
+
+    /**
+     * Returns the sequence number of a segment file of the given store, or
+     * -1 if the file is not one.
+     */
+    private static long parseSegmentSequence(String recordFileName, String fileName) {
+        if (!fileName.startsWith(recordFileName + ".")) {
+            return -1;
+        }
+        final String suffix = fileName.substring(recordFileName.length() + 1);
+        if (suffix.length() == 0 || suffix.length() > 18) {
+            return -1;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return -1;
             }
         }
-        return recordFile;
+        return Long.parseLong(suffix);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException e) {
+            LOGGER.error("failed to close stream", e);
+        }
     }
 
     public RecordIterator iterator() {
@@ -200,28 +586,86 @@ class FileRecordStore {
 
     }
 
-    public class RecordIterator implements java.util.Iterator<String> {
-        int linesRead = 0;
-        String nextBuffer = null;
-        BufferedReader reader = null;
+    public class RecordIterator implements java.util.Iterator<FileRecord> {
+        FileRecord nextBuffer = null;
+        SegmentReader reader = null;
         boolean isEndOfFile = false;
 
-        private boolean tryOpenReader() throws FileNotFoundException {
-            if (reader != null) {
-                return true;
+        /** Position of the next record to read. **/
+        private long readSegment;
+        private long readOffset;
+
+        /** Position after the record in nextBuffer. **/
+        private long bufferedSegment;
+        private long bufferedOffset;
+
+        /** Position after the last record returned by next(). **/
+        private long consumedSegment;
+        private long consumedOffset;
+
+        RecordIterator() {
+            accessLock.lock();
+            try {
+                moveToCursor();
+            } finally {
+                accessLock.unlock();
             }
+        }
 
-            if (!isEndOfFile) {
-                InputStreamReader streamReader = null;
-                streamReader = new InputStreamReader(fileManager.newInputStream(recordFile),
-                        StringUtils.UTF8);
+        private void moveToCursor() {
+            readSegment = cursorSegment;
+            readOffset = cursorOffset;
+            consumedSegment = cursorSegment;
+            consumedOffset = cursorOffset;
+        }
 
-                if (streamReader != null) {
-                    reader = new BufferedReader(streamReader);
-                    return true;
+        /**
+         * Reads the next record, moving on to the next segment at the end of
+         * a segment. Returns null at the end of the last segment.
+         */
+        private FileRecord readRecord() throws IOException {
+            while (true) {
+                if (reader == null) {
+                    if (readSegment < cursorSegment) {
+                        // Removed through another iterator.
+                        readSegment = cursorSegment;
+                        readOffset = cursorOffset;
+                    }
+                    reader = SegmentReader.open(segmentFile(readSegment));
+                    reader.skipTo(readOffset);
+                }
+                final FileRecord record = reader.next();
+                if (record != null) {
+                    readOffset = reader.getPosition();
+                    return record;
+                }
+                final Long nextSegment = segments.higher(readSegment);
+                if (nextSegment == null) {
+                    return null;
                 }
+                tryCloseReader();
+                readSegment = nextSegment;
+                readOffset = 0;
             }
-            return false;
+        }
+
+        private FileRecord tryReadRecord() throws IOException {
+            if (isEndOfFile) {
+                return null;
+            }
+            FileRecord record = null;
+            try {
+                record = readRecord();
+            } catch (final FileNotFoundException fnfe) {
+                throw fnfe;
+            } catch (final IOException e) {
+                record = null;
+            }
+            if (record == null) {
+                isEndOfFile = true;
+                tryCloseReader();
+            }
+            return record;
         }
 
         private void tryCloseReader() throws IOException {
@@ -233,41 +677,16 @@ class FileRecordStore {
 
         @Override
         public boolean hasNext() {
-            boolean hasNext = false;
             accessLock.lock();
             try {
                 // If there is something already buffered then there is a
                 // next
-                if (nextBuffer != null) {
-                    hasNext = true;
-                } else {
-                    if (!tryOpenReader()) {
-                        return hasNext;
-                    }
-                    // Nothing was previously buffered so try to read one
-                    // more line
-                    boolean found = false;
-                    while (!found) {
-                        try {
-                            nextBuffer = reader.readLine();
-                            found = true;
-                        } catch (final IOException e) {
-                            nextBuffer = null;
-                            found = true;
-                        }
-                    }
-                    if (nextBuffer != null) {
-                        // There was at least one more line so there is a
-                        // next
-                        hasNext = true;
-                    } else {
-                        // The next line was null so it should be the end of
-                        // the file. Try to close the reader
-                        isEndOfFile = true;
-                        tryCloseReader();
-                    }
+                if (nextBuffer == null) {
+                    nextBuffer = tryReadRecord();
+                    bufferedSegment = readSegment;
+                    bufferedOffset = readOffset;
                 }
-                return hasNext;
+                return nextBuffer != null;
             } catch (final FileNotFoundException fnfe) {
                 throw new AmazonClientException("Cannot find records file", fnfe);
             } catch (final IOException ioe) {
@@ -278,33 +697,20 @@ class FileRecordStore {
         }
 
         @Override
-        public String next() {
-            String next = null;
+        public FileRecord next() {
+            FileRecord next = null;
             accessLock.lock();
             try {
                 if (nextBuffer != null) {
                     next = nextBuffer;
-                    linesRead++;
+                    consumedSegment = bufferedSegment;
+                    consumedOffset = bufferedOffset;
                     nextBuffer = null;
                 } else {
-                    if (!tryOpenReader()) {
-                        return next;
-                    }
-                    boolean found = false;
-                    while (!found) {
-                        try {
-                            next = reader.readLine();
-                            found = true;
-                        } catch (final IOException e) {
-                            next = null;
-                            found = true;
-                        }
-                    }
+                    next = tryReadRecord();
                     if (next != null) {
-                        linesRead++;
-                    } else {
-                        isEndOfFile = true;
-                        tryCloseReader();
+                        consumedSegment = readSegment;
+                        consumedOffset = readOffset;
                     }
                 }
                 return next;
@@ -317,7 +723,7 @@ class FileRecordStore {
             }
         }
 
-        public String peek() {
+        public FileRecord peek() {
             accessLock.lock();
             try {
                 hasNext();
@@ -333,10 +739,44 @@ class FileRecordStore {
                     "The remove() operation is not supported for this iterator");
         }
 
+        /**
+         * Removes the records returned by {@link #next()} so far and restarts
+         * the iteration at the first remaining record.
+         *
+         * @throws IOException if the cursor could not be persisted
+         */
         public void removeReadRecords() throws IOException {
             accessLock.lock();
             try {
-                deleteReadRecords(linesRead);
+                tryCloseReader();
+                deleteReadRecords(consumedSegment, consumedOffset);
+                resetReader();
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        /**
+         * Removes the first records returned by {@link #next()} so far, and
+         * restarts the iteration at the first remaining record. The records
+         * after them are kept in place.
+         *
+         * @param count number of records to remove
+         * @throws IOException if the records could not be read again or the
+         *             cursor could not be persisted
+         */
+        public void removeReadRecords(int count) throws IOException {
+            accessLock.lock();
+            try {
+                tryCloseReader();
+                moveToCursor();
+                for (int i = 0; i < count; i++) {
+                    if (readRecord() == null) {
+                        break;
+                    }
+                }
+                tryCloseReader();
+                deleteReadRecords(readSegment, readOffset);
                 resetReader();
             } finally {
                 accessLock.unlock();
@@ -346,6 +786,7 @@ class FileRecordStore {
         public void removeAllRecords() throws IOException {
             accessLock.lock();
             try {
+                tryCloseReader();
                 deleteAllRecords();
                 resetReader();
             } finally {
@@ -355,9 +796,9 @@ class FileRecordStore {
 
         private void resetReader() throws IOException {
             tryCloseReader();
-            linesRead = 0;
             nextBuffer = null;
             isEndOfFile = false;
+            moveToCursor();
         }
 
         public void close() throws IOException {
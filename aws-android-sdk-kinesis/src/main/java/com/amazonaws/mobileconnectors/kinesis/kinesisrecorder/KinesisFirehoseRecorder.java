@@ -161,12 +161,13 @@ public class KinesisFirehoseRecorder extends AbstractKinesisRecorder {
     public KinesisFirehoseRecorder(File directory, Regions region,
             AWSCredentialsProvider credentialsProvider, KinesisRecorderConfig config) {
         super(new FileRecordStore(directory, RECORD_FILE_NAME,
-                config.getMaxStorageSize()), config);
+                config.getMaxStorageSize(), config.isStorageCompressionEnabled()), config);
 
         AmazonKinesisFirehose client = new AmazonKinesisFirehoseClient(credentialsProvider,
                 config.getClientConfiguration());
         client.setRegion(Region.getRegion(region));
         sender = new FirehoseRecordSender(client, USER_AGENT);
+        startAutoFlush();
     }
 
     /**
@@ -25,8 +25,6 @@ import com.amazonaws.util.VersionInfoUtils;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
-import org.json.JSONException;
-import org.json.JSONObject;
 
 import java.io.File;
 import java.io.IOException;
@@ -144,7 +142,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
     public KinesisRecorder(File directory, Regions region,
             AWSCredentialsProvider credentialsProvider, KinesisRecorderConfig config) {
         super(new FileRecordStore(directory, RECORD_FILE_NAME,
-                config.getMaxStorageSize()), config);
+                config.getMaxStorageSize(), config.isStorageCompressionEnabled()), config);
 
         if (directory == null || credentialsProvider == null || region == null || config == null) {
             throw new IllegalArgumentException(
@@ -157,6 +155,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
         sender = new KinesisStreamRecordSender(client, USER_AGENT, config.getPartitionKey());
 
         checkUpgrade(directory);
+        startAutoFlush();
     }
 
     /**
@@ -174,10 +173,8 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
     }
 
     private void checkUpgrade(final File directory) {
-        final File recordsDir = new File(directory, Constants.RECORDS_DIRECTORY);
-        final File oldRecordsFile = new File(recordsDir, Constants.RECORDS_FILE_NAME);
         // if the records file exists, run upgrade in a background thread
-        if (oldRecordsFile.isFile()) {
+        if (FileRecordStore.exists(directory, Constants.RECORDS_FILE_NAME)) {
             new Thread(new Runnable() {
                 @Override
                 public void run() {
@@ -195,9 +192,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      */
     void upgrade(File directory) {
         synchronized (KinesisRecorder.this) {
-            final File recordsDir = new File(directory, Constants.RECORDS_DIRECTORY);
-            final File oldRecordsFile = new File(recordsDir, Constants.RECORDS_FILE_NAME);
-            if (!oldRecordsFile.isFile()) {
+            if (!FileRecordStore.exists(directory, Constants.RECORDS_FILE_NAME)) {
                 return;
             }
 
@@ -206,21 +201,15 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
                     Long.MAX_VALUE);
             final RecordIterator iterator = frs.iterator();
             while (iterator.hasNext()) {
-                try {
-                    final JSONObject json = new JSONObject(iterator.next());
-                    saveRecord(JSONRecordAdapter.getData(json).array(),
-                            JSONRecordAdapter.getStreamName(json));
-                } catch (final JSONException e) {
-                    LOGGER.debug("caught exception", e);
-                    continue;
-                }
+                final FileRecord record = iterator.next();
+                saveRecord(record.data, record.streamName);
             }
             try {
                 iterator.close();
             } catch (final IOException e) {
                 LOGGER.debug("caught exception", e);
             }
-            oldRecordsFile.delete();
+            frs.delete();
         }
     }
 
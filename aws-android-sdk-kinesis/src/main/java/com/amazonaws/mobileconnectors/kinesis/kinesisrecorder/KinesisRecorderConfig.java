@@ -24,10 +24,20 @@ import com.amazonaws.ClientConfiguration;
 public class KinesisRecorderConfig {
 
     private static final long DEFAUT_MAX_STORAGE_SIZE = 1024 * 1024 * 5L;
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final int DEFAULT_AUTO_FLUSH_RECORD_COUNT = 500;
+    private static final long DEFAULT_AUTO_FLUSH_BYTE_SIZE = 512 * 1024L;
+    private static final long DEFAULT_AUTO_FLUSH_MAX_RECORD_AGE_MILLIS = 60 * 1000L;
     private long maxStorageSize = DEFAUT_MAX_STORAGE_SIZE;
+    private int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
     private final ClientConfiguration clientConfiguration;
     private String partitionKey;
     private DeadLetterListener mDeadLetterListener;
+    private boolean storageCompressionEnabled;
+    private boolean autoFlushEnabled;
+    private int autoFlushRecordCount = DEFAULT_AUTO_FLUSH_RECORD_COUNT;
+    private long autoFlushByteSize = DEFAULT_AUTO_FLUSH_BYTE_SIZE;
+    private long autoFlushMaxRecordAgeMillis = DEFAULT_AUTO_FLUSH_MAX_RECORD_AGE_MILLIS;
 
     /**
      * Construct an instance of KinesisRecorderConfig which has default values
@@ -61,6 +71,12 @@ public class KinesisRecorderConfig {
         this.maxStorageSize = other.getMaxStorageSize();
         this.clientConfiguration = new ClientConfiguration(other.getClientConfiguration());
         this.partitionKey = other.partitionKey;
+        this.storageCompressionEnabled = other.storageCompressionEnabled;
+        this.maxConcurrentBatches = other.maxConcurrentBatches;
+        this.autoFlushEnabled = other.autoFlushEnabled;
+        this.autoFlushRecordCount = other.autoFlushRecordCount;
+        this.autoFlushByteSize = other.autoFlushByteSize;
+        this.autoFlushMaxRecordAgeMillis = other.autoFlushMaxRecordAgeMillis;
     }
 
     /**
@@ -94,6 +110,145 @@ public class KinesisRecorderConfig {
         return this.maxStorageSize;
     }
 
+    /**
+     * Sets the maximum number of batches that are sent at the same time when
+     * records are submitted. Records are grouped into one batch per stream, so
+     * records of different streams are sent concurrently. Defaults to 4.
+     *
+     * @param maxConcurrentBatches the maximum number of requests in flight,
+     *            at least 1
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withMaxConcurrentBatches(int maxConcurrentBatches) {
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("maxConcurrentBatches must be at least 1");
+        }
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of batches that are sent at the same time.
+     */
+    public int getMaxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Sets whether the records stored on disk are compressed. Records are
+     * stored in segments, and a segment is compressed once it is full. This
+     * trades some CPU time for less disk usage, which lets more records fit in
+     * the max storage size. Disabled by default.
+     *
+     * @param enabled true to compress stored records
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withStorageCompression(boolean enabled) {
+        this.storageCompressionEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * @return whether the records stored on disk are compressed.
+     */
+    public boolean isStorageCompressionEnabled() {
+        return storageCompressionEnabled;
+    }
+
+    /**
+     * Sets whether the recorder submits saved records by itself on a
+     * background thread. Records are submitted as soon as one of the auto
+     * flush thresholds is reached: the number of records saved, the bytes
+     * stored, or the age of the oldest record. Submission is paused while the
+     * network is reported unavailable through
+     * {@link AbstractKinesisRecorder#setNetworkAvailable(boolean)}, and the records still stored are submitted once
+     * more when the recorder is shut down. Disabled by default.
+     *
+     * @param enabled true to submit records automatically
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlush(boolean enabled) {
+        this.autoFlushEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * @return whether the recorder submits saved records by itself.
+     */
+    public boolean isAutoFlushEnabled() {
+        return autoFlushEnabled;
+    }
+
+    /**
+     * Sets the number of saved records that triggers an automatic submission.
+     * Defaults to 500.
+     *
+     * @param recordCount the number of records, at least 1
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushRecordCount(int recordCount) {
+        if (recordCount < 1) {
+            throw new IllegalArgumentException("recordCount must be at least 1");
+        }
+        this.autoFlushRecordCount = recordCount;
+        return this;
+    }
+
+    /**
+     * @return The number of saved records that triggers an automatic
+     *         submission.
+     */
+    public int getAutoFlushRecordCount() {
+        return autoFlushRecordCount;
+    }
+
+    /**
+     * Sets the number of bytes stored that triggers an automatic submission.
+     * It should be well below the max storage size so that records are sent
+     * before new ones are dropped. Defaults to 512KiB.
+     *
+     * @param byteSize the number of bytes, at least 1
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushByteSize(long byteSize) {
+        if (byteSize < 1) {
+            throw new IllegalArgumentException("byteSize must be at least 1");
+        }
+        this.autoFlushByteSize = byteSize;
+        return this;
+    }
+
+    /**
+     * @return The number of bytes stored that triggers an automatic
+     *         submission.
+     */
+    public long getAutoFlushByteSize() {
+        return autoFlushByteSize;
+    }
+
+    /**
+     * Sets how long in milliseconds a saved record may wait before an
+     * automatic submission is triggered. Defaults to one minute.
+     *
+     * @param maxRecordAgeMillis the maximum age of a record, at least 1
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushMaxRecordAge(long maxRecordAgeMillis) {
+        if (maxRecordAgeMillis < 1) {
+            throw new IllegalArgumentException("maxRecordAgeMillis must be at least 1");
+        }
+        this.autoFlushMaxRecordAgeMillis = maxRecordAgeMillis;
+        return this;
+    }
+
+    /**
+     * @return How long in milliseconds a saved record may wait before an
+     *         automatic submission is triggered.
+     */
+    public long getAutoFlushMaxRecordAge() {
+        return autoFlushMaxRecordAgeMillis;
+    }
+
     /**
      * Returns the {@link DeadLetterListener} that will respond to records being dropped.
      * @return the {@link DeadLetterListener} that will respond to records being dropped.
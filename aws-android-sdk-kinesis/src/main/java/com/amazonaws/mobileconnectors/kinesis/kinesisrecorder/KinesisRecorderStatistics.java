@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+/**
+ * A snapshot of the records waiting in a Kinesis recorder and of the time its
+ * submissions took. It helps tuning the auto flush thresholds of
+ * {@link KinesisRecorderConfig} between larger batches and fresher data.
+ */
+public final class KinesisRecorderStatistics {
+
+    private final long pendingRecordCount;
+    private final long pendingBytes;
+    private final long oldestRecordAgeMillis;
+    private final long flushCount;
+    private final long failedFlushCount;
+    private final long recordsSent;
+    private final long lastFlushLatencyMillis;
+    private final long maxFlushLatencyMillis;
+    private final long totalFlushLatencyMillis;
+
+    KinesisRecorderStatistics(long pendingRecordCount, long pendingBytes,
+            long oldestRecordAgeMillis, long flushCount, long failedFlushCount, long recordsSent,
+            long lastFlushLatencyMillis, long maxFlushLatencyMillis, long totalFlushLatencyMillis) {
+        this.pendingRecordCount = pendingRecordCount;
+        this.pendingBytes = pendingBytes;
+        this.oldestRecordAgeMillis = oldestRecordAgeMillis;
+        this.flushCount = flushCount;
+        this.failedFlushCount = failedFlushCount;
+        this.recordsSent = recordsSent;
+        this.lastFlushLatencyMillis = lastFlushLatencyMillis;
+        this.maxFlushLatencyMillis = maxFlushLatencyMillis;
+        this.totalFlushLatencyMillis = totalFlushLatencyMillis;
+    }
+
+    /**
+     * @return The number of records saved since the recorder was created that
+     *         have not been submitted yet.
+     */
+    public long getPendingRecordCount() {
+        return pendingRecordCount;
+    }
+
+    /**
+     * @return The number of bytes of records stored on disk.
+     */
+    public long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * @return How long in milliseconds the oldest pending record has been
+     *         waiting, or 0 if there is none.
+     */
+    public long getOldestRecordAgeMillis() {
+        return oldestRecordAgeMillis;
+    }
+
+    /**
+     * @return The number of submissions, manual and automatic.
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * @return The number of submissions that ended with an error.
+     */
+    public long getFailedFlushCount() {
+        return failedFlushCount;
+    }
+
+    /**
+     * @return The number of records sent successfully.
+     */
+    public long getRecordsSent() {
+        return recordsSent;
+    }
+
+    /**
+     * @return The duration in milliseconds of the last submission.
+     */
+    public long getLastFlushLatencyMillis() {
+        return lastFlushLatencyMillis;
+    }
+
+    /**
+     * @return The duration in milliseconds of the longest submission.
+     */
+    public long getMaxFlushLatencyMillis() {
+        return maxFlushLatencyMillis;
+    }
+
+    /**
+     * @return The average duration in milliseconds of a submission, or 0 if
+     *         there was none.
+     */
+    public long getAverageFlushLatencyMillis() {
+        return flushCount == 0 ? 0 : totalFlushLatencyMillis / flushCount;
+    }
+
+    @Override
+    public String toString() {
+        return "KinesisRecorderStatistics{pendingRecordCount=" + pendingRecordCount
+                + ", pendingBytes=" + pendingBytes
+                + ", oldestRecordAgeMillis=" + oldestRecordAgeMillis
+                + ", flushCount=" + flushCount
+                + ", failedFlushCount=" + failedFlushCount
+                + ", recordsSent=" + recordsSent
+                + ", lastFlushLatencyMillis=" + lastFlushLatencyMillis
+                + ", maxFlushLatencyMillis=" + maxFlushLatencyMillis
+                + ", averageFlushLatencyMillis=" + getAverageFlushLatencyMillis() + "}";
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The binary layout of a segment of the {@link FileRecordStore}.
+ * <p>
+ * A segment starts with a header of {@link #HEADER_SIZE} bytes: the magic
+ * bytes, the format version and flags. The body that follows is a sequence of
+ * entries, deflated as a whole if {@link #FLAG_DEFLATE} is set:
+ * <ul>
+ * <li>{@link #ENTRY_STREAM}, stream id, name length, UTF-8 name: defines the
+ * id of a stream name for the rest of the segment.</li>
+ * <li>{@link #ENTRY_RECORD}, stream id, data length, data: a record.</li>
+ * </ul>
+ * Ids and lengths are unsigned variable-length integers, 7 bits per byte.
+ * Segments written by previous versions have no header and hold one record
+ * per line, either as {@code streamName,Base64(data)} or as a JSON object.
+ * Such a line never starts with a zero byte.
+ */
+final class SegmentFormat {
+
+    static final int HEADER_SIZE = 6;
+    static final int VERSION = 1;
+    static final int FLAG_DEFLATE = 1;
+
+    static final int ENTRY_STREAM = 1;
+    static final int ENTRY_RECORD = 2;
+
+    /** Records above this length are treated as corrupted data. **/
+    static final int MAX_RECORD_LENGTH = 16 * 1024 * 1024;
+
+    private static final byte[] MAGIC = {
+            0, 'K', 'R', 'S'
+    };
+
+    private SegmentFormat() {
+    }
+
+    /**
+     * Writes the header of a segment.
+     *
+     * @param out the stream to write to
+     * @param flags the flags of the segment
+     * @throws IOException if the header could not be written
+     */
+    static void writeHeader(OutputStream out, int flags) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(flags);
+    }
+
+    /**
+     * Parses a segment header.
+     *
+     * @param header the first bytes of a segment
+     * @param length the number of bytes in header
+     * @return the flags of the segment, or -1 if it does not start with a
+     *         header
+     */
+    static int parseHeader(byte[] header, int length) {
+        if (length < HEADER_SIZE) {
+            return -1;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return -1;
+            }
+        }
+        if (header[MAGIC.length] != VERSION) {
+            return -1;
+        }
+        return header[MAGIC.length + 1] & 0xff;
+    }
+
+    /**
+     * Reads the flags of a segment file.
+     *
+     * @param file the segment file
+     * @return the flags, or -1 if the segment is empty or was written by a
+     *         previous version
+     * @throws IOException if the file could not be read
+     */
+    static int readFlags(File file) throws IOException {
+        final InputStream in = new FileInputStream(file);
+        try {
+            final byte[] header = new byte[HEADER_SIZE];
+            return parseHeader(header, readFully(in, header));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads until the buffer is full or the end of the stream is reached.
+     *
+     * @return the number of bytes read
+     */
+    static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int read = 0;
+        while (read < buffer.length) {
+            final int count = in.read(buffer, read, buffer.length - read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    static void writeVarInt(OutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            out.write((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    static int varIntSize(int value) {
+        int size = 1;
+        int remaining = value >>> 7;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.util.StringUtils;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads the records of one segment of the {@link FileRecordStore}. Positions
+ * are logical, that is positions in the segment after its body has been
+ * inflated, so they stay valid when a segment gets compressed. Segments
+ * written by previous versions are read line by line. It's not thread safe.
+ */
+class SegmentReader implements Closeable {
+    private static final Log LOGGER = LogFactory.getLog(SegmentReader.class);
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final InputStream in;
+    private final boolean legacy;
+
+    /** Position after the last complete entry. **/
+    private long position;
+
+    /** Position after the last byte read. **/
+    private long readPosition;
+
+    /** Stream names by id, defined by the entries read so far. **/
+    private final List<String> streamNames = new ArrayList<String>();
+
+    /** The record of the last entry read with its data. **/
+    private FileRecord record;
+
+    private ByteArrayOutputStream lineBuffer;
+
+    private SegmentReader(InputStream in, boolean legacy, long position) {
+        this.in = in;
+        this.legacy = legacy;
+        this.position = position;
+        this.readPosition = position;
+    }
+
+    /**
+     * Opens a segment positioned at its first record.
+     *
+     * @param file the segment file
+     * @return a reader of the segment
+     * @throws IOException if the file could not be opened
+     */
+    static SegmentReader open(File file) throws IOException {
+        final InputStream fileStream = new BufferedInputStream(new FileInputStream(file),
+                BUFFER_SIZE);
+        final byte[] header = new byte[SegmentFormat.HEADER_SIZE];
+        final int flags = SegmentFormat.parseHeader(header,
+                SegmentFormat.readFully(fileStream, header));
+        if (flags < 0) {
+            fileStream.close();
+            return new SegmentReader(new BufferedInputStream(new FileInputStream(file),
+                    BUFFER_SIZE), true, 0);
+        }
+        if ((flags & SegmentFormat.FLAG_DEFLATE) != 0) {
+            return new SegmentReader(new BufferedInputStream(new InflaterInputStream(fileStream),
+                    BUFFER_SIZE), false, SegmentFormat.HEADER_SIZE);
+        }
+        return new SegmentReader(fileStream, false, SegmentFormat.HEADER_SIZE);
+    }
+
+    /**
+     * @return the position after the last record read or skipped
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Skips the records before the given position. Stream names defined
+     * before it are still read.
+     *
+     * @param offset a position returned by {@link #getPosition()}
+     * @throws IOException if the segment could not be read
+     */
+    void skipTo(long offset) throws IOException {
+        if (legacy) {
+            long remaining = offset - position;
+            while (remaining > 0) {
+                final long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    throw new EOFException("Segment is shorter than " + offset + " bytes");
+                }
+                remaining -= skipped;
+            }
+            position = offset;
+            readPosition = offset;
+            return;
+        }
+        while (position < offset) {
+            if (!readEntry(false)) {
+                throw new EOFException("Segment is shorter than " + offset + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Reads the next record. An incomplete record at the end of the segment,
+     * left by an interrupted write, is ignored.
+     *
+     * @return the next record, or null at the end of the segment
+     * @throws IOException if the segment could not be read
+     */
+    FileRecord next() throws IOException {
+        if (legacy) {
+            return nextLine();
+        }
+        try {
+            while (readEntry(true)) {
+                if (record != null) {
+                    final FileRecord result = record;
+                    record = null;
+                    return result;
+                }
+            }
+        } catch (final EOFException e) {
+            LOGGER.warn("Segment ends with an incomplete record");
+        } catch (final IOException e) {
+            // The rest of the segment can't be read, move on to the next one.
+            LOGGER.warn("Failed to read segment after position " + position + ". Skip.", e);
+        }
+        return null;
+    }
+
+    private boolean readEntry(boolean readData) throws IOException {
+        final int type = in.read();
+        if (type < 0) {
+            return false;
+        }
+        readPosition++;
+        final int id = readVarInt();
+        final int length = readVarInt();
+        switch (type) {
+            case SegmentFormat.ENTRY_STREAM:
+                final byte[] name = readBytes(length);
+                if (id != streamNames.size()) {
+                    throw new IOException("Unexpected stream id " + id);
+                }
+                streamNames.add(new String(name, StringUtils.UTF8));
+                break;
+            case SegmentFormat.ENTRY_RECORD:
+                if (id >= streamNames.size() || length > SegmentFormat.MAX_RECORD_LENGTH) {
+                    throw new IOException("Corrupted record at " + position);
+                }
+                if (readData) {
+                    record = new FileRecord(streamNames.get(id), readBytes(length));
+                } else {
+                    skipBytes(length);
+                }
+                break;
+            default:
+                throw new IOException("Unknown entry type " + type + " at " + position);
+        }
+        position = readPosition;
+        return true;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            readPosition++;
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed length at " + position);
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        if (SegmentFormat.readFully(in, bytes) < length) {
+            throw new EOFException();
+        }
+        readPosition += length;
+        return bytes;
+    }
+
+    private void skipBytes(int length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            final long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+        readPosition += length;
+    }
+
+    private FileRecord nextLine() throws IOException {
+        if (lineBuffer == null) {
+            lineBuffer = new ByteArrayOutputStream();
+        }
+        while (true) {
+            lineBuffer.reset();
+            int b;
+            boolean read = false;
+            while ((b = in.read()) != -1) {
+                read = true;
+                position++;
+                if (b == '\n') {
+                    break;
+                }
+                lineBuffer.write(b);
+            }
+            if (!read) {
+                return null;
+            }
+            final String line = new String(lineBuffer.toByteArray(), StringUtils.UTF8).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            // parse a line. Skip in case of corrupted data
+            try {
+                return parseLine(line);
+            } catch (final Exception e) {
+                LOGGER.warn("Failed to read line. Skip.", e);
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static FileRecord parseLine(String line) throws Exception {
+        if (line.startsWith("{")) {
+            // Written by the first versions of KinesisRecorder.
+            final JSONObject json = new JSONObject(line);
+            return new FileRecord(JSONRecordAdapter.getStreamName(json),
+                    JSONRecordAdapter.getData(json).array());
+        }
+        final FileRecordParser frp = new FileRecordParser();
+        frp.parse(line);
+        return new FileRecord(frp.streamName, frp.bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -33,6 +33,8 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
@@ -42,6 +44,9 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(manifest = Config.NONE)
@@ -238,6 +243,105 @@ public class AbstractKinesisRecorderTest {
         assertEquals("no records sent", size, recorder.getDiskBytesUsed());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSubmitAllRecordsDoesNotResendAcceptedBatches() {
+        final String failingStream = "failing_stream";
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        }
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(randomBytes(1024), failingStream);
+        }
+        final AmazonServiceException ase = new AmazonServiceException("network blip");
+        Mockito.when(sender.isRecoverable(ase)).thenReturn(true);
+        final List<String> accepted = new ArrayList<String>();
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    private boolean failed;
+
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        final String streamName = (String) invocation.getArguments()[0];
+                        synchronized (accepted) {
+                            if (failingStream.equals(streamName) && !failed) {
+                                failed = true;
+                                throw ase;
+                            }
+                            accepted.add(streamName);
+                        }
+                        return new ArrayList<byte[]>();
+                    }
+                });
+        try {
+            recorder.submitAllRecords();
+            fail("Should throw exception");
+        } catch (AmazonClientException ace) {
+            assertSame("same exception", ase, ace);
+        }
+        assertTrue("failed batch kept", recorder.getDiskBytesUsed() > 0);
+
+        recorder.submitAllRecords();
+        assertEquals("each batch accepted once", 2, accepted.size());
+        assertTrue(accepted.contains(STREAM_NAME));
+        assertTrue(accepted.contains(failingStream));
+        assertEquals("no records after submitAllRecords", 0, recorder.getDiskBytesUsed());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSubmitAllRecordsKeepsRejectedRecordInPlaceWhenStoreIsFull()
+            throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                16 * 1024);
+        MockAbstractKinesisRecorder fullRecorder = new MockAbstractKinesisRecorder(recordStore,
+                new KinesisRecorderConfig());
+        fullRecorder.setRecordSender(sender);
+        final List<byte[]> saved = new ArrayList<byte[]>();
+        while (true) {
+            byte[] data = randomBytes(1024);
+            if (!recordStore.put(STREAM_NAME, data)) {
+                break;
+            }
+            saved.add(data);
+        }
+        final int rejectedIndex = saved.size() / 2;
+        final byte[] rejected = saved.get(rejectedIndex);
+        final AtomicBoolean rejecting = new AtomicBoolean(true);
+        final List<byte[]> sent = new ArrayList<byte[]>();
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        List<byte[]> data = (List<byte[]>) invocation.getArguments()[1];
+                        List<byte[]> failures = new ArrayList<byte[]>();
+                        for (byte[] record : data) {
+                            if (rejecting.get() && Arrays.equals(rejected, record)) {
+                                failures.add(record);
+                            } else {
+                                sent.add(record);
+                            }
+                        }
+                        return failures;
+                    }
+                });
+
+        // The record is still rejected after the retries, the store is full.
+        fullRecorder.submitAllRecords();
+        assertTrue("records kept", fullRecorder.getDiskBytesUsed() > 0);
+
+        rejecting.set(false);
+        sent.clear();
+        fullRecorder.submitAllRecords();
+        assertEquals("no records after submitAllRecords", 0, fullRecorder.getDiskBytesUsed());
+        assertEquals("records from the rejected one are sent again",
+                saved.size() - rejectedIndex, sent.size());
+        for (int i = 0; i < sent.size(); i++) {
+            assertTrue("in the order they were saved",
+                    Arrays.equals(saved.get(rejectedIndex + i), sent.get(i)));
+        }
+    }
+
     @Test
     public void testSubmitAllRecordsWithUnmarshallFailures() {
         List<byte[]> data = new LinkedList<byte[]>();
@@ -317,6 +421,195 @@ public class AbstractKinesisRecorderTest {
         assertTrue("records not removed", recorder.getDiskBytesUsed() > 0);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSubmitAllRecordsGroupsInterleavedStreams() {
+        String anotherStream = "another_stream";
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+            recorder.saveRecord(randomBytes(1024), anotherStream);
+        }
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenReturn(new ArrayList<byte[]>());
+        recorder.submitAllRecords();
+
+        ArgumentCaptor<List> dataCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(sender).sendBatch(Mockito.eq(STREAM_NAME), dataCaptor.capture());
+        assertEquals("one batch per stream", 10, dataCaptor.getValue().size());
+        Mockito.verify(sender).sendBatch(Mockito.eq(anotherStream), dataCaptor.capture());
+        assertEquals("one batch per stream", 10, dataCaptor.getValue().size());
+        assertEquals("no records after submitAllRecords", 0, recorder.getDiskBytesUsed());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSubmitAllRecordsRetriesOnlyFailedRecords() {
+        final byte[] failed = randomBytes(1024);
+        recorder.saveRecord(failed, STREAM_NAME);
+        for (int i = 0; i < 9; i++) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        }
+        final List<List<byte[]>> calls = new ArrayList<List<byte[]>>();
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        List<byte[]> data = (List<byte[]>) invocation.getArguments()[1];
+                        calls.add(new ArrayList<byte[]>(data));
+                        List<byte[]> failures = new ArrayList<byte[]>();
+                        if (calls.size() == 1) {
+                            failures.add(data.get(0));
+                        }
+                        return failures;
+                    }
+                });
+        recorder.submitAllRecords();
+
+        assertEquals("sent twice", 2, calls.size());
+        assertEquals("first attempt sends all records", 10, calls.get(0).size());
+        assertEquals("retry sends the failed record", 1, calls.get(1).size());
+        assertTrue("same record retried", Arrays.equals(failed, calls.get(1).get(0)));
+        assertEquals("records removed", 0, recorder.getDiskBytesUsed());
+    }
+
+    @Test
+    public void testSaveRecordDoesNotBlockWhileSubmitting() throws Exception {
+        recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch saved = new CountDownLatch(1);
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) throws Exception {
+                        sending.countDown();
+                        assertTrue("record saved while sending", saved.await(5, TimeUnit.SECONDS));
+                        return new ArrayList<byte[]>();
+                    }
+                });
+        Thread submitter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                recorder.submitAllRecords();
+            }
+        });
+        submitter.start();
+        assertTrue("submission started", sending.await(5, TimeUnit.SECONDS));
+        synchronized (recorder) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+        }
+        assertTrue("saved before the submission finished", submitter.isAlive());
+        saved.countDown();
+        submitter.join(5000);
+        assertEquals("record saved during submission is sent too", 0,
+                recorder.getDiskBytesUsed());
+    }
+
+    @Test
+    public void testAutoFlushOnRecordCount() throws Exception {
+        AbstractKinesisRecorder autoRecorder = newAutoFlushRecorder(new KinesisRecorderConfig()
+                .withAutoFlush(true).withAutoFlushRecordCount(5)
+                .withAutoFlushMaxRecordAge(TimeUnit.HOURS.toMillis(1)));
+        final CountDownLatch sent = new CountDownLatch(1);
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        sent.countDown();
+                        return new ArrayList<byte[]>();
+                    }
+                });
+
+        for (int i = 0; i < 4; i++) {
+            autoRecorder.saveRecord(randomBytes(16), STREAM_NAME);
+        }
+        assertEquals("below threshold", 4,
+                autoRecorder.getStatistics().getPendingRecordCount());
+        autoRecorder.saveRecord(randomBytes(16), STREAM_NAME);
+        assertTrue("submitted in background", sent.await(5, TimeUnit.SECONDS));
+
+        autoRecorder.shutdown();
+        assertTrue("shut down", autoRecorder.awaitShutdown(5, TimeUnit.SECONDS));
+        KinesisRecorderStatistics statistics = autoRecorder.getStatistics();
+        assertEquals("no pending record", 0, statistics.getPendingRecordCount());
+        assertEquals("no pending bytes", 0, statistics.getPendingBytes());
+        assertEquals("records sent", 5, statistics.getRecordsSent());
+        assertTrue("flushed", statistics.getFlushCount() >= 1);
+    }
+
+    @Test
+    public void testAutoFlushPausedWhileNetworkUnavailable() throws Exception {
+        AbstractKinesisRecorder autoRecorder = newAutoFlushRecorder(new KinesisRecorderConfig()
+                .withAutoFlush(true).withAutoFlushRecordCount(1));
+        final CountDownLatch sent = new CountDownLatch(1);
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        sent.countDown();
+                        return new ArrayList<byte[]>();
+                    }
+                });
+
+        autoRecorder.setNetworkAvailable(false);
+        autoRecorder.saveRecord(randomBytes(16), STREAM_NAME);
+        assertTrue("nothing sent while offline", !sent.await(300, TimeUnit.MILLISECONDS));
+
+        autoRecorder.setNetworkAvailable(true);
+        assertTrue("sent once online", sent.await(5, TimeUnit.SECONDS));
+        autoRecorder.shutdown();
+        assertTrue("shut down", autoRecorder.awaitShutdown(5, TimeUnit.SECONDS));
+        assertEquals("records removed", 0, autoRecorder.getDiskBytesUsed());
+    }
+
+    @Test
+    public void testShutdownFlushesRemainingRecords() throws Exception {
+        AbstractKinesisRecorder autoRecorder = newAutoFlushRecorder(new KinesisRecorderConfig()
+                .withAutoFlush(true).withAutoFlushMaxRecordAge(TimeUnit.HOURS.toMillis(1)));
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenReturn(new ArrayList<byte[]>());
+        for (int i = 0; i < 3; i++) {
+            autoRecorder.saveRecord(randomBytes(16), STREAM_NAME);
+        }
+        Mockito.verify(sender, Mockito.never()).sendBatch(Mockito.anyString(),
+                Mockito.anyListOf(byte[].class));
+
+        autoRecorder.shutdown();
+        assertTrue("shut down", autoRecorder.awaitShutdown(5, TimeUnit.SECONDS));
+        Mockito.verify(sender).sendBatch(Mockito.eq(STREAM_NAME), Mockito.anyListOf(byte[].class));
+        assertEquals("records removed", 0, autoRecorder.getDiskBytesUsed());
+    }
+
+    @Test
+    public void testStatisticsRecordFailedFlush() {
+        recorder.saveRecord(randomBytes(16), STREAM_NAME);
+        AmazonClientException ace = new AmazonClientException("offline", new IOException());
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenThrow(ace);
+        Mockito.when(sender.isRecoverable(ace)).thenReturn(true);
+        try {
+            recorder.submitAllRecords();
+            fail("should have thrown");
+        } catch (AmazonClientException e) {
+            assertSame(ace, e);
+        }
+
+        KinesisRecorderStatistics statistics = recorder.getStatistics();
+        assertEquals("one flush", 1, statistics.getFlushCount());
+        assertEquals("one failed flush", 1, statistics.getFailedFlushCount());
+        assertEquals("record kept", 1, statistics.getPendingRecordCount());
+        assertEquals("nothing sent", 0, statistics.getRecordsSent());
+    }
+
+    private AbstractKinesisRecorder newAutoFlushRecorder(KinesisRecorderConfig config)
+            throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
+                config.getMaxStorageSize());
+        MockAbstractKinesisRecorder autoRecorder = new MockAbstractKinesisRecorder(recordStore,
+                config);
+        autoRecorder.setRecordSender(sender);
+        return autoRecorder;
+    }
+
     private byte[] randomBytes(int length) {
         byte[] data = new byte[length];
         new Random().nextBytes(data);
@@ -29,17 +29,17 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -48,6 +48,7 @@ public class FileRecordStoreTest {
     private static final File TEST_DIRECTORY = new File("FileRecordStoreTest");
     private static final String RECORDER_FILE_NAME = Constants.RECORDS_FILE_NAME;
     private static final long MAX_STORAGE_SIZE = 1024 * 1024 * 5L;
+    private static final String STREAM_NAME = "stream";
 
     @Before
     public void setup() {
@@ -71,21 +72,20 @@ public class FileRecordStoreTest {
     @Test
     public void testFileRecordStore_putIterateAndRemove() throws IOException {
 
-        FileManager fileManager = new FileManager(TEST_DIRECTORY);
         FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
                 RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
 
         // Put some events into the store
-        recordStore.put("1");
-        recordStore.put("2");
-        recordStore.put("3");
-        recordStore.put("4");
-        recordStore.put("5");
-        recordStore.put("6");
-        recordStore.put("7");
-        recordStore.put("8");
-        recordStore.put("9");
-        recordStore.put("10");
+        recordStore.put(STREAM_NAME, bytes("1"));
+        recordStore.put(STREAM_NAME, bytes("2"));
+        recordStore.put(STREAM_NAME, bytes("3"));
+        recordStore.put(STREAM_NAME, bytes("4"));
+        recordStore.put(STREAM_NAME, bytes("5"));
+        recordStore.put(STREAM_NAME, bytes("6"));
+        recordStore.put(STREAM_NAME, bytes("7"));
+        recordStore.put(STREAM_NAME, bytes("8"));
+        recordStore.put(STREAM_NAME, bytes("9"));
+        recordStore.put(STREAM_NAME, bytes("10"));
 
         // Use the iterator to read through the events in the store
         int counter = 0;
@@ -93,35 +93,35 @@ public class FileRecordStoreTest {
 
         while (iter.hasNext()) {
             counter++;
-            String record = iter.next();
+            String record = string(iter.next());
             assertSame(Integer.valueOf(record), counter);
             // If we read 5 events remove the 5 last read events
             if (counter % 5 == 0) {
                 iter.removeReadRecords();
-                assertSame(getNumberOfLinesInFile(fileManager), (10 - counter));
+                assertSame(getNumberOfRecords(recordStore), (10 - counter));
             }
         }
 
         // Put some events into the store
-        recordStore.put("1");
-        recordStore.put("2");
-        recordStore.put("3");
-        recordStore.put("4");
-        recordStore.put("5");
-        recordStore.put("6");
-        recordStore.put("7");
-        recordStore.put("8");
-        recordStore.put("9");
-        recordStore.put("10");
+        recordStore.put(STREAM_NAME, bytes("1"));
+        recordStore.put(STREAM_NAME, bytes("2"));
+        recordStore.put(STREAM_NAME, bytes("3"));
+        recordStore.put(STREAM_NAME, bytes("4"));
+        recordStore.put(STREAM_NAME, bytes("5"));
+        recordStore.put(STREAM_NAME, bytes("6"));
+        recordStore.put(STREAM_NAME, bytes("7"));
+        recordStore.put(STREAM_NAME, bytes("8"));
+        recordStore.put(STREAM_NAME, bytes("9"));
+        recordStore.put(STREAM_NAME, bytes("10"));
         String nextRecord = null;
         counter = 0;
         iter = recordStore.iterator();
-        while ((nextRecord = iter.next()) != null) {
+        while ((nextRecord = string(iter.next())) != null) {
             counter++;
             assertSame(Integer.valueOf(nextRecord), counter);
         }
         iter.removeReadRecords();
-        assertSame(getNumberOfLinesInFile(fileManager), 0);
+        assertSame(getNumberOfRecords(recordStore), 0);
 
         // Try getting a new iterator while the store is empty and verify
         // that hasNext is false
@@ -131,13 +131,13 @@ public class FileRecordStoreTest {
 
         // Put another record in the store and try to read it back out with a
         // new iterator.
-        recordStore.put("11");
+        recordStore.put(STREAM_NAME, bytes("11"));
         iter = recordStore.iterator();
 
         // Try peeking and the next record more than once and verify it will
         // only show the next record each time
-        assertTrue(iter.peek().equalsIgnoreCase("11"));
-        assertTrue(iter.peek().equalsIgnoreCase("11"));
+        assertTrue(string(iter.peek()).equalsIgnoreCase("11"));
+        assertTrue(string(iter.peek()).equalsIgnoreCase("11"));
 
         // Try calling remove and get an UnsupportedOperationException
         boolean unsupportedCaught = false;
@@ -149,7 +149,7 @@ public class FileRecordStoreTest {
         assertTrue(unsupportedCaught);
 
         while (iter.hasNext()) {
-            String record = iter.next();
+            String record = string(iter.next());
             assertSame(Integer.valueOf(record), 11);
         }
 
@@ -172,7 +172,7 @@ public class FileRecordStoreTest {
 
             fileManager.deleteFile(recordsFile);
             kinesisDirectory.setReadOnly();
-            recordStore.put("2");
+            recordStore.put(STREAM_NAME, bytes("2"));
         } finally {
             if (kinesisDirectory != null && kinesisDirectory.exists()) {
 
@@ -185,23 +185,18 @@ public class FileRecordStoreTest {
 
     @Test
     public void testWhenWritingExceedsMaxStorageSize_noMoreRecordsWritten() throws IOException {
-        File recordsDirectory = null;
-        File recordsFile = null;
-
-        FileManager fileManager = new FileManager(TEST_DIRECTORY);
+        // 6 bytes of segment header, 4 bytes for the stream name "s" and 12
+        // bytes per record of 9 bytes
         FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
-                RECORDER_FILE_NAME, 100L);
-
-        recordsDirectory = fileManager.getDirectory(Constants.RECORDS_DIRECTORY);
-        recordsFile = new File(recordsDirectory, Constants.RECORDS_FILE_NAME);
+                RECORDER_FILE_NAME, 130L);
 
         for (int i = 0; i < 10; i++) {
-            recordStore.put("ten bytes");
+            assertTrue(recordStore.put("s", bytes("ten bytes")));
         }
-        assertSame(recordsFile.length(), 100L);
+        assertEquals(130L, recordStore.getFileSize());
 
-        recordStore.put("0123456789");
-        assertSame(recordsFile.length(), 100L);
+        assertFalse(recordStore.put("s", bytes("0123456789")));
+        assertEquals(130L, recordStore.getFileSize());
 
     }
 
@@ -210,15 +205,9 @@ public class FileRecordStoreTest {
     @Test
     public void testWhenWritingTooManyConcurrentRecords() throws
             InterruptedException, IOException {
-        File recordsDirectory = null;
-        File recordsFile = null;
-        FileManager fileManager = new FileManager(TEST_DIRECTORY);
         final FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
                 RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
 
-        recordsDirectory = fileManager.getDirectory(Constants.RECORDS_DIRECTORY);
-        recordsFile = new File(recordsDirectory, Constants.RECORDS_FILE_NAME);
-
         SecureRandom random = new SecureRandom();
 
         // first fill the disk
@@ -230,11 +219,11 @@ public class FileRecordStoreTest {
         final String recordStr = tempRecordStr;
 
         for (int i = 0; i < 30; i++) {
-            recordStore.put(recordStr);
+            recordStore.put(STREAM_NAME, bytes(recordStr));
         }
 
-        long initialSize = recordsFile.length();
-        assertTrue(recordsFile.length() <= MAX_STORAGE_SIZE);
+        long initialSize = recordStore.getFileSize();
+        assertTrue(recordStore.getFileSize() <= MAX_STORAGE_SIZE);
 
         final CountDownLatch latch = new CountDownLatch(1);
         ExecutorService threadPool = Executors.newFixedThreadPool(1);
@@ -245,7 +234,7 @@ public class FileRecordStoreTest {
                     for (int i = 0; i < 100; i++) {
                         RecordIterator itr = recordStore.iterator();
                         if (itr.hasNext()) {
-                            String next = itr.next();
+                            String next = string(itr.next());
                             assertEquals(next.length(), recordStr.length());
                             itr.removeReadRecords();
                         }
@@ -262,18 +251,18 @@ public class FileRecordStoreTest {
         });
 
         for (int i = 0; i < 10000; i++) {
-            recordStore.put(recordStr);
-            assertTrue(recordsFile.length() <= initialSize);
-            recordStore.put(recordStr);
-            assertTrue(recordsFile.length() <= initialSize);
-            recordStore.put(recordStr);
-            assertTrue(recordsFile.length() <= initialSize);
+            recordStore.put(STREAM_NAME, bytes(recordStr));
+            assertTrue(recordStore.getFileSize() <= initialSize);
+            recordStore.put(STREAM_NAME, bytes(recordStr));
+            assertTrue(recordStore.getFileSize() <= initialSize);
+            recordStore.put(STREAM_NAME, bytes(recordStr));
+            assertTrue(recordStore.getFileSize() <= initialSize);
             Thread.sleep(1);
         }
 
         latch.await();
-        assertEquals(recordsFile.length(), initialSize);
-        assertTrue(recordsFile.length() < MAX_STORAGE_SIZE);
+        assertEquals(recordStore.getFileSize(), initialSize);
+        assertTrue(recordStore.getFileSize() < MAX_STORAGE_SIZE);
 
     }
 
@@ -293,7 +282,7 @@ public class FileRecordStoreTest {
                 @Override
                 public void run() {
                     try {
-                        recordStore.put(recordStr);
+                        recordStore.put(STREAM_NAME, bytes(recordStr));
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     } finally {
@@ -314,7 +303,7 @@ public class FileRecordStoreTest {
         final List<Long> recordList = new LinkedList<Long>();
         RecordIterator iter = recordStore.iterator();
         while (iter.hasNext()) {
-            String next = iter.next();
+            String next = string(iter.next());
             recordList.add(Long.valueOf(next));
         }
 
@@ -324,28 +313,204 @@ public class FileRecordStoreTest {
         }
     }
 
-    private int getNumberOfLinesInFile(final FileManager fileManager) throws NumberFormatException,
-            IOException {
-        BufferedReader reader = getRecordsFileReader(fileManager);
-        int counter = 0;
-        while (reader.readLine() != null) {
-            counter++;
+    @Test
+    public void testRemoveReadRecords_deletesWholeSegments() throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE, false, 40L);
+
+        // A segment holds the header (6 bytes), the stream name (9 bytes) and
+        // three records of 11 bytes
+        for (int i = 0; i < 9; i++) {
+            recordStore.put(STREAM_NAME, bytes("record " + i));
         }
-        return counter;
+        assertEquals(3, getSegmentFiles().size());
+        assertEquals(3 * 48L, recordStore.getFileSize());
+
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 0; i < 4; i++) {
+            assertEquals("record " + i, string(iter.next()));
+        }
+        iter.removeReadRecords();
+        assertEquals(2, getSegmentFiles().size());
+        assertEquals(2 * 48L - 26L, recordStore.getFileSize());
+        assertEquals("record 4", string(iter.next()));
+
+        iter.removeAllRecords();
+        assertEquals(1, getSegmentFiles().size());
+        assertEquals(0L, recordStore.getFileSize());
+        assertFalse(iter.hasNext());
     }
 
-    private BufferedReader getRecordsFileReader(final FileManager fileManager) {
-        InputStreamReader streamReader = null;
-        try {
-            streamReader = new InputStreamReader(
-                    fileManager.newInputStream(Constants.RECORDS_DIRECTORY + File.separator
-                            + Constants.RECORDS_FILE_NAME), StringUtils.UTF8);
-        } catch (FileNotFoundException e) {
+    @Test
+    public void testCursor_survivesReopen() throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE, false, 40L);
+        for (int i = 0; i < 6; i++) {
+            recordStore.put(STREAM_NAME, bytes("record " + i));
+        }
+        RecordIterator iter = recordStore.iterator();
+        iter.next();
+        iter.next();
+        iter.removeReadRecords();
+        iter.close();
+
+        recordStore = new FileRecordStore(TEST_DIRECTORY, RECORDER_FILE_NAME,
+                MAX_STORAGE_SIZE, false, 40L);
+        assertEquals(2 * 48L - 37L, recordStore.getFileSize());
+        recordStore.put(STREAM_NAME, bytes("record 6"));
+        iter = recordStore.iterator();
+        for (int i = 2; i < 7; i++) {
+            assertEquals("record " + i, string(iter.next()));
         }
+        assertFalse(iter.hasNext());
+    }
 
-        if (streamReader != null) {
-            return new BufferedReader(streamReader);
+    @Test
+    public void testMultipleStreams_namesStoredOncePerSegment() throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        for (int i = 0; i < 10; i++) {
+            recordStore.put(i % 2 == 0 ? "even" : "odd", bytes("" + i));
         }
-        return null;
+        // header, two stream names and ten records of 4 bytes
+        assertEquals(6L + 7L + 6L + 10 * 4L, recordStore.getFileSize());
+
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 0; i < 10; i++) {
+            FileRecord record = iter.next();
+            assertEquals(i % 2 == 0 ? "even" : "odd", record.streamName);
+            assertEquals("" + i, string(record));
+        }
+        assertNull(iter.next());
+    }
+
+    @Test
+    public void testCompression_completeSegmentsAreDeflated() throws IOException {
+        final List<Runnable> compressions = new LinkedList<Runnable>();
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE, true, 1024L, new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        compressions.add(command);
+                    }
+                });
+        String data = "{\"event\":\"click\",\"screen\":\"main\",\"count\":1}";
+        for (int i = 0; i < 100; i++) {
+            recordStore.put(STREAM_NAME, bytes(data + i));
+        }
+        long uncompressedSize = 0;
+        for (int i = 0; i < 100; i++) {
+            uncompressedSize += 3 + data.length() + ("" + i).length();
+        }
+
+        // complete segments are read as they were written until compressed
+        assertFalse(compressions.isEmpty());
+        assertTrue(recordStore.getFileSize() > uncompressedSize);
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(data + i, string(iter.next()));
+        }
+        for (Runnable compression : compressions) {
+            compression.run();
+        }
+        assertTrue(recordStore.getFileSize() < uncompressedSize / 2);
+
+        // read on across compressed segments, remove some and read the rest
+        for (int i = 10; i < 30; i++) {
+            assertEquals(data + i, string(iter.next()));
+        }
+        iter.removeReadRecords();
+        iter.close();
+
+        recordStore = new FileRecordStore(TEST_DIRECTORY, RECORDER_FILE_NAME,
+                MAX_STORAGE_SIZE, true, 1024L);
+        iter = recordStore.iterator();
+        for (int i = 30; i < 100; i++) {
+            assertEquals(data + i, string(iter.next()));
+        }
+        assertNull(iter.next());
+    }
+
+    @Test
+    public void testIncompleteRecordAtEndOfSegment_isIgnored() throws IOException {
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        recordStore.put(STREAM_NAME, bytes("complete"));
+        recordStore.put(STREAM_NAME, bytes("torn"));
+        File segment = getSegmentFiles().get(0);
+        RandomAccessFile raf = new RandomAccessFile(segment, "rw");
+        raf.setLength(raf.length() - 2);
+        raf.close();
+
+        recordStore = new FileRecordStore(TEST_DIRECTORY, RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        recordStore.put(STREAM_NAME, bytes("next"));
+        RecordIterator iter = recordStore.iterator();
+        assertEquals("complete", string(iter.next()));
+        assertEquals("next", string(iter.next()));
+        assertNull(iter.next());
+    }
+
+    @Test
+    public void testRecordsFileOfPreviousVersion_isAdopted() throws IOException {
+        FileManager fileManager = new FileManager(TEST_DIRECTORY);
+        File recordsDirectory = fileManager.createDirectory(Constants.RECORDS_DIRECTORY);
+        OutputStream out = fileManager.newOutputStream(
+                new File(recordsDirectory, RECORDER_FILE_NAME), false);
+        out.write((FileRecordParser.asString(STREAM_NAME, bytes("old 1")) + "\n")
+                .getBytes(StringUtils.UTF8));
+        out.write("corrupted\n".getBytes(StringUtils.UTF8));
+        out.write((FileRecordParser.asString("other", bytes("old 2")) + "\n")
+                .getBytes(StringUtils.UTF8));
+        out.close();
+        assertTrue(FileRecordStore.exists(TEST_DIRECTORY, RECORDER_FILE_NAME));
+
+        FileRecordStore recordStore = new FileRecordStore(TEST_DIRECTORY,
+                RECORDER_FILE_NAME, MAX_STORAGE_SIZE);
+        assertFalse(new File(recordsDirectory, RECORDER_FILE_NAME).exists());
+        recordStore.put(STREAM_NAME, bytes("new"));
+
+        RecordIterator iter = recordStore.iterator();
+        assertEquals("old 1", string(iter.next()));
+        FileRecord record = iter.next();
+        assertEquals("other", record.streamName);
+        assertEquals("old 2", string(record));
+        assertEquals("new", string(iter.next()));
+        assertNull(iter.next());
+        iter.removeReadRecords();
+        // the old segment is deleted once its records have been removed
+        assertEquals(1, getSegmentFiles().size());
+
+        recordStore.delete();
+        assertFalse(FileRecordStore.exists(TEST_DIRECTORY, RECORDER_FILE_NAME));
+    }
+
+    private List<File> getSegmentFiles() {
+        List<File> segments = new LinkedList<File>();
+        File recordsDirectory = new File(TEST_DIRECTORY, Constants.RECORDS_DIRECTORY);
+        for (File file : recordsDirectory.listFiles()) {
+            if (file.getName().matches(RECORDER_FILE_NAME + "\\.[0-9]+")) {
+                segments.add(file);
+            }
+        }
+        return segments;
+    }
+
+    private static byte[] bytes(String data) {
+        return data.getBytes(StringUtils.UTF8);
+    }
+
+    private static String string(FileRecord record) {
+        return record == null ? null : new String(record.data, StringUtils.UTF8);
+    }
+
+    private int getNumberOfRecords(final FileRecordStore recordStore) throws IOException {
+        RecordIterator iter = recordStore.iterator();
+        int counter = 0;
+        while (iter.hasNext()) {
+            iter.next();
+            counter++;
+        }
+        iter.close();
+        return counter;
     }
 }
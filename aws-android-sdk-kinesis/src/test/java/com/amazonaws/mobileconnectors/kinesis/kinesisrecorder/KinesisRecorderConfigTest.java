@@ -58,11 +58,20 @@ public class KinesisRecorderConfigTest {
     public void copyConstructor() {
         KinesisRecorderConfig kConfig = new KinesisRecorderConfig();
         kConfig.withMaxStorageSize(5);
+        kConfig.withStorageCompression(true);
+        kConfig.withAutoFlush(true).withAutoFlushRecordCount(10)
+                .withAutoFlushByteSize(2048).withAutoFlushMaxRecordAge(1000);
 
         KinesisRecorderConfig copiedConfig = new KinesisRecorderConfig(kConfig);
 
         assertEquals(kConfig.getMaxStorageSize(),
                 copiedConfig.getMaxStorageSize());
+        assertEquals(kConfig.isStorageCompressionEnabled(),
+                copiedConfig.isStorageCompressionEnabled());
+        assertEquals(kConfig.isAutoFlushEnabled(), copiedConfig.isAutoFlushEnabled());
+        assertEquals(kConfig.getAutoFlushRecordCount(), copiedConfig.getAutoFlushRecordCount());
+        assertEquals(kConfig.getAutoFlushByteSize(), copiedConfig.getAutoFlushByteSize());
+        assertEquals(kConfig.getAutoFlushMaxRecordAge(), copiedConfig.getAutoFlushMaxRecordAge());
 
     }
 
@@ -74,4 +83,9 @@ public class KinesisRecorderConfigTest {
         assertEquals(kConfig.getMaxStorageSize(), 100);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidAutoFlushRecordCount() {
+        new KinesisRecorderConfig().withAutoFlushRecordCount(0);
+    }
+
 }
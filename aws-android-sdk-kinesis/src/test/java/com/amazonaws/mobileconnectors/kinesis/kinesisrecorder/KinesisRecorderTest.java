@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AnonymousAWSCredentials;
@@ -34,7 +35,10 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.util.Random;
 import java.util.UUID;
@@ -83,8 +87,10 @@ public class KinesisRecorderTest {
     @Test
     public void testUpgrade() throws Exception {
         File directory = temp.newFolder();
-        FileRecordStore recordStore = new FileRecordStore(directory, Constants.RECORDS_FILE_NAME,
-                5 * 1024 * 1024);
+        File recordsDirectory = new File(directory, Constants.RECORDS_DIRECTORY);
+        recordsDirectory.mkdirs();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(
+                new File(recordsDirectory, Constants.RECORDS_FILE_NAME)), StringUtils.UTF8);
         String streamName = "stream";
         int length = 1024;
         JSONRecordAdapter adapter = new JSONRecordAdapter();
@@ -94,21 +100,24 @@ public class KinesisRecorderTest {
             byte[] bytes = randomBytes(length);
             req.setData(ByteBuffer.wrap(bytes));
             req.setPartitionKey(UUID.randomUUID().toString());
-            recordStore.put(adapter.translateFromRecord(req).toString());
+            writer.write(adapter.translateFromRecord(req).toString());
+            writer.write("\n");
         }
+        writer.close();
 
         recorder = new KinesisRecorder(directory, Regions.US_EAST_1, provider);
         Thread.sleep(1000);
         RecordIterator iterator = recorder.recordStore.iterator();
-        FileRecordParser frp = new FileRecordParser();
         int count = 0;
         while (iterator.hasNext()) {
             count++;
-            frp.parse(iterator.next());
-            assertEquals("same stream", streamName, frp.streamName);
-            assertEquals("same data length", length, frp.bytes.length);
+            FileRecord record = iterator.next();
+            assertEquals("same stream", streamName, record.streamName);
+            assertEquals("same data length", length, record.data.length);
         }
         assertEquals("has 10 records from upgrade", 10, count);
+        assertFalse("old records are deleted",
+                FileRecordStore.exists(directory, Constants.RECORDS_FILE_NAME));
     }
 
     private byte[] randomBytes(int length) {
@@ -169,6 +169,16 @@ public class AnalyticsClient implements JSONSerializable {
         eventRecorder.submitEvents();
     }
 
+    /**
+     * Writes the recorded events still held in memory to the local filestore.
+     * The session client does so when the session is paused or stopped, so
+     * that the events are not lost if the application is killed in the
+     * background.
+     */
+    public void flushEvents() {
+        eventRecorder.flushEvents();
+    }
+
     /**
      * Adds the specified attribute to all subsequently created events Note: The
      * maximum allowed attributes and metrics on a single event is 40. Attempts
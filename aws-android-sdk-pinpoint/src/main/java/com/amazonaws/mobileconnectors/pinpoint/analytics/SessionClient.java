@@ -209,6 +209,7 @@ public class SessionClient {
                                                                                        stopTime, session.getSessionDuration());
 
         this.pinpointContext.getAnalyticsClient().recordEvent(e);
+        this.pinpointContext.getAnalyticsClient().flushEvents();
 
         // clear the global campaign attributes.
         this.pinpointContext.getAnalyticsClient().clearEventSourceAttributes();
@@ -236,6 +237,7 @@ public class SessionClient {
         final AnalyticsEvent e = this.pinpointContext.getAnalyticsClient().createEvent(SESSION_PAUSE_EVENT_TYPE, session.getStartTime(),
                                                                                        null, session.getSessionDuration());
         this.pinpointContext.getAnalyticsClient().recordEvent(e);
+        this.pinpointContext.getAnalyticsClient().flushEvents();
 
         // Store session to file system
         pinpointContext.getSystem().getPreferences().putString(SHARED_PREFS_SESSION_KEY, this.session.toString());
@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.pinpoint.internal.event;
 
 import android.database.Cursor;
+import android.database.SQLException;
 import android.net.Uri;
 
 import java.net.SocketException;
@@ -26,6 +27,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -78,6 +83,12 @@ public class EventRecorder {
     static final String KEY_MAX_SUBMISSIONS_ALLOWED = "maxSubmissionAllowed";
     static final int DEFAULT_MAX_SUBMISSIONS_ALLOWED = 3;
     static final int SERVICE_DEFINED_MAX_EVENTS_PER_BATCH = 100;
+    static final String KEY_MAX_BACKLOG_SUBMISSIONS = "maxBacklogSubmissions";
+    static final int DEFAULT_MAX_BACKLOG_SUBMISSIONS = 20;
+    static final String KEY_MAX_CONCURRENT_SUBMISSIONS = "maxConcurrentSubmissions";
+    static final int DEFAULT_MAX_CONCURRENT_SUBMISSIONS = 2;
+    static final String KEY_MAX_BUFFERED_EVENTS = "maxBufferedEvents";
+    static final int DEFAULT_MAX_BUFFERED_EVENTS = 1;
     private static final String USER_AGENT = PinpointManager.class.getName() + "/" + VersionInfoUtils.getVersion();
     private static int clippedEventLength = 10;
     private final static int MAX_EVENT_OPERATIONS = 1000;
@@ -86,6 +97,10 @@ public class EventRecorder {
     private final PinpointDBUtil dbUtil;
     private final ExecutorService submissionRunnableQueue;
     private final PinpointContext pinpointContext;
+    /**
+     * JSON of the recorded events not written to the database yet, in order.
+     */
+    private final List<String> bufferedEvents = new ArrayList<String>();
 
     EventRecorder(final PinpointContext pinpointContext,
                   final PinpointDBUtil dbUtil,
@@ -129,17 +144,26 @@ public class EventRecorder {
     }
 
     /**
-     * Closes the database.
+     * Writes the buffered events to the database, then closes it.
      */
     public void closeDB() {
+        flushEvents();
         dbUtil.closeDB();
     }
 
     /**
      * Records an {@link com.amazonaws.mobileconnectors.pinpoint.analytics.AnalyticsEvent}.
+     * By default each event is written to the local database as it is
+     * recorded. When KEY_MAX_BUFFERED_EVENTS is set above 1, up to that many
+     * events are buffered in memory and written together, in a single
+     * transaction; call {@link #flushEvents()} to write them earlier.
      *
      * @param event the analytics event
-     * @return the URI of the event recorded in the local database
+     * @return the URI of the event recorded in the local database, or null if
+     *         the event could not be recorded. Null is also returned for an
+     *         event that was buffered, since it has no URI yet, including when
+     *         buffering is off but earlier buffered events could not be
+     *         written.
      */
     public Uri recordEvent(final AnalyticsEvent event) {
         if (event == null) {
@@ -147,37 +171,84 @@ public class EventRecorder {
             return null;
         }
 
-        log.info(String.format("Event Recorded to database with EventType: %s",
-                StringUtil.clipString(event.getEventType(), clippedEventLength, true)));
-
-        long maxPendingSize = pinpointContext.getConfiguration().optLong(KEY_MAX_PENDING_SIZE, DEFAULT_MAX_PENDING_SIZE);
-        if (maxPendingSize < MINIMUM_PENDING_SIZE) {
-            maxPendingSize = MINIMUM_PENDING_SIZE;
+        if (log.isInfoEnabled()) {
+            log.info("Event Recorded to database with EventType: "
+                    + StringUtil.clipString(event.getEventType(), clippedEventLength, true));
         }
 
-        final Uri uri = this.dbUtil.saveEvent(event);
-        if (uri != null) {
-            while (this.dbUtil.getTotalSize() > maxPendingSize) {
-                Cursor cursor = null;
-                try {
-                    cursor = this.dbUtil.queryOldestEvents(5);
-                    while (this.dbUtil.getTotalSize() > maxPendingSize && cursor.moveToNext()) {
-                        this.dbUtil.deleteEvent(
-                                cursor.getInt(EventTable.COLUMN_INDEX.ID.getValue()),
-                                cursor.getInt(EventTable.COLUMN_INDEX.SIZE.getValue()));
-                    }
-                } finally {
-                    if (cursor != null) {
-                        cursor.close();
-                    }
+        final int maxBufferedEvents = pinpointContext.getConfiguration()
+                .optInt(KEY_MAX_BUFFERED_EVENTS, DEFAULT_MAX_BUFFERED_EVENTS);
+        synchronized (bufferedEvents) {
+            if (maxBufferedEvents > 1) {
+                bufferedEvents.add(event.toJSONObject().toString());
+                if (bufferedEvents.size() >= maxBufferedEvents) {
+                    flushBufferedEvents();
                 }
+                return null;
             }
 
-            return uri;
-        } else {
-            log.warn(String.format("Event: '%s' failed to record to local database.",
-                    StringUtil.clipString(event.getEventType(), clippedEventLength, true)));
-            return null;
+            // Keep the events in the order they were recorded.
+            flushBufferedEvents();
+            if (!bufferedEvents.isEmpty()) {
+                bufferedEvents.add(event.toJSONObject().toString());
+                return null;
+            }
+            final Uri uri = this.dbUtil.saveEvent(event);
+            if (uri != null) {
+                trimEvents();
+                return uri;
+            } else {
+                log.warn("Event: '" + StringUtil.clipString(event.getEventType(), clippedEventLength, true)
+                        + "' failed to record to local database.");
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered events to the local database in a single
+     * transaction, so that they survive the process. This is done on
+     * submission, and should be done when the application goes to the
+     * background.
+     */
+    public void flushEvents() {
+        synchronized (bufferedEvents) {
+            flushBufferedEvents();
+        }
+    }
+
+    private void flushBufferedEvents() {
+        if (bufferedEvents.isEmpty()) {
+            return;
+        }
+        try {
+            this.dbUtil.saveEvents(bufferedEvents);
+        } catch (final SQLException e) {
+            // Keep the events for the next flush, but don't let them grow
+            // without bound while the database can't be written.
+            log.error("Failed to record " + bufferedEvents.size() + " events to local database.", e);
+            final int dropped = bufferedEvents.size() - MAX_EVENT_OPERATIONS;
+            if (dropped > 0) {
+                log.warn("Dropping the " + dropped + " oldest events not recorded to local database.");
+                bufferedEvents.subList(0, dropped).clear();
+            }
+            return;
+        }
+        bufferedEvents.clear();
+        trimEvents();
+    }
+
+    /**
+     * Deletes the oldest events once the events take more than
+     * KEY_MAX_PENDING_SIZE in the local database.
+     */
+    private void trimEvents() {
+        long maxPendingSize = pinpointContext.getConfiguration().optLong(KEY_MAX_PENDING_SIZE, DEFAULT_MAX_PENDING_SIZE);
+        if (maxPendingSize < MINIMUM_PENDING_SIZE) {
+            maxPendingSize = MINIMUM_PENDING_SIZE;
+        }
+        if (this.dbUtil.getTotalSize() > maxPendingSize) {
+            this.dbUtil.deleteOldestEvents(maxPendingSize);
         }
     }
 
@@ -242,6 +313,7 @@ public class EventRecorder {
     }
 
     public void submitEvents() {
+        flushEvents();
         submissionRunnableQueue.execute(new Runnable() {
             @Override
             public void run() {
@@ -284,6 +356,7 @@ public class EventRecorder {
     }
 
     public List<JSONObject> getAllEvents() {
+        flushEvents();
         final List<JSONObject> events = new ArrayList<JSONObject>();
         Cursor cursor = null;
         try {
@@ -302,10 +375,22 @@ public class EventRecorder {
         return events;
     }
 
+    /**
+     * Submits the recorded events, in batches of at most KEY_MAX_SUBMISSION_SIZE
+     * and SERVICE_DEFINED_MAX_EVENTS_PER_BATCH events. Up to
+     * KEY_MAX_CONCURRENT_SUBMISSIONS batches are built and sent at a time,
+     * while the next batches are read from the local database. The number of
+     * batches submitted grows with the backlog, from KEY_MAX_SUBMISSIONS_ALLOWED
+     * up to KEY_MAX_BACKLOG_SUBMISSIONS, and submission stops at the first
+     * batch kept for a later retry, so that an unreachable service costs a
+     * single request.
+     */
     void processEvents() {
         final long start = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
 
+        flushEvents();
         Cursor cursor = null;
+        ExecutorService submissionExecutor = null;
 
         try {
             cursor = dbUtil.queryAllEvents();
@@ -317,63 +402,134 @@ public class EventRecorder {
             }
 
             int submissions = 0;
-            final long maxSubmissionsAllowed = pinpointContext
+            int submissionsInFlight = 0;
+            final int maxSubmissions = getMaxSubmissions(cursor.getCount());
+            final int maxConcurrentSubmissions = Math.max(1, pinpointContext
                     .getConfiguration()
-                    .optInt(KEY_MAX_SUBMISSIONS_ALLOWED, DEFAULT_MAX_SUBMISSIONS_ALLOWED);
+                    .optInt(KEY_MAX_CONCURRENT_SUBMISSIONS, DEFAULT_MAX_CONCURRENT_SUBMISSIONS));
+            final EndpointProfile endpoint = pinpointContext.getTargetingClient().currentEndpoint();
+            // At most maxConcurrentSubmissions batches are submitted at a
+            // time, so the queue never holds more than that.
+            submissionExecutor = new ThreadPoolExecutor(maxConcurrentSubmissions, maxConcurrentSubmissions,
+                    0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(maxConcurrentSubmissions));
+            final CompletionService<Boolean> submissionService =
+                    new ExecutorCompletionService<Boolean>(submissionExecutor);
 
             do {
                 final HashMap<Integer, Integer> batchIdsAndSizeToDelete = new HashMap<Integer, Integer>();
                 final JSONArray events = this.getBatchOfEvents(cursor, batchIdsAndSizeToDelete);
 
-                // submitEventsAndEndpoint will submit the events and add the successfully submitted events
-                // into the SUCCESSFUL_EVENT_IDS and the failed events into the FAILED_EVENT_IDS map
-                // respectively.
-                // submitEventsAndEndpoint mutates the batchIdsAndSizeToDelete map. In cases where we
-                // want to keep the events in the local database, batchIdsAndSizeToDelete is cleared
-                // so we do not delete them.
                 if (batchIdsAndSizeToDelete.size() > 0) {
-                    submitEventsAndEndpoint(events, batchIdsAndSizeToDelete);
+                    if (submissionsInFlight >= maxConcurrentSubmissions) {
+                        submissionsInFlight--;
+                        if (!awaitSubmission(submissionService)) {
+                            break;
+                        }
+                    }
+                    submissionService.submit(new Callable<Boolean>() {
+                        @Override
+                        public Boolean call() {
+                            return submitBatch(events, batchIdsAndSizeToDelete, endpoint);
+                        }
+                    });
+                    submissionsInFlight++;
                     submissions++;
                 }
 
-                // Delete events from the local database. At this point batchIdsAndSizeToDelete
-                // reflects the set of events that can be deleted from the local database.
-                for (Integer id : batchIdsAndSizeToDelete.keySet()) {
-                    try {
-                        dbUtil.deleteEvent(id, batchIdsAndSizeToDelete.get(id));
-                    } catch (final IllegalArgumentException exc) {
-                        log.error("Failed to delete event: " + id, exc);
-                    }
-                }
-                if (submissions >= maxSubmissionsAllowed) {
+                if (submissions >= maxSubmissions) {
                     break;
                 }
             } while (cursor.moveToNext());
 
-            log.info(String.format(Locale.US, "Time of attemptDelivery: %d",
-                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - start));
+            for (; submissionsInFlight > 0; submissionsInFlight--) {
+                awaitSubmission(submissionService);
+            }
+
+            log.info("Time of attemptDelivery: "
+                    + (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - start));
         } finally {
+            if (submissionExecutor != null) {
+                submissionExecutor.shutdown();
+            }
             if (cursor != null) {
                 cursor.close();
             }
         }
     }
 
-    private void submitEventsAndEndpoint(final JSONArray eventArray,
-                                         final HashMap<Integer, Integer> batchIdsAndSizeToProcess) {
-        submitEventsAndEndpoint(eventArray,
-                batchIdsAndSizeToProcess,
-                pinpointContext.getTargetingClient().currentEndpoint());
+    /**
+     * Gets the number of batches to submit for the given number of pending
+     * events: enough to drain them, but at least KEY_MAX_SUBMISSIONS_ALLOWED
+     * and, unless that is higher, at most KEY_MAX_BACKLOG_SUBMISSIONS.
+     *
+     * @param pendingEvents the number of events in the local database
+     * @return the maximum number of batches to submit
+     */
+    int getMaxSubmissions(final int pendingEvents) {
+        final int minSubmissions = pinpointContext
+                .getConfiguration()
+                .optInt(KEY_MAX_SUBMISSIONS_ALLOWED, DEFAULT_MAX_SUBMISSIONS_ALLOWED);
+        final int maxBacklogSubmissions = pinpointContext
+                .getConfiguration()
+                .optInt(KEY_MAX_BACKLOG_SUBMISSIONS, DEFAULT_MAX_BACKLOG_SUBMISSIONS);
+        final int backlogSubmissions = (pendingEvents + SERVICE_DEFINED_MAX_EVENTS_PER_BATCH - 1)
+                / SERVICE_DEFINED_MAX_EVENTS_PER_BATCH;
+        return Math.max(minSubmissions, Math.min(backlogSubmissions, maxBacklogSubmissions));
     }
 
-    private void submitEventsAndEndpoint(final JSONArray eventArray,
-                                         final HashMap<Integer, Integer> batchIdsAndSizeToDelete,
-                                         EndpointProfile endpoint) {
+    /**
+     * Waits for the next submission to complete.
+     *
+     * @return whether the next batches should be submitted
+     */
+    private boolean awaitSubmission(final CompletionService<Boolean> submissionService) {
+        try {
+            return submissionService.take().get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while submitting events.");
+        } catch (final ExecutionException e) {
+            log.error("Failed to submit events.", e.getCause());
+        }
+        return false;
+    }
+
+    /**
+     * Submits a batch of events, then deletes the events which should not be
+     * retried from the local database.
+     *
+     * @return whether the next batches should be submitted
+     */
+    private boolean submitBatch(final JSONArray events,
+                                final HashMap<Integer, Integer> batchIdsAndSizeToDelete,
+                                final EndpointProfile endpoint) {
+        // submitEventsAndEndpoint mutates the batchIdsAndSizeToDelete map. In cases where we
+        // want to keep the events in the local database, batchIdsAndSizeToDelete is cleared
+        // so we do not delete them.
+        final boolean submitted = submitEventsAndEndpoint(events, batchIdsAndSizeToDelete, endpoint);
+
+        // Delete events from the local database. At this point batchIdsAndSizeToDelete
+        // reflects the set of events that can be deleted from the local database.
+        try {
+            dbUtil.deleteEvents(batchIdsAndSizeToDelete);
+        } catch (final SQLException exc) {
+            log.error("Failed to delete events: " + batchIdsAndSizeToDelete.keySet(), exc);
+        }
+        return submitted;
+    }
+
+    /**
+     * @return false if the events were kept in the local database to be
+     *         retried, true otherwise
+     */
+    private boolean submitEventsAndEndpoint(final JSONArray eventArray,
+                                            final HashMap<Integer, Integer> batchIdsAndSizeToDelete,
+                                            EndpointProfile endpoint) {
 
         if (endpoint == null) {
             log.warn("Endpoint profile is null, failed to submit events.");
             batchIdsAndSizeToDelete.clear();
-            return;
+            return false;
         }
 
         // package them into an putEvents request
@@ -407,6 +563,7 @@ public class EventRecorder {
                                 amazonServiceException.getStatusCode(), amazonServiceException.getErrorCode()),
                         amazonServiceException);
                 batchIdsAndSizeToDelete.clear();
+                return false;
             } else {
                 log.error(
                         String.format(Locale.getDefault(), "Failed to submit events to EventService: statusCode: " +
@@ -427,6 +584,7 @@ public class EventRecorder {
                         "Events will be saved, error likely recoverable." +
                         amazonClientException.getMessage(), amazonClientException);
                 batchIdsAndSizeToDelete.clear();
+                return false;
             } else {
                 log.error(
                         String.format(Locale.getDefault(), "AmazonClientException: Failed submission of %d events, events will be " +
@@ -434,6 +592,7 @@ public class EventRecorder {
                         amazonClientException);
             }
         }
+        return true;
     }
 
     private void processEndpointResponse(EndpointProfile endpoint, PutEventsResult resultResponse) {
@@ -24,6 +24,8 @@ import android.database.sqlite.SQLiteQueryBuilder;
 import android.net.Uri;
 import android.text.TextUtils;
 
+import java.util.Collection;
+
 import static com.amazonaws.mobileconnectors.pinpoint.internal.event.EventTable.COLUMN_SIZE;
 import static com.amazonaws.mobileconnectors.pinpoint.internal.event.EventTable.TABLE_EVENT;
 
@@ -88,7 +90,7 @@ public class PinpointDBBase {
      * @param values The values of a record.
      * @return The Uri of the inserted record.
      */
-    public Uri insert(final Uri uri, final ContentValues values) {
+    public synchronized Uri insert(final Uri uri, final ContentValues values) {
         final int uriType = uriMatcher.match(uri);
         final SQLiteDatabase db = databaseHelper.getWritableDatabase();
         long id = 0;
@@ -104,12 +106,45 @@ public class PinpointDBBase {
         return Uri.parse(BASE_PATH + "/" + id);
     }
 
+    /**
+     * Inserts records to the table in a single transaction: either all of
+     * them are inserted, or none is.
+     *
+     * @param uri         The Uri of a table.
+     * @param valuesArray The values of the records.
+     * @return Number of rows inserted.
+     */
+    public synchronized int bulkInsert(final Uri uri, final ContentValues[] valuesArray) {
+        final int uriType = uriMatcher.match(uri);
+        final SQLiteDatabase db = databaseHelper.getWritableDatabase();
+        switch (uriType) {
+            case EVENTS:
+                final long size = getTotalSize();
+                long insertedSize = 0;
+                db.beginTransaction();
+                try {
+                    for (final ContentValues values : valuesArray) {
+                        db.insertOrThrow(TABLE_EVENT, null, values);
+                        insertedSize += values.getAsLong(COLUMN_SIZE);
+                    }
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+                totalSize = size + insertedSize;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown URI: " + uri);
+        }
+        return valuesArray.length;
+    }
+
     /**
      * Get total size of event records.
      *
      * @return Total size.
      */
-    public long getTotalSize() {
+    public synchronized long getTotalSize() {
         Cursor cursor = null;
         try {
             if (totalSize < 0) {
@@ -203,7 +238,7 @@ public class PinpointDBBase {
      * @param knownSize     Known size (If known).
      * @return Number of rows deleted.
      */
-    public int delete(final Uri uri, final String selection, final String[] selectionArgs, final Integer knownSize) {
+    public synchronized int delete(final Uri uri, final String selection, final String[] selectionArgs, final Integer knownSize) {
         final int uriType = uriMatcher.match(uri);
         final SQLiteDatabase db = databaseHelper.getWritableDatabase();
         int rowsDeleted = 0;
@@ -235,4 +270,70 @@ public class PinpointDBBase {
         }
         return rowsDeleted;
     }
+
+    /**
+     * Deletes the event records with the given ids in a single statement.
+     *
+     * @param ids       The ids of the records.
+     * @param knownSize Known total size of the records (If known).
+     * @return Number of rows deleted.
+     */
+    public synchronized int deleteByIds(final Collection<Integer> ids, final Long knownSize) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        final SQLiteDatabase db = databaseHelper.getWritableDatabase();
+        final long size = getTotalSize();
+        final int rowsDeleted = db.delete(TABLE_EVENT, EventTable.COLUMN_ID + " IN (" + TextUtils.join(",", ids) + ")", null);
+        if (rowsDeleted == ids.size() && knownSize != null) {
+            totalSize = size - knownSize;
+        } else {
+            totalSize = -1;
+        }
+        return rowsDeleted;
+    }
+
+    /**
+     * Deletes the oldest event records, in a single range delete, until the
+     * total size of the remaining records is at most the given size.
+     *
+     * @param maxTotalSize The maximum total size of the remaining records.
+     * @return Number of rows deleted.
+     */
+    public synchronized int deleteOldest(final long maxTotalSize) {
+        final long size = getTotalSize();
+        if (size <= maxTotalSize) {
+            return 0;
+        }
+        final SQLiteDatabase db = databaseHelper.getWritableDatabase();
+        int lastId = -1;
+        int rowsToDelete = 0;
+        long sizeToDelete = 0;
+        Cursor cursor = null;
+        try {
+            cursor = db.query(TABLE_EVENT, new String[] { EventTable.COLUMN_ID, COLUMN_SIZE }, null, null, null, null,
+                              EventTable.COLUMN_ID + " ASC");
+            while (size - sizeToDelete > maxTotalSize && cursor.moveToNext()) {
+                lastId = cursor.getInt(0);
+                sizeToDelete += cursor.getLong(1);
+                rowsToDelete++;
+            }
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+        if (rowsToDelete == 0) {
+            totalSize = -1;
+            return 0;
+        }
+        final int rowsDeleted = db.delete(TABLE_EVENT, EventTable.COLUMN_ID + "<=" + lastId, null);
+        if (rowsDeleted == rowsToDelete && size - sizeToDelete <= maxTotalSize) {
+            totalSize = size - sizeToDelete;
+        } else {
+            // The running total didn't match the records; recount it.
+            totalSize = -1;
+        }
+        return rowsDeleted;
+    }
 }
@@ -21,6 +21,9 @@ import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
 
+import java.util.List;
+import java.util.Map;
+
 import static com.amazonaws.mobileconnectors.pinpoint.internal.event.EventTable.COLUMN_ID;
 import static com.amazonaws.mobileconnectors.pinpoint.internal.event.EventTable.COLUMN_SIZE;
 
@@ -64,9 +67,26 @@ public class PinpointDBUtil {
         return pinpointDBBase.insert(pinpointDBBase.getContentUri(), generateContentValuesFromEvent(event));
     }
 
+    /**
+     * Saves serialized events into the database in a single transaction.
+     *
+     * @param eventJsons The JSON of the events to be saved, in order.
+     * @return Number of records inserted.
+     */
+    public int saveEvents(final List<String> eventJsons) {
+        final ContentValues[] valuesArray = new ContentValues[eventJsons.size()];
+        for (int i = 0; i < valuesArray.length; i++) {
+            valuesArray[i] = generateContentValuesFromJson(eventJsons.get(i));
+        }
+        return pinpointDBBase.bulkInsert(pinpointDBBase.getContentUri(), valuesArray);
+    }
+
     private ContentValues generateContentValuesFromEvent(final AnalyticsEvent event) {
+        return generateContentValuesFromJson(event.toJSONObject().toString());
+    }
+
+    private ContentValues generateContentValuesFromJson(final String json) {
         ContentValues values = new ContentValues();
-        String json = event.toJSONObject().toString();
         values.put(EventTable.COLUMN_JSON, json);
         values.put(COLUMN_SIZE, json.length());
         return values;
@@ -112,6 +132,36 @@ public class PinpointDBUtil {
         return pinpointDBBase.delete(getEventUri(id), null, null, size);
     }
 
+    /**
+     * Deletes the events with the given ids in a single statement.
+     *
+     * @param idsAndSizes The ids of the events to be deleted, mapped to their
+     *                    known size, or null if unknown.
+     * @return Number of rows deleted.
+     */
+    public int deleteEvents(final Map<Integer, Integer> idsAndSizes) {
+        Long knownSize = 0L;
+        for (final Integer size : idsAndSizes.values()) {
+            if (size == null) {
+                knownSize = null;
+                break;
+            }
+            knownSize += size;
+        }
+        return pinpointDBBase.deleteByIds(idsAndSizes.keySet(), knownSize);
+    }
+
+    /**
+     * Deletes the oldest events until the total size of the remaining events
+     * is at most the given size.
+     *
+     * @param maxTotalSize The maximum total size of the remaining events.
+     * @return Number of rows deleted.
+     */
+    public int deleteOldestEvents(final long maxTotalSize) {
+        return pinpointDBBase.deleteOldest(maxTotalSize);
+    }
+
     /**
      * Gets the Uri of the event table.
      *
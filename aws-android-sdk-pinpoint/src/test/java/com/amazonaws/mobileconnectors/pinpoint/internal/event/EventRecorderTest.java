@@ -16,6 +16,7 @@
 package com.amazonaws.mobileconnectors.pinpoint.internal.event;
 
 import android.database.Cursor;
+import android.database.SQLException;
 import android.net.Uri;
 
 import java.lang.reflect.Field;
@@ -36,10 +37,13 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.OngoingStubbing;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.logging.Log;
 import com.amazonaws.mobileconnectors.pinpoint.analytics.AnalyticsEvent;
 import com.amazonaws.mobileconnectors.pinpoint.analytics.utils.AnalyticsContextBuilder;
@@ -61,8 +65,10 @@ import com.amazonaws.services.pinpointanalytics.AmazonPinpointAnalyticsClient;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -369,4 +375,147 @@ public class EventRecorderTest {
         }
         assertTrue(dbUtil.getTotalSize() == 0);
     }
+
+    @Test
+    public void testMaxSubmissionsScaleWithBacklog() {
+        final AndroidPreferencesConfiguration config = mockContext.getConfiguration();
+        when(config.optInt(EventRecorder.KEY_MAX_SUBMISSIONS_ALLOWED,
+                EventRecorder.DEFAULT_MAX_SUBMISSIONS_ALLOWED)).thenReturn(3);
+        when(config.optInt(EventRecorder.KEY_MAX_BACKLOG_SUBMISSIONS,
+                EventRecorder.DEFAULT_MAX_BACKLOG_SUBMISSIONS)).thenReturn(20);
+
+        assertEquals(3, eventRecorder.getMaxSubmissions(1));
+        assertEquals(3, eventRecorder.getMaxSubmissions(300));
+        assertEquals(4, eventRecorder.getMaxSubmissions(301));
+        assertEquals(20, eventRecorder.getMaxSubmissions(100000));
+    }
+
+    @Test
+    public void testProcessEventsDrainsBacklog() {
+        mockSubmissionConfiguration();
+        for (int i = 0; i < 450; i++) {
+            eventRecorder.recordEvent(analyticsEvent);
+        }
+        BadRequestException badRequestException = new BadRequestException("BadRequestException");
+        badRequestException.setErrorCode("BadRequestException");
+        when(mockContext.getTargetingClient().currentEndpoint()).thenReturn(endpointProfile);
+        when(mockContext.getPinpointServiceClient().putEvents(any(PutEventsRequest.class))).thenThrow(badRequestException);
+
+        eventRecorder.processEvents();
+        // five batches instead of the three allowed without a backlog
+        verify(mockContext.getPinpointServiceClient(), times(5)).putEvents(any(PutEventsRequest.class));
+        assertTrue(dbUtil.queryAllEvents().getCount() == 0);
+    }
+
+    @Test
+    public void testProcessEventsStopsAtRetryableError() {
+        mockSubmissionConfiguration();
+        for (int i = 0; i < 450; i++) {
+            eventRecorder.recordEvent(analyticsEvent);
+        }
+        AmazonServiceException serviceException = new AmazonServiceException("InternalFailure");
+        serviceException.setErrorCode("InternalFailure");
+        when(mockContext.getTargetingClient().currentEndpoint()).thenReturn(endpointProfile);
+        when(mockContext.getPinpointServiceClient().putEvents(any(PutEventsRequest.class))).thenThrow(serviceException);
+
+        eventRecorder.processEvents();
+        // no batch is submitted once one of those in flight failed
+        verify(mockContext.getPinpointServiceClient(),
+                times(EventRecorder.DEFAULT_MAX_CONCURRENT_SUBMISSIONS)).putEvents(any(PutEventsRequest.class));
+        assertTrue(dbUtil.queryAllEvents().getCount() == 450);
+    }
+
+    private void mockSubmissionConfiguration() {
+        final AndroidPreferencesConfiguration config = mockContext.getConfiguration();
+        when(config.optLong(EventRecorder.KEY_MAX_PENDING_SIZE,
+                EventRecorder.DEFAULT_MAX_PENDING_SIZE)).thenReturn(EventRecorder.DEFAULT_MAX_PENDING_SIZE);
+        when(config.optLong(EventRecorder.KEY_MAX_SUBMISSION_SIZE,
+                EventRecorder.DEFAULT_MAX_SUBMISSION_SIZE)).thenReturn(EventRecorder.DEFAULT_MAX_SUBMISSION_SIZE);
+        when(config.optInt(EventRecorder.KEY_MAX_SUBMISSIONS_ALLOWED,
+                EventRecorder.DEFAULT_MAX_SUBMISSIONS_ALLOWED)).thenReturn(EventRecorder.DEFAULT_MAX_SUBMISSIONS_ALLOWED);
+        when(config.optInt(EventRecorder.KEY_MAX_BACKLOG_SUBMISSIONS,
+                EventRecorder.DEFAULT_MAX_BACKLOG_SUBMISSIONS)).thenReturn(EventRecorder.DEFAULT_MAX_BACKLOG_SUBMISSIONS);
+        when(config.optInt(EventRecorder.KEY_MAX_CONCURRENT_SUBMISSIONS,
+                EventRecorder.DEFAULT_MAX_CONCURRENT_SUBMISSIONS)).thenReturn(EventRecorder.DEFAULT_MAX_CONCURRENT_SUBMISSIONS);
+    }
+
+    @Test
+    public void testBufferedEventsAreWrittenTogether() {
+        when(mockContext.getConfiguration().optInt(EventRecorder.KEY_MAX_BUFFERED_EVENTS,
+                EventRecorder.DEFAULT_MAX_BUFFERED_EVENTS)).thenReturn(3);
+
+        assertNull(eventRecorder.recordEvent(analyticsEvent));
+        assertNull(eventRecorder.recordEvent(analyticsEvent));
+        assertTrue(dbUtil.queryAllEvents().getCount() == 0);
+        assertTrue(dbUtil.getTotalSize() == 0);
+
+        // the third event fills the buffer
+        assertNull(eventRecorder.recordEvent(analyticsEvent));
+        assertTrue(dbUtil.queryAllEvents().getCount() == 3);
+        final long eventSize = dbUtil.getTotalSize() / 3;
+        assertEquals(analyticsEvent.toJSONObject().toString().length(), eventSize);
+
+        eventRecorder.recordEvent(analyticsEvent);
+        assertTrue(dbUtil.queryAllEvents().getCount() == 3);
+        eventRecorder.flushEvents();
+        assertTrue(dbUtil.queryAllEvents().getCount() == 4);
+        assertEquals(4 * eventSize, dbUtil.getTotalSize());
+
+        // flushing an empty buffer writes nothing
+        eventRecorder.flushEvents();
+        assertTrue(dbUtil.queryAllEvents().getCount() == 4);
+    }
+
+    @Test
+    public void testTrimmingBufferedEvents() {
+        when(mockContext.getConfiguration().optInt(EventRecorder.KEY_MAX_BUFFERED_EVENTS,
+                EventRecorder.DEFAULT_MAX_BUFFERED_EVENTS)).thenReturn(10);
+        for (int i = 0; i < 100; i++) {
+            eventRecorder.recordEvent(analyticsEvent);
+            assertTrue(dbUtil.getTotalSize() <= 16 * 1024);
+        }
+        eventRecorder.flushEvents();
+        final long totalSize = dbUtil.getTotalSize();
+        assertTrue(totalSize > 0 && totalSize <= 16 * 1024);
+
+        // the oldest events were deleted, the newest kept
+        final Cursor c = dbUtil.queryAllEvents();
+        assertTrue(c.moveToLast());
+        assertEquals(100, c.getInt(EventTable.COLUMN_INDEX.ID.getValue()));
+        assertTrue(c.moveToFirst());
+        assertTrue(c.getInt(EventTable.COLUMN_INDEX.ID.getValue()) > 1);
+        c.close();
+    }
+
+    @Test
+    public void testBufferedEventsAreKeptWhenWriteFails() {
+        when(mockContext.getConfiguration().optInt(EventRecorder.KEY_MAX_BUFFERED_EVENTS,
+                EventRecorder.DEFAULT_MAX_BUFFERED_EVENTS)).thenReturn(2);
+        final PinpointDBUtil failingDbUtil = mock(PinpointDBUtil.class);
+        final List<Integer> writtenCounts = new ArrayList<Integer>();
+        when(failingDbUtil.saveEvents(anyListOf(String.class))).thenAnswer(new Answer<Integer>() {
+            @Override
+            public Integer answer(InvocationOnMock invocation) {
+                final int count = ((List<?>) invocation.getArguments()[0]).size();
+                if (writtenCounts.isEmpty()) {
+                    writtenCounts.add(0);
+                    throw new SQLException("disk full");
+                }
+                writtenCounts.add(count);
+                return count;
+            }
+        });
+        final EventRecorder recorder = new EventRecorder(mockContext, failingDbUtil, submissionRunnable);
+
+        // the first write fails, and the two events stay buffered
+        recorder.recordEvent(analyticsEvent);
+        recorder.recordEvent(analyticsEvent);
+        assertEquals(Arrays.asList(0), writtenCounts);
+
+        recorder.recordEvent(analyticsEvent);
+        assertEquals(Arrays.asList(0, 3), writtenCounts);
+
+        recorder.flushEvents();
+        assertEquals(Arrays.asList(0, 3), writtenCounts);
+    }
 }
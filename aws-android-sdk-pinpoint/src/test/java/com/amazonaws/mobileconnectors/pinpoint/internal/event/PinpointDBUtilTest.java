@@ -30,9 +30,14 @@ import com.amazonaws.mobileconnectors.pinpoint.internal.core.system.MockDeviceDe
 import android.database.Cursor;
 import android.net.Uri;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(manifest = Config.NONE, sdk=23)
@@ -156,4 +161,57 @@ public class PinpointDBUtilTest {
         assertEquals(c2.getCount(), 0);
         c2.close();
     }
+
+    @Test
+    public void testSaveEventsAndDeleteEvents() {
+        AnalyticsEvent analyticsEvent = AnalyticsEvent.newInstance(mockContext,
+                                                                          SESSION_ID,
+                                                                          SESSION_START,
+                                                                          SESSION_END,
+                                                                          SESSION_DURATION,
+                                                                          TIME_STAMP,
+                                                                          EVENT_NAME);
+        String json = analyticsEvent.toJSONObject().toString();
+        assertEquals(3, dbUtil.saveEvents(Arrays.asList(json, json, json)));
+        assertEquals(3 * json.length(), dbUtil.getTotalSize());
+
+        Map<Integer, Integer> idsAndSizes = new HashMap<Integer, Integer>();
+        idsAndSizes.put(1, json.length());
+        idsAndSizes.put(3, json.length());
+        assertEquals(2, dbUtil.deleteEvents(idsAndSizes));
+        assertEquals(json.length(), dbUtil.getTotalSize());
+        Cursor c = dbUtil.queryAllEvents();
+        assertEquals(c.getCount(), 1);
+        assertTrue(c.moveToNext());
+        assertEquals(2, c.getInt(EventTable.COLUMN_INDEX.ID.getValue()));
+        c.close();
+
+        // unknown sizes are recounted from the database
+        idsAndSizes.clear();
+        idsAndSizes.put(2, null);
+        assertEquals(1, dbUtil.deleteEvents(idsAndSizes));
+        assertEquals(0, dbUtil.getTotalSize());
+    }
+
+    @Test
+    public void testDeleteOldestEvents() {
+        AnalyticsEvent analyticsEvent = AnalyticsEvent.newInstance(mockContext,
+                                                                          SESSION_ID,
+                                                                          SESSION_START,
+                                                                          SESSION_END,
+                                                                          SESSION_DURATION,
+                                                                          TIME_STAMP,
+                                                                          EVENT_NAME);
+        String json = analyticsEvent.toJSONObject().toString();
+        dbUtil.saveEvents(Arrays.asList(json, json, json, json));
+
+        assertEquals(0, dbUtil.deleteOldestEvents(4 * json.length()));
+        assertEquals(3, dbUtil.deleteOldestEvents(json.length() + 1));
+        assertEquals(json.length(), dbUtil.getTotalSize());
+        Cursor c = dbUtil.queryAllEvents();
+        assertEquals(c.getCount(), 1);
+        assertTrue(c.moveToNext());
+        assertEquals(4, c.getInt(EventTable.COLUMN_INDEX.ID.getValue()));
+        c.close();
+    }
 }
@@ -19,6 +19,7 @@ import static com.amazonaws.util.StringUtils.UTF8;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.internal.SdkInputStream;
+import com.amazonaws.services.s3.internal.FileRegionInputStream;
 import com.amazonaws.util.BinaryUtils;
 
 import com.amazonaws.logging.Log;
@@ -35,7 +36,10 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     protected static final String DEFAULT_ENCODING = "UTF-8";
     private static final int BIT_MASK = 0xFF;
 
-    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+    /**
+     * Size in bytes of the data of each chunk, except the last ones.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
     private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
 
     private static final String CLRF = "\r\n";
@@ -63,6 +67,15 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      */
     private DecodedStreamBuffer decodedStreamBuffer;
 
+    /**
+     * The file region beneath the wrapped stream, if any. Chunk hashes it has
+     * computed already are reused instead of hashing the chunk again.
+     */
+    private final FileRegionInputStream fileRegion;
+
+    /** Data of the current chunk, reused for every chunk. */
+    private byte[] chunkBuffer;
+
     private boolean isAtStart = true;
     private boolean isTerminating = false;
 
@@ -126,6 +139,8 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             decodedStreamBuffer = null;
         }
 
+        fileRegion = FileRegionInputStream.unwrap(is);
+
         if (maxBufferSize < DEFAULT_CHUNK_SIZE) {
             throw new IllegalArgumentException(
                     "Max buffer size should not be less than chunk size");
@@ -305,7 +320,11 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      * @return Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
+        if (chunkBuffer == null) {
+            chunkBuffer = new byte[DEFAULT_CHUNK_SIZE];
+        }
+        final byte[] chunkData = chunkBuffer;
+        final long chunkStart = fileRegion != null ? fileRegion.getPosition() : -1;
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
             /** Read from the buffer of the decoded stream */
@@ -328,25 +347,41 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             }
         }
         if (chunkSizeInBytes == 0) {
-            final byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
+            currentChunkIterator = new ChunkContentIterator(
+                    createChunkHeader(0, aws4Signer.hash(FINAL_CHUNK)), FINAL_CHUNK, 0);
             return true;
         } else {
-            if (chunkSizeInBytes < chunkData.length) {
-                final byte[] temp = new byte[chunkSizeInBytes];
-                System.arraycopy(chunkData, 0, temp, 0, chunkSizeInBytes);
-                chunkData = temp;
+            byte[] chunkHash = null;
+            if (fileRegion != null && decodedStreamBuffer == null) {
+                chunkHash = fileRegion.getChunkHash(chunkStart, chunkSizeInBytes);
+            }
+            if (chunkHash == null) {
+                if (chunkSizeInBytes < chunkData.length) {
+                    final byte[] temp = new byte[chunkSizeInBytes];
+                    System.arraycopy(chunkData, 0, temp, 0, chunkSizeInBytes);
+                    chunkHash = aws4Signer.hash(temp);
+                } else {
+                    chunkHash = aws4Signer.hash(chunkData);
+                }
             }
-            final byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
+            currentChunkIterator = new ChunkContentIterator(
+                    createChunkHeader(chunkSizeInBytes, chunkHash), chunkData, chunkSizeInBytes);
             return false;
         }
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
+    /**
+     * Creates the header of a chunk, which holds the size of the chunk and its
+     * signature.
+     *
+     * @param chunkLength size in bytes of the chunk data
+     * @param chunkHash SHA-256 of the chunk data
+     * @return the header, ending with CRLF
+     */
+    private byte[] createChunkHeader(int chunkLength, byte[] chunkHash) {
         final StringBuilder chunkHeader = new StringBuilder();
         // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
+        chunkHeader.append(Integer.toHexString(chunkLength));
         // nonsig-extension
         final String nonsigExtension = "";
         // sig-extension
@@ -355,7 +390,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                 keyPath + "\n" +
                 priorChunkSignature + "\n" +
                 BinaryUtils.toHex(aws4Signer.hash(nonsigExtension)) + "\n" +
-                BinaryUtils.toHex(aws4Signer.hash(chunkData));
+                BinaryUtils.toHex(chunkHash);
         final String chunkSignature = BinaryUtils.toHex(aws4Signer.sign(chunkStringToSign, kSigning,
                 SigningAlgorithm.HmacSHA256));
         priorChunkSignature = chunkSignature;
@@ -363,15 +398,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         chunkHeader.append(CLRF);
 
         try {
-            final byte[] header = chunkHeader.toString().getBytes(UTF8);
-            final byte[] trailer = CLRF.getBytes(UTF8);
-            final byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
+            return chunkHeader.toString().getBytes(UTF8);
         } catch (final Exception e) {
             throw new AmazonClientException("Unable to sign the chunked data. " + e.getMessage(),
                     e);
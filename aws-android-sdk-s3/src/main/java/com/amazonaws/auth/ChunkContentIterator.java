@@ -15,17 +15,32 @@
 
 package com.amazonaws.auth;
 
+/**
+ * Iterates over a signed chunk: its header, its data and the trailing CRLF.
+ * The data is read from the caller's buffer without being copied into a
+ * single array first.
+ */
 class ChunkContentIterator {
 
-    private final byte[] signedChunk;
+    private static final byte[] TRAILER = {
+            '\r', '\n'
+    };
+
+    private final byte[] header;
+    private final byte[] data;
+    private final int dataLength;
+    private final int totalLength;
     private int pos;
 
-    public ChunkContentIterator(byte[] signedChunk) {
-        this.signedChunk = signedChunk;
+    public ChunkContentIterator(byte[] header, byte[] data, int dataLength) {
+        this.header = header;
+        this.data = data;
+        this.dataLength = dataLength;
+        this.totalLength = header.length + dataLength + TRAILER.length;
     }
 
     public boolean hasNext() {
-        return pos < signedChunk.length;
+        return pos < totalLength;
     }
 
     public int read(byte[] output, int offset, int length) {
@@ -33,10 +48,30 @@ class ChunkContentIterator {
             return 0;
         if (!hasNext())
             return -1;
-        int remaingBytesNum = signedChunk.length - pos;
-        int bytesToRead = Math.min(remaingBytesNum, length);
-        System.arraycopy(signedChunk, pos, output, offset, bytesToRead);
-        pos += bytesToRead;
-        return bytesToRead;
+        int read = 0;
+        while (read < length && hasNext()) {
+            final byte[] segment;
+            final int segmentStart;
+            final int segmentLength;
+            if (pos < header.length) {
+                segment = header;
+                segmentStart = 0;
+                segmentLength = header.length;
+            } else if (pos < header.length + dataLength) {
+                segment = data;
+                segmentStart = header.length;
+                segmentLength = dataLength;
+            } else {
+                segment = TRAILER;
+                segmentStart = header.length + dataLength;
+                segmentLength = TRAILER.length;
+            }
+            final int segmentPos = pos - segmentStart;
+            final int bytesToRead = Math.min(segmentLength - segmentPos, length - read);
+            System.arraycopy(segment, segmentPos, output, offset + read, bytesToRead);
+            pos += bytesToRead;
+            read += bytesToRead;
+        }
+        return read;
     }
 }
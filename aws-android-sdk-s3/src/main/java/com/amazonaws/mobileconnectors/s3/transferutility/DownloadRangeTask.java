@@ -0,0 +1,234 @@
+/**
+ * Copyright 2015-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.BufferPool;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads one byte range of a ranged download and writes it at its own
+ * offset in the destination file through positional writes on a shared
+ * {@link FileChannel}. A failed attempt is retried from the first byte that
+ * was not written yet.
+ */
+class DownloadRangeTask implements Callable<Boolean> {
+    private static final Log LOGGER = LogFactory.getLog(DownloadRangeTask.class);
+    private static final int RETRY_COUNT = 3;
+    private static final BufferPool BUFFER_POOL = BufferPool.getSharedPool();
+
+    private final TransferRecord download;
+    private final TransferRecord range;
+    private final String eTag;
+    // The open response of the range, read by the first attempt, if any.
+    private S3Object response;
+    private final FileChannel channel;
+    private final DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener;
+    private final AmazonS3 s3;
+    private final TransferDBUtil dbUtil;
+    private final PartConcurrencyController concurrencyController;
+
+    /**
+     * Constructs a DownloadRangeTask.
+     *
+     * @param download The main download record
+     * @param range The range record to download
+     * @param eTag The ETag the object must still match, or null
+     * @param response The open response of the range, or null to request it
+     * @param channel The channel of the pre-sized destination file
+     * @param downloadTaskProgressListener progress listener of the download
+     * @param s3 Low-level S3 client
+     * @param dbUtil database util
+     * @param concurrencyController limits the ranges in flight
+     */
+    DownloadRangeTask(TransferRecord download,
+                      TransferRecord range,
+                      String eTag,
+                      S3Object response,
+                      FileChannel channel,
+                      DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener,
+                      AmazonS3 s3,
+                      TransferDBUtil dbUtil,
+                      PartConcurrencyController concurrencyController) {
+        this.download = download;
+        this.range = range;
+        this.eTag = eTag;
+        this.response = response;
+        this.channel = channel;
+        this.downloadTaskProgressListener = downloadTaskProgressListener;
+        this.s3 = s3;
+        this.dbUtil = dbUtil;
+        this.concurrencyController = concurrencyController;
+    }
+
+    /*
+     * Runs range download task and returns whether successfully downloaded.
+     * The slot held in the concurrency controller is always released.
+     */
+    @Override
+    public Boolean call() throws Exception {
+        boolean succeeded = false;
+        try {
+            succeeded = downloadRange();
+            return succeeded;
+        } finally {
+            concurrencyController.release(succeeded);
+        }
+    }
+
+    private Boolean downloadRange() throws Exception {
+        dbUtil.updateState(range.id, TransferState.IN_PROGRESS);
+        long position = range.rangeStart;
+        int retried = 1;
+        while (true) {
+            try {
+                position = fetch(position);
+                dbUtil.updateState(range.id, TransferState.PART_COMPLETED);
+                concurrencyController.onPartCompleted(range.bytesTotal);
+                return true;
+            } catch (AbortedException e) {
+                // If request got aborted, operation was paused or canceled. do not retry.
+                LOGGER.debug("Download range aborted.");
+                return false;
+            } catch (final Exception e) {
+                LOGGER.error("Unexpected error occurred: " + e);
+                concurrencyController.onPartError();
+
+                // Check if network is not connected, set the state to WAITING_FOR_NETWORK.
+                try {
+                    if (TransferNetworkLossHandler.getInstance() != null &&
+                            !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
+                        LOGGER.info("Thread: [" + Thread.currentThread().getId() + "]: Network wasn't available.");
+                        dbUtil.updateState(range.id, TransferState.WAITING_FOR_NETWORK);
+                        return false;
+                    }
+                } catch (TransferUtilityException transferUtilityException) {
+                    LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");
+                }
+
+                if (retried >= RETRY_COUNT || e instanceof ObjectChangedException) {
+                    dbUtil.updateState(range.id, TransferState.FAILED);
+                    LOGGER.error("Encountered error downloading range ", e);
+                    throw e;
+                }
+
+                // Resume the range from the first byte that was not written.
+                position = range.rangeStart + downloadTaskProgressListener.getBytesTransferred(range.partNumber);
+
+                // Sleep before retrying
+                long delayMs = exponentialBackoffWithJitter(retried);
+                LOGGER.info("Retrying in " + delayMs + " ms.");
+                TimeUnit.MILLISECONDS.sleep(delayMs);
+                LOGGER.debug("Retry attempt: " + retried++, e);
+            }
+        }
+    }
+
+    /**
+     * Fetches the range from the given position to the last byte of the range
+     * and writes it at the same position in the file, then forces the file to
+     * storage.
+     *
+     * @param start first byte to fetch
+     * @return the position after the last byte written
+     */
+    private long fetch(long start) throws IOException {
+        final S3Object object;
+        if (response != null) {
+            object = response;
+            response = null;
+        } else {
+            final GetObjectRequest getObjectRequest = new GetObjectRequest(download.bucketName, download.key);
+            TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectRequest);
+            getObjectRequest.setRange(start, range.rangeLast);
+            if (eTag != null) {
+                getObjectRequest.withMatchingETagConstraint(eTag);
+            }
+            object = s3.getObject(getObjectRequest);
+        }
+        if (object == null) {
+            // The ETag constraint was not met, the object has been replaced.
+            throw new ObjectChangedException("Object " + download.key
+                    + " changed while it was being downloaded");
+        }
+
+        final S3ObjectInputStream is = object.getObjectContent();
+        long position = start;
+        final byte[] buffer = BUFFER_POOL.acquire();
+        try {
+            int bytesRead;
+            while ((bytesRead = is.read(buffer)) != -1) {
+                if (Thread.currentThread().isInterrupted()) {
+                    is.abort();
+                    throw new AbortedException();
+                }
+                final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+                downloadTaskProgressListener.onProgressChanged(range.partNumber, position - range.rangeStart);
+            }
+        } finally {
+            BUFFER_POOL.release(buffer);
+            try {
+                is.close();
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+        }
+        if (position != range.rangeLast + 1) {
+            throw new IOException("Range " + range.partNumber + " ended at byte " + position
+                    + ", expected " + (range.rangeLast + 1));
+        }
+        // The range is only recorded as completed once its bytes are on
+        // storage, so that a download resumed after a crash refetches it.
+        channel.force(false);
+        return position;
+    }
+
+    private long exponentialBackoffWithJitter(int retryAttempt) {
+        final long baseTimeMs = 1000L;
+        final long jitterFactor = 1000L;
+        long delay = baseTimeMs * (1 << retryAttempt);
+        long jitter = (long) (jitterFactor * Math.random());
+        return delay + jitter;
+    }
+
+    /**
+     * Thrown when the object no longer matches the ETag recorded when the
+     * download started. Such a failure is not retried.
+     */
+    static class ObjectChangedException extends AmazonClientException {
+        private static final long serialVersionUID = 1L;
+
+        ObjectChangedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -20,32 +20,58 @@ import com.amazonaws.event.ProgressEvent;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3Encryption;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
 
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * Performs download operation and returns a Boolean value indicating whether
  * the file has been downloaded successfully.
+ *
+ * When ranged downloads are enabled in {@link TransferUtilityOptions} and the
+ * object is larger than one range, the object is split into byte ranges that
+ * are fetched by {@link DownloadRangeTask}s on the part thread pool and
+ * written at their own offset in a pre-sized file. Each range is a record in
+ * the transfer database, so a resumed download only fetches the ranges that
+ * were not completed. A new download starts with a GET of the first range,
+ * so an object that fits in one range takes a single request.
  */
 class DownloadTask implements Callable<Boolean> {
 
     private static final Log LOGGER = LogFactory.getLog(DownloadTask.class);
-    private static final int SIXTEEN_KB = 1024 * 16;
+    private static final BufferPool BUFFER_POOL = BufferPool.getSharedPool();
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
 
     private final AmazonS3 s3;
     private final TransferRecord download;
+    private final TransferDBUtil dbUtil;
     private final TransferStatusUpdater updater;
 
     /**
@@ -54,11 +80,16 @@ class DownloadTask implements Callable<Boolean> {
      * @param download A TransferRecord object storing all the information of the
      *                 download
      * @param s3       Low-level S3 client
+     * @param dbUtil   database util
      * @param updater  status updater
      */
-    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferStatusUpdater updater) {
+    public DownloadTask(TransferRecord download,
+                        AmazonS3 s3,
+                        TransferDBUtil dbUtil,
+                        TransferStatusUpdater updater) {
         this.download = download;
         this.s3 = s3;
+        this.dbUtil = dbUtil;
         this.updater = updater;
     }
 
@@ -84,6 +115,12 @@ class DownloadTask implements Callable<Boolean> {
         ProgressListener progressListener = updater.newProgressListener(download.id);
 
         try {
+            if (downloadInRangesIfNeeded(progressListener)) {
+                updater.updateProgress(download.id, download.bytesTotal, download.bytesTotal, true);
+                updater.updateState(download.id, TransferState.COMPLETED);
+                return true;
+            }
+
             getObjectRequest = new GetObjectRequest(download.bucketName, download.key);
             TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
             final File file = new File(download.file);
@@ -169,6 +206,314 @@ class DownloadTask implements Callable<Boolean> {
         }
     }
 
+    /**
+     * Downloads the object in ranges if ranged downloads are enabled.
+     *
+     * @param progressListener progress listener of the transfer
+     * @return true if the object was downloaded, false if it should be
+     *         downloaded with a single request.
+     * @throws Exception if a range failed or the download was interrupted.
+     */
+    private boolean downloadInRangesIfNeeded(ProgressListener progressListener) throws Exception {
+        final TransferUtilityOptions options = download.transferUtilityOptions;
+        if (options == null || !options.isRangedDownloadEnabled()) {
+            return false;
+        }
+        if (s3 instanceof AmazonS3Encryption) {
+            // The encryption client has to decrypt the object from its first
+            // byte, so it's downloaded with a single request.
+            return false;
+        }
+
+        final File file = new File(download.file);
+        final List<TransferRecord> ranges = dbUtil.queryDownloadRangeRecords(download.id);
+        if (ranges.isEmpty()) {
+            if (file.length() > 0) {
+                // The download was started with a single request.
+                return false;
+            }
+            return startRangedDownload(file, options, progressListener);
+        }
+
+        final GetObjectMetadataRequest metadataRequest =
+                new GetObjectMetadataRequest(download.bucketName, download.key);
+        TransferUtility.appendTransferServiceUserAgentString(metadataRequest);
+        final ObjectMetadata metadata = s3.getObjectMetadata(metadataRequest);
+        final String eTag = metadata.getETag() == null ? null : ServiceUtils.removeQuotes(metadata.getETag());
+        if (download.eTag == null || !download.eTag.equals(eTag)) {
+            // The object changed since the ranges were recorded; start over.
+            LOGGER.info("Object changed since transfer " + download.id + " started. Restarting download.");
+            dbUtil.deleteDownloadRangeRecords(download.id);
+            deleteIfExists(file);
+            return startRangedDownload(file, options, progressListener);
+        }
+        download.bytesTotal = metadata.getContentLength();
+
+        downloadRanges(ranges, eTag, options, null);
+        validateDownloadedFile(file, metadata, eTag);
+        dbUtil.deleteDownloadRangeRecords(download.id);
+        return true;
+    }
+
+    /**
+     * Starts a ranged download with a GET of the first range. An object that
+     * fits in it is saved from that response. Otherwise the ranges are
+     * recorded, and the response is read as the first of them.
+     *
+     * @return true if the object was downloaded, false if it should be
+     *         downloaded with a single request.
+     */
+    private boolean startRangedDownload(File file, TransferUtilityOptions options,
+            ProgressListener progressListener) throws Exception {
+        final long rangeSize = options.getRangedDownloadPartSize();
+        final GetObjectRequest getObjectRequest = new GetObjectRequest(download.bucketName, download.key);
+        TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
+        getObjectRequest.setRange(0, rangeSize - 1);
+        final FirstRangeProgressListener firstRangeProgressListener =
+                new FirstRangeProgressListener(progressListener);
+        getObjectRequest.setGeneralProgressListener(firstRangeProgressListener);
+
+        final S3Object object;
+        try {
+            object = s3.getObject(getObjectRequest);
+        } catch (final AmazonS3Exception e) {
+            if (e.getStatusCode() == HTTP_RANGE_NOT_SATISFIABLE) {
+                // An empty object has no first range.
+                return false;
+            }
+            throw e;
+        }
+        if (object == null) {
+            throw new IllegalStateException("AmazonS3.getObject returns null");
+        }
+
+        final ObjectMetadata metadata = object.getObjectMetadata();
+        final long bytesTotal = metadata.getInstanceLength();
+        final String eTag = metadata.getETag() == null ? null : ServiceUtils.removeQuotes(metadata.getETag());
+        download.bytesTotal = bytesTotal;
+        if (bytesTotal <= rangeSize) {
+            firstRangeProgressListener.forwarding = true;
+            updater.updateProgress(download.id, 0, bytesTotal, true);
+            saveToFile(object.getObjectContent(), file);
+            validateDownloadedFile(file, metadata, eTag);
+            return true;
+        }
+
+        final List<TransferRecord> ranges;
+        try {
+            download.eTag = eTag;
+            dbUtil.updateETag(download.id, eTag);
+            dbUtil.updateBytesTotalForDownload(download.id, bytesTotal);
+            dbUtil.insertDownloadRangeRecords(download, bytesTotal, rangeSize);
+            ranges = dbUtil.queryDownloadRangeRecords(download.id);
+        } catch (final RuntimeException e) {
+            object.getObjectContent().abort();
+            throw e;
+        }
+        downloadRanges(ranges, eTag, options, object);
+        validateDownloadedFile(file, metadata, eTag);
+        dbUtil.deleteDownloadRangeRecords(download.id);
+        return true;
+    }
+
+    /**
+     * Fetches all ranges that are not completed yet into the pre-sized file.
+     *
+     * @param firstRangeResponse the open response of the first range, read
+     *            by its range task, or null to request every range.
+     */
+    private void downloadRanges(List<TransferRecord> ranges, String eTag, TransferUtilityOptions options,
+            S3Object firstRangeResponse) throws Exception {
+        S3Object unreadResponse = firstRangeResponse;
+        final File file = new File(download.file);
+        final File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+
+        final DownloadTaskProgressListener downloadTaskProgressListener = new DownloadTaskProgressListener();
+        final List<TransferRecord> remainingRanges = new ArrayList<TransferRecord>();
+        long bytesAlreadyTransferred = 0;
+        for (final TransferRecord range : ranges) {
+            if (TransferState.PART_COMPLETED.equals(range.state)) {
+                bytesAlreadyTransferred += range.bytesTotal;
+            } else {
+                remainingRanges.add(range);
+                downloadTaskProgressListener.bytesTransferredPerRange.put(range.partNumber, 0L);
+            }
+        }
+        downloadTaskProgressListener.bytesAlreadyTransferred = bytesAlreadyTransferred;
+        if (bytesAlreadyTransferred > 0) {
+            LOGGER.info(String.format("Resume transfer %d from %d bytes",
+                    download.id, bytesAlreadyTransferred));
+        }
+        updater.updateProgress(download.id, bytesAlreadyTransferred, download.bytesTotal, true);
+        LOGGER.info("Ranged download " + download.id + " in " + remainingRanges.size() + " ranges.");
+
+        final PartConcurrencyController concurrencyController = new PartConcurrencyController(
+                options.getMaxConcurrentPartsPerTransfer(), options.isAdaptivePartConcurrency());
+        final List<Future<Boolean>> rangeTasks = new ArrayList<Future<Boolean>>();
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "rw");
+            if (randomAccessFile.length() != download.bytesTotal) {
+                randomAccessFile.setLength(download.bytesTotal);
+            }
+            final FileChannel channel = randomAccessFile.getChannel();
+            boolean isSuccess = true;
+            for (final TransferRecord range : remainingRanges) {
+                if (!concurrencyController.acquire()) {
+                    isSuccess = false;
+                    break;
+                }
+                S3Object response = null;
+                if (unreadResponse != null && range.rangeStart == 0) {
+                    response = unreadResponse;
+                    unreadResponse = null;
+                }
+                rangeTasks.add(TransferThreadPool.submitTask(new DownloadRangeTask(download, range, eTag,
+                        response, channel, downloadTaskProgressListener, s3, dbUtil, concurrencyController)));
+            }
+            for (final Future<Boolean> rangeTask : rangeTasks) {
+                isSuccess &= rangeTask.get();
+            }
+            if (!isSuccess) {
+                // A range was aborted or lost the network; the caller
+                // decides the state of the transfer.
+                throw new AmazonClientException("Ranged download " + download.id + " did not complete.");
+            }
+        } catch (final Exception e) {
+            for (final Future<Boolean> rangeTask : rangeTasks) {
+                rangeTask.cancel(true);
+            }
+            throw e;
+        } finally {
+            if (unreadResponse != null) {
+                unreadResponse.getObjectContent().abort();
+            }
+            try {
+                if (randomAccessFile != null) {
+                    randomAccessFile.close();
+                }
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+        }
+    }
+
+    /**
+     * Checks the size of the downloaded file and, when the ETag of the object
+     * is the MD5 of its content, the MD5 of the file.
+     */
+    private void validateDownloadedFile(File file, ObjectMetadata metadata, String eTag) {
+        if (file.length() != download.bytesTotal) {
+            dbUtil.deleteDownloadRangeRecords(download.id);
+            throw new AmazonClientException("Downloaded file has " + file.length()
+                    + " bytes, expected " + download.bytesTotal);
+        }
+        if (eTag == null || ServiceUtils.isMultipartUploadETag(eTag)
+                || ServiceUtils.skipMd5CheckPerResponse(metadata)) {
+            return;
+        }
+        final String md5 = computeMd5Hex(file);
+        if (!md5.equalsIgnoreCase(eTag)) {
+            dbUtil.deleteDownloadRangeRecords(download.id);
+            throw new AmazonClientException("Unable to verify integrity of data download. "
+                    + "Client calculated content hash (" + md5 + ") didn't match hash ("
+                    + eTag + ") calculated by Amazon S3.");
+        }
+    }
+
+    private static String computeMd5Hex(File file) {
+        RandomAccessFile randomAccessFile = null;
+        final byte[] array = BUFFER_POOL.acquire();
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("MD5");
+            randomAccessFile = new RandomAccessFile(file, "r");
+            final FileChannel channel = randomAccessFile.getChannel();
+            final ByteBuffer buffer = ByteBuffer.wrap(array);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return BinaryUtils.toHex(digest.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to compute MD5 of downloaded file: " + e.getMessage(), e);
+        } catch (final IOException e) {
+            throw new AmazonClientException("Unable to read downloaded file: " + e.getMessage(), e);
+        } finally {
+            BUFFER_POOL.release(array);
+            if (randomAccessFile != null) {
+                try {
+                    randomAccessFile.close();
+                } catch (final IOException ioe) {
+                    LOGGER.warn("got exception", ioe);
+                }
+            }
+        }
+    }
+
+    private static void deleteIfExists(File file) {
+        if (file.exists() && !file.delete()) {
+            LOGGER.warn("Unable to delete " + file);
+        }
+    }
+
+    /**
+     * Progress listener of the first request of a ranged download. The
+     * progress is forwarded only when the object fits in that request;
+     * otherwise the task of the first range reports it.
+     */
+    private static class FirstRangeProgressListener implements ProgressListener {
+
+        private final ProgressListener progressListener;
+
+        private volatile boolean forwarding;
+
+        FirstRangeProgressListener(ProgressListener progressListener) {
+            this.progressListener = progressListener;
+        }
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            if (forwarding) {
+                progressListener.progressChanged(progressEvent);
+            }
+        }
+    }
+
+    /**
+     * Progress listener for a ranged download. Tracks the bytes written for
+     * each range so that ranges can finish in any order and a retried range
+     * can continue where it stopped.
+     */
+    class DownloadTaskProgressListener {
+
+        // Bytes of ranges that were completed before this run.
+        private long bytesAlreadyTransferred;
+
+        // Bytes written so far for each range of this run, keyed by part number.
+        private final Map<Integer, Long> bytesTransferredPerRange = new HashMap<Integer, Long>();
+
+        // Sum of bytesTransferredPerRange.
+        private long bytesTransferredOfAllRanges;
+
+        synchronized void onProgressChanged(int partNumber, long bytesTransferredSoFarForRange) {
+            final Long previous = bytesTransferredPerRange.put(partNumber, bytesTransferredSoFarForRange);
+            bytesTransferredOfAllRanges += bytesTransferredSoFarForRange - (previous == null ? 0 : previous);
+            updater.updateProgress(download.id,
+                    bytesAlreadyTransferred + bytesTransferredOfAllRanges,
+                    download.bytesTotal,
+                    true);
+        }
+
+        synchronized long getBytesTransferred(int partNumber) {
+            final Long bytes = bytesTransferredPerRange.get(partNumber);
+            return bytes == null ? 0 : bytes;
+        }
+    }
+
     /**
      * Writes stream data into a file.
      *
@@ -184,9 +529,9 @@ class DownloadTask implements Callable<Boolean> {
 
         final boolean append = file.length() > 0;
         OutputStream os = null;
+        final byte[] buffer = BUFFER_POOL.acquire();
         try {
-            os = new BufferedOutputStream(new FileOutputStream(file, append));
-            final byte[] buffer = new byte[SIXTEEN_KB];
+            os = new FileOutputStream(file, append);
             int bytesRead;
             while ((bytesRead = is.read(buffer)) != -1) {
                 os.write(buffer, 0, bytesRead);
@@ -199,6 +544,7 @@ class DownloadTask implements Callable<Boolean> {
         } catch (final IOException e) {
             throw new AmazonClientException("Unable to store object contents to disk: " + e.getMessage(), e);
         } finally {
+            BUFFER_POOL.release(buffer);
             try {
                 if (os != null) {
                     os.close();
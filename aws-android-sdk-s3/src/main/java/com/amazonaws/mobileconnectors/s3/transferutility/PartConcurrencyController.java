@@ -0,0 +1,154 @@
+/**
+ * Copyright 2015-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+/**
+ * Limits the number of parts of a single multipart upload that are in flight
+ * at the same time.
+ *
+ * When adaptive mode is enabled, the limit starts at one part and grows by
+ * one part whenever the throughput measured over the last window of
+ * completed parts improves, up to the configured maximum. Each part error
+ * halves the limit. When adaptive mode is disabled, the limit is fixed at
+ * the configured maximum.
+ *
+ * The global limit across all transfers is enforced by the part thread pool
+ * in {@link TransferThreadPool}.
+ */
+class PartConcurrencyController {
+
+    private static final Log LOGGER = LogFactory.getLog(PartConcurrencyController.class);
+
+    /**
+     * Throughput has to improve by at least this ratio for the limit to grow.
+     */
+    private static final double THROUGHPUT_GAIN_THRESHOLD = 1.1;
+
+    private final int maxConcurrentParts;
+    private final boolean adaptive;
+
+    private int limit;
+    private int inFlight;
+    private boolean stopped;
+
+    // Measurement window for the current limit.
+    private long windowStartMs;
+    private long windowBytes;
+    private int windowParts;
+    private double previousThroughput;
+
+    PartConcurrencyController(int maxConcurrentParts, boolean adaptive) {
+        this.maxConcurrentParts = Math.max(maxConcurrentParts, 1);
+        this.adaptive = adaptive;
+        this.limit = adaptive ? 1 : this.maxConcurrentParts;
+        resetWindow(System.currentTimeMillis());
+    }
+
+    /**
+     * Blocks until a part may be started.
+     *
+     * @return true if the part may be started, false if the upload has been
+     *         stopped because a part did not complete.
+     * @throws InterruptedException if the waiting thread is interrupted, for
+     *             example when the transfer is paused or canceled.
+     */
+    synchronized boolean acquire() throws InterruptedException {
+        while (!stopped && inFlight >= limit) {
+            wait();
+        }
+        if (stopped) {
+            return false;
+        }
+        if (inFlight == 0 && windowParts == 0) {
+            resetWindow(System.currentTimeMillis());
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases the slot held by a part.
+     *
+     * @param succeeded whether the part was uploaded. If not, no further parts
+     *            will be started.
+     */
+    synchronized void release(boolean succeeded) {
+        inFlight--;
+        if (!succeeded) {
+            stopped = true;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Records a successfully uploaded part and grows the limit if the
+     * throughput of the last window improved.
+     *
+     * @param bytes size of the part
+     */
+    synchronized void onPartCompleted(long bytes) {
+        windowBytes += bytes;
+        windowParts++;
+        if (!adaptive || windowParts < limit) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final double throughput = (double) windowBytes / Math.max(now - windowStartMs, 1);
+        if (limit < maxConcurrentParts
+                && throughput >= previousThroughput * THROUGHPUT_GAIN_THRESHOLD) {
+            limit++;
+            LOGGER.debug("Increasing part concurrency to " + limit);
+            notifyAll();
+        }
+        previousThroughput = throughput;
+        resetWindow(now);
+    }
+
+    /**
+     * Records a failed attempt to upload a part and halves the limit.
+     */
+    synchronized void onPartError() {
+        if (!adaptive) {
+            return;
+        }
+        final int newLimit = Math.max(limit / 2, 1);
+        if (newLimit != limit) {
+            limit = newLimit;
+            LOGGER.debug("Decreasing part concurrency to " + limit);
+        }
+        // Throughput measured before the error is no longer comparable.
+        previousThroughput = 0;
+        resetWindow(System.currentTimeMillis());
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    synchronized boolean isStopped() {
+        return stopped;
+    }
+
+    private void resetWindow(long now) {
+        windowStartMs = now;
+        windowBytes = 0;
+        windowParts = 0;
+    }
+}
@@ -27,6 +27,8 @@ import android.text.TextUtils;
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
+import java.util.Map;
+
 /**
  * Provides methods to access database through which applications can interact
  * with transfer tasks.
@@ -203,6 +205,30 @@ class TransferDBBase {
         return rowsUpdated;
     }
 
+    /**
+     * Updates several records, each identified by its own Uri, in a single
+     * transaction.
+     *
+     * @param valuesByUri The values to update, keyed by the Uri of the record.
+     * @return Number of rows updated.
+     */
+    public synchronized int bulkUpdate(Map<Uri, ContentValues> valuesByUri) {
+        int rowsUpdated = 0;
+        ensureDatabaseOpen();
+        try {
+            database.beginTransaction();
+            for (final Map.Entry<Uri, ContentValues> entry : valuesByUri.entrySet()) {
+                rowsUpdated += update(entry.getKey(), entry.getValue(), null, null);
+            }
+            database.setTransactionSuccessful();
+        } catch (final Exception e) {
+            LOGGER.error("bulkUpdate error : ", e);
+        } finally {
+            database.endTransaction();
+        }
+        return rowsUpdated;
+    }
+
     /**
      * Deletes a record in the table.
      *
@@ -269,6 +295,31 @@ class TransferDBBase {
         return mainUploadId;
     }
 
+    /**
+     * Inserts part records whose main upload id is already set in a single
+     * transaction.
+     *
+     * @param valuesArray An array of values to insert.
+     * @return Number of records inserted.
+     */
+    public int bulkInsertParts(ContentValues[] valuesArray) {
+        int inserted = 0;
+        ensureDatabaseOpen();
+        try {
+            database.beginTransaction();
+            for (final ContentValues values : valuesArray) {
+                database.insertOrThrow(TransferTable.TABLE_TRANSFER, null, values);
+            }
+            database.setTransactionSuccessful();
+            inserted = valuesArray.length;
+        } catch (final Exception e) {
+            LOGGER.error("bulkInsertParts error : ", e);
+        } finally {
+            database.endTransaction();
+        }
+        return inserted;
+    }
+
     private void ensureDatabaseOpen() {
         // close and reopen database.
         synchronized (LOCK) {
@@ -33,7 +33,9 @@ import com.google.gson.Gson;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides methods to conveniently perform database operations.
@@ -197,6 +199,23 @@ class TransferDBUtil {
         return transferDBBase.update(getRecordUri(id), values, null, null);
     }
 
+    /**
+     * Updates the current bytes of several transfer records in a single
+     * transaction.
+     *
+     * @param bytesById The bytes currently transferred, keyed by transfer id
+     * @return Number of rows updated.
+     */
+    public int updateBytesTransferred(Map<Integer, Long> bytesById) {
+        final Map<Uri, ContentValues> valuesByUri = new HashMap<Uri, ContentValues>();
+        for (final Map.Entry<Integer, Long> entry : bytesById.entrySet()) {
+            final ContentValues values = new ContentValues();
+            values.put(TransferTable.COLUMN_BYTES_CURRENT, entry.getValue());
+            valuesByUri.put(getRecordUri(entry.getKey()), values);
+        }
+        return transferDBBase.bulkUpdate(valuesByUri);
+    }
+
     /**
      * Updates the total bytes of a download record.
      *
@@ -550,13 +569,15 @@ class TransferDBUtil {
     }
 
     /**
-     * Deletes the record with the given id.
+     * Deletes the record with the given id, along with its part records: the
+     * ranges of a ranged download, or the parts of a multipart upload.
      *
      * @param id The id of the transfer to be deleted.
      * @return Number of rows deleted.
      */
     public int deleteTransferRecords(int id) {
-        return transferDBBase.delete(getRecordUri(id), null, null);
+        return deleteDownloadRangeRecords(id)
+                + transferDBBase.delete(getRecordUri(id), null, null);
     }
 
     /**
@@ -574,7 +595,8 @@ class TransferDBUtil {
         int partNum = 0;
         String eTag = null;
         try {
-            c = transferDBBase.query(getPartUri(mainUploadId), null, null, null, null);
+            c = transferDBBase.query(getPartUri(mainUploadId), null, null, null,
+                    TransferTable.COLUMN_PART_NUM);
             while (c.moveToNext()) {
                 partNum = c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_PART_NUM));
                 eTag = c.getString(c.getColumnIndexOrThrow(TransferTable.COLUMN_ETAG));
@@ -602,7 +624,8 @@ class TransferDBUtil {
         final ArrayList<UploadPartRequest> list = new ArrayList<UploadPartRequest>();
         Cursor c = null;
         try {
-            c = transferDBBase.query(getPartUri(mainUploadId), null, null, null, null);
+            c = transferDBBase.query(getPartUri(mainUploadId), null, null, null,
+                    TransferTable.COLUMN_PART_NUM);
             while (c.moveToNext()) {
                 if (TransferState.PART_COMPLETED.equals(TransferState.getState(c.getString(c
                         .getColumnIndexOrThrow(TransferTable.COLUMN_STATE))))) {
@@ -667,6 +690,84 @@ class TransferDBUtil {
         return isNetworkInterrupted;
     }
 
+    /**
+     * Inserts the range records of a ranged download in a single transaction.
+     * Each range record has the id of the download as its main upload id, a
+     * part number starting at 1, and the first and last byte of the range.
+     *
+     * @param download The download the ranges belong to.
+     * @param objectSize The size of the object in bytes.
+     * @param rangeSize The size of each range in bytes. The last range may be
+     *            smaller.
+     * @return Number of range records inserted.
+     */
+    public int insertDownloadRangeRecords(TransferRecord download, long objectSize, long rangeSize) {
+        final int rangeCount = (int) ((objectSize + rangeSize - 1) / rangeSize);
+        final ContentValues[] valuesArray = new ContentValues[rangeCount];
+        for (int i = 0; i < rangeCount; i++) {
+            final long rangeStart = i * rangeSize;
+            final long rangeLast = Math.min(rangeStart + rangeSize, objectSize) - 1;
+            final ContentValues values = new ContentValues();
+            values.put(TransferTable.COLUMN_TYPE, TransferType.DOWNLOAD.toString());
+            values.put(TransferTable.COLUMN_STATE, TransferState.WAITING.toString());
+            values.put(TransferTable.COLUMN_BUCKET_NAME, download.bucketName);
+            values.put(TransferTable.COLUMN_KEY, download.key);
+            values.put(TransferTable.COLUMN_FILE, download.file);
+            values.put(TransferTable.COLUMN_BYTES_CURRENT, 0L);
+            values.put(TransferTable.COLUMN_BYTES_TOTAL, rangeLast - rangeStart + 1);
+            values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+            values.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, download.id);
+            values.put(TransferTable.COLUMN_PART_NUM, i + 1);
+            values.put(TransferTable.COLUMN_DATA_RANGE_START, rangeStart);
+            values.put(TransferTable.COLUMN_DATA_RANGE_LAST, rangeLast);
+            values.put(TransferTable.COLUMN_FILE_OFFSET, rangeStart);
+            values.put(TransferTable.COLUMN_IS_LAST_PART, i == rangeCount - 1 ? 1 : 0);
+            values.put(TransferTable.COLUMN_IS_ENCRYPTED, 0);
+            valuesArray[i] = values;
+        }
+        return transferDBBase.bulkInsertParts(valuesArray);
+    }
+
+    /**
+     * Queries the range records of a ranged download, ordered by part number.
+     *
+     * @param mainDownloadId The id of the download.
+     * @return A list of range records, empty if the download has no ranges.
+     */
+    public List<TransferRecord> queryDownloadRangeRecords(int mainDownloadId) {
+        final List<TransferRecord> ranges = new ArrayList<TransferRecord>();
+        Cursor c = null;
+        try {
+            c = transferDBBase.query(getPartUri(mainDownloadId), null, null, null,
+                    TransferTable.COLUMN_PART_NUM);
+            while (c.moveToNext()) {
+                final TransferRecord range = new TransferRecord(
+                        c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_ID)));
+                range.updateFromDB(c);
+                ranges.add(range);
+            }
+        } finally {
+            if (c != null) {
+                c.close();
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Deletes the range records of a ranged download.
+     *
+     * @param mainDownloadId The id of the download.
+     * @return Number of rows deleted.
+     */
+    public int deleteDownloadRangeRecords(int mainDownloadId) {
+        return transferDBBase.delete(transferDBBase.getContentUri(),
+                TransferTable.COLUMN_MAIN_UPLOAD_ID + "=? and " + TransferTable.COLUMN_PART_NUM + ">0",
+                new String[] {
+                        String.valueOf(mainDownloadId)
+                });
+    }
+
     /**
      * Create a string with the required number of placeholders
      *
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2015-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind journal of the bytes transferred per transfer.
+ *
+ * Progress updates only replace the latest value of a transfer in memory.
+ * The dirty values are written to the database in one transaction once
+ * {@link #FLUSH_INTERVAL_MS} has passed or {@link #FLUSH_BYTES_THRESHOLD}
+ * bytes have been transferred since the last flush, and whenever
+ * {@link #flush()} is called, which {@link TransferStatusUpdater} does on
+ * every state transition.
+ *
+ * The journal also decides whether a progress update should be posted to the
+ * listeners of a transfer, so that at most one update per
+ * {@link #NOTIFY_INTERVAL_MS} is posted per transfer. A suppressed update is
+ * reported by {@link #takeSuppressedProgress(int)} so that it can be posted
+ * before the next state change.
+ */
+class TransferProgressJournal {
+
+    private static final Log LOGGER = LogFactory.getLog(TransferProgressJournal.class);
+
+    /**
+     * Maximum time in milliseconds a progress update stays in memory.
+     */
+    static final long FLUSH_INTERVAL_MS = 1000;
+
+    /**
+     * Maximum number of bytes transferred, across all transfers, between two
+     * flushes.
+     */
+    static final long FLUSH_BYTES_THRESHOLD = 4L * 1024 * 1024;
+
+    /**
+     * Minimum time in milliseconds between two progress notifications of a
+     * transfer.
+     */
+    static final long NOTIFY_INTERVAL_MS = 100;
+
+    private final TransferDBUtil dbUtil;
+
+    // Latest bytes transferred of the transfers that have not been flushed.
+    private final ConcurrentMap<Integer, Long> dirty = new ConcurrentHashMap<Integer, Long>();
+
+    // Latest bytes transferred of every tracked transfer, used to compute the
+    // bytes transferred since the last flush.
+    private final Map<Integer, Long> latest = new ConcurrentHashMap<Integer, Long>();
+
+    private final ConcurrentMap<Integer, NotificationState> notifications =
+            new ConcurrentHashMap<Integer, NotificationState>();
+
+    private final AtomicLong bytesSinceFlush = new AtomicLong();
+    private volatile long lastFlushTime = System.currentTimeMillis();
+
+    TransferProgressJournal(TransferDBUtil dbUtil) {
+        this.dbUtil = dbUtil;
+    }
+
+    /**
+     * Records the bytes transferred of a transfer and flushes the journal if a
+     * threshold has been reached.
+     *
+     * @param id id of the transfer
+     * @param bytesCurrent bytes transferred so far
+     */
+    void record(int id, long bytesCurrent) {
+        final Long previous = latest.put(id, bytesCurrent);
+        dirty.put(id, bytesCurrent);
+        if (previous != null && bytesCurrent > previous) {
+            bytesSinceFlush.addAndGet(bytesCurrent - previous);
+        }
+        if (bytesSinceFlush.get() >= FLUSH_BYTES_THRESHOLD
+                || System.currentTimeMillis() - lastFlushTime >= FLUSH_INTERVAL_MS) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all dirty progress to the database in one transaction.
+     */
+    synchronized void flush() {
+        lastFlushTime = System.currentTimeMillis();
+        bytesSinceFlush.set(0);
+        if (dirty.isEmpty()) {
+            return;
+        }
+        final Map<Integer, Long> batch = new HashMap<Integer, Long>(dirty);
+        for (final Map.Entry<Integer, Long> entry : batch.entrySet()) {
+            // Only clear entries that were not updated in the meantime.
+            dirty.remove(entry.getKey(), entry.getValue());
+        }
+        try {
+            dbUtil.updateBytesTransferred(batch);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to persist the progress of " + batch.size() + " transfers.", e);
+        }
+    }
+
+    /**
+     * Stops tracking a transfer. Its pending progress is discarded.
+     *
+     * @param id id of the transfer
+     */
+    void remove(int id) {
+        dirty.remove(id);
+        latest.remove(id);
+        notifications.remove(id);
+    }
+
+    /**
+     * Whether a progress update should be posted to the listeners now. If not,
+     * the update is remembered as suppressed.
+     *
+     * @param id id of the transfer
+     * @param bytesCurrent bytes transferred so far
+     * @param bytesTotal total bytes
+     * @return true if the listeners should be notified
+     */
+    boolean shouldNotify(int id, long bytesCurrent, long bytesTotal) {
+        NotificationState state = notifications.get(id);
+        if (state == null) {
+            state = new NotificationState();
+            final NotificationState existing = notifications.putIfAbsent(id, state);
+            if (existing != null) {
+                state = existing;
+            }
+        }
+        synchronized (state) {
+            final long now = System.currentTimeMillis();
+            if ((bytesTotal > 0 && bytesCurrent >= bytesTotal) || now - state.lastNotifyTime >= NOTIFY_INTERVAL_MS) {
+                state.lastNotifyTime = now;
+                state.suppressed = false;
+                return true;
+            }
+            state.suppressed = true;
+            state.suppressedBytesCurrent = bytesCurrent;
+            state.suppressedBytesTotal = bytesTotal;
+            return false;
+        }
+    }
+
+    /**
+     * Returns and clears the last suppressed progress update of a transfer.
+     *
+     * @param id id of the transfer
+     * @return {bytesCurrent, bytesTotal} of the suppressed update, or null if
+     *         the last update was posted
+     */
+    long[] takeSuppressedProgress(int id) {
+        final NotificationState state = notifications.get(id);
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            if (!state.suppressed) {
+                return null;
+            }
+            state.suppressed = false;
+            state.lastNotifyTime = System.currentTimeMillis();
+            return new long[] {
+                    state.suppressedBytesCurrent, state.suppressedBytesTotal
+            };
+        }
+    }
+
+    private static class NotificationState {
+        private long lastNotifyTime;
+        private boolean suppressed;
+        private long suppressedBytesCurrent;
+        private long suppressedBytesTotal;
+    }
+}
@@ -214,6 +214,9 @@ public class TransferService extends Service {
             LOGGER.warn("Exception trying to de-register the network receiver");
         }
 
+        // Persist progress still held in the write-behind journal.
+        TransferStatusUpdater.getInstance(this).flushProgress();
+
         super.onDestroy();
     }
 
@@ -65,6 +65,11 @@ class TransferStatusUpdater {
      */
     private static TransferDBUtil dbUtil;
     
+    /**
+     * Write-behind journal of the progress of the transfers.
+     */
+    private final TransferProgressJournal progressJournal;
+
     /**
      * The handler of main thread that runs callbacks.
      */
@@ -92,6 +97,7 @@ class TransferStatusUpdater {
         dbUtil = dbUtilInstance;
         mainHandler = new Handler(Looper.getMainLooper());
         transfers = new ConcurrentHashMap<Integer, TransferRecord>();
+        progressJournal = new TransferProgressJournal(dbUtilInstance);
     }
 
     /**
@@ -146,6 +152,7 @@ class TransferStatusUpdater {
             LISTENERS.remove(id);
         }
         transfers.remove(id);
+        progressJournal.remove(id);
     }
     
     /**
@@ -164,6 +171,7 @@ class TransferStatusUpdater {
             }
         }
         S3ClientReference.remove(id);
+        progressJournal.remove(id);
         dbUtil.deleteTransferRecords(id);
     }
 
@@ -175,6 +183,10 @@ class TransferStatusUpdater {
      * {@link TransferListener#onStateChanged(int, TransferState)} event of
      * associated LISTENERS if new state is different.
      * <p>
+     * Pending progress in the write-behind journal is flushed first, and a
+     * progress update that was held back by the notification rate limit is
+     * posted before the state change.
+     * <p>
      * Note that when the newState is CANCELED, COMPLETED, or FAILED, associated
      * LISTENERS will be removed after being invoked. Make sure you call
      * throwError before changing the state to one of these, or else LISTENERS
@@ -184,6 +196,7 @@ class TransferStatusUpdater {
      * @param newState new state
      */
     synchronized void updateState(final int id, final TransferState newState) {
+        progressJournal.flush();
         boolean shouldNotNotify = STATES_NOT_TO_NOTIFY.contains(newState);
         final TransferRecord transfer = transfers.get(id);
         if (transfer == null) {
@@ -216,6 +229,12 @@ class TransferStatusUpdater {
                 return;
             }
 
+            // deliver the latest progress before the state change
+            final long[] suppressedProgress = progressJournal.takeSuppressedProgress(id);
+            if (suppressedProgress != null) {
+                postProgress(list, id, suppressedProgress[0], suppressedProgress[1]);
+            }
+
             // invoke TransferListener callback on main thread
             for (final TransferListener l : list) {
                 mainHandler.post(new Runnable() {
@@ -237,15 +256,22 @@ class TransferStatusUpdater {
     }
 
     /**
-     * Updates the transfer progress of a transfer. It will trigger
+     * Updates the transfer progress of a transfer. The bytes transferred are
+     * recorded in the write-behind journal, which writes them to the database
+     * in batches. It will trigger
      * {@link TransferListener#onProgressChanged(int, long, long)} of associated
-     * LISTENERS if the update exceeds either time threshold.
+     * LISTENERS at most once per
+     * {@link TransferProgressJournal#NOTIFY_INTERVAL_MS} per transfer, and
+     * always when the transfer reaches its total bytes.
+     *
+     * This method is called from every transfer thread on every progress
+     * event, so it doesn't take the lock of the updater.
      *
      * @param id id of the transfer
      * @param bytesCurrent current transferred bytes
      * @param bytesTotal total bytes
      */
-    synchronized void updateProgress(final int id, 
+    void updateProgress(final int id, 
         final long bytesCurrent, 
         final long bytesTotal, 
         final boolean notifyListener) {
@@ -258,31 +284,49 @@ class TransferStatusUpdater {
 
         // update bytes transferred so that the transfer observer may pick it
         // up.
-        dbUtil.updateBytesTransferred(id, bytesCurrent);
+        progressJournal.record(id, bytesCurrent);
 
         if (!notifyListener) {
             return;
         }
 
+        final List<TransferListener> list = LISTENERS.get(id);
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+        if (!progressJournal.shouldNotify(id, bytesCurrent, bytesTotal)) {
+            return;
+        }
+
         // invoke LISTENERS
         synchronized (LISTENERS) {
-            final List<TransferListener> list = LISTENERS.get(id);
-            if (list == null || list.isEmpty()) {
-                return;
-            }
+            postProgress(list, id, bytesCurrent, bytesTotal);
+        }
+    }
 
-            for (final TransferListener l : list) {
-                // invoke on main thread
-                mainHandler.post(new Runnable() {
-                    @Override
-                    public void run() {
-                        l.onProgressChanged(id, bytesCurrent, bytesTotal);
-                    }
-                });
-            }
+    /**
+     * Posts a progress update to the listeners on the main thread.
+     */
+    private void postProgress(final List<TransferListener> list, final int id,
+        final long bytesCurrent, final long bytesTotal) {
+        for (final TransferListener l : list) {
+            // invoke on main thread
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    l.onProgressChanged(id, bytesCurrent, bytesTotal);
+                }
+            });
         }
     }
 
+    /**
+     * Writes the progress held in the write-behind journal to the database.
+     */
+    void flushProgress() {
+        progressJournal.flush();
+    }
+
     /**
      * Throws an error to transfer. It triggers
      * {@link TransferListener#onError(int, Exception)} of associated LISTENERS.
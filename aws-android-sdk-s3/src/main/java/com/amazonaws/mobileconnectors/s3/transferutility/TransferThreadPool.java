@@ -33,6 +33,11 @@ class TransferThreadPool {
     private static ExecutorService executorPartTask;
 
     static synchronized void init(final int transferThreadPoolSize) {
+        init(transferThreadPoolSize, TransferUtilityOptions.getDefaultMaxConcurrentPartUploads());
+    }
+
+    static synchronized void init(final int transferThreadPoolSize,
+                                  final int maxConcurrentPartUploads) {
         LOGGER.debug("Initializing the thread pool of size: " + transferThreadPoolSize);
         
         final int poolSize = Math.max((int) (Math.ceil((double) transferThreadPoolSize / 2)), 1);
@@ -41,14 +46,17 @@ class TransferThreadPool {
             executorMainTask = buildExecutor(poolSize);
         }
         if (executorPartTask == null) {
-            // Upload individual parts serially
-            executorPartTask = buildExecutor(1);
+            // Bounds the number of parts in flight across all uploads. The
+            // number of parts in flight per upload is bounded by the
+            // PartConcurrencyController of each UploadTask.
+            LOGGER.debug("Initializing the part thread pool of size: " + maxConcurrentPartUploads);
+            executorPartTask = buildExecutor(Math.max(maxConcurrentPartUploads, 1));
         }
     }
 
     public static <T> Future<T> submitTask(Callable<T> c) {
         init(TransferUtilityOptions.getDefaultThreadPoolSize());
-        if (c instanceof UploadPartTask) {
+        if (c instanceof UploadPartTask || c instanceof DownloadRangeTask) {
             return executorPartTask.submit(c);
         } else {
             return executorMainTask.submit(c);
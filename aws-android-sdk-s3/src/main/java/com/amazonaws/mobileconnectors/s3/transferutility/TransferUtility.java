@@ -31,6 +31,7 @@ import com.amazonaws.services.s3.S3ClientOptions;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.VersionInfoUtils;
 
 import org.json.JSONObject;
@@ -326,7 +327,8 @@ public class TransferUtility {
         this.transferUtilityOptions = tuOptions;
         this.dbUtil = new TransferDBUtil(context.getApplicationContext());
         this.updater = TransferStatusUpdater.getInstance(context.getApplicationContext());
-        TransferThreadPool.init(this.transferUtilityOptions.getTransferThreadPoolSize());
+        TransferThreadPool.init(this.transferUtilityOptions.getTransferThreadPoolSize(),
+                this.transferUtilityOptions.getMaxConcurrentPartUploads());
         this.connManager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
     }
 
@@ -347,7 +349,8 @@ public class TransferUtility {
         this.transferUtilityOptions = new TransferUtilityOptions();
         this.dbUtil = new TransferDBUtil(context.getApplicationContext());
         this.updater = TransferStatusUpdater.getInstance(context.getApplicationContext());
-        TransferThreadPool.init(this.transferUtilityOptions.getTransferThreadPoolSize());
+        TransferThreadPool.init(this.transferUtilityOptions.getTransferThreadPoolSize(),
+                this.transferUtilityOptions.getMaxConcurrentPartUploads());
         this.connManager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
     }
 
@@ -806,18 +809,19 @@ public class TransferUtility {
         // Saves the data as a file in the temporary directory
         File file = File.createTempFile(TransferStatusUpdater.TEMP_FILE_PREFIX, ".tmp");
         OutputStream outStream = new FileOutputStream(file);
+        final BufferPool pool = BufferPool.getSharedPool();
+        final byte[] buffer = pool.acquire();
         try {
-            byte[] buffer = new byte[1024];
             int bytesRead;
             // Keep reading until reaches the end of the stream
             while ((bytesRead = inputStream.read(buffer)) != -1) {
                 outStream.write(buffer, 0, bytesRead);
-                outStream.flush();
             }
         } catch (IOException ioException) {
             file.delete();
             throw new IOException("Error writing the inputStream into a file.", ioException);
         } finally {
+            pool.release(buffer);
             outStream.close();
         }
         return file;
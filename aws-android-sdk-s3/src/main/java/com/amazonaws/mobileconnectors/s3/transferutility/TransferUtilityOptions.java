@@ -26,6 +26,8 @@ import java.io.Serializable;
  * 
  * TransferUtilityOptions tuOptions = new TransferUtilityOptions();
  * tuOptions.setTransferThreadPoolSize(10); // 10 threads for upload and download operations.
+ * tuOptions.setMaxConcurrentPartUploads(8); // at most 8 parts in flight across all uploads.
+ * tuOptions.setMaxConcurrentPartsPerTransfer(4); // at most 4 parts in flight per upload.
  *
  * // Initializes TransferUtility
  * TransferUtility transferUtility = TransferUtility
@@ -49,6 +51,16 @@ public class TransferUtilityOptions implements Serializable {
      */
     private static final int MILLIS_IN_MINUTE = 60 * 1000;
 
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final long BYTES_IN_MB = 1024L * 1024L;
+
+    /**
+     * Smallest range size allowed for ranged downloads.
+     */
+    private static final long MINIMUM_RANGED_DOWNLOAD_PART_SIZE = 1 * BYTES_IN_MB;
+
     /**
      * TransferService checks for the transfers that are waiting or in progress
      * and restarts the transfer for every time interval in milliseconds.
@@ -68,6 +80,35 @@ public class TransferUtilityOptions implements Serializable {
      * Type of connection to use for transfers.
      */
     private TransferNetworkConnectionType transferNetworkConnectionType;
+
+    /**
+     * Maximum number of parts uploaded at the same time across all
+     * multipart uploads.
+     */
+    private int maxConcurrentPartUploads;
+
+    /**
+     * Maximum number of parts uploaded at the same time for a single
+     * multipart upload.
+     */
+    private int maxConcurrentPartsPerTransfer;
+
+    /**
+     * Whether the number of parts in flight for a multipart upload is adjusted
+     * based on the measured part throughput and error rate.
+     */
+    private boolean adaptivePartConcurrency;
+
+    /**
+     * Whether large downloads are split into byte ranges that are fetched
+     * at the same time.
+     */
+    private boolean rangedDownloadEnabled;
+
+    /**
+     * Size in bytes of each range of a ranged download.
+     */
+    private long rangedDownloadPartSize;
     
     /**
      * Constructor that sets the options to the
@@ -78,6 +119,11 @@ public class TransferUtilityOptions implements Serializable {
         this.transferServiceCheckTimeInterval = getDefaultCheckTimeInterval();
         this.transferThreadPoolSize = getDefaultThreadPoolSize();
         this.transferNetworkConnectionType = getDefaultTransferNetworkConnectionType();
+        this.maxConcurrentPartUploads = getDefaultMaxConcurrentPartUploads();
+        this.maxConcurrentPartsPerTransfer = getDefaultMaxConcurrentPartsPerTransfer();
+        this.adaptivePartConcurrency = true;
+        this.rangedDownloadEnabled = false;
+        this.rangedDownloadPartSize = getDefaultRangedDownloadPartSize();
     }
 
     /**
@@ -93,6 +139,11 @@ public class TransferUtilityOptions implements Serializable {
         this.transferServiceCheckTimeInterval = getDefaultCheckTimeInterval();
         this.transferThreadPoolSize = transferThreadPoolSize;
         this.transferNetworkConnectionType = transferNetworkConnectionType;
+        this.maxConcurrentPartUploads = getDefaultMaxConcurrentPartUploads();
+        this.maxConcurrentPartsPerTransfer = getDefaultMaxConcurrentPartsPerTransfer();
+        this.adaptivePartConcurrency = true;
+        this.rangedDownloadEnabled = false;
+        this.rangedDownloadPartSize = getDefaultRangedDownloadPartSize();
     }
 
     /**
@@ -153,6 +204,128 @@ public class TransferUtilityOptions implements Serializable {
         return transferNetworkConnectionType;
     }
 
+    /**
+     * Retrieve the maximum number of parts uploaded at the same time across
+     * all multipart uploads.
+     *
+     * @return the maxConcurrentPartUploads
+     */
+    public int getMaxConcurrentPartUploads() {
+        return maxConcurrentPartUploads;
+    }
+
+    /**
+     * Set the maximum number of parts uploaded at the same time across all
+     * multipart uploads. If it's less than 1, then set the default value.
+     * The part thread pool is created once, so this only takes effect for
+     * the first {@link TransferUtility} created in the process.
+     *
+     * @param maxConcurrentPartUploads the maxConcurrentPartUploads to set
+     */
+    public void setMaxConcurrentPartUploads(final int maxConcurrentPartUploads) {
+        if (maxConcurrentPartUploads < 1) {
+            this.maxConcurrentPartUploads = getDefaultMaxConcurrentPartUploads();
+        } else {
+            this.maxConcurrentPartUploads = maxConcurrentPartUploads;
+        }
+    }
+
+    /**
+     * Retrieve the maximum number of parts uploaded at the same time for a
+     * single multipart upload.
+     *
+     * @return the maxConcurrentPartsPerTransfer
+     */
+    public int getMaxConcurrentPartsPerTransfer() {
+        return maxConcurrentPartsPerTransfer;
+    }
+
+    /**
+     * Set the maximum number of parts uploaded at the same time for a single
+     * multipart upload. If it's less than 1, then set the default value.
+     *
+     * @param maxConcurrentPartsPerTransfer the maxConcurrentPartsPerTransfer to set
+     */
+    public void setMaxConcurrentPartsPerTransfer(final int maxConcurrentPartsPerTransfer) {
+        if (maxConcurrentPartsPerTransfer < 1) {
+            this.maxConcurrentPartsPerTransfer = getDefaultMaxConcurrentPartsPerTransfer();
+        } else {
+            this.maxConcurrentPartsPerTransfer = maxConcurrentPartsPerTransfer;
+        }
+    }
+
+    /**
+     * Whether the number of parts in flight for a multipart upload is
+     * adjusted based on the measured throughput and error rate.
+     *
+     * @return true if adaptive part concurrency is enabled
+     */
+    public boolean isAdaptivePartConcurrency() {
+        return adaptivePartConcurrency;
+    }
+
+    /**
+     * Enable or disable adaptive part concurrency. When enabled, a multipart
+     * upload starts with one part in flight and adds parts while the
+     * throughput keeps improving, up to
+     * {@link #getMaxConcurrentPartsPerTransfer()}; errors halve the number of
+     * parts in flight. When disabled, every multipart upload uses
+     * {@link #getMaxConcurrentPartsPerTransfer()} parts in flight.
+     *
+     * @param adaptivePartConcurrency true to enable adaptive part concurrency
+     */
+    public void setAdaptivePartConcurrency(final boolean adaptivePartConcurrency) {
+        this.adaptivePartConcurrency = adaptivePartConcurrency;
+    }
+
+    /**
+     * Whether large downloads are split into byte ranges that are fetched
+     * at the same time.
+     *
+     * @return true if ranged downloads are enabled
+     */
+    public boolean isRangedDownloadEnabled() {
+        return rangedDownloadEnabled;
+    }
+
+    /**
+     * Enable or disable ranged downloads. When enabled, objects larger than
+     * {@link #getRangedDownloadPartSize()} are downloaded as byte ranges
+     * that are written at their own offset in a pre-sized file, with up to
+     * {@link #getMaxConcurrentPartsPerTransfer()} ranges in flight. Completed
+     * ranges are recorded so that a resumed download only fetches the
+     * missing ranges. Downloads through an {@link com.amazonaws.services.s3.AmazonS3Encryption}
+     * client are never ranged.
+     *
+     * @param rangedDownloadEnabled true to enable ranged downloads
+     */
+    public void setRangedDownloadEnabled(final boolean rangedDownloadEnabled) {
+        this.rangedDownloadEnabled = rangedDownloadEnabled;
+    }
+
+    /**
+     * Retrieve the size in bytes of each range of a ranged download.
+     *
+     * @return the rangedDownloadPartSize
+     */
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * Set the size in bytes of each range of a ranged download. If it's
+     * smaller than 1 MB, then set the default value.
+     *
+     * @param rangedDownloadPartSize the rangedDownloadPartSize to set
+     */
+    public void setRangedDownloadPartSize(final long rangedDownloadPartSize) {
+        if (rangedDownloadPartSize < MINIMUM_RANGED_DOWNLOAD_PART_SIZE) {
+            this.rangedDownloadPartSize = getDefaultRangedDownloadPartSize();
+        } else {
+            this.rangedDownloadPartSize = rangedDownloadPartSize;
+        }
+    }
+
     /**
      * Return the default thread pool size.
      * 
@@ -162,6 +335,35 @@ public class TransferUtilityOptions implements Serializable {
         return 2 * (Runtime.getRuntime().availableProcessors() + 1);
     }
 
+    /**
+     * Return the default maximum number of parts in flight across all
+     * multipart uploads.
+     *
+     * @return Half of the default thread pool size
+     */
+    static int getDefaultMaxConcurrentPartUploads() {
+        return Math.max(getDefaultThreadPoolSize() / 2, 1);
+    }
+
+    /**
+     * Return the default maximum number of parts in flight for a single
+     * multipart upload.
+     *
+     * @return 4
+     */
+    static int getDefaultMaxConcurrentPartsPerTransfer() {
+        return 4;
+    }
+
+    /**
+     * Return the default range size for ranged downloads.
+     *
+     * @return 8 MB
+     */
+    static long getDefaultRangedDownloadPartSize() {
+        return 8 * BYTES_IN_MB;
+    }
+
     /**
      * Return the default check time interval.
      * 
@@ -37,24 +37,38 @@ class UploadPartTask implements Callable<Boolean> {
     private final UploadPartRequest uploadPartRequest;
     private final AmazonS3 s3;
     private final TransferDBUtil dbUtil;
+    private final PartConcurrencyController concurrencyController;
 
     public UploadPartTask(UploadTask.UploadPartTaskMetadata uploadPartTaskMetadata,
                           UploadTask.UploadTaskProgressListener uploadTaskProgressListener,
                           UploadPartRequest uploadPartRequest,
                           AmazonS3 s3,
-                          TransferDBUtil dbUtil) {
+                          TransferDBUtil dbUtil,
+                          PartConcurrencyController concurrencyController) {
         this.uploadPartTaskMetadata = uploadPartTaskMetadata;
         this.uploadPartTaskProgressListener = new UploadPartTaskProgressListener(uploadTaskProgressListener);
         this.uploadPartRequest = uploadPartRequest;
         this.s3 = s3;
         this.dbUtil = dbUtil;
+        this.concurrencyController = concurrencyController;
     }
 
     /*
      * Runs part upload task and returns whether successfully uploaded.
+     * The slot held in the concurrency controller is always released.
      */
     @Override
     public Boolean call() throws Exception {
+        boolean succeeded = false;
+        try {
+            succeeded = uploadPart();
+            return succeeded;
+        } finally {
+            concurrencyController.release(succeeded);
+        }
+    }
+
+    private Boolean uploadPart() throws Exception {
         uploadPartTaskMetadata.state = TransferState.IN_PROGRESS;
         uploadPartRequest.setGeneralProgressListener(uploadPartTaskProgressListener);
         int retried = 1;
@@ -63,6 +77,7 @@ class UploadPartTask implements Callable<Boolean> {
                 final UploadPartResult putPartResult = s3.uploadPart(uploadPartRequest);
                 setTaskState(TransferState.PART_COMPLETED);
                 dbUtil.updateETag(uploadPartRequest.getId(), putPartResult.getETag());
+                concurrencyController.onPartCompleted(uploadPartRequest.getPartSize());
                 return true;
             } catch (AbortedException e) {
                 // If request got aborted, operation was paused or canceled. do not retry.
@@ -72,6 +87,7 @@ class UploadPartTask implements Callable<Boolean> {
             } catch (final Exception e) {
                 LOGGER.error("Unexpected error occurred: " + e);
                 resetProgress();
+                concurrencyController.onPartError();
 
                 // Check if network is not connected, set the state to WAITING_FOR_NETWORK.
                 try {
@@ -53,8 +53,9 @@ import java.util.concurrent.Future;
  * a thread is created with UploadTask. Here a check is made for
  * single-part uploads (<= 5MB) and multi-part uploads (> 5MB).
  *
- * For multi-part uploads, a thread is created per part (5MB)
- * and submitted to the thread pool.
+ * For multi-part uploads, a task is created per part (5MB)
+ * and submitted to the part thread pool, with the number of
+ * parts in flight bounded by a {@link PartConcurrencyController}.
  */
 class UploadTask implements Callable<Boolean> {
 
@@ -153,6 +154,11 @@ class UploadTask implements Callable<Boolean> {
         requestList = dbUtil.getNonCompletedPartRequestsFromDB(upload.id,
                 upload.multipartId);
         LOGGER.info("Multipart upload " + upload.id + " in " + requestList.size() + " parts.");
+
+        /*
+         * Register all parts before any of them is started so that the
+         * progress listener sees a stable set of parts.
+         */
         for (final UploadPartRequest request : requestList) {
             TransferUtility.appendMultipartTransferServiceUserAgentString(request);
 
@@ -161,33 +167,47 @@ class UploadTask implements Callable<Boolean> {
             uploadPartTaskMetadata.bytesTransferredSoFar = 0;
             uploadPartTaskMetadata.state = TransferState.WAITING;
             uploadPartTasks.put(request.getPartNumber(), uploadPartTaskMetadata);
-            uploadPartTaskMetadata.uploadPartTask = TransferThreadPool.submitTask(
-                    new UploadPartTask(uploadPartTaskMetadata, uploadTaskProgressListener, request, s3, dbUtil));
         }
 
+        final PartConcurrencyController concurrencyController = createPartConcurrencyController();
+
         try {
             boolean isSuccess = true;
+            /*
+             * Parts are submitted as slots become available, so they may
+             * complete out of order. Each part records its own ETag, and the
+             * ETags are sorted by part number when the upload is completed.
+             */
+            for (final UploadPartRequest request : requestList) {
+                if (!concurrencyController.acquire()) {
+                    // A part did not complete; the remaining parts stay in
+                    // the database and are picked up on resume.
+                    isSuccess = false;
+                    break;
+                }
+                final UploadPartTaskMetadata uploadPartTaskMetadata = uploadPartTasks.get(request.getPartNumber());
+                uploadPartTaskMetadata.uploadPartTask = TransferThreadPool.submitTask(
+                        new UploadPartTask(uploadPartTaskMetadata, uploadTaskProgressListener, request, s3, dbUtil,
+                                concurrencyController));
+            }
+
             /*
              * Future.get() will block the current thread until the method
              * returns.
              */
             for (final UploadPartTaskMetadata task : uploadPartTasks.values()) {
+                if (task.uploadPartTask == null) {
+                    continue;
+                }
                 // UploadPartTask returns false when it's interrupted by user
                 // and the state is set by caller
                 final boolean b = task.uploadPartTask.get();
                 isSuccess &= b;
             }
             if (!isSuccess) {
-                try {
-                    if (TransferNetworkLossHandler.getInstance() != null &&
-                        !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
-                        LOGGER.info("Network not connected. Setting the state to WAITING_FOR_NETWORK.");
-                        updater.updateState(upload.id, TransferState.WAITING_FOR_NETWORK);	
-                        return false;	
-                    }	
-                } catch (TransferUtilityException transferUtilityException) {	
-                    LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");	
-                }
+                // The upload is never completed with missing parts; the
+                // parts not uploaded stay in the database for a resume.
+                return stopIncompleteUpload();
             }
         } catch (final Exception e) {
             LOGGER.error("Upload resulted in an exception. " + e);
@@ -198,7 +218,9 @@ class UploadTask implements Callable<Boolean> {
              * Cancel all the on-going part tasks.
              */
             for (final UploadPartTaskMetadata task : uploadPartTasks.values()) {
-                task.uploadPartTask.cancel(true);
+                if (task.uploadPartTask != null) {
+                    task.uploadPartTask.cancel(true);
+                }
             }
 
             // If the thread that is executing the transfer is interrupted
@@ -270,6 +292,64 @@ class UploadTask implements Callable<Boolean> {
         }
     }
 
+    /**
+     * Sets the state of a multipart upload some parts of which did not
+     * complete: paused or canceled if the user asked for it, waiting for the
+     * network if it was lost, and failed otherwise.
+     *
+     * @return false
+     */
+    private Boolean stopIncompleteUpload() {
+        if (TransferState.PENDING_CANCEL.equals(upload.state)) {
+            updater.updateState(upload.id, TransferState.CANCELED);
+            LOGGER.info("Transfer is " + TransferState.CANCELED);
+            return false;
+        }
+
+        if (TransferState.PENDING_PAUSE.equals(upload.state)) {
+            updater.updateState(upload.id, TransferState.PAUSED);
+            LOGGER.info("Transfer is " + TransferState.PAUSED);
+            return false;
+        }
+
+        for (final UploadPartTaskMetadata task : uploadPartTasks.values()) {
+            if (TransferState.WAITING_FOR_NETWORK.equals(task.state)) {
+                LOGGER.info("Individual part is WAITING_FOR_NETWORK.");
+                updater.updateState(upload.id, TransferState.WAITING_FOR_NETWORK);
+                return false;
+            }
+        }
+
+        try {
+            if (TransferNetworkLossHandler.getInstance() != null &&
+                !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
+                LOGGER.info("Network not connected. Setting the state to WAITING_FOR_NETWORK.");
+                updater.updateState(upload.id, TransferState.WAITING_FOR_NETWORK);
+                return false;
+            }
+        } catch (TransferUtilityException transferUtilityException) {
+            LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");
+        }
+
+        LOGGER.error("Multipart upload " + upload.id + " stopped with parts not uploaded.");
+        updater.updateState(upload.id, TransferState.FAILED);
+        return false;
+    }
+
+    /**
+     * Creates the controller that limits the number of parts of this upload
+     * in flight, using the options the transfer was created with.
+     *
+     * @return the part concurrency controller for this upload
+     */
+    private PartConcurrencyController createPartConcurrencyController() {
+        final TransferUtilityOptions options = upload.transferUtilityOptions != null
+                ? upload.transferUtilityOptions
+                : new TransferUtilityOptions();
+        return new PartConcurrencyController(options.getMaxConcurrentPartsPerTransfer(),
+                options.isAdaptivePartConcurrency());
+    }
+
     private Boolean uploadSinglePartAndWaitForCompletion() {
         final PutObjectRequest putObjectRequest = createPutObjectRequest(upload);
         final ProgressListener progressListener = updater.newProgressListener(upload.id);
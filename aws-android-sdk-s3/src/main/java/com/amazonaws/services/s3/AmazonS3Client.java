@@ -35,6 +35,7 @@ import com.amazonaws.Request;
 import com.amazonaws.Response;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AwsChunkedEncodingInputStream;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.auth.Presigner;
 import com.amazonaws.auth.Signer;
@@ -62,8 +63,8 @@ import com.amazonaws.services.s3.internal.CompleteMultipartUploadRetryCondition;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.internal.DeleteObjectTaggingHeaderHandler;
 import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
+import com.amazonaws.services.s3.internal.FileRegionInputStream;
 import com.amazonaws.services.s3.internal.GetObjectTaggingResponseHeaderHandler;
-import com.amazonaws.services.s3.internal.InputSubstream;
 import com.amazonaws.services.s3.internal.ObjectExpirationHeaderHandler;
 import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
 import com.amazonaws.services.s3.internal.ResponseHeaderHandlerChain;
@@ -3770,13 +3771,15 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         populateSSE_C(request, uploadPartRequest.getSSECustomerKey());
 
         InputStream inputStream = null;
+        FileRegionInputStream fileRegion = null;
         if (uploadPartRequest.getInputStream() != null) {
             inputStream = uploadPartRequest.getInputStream();
         } else if (uploadPartRequest.getFile() != null) {
             try {
-                inputStream = new InputSubstream(new RepeatableFileInputStream(
-                        uploadPartRequest.getFile()),
-                        uploadPartRequest.getFileOffset(), partSize, true);
+                // Read straight from the file, and seek back on retry.
+                fileRegion = new FileRegionInputStream(uploadPartRequest.getFile(),
+                        uploadPartRequest.getFileOffset(), partSize);
+                inputStream = fileRegion;
             } catch (final FileNotFoundException e) {
                 throw new IllegalArgumentException("The specified file doesn't exist", e);
             }
@@ -3789,6 +3792,23 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         // Cannot use MD5DigestCalculatingInputStream because the stream is not read
         // until request is invoked.
         if (uploadPartRequest.getMd5Digest() == null
+                && !ServiceUtils.skipMd5CheckPerRequest(uploadPartRequest, clientOptions)
+                && fileRegion != null) {
+            // The hashes of the signed chunks are computed in the same pass,
+            // so the data isn't hashed again while it is sent.
+            try {
+                final byte[] md5 = fileRegion.digest(AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE);
+                addHeaderIfNotNull(request, Headers.CONTENT_MD5, BinaryUtils.toBase64(md5));
+            } catch (final Exception e) {
+                try {
+                    fileRegion.close();
+                } catch (final IOException ioe) {
+                    log.debug("Unable to close file region", ioe);
+                }
+                throw new AmazonClientException(
+                        "Unable to calculate MD5 hash: " + e.getMessage(), e);
+            }
+        } else if (uploadPartRequest.getMd5Digest() == null
                 && !ServiceUtils.skipMd5CheckPerRequest(uploadPartRequest, clientOptions)
                 && inputStream.markSupported()) {
             try {
@@ -4126,6 +4146,10 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
         }
 
+        if (signer instanceof AWSS3V4Signer) {
+            setAWSS3V4SignerPayloadOptions((AWSS3V4Signer) signer);
+        }
+
         if (signer instanceof S3Signer) {
             // The old S3Signer needs a method and path passed to its
             // constructor; if that's what we should use, getSigner()
@@ -4149,6 +4173,19 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                                                           final String region) {
         sigV4Signer.setServiceName(getServiceNameIntern());
         sigV4Signer.setRegionName(region);
+        setAWSS3V4SignerPayloadOptions(sigV4Signer);
+    }
+
+    /**
+     * Applies the chunked encoding and payload signing options of the client
+     * to a SigV4 signer.
+     *
+     * @param sigV4Signer the signer that signs the request using SigV4
+     *                    algorithm.
+     */
+    private void setAWSS3V4SignerPayloadOptions(final AWSS3V4Signer sigV4Signer) {
+        sigV4Signer.setChunkedEncodingDisabled(clientOptions.isChunkedEncodingDisabled());
+        sigV4Signer.setPayloadSigningEnabled(clientOptions.isPayloadSigningEnabled());
     }
 
     /**
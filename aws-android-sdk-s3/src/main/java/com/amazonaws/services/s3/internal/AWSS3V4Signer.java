@@ -32,8 +32,12 @@ import java.io.InputStream;
  */
 public class AWSS3V4Signer extends AWS4Signer {
     private static final String CONTENT_SHA_256 = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
     private static final int DEFAULT_BYTE_LENGTH = 4096;
 
+    private volatile boolean chunkedEncodingDisabled;
+    private volatile boolean payloadSigningEnabled;
+
     /**
      * Don't double-url-encode path elements; S3 expects path elements to be
      * encoded only once in the canonical URI.
@@ -42,6 +46,28 @@ public class AWSS3V4Signer extends AWS4Signer {
         super(false);
     }
 
+    /**
+     * Sets whether chunked encoding is disabled for all requests. See
+     * {@link com.amazonaws.services.s3.S3ClientOptions#isChunkedEncodingDisabled()}.
+     *
+     * @param chunkedEncodingDisabled true to disable chunked encoding
+     */
+    public void setChunkedEncodingDisabled(boolean chunkedEncodingDisabled) {
+        this.chunkedEncodingDisabled = chunkedEncodingDisabled;
+    }
+
+    /**
+     * Sets whether payloads are signed in all situations. When chunked
+     * encoding is disabled and the request is made over HTTPS, the payload is
+     * otherwise not signed, so that it is read only once, while it is sent.
+     * See {@link com.amazonaws.services.s3.S3ClientOptions#isPayloadSigningEnabled()}.
+     *
+     * @param payloadSigningEnabled true to always sign payloads
+     */
+    public void setPayloadSigningEnabled(boolean payloadSigningEnabled) {
+        this.payloadSigningEnabled = payloadSigningEnabled;
+    }
+
     /**
      * If necessary, creates a chunk-encoding wrapper on the request payload.
      */
@@ -63,7 +89,7 @@ public class AWSS3V4Signer extends AWS4Signer {
 
     @Override
     protected String calculateContentHashPresign(Request<?> request) {
-        return "UNSIGNED-PAYLOAD";
+        return UNSIGNED_PAYLOAD;
     }
 
     /**
@@ -111,22 +137,39 @@ public class AWSS3V4Signer extends AWS4Signer {
                             .calculateStreamContentLength(originalContentLength)));
             return CONTENT_SHA_256;
         }
+        if (!isPayloadSigningEnabled(request)) {
+            return UNSIGNED_PAYLOAD;
+        }
         return super.calculateContentHash(request);
     }
 
     /**
      * Determine whether to use aws-chunked for signing
      */
-    private static boolean useChunkEncoding(Request<?> request) {
+    private boolean useChunkEncoding(Request<?> request) {
         // Whether to use chunked encoding for signing the request
         boolean chunkedEncodingEnabled = false;
-        if (request.getOriginalRequest() instanceof PutObjectRequest
-                || request.getOriginalRequest() instanceof UploadPartRequest) {
+        if (!chunkedEncodingDisabled
+                && (request.getOriginalRequest() instanceof PutObjectRequest
+                || request.getOriginalRequest() instanceof UploadPartRequest)) {
             chunkedEncodingEnabled = true;
         }
         return chunkedEncodingEnabled;
     }
 
+    /**
+     * Determine whether to sign the payload of a request that isn't
+     * chunk-encoded. Payloads are always signed over plain HTTP, and over
+     * HTTPS only if chunked encoding is enabled or payload signing is
+     * explicitly enabled.
+     */
+    private boolean isPayloadSigningEnabled(Request<?> request) {
+        return payloadSigningEnabled
+                || !chunkedEncodingDisabled
+                || request.getEndpoint() == null
+                || !"https".equalsIgnoreCase(request.getEndpoint().getScheme());
+    }
+
     /**
      * Read the content of the request to get the length of the stream. This
      * method will wrap the stream by RepeatableInputStream if it is not
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.internal;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+import com.amazonaws.internal.SdkInputStream;
+import com.amazonaws.util.BufferPool;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An input stream over a region of a file. Data is read with positional reads
+ * on a {@link FileChannel} straight into the caller's buffer, and
+ * {@link #reset()} seeks back to the mark instead of reopening the file or
+ * buffering what was read, so the stream can be re-read on retry at no cost.
+ * <p>
+ * {@link #digest(int)} computes the MD5 of the region and the SHA-256 of each
+ * chunk of it in a single pass, so that chunk signing can reuse the hashes
+ * instead of hashing the data again while it is sent.
+ */
+public class FileRegionInputStream extends SdkInputStream {
+
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final long offset;
+    private final long length;
+
+    // Position relative to the start of the region.
+    private long position;
+    private long markPosition;
+
+    private int chunkSize;
+    private byte[][] chunkHashes;
+
+    /**
+     * Creates an input stream over a region of a file.
+     *
+     * @param file the file to read
+     * @param offset the position in the file of the first byte of the region
+     * @param length the length in bytes of the region
+     * @throws FileNotFoundException if the file can't be opened
+     */
+    public FileRegionInputStream(File file, long offset, long length)
+            throws FileNotFoundException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Invalid file region: offset " + offset
+                    + ", length " + length);
+        }
+        this.file = file;
+        this.randomAccessFile = new RandomAccessFile(file, "r");
+        this.channel = randomAccessFile.getChannel();
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the file region beneath the given stream, looking through
+     * filter streams such as progress reporting ones.
+     *
+     * @param in a stream
+     * @return the file region, or null if the stream isn't backed by one
+     */
+    public static FileRegionInputStream unwrap(InputStream in) {
+        InputStream current = in;
+        while (current != null) {
+            if (current instanceof FileRegionInputStream) {
+                return (FileRegionInputStream) current;
+            }
+            if (!(current instanceof SdkFilterInputStream)) {
+                return null;
+            }
+            current = ((SdkFilterInputStream) current).getDelegateStream();
+        }
+        return null;
+    }
+
+    /**
+     * @return the file this stream is reading data from.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return the length in bytes of the region.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return the number of bytes of the region read so far.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Computes the MD5 of the whole region and the SHA-256 of each chunk of
+     * the given size in a single pass. The position of the stream is not
+     * changed.
+     *
+     * @param chunkSize size in bytes of the chunks
+     * @return the MD5 of the region
+     * @throws IOException if the file can't be read
+     */
+    public byte[] digest(int chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        final MessageDigest md5Digest;
+        final MessageDigest chunkDigest;
+        try {
+            md5Digest = MessageDigest.getInstance("MD5");
+            chunkDigest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // should never get here
+            throw new IllegalStateException(e);
+        }
+
+        final byte[][] hashes = new byte[(int) ((length + chunkSize - 1) / chunkSize)][];
+        final BufferPool pool = BufferPool.getSharedPool();
+        final byte[] buffer = pool.acquire();
+        try {
+            long read = 0;
+            long chunkRemaining = chunkSize;
+            while (read < length) {
+                abortIfNeeded();
+                final int toRead = (int) Math.min(Math.min(buffer.length, length - read),
+                        chunkRemaining);
+                final int count = channel.read(ByteBuffer.wrap(buffer, 0, toRead), offset + read);
+                if (count < 0) {
+                    throw new IOException("File " + file + " is shorter than the region at offset "
+                            + offset + " of " + length + " bytes");
+                }
+                md5Digest.update(buffer, 0, count);
+                chunkDigest.update(buffer, 0, count);
+                read += count;
+                chunkRemaining -= count;
+                if (chunkRemaining == 0 || read == length) {
+                    hashes[(int) ((read - 1) / chunkSize)] = chunkDigest.digest();
+                    chunkRemaining = chunkSize;
+                }
+            }
+        } finally {
+            pool.release(buffer);
+        }
+
+        this.chunkSize = chunkSize;
+        this.chunkHashes = hashes;
+        return md5Digest.digest();
+    }
+
+    /**
+     * Returns the SHA-256 computed by {@link #digest(int)} of the chunk of the
+     * region that starts at the given position and has the given length.
+     *
+     * @param chunkStart position in the region of the first byte of the chunk
+     * @param chunkLength length in bytes of the chunk
+     * @return the hash, or null if it wasn't computed for this chunk
+     */
+    public byte[] getChunkHash(long chunkStart, int chunkLength) {
+        if (chunkHashes == null || chunkStart % chunkSize != 0) {
+            return null;
+        }
+        final long index = chunkStart / chunkSize;
+        if (index >= chunkHashes.length
+                || chunkLength != Math.min(chunkSize, length - chunkStart)) {
+            return null;
+        }
+        return chunkHashes[(int) index];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        final int count = read(b, 0, 1);
+        return count == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= length) {
+            return -1;
+        }
+        final int toRead = (int) Math.min(len, length - position);
+        final int count = channel.read(ByteBuffer.wrap(b, off, toRead), offset + position);
+        if (count > 0) {
+            position += count;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        abortIfNeeded();
+        if (n <= 0) {
+            return 0;
+        }
+        final long skipped = Math.min(n, length - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        return (int) Math.min(length - position, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        abortIfNeeded();
+        markPosition = position;
+    }
+
+    /**
+     * Seeks back to the last mark, or to the start of the region if there is
+     * none.
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        abortIfNeeded();
+        position = markPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        randomAccessFile.close();
+        abortIfNeeded();
+    }
+
+    @Override
+    protected InputStream getWrappedInputStream() {
+        return null;
+    }
+}
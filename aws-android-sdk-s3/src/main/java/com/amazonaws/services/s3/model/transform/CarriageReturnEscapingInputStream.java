@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.model.transform;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replaces the carriage return (\r) characters of a UTF-8 XML document with
+ * explicit XML character entities as the document is read, to prevent the SAX
+ * parser from misinterpreting 0x0D characters as 0x0A.
+ * <p>
+ * The byte 0x0D is never part of a multi-byte UTF-8 sequence, so the document
+ * is filtered without being decoded, and only a buffer of it is held in
+ * memory at a time.
+ */
+final class CarriageReturnEscapingInputStream extends SdkFilterInputStream {
+
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = {
+            '&', '#', '0', '1', '3', ';'
+    };
+    private static final int BUFFER_SIZE = 8192;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] singleByte = new byte[1];
+    private int position;
+    private int limit;
+
+    /** Index of the next byte of an escape sequence being read. */
+    private int escapeIndex = ESCAPED_CARRIAGE_RETURN.length;
+
+    CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int read = read(singleByte, 0, 1);
+        return read < 0 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            if (escapeIndex < ESCAPED_CARRIAGE_RETURN.length) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapeIndex++];
+                continue;
+            }
+            if (position == limit) {
+                // Returns what was read before blocking for more.
+                if (count > 0 || !fill()) {
+                    break;
+                }
+            }
+            if (buffer[position] == CARRIAGE_RETURN) {
+                position++;
+                escapeIndex = 0;
+                continue;
+            }
+            // Copies the bytes up to the next carriage return at once.
+            final int end = Math.min(limit, position + len - count);
+            int runEnd = position;
+            while (runEnd < end && buffer[runEnd] != CARRIAGE_RETURN) {
+                runEnd++;
+            }
+            System.arraycopy(buffer, position, b, off + count, runEnd - position);
+            count += runEnd - position;
+            position = runEnd;
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        final byte[] skipBuffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            final int read = read(skipBuffer, 0, (int) Math.min(n - skipped, skipBuffer.length));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return ESCAPED_CARRIAGE_RETURN.length - escapeIndex + limit - position;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // mark is not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads the next bytes of the document into the buffer.
+     *
+     * @return false at the end of the document.
+     */
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
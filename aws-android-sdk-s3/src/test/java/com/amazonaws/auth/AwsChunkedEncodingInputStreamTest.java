@@ -19,6 +19,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.amazonaws.services.s3.internal.AWSS3V4Signer;
+import com.amazonaws.services.s3.internal.FileRegionInputStream;
 import com.amazonaws.util.BinaryUtils;
 
 import org.junit.Before;
@@ -134,6 +135,33 @@ public class AwsChunkedEncodingInputStreamTest {
         assertArrayEquals(expected.toByteArray(), baos.toByteArray());
     }
 
+    @Test
+    public void testReadFileRegionWithPrecomputedHashes() throws IOException {
+        File data = new File(getClass().getResource("/com/amazonaws/auth/RandomTestData.txt")
+                .getPath());
+        FileRegionInputStream region = new FileRegionInputStream(data, 0, data.length());
+        region.digest(AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE);
+        byte[] key = BinaryUtils.fromBase64("3CzwdoZjnC/7siQkeHrlEmv0PE12RkMFZVG5qKt096s=");
+        AwsChunkedEncodingInputStream regionStream = new AwsChunkedEncodingInputStream(region,
+                key, "20150513T222354Z", "20150513/us-west-2/s3/aws4_request",
+                "c61bd05d152a8ca5ca2a024ec45d0670c0f4aa2aa67ee26be9de8657f6cfea37",
+                new AWSS3V4Signer());
+
+        regionStream.mark(-1);
+        regionStream.read(new byte[1024], 0, 1024);
+        regionStream.reset();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] buf = new byte[2048];
+        int read = -1;
+        while ((read = regionStream.read(buf)) != -1) {
+            baos.write(buf, 0, read);
+        }
+        regionStream.close();
+
+        assertArrayEquals(getExpectedOutput(), baos.toByteArray());
+    }
+
     private byte[] getExpectedOutput() throws IOException {
         // Get the output we expect
         File written = new File(getClass().getResource("/com/amazonaws/auth/SignedTestData.txt")
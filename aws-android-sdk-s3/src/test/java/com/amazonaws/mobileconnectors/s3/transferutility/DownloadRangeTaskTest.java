@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DownloadRangeTaskTest {
+
+    private static final String ETAG = "etag";
+    private static final byte[] CONTENT = "0123456789".getBytes(StringUtils.UTF8);
+
+    private AmazonS3 s3;
+    private TransferDBUtil dbUtil;
+    private TransferRecord download;
+    private TransferRecord range;
+    private File file;
+    private RandomAccessFile randomAccessFile;
+    private PartConcurrencyController concurrencyController;
+    private DownloadTask.DownloadTaskProgressListener progressListener;
+
+    @Before
+    public void setup() throws Exception {
+        s3 = mock(AmazonS3.class);
+        dbUtil = mock(TransferDBUtil.class);
+
+        download = new TransferRecord(1);
+        download.bucketName = "bucket";
+        download.key = "key";
+        download.bytesTotal = CONTENT.length;
+
+        // The second of three ranges.
+        range = new TransferRecord(3);
+        range.mainUploadId = 1;
+        range.partNumber = 2;
+        range.rangeStart = 4;
+        range.rangeLast = 7;
+        range.bytesTotal = 4;
+
+        file = File.createTempFile("DownloadRangeTaskTest", null);
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(CONTENT.length);
+        concurrencyController = new PartConcurrencyController(1, false);
+        assertTrue(concurrencyController.acquire());
+        progressListener = new DownloadTask(download, s3, dbUtil,
+                mock(TransferStatusUpdater.class)).new DownloadTaskProgressListener();
+    }
+
+    @After
+    public void teardown() throws IOException {
+        randomAccessFile.close();
+        file.delete();
+    }
+
+    @Test
+    public void testRangeIsWrittenAtItsOffset() throws Exception {
+        when(s3.getObject(any(GetObjectRequest.class))).thenReturn(object(4, 8));
+
+        assertTrue(newTask(null).call());
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3).getObject(request.capture());
+        assertArrayEquals(new long[] {4, 7}, request.getValue().getRange());
+        assertEquals(Arrays.asList(ETAG), request.getValue().getMatchingETagConstraints());
+        assertFileContent("\0\0\0\0" + "4567" + "\0\0");
+        verify(dbUtil).updateState(range.id, TransferState.PART_COMPLETED);
+        assertEquals(4, progressListener.getBytesTransferred(range.partNumber));
+    }
+
+    @Test
+    public void testOpenResponseIsReadWithoutRequest() throws Exception {
+        assertTrue(newTask(object(4, 8)).call());
+        verify(s3, never()).getObject(any(GetObjectRequest.class));
+        assertFileContent("\0\0\0\0" + "4567" + "\0\0");
+    }
+
+    @Test
+    public void testRetryResumesFromFirstByteNotWritten() throws Exception {
+        // The connection drops after two bytes of the range.
+        final S3Object dropped = new S3Object();
+        dropped.setObjectContent(new FilterInputStream(new ByteArrayInputStream(CONTENT, 4, 2)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                final int read = super.read(b, off, len);
+                if (read == -1) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        });
+        when(s3.getObject(any(GetObjectRequest.class))).thenReturn(dropped, object(6, 8));
+
+        assertTrue(newTask(null).call());
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3, times(2)).getObject(request.capture());
+        final List<GetObjectRequest> requests = request.getAllValues();
+        assertArrayEquals(new long[] {4, 7}, requests.get(0).getRange());
+        assertArrayEquals(new long[] {6, 7}, requests.get(1).getRange());
+        assertFileContent("\0\0\0\0" + "4567" + "\0\0");
+    }
+
+    @Test
+    public void testChangedObjectIsNotRetried() throws Exception {
+        // The ETag constraint is not met.
+        when(s3.getObject(any(GetObjectRequest.class))).thenReturn(null);
+
+        try {
+            newTask(null).call();
+            fail("The range should fail");
+        } catch (final DownloadRangeTask.ObjectChangedException e) {
+            // expected
+        }
+        verify(s3, times(1)).getObject(any(GetObjectRequest.class));
+        verify(dbUtil).updateState(range.id, TransferState.FAILED);
+        // The slot of the range is released, and no other range is started.
+        assertFalse(concurrencyController.acquire());
+    }
+
+    private DownloadRangeTask newTask(S3Object response) {
+        return new DownloadRangeTask(download, range, ETAG, response, randomAccessFile.getChannel(),
+                progressListener, s3, dbUtil, concurrencyController);
+    }
+
+    private static S3Object object(int from, int to) {
+        final S3Object object = new S3Object();
+        final InputStream content = new ByteArrayInputStream(CONTENT, from, to - from);
+        object.setObjectContent(content);
+        return object;
+    }
+
+    private void assertFileContent(String expected) throws IOException {
+        final byte[] bytes = new byte[(int) randomAccessFile.length()];
+        randomAccessFile.seek(0);
+        randomAccessFile.readFully(bytes);
+        assertArrayEquals(expected.getBytes(StringUtils.UTF8), bytes);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DownloadTaskTest {
+
+    private static final int DOWNLOAD_ID = 1;
+    private static final long RANGE_SIZE = 1024 * 1024;
+
+    private AmazonS3 s3;
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private TransferRecord download;
+    private File file;
+    private byte[] content;
+
+    @Before
+    public void setup() throws IOException {
+        s3 = mock(AmazonS3.class);
+        dbUtil = mock(TransferDBUtil.class);
+        updater = mock(TransferStatusUpdater.class);
+
+        file = File.createTempFile("DownloadTaskTest", null);
+        file.delete();
+        download = new TransferRecord(DOWNLOAD_ID);
+        download.bucketName = "bucket";
+        download.key = "key";
+        download.file = file.getAbsolutePath();
+        download.transferUtilityOptions = new TransferUtilityOptions();
+        download.transferUtilityOptions.setRangedDownloadEnabled(true);
+        download.transferUtilityOptions.setRangedDownloadPartSize(RANGE_SIZE);
+        download.transferUtilityOptions.setMaxConcurrentPartsPerTransfer(2);
+    }
+
+    @After
+    public void teardown() {
+        file.delete();
+    }
+
+    @Test
+    public void testObjectInOneRangeTakesOneRequest() throws Exception {
+        setContent(1000);
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3, times(1)).getObject(request.capture());
+        assertArrayEquals(new long[] {0, RANGE_SIZE - 1}, request.getValue().getRange());
+        verify(s3, never()).getObjectMetadata(any(GetObjectMetadataRequest.class));
+        verify(dbUtil, never()).insertDownloadRangeRecords(any(TransferRecord.class), anyLong(), anyLong());
+        assertFileContent();
+        verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+    }
+
+    @Test
+    public void testObjectIsSplitIntoRanges() throws Exception {
+        setContent((int) (2 * RANGE_SIZE + 1000));
+        final List<TransferRecord> ranges = ranges(3);
+        when(dbUtil.queryDownloadRangeRecords(DOWNLOAD_ID))
+                .thenReturn(Collections.<TransferRecord>emptyList(), ranges);
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+        verify(dbUtil).insertDownloadRangeRecords(download, content.length, RANGE_SIZE);
+        verify(dbUtil).updateETag(DOWNLOAD_ID, eTag());
+        final List<String> requestedRanges = requestedRanges(3);
+        // The response of the first request is read as the first range.
+        assertEquals("0-" + (RANGE_SIZE - 1), requestedRanges.get(0));
+        assertTrue(requestedRanges.contains(RANGE_SIZE + "-" + (2 * RANGE_SIZE - 1)));
+        assertTrue(requestedRanges.contains(2 * RANGE_SIZE + "-" + (content.length - 1)));
+        verify(s3, never()).getObjectMetadata(any(GetObjectMetadataRequest.class));
+        for (final TransferRecord range : ranges) {
+            verify(dbUtil).updateState(range.id, TransferState.PART_COMPLETED);
+        }
+        assertFileContent();
+        verify(dbUtil).deleteDownloadRangeRecords(DOWNLOAD_ID);
+        verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+    }
+
+    @Test
+    public void testResumeFetchesMissingRanges() throws Exception {
+        setContent((int) (2 * RANGE_SIZE + 1000));
+        final List<TransferRecord> ranges = ranges(3);
+        ranges.get(0).state = TransferState.PART_COMPLETED;
+        ranges.get(2).state = TransferState.PART_COMPLETED;
+        when(dbUtil.queryDownloadRangeRecords(DOWNLOAD_ID)).thenReturn(ranges);
+        download.eTag = eTag();
+        // The completed ranges are already in the file.
+        final byte[] partial = content.clone();
+        for (int i = (int) RANGE_SIZE; i < 2 * RANGE_SIZE; i++) {
+            partial[i] = 0;
+        }
+        final FileOutputStream out = new FileOutputStream(file);
+        out.write(partial);
+        out.close();
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+        verify(s3).getObjectMetadata(any(GetObjectMetadataRequest.class));
+        assertEquals(Collections.singletonList(RANGE_SIZE + "-" + (2 * RANGE_SIZE - 1)), requestedRanges(1));
+        verify(dbUtil, never()).insertDownloadRangeRecords(any(TransferRecord.class), anyLong(), anyLong());
+        assertFileContent();
+        verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+    }
+
+    @Test
+    public void testResumeOfChangedObjectStartsOver() throws Exception {
+        setContent((int) (2 * RANGE_SIZE + 1000));
+        final List<TransferRecord> ranges = ranges(3);
+        ranges.get(0).state = TransferState.PART_COMPLETED;
+        when(dbUtil.queryDownloadRangeRecords(DOWNLOAD_ID))
+                .thenReturn(ranges, ranges(3));
+        download.eTag = "old-etag";
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+        verify(dbUtil, times(2)).deleteDownloadRangeRecords(DOWNLOAD_ID);
+        verify(dbUtil).insertDownloadRangeRecords(download, content.length, RANGE_SIZE);
+        assertEquals(3, requestedRanges(3).size());
+        assertFileContent();
+    }
+
+    @Test
+    public void testEncryptionClientDoesNotRequestRanges() throws Exception {
+        s3 = mock(AmazonS3EncryptionClient.class);
+        setContent((int) (2 * RANGE_SIZE + 1000));
+
+        assertTrue(new DownloadTask(download, s3, dbUtil, updater).call());
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3, times(1)).getObject(request.capture());
+        assertNull(request.getValue().getRange());
+        verify(dbUtil, never()).queryDownloadRangeRecords(anyInt());
+        verify(dbUtil, never()).updateETag(anyInt(), anyString());
+        assertFileContent();
+    }
+
+    /**
+     * Makes the S3 client serve the given number of random bytes.
+     */
+    private void setContent(int size) {
+        content = new byte[size];
+        new Random(size).nextBytes(content);
+        final ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(content.length);
+        objectMetadata.setHeader(Headers.ETAG, "\"" + eTag() + "\"");
+        when(s3.getObjectMetadata(any(GetObjectMetadataRequest.class))).thenReturn(objectMetadata);
+        when(s3.getObject(any(GetObjectRequest.class))).thenAnswer(new Answer<S3Object>() {
+            @Override
+            public S3Object answer(InvocationOnMock invocation) {
+                final GetObjectRequest request = (GetObjectRequest) invocation.getArguments()[0];
+                final long[] range = request.getRange();
+                final int from = range == null ? 0 : (int) range[0];
+                final int to = range == null ? content.length : (int) Math.min(range[1] + 1, content.length);
+                final ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(to - from);
+                metadata.setHeader(Headers.ETAG, "\"" + eTag() + "\"");
+                if (range != null) {
+                    metadata.setHeader(Headers.CONTENT_RANGE,
+                            "bytes " + from + "-" + (to - 1) + "/" + content.length);
+                }
+                final S3Object object = new S3Object();
+                object.setObjectMetadata(metadata);
+                object.setObjectContent(new ByteArrayInputStream(content, from, to - from));
+                return object;
+            }
+        });
+    }
+
+    private String eTag() {
+        return BinaryUtils.toHex(Md5Utils.computeMD5Hash(content));
+    }
+
+    /**
+     * Returns the range records the database would hold for the content.
+     */
+    private List<TransferRecord> ranges(int count) {
+        final List<TransferRecord> ranges = new ArrayList<TransferRecord>();
+        for (int i = 0; i < count; i++) {
+            final TransferRecord range = new TransferRecord(DOWNLOAD_ID + 1 + i);
+            range.mainUploadId = DOWNLOAD_ID;
+            range.partNumber = i + 1;
+            range.rangeStart = i * RANGE_SIZE;
+            range.rangeLast = Math.min((i + 1) * RANGE_SIZE, content.length) - 1;
+            range.bytesTotal = range.rangeLast - range.rangeStart + 1;
+            range.state = TransferState.WAITING;
+            ranges.add(range);
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the byte ranges of the GET requests as "first-last", in the
+     * order they were made.
+     */
+    private List<String> requestedRanges(int count) {
+        final ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3, times(count)).getObject(request.capture());
+        final List<String> ranges = new ArrayList<String>();
+        for (final GetObjectRequest getObjectRequest : request.getAllValues()) {
+            final long[] range = getObjectRequest.getRange();
+            ranges.add(range[0] + "-" + range[1]);
+        }
+        return ranges;
+    }
+
+    private void assertFileContent() throws IOException {
+        final byte[] bytes = new byte[(int) file.length()];
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            int read = 0;
+            while (read < bytes.length) {
+                read += in.read(bytes, read, bytes.length - read);
+            }
+        } finally {
+            in.close();
+        }
+        assertArrayEquals(content, bytes);
+    }
+}
@@ -21,7 +21,9 @@ import org.junit.Test;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public class GsonSerializationTest {
 
@@ -59,6 +61,14 @@ public class GsonSerializationTest {
                 TransferUtilityOptions.getDefaultThreadPoolSize()));
         assertThat(jsonOptions, containsString("\"transferNetworkConnectionType\":" +
                 "\"" + TransferUtilityOptions.getDefaultTransferNetworkConnectionType() + "\""));
+        assertThat(jsonOptions, containsString("\"maxConcurrentPartUploads\":" +
+                TransferUtilityOptions.getDefaultMaxConcurrentPartUploads()));
+        assertThat(jsonOptions, containsString("\"maxConcurrentPartsPerTransfer\":" +
+                TransferUtilityOptions.getDefaultMaxConcurrentPartsPerTransfer()));
+        assertThat(jsonOptions, containsString("\"adaptivePartConcurrency\":true"));
+        assertThat(jsonOptions, containsString("\"rangedDownloadEnabled\":false"));
+        assertThat(jsonOptions, containsString("\"rangedDownloadPartSize\":" +
+                TransferUtilityOptions.getDefaultRangedDownloadPartSize()));
     }
 
     @Test
@@ -77,5 +87,14 @@ public class GsonSerializationTest {
                 tuOptions.getTransferThreadPoolSize());
         assertEquals(TransferNetworkConnectionType.ANY,
                 tuOptions.getTransferNetworkConnectionType());
+        // Options persisted before part concurrency was configurable fall back to the defaults.
+        assertEquals(TransferUtilityOptions.getDefaultMaxConcurrentPartUploads(),
+                tuOptions.getMaxConcurrentPartUploads());
+        assertEquals(TransferUtilityOptions.getDefaultMaxConcurrentPartsPerTransfer(),
+                tuOptions.getMaxConcurrentPartsPerTransfer());
+        assertTrue(tuOptions.isAdaptivePartConcurrency());
+        assertFalse(tuOptions.isRangedDownloadEnabled());
+        assertEquals(TransferUtilityOptions.getDefaultRangedDownloadPartSize(),
+                tuOptions.getRangedDownloadPartSize());
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PartConcurrencyControllerTest {
+
+    @Test
+    public void testFixedLimitWhenNotAdaptive() throws InterruptedException {
+        PartConcurrencyController controller = new PartConcurrencyController(3, false);
+        assertEquals(3, controller.getLimit());
+
+        controller.onPartError();
+        assertEquals(3, controller.getLimit());
+    }
+
+    @Test
+    public void testAdaptiveLimitStartsAtOneAndGrows() throws InterruptedException {
+        PartConcurrencyController controller = new PartConcurrencyController(4, true);
+        assertEquals(1, controller.getLimit());
+
+        // First window establishes the throughput baseline, which is an
+        // improvement over nothing.
+        assertTrue(controller.acquire());
+        controller.onPartCompleted(5 * 1024 * 1024);
+        controller.release(true);
+        assertEquals(2, controller.getLimit());
+    }
+
+    @Test
+    public void testAdaptiveLimitNeverExceedsMaximum() throws InterruptedException {
+        PartConcurrencyController controller = new PartConcurrencyController(1, true);
+        assertTrue(controller.acquire());
+        controller.onPartCompleted(5 * 1024 * 1024);
+        controller.release(true);
+        assertEquals(1, controller.getLimit());
+    }
+
+    @Test
+    public void testErrorHalvesLimit() throws InterruptedException {
+        PartConcurrencyController controller = new PartConcurrencyController(8, true);
+        assertTrue(controller.acquire());
+        controller.onPartCompleted(5 * 1024 * 1024);
+        controller.release(true);
+        assertEquals(2, controller.getLimit());
+
+        controller.onPartError();
+        assertEquals(1, controller.getLimit());
+        controller.onPartError();
+        assertEquals(1, controller.getLimit());
+    }
+
+    @Test
+    public void testFailedPartStopsFurtherParts() throws InterruptedException {
+        PartConcurrencyController controller = new PartConcurrencyController(2, false);
+        assertTrue(controller.acquire());
+        assertTrue(controller.acquire());
+        controller.release(false);
+        assertTrue(controller.isStopped());
+        assertFalse(controller.acquire());
+    }
+
+    @Test
+    public void testAcquireBlocksUntilReleased() throws InterruptedException {
+        final PartConcurrencyController controller = new PartConcurrencyController(1, false);
+        assertTrue(controller.acquire());
+
+        final boolean[] acquired = new boolean[1];
+        Thread waiter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    acquired[0] = controller.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        waiter.start();
+        waiter.join(100);
+        assertTrue(waiter.isAlive());
+
+        controller.release(true);
+        waiter.join(1000);
+        assertFalse(waiter.isAlive());
+        assertTrue(acquired[0]);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import android.database.Cursor;
+import android.net.Uri;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the range records of ranged downloads.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TransferDBUtilTest {
+
+    private static final long RANGE_SIZE = 1024 * 1024;
+
+    private TransferDBUtil dbUtil;
+    private TransferRecord download;
+
+    @Before
+    public void setup() {
+        dbUtil = new TransferDBUtil(InstrumentationRegistry.getInstrumentation().getContext());
+        final Uri uri = dbUtil.insertSingleTransferRecord(TransferType.DOWNLOAD, "bucket", "key",
+                new File("file"), new TransferUtilityOptions());
+        download = new TransferRecord(Integer.parseInt(uri.getLastPathSegment()));
+        download.bucketName = "bucket";
+        download.key = "key";
+        download.file = "file";
+    }
+
+    @After
+    public void teardown() {
+        dbUtil.closeDB();
+    }
+
+    @Test
+    public void testObjectIsSplitIntoRanges() {
+        final long objectSize = 2 * RANGE_SIZE + 1000;
+        assertEquals(3, dbUtil.insertDownloadRangeRecords(download, objectSize, RANGE_SIZE));
+
+        final List<TransferRecord> ranges = dbUtil.queryDownloadRangeRecords(download.id);
+        assertEquals(3, ranges.size());
+        long rangeStart = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            final TransferRecord range = ranges.get(i);
+            assertEquals(i + 1, range.partNumber);
+            assertEquals(download.id, range.mainUploadId);
+            assertEquals(TransferState.WAITING, range.state);
+            assertEquals(rangeStart, range.rangeStart);
+            assertEquals(range.rangeLast - range.rangeStart + 1, range.bytesTotal);
+            rangeStart = range.rangeLast + 1;
+        }
+        assertEquals(RANGE_SIZE, ranges.get(0).bytesTotal);
+        assertEquals(RANGE_SIZE, ranges.get(1).bytesTotal);
+        assertEquals(1000, ranges.get(2).bytesTotal);
+        assertEquals(objectSize, rangeStart);
+    }
+
+    @Test
+    public void testCompletedRangesAreKeptForResume() {
+        dbUtil.insertDownloadRangeRecords(download, 3 * RANGE_SIZE, RANGE_SIZE);
+        final List<TransferRecord> ranges = dbUtil.queryDownloadRangeRecords(download.id);
+        dbUtil.updateState(ranges.get(1).id, TransferState.PART_COMPLETED);
+
+        final List<TransferRecord> resumed = dbUtil.queryDownloadRangeRecords(download.id);
+        assertEquals(TransferState.WAITING, resumed.get(0).state);
+        assertEquals(TransferState.PART_COMPLETED, resumed.get(1).state);
+        assertEquals(TransferState.WAITING, resumed.get(2).state);
+
+        assertEquals(3, dbUtil.deleteDownloadRangeRecords(download.id));
+        assertTrue(dbUtil.queryDownloadRangeRecords(download.id).isEmpty());
+        assertTrue(isTransfer(download.id));
+    }
+
+    @Test
+    public void testDeletingTransferDeletesRanges() {
+        dbUtil.insertDownloadRangeRecords(download, 3 * RANGE_SIZE, RANGE_SIZE);
+
+        assertEquals(4, dbUtil.deleteTransferRecords(download.id));
+        assertTrue(dbUtil.queryDownloadRangeRecords(download.id).isEmpty());
+        assertFalse(isTransfer(download.id));
+    }
+
+    private boolean isTransfer(int id) {
+        final Cursor c = dbUtil.queryTransferById(id);
+        try {
+            return c.moveToFirst();
+        } finally {
+            c.close();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TransferProgressJournalTest {
+
+    private TransferDBUtil dbUtil;
+    private TransferProgressJournal journal;
+
+    @Before
+    public void setup() {
+        dbUtil = mock(TransferDBUtil.class);
+        journal = new TransferProgressJournal(dbUtil);
+    }
+
+    @Test
+    public void testSmallUpdatesAreNotWrittenImmediately() {
+        journal.record(1, 0);
+        journal.record(1, 1024);
+        journal.record(1, 2048);
+        verify(dbUtil, never()).updateBytesTransferred(anyMapOf(Integer.class, Long.class));
+    }
+
+    @Test
+    public void testFlushWritesLatestValuesInOneBatch() {
+        journal.record(1, 1024);
+        journal.record(1, 2048);
+        journal.record(2, 4096);
+        journal.flush();
+
+        Map<Integer, Long> expected = new HashMap<Integer, Long>();
+        expected.put(1, 2048L);
+        expected.put(2, 4096L);
+        verify(dbUtil, times(1)).updateBytesTransferred(expected);
+
+        // Nothing is dirty anymore.
+        journal.flush();
+        verify(dbUtil, times(1)).updateBytesTransferred(anyMapOf(Integer.class, Long.class));
+    }
+
+    @Test
+    public void testByteThresholdTriggersFlush() {
+        journal.record(1, 0);
+        journal.record(1, TransferProgressJournal.FLUSH_BYTES_THRESHOLD);
+
+        Map<Integer, Long> expected = new HashMap<Integer, Long>();
+        expected.put(1, TransferProgressJournal.FLUSH_BYTES_THRESHOLD);
+        verify(dbUtil, times(1)).updateBytesTransferred(expected);
+    }
+
+    @Test
+    public void testRemovedTransferIsNotWritten() {
+        journal.record(1, 1024);
+        journal.remove(1);
+        journal.flush();
+        verify(dbUtil, never()).updateBytesTransferred(anyMapOf(Integer.class, Long.class));
+    }
+
+    @Test
+    public void testNotificationsAreRateLimited() {
+        assertTrue(journal.shouldNotify(1, 10, 100));
+        assertFalse(journal.shouldNotify(1, 20, 100));
+        assertFalse(journal.shouldNotify(1, 30, 100));
+
+        // The last suppressed update is handed out once.
+        assertArrayEquals(new long[] {30, 100}, journal.takeSuppressedProgress(1));
+        assertNull(journal.takeSuppressedProgress(1));
+    }
+
+    @Test
+    public void testFinalProgressIsAlwaysNotified() {
+        assertTrue(journal.shouldNotify(1, 10, 100));
+        assertTrue(journal.shouldNotify(1, 100, 100));
+        assertNull(journal.takeSuppressedProgress(1));
+    }
+
+    @Test
+    public void testTransfersAreRateLimitedIndependently() {
+        assertTrue(journal.shouldNotify(1, 10, 100));
+        assertTrue(journal.shouldNotify(2, 10, 100));
+    }
+}
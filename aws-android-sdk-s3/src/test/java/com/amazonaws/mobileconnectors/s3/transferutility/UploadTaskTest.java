@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UploadTaskTest {
+
+    private static final int UPLOAD_ID = 1;
+    private static final String MULTIPART_ID = "multipart-id";
+    private static final int PART_COUNT = 4;
+
+    private AmazonS3 s3;
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private TransferRecord upload;
+
+    @Before
+    public void setup() {
+        s3 = mock(AmazonS3.class);
+        dbUtil = mock(TransferDBUtil.class);
+        updater = mock(TransferStatusUpdater.class);
+
+        upload = new TransferRecord(UPLOAD_ID);
+        upload.isMultipart = 1;
+        upload.partNumber = 0;
+        upload.bucketName = "bucket";
+        upload.key = "key";
+        upload.bytesTotal = PART_COUNT;
+        // A resumed upload, so that it isn't initiated again.
+        upload.multipartId = MULTIPART_ID;
+        upload.transferUtilityOptions = new TransferUtilityOptions();
+        upload.transferUtilityOptions.setMaxConcurrentPartsPerTransfer(1);
+
+        final List<UploadPartRequest> parts = new ArrayList<UploadPartRequest>();
+        for (int i = 1; i <= PART_COUNT; i++) {
+            parts.add(new UploadPartRequest()
+                    .withId(UPLOAD_ID + i)
+                    .withMainUploadId(UPLOAD_ID)
+                    .withBucketName("bucket")
+                    .withKey("key")
+                    .withUploadId(MULTIPART_ID)
+                    .withPartNumber(i)
+                    .withPartSize(1));
+        }
+        when(dbUtil.getNonCompletedPartRequestsFromDB(UPLOAD_ID, MULTIPART_ID)).thenReturn(parts);
+    }
+
+    @Test
+    public void testAllPartsUploadedCompletesUpload() throws Exception {
+        when(s3.uploadPart(any(UploadPartRequest.class))).thenReturn(new UploadPartResult());
+
+        assertTrue(new UploadTask(upload, s3, dbUtil, updater).call());
+        verify(s3, times(PART_COUNT)).uploadPart(any(UploadPartRequest.class));
+        verify(s3, times(1)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(updater).updateState(UPLOAD_ID, TransferState.COMPLETED);
+    }
+
+    @Test
+    public void testPartFailingMidUploadDoesNotCompleteUpload() throws Exception {
+        when(s3.uploadPart(any(UploadPartRequest.class))).thenAnswer(new Answer<UploadPartResult>() {
+            @Override
+            public UploadPartResult answer(InvocationOnMock invocation) {
+                final UploadPartRequest request = (UploadPartRequest) invocation.getArguments()[0];
+                if (request.getPartNumber() == 2) {
+                    throw new AbortedException();
+                }
+                return new UploadPartResult();
+            }
+        });
+
+        assertFalse(new UploadTask(upload, s3, dbUtil, updater).call());
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(updater).updateState(UPLOAD_ID, TransferState.FAILED);
+        verify(updater, never()).updateState(UPLOAD_ID, TransferState.COMPLETED);
+        // The parts after the failed one were not started; they stay in the
+        // database for a resume.
+        verify(s3, times(2)).uploadPart(any(UploadPartRequest.class));
+        verify(dbUtil, times(1)).updateETag(anyInt(), anyString());
+    }
+}
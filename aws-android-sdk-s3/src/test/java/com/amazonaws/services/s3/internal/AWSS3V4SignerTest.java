@@ -184,6 +184,50 @@ public class AWSS3V4SignerTest {
 
     }
 
+    @Test
+    public void testUnsignedPayloadWhenChunkedEncodingDisabled() throws URISyntaxException {
+        final AWSS3V4Signer signer = new S3SignerWithDateOverride(new Date(1431115356859L));
+        signer.setChunkedEncodingDisabled(true);
+        final AWSCredentials credentials = new BasicAWSCredentials(
+                "AKIAJd4scjDDmxXZTESTGOZQ", "LYd/ad4scjDDmxXZTESTtRz7xdOM1SiD6");
+
+        final Request<?> https = newPutObjectRequest("https");
+        signer.sign(https, credentials);
+        assertEquals("UNSIGNED-PAYLOAD", https.getHeaders().get("x-amz-content-sha256"));
+        assertEquals("7", https.getHeaders().get(Headers.CONTENT_LENGTH));
+        assertTrue(https.getContent() instanceof ByteArrayInputStream);
+
+        // Payloads are always signed over plain HTTP.
+        final Request<?> http = newPutObjectRequest("http");
+        signer.sign(http, credentials);
+        assertEquals("ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73",
+                http.getHeaders().get("x-amz-content-sha256"));
+
+        signer.setPayloadSigningEnabled(true);
+        final Request<?> signed = newPutObjectRequest("https");
+        signer.sign(signed, credentials);
+        assertEquals("ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73",
+                signed.getHeaders().get("x-amz-content-sha256"));
+    }
+
+    private Request<?> newPutObjectRequest(String scheme) throws URISyntaxException {
+        final ByteArrayInputStream bais = new
+                ByteArrayInputStream("content".getBytes(StringUtils.UTF8));
+        final ObjectMetadata om = new ObjectMetadata();
+        om.setContentLength(7);
+        final PutObjectRequest por = new PutObjectRequest("test-bucket123456",
+                "key", bais, om);
+        final Request<?> pr = new DefaultRequest(por, Constants.S3_SERVICE_DISPLAY_NAME);
+        pr.setContent(bais);
+        pr.setResourcePath("key");
+        pr.setHttpMethod(HttpMethodName.PUT);
+        pr.addHeader(Headers.CONTENT_LENGTH, "7");
+        pr.setEndpoint(new
+                URI(scheme + "://test-bucket123456.s3-us-west-2.amazonaws.com"));
+        pr.addHeader("Host", "test-bucket123456.s3-us-west-2.amazonaws.com");
+        return pr;
+    }
+
     // Gets the Signature from the authorizaiton header
     private String getSignature(Request<?> request) {
         final String auth = request.getHeaders().get("Authorization");
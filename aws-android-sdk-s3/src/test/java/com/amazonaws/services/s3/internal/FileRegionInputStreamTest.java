@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.amazonaws.util.IOUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+public class FileRegionInputStreamTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File file;
+    private byte[] content;
+
+    @Before
+    public void setup() throws IOException {
+        content = new byte[10000];
+        new Random().nextBytes(content);
+        file = temp.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(content);
+        out.close();
+    }
+
+    @Test
+    public void testReadRegion() throws IOException {
+        FileRegionInputStream region = new FileRegionInputStream(file, 1000, 5000);
+        byte[] read = IOUtils.toByteArray(region);
+        assertArrayEquals(Arrays.copyOfRange(content, 1000, 6000), read);
+        assertEquals(-1, region.read());
+        region.close();
+    }
+
+    @Test
+    public void testResetSeeksBackToMark() throws IOException {
+        FileRegionInputStream region = new FileRegionInputStream(file, 1000, 5000);
+        region.skip(100);
+        region.mark(-1);
+        region.read(new byte[2000], 0, 2000);
+        region.reset();
+
+        assertEquals(100, region.getPosition());
+        assertEquals(content[1100] & 0xFF, region.read());
+        region.close();
+    }
+
+    @Test
+    public void testDigestComputesMd5AndChunkHashes() throws Exception {
+        FileRegionInputStream region = new FileRegionInputStream(file, 1000, 5000);
+        region.skip(10);
+
+        byte[] md5 = region.digest(2048);
+        assertArrayEquals(MessageDigest.getInstance("MD5").digest(
+                Arrays.copyOfRange(content, 1000, 6000)), md5);
+        assertEquals("position unchanged", 10, region.getPosition());
+
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        assertArrayEquals(sha256.digest(Arrays.copyOfRange(content, 1000, 3048)),
+                region.getChunkHash(0, 2048));
+        assertArrayEquals(sha256.digest(Arrays.copyOfRange(content, 5096, 6000)),
+                region.getChunkHash(4096, 904));
+        assertNull("not a chunk boundary", region.getChunkHash(100, 2048));
+        assertNull("wrong length", region.getChunkHash(4096, 2048));
+        region.close();
+    }
+
+    @Test
+    public void testUnwrap() throws IOException {
+        FileRegionInputStream region = new FileRegionInputStream(file, 0, 100);
+        assertSame(region, FileRegionInputStream.unwrap(new InputSubstream(region, 0, 100, true)));
+        assertNull(FileRegionInputStream.unwrap(new RepeatableFileInputStream(file)));
+        region.close();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public class CarriageReturnEscapingInputStreamTest {
+
+    private static final String LISTING_START =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+            + "<Name>bucket</Name><Prefix></Prefix><Marker></Marker>"
+            + "<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>";
+    private static final String LISTING_END = "</ListBucketResult>";
+
+    @Test
+    public void testCarriageReturnsAreEscaped() throws IOException {
+        assertEquals("a&#013;b&#013;&#013;\u00e9&#013;", escape("a\rb\r\r\u00e9\r"));
+        assertEquals("", escape(""));
+        assertEquals("no carriage return", escape("no carriage return"));
+    }
+
+    @Test
+    public void testEscapeSpansReads() throws IOException {
+        final InputStream in = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream("x\ry".getBytes(StringUtils.UTF8)));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[3];
+        int read;
+        while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        assertEquals("x&#013;y", new String(out.toByteArray(), StringUtils.UTF8));
+
+        final InputStream single = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream("\r".getBytes(StringUtils.UTF8)));
+        final StringBuilder builder = new StringBuilder();
+        int b;
+        while ((b = single.read()) != -1) {
+            builder.append((char) b);
+        }
+        assertEquals("&#013;", builder.toString());
+    }
+
+    @Test
+    public void testListingKeyWithCarriageReturn() throws IOException {
+        final String listing = LISTING_START + contents("line1\rline2") + LISTING_END;
+        final List<S3ObjectSummary> summaries = parseListing(listing).getObjectSummaries();
+        assertEquals(1, summaries.size());
+        assertEquals("line1\rline2", summaries.get(0).getKey());
+    }
+
+    @Test
+    public void testLargeListing() throws IOException {
+        final int keys = 20000;
+        final StringBuilder listing = new StringBuilder(LISTING_START);
+        for (int i = 0; i < keys; i++) {
+            listing.append(contents("photos/2019/\r" + i + ".jpg"));
+        }
+        listing.append(LISTING_END);
+
+        final List<S3ObjectSummary> summaries = parseListing(listing.toString()).getObjectSummaries();
+        assertEquals(keys, summaries.size());
+        assertEquals("photos/2019/\r" + (keys - 1) + ".jpg", summaries.get(keys - 1).getKey());
+    }
+
+    private static String escape(String s) throws IOException {
+        final InputStream in = new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream(s.getBytes(StringUtils.UTF8)));
+        return IOUtils.toString(in);
+    }
+
+    private static String contents(String key) {
+        return "<Contents><Key>" + key + "</Key>"
+                + "<LastModified>2019-01-01T00:00:00.000Z</LastModified>"
+                + "<ETag>&quot;etag&quot;</ETag><Size>1</Size>"
+                + "<StorageClass>STANDARD</StorageClass></Contents>";
+    }
+
+    private static ObjectListing parseListing(String listing) throws IOException {
+        return new XmlResponsesSaxParser()
+                .parseListBucketObjectsResponse(
+                        new ByteArrayInputStream(listing.getBytes(StringUtils.UTF8)), false)
+                .getObjectListing();
+    }
+}
@@ -17,11 +17,11 @@ package com.amazonaws.services.sagemakerruntime;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -88,15 +88,15 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
      */
     @Deprecated
     public AmazonSageMakerRuntimeAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * SageMaker Runtime Service using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will
-     * be created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be
+     * executed by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -106,7 +106,7 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
      *            to use when authenticating with AWS services.
      */
     public AmazonSageMakerRuntimeAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -154,8 +154,8 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * SageMaker Runtime Service using the specified AWS account credentials
-     * provider. Default client settings will be used, and a fixed size thread
-     * pool will be created for executing the asynchronous tasks.
+     * provider. Default client settings will be used, and the asynchronous
+     * tasks will be executed by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +166,7 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
      *            services.
      */
     public AmazonSageMakerRuntimeAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
      */
     public AmazonSageMakerRuntimeAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -305,10 +305,10 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
      *             SageMaker Runtime Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<InvokeEndpointResult> invokeEndpointAsync(
+    public SdkFuture<InvokeEndpointResult> invokeEndpointAsync(
             final InvokeEndpointRequest invokeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<InvokeEndpointResult>() {
+        return AsyncRuntime.submit(executorService, invokeEndpointRequest, new Callable<InvokeEndpointResult>() {
             public InvokeEndpointResult call() throws Exception {
                 return invokeEndpoint(invokeEndpointRequest);
             }
@@ -363,11 +363,11 @@ public class AmazonSageMakerRuntimeAsyncClient extends AmazonSageMakerRuntimeCli
      *             SageMaker Runtime Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<InvokeEndpointResult> invokeEndpointAsync(
+    public SdkFuture<InvokeEndpointResult> invokeEndpointAsync(
             final InvokeEndpointRequest invokeEndpointRequest,
             final AsyncHandler<InvokeEndpointRequest, InvokeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InvokeEndpointResult>() {
+        return AsyncRuntime.submit(executorService, invokeEndpointRequest, new Callable<InvokeEndpointResult>() {
             public InvokeEndpointResult call() throws Exception {
                 InvokeEndpointResult result = null;
                 try {
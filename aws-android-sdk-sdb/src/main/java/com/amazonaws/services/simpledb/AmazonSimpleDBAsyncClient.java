@@ -16,11 +16,11 @@ package com.amazonaws.services.simpledb;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -111,14 +111,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     @Deprecated
     public AmazonSimpleDBAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime.newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
-     * AmazonSimpleDB using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * AmazonSimpleDB using the specified AWS account credentials. Default
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -129,7 +129,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *                       when authenticating with AWS services.
      */
     public AmazonSimpleDBAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -183,8 +183,8 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
     /**
      * Constructs a new asynchronous client to invoke service methods on
      * AmazonSimpleDB using the specified AWS account credentials provider.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be
+     * executed by the runtime shared by async clients.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -196,7 +196,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *            to authenticate requests with AWS services.
      */
     public AmazonSimpleDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -239,7 +239,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public AmazonSimpleDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
                 ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime.newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -339,9 +339,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
+    public SdkFuture<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, batchDeleteAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 batchDeleteAttributes(batchDeleteAttributesRequest);
                 return null;
@@ -400,11 +400,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchDeleteAttributesAsync(
+    public SdkFuture<Void> batchDeleteAttributesAsync(
             final BatchDeleteAttributesRequest batchDeleteAttributesRequest,
             final AsyncHandler<BatchDeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, batchDeleteAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 batchDeleteAttributes(batchDeleteAttributesRequest);
@@ -456,9 +456,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
+    public SdkFuture<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteAttributes(deleteAttributesRequest);
                 return null;
@@ -508,11 +508,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteAttributesAsync(
+    public SdkFuture<Void> deleteAttributesAsync(
             final DeleteAttributesRequest deleteAttributesRequest,
             final AsyncHandler<DeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteAttributes(deleteAttributesRequest);
@@ -596,9 +596,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
+    public SdkFuture<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, putAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 putAttributes(putAttributesRequest);
                 return null;
@@ -680,11 +680,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> putAttributesAsync(
+    public SdkFuture<Void> putAttributesAsync(
             final PutAttributesRequest putAttributesRequest,
             final AsyncHandler<PutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, putAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 putAttributes(putAttributesRequest);
@@ -720,9 +720,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
+    public SdkFuture<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
+        return AsyncRuntime.submit(executorService, domainMetadataRequest, new Callable<DomainMetadataResult>() {
             public DomainMetadataResult call() throws Exception {
                 return domainMetadata(domainMetadataRequest);
         }
@@ -755,11 +755,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DomainMetadataResult> domainMetadataAsync(
+    public SdkFuture<DomainMetadataResult> domainMetadataAsync(
             final DomainMetadataRequest domainMetadataRequest,
             final AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
+        return AsyncRuntime.submit(executorService, domainMetadataRequest, new Callable<DomainMetadataResult>() {
             public DomainMetadataResult call() throws Exception {
               DomainMetadataResult result;
                 try {
@@ -806,9 +806,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
+    public SdkFuture<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getAttributesRequest, new Callable<GetAttributesResult>() {
             public GetAttributesResult call() throws Exception {
                 return getAttributes(getAttributesRequest);
         }
@@ -851,11 +851,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetAttributesResult> getAttributesAsync(
+    public SdkFuture<GetAttributesResult> getAttributesAsync(
             final GetAttributesRequest getAttributesRequest,
             final AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getAttributesRequest, new Callable<GetAttributesResult>() {
             public GetAttributesResult call() throws Exception {
               GetAttributesResult result;
                 try {
@@ -897,9 +897,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
+    public SdkFuture<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
+        return AsyncRuntime.submit(executorService, listDomainsRequest, new Callable<ListDomainsResult>() {
             public ListDomainsResult call() throws Exception {
                 return listDomains(listDomainsRequest);
         }
@@ -937,11 +937,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ListDomainsResult> listDomainsAsync(
+    public SdkFuture<ListDomainsResult> listDomainsAsync(
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
+        return AsyncRuntime.submit(executorService, listDomainsRequest, new Callable<ListDomainsResult>() {
             public ListDomainsResult call() throws Exception {
               ListDomainsResult result;
                 try {
@@ -990,9 +990,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<SelectResult> selectAsync(final SelectRequest selectRequest) 
+    public SdkFuture<SelectResult> selectAsync(final SelectRequest selectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
+        return AsyncRuntime.submit(executorService, selectRequest, new Callable<SelectResult>() {
             public SelectResult call() throws Exception {
                 return select(selectRequest);
         }
@@ -1037,11 +1037,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<SelectResult> selectAsync(
+    public SdkFuture<SelectResult> selectAsync(
             final SelectRequest selectRequest,
             final AsyncHandler<SelectRequest, SelectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
+        return AsyncRuntime.submit(executorService, selectRequest, new Callable<SelectResult>() {
             public SelectResult call() throws Exception {
               SelectResult result;
                 try {
@@ -1084,9 +1084,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
+    public SdkFuture<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteDomainRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteDomain(deleteDomainRequest);
                 return null;
@@ -1126,11 +1126,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDomainAsync(
+    public SdkFuture<Void> deleteDomainAsync(
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteDomainRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 deleteDomain(deleteDomainRequest);
@@ -1180,9 +1180,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
+    public SdkFuture<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createDomainRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createDomain(createDomainRequest);
                 return null;
@@ -1230,11 +1230,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createDomainAsync(
+    public SdkFuture<Void> createDomainAsync(
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createDomainRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 createDomain(createDomainRequest);
@@ -1336,9 +1336,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
+    public SdkFuture<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, batchPutAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 batchPutAttributes(batchPutAttributesRequest);
                 return null;
@@ -1438,11 +1438,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchPutAttributesAsync(
+    public SdkFuture<Void> batchPutAttributesAsync(
             final BatchPutAttributesRequest batchPutAttributesRequest,
             final AsyncHandler<BatchPutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, batchPutAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
               try {
                 batchPutAttributes(batchPutAttributesRequest);
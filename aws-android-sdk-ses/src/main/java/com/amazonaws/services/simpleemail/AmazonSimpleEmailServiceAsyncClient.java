@@ -17,11 +17,11 @@ package com.amazonaws.services.simpleemail;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -103,15 +103,15 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     @Deprecated
     public AmazonSimpleEmailServiceAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Email Service using the specified AWS account credentials. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -121,7 +121,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *            to use when authenticating with AWS services.
      */
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -169,8 +169,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Email Service using the specified AWS account credentials
-     * provider. Default client settings will be used, and a fixed size thread
-     * pool will be created for executing the asynchronous tasks.
+     * provider. Default client settings will be used, and the asynchronous
+     * tasks will be executed by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -181,7 +181,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *            services.
      */
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -221,8 +221,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -308,10 +308,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
+    public SdkFuture<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, cloneReceiptRuleSetRequest, new Callable<CloneReceiptRuleSetResult>() {
             public CloneReceiptRuleSetResult call() throws Exception {
                 return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
             }
@@ -354,11 +354,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
+    public SdkFuture<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest,
             final AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, cloneReceiptRuleSetRequest, new Callable<CloneReceiptRuleSetResult>() {
             public CloneReceiptRuleSetResult call() throws Exception {
                 CloneReceiptRuleSetResult result = null;
                 try {
@@ -409,10 +409,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetResult> createConfigurationSetAsync(
+    public SdkFuture<CreateConfigurationSetResult> createConfigurationSetAsync(
             final CreateConfigurationSetRequest createConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
+        return AsyncRuntime.submit(executorService, createConfigurationSetRequest, new Callable<CreateConfigurationSetResult>() {
             public CreateConfigurationSetResult call() throws Exception {
                 return createConfigurationSet(createConfigurationSetRequest);
             }
@@ -455,11 +455,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetResult> createConfigurationSetAsync(
+    public SdkFuture<CreateConfigurationSetResult> createConfigurationSetAsync(
             final CreateConfigurationSetRequest createConfigurationSetRequest,
             final AsyncHandler<CreateConfigurationSetRequest, CreateConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
+        return AsyncRuntime.submit(executorService, createConfigurationSetRequest, new Callable<CreateConfigurationSetResult>() {
             public CreateConfigurationSetResult call() throws Exception {
                 CreateConfigurationSetResult result = null;
                 try {
@@ -523,10 +523,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
+    public SdkFuture<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
+        return AsyncRuntime.submit(executorService, createConfigurationSetEventDestinationRequest, new Callable<CreateConfigurationSetEventDestinationResult>() {
             public CreateConfigurationSetEventDestinationResult call() throws Exception {
                 return createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
             }
@@ -582,11 +582,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
+    public SdkFuture<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest,
             final AsyncHandler<CreateConfigurationSetEventDestinationRequest, CreateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
+        return AsyncRuntime.submit(executorService, createConfigurationSetEventDestinationRequest, new Callable<CreateConfigurationSetEventDestinationResult>() {
             public CreateConfigurationSetEventDestinationResult call() throws Exception {
                 CreateConfigurationSetEventDestinationResult result = null;
                 try {
@@ -633,10 +633,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
+    public SdkFuture<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
+        return AsyncRuntime.submit(executorService, createConfigurationSetTrackingOptionsRequest, new Callable<CreateConfigurationSetTrackingOptionsResult>() {
             public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
                 return createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
             }
@@ -675,11 +675,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
+    public SdkFuture<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<CreateConfigurationSetTrackingOptionsRequest, CreateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
+        return AsyncRuntime.submit(executorService, createConfigurationSetTrackingOptionsRequest, new Callable<CreateConfigurationSetTrackingOptionsResult>() {
             public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
                 CreateConfigurationSetTrackingOptionsResult result = null;
                 try {
@@ -728,10 +728,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> createCustomVerificationEmailTemplateAsync(
+    public SdkFuture<Void> createCustomVerificationEmailTemplateAsync(
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createCustomVerificationEmailTemplateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
                 return null;
@@ -773,11 +773,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> createCustomVerificationEmailTemplateAsync(
+    public SdkFuture<Void> createCustomVerificationEmailTemplateAsync(
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest,
             final AsyncHandler<CreateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, createCustomVerificationEmailTemplateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -825,10 +825,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptFilterResult> createReceiptFilterAsync(
+    public SdkFuture<CreateReceiptFilterResult> createReceiptFilterAsync(
             final CreateReceiptFilterRequest createReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
+        return AsyncRuntime.submit(executorService, createReceiptFilterRequest, new Callable<CreateReceiptFilterResult>() {
             public CreateReceiptFilterResult call() throws Exception {
                 return createReceiptFilter(createReceiptFilterRequest);
             }
@@ -868,11 +868,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptFilterResult> createReceiptFilterAsync(
+    public SdkFuture<CreateReceiptFilterResult> createReceiptFilterAsync(
             final CreateReceiptFilterRequest createReceiptFilterRequest,
             final AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
+        return AsyncRuntime.submit(executorService, createReceiptFilterRequest, new Callable<CreateReceiptFilterResult>() {
             public CreateReceiptFilterResult call() throws Exception {
                 CreateReceiptFilterResult result = null;
                 try {
@@ -925,10 +925,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleResult> createReceiptRuleAsync(
+    public SdkFuture<CreateReceiptRuleResult> createReceiptRuleAsync(
             final CreateReceiptRuleRequest createReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, createReceiptRuleRequest, new Callable<CreateReceiptRuleResult>() {
             public CreateReceiptRuleResult call() throws Exception {
                 return createReceiptRule(createReceiptRuleRequest);
             }
@@ -973,11 +973,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleResult> createReceiptRuleAsync(
+    public SdkFuture<CreateReceiptRuleResult> createReceiptRuleAsync(
             final CreateReceiptRuleRequest createReceiptRuleRequest,
             final AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, createReceiptRuleRequest, new Callable<CreateReceiptRuleResult>() {
             public CreateReceiptRuleResult call() throws Exception {
                 CreateReceiptRuleResult result = null;
                 try {
@@ -1025,10 +1025,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
+    public SdkFuture<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, createReceiptRuleSetRequest, new Callable<CreateReceiptRuleSetResult>() {
             public CreateReceiptRuleSetResult call() throws Exception {
                 return createReceiptRuleSet(createReceiptRuleSetRequest);
             }
@@ -1068,11 +1068,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
+    public SdkFuture<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest,
             final AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, createReceiptRuleSetRequest, new Callable<CreateReceiptRuleSetResult>() {
             public CreateReceiptRuleSetResult call() throws Exception {
                 CreateReceiptRuleSetResult result = null;
                 try {
@@ -1119,10 +1119,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateTemplateResult> createTemplateAsync(
+    public SdkFuture<CreateTemplateResult> createTemplateAsync(
             final CreateTemplateRequest createTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
+        return AsyncRuntime.submit(executorService, createTemplateRequest, new Callable<CreateTemplateResult>() {
             public CreateTemplateResult call() throws Exception {
                 return createTemplate(createTemplateRequest);
             }
@@ -1161,11 +1161,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateTemplateResult> createTemplateAsync(
+    public SdkFuture<CreateTemplateResult> createTemplateAsync(
             final CreateTemplateRequest createTemplateRequest,
             final AsyncHandler<CreateTemplateRequest, CreateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
+        return AsyncRuntime.submit(executorService, createTemplateRequest, new Callable<CreateTemplateResult>() {
             public CreateTemplateResult call() throws Exception {
                 CreateTemplateResult result = null;
                 try {
@@ -1212,10 +1212,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
+    public SdkFuture<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
+        return AsyncRuntime.submit(executorService, deleteConfigurationSetRequest, new Callable<DeleteConfigurationSetResult>() {
             public DeleteConfigurationSetResult call() throws Exception {
                 return deleteConfigurationSet(deleteConfigurationSetRequest);
             }
@@ -1254,11 +1254,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
+    public SdkFuture<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest,
             final AsyncHandler<DeleteConfigurationSetRequest, DeleteConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
+        return AsyncRuntime.submit(executorService, deleteConfigurationSetRequest, new Callable<DeleteConfigurationSetResult>() {
             public DeleteConfigurationSetResult call() throws Exception {
                 DeleteConfigurationSetResult result = null;
                 try {
@@ -1308,10 +1308,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
+    public SdkFuture<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
+        return AsyncRuntime.submit(executorService, deleteConfigurationSetEventDestinationRequest, new Callable<DeleteConfigurationSetEventDestinationResult>() {
             public DeleteConfigurationSetEventDestinationResult call() throws Exception {
                 return deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
             }
@@ -1353,11 +1353,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
+    public SdkFuture<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest,
             final AsyncHandler<DeleteConfigurationSetEventDestinationRequest, DeleteConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
+        return AsyncRuntime.submit(executorService, deleteConfigurationSetEventDestinationRequest, new Callable<DeleteConfigurationSetEventDestinationResult>() {
             public DeleteConfigurationSetEventDestinationResult call() throws Exception {
                 DeleteConfigurationSetEventDestinationResult result = null;
                 try {
@@ -1410,10 +1410,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
+    public SdkFuture<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
+        return AsyncRuntime.submit(executorService, deleteConfigurationSetTrackingOptionsRequest, new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
             public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
                 return deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
             }
@@ -1458,11 +1458,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
+    public SdkFuture<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<DeleteConfigurationSetTrackingOptionsRequest, DeleteConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
+        return AsyncRuntime.submit(executorService, deleteConfigurationSetTrackingOptionsRequest, new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
             public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
                 DeleteConfigurationSetTrackingOptionsResult result = null;
                 try {
@@ -1507,10 +1507,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomVerificationEmailTemplateAsync(
+    public SdkFuture<Void> deleteCustomVerificationEmailTemplateAsync(
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteCustomVerificationEmailTemplateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
                 return null;
@@ -1548,11 +1548,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomVerificationEmailTemplateAsync(
+    public SdkFuture<Void> deleteCustomVerificationEmailTemplateAsync(
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest,
             final AsyncHandler<DeleteCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteCustomVerificationEmailTemplateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1591,10 +1591,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityResult> deleteIdentityAsync(
+    public SdkFuture<DeleteIdentityResult> deleteIdentityAsync(
             final DeleteIdentityRequest deleteIdentityRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
+        return AsyncRuntime.submit(executorService, deleteIdentityRequest, new Callable<DeleteIdentityResult>() {
             public DeleteIdentityResult call() throws Exception {
                 return deleteIdentity(deleteIdentityRequest);
             }
@@ -1625,11 +1625,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityResult> deleteIdentityAsync(
+    public SdkFuture<DeleteIdentityResult> deleteIdentityAsync(
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
+        return AsyncRuntime.submit(executorService, deleteIdentityRequest, new Callable<DeleteIdentityResult>() {
             public DeleteIdentityResult call() throws Exception {
                 DeleteIdentityResult result = null;
                 try {
@@ -1686,10 +1686,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
+    public SdkFuture<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
+        return AsyncRuntime.submit(executorService, deleteIdentityPolicyRequest, new Callable<DeleteIdentityPolicyResult>() {
             public DeleteIdentityPolicyResult call() throws Exception {
                 return deleteIdentityPolicy(deleteIdentityPolicyRequest);
             }
@@ -1738,11 +1738,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
+    public SdkFuture<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest,
             final AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
+        return AsyncRuntime.submit(executorService, deleteIdentityPolicyRequest, new Callable<DeleteIdentityPolicyResult>() {
             public DeleteIdentityPolicyResult call() throws Exception {
                 DeleteIdentityPolicyResult result = null;
                 try {
@@ -1788,10 +1788,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
+    public SdkFuture<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
+        return AsyncRuntime.submit(executorService, deleteReceiptFilterRequest, new Callable<DeleteReceiptFilterResult>() {
             public DeleteReceiptFilterResult call() throws Exception {
                 return deleteReceiptFilter(deleteReceiptFilterRequest);
             }
@@ -1829,11 +1829,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
+    public SdkFuture<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest,
             final AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
+        return AsyncRuntime.submit(executorService, deleteReceiptFilterRequest, new Callable<DeleteReceiptFilterResult>() {
             public DeleteReceiptFilterResult call() throws Exception {
                 DeleteReceiptFilterResult result = null;
                 try {
@@ -1880,10 +1880,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
+    public SdkFuture<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, deleteReceiptRuleRequest, new Callable<DeleteReceiptRuleResult>() {
             public DeleteReceiptRuleResult call() throws Exception {
                 return deleteReceiptRule(deleteReceiptRuleRequest);
             }
@@ -1922,11 +1922,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
+    public SdkFuture<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest,
             final AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, deleteReceiptRuleRequest, new Callable<DeleteReceiptRuleResult>() {
             public DeleteReceiptRuleResult call() throws Exception {
                 DeleteReceiptRuleResult result = null;
                 try {
@@ -1980,10 +1980,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
+    public SdkFuture<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, deleteReceiptRuleSetRequest, new Callable<DeleteReceiptRuleSetResult>() {
             public DeleteReceiptRuleSetResult call() throws Exception {
                 return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
             }
@@ -2029,11 +2029,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
+    public SdkFuture<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest,
             final AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, deleteReceiptRuleSetRequest, new Callable<DeleteReceiptRuleSetResult>() {
             public DeleteReceiptRuleSetResult call() throws Exception {
                 DeleteReceiptRuleSetResult result = null;
                 try {
@@ -2073,10 +2073,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteTemplateResult> deleteTemplateAsync(
+    public SdkFuture<DeleteTemplateResult> deleteTemplateAsync(
             final DeleteTemplateRequest deleteTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
+        return AsyncRuntime.submit(executorService, deleteTemplateRequest, new Callable<DeleteTemplateResult>() {
             public DeleteTemplateResult call() throws Exception {
                 return deleteTemplate(deleteTemplateRequest);
             }
@@ -2108,11 +2108,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteTemplateResult> deleteTemplateAsync(
+    public SdkFuture<DeleteTemplateResult> deleteTemplateAsync(
             final DeleteTemplateRequest deleteTemplateRequest,
             final AsyncHandler<DeleteTemplateRequest, DeleteTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
+        return AsyncRuntime.submit(executorService, deleteTemplateRequest, new Callable<DeleteTemplateResult>() {
             public DeleteTemplateResult call() throws Exception {
                 DeleteTemplateResult result = null;
                 try {
@@ -2149,10 +2149,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteVerifiedEmailAddressAsync(
+    public SdkFuture<Void> deleteVerifiedEmailAddressAsync(
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVerifiedEmailAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
                 return null;
@@ -2182,11 +2182,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteVerifiedEmailAddressAsync(
+    public SdkFuture<Void> deleteVerifiedEmailAddressAsync(
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVerifiedEmailAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2234,10 +2234,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
+    public SdkFuture<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, describeActiveReceiptRuleSetRequest, new Callable<DescribeActiveReceiptRuleSetResult>() {
             public DescribeActiveReceiptRuleSetResult call() throws Exception {
                 return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
             }
@@ -2277,11 +2277,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
+    public SdkFuture<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest,
             final AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, describeActiveReceiptRuleSetRequest, new Callable<DescribeActiveReceiptRuleSetResult>() {
             public DescribeActiveReceiptRuleSetResult call() throws Exception {
                 DescribeActiveReceiptRuleSetResult result = null;
                 try {
@@ -2327,10 +2327,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeConfigurationSetResult> describeConfigurationSetAsync(
+    public SdkFuture<DescribeConfigurationSetResult> describeConfigurationSetAsync(
             final DescribeConfigurationSetRequest describeConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
+        return AsyncRuntime.submit(executorService, describeConfigurationSetRequest, new Callable<DescribeConfigurationSetResult>() {
             public DescribeConfigurationSetResult call() throws Exception {
                 return describeConfigurationSet(describeConfigurationSetRequest);
             }
@@ -2368,11 +2368,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeConfigurationSetResult> describeConfigurationSetAsync(
+    public SdkFuture<DescribeConfigurationSetResult> describeConfigurationSetAsync(
             final DescribeConfigurationSetRequest describeConfigurationSetRequest,
             final AsyncHandler<DescribeConfigurationSetRequest, DescribeConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
+        return AsyncRuntime.submit(executorService, describeConfigurationSetRequest, new Callable<DescribeConfigurationSetResult>() {
             public DescribeConfigurationSetResult call() throws Exception {
                 DescribeConfigurationSetResult result = null;
                 try {
@@ -2420,10 +2420,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(
+    public SdkFuture<DescribeReceiptRuleResult> describeReceiptRuleAsync(
             final DescribeReceiptRuleRequest describeReceiptRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, describeReceiptRuleRequest, new Callable<DescribeReceiptRuleResult>() {
             public DescribeReceiptRuleResult call() throws Exception {
                 return describeReceiptRule(describeReceiptRuleRequest);
             }
@@ -2463,11 +2463,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(
+    public SdkFuture<DescribeReceiptRuleResult> describeReceiptRuleAsync(
             final DescribeReceiptRuleRequest describeReceiptRuleRequest,
             final AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, describeReceiptRuleRequest, new Callable<DescribeReceiptRuleResult>() {
             public DescribeReceiptRuleResult call() throws Exception {
                 DescribeReceiptRuleResult result = null;
                 try {
@@ -2514,10 +2514,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
+    public SdkFuture<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, describeReceiptRuleSetRequest, new Callable<DescribeReceiptRuleSetResult>() {
             public DescribeReceiptRuleSetResult call() throws Exception {
                 return describeReceiptRuleSet(describeReceiptRuleSetRequest);
             }
@@ -2556,11 +2556,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
+    public SdkFuture<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest,
             final AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, describeReceiptRuleSetRequest, new Callable<DescribeReceiptRuleSetResult>() {
             public DescribeReceiptRuleSetResult call() throws Exception {
                 DescribeReceiptRuleSetResult result = null;
                 try {
@@ -2596,10 +2596,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
+    public SdkFuture<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
+        return AsyncRuntime.submit(executorService, getAccountSendingEnabledRequest, new Callable<GetAccountSendingEnabledResult>() {
             public GetAccountSendingEnabledResult call() throws Exception {
                 return getAccountSendingEnabled(getAccountSendingEnabledRequest);
             }
@@ -2627,11 +2627,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
+    public SdkFuture<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest,
             final AsyncHandler<GetAccountSendingEnabledRequest, GetAccountSendingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
+        return AsyncRuntime.submit(executorService, getAccountSendingEnabledRequest, new Callable<GetAccountSendingEnabledResult>() {
             public GetAccountSendingEnabledResult call() throws Exception {
                 GetAccountSendingEnabledResult result = null;
                 try {
@@ -2678,10 +2678,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
+    public SdkFuture<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
+        return AsyncRuntime.submit(executorService, getCustomVerificationEmailTemplateRequest, new Callable<GetCustomVerificationEmailTemplateResult>() {
             public GetCustomVerificationEmailTemplateResult call() throws Exception {
                 return getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
             }
@@ -2720,11 +2720,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
+    public SdkFuture<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest,
             final AsyncHandler<GetCustomVerificationEmailTemplateRequest, GetCustomVerificationEmailTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
+        return AsyncRuntime.submit(executorService, getCustomVerificationEmailTemplateRequest, new Callable<GetCustomVerificationEmailTemplateResult>() {
             public GetCustomVerificationEmailTemplateResult call() throws Exception {
                 GetCustomVerificationEmailTemplateResult result = null;
                 try {
@@ -2802,10 +2802,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
+    public SdkFuture<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityDkimAttributesRequest, new Callable<GetIdentityDkimAttributesResult>() {
             public GetIdentityDkimAttributesResult call() throws Exception {
                 return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
             }
@@ -2875,11 +2875,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
+    public SdkFuture<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityDkimAttributesRequest, new Callable<GetIdentityDkimAttributesResult>() {
             public GetIdentityDkimAttributesResult call() throws Exception {
                 GetIdentityDkimAttributesResult result = null;
                 try {
@@ -2922,10 +2922,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
+    public SdkFuture<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityMailFromDomainAttributesRequest, new Callable<GetIdentityMailFromDomainAttributesResult>() {
             public GetIdentityMailFromDomainAttributesResult call() throws Exception {
                 return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
             }
@@ -2960,11 +2960,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
+    public SdkFuture<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest,
             final AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityMailFromDomainAttributesRequest, new Callable<GetIdentityMailFromDomainAttributesResult>() {
             public GetIdentityMailFromDomainAttributesResult call() throws Exception {
                 GetIdentityMailFromDomainAttributesResult result = null;
                 try {
@@ -3013,10 +3013,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
+    public SdkFuture<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityNotificationAttributesRequest, new Callable<GetIdentityNotificationAttributesResult>() {
             public GetIdentityNotificationAttributesResult call() throws Exception {
                 return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
             }
@@ -3057,11 +3057,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
+    public SdkFuture<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityNotificationAttributesRequest, new Callable<GetIdentityNotificationAttributesResult>() {
             public GetIdentityNotificationAttributesResult call() throws Exception {
                 GetIdentityNotificationAttributesResult result = null;
                 try {
@@ -3120,10 +3120,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
+    public SdkFuture<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityPoliciesRequest, new Callable<GetIdentityPoliciesResult>() {
             public GetIdentityPoliciesResult call() throws Exception {
                 return getIdentityPolicies(getIdentityPoliciesRequest);
             }
@@ -3174,11 +3174,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
+    public SdkFuture<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest,
             final AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityPoliciesRequest, new Callable<GetIdentityPoliciesResult>() {
             public GetIdentityPoliciesResult call() throws Exception {
                 GetIdentityPoliciesResult result = null;
                 try {
@@ -3242,10 +3242,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
+    public SdkFuture<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityVerificationAttributesRequest, new Callable<GetIdentityVerificationAttributesResult>() {
             public GetIdentityVerificationAttributesResult call() throws Exception {
                 return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
             }
@@ -3301,11 +3301,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
+    public SdkFuture<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getIdentityVerificationAttributesRequest, new Callable<GetIdentityVerificationAttributesResult>() {
             public GetIdentityVerificationAttributesResult call() throws Exception {
                 GetIdentityVerificationAttributesResult result = null;
                 try {
@@ -3340,10 +3340,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendQuotaResult> getSendQuotaAsync(
+    public SdkFuture<GetSendQuotaResult> getSendQuotaAsync(
             final GetSendQuotaRequest getSendQuotaRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
+        return AsyncRuntime.submit(executorService, getSendQuotaRequest, new Callable<GetSendQuotaResult>() {
             public GetSendQuotaResult call() throws Exception {
                 return getSendQuota(getSendQuotaRequest);
             }
@@ -3370,11 +3370,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendQuotaResult> getSendQuotaAsync(
+    public SdkFuture<GetSendQuotaResult> getSendQuotaAsync(
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
+        return AsyncRuntime.submit(executorService, getSendQuotaRequest, new Callable<GetSendQuotaResult>() {
             public GetSendQuotaResult call() throws Exception {
                 GetSendQuotaResult result = null;
                 try {
@@ -3412,10 +3412,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendStatisticsResult> getSendStatisticsAsync(
+    public SdkFuture<GetSendStatisticsResult> getSendStatisticsAsync(
             final GetSendStatisticsRequest getSendStatisticsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
+        return AsyncRuntime.submit(executorService, getSendStatisticsRequest, new Callable<GetSendStatisticsResult>() {
             public GetSendStatisticsResult call() throws Exception {
                 return getSendStatistics(getSendStatisticsRequest);
             }
@@ -3445,11 +3445,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendStatisticsResult> getSendStatisticsAsync(
+    public SdkFuture<GetSendStatisticsResult> getSendStatisticsAsync(
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
+        return AsyncRuntime.submit(executorService, getSendStatisticsRequest, new Callable<GetSendStatisticsResult>() {
             public GetSendStatisticsResult call() throws Exception {
                 GetSendStatisticsResult result = null;
                 try {
@@ -3485,9 +3485,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest)
+    public SdkFuture<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
+        return AsyncRuntime.submit(executorService, getTemplateRequest, new Callable<GetTemplateResult>() {
             public GetTemplateResult call() throws Exception {
                 return getTemplate(getTemplateRequest);
             }
@@ -3515,10 +3515,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest,
+    public SdkFuture<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest,
             final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
+        return AsyncRuntime.submit(executorService, getTemplateRequest, new Callable<GetTemplateResult>() {
             public GetTemplateResult call() throws Exception {
                 GetTemplateResult result = null;
                 try {
@@ -3571,10 +3571,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListConfigurationSetsResult> listConfigurationSetsAsync(
+    public SdkFuture<ListConfigurationSetsResult> listConfigurationSetsAsync(
             final ListConfigurationSetsRequest listConfigurationSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
+        return AsyncRuntime.submit(executorService, listConfigurationSetsRequest, new Callable<ListConfigurationSetsResult>() {
             public ListConfigurationSetsResult call() throws Exception {
                 return listConfigurationSets(listConfigurationSetsRequest);
             }
@@ -3619,11 +3619,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListConfigurationSetsResult> listConfigurationSetsAsync(
+    public SdkFuture<ListConfigurationSetsResult> listConfigurationSetsAsync(
             final ListConfigurationSetsRequest listConfigurationSetsRequest,
             final AsyncHandler<ListConfigurationSetsRequest, ListConfigurationSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
+        return AsyncRuntime.submit(executorService, listConfigurationSetsRequest, new Callable<ListConfigurationSetsResult>() {
             public ListConfigurationSetsResult call() throws Exception {
                 ListConfigurationSetsResult result = null;
                 try {
@@ -3676,10 +3676,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
+    public SdkFuture<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
+        return AsyncRuntime.submit(executorService, listCustomVerificationEmailTemplatesRequest, new Callable<ListCustomVerificationEmailTemplatesResult>() {
             public ListCustomVerificationEmailTemplatesResult call() throws Exception {
                 return listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
             }
@@ -3724,11 +3724,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
+    public SdkFuture<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest,
             final AsyncHandler<ListCustomVerificationEmailTemplatesRequest, ListCustomVerificationEmailTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
+        return AsyncRuntime.submit(executorService, listCustomVerificationEmailTemplatesRequest, new Callable<ListCustomVerificationEmailTemplatesResult>() {
             public ListCustomVerificationEmailTemplatesResult call() throws Exception {
                 ListCustomVerificationEmailTemplatesResult result = null;
                 try {
@@ -3769,10 +3769,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentitiesResult> listIdentitiesAsync(
+    public SdkFuture<ListIdentitiesResult> listIdentitiesAsync(
             final ListIdentitiesRequest listIdentitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
+        return AsyncRuntime.submit(executorService, listIdentitiesRequest, new Callable<ListIdentitiesResult>() {
             public ListIdentitiesResult call() throws Exception {
                 return listIdentities(listIdentitiesRequest);
             }
@@ -3805,11 +3805,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentitiesResult> listIdentitiesAsync(
+    public SdkFuture<ListIdentitiesResult> listIdentitiesAsync(
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
+        return AsyncRuntime.submit(executorService, listIdentitiesRequest, new Callable<ListIdentitiesResult>() {
             public ListIdentitiesResult call() throws Exception {
                 ListIdentitiesResult result = null;
                 try {
@@ -3868,10 +3868,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
+    public SdkFuture<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
+        return AsyncRuntime.submit(executorService, listIdentityPoliciesRequest, new Callable<ListIdentityPoliciesResult>() {
             public ListIdentityPoliciesResult call() throws Exception {
                 return listIdentityPolicies(listIdentityPoliciesRequest);
             }
@@ -3922,11 +3922,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
+    public SdkFuture<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest,
             final AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
+        return AsyncRuntime.submit(executorService, listIdentityPoliciesRequest, new Callable<ListIdentityPoliciesResult>() {
             public ListIdentityPoliciesResult call() throws Exception {
                 ListIdentityPoliciesResult result = null;
                 try {
@@ -3974,10 +3974,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(
+    public SdkFuture<ListReceiptFiltersResult> listReceiptFiltersAsync(
             final ListReceiptFiltersRequest listReceiptFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
+        return AsyncRuntime.submit(executorService, listReceiptFiltersRequest, new Callable<ListReceiptFiltersResult>() {
             public ListReceiptFiltersResult call() throws Exception {
                 return listReceiptFilters(listReceiptFiltersRequest);
             }
@@ -4017,11 +4017,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(
+    public SdkFuture<ListReceiptFiltersResult> listReceiptFiltersAsync(
             final ListReceiptFiltersRequest listReceiptFiltersRequest,
             final AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
+        return AsyncRuntime.submit(executorService, listReceiptFiltersRequest, new Callable<ListReceiptFiltersResult>() {
             public ListReceiptFiltersResult call() throws Exception {
                 ListReceiptFiltersResult result = null;
                 try {
@@ -4071,10 +4071,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
+    public SdkFuture<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
+        return AsyncRuntime.submit(executorService, listReceiptRuleSetsRequest, new Callable<ListReceiptRuleSetsResult>() {
             public ListReceiptRuleSetsResult call() throws Exception {
                 return listReceiptRuleSets(listReceiptRuleSetsRequest);
             }
@@ -4116,11 +4116,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
+    public SdkFuture<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest,
             final AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
+        return AsyncRuntime.submit(executorService, listReceiptRuleSetsRequest, new Callable<ListReceiptRuleSetsResult>() {
             public ListReceiptRuleSetsResult call() throws Exception {
                 ListReceiptRuleSetsResult result = null;
                 try {
@@ -4156,10 +4156,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListTemplatesResult> listTemplatesAsync(
+    public SdkFuture<ListTemplatesResult> listTemplatesAsync(
             final ListTemplatesRequest listTemplatesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
+        return AsyncRuntime.submit(executorService, listTemplatesRequest, new Callable<ListTemplatesResult>() {
             public ListTemplatesResult call() throws Exception {
                 return listTemplates(listTemplatesRequest);
             }
@@ -4187,11 +4187,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListTemplatesResult> listTemplatesAsync(
+    public SdkFuture<ListTemplatesResult> listTemplatesAsync(
             final ListTemplatesRequest listTemplatesRequest,
             final AsyncHandler<ListTemplatesRequest, ListTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
+        return AsyncRuntime.submit(executorService, listTemplatesRequest, new Callable<ListTemplatesResult>() {
             public ListTemplatesResult call() throws Exception {
                 ListTemplatesResult result = null;
                 try {
@@ -4224,10 +4224,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
+    public SdkFuture<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
+        return AsyncRuntime.submit(executorService, listVerifiedEmailAddressesRequest, new Callable<ListVerifiedEmailAddressesResult>() {
             public ListVerifiedEmailAddressesResult call() throws Exception {
                 return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
             }
@@ -4252,11 +4252,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
+    public SdkFuture<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
+        return AsyncRuntime.submit(executorService, listVerifiedEmailAddressesRequest, new Callable<ListVerifiedEmailAddressesResult>() {
             public ListVerifiedEmailAddressesResult call() throws Exception {
                 ListVerifiedEmailAddressesResult result = null;
                 try {
@@ -4293,10 +4293,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
+    public SdkFuture<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
+        return AsyncRuntime.submit(executorService, putConfigurationSetDeliveryOptionsRequest, new Callable<PutConfigurationSetDeliveryOptionsResult>() {
             public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
                 return putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
             }
@@ -4325,11 +4325,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
+    public SdkFuture<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest,
             final AsyncHandler<PutConfigurationSetDeliveryOptionsRequest, PutConfigurationSetDeliveryOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
+        return AsyncRuntime.submit(executorService, putConfigurationSetDeliveryOptionsRequest, new Callable<PutConfigurationSetDeliveryOptionsResult>() {
             public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
                 PutConfigurationSetDeliveryOptionsResult result = null;
                 try {
@@ -4386,10 +4386,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(
+    public SdkFuture<PutIdentityPolicyResult> putIdentityPolicyAsync(
             final PutIdentityPolicyRequest putIdentityPolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
+        return AsyncRuntime.submit(executorService, putIdentityPolicyRequest, new Callable<PutIdentityPolicyResult>() {
             public PutIdentityPolicyResult call() throws Exception {
                 return putIdentityPolicy(putIdentityPolicyRequest);
             }
@@ -4438,11 +4438,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(
+    public SdkFuture<PutIdentityPolicyResult> putIdentityPolicyAsync(
             final PutIdentityPolicyRequest putIdentityPolicyRequest,
             final AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
+        return AsyncRuntime.submit(executorService, putIdentityPolicyRequest, new Callable<PutIdentityPolicyResult>() {
             public PutIdentityPolicyResult call() throws Exception {
                 PutIdentityPolicyResult result = null;
                 try {
@@ -4497,10 +4497,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
+    public SdkFuture<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, reorderReceiptRuleSetRequest, new Callable<ReorderReceiptRuleSetResult>() {
             public ReorderReceiptRuleSetResult call() throws Exception {
                 return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
             }
@@ -4547,11 +4547,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
+    public SdkFuture<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest,
             final AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, reorderReceiptRuleSetRequest, new Callable<ReorderReceiptRuleSetResult>() {
             public ReorderReceiptRuleSetResult call() throws Exception {
                 ReorderReceiptRuleSetResult result = null;
                 try {
@@ -4603,9 +4603,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest)
+    public SdkFuture<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
+        return AsyncRuntime.submit(executorService, sendBounceRequest, new Callable<SendBounceResult>() {
             public SendBounceResult call() throws Exception {
                 return sendBounce(sendBounceRequest);
             }
@@ -4649,10 +4649,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest,
+    public SdkFuture<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest,
             final AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
+        return AsyncRuntime.submit(executorService, sendBounceRequest, new Callable<SendBounceResult>() {
             public SendBounceResult call() throws Exception {
                 SendBounceResult result = null;
                 try {
@@ -4755,10 +4755,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
+    public SdkFuture<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendBulkTemplatedEmailRequest, new Callable<SendBulkTemplatedEmailResult>() {
             public SendBulkTemplatedEmailResult call() throws Exception {
                 return sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
             }
@@ -4853,11 +4853,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
+    public SdkFuture<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest,
             final AsyncHandler<SendBulkTemplatedEmailRequest, SendBulkTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendBulkTemplatedEmailRequest, new Callable<SendBulkTemplatedEmailResult>() {
             public SendBulkTemplatedEmailResult call() throws Exception {
                 SendBulkTemplatedEmailResult result = null;
                 try {
@@ -4911,10 +4911,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
+    public SdkFuture<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendCustomVerificationEmailRequest, new Callable<SendCustomVerificationEmailResult>() {
             public SendCustomVerificationEmailResult call() throws Exception {
                 return sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
             }
@@ -4960,11 +4960,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
+    public SdkFuture<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest,
             final AsyncHandler<SendCustomVerificationEmailRequest, SendCustomVerificationEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendCustomVerificationEmailRequest, new Callable<SendCustomVerificationEmailResult>() {
             public SendCustomVerificationEmailResult call() throws Exception {
                 SendCustomVerificationEmailResult result = null;
                 try {
@@ -5062,9 +5062,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest)
+    public SdkFuture<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendEmailRequest, new Callable<SendEmailResult>() {
             public SendEmailResult call() throws Exception {
                 return sendEmail(sendEmailRequest);
             }
@@ -5154,10 +5154,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest,
+    public SdkFuture<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendEmailRequest, new Callable<SendEmailResult>() {
             public SendEmailResult call() throws Exception {
                 SendEmailResult result = null;
                 try {
@@ -5342,10 +5342,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendRawEmailResult> sendRawEmailAsync(
+    public SdkFuture<SendRawEmailResult> sendRawEmailAsync(
             final SendRawEmailRequest sendRawEmailRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendRawEmailRequest, new Callable<SendRawEmailResult>() {
             public SendRawEmailResult call() throws Exception {
                 return sendRawEmail(sendRawEmailRequest);
             }
@@ -5522,11 +5522,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendRawEmailResult> sendRawEmailAsync(
+    public SdkFuture<SendRawEmailResult> sendRawEmailAsync(
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendRawEmailRequest, new Callable<SendRawEmailResult>() {
             public SendRawEmailResult call() throws Exception {
                 SendRawEmailResult result = null;
                 try {
@@ -5640,10 +5640,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(
+    public SdkFuture<SendTemplatedEmailResult> sendTemplatedEmailAsync(
             final SendTemplatedEmailRequest sendTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendTemplatedEmailRequest, new Callable<SendTemplatedEmailResult>() {
             public SendTemplatedEmailResult call() throws Exception {
                 return sendTemplatedEmail(sendTemplatedEmailRequest);
             }
@@ -5749,11 +5749,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(
+    public SdkFuture<SendTemplatedEmailResult> sendTemplatedEmailAsync(
             final SendTemplatedEmailRequest sendTemplatedEmailRequest,
             final AsyncHandler<SendTemplatedEmailRequest, SendTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
+        return AsyncRuntime.submit(executorService, sendTemplatedEmailRequest, new Callable<SendTemplatedEmailResult>() {
             public SendTemplatedEmailResult call() throws Exception {
                 SendTemplatedEmailResult result = null;
                 try {
@@ -5806,10 +5806,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
+    public SdkFuture<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, setActiveReceiptRuleSetRequest, new Callable<SetActiveReceiptRuleSetResult>() {
             public SetActiveReceiptRuleSetResult call() throws Exception {
                 return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
             }
@@ -5854,11 +5854,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
+    public SdkFuture<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest,
             final AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
+        return AsyncRuntime.submit(executorService, setActiveReceiptRuleSetRequest, new Callable<SetActiveReceiptRuleSetResult>() {
             public SetActiveReceiptRuleSetResult call() throws Exception {
                 SetActiveReceiptRuleSetResult result = null;
                 try {
@@ -5920,10 +5920,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
+    public SdkFuture<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityDkimEnabledRequest, new Callable<SetIdentityDkimEnabledResult>() {
             public SetIdentityDkimEnabledResult call() throws Exception {
                 return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
             }
@@ -5977,11 +5977,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
+    public SdkFuture<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityDkimEnabledRequest, new Callable<SetIdentityDkimEnabledResult>() {
             public SetIdentityDkimEnabledResult call() throws Exception {
                 SetIdentityDkimEnabledResult result = null;
                 try {
@@ -6039,10 +6039,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
+    public SdkFuture<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityFeedbackForwardingEnabledRequest, new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
             public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
                 return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
             }
@@ -6092,11 +6092,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
+    public SdkFuture<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityFeedbackForwardingEnabledRequest, new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
             public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
                 SetIdentityFeedbackForwardingEnabledResult result = null;
                 try {
@@ -6146,11 +6146,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
+    public SdkFuture<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
             final SetIdentityHeadersInNotificationsEnabledRequest setIdentityHeadersInNotificationsEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityHeadersInNotificationsEnabledRequest, new Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
                     public SetIdentityHeadersInNotificationsEnabledResult call() throws Exception {
                         return setIdentityHeadersInNotificationsEnabled(setIdentityHeadersInNotificationsEnabledRequest);
                     }
@@ -6192,12 +6191,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
+    public SdkFuture<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
             final SetIdentityHeadersInNotificationsEnabledRequest setIdentityHeadersInNotificationsEnabledRequest,
             final AsyncHandler<SetIdentityHeadersInNotificationsEnabledRequest, SetIdentityHeadersInNotificationsEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityHeadersInNotificationsEnabledRequest, new Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
                     public SetIdentityHeadersInNotificationsEnabledResult call() throws Exception {
                         SetIdentityHeadersInNotificationsEnabledResult result = null;
                         try {
@@ -6251,10 +6249,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
+    public SdkFuture<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityMailFromDomainRequest, new Callable<SetIdentityMailFromDomainResult>() {
             public SetIdentityMailFromDomainResult call() throws Exception {
                 return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
             }
@@ -6299,11 +6297,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
+    public SdkFuture<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest,
             final AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityMailFromDomainRequest, new Callable<SetIdentityMailFromDomainResult>() {
             public SetIdentityMailFromDomainResult call() throws Exception {
                 SetIdentityMailFromDomainResult result = null;
                 try {
@@ -6357,10 +6355,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
+    public SdkFuture<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityNotificationTopicRequest, new Callable<SetIdentityNotificationTopicResult>() {
             public SetIdentityNotificationTopicResult call() throws Exception {
                 return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
             }
@@ -6406,11 +6404,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
+    public SdkFuture<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
+        return AsyncRuntime.submit(executorService, setIdentityNotificationTopicRequest, new Callable<SetIdentityNotificationTopicResult>() {
             public SetIdentityNotificationTopicResult call() throws Exception {
                 SetIdentityNotificationTopicResult result = null;
                 try {
@@ -6458,10 +6456,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
+    public SdkFuture<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
+        return AsyncRuntime.submit(executorService, setReceiptRulePositionRequest, new Callable<SetReceiptRulePositionResult>() {
             public SetReceiptRulePositionResult call() throws Exception {
                 return setReceiptRulePosition(setReceiptRulePositionRequest);
             }
@@ -6501,11 +6499,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
+    public SdkFuture<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest,
             final AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
+        return AsyncRuntime.submit(executorService, setReceiptRulePositionRequest, new Callable<SetReceiptRulePositionResult>() {
             public SetReceiptRulePositionResult call() throws Exception {
                 SetReceiptRulePositionResult result = null;
                 try {
@@ -6544,10 +6542,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<TestRenderTemplateResult> testRenderTemplateAsync(
+    public SdkFuture<TestRenderTemplateResult> testRenderTemplateAsync(
             final TestRenderTemplateRequest testRenderTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
+        return AsyncRuntime.submit(executorService, testRenderTemplateRequest, new Callable<TestRenderTemplateResult>() {
             public TestRenderTemplateResult call() throws Exception {
                 return testRenderTemplate(testRenderTemplateRequest);
             }
@@ -6578,11 +6576,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<TestRenderTemplateResult> testRenderTemplateAsync(
+    public SdkFuture<TestRenderTemplateResult> testRenderTemplateAsync(
             final TestRenderTemplateRequest testRenderTemplateRequest,
             final AsyncHandler<TestRenderTemplateRequest, TestRenderTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
+        return AsyncRuntime.submit(executorService, testRenderTemplateRequest, new Callable<TestRenderTemplateResult>() {
             public TestRenderTemplateResult call() throws Exception {
                 TestRenderTemplateResult result = null;
                 try {
@@ -6624,10 +6622,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateAccountSendingEnabledAsync(
+    public SdkFuture<Void> updateAccountSendingEnabledAsync(
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateAccountSendingEnabledRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
                 return null;
@@ -6662,11 +6660,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateAccountSendingEnabledAsync(
+    public SdkFuture<Void> updateAccountSendingEnabledAsync(
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest,
             final AsyncHandler<UpdateAccountSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateAccountSendingEnabledRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -6727,10 +6725,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
+    public SdkFuture<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetEventDestinationRequest, new Callable<UpdateConfigurationSetEventDestinationResult>() {
             public UpdateConfigurationSetEventDestinationResult call() throws Exception {
                 return updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
             }
@@ -6783,11 +6781,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
+    public SdkFuture<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest,
             final AsyncHandler<UpdateConfigurationSetEventDestinationRequest, UpdateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetEventDestinationRequest, new Callable<UpdateConfigurationSetEventDestinationResult>() {
             public UpdateConfigurationSetEventDestinationResult call() throws Exception {
                 UpdateConfigurationSetEventDestinationResult result = null;
                 try {
@@ -6830,10 +6828,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetReputationMetricsEnabledAsync(
+    public SdkFuture<Void> updateConfigurationSetReputationMetricsEnabledAsync(
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetReputationMetricsEnabledRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
                 return null;
@@ -6869,11 +6867,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetReputationMetricsEnabledAsync(
+    public SdkFuture<Void> updateConfigurationSetReputationMetricsEnabledAsync(
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetReputationMetricsEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetReputationMetricsEnabledRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -6918,10 +6916,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetSendingEnabledAsync(
+    public SdkFuture<Void> updateConfigurationSetSendingEnabledAsync(
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetSendingEnabledRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
                 return null;
@@ -6958,11 +6956,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetSendingEnabledAsync(
+    public SdkFuture<Void> updateConfigurationSetSendingEnabledAsync(
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetSendingEnabledRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -7009,10 +7007,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
+    public SdkFuture<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetTrackingOptionsRequest, new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
             public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
                 return updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
             }
@@ -7051,11 +7049,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
+    public SdkFuture<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<UpdateConfigurationSetTrackingOptionsRequest, UpdateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
+        return AsyncRuntime.submit(executorService, updateConfigurationSetTrackingOptionsRequest, new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
             public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
                 UpdateConfigurationSetTrackingOptionsResult result = null;
                 try {
@@ -7103,10 +7101,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateCustomVerificationEmailTemplateAsync(
+    public SdkFuture<Void> updateCustomVerificationEmailTemplateAsync(
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateCustomVerificationEmailTemplateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
                 return null;
@@ -7147,11 +7145,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateCustomVerificationEmailTemplateAsync(
+    public SdkFuture<Void> updateCustomVerificationEmailTemplateAsync(
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest,
             final AsyncHandler<UpdateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, updateCustomVerificationEmailTemplateRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -7203,10 +7201,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(
+    public SdkFuture<UpdateReceiptRuleResult> updateReceiptRuleAsync(
             final UpdateReceiptRuleRequest updateReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, updateReceiptRuleRequest, new Callable<UpdateReceiptRuleResult>() {
             public UpdateReceiptRuleResult call() throws Exception {
                 return updateReceiptRule(updateReceiptRuleRequest);
             }
@@ -7250,11 +7248,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(
+    public SdkFuture<UpdateReceiptRuleResult> updateReceiptRuleAsync(
             final UpdateReceiptRuleRequest updateReceiptRuleRequest,
             final AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
+        return AsyncRuntime.submit(executorService, updateReceiptRuleRequest, new Callable<UpdateReceiptRuleResult>() {
             public UpdateReceiptRuleResult call() throws Exception {
                 UpdateReceiptRuleResult result = null;
                 try {
@@ -7295,10 +7293,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateTemplateResult> updateTemplateAsync(
+    public SdkFuture<UpdateTemplateResult> updateTemplateAsync(
             final UpdateTemplateRequest updateTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
+        return AsyncRuntime.submit(executorService, updateTemplateRequest, new Callable<UpdateTemplateResult>() {
             public UpdateTemplateResult call() throws Exception {
                 return updateTemplate(updateTemplateRequest);
             }
@@ -7331,11 +7329,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateTemplateResult> updateTemplateAsync(
+    public SdkFuture<UpdateTemplateResult> updateTemplateAsync(
             final UpdateTemplateRequest updateTemplateRequest,
             final AsyncHandler<UpdateTemplateRequest, UpdateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
+        return AsyncRuntime.submit(executorService, updateTemplateRequest, new Callable<UpdateTemplateResult>() {
             public UpdateTemplateResult call() throws Exception {
                 UpdateTemplateResult result = null;
                 try {
@@ -7426,10 +7424,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(
+    public SdkFuture<VerifyDomainDkimResult> verifyDomainDkimAsync(
             final VerifyDomainDkimRequest verifyDomainDkimRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
+        return AsyncRuntime.submit(executorService, verifyDomainDkimRequest, new Callable<VerifyDomainDkimResult>() {
             public VerifyDomainDkimResult call() throws Exception {
                 return verifyDomainDkim(verifyDomainDkimRequest);
             }
@@ -7512,11 +7510,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(
+    public SdkFuture<VerifyDomainDkimResult> verifyDomainDkimAsync(
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
+        return AsyncRuntime.submit(executorService, verifyDomainDkimRequest, new Callable<VerifyDomainDkimResult>() {
             public VerifyDomainDkimResult call() throws Exception {
                 VerifyDomainDkimResult result = null;
                 try {
@@ -7563,10 +7561,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
+    public SdkFuture<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
+        return AsyncRuntime.submit(executorService, verifyDomainIdentityRequest, new Callable<VerifyDomainIdentityResult>() {
             public VerifyDomainIdentityResult call() throws Exception {
                 return verifyDomainIdentity(verifyDomainIdentityRequest);
             }
@@ -7605,11 +7603,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
+    public SdkFuture<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
+        return AsyncRuntime.submit(executorService, verifyDomainIdentityRequest, new Callable<VerifyDomainIdentityResult>() {
             public VerifyDomainIdentityResult call() throws Exception {
                 VerifyDomainIdentityResult result = null;
                 try {
@@ -7648,10 +7646,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> verifyEmailAddressAsync(
+    public SdkFuture<Void> verifyEmailAddressAsync(
             final VerifyEmailAddressRequest verifyEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, verifyEmailAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 verifyEmailAddress(verifyEmailAddressRequest);
                 return null;
@@ -7683,11 +7681,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> verifyEmailAddressAsync(
+    public SdkFuture<Void> verifyEmailAddressAsync(
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, verifyEmailAddressRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -7731,10 +7729,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
+    public SdkFuture<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
+        return AsyncRuntime.submit(executorService, verifyEmailIdentityRequest, new Callable<VerifyEmailIdentityResult>() {
             public VerifyEmailIdentityResult call() throws Exception {
                 return verifyEmailIdentity(verifyEmailIdentityRequest);
             }
@@ -7770,11 +7768,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
+    public SdkFuture<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
+        return AsyncRuntime.submit(executorService, verifyEmailIdentityRequest, new Callable<VerifyEmailIdentityResult>() {
             public VerifyEmailIdentityResult call() throws Exception {
                 VerifyEmailIdentityResult result = null;
                 try {
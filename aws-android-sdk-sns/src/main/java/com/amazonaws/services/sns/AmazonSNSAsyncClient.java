@@ -17,11 +17,11 @@ package com.amazonaws.services.sns;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -110,15 +110,15 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     @Deprecated
     public AmazonSNSAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Notification Service using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will
-     * be created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be
+     * executed by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -128,7 +128,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *            to use when authenticating with AWS services.
      */
     public AmazonSNSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -175,8 +175,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Notification Service using the specified AWS account credentials
-     * provider. Default client settings will be used, and a fixed size thread
-     * pool will be created for executing the asynchronous tasks.
+     * provider. Default client settings will be used, and the asynchronous
+     * tasks will be executed by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -187,7 +187,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *            services.
      */
     public AmazonSNSAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -227,8 +227,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public AmazonSNSAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -300,9 +300,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
+    public SdkFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, addPermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 addPermission(addPermissionRequest);
                 return null;
@@ -332,10 +332,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
+    public SdkFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, addPermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -380,10 +380,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
+    public SdkFuture<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
+        return AsyncRuntime.submit(executorService, checkIfPhoneNumberIsOptedOutRequest, new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
             public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
                 return checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
             }
@@ -420,11 +420,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
+    public SdkFuture<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest,
             final AsyncHandler<CheckIfPhoneNumberIsOptedOutRequest, CheckIfPhoneNumberIsOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
+        return AsyncRuntime.submit(executorService, checkIfPhoneNumberIsOptedOutRequest, new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
             public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
                 CheckIfPhoneNumberIsOptedOutResult result = null;
                 try {
@@ -468,10 +468,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
+    public SdkFuture<ConfirmSubscriptionResult> confirmSubscriptionAsync(
             final ConfirmSubscriptionRequest confirmSubscriptionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
+        return AsyncRuntime.submit(executorService, confirmSubscriptionRequest, new Callable<ConfirmSubscriptionResult>() {
             public ConfirmSubscriptionResult call() throws Exception {
                 return confirmSubscription(confirmSubscriptionRequest);
             }
@@ -507,11 +507,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
+    public SdkFuture<ConfirmSubscriptionResult> confirmSubscriptionAsync(
             final ConfirmSubscriptionRequest confirmSubscriptionRequest,
             final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
+        return AsyncRuntime.submit(executorService, confirmSubscriptionRequest, new Callable<ConfirmSubscriptionResult>() {
             public ConfirmSubscriptionResult call() throws Exception {
                 ConfirmSubscriptionResult result = null;
                 try {
@@ -613,10 +613,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(
+    public SdkFuture<CreatePlatformApplicationResult> createPlatformApplicationAsync(
             final CreatePlatformApplicationRequest createPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
+        return AsyncRuntime.submit(executorService, createPlatformApplicationRequest, new Callable<CreatePlatformApplicationResult>() {
             public CreatePlatformApplicationResult call() throws Exception {
                 return createPlatformApplication(createPlatformApplicationRequest);
             }
@@ -710,11 +710,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(
+    public SdkFuture<CreatePlatformApplicationResult> createPlatformApplicationAsync(
             final CreatePlatformApplicationRequest createPlatformApplicationRequest,
             final AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
+        return AsyncRuntime.submit(executorService, createPlatformApplicationRequest, new Callable<CreatePlatformApplicationResult>() {
             public CreatePlatformApplicationResult call() throws Exception {
                 CreatePlatformApplicationResult result = null;
                 try {
@@ -771,10 +771,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(
+    public SdkFuture<CreatePlatformEndpointResult> createPlatformEndpointAsync(
             final CreatePlatformEndpointRequest createPlatformEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
+        return AsyncRuntime.submit(executorService, createPlatformEndpointRequest, new Callable<CreatePlatformEndpointResult>() {
             public CreatePlatformEndpointResult call() throws Exception {
                 return createPlatformEndpoint(createPlatformEndpointRequest);
             }
@@ -823,11 +823,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(
+    public SdkFuture<CreatePlatformEndpointResult> createPlatformEndpointAsync(
             final CreatePlatformEndpointRequest createPlatformEndpointRequest,
             final AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
+        return AsyncRuntime.submit(executorService, createPlatformEndpointRequest, new Callable<CreatePlatformEndpointResult>() {
             public CreatePlatformEndpointResult call() throws Exception {
                 CreatePlatformEndpointResult result = null;
                 try {
@@ -878,10 +878,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreateSMSSandboxPhoneNumberResult> createSMSSandboxPhoneNumberAsync(
+    public SdkFuture<CreateSMSSandboxPhoneNumberResult> createSMSSandboxPhoneNumberAsync(
             final CreateSMSSandboxPhoneNumberRequest createSMSSandboxPhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSMSSandboxPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, createSMSSandboxPhoneNumberRequest, new Callable<CreateSMSSandboxPhoneNumberResult>() {
             public CreateSMSSandboxPhoneNumberResult call() throws Exception {
                 return createSMSSandboxPhoneNumber(createSMSSandboxPhoneNumberRequest);
             }
@@ -924,11 +924,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreateSMSSandboxPhoneNumberResult> createSMSSandboxPhoneNumberAsync(
+    public SdkFuture<CreateSMSSandboxPhoneNumberResult> createSMSSandboxPhoneNumberAsync(
             final CreateSMSSandboxPhoneNumberRequest createSMSSandboxPhoneNumberRequest,
             final AsyncHandler<CreateSMSSandboxPhoneNumberRequest, CreateSMSSandboxPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSMSSandboxPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, createSMSSandboxPhoneNumberRequest, new Callable<CreateSMSSandboxPhoneNumberResult>() {
             public CreateSMSSandboxPhoneNumberResult call() throws Exception {
                 CreateSMSSandboxPhoneNumberResult result = null;
                 try {
@@ -978,9 +978,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest)
+    public SdkFuture<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
+        return AsyncRuntime.submit(executorService, createTopicRequest, new Callable<CreateTopicResult>() {
             public CreateTopicResult call() throws Exception {
                 return createTopic(createTopicRequest);
             }
@@ -1022,10 +1022,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest,
+    public SdkFuture<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest,
             final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
+        return AsyncRuntime.submit(executorService, createTopicRequest, new Callable<CreateTopicResult>() {
             public CreateTopicResult call() throws Exception {
                 CreateTopicResult result = null;
                 try {
@@ -1069,9 +1069,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest)
+    public SdkFuture<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteEndpointRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteEndpoint(deleteEndpointRequest);
                 return null;
@@ -1108,10 +1108,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest,
+    public SdkFuture<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteEndpointRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1152,10 +1152,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlatformApplicationAsync(
+    public SdkFuture<Void> deletePlatformApplicationAsync(
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deletePlatformApplicationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deletePlatformApplication(deletePlatformApplicationRequest);
                 return null;
@@ -1189,11 +1189,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlatformApplicationAsync(
+    public SdkFuture<Void> deletePlatformApplicationAsync(
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest,
             final AsyncHandler<DeletePlatformApplicationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deletePlatformApplicationRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1244,10 +1244,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<DeleteSMSSandboxPhoneNumberResult> deleteSMSSandboxPhoneNumberAsync(
+    public SdkFuture<DeleteSMSSandboxPhoneNumberResult> deleteSMSSandboxPhoneNumberAsync(
             final DeleteSMSSandboxPhoneNumberRequest deleteSMSSandboxPhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSMSSandboxPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, deleteSMSSandboxPhoneNumberRequest, new Callable<DeleteSMSSandboxPhoneNumberResult>() {
             public DeleteSMSSandboxPhoneNumberResult call() throws Exception {
                 return deleteSMSSandboxPhoneNumber(deleteSMSSandboxPhoneNumberRequest);
             }
@@ -1290,11 +1290,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<DeleteSMSSandboxPhoneNumberResult> deleteSMSSandboxPhoneNumberAsync(
+    public SdkFuture<DeleteSMSSandboxPhoneNumberResult> deleteSMSSandboxPhoneNumberAsync(
             final DeleteSMSSandboxPhoneNumberRequest deleteSMSSandboxPhoneNumberRequest,
             final AsyncHandler<DeleteSMSSandboxPhoneNumberRequest, DeleteSMSSandboxPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSMSSandboxPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, deleteSMSSandboxPhoneNumberRequest, new Callable<DeleteSMSSandboxPhoneNumberResult>() {
             public DeleteSMSSandboxPhoneNumberResult call() throws Exception {
                 DeleteSMSSandboxPhoneNumberResult result = null;
                 try {
@@ -1336,9 +1336,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest)
+    public SdkFuture<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTopicRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTopic(deleteTopicRequest);
                 return null;
@@ -1373,10 +1373,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest,
+    public SdkFuture<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest,
             final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTopicRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1418,10 +1418,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(
+    public SdkFuture<GetEndpointAttributesResult> getEndpointAttributesAsync(
             final GetEndpointAttributesRequest getEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getEndpointAttributesRequest, new Callable<GetEndpointAttributesResult>() {
             public GetEndpointAttributesResult call() throws Exception {
                 return getEndpointAttributes(getEndpointAttributesRequest);
             }
@@ -1455,11 +1455,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(
+    public SdkFuture<GetEndpointAttributesResult> getEndpointAttributesAsync(
             final GetEndpointAttributesRequest getEndpointAttributesRequest,
             final AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getEndpointAttributesRequest, new Callable<GetEndpointAttributesResult>() {
             public GetEndpointAttributesResult call() throws Exception {
                 GetEndpointAttributesResult result = null;
                 try {
@@ -1501,10 +1501,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
+    public SdkFuture<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getPlatformApplicationAttributesRequest, new Callable<GetPlatformApplicationAttributesResult>() {
             public GetPlatformApplicationAttributesResult call() throws Exception {
                 return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
             }
@@ -1538,11 +1538,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
+    public SdkFuture<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest,
             final AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getPlatformApplicationAttributesRequest, new Callable<GetPlatformApplicationAttributesResult>() {
             public GetPlatformApplicationAttributesResult call() throws Exception {
                 GetPlatformApplicationAttributesResult result = null;
                 try {
@@ -1584,10 +1584,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSMSAttributesResult> getSMSAttributesAsync(
+    public SdkFuture<GetSMSAttributesResult> getSMSAttributesAsync(
             final GetSMSAttributesRequest getSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getSMSAttributesRequest, new Callable<GetSMSAttributesResult>() {
             public GetSMSAttributesResult call() throws Exception {
                 return getSMSAttributes(getSMSAttributesRequest);
             }
@@ -1621,11 +1621,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSMSAttributesResult> getSMSAttributesAsync(
+    public SdkFuture<GetSMSAttributesResult> getSMSAttributesAsync(
             final GetSMSAttributesRequest getSMSAttributesRequest,
             final AsyncHandler<GetSMSAttributesRequest, GetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getSMSAttributesRequest, new Callable<GetSMSAttributesResult>() {
             public GetSMSAttributesResult call() throws Exception {
                 GetSMSAttributesResult result = null;
                 try {
@@ -1673,10 +1673,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSMSSandboxAccountStatusResult> getSMSSandboxAccountStatusAsync(
+    public SdkFuture<GetSMSSandboxAccountStatusResult> getSMSSandboxAccountStatusAsync(
             final GetSMSSandboxAccountStatusRequest getSMSSandboxAccountStatusRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSSandboxAccountStatusResult>() {
+        return AsyncRuntime.submit(executorService, getSMSSandboxAccountStatusRequest, new Callable<GetSMSSandboxAccountStatusResult>() {
             public GetSMSSandboxAccountStatusResult call() throws Exception {
                 return getSMSSandboxAccountStatus(getSMSSandboxAccountStatusRequest);
             }
@@ -1716,11 +1716,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSMSSandboxAccountStatusResult> getSMSSandboxAccountStatusAsync(
+    public SdkFuture<GetSMSSandboxAccountStatusResult> getSMSSandboxAccountStatusAsync(
             final GetSMSSandboxAccountStatusRequest getSMSSandboxAccountStatusRequest,
             final AsyncHandler<GetSMSSandboxAccountStatusRequest, GetSMSSandboxAccountStatusResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSSandboxAccountStatusResult>() {
+        return AsyncRuntime.submit(executorService, getSMSSandboxAccountStatusRequest, new Callable<GetSMSSandboxAccountStatusResult>() {
             public GetSMSSandboxAccountStatusResult call() throws Exception {
                 GetSMSSandboxAccountStatusResult result = null;
                 try {
@@ -1758,10 +1758,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
+    public SdkFuture<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getSubscriptionAttributesRequest, new Callable<GetSubscriptionAttributesResult>() {
             public GetSubscriptionAttributesResult call() throws Exception {
                 return getSubscriptionAttributes(getSubscriptionAttributesRequest);
             }
@@ -1791,11 +1791,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
+    public SdkFuture<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
             final AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getSubscriptionAttributesRequest, new Callable<GetSubscriptionAttributesResult>() {
             public GetSubscriptionAttributesResult call() throws Exception {
                 GetSubscriptionAttributesResult result = null;
                 try {
@@ -1835,10 +1835,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetTopicAttributesResult> getTopicAttributesAsync(
+    public SdkFuture<GetTopicAttributesResult> getTopicAttributesAsync(
             final GetTopicAttributesRequest getTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getTopicAttributesRequest, new Callable<GetTopicAttributesResult>() {
             public GetTopicAttributesResult call() throws Exception {
                 return getTopicAttributes(getTopicAttributesRequest);
             }
@@ -1870,11 +1870,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetTopicAttributesResult> getTopicAttributesAsync(
+    public SdkFuture<GetTopicAttributesResult> getTopicAttributesAsync(
             final GetTopicAttributesRequest getTopicAttributesRequest,
             final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getTopicAttributesRequest, new Callable<GetTopicAttributesResult>() {
             public GetTopicAttributesResult call() throws Exception {
                 GetTopicAttributesResult result = null;
                 try {
@@ -1925,10 +1925,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
+    public SdkFuture<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
+        return AsyncRuntime.submit(executorService, listEndpointsByPlatformApplicationRequest, new Callable<ListEndpointsByPlatformApplicationResult>() {
             public ListEndpointsByPlatformApplicationResult call() throws Exception {
                 return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
             }
@@ -1971,11 +1971,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
+    public SdkFuture<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest,
             final AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
+        return AsyncRuntime.submit(executorService, listEndpointsByPlatformApplicationRequest, new Callable<ListEndpointsByPlatformApplicationResult>() {
             public ListEndpointsByPlatformApplicationResult call() throws Exception {
                 ListEndpointsByPlatformApplicationResult result = null;
                 try {
@@ -2016,10 +2016,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListOriginationNumbersResult> listOriginationNumbersAsync(
+    public SdkFuture<ListOriginationNumbersResult> listOriginationNumbersAsync(
             final ListOriginationNumbersRequest listOriginationNumbersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOriginationNumbersResult>() {
+        return AsyncRuntime.submit(executorService, listOriginationNumbersRequest, new Callable<ListOriginationNumbersResult>() {
             public ListOriginationNumbersResult call() throws Exception {
                 return listOriginationNumbers(listOriginationNumbersRequest);
             }
@@ -2052,11 +2052,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListOriginationNumbersResult> listOriginationNumbersAsync(
+    public SdkFuture<ListOriginationNumbersResult> listOriginationNumbersAsync(
             final ListOriginationNumbersRequest listOriginationNumbersRequest,
             final AsyncHandler<ListOriginationNumbersRequest, ListOriginationNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOriginationNumbersResult>() {
+        return AsyncRuntime.submit(executorService, listOriginationNumbersRequest, new Callable<ListOriginationNumbersResult>() {
             public ListOriginationNumbersResult call() throws Exception {
                 ListOriginationNumbersResult result = null;
                 try {
@@ -2105,10 +2105,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
+    public SdkFuture<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
+        return AsyncRuntime.submit(executorService, listPhoneNumbersOptedOutRequest, new Callable<ListPhoneNumbersOptedOutResult>() {
             public ListPhoneNumbersOptedOutResult call() throws Exception {
                 return listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
             }
@@ -2149,11 +2149,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
+    public SdkFuture<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest,
             final AsyncHandler<ListPhoneNumbersOptedOutRequest, ListPhoneNumbersOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
+        return AsyncRuntime.submit(executorService, listPhoneNumbersOptedOutRequest, new Callable<ListPhoneNumbersOptedOutResult>() {
             public ListPhoneNumbersOptedOutResult call() throws Exception {
                 ListPhoneNumbersOptedOutResult result = null;
                 try {
@@ -2203,10 +2203,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
+    public SdkFuture<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
+        return AsyncRuntime.submit(executorService, listPlatformApplicationsRequest, new Callable<ListPlatformApplicationsResult>() {
             public ListPlatformApplicationsResult call() throws Exception {
                 return listPlatformApplications(listPlatformApplicationsRequest);
             }
@@ -2248,11 +2248,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
+    public SdkFuture<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest,
             final AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
+        return AsyncRuntime.submit(executorService, listPlatformApplicationsRequest, new Callable<ListPlatformApplicationsResult>() {
             public ListPlatformApplicationsResult call() throws Exception {
                 ListPlatformApplicationsResult result = null;
                 try {
@@ -2302,10 +2302,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSMSSandboxPhoneNumbersResult> listSMSSandboxPhoneNumbersAsync(
+    public SdkFuture<ListSMSSandboxPhoneNumbersResult> listSMSSandboxPhoneNumbersAsync(
             final ListSMSSandboxPhoneNumbersRequest listSMSSandboxPhoneNumbersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSMSSandboxPhoneNumbersResult>() {
+        return AsyncRuntime.submit(executorService, listSMSSandboxPhoneNumbersRequest, new Callable<ListSMSSandboxPhoneNumbersResult>() {
             public ListSMSSandboxPhoneNumbersResult call() throws Exception {
                 return listSMSSandboxPhoneNumbers(listSMSSandboxPhoneNumbersRequest);
             }
@@ -2347,11 +2347,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSMSSandboxPhoneNumbersResult> listSMSSandboxPhoneNumbersAsync(
+    public SdkFuture<ListSMSSandboxPhoneNumbersResult> listSMSSandboxPhoneNumbersAsync(
             final ListSMSSandboxPhoneNumbersRequest listSMSSandboxPhoneNumbersRequest,
             final AsyncHandler<ListSMSSandboxPhoneNumbersRequest, ListSMSSandboxPhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSMSSandboxPhoneNumbersResult>() {
+        return AsyncRuntime.submit(executorService, listSMSSandboxPhoneNumbersRequest, new Callable<ListSMSSandboxPhoneNumbersResult>() {
             public ListSMSSandboxPhoneNumbersResult call() throws Exception {
                 ListSMSSandboxPhoneNumbersResult result = null;
                 try {
@@ -2395,10 +2395,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsResult> listSubscriptionsAsync(
+    public SdkFuture<ListSubscriptionsResult> listSubscriptionsAsync(
             final ListSubscriptionsRequest listSubscriptionsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
+        return AsyncRuntime.submit(executorService, listSubscriptionsRequest, new Callable<ListSubscriptionsResult>() {
             public ListSubscriptionsResult call() throws Exception {
                 return listSubscriptions(listSubscriptionsRequest);
             }
@@ -2434,11 +2434,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsResult> listSubscriptionsAsync(
+    public SdkFuture<ListSubscriptionsResult> listSubscriptionsAsync(
             final ListSubscriptionsRequest listSubscriptionsRequest,
             final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
+        return AsyncRuntime.submit(executorService, listSubscriptionsRequest, new Callable<ListSubscriptionsResult>() {
             public ListSubscriptionsResult call() throws Exception {
                 ListSubscriptionsResult result = null;
                 try {
@@ -2483,10 +2483,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
+    public SdkFuture<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
+        return AsyncRuntime.submit(executorService, listSubscriptionsByTopicRequest, new Callable<ListSubscriptionsByTopicResult>() {
             public ListSubscriptionsByTopicResult call() throws Exception {
                 return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
             }
@@ -2523,11 +2523,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
+    public SdkFuture<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
             final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
+        return AsyncRuntime.submit(executorService, listSubscriptionsByTopicRequest, new Callable<ListSubscriptionsByTopicResult>() {
             public ListSubscriptionsByTopicResult call() throws Exception {
                 ListSubscriptionsByTopicResult result = null;
                 try {
@@ -2568,10 +2568,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 return listTagsForResource(listTagsForResourceRequest);
             }
@@ -2604,11 +2604,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 ListTagsForResourceResult result = null;
                 try {
@@ -2649,9 +2649,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest)
+    public SdkFuture<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
+        return AsyncRuntime.submit(executorService, listTopicsRequest, new Callable<ListTopicsResult>() {
             public ListTopicsResult call() throws Exception {
                 return listTopics(listTopicsRequest);
             }
@@ -2684,10 +2684,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest,
+    public SdkFuture<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest,
             final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
+        return AsyncRuntime.submit(executorService, listTopicsRequest, new Callable<ListTopicsResult>() {
             public ListTopicsResult call() throws Exception {
                 ListTopicsResult result = null;
                 try {
@@ -2729,10 +2729,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<OptInPhoneNumberResult> optInPhoneNumberAsync(
+    public SdkFuture<OptInPhoneNumberResult> optInPhoneNumberAsync(
             final OptInPhoneNumberRequest optInPhoneNumberRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, optInPhoneNumberRequest, new Callable<OptInPhoneNumberResult>() {
             public OptInPhoneNumberResult call() throws Exception {
                 return optInPhoneNumber(optInPhoneNumberRequest);
             }
@@ -2766,11 +2766,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<OptInPhoneNumberResult> optInPhoneNumberAsync(
+    public SdkFuture<OptInPhoneNumberResult> optInPhoneNumberAsync(
             final OptInPhoneNumberRequest optInPhoneNumberRequest,
             final AsyncHandler<OptInPhoneNumberRequest, OptInPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, optInPhoneNumberRequest, new Callable<OptInPhoneNumberResult>() {
             public OptInPhoneNumberResult call() throws Exception {
                 OptInPhoneNumberResult result = null;
                 try {
@@ -2848,9 +2848,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<PublishResult> publishAsync(final PublishRequest publishRequest)
+    public SdkFuture<PublishResult> publishAsync(final PublishRequest publishRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
+        return AsyncRuntime.submit(executorService, publishRequest, new Callable<PublishResult>() {
             public PublishResult call() throws Exception {
                 return publish(publishRequest);
             }
@@ -2920,10 +2920,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<PublishResult> publishAsync(final PublishRequest publishRequest,
+    public SdkFuture<PublishResult> publishAsync(final PublishRequest publishRequest,
             final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
+        return AsyncRuntime.submit(executorService, publishRequest, new Callable<PublishResult>() {
             public PublishResult call() throws Exception {
                 PublishResult result = null;
                 try {
@@ -3011,10 +3011,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<PublishBatchResult> publishBatchAsync(
+    public SdkFuture<PublishBatchResult> publishBatchAsync(
             final PublishBatchRequest publishBatchRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PublishBatchResult>() {
+        return AsyncRuntime.submit(executorService, publishBatchRequest, new Callable<PublishBatchResult>() {
             public PublishBatchResult call() throws Exception {
                 return publishBatch(publishBatchRequest);
             }
@@ -3094,11 +3094,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<PublishBatchResult> publishBatchAsync(
+    public SdkFuture<PublishBatchResult> publishBatchAsync(
             final PublishBatchRequest publishBatchRequest,
             final AsyncHandler<PublishBatchRequest, PublishBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishBatchResult>() {
+        return AsyncRuntime.submit(executorService, publishBatchRequest, new Callable<PublishBatchResult>() {
             public PublishBatchResult call() throws Exception {
                 PublishBatchResult result = null;
                 try {
@@ -3136,9 +3136,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
+    public SdkFuture<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, removePermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 removePermission(removePermissionRequest);
                 return null;
@@ -3169,11 +3169,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> removePermissionAsync(
+    public SdkFuture<Void> removePermissionAsync(
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, removePermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -3215,10 +3215,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setEndpointAttributesAsync(
+    public SdkFuture<Void> setEndpointAttributesAsync(
             final SetEndpointAttributesRequest setEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setEndpointAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 setEndpointAttributes(setEndpointAttributesRequest);
                 return null;
@@ -3253,11 +3253,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setEndpointAttributesAsync(
+    public SdkFuture<Void> setEndpointAttributesAsync(
             final SetEndpointAttributesRequest setEndpointAttributesRequest,
             final AsyncHandler<SetEndpointAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setEndpointAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -3302,10 +3302,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setPlatformApplicationAttributesAsync(
+    public SdkFuture<Void> setPlatformApplicationAttributesAsync(
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setPlatformApplicationAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
                 return null;
@@ -3343,11 +3343,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setPlatformApplicationAttributesAsync(
+    public SdkFuture<Void> setPlatformApplicationAttributesAsync(
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest,
             final AsyncHandler<SetPlatformApplicationAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setPlatformApplicationAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -3402,10 +3402,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SetSMSAttributesResult> setSMSAttributesAsync(
+    public SdkFuture<SetSMSAttributesResult> setSMSAttributesAsync(
             final SetSMSAttributesRequest setSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
+        return AsyncRuntime.submit(executorService, setSMSAttributesRequest, new Callable<SetSMSAttributesResult>() {
             public SetSMSAttributesResult call() throws Exception {
                 return setSMSAttributes(setSMSAttributesRequest);
             }
@@ -3452,11 +3452,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SetSMSAttributesResult> setSMSAttributesAsync(
+    public SdkFuture<SetSMSAttributesResult> setSMSAttributesAsync(
             final SetSMSAttributesRequest setSMSAttributesRequest,
             final AsyncHandler<SetSMSAttributesRequest, SetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
+        return AsyncRuntime.submit(executorService, setSMSAttributesRequest, new Callable<SetSMSAttributesResult>() {
             public SetSMSAttributesResult call() throws Exception {
                 SetSMSAttributesResult result = null;
                 try {
@@ -3496,10 +3496,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setSubscriptionAttributesAsync(
+    public SdkFuture<Void> setSubscriptionAttributesAsync(
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setSubscriptionAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 setSubscriptionAttributes(setSubscriptionAttributesRequest);
                 return null;
@@ -3532,11 +3532,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setSubscriptionAttributesAsync(
+    public SdkFuture<Void> setSubscriptionAttributesAsync(
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
             final AsyncHandler<SetSubscriptionAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setSubscriptionAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -3575,10 +3575,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setTopicAttributesAsync(
+    public SdkFuture<Void> setTopicAttributesAsync(
             final SetTopicAttributesRequest setTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setTopicAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 setTopicAttributes(setTopicAttributesRequest);
                 return null;
@@ -3610,11 +3610,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setTopicAttributesAsync(
+    public SdkFuture<Void> setTopicAttributesAsync(
             final SetTopicAttributesRequest setTopicAttributesRequest,
             final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setTopicAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -3665,9 +3665,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest)
+    public SdkFuture<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
+        return AsyncRuntime.submit(executorService, subscribeRequest, new Callable<SubscribeResult>() {
             public SubscribeResult call() throws Exception {
                 return subscribe(subscribeRequest);
             }
@@ -3710,10 +3710,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest,
+    public SdkFuture<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest,
             final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
+        return AsyncRuntime.submit(executorService, subscribeRequest, new Callable<SubscribeResult>() {
             public SubscribeResult call() throws Exception {
                 SubscribeResult result = null;
                 try {
@@ -3790,9 +3790,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public SdkFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<TagResourceResult>() {
             public TagResourceResult call() throws Exception {
                 return tagResource(tagResourceRequest);
             }
@@ -3861,10 +3861,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public SdkFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<TagResourceResult>() {
             public TagResourceResult call() throws Exception {
                 TagResourceResult result = null;
                 try {
@@ -3913,9 +3913,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest)
+    public SdkFuture<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, unsubscribeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 unsubscribe(unsubscribeRequest);
                 return null;
@@ -3957,10 +3957,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest,
+    public SdkFuture<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest,
             final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, unsubscribeRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -4001,10 +4001,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public SdkFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<UntagResourceResult>() {
             public UntagResourceResult call() throws Exception {
                 return untagResource(untagResourceRequest);
             }
@@ -4037,11 +4037,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public SdkFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<UntagResourceResult>() {
             public UntagResourceResult call() throws Exception {
                 UntagResourceResult result = null;
                 try {
@@ -4092,10 +4092,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<VerifySMSSandboxPhoneNumberResult> verifySMSSandboxPhoneNumberAsync(
+    public SdkFuture<VerifySMSSandboxPhoneNumberResult> verifySMSSandboxPhoneNumberAsync(
             final VerifySMSSandboxPhoneNumberRequest verifySMSSandboxPhoneNumberRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifySMSSandboxPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, verifySMSSandboxPhoneNumberRequest, new Callable<VerifySMSSandboxPhoneNumberResult>() {
             public VerifySMSSandboxPhoneNumberResult call() throws Exception {
                 return verifySMSSandboxPhoneNumber(verifySMSSandboxPhoneNumberRequest);
             }
@@ -4138,11 +4138,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<VerifySMSSandboxPhoneNumberResult> verifySMSSandboxPhoneNumberAsync(
+    public SdkFuture<VerifySMSSandboxPhoneNumberResult> verifySMSSandboxPhoneNumberAsync(
             final VerifySMSSandboxPhoneNumberRequest verifySMSSandboxPhoneNumberRequest,
             final AsyncHandler<VerifySMSSandboxPhoneNumberRequest, VerifySMSSandboxPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifySMSSandboxPhoneNumberResult>() {
+        return AsyncRuntime.submit(executorService, verifySMSSandboxPhoneNumberRequest, new Callable<VerifySMSSandboxPhoneNumberResult>() {
             public VerifySMSSandboxPhoneNumberResult call() throws Exception {
                 VerifySMSSandboxPhoneNumberResult result = null;
                 try {
@@ -17,11 +17,11 @@ package com.amazonaws.services.sqs;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -179,15 +179,15 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     @Deprecated
     public AmazonSQSAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * SQS using the specified AWS account credentials. Default client settings
-     * will be used, and a fixed size thread pool will be created for executing
-     * the asynchronous tasks.
+     * will be used, and the asynchronous tasks will be executed by the runtime
+     * shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -197,7 +197,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *            to use when authenticating with AWS services.
      */
     public AmazonSQSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -244,8 +244,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * SQS using the specified AWS account credentials provider. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -256,7 +256,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *            services.
      */
     public AmazonSQSAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -296,8 +296,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public AmazonSQSAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -397,9 +397,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
+    public SdkFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, addPermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 addPermission(addPermissionRequest);
                 return null;
@@ -457,10 +457,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
+    public SdkFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, addPermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -538,10 +538,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> changeMessageVisibilityAsync(
+    public SdkFuture<Void> changeMessageVisibilityAsync(
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, changeMessageVisibilityRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 changeMessageVisibility(changeMessageVisibilityRequest);
                 return null;
@@ -612,11 +612,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> changeMessageVisibilityAsync(
+    public SdkFuture<Void> changeMessageVisibilityAsync(
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
             final AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, changeMessageVisibilityRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -676,10 +676,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
+    public SdkFuture<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
+        return AsyncRuntime.submit(executorService, changeMessageVisibilityBatchRequest, new Callable<ChangeMessageVisibilityBatchResult>() {
             public ChangeMessageVisibilityBatchResult call() throws Exception {
                 return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
             }
@@ -731,11 +731,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
+    public SdkFuture<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest,
             final AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
+        return AsyncRuntime.submit(executorService, changeMessageVisibilityBatchRequest, new Callable<ChangeMessageVisibilityBatchResult>() {
             public ChangeMessageVisibilityBatchResult call() throws Exception {
                 ChangeMessageVisibilityBatchResult result = null;
                 try {
@@ -837,9 +837,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
+    public SdkFuture<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
+        return AsyncRuntime.submit(executorService, createQueueRequest, new Callable<CreateQueueResult>() {
             public CreateQueueResult call() throws Exception {
                 return createQueue(createQueueRequest);
             }
@@ -933,10 +933,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
+    public SdkFuture<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
+        return AsyncRuntime.submit(executorService, createQueueRequest, new Callable<CreateQueueResult>() {
             public CreateQueueResult call() throws Exception {
                 CreateQueueResult result = null;
                 try {
@@ -995,9 +995,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest)
+    public SdkFuture<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteMessageRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteMessage(deleteMessageRequest);
                 return null;
@@ -1049,10 +1049,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest,
+    public SdkFuture<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest,
             final AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteMessageRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1109,10 +1109,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(
+    public SdkFuture<DeleteMessageBatchResult> deleteMessageBatchAsync(
             final DeleteMessageBatchRequest deleteMessageBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
+        return AsyncRuntime.submit(executorService, deleteMessageBatchRequest, new Callable<DeleteMessageBatchResult>() {
             public DeleteMessageBatchResult call() throws Exception {
                 return deleteMessageBatch(deleteMessageBatchRequest);
             }
@@ -1161,11 +1161,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(
+    public SdkFuture<DeleteMessageBatchResult> deleteMessageBatchAsync(
             final DeleteMessageBatchRequest deleteMessageBatchRequest,
             final AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
+        return AsyncRuntime.submit(executorService, deleteMessageBatchRequest, new Callable<DeleteMessageBatchResult>() {
             public DeleteMessageBatchResult call() throws Exception {
                 DeleteMessageBatchResult result = null;
                 try {
@@ -1218,9 +1218,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
+    public SdkFuture<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteQueue(deleteQueueRequest);
                 return null;
@@ -1266,10 +1266,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
+    public SdkFuture<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
             final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1315,10 +1315,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueAttributesResult> getQueueAttributesAsync(
+    public SdkFuture<GetQueueAttributesResult> getQueueAttributesAsync(
             final GetQueueAttributesRequest getQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getQueueAttributesRequest, new Callable<GetQueueAttributesResult>() {
             public GetQueueAttributesResult call() throws Exception {
                 return getQueueAttributes(getQueueAttributesRequest);
             }
@@ -1356,11 +1356,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueAttributesResult> getQueueAttributesAsync(
+    public SdkFuture<GetQueueAttributesResult> getQueueAttributesAsync(
             final GetQueueAttributesRequest getQueueAttributesRequest,
             final AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
+        return AsyncRuntime.submit(executorService, getQueueAttributesRequest, new Callable<GetQueueAttributesResult>() {
             public GetQueueAttributesResult call() throws Exception {
                 GetQueueAttributesResult result = null;
                 try {
@@ -1402,9 +1402,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest)
+    public SdkFuture<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
+        return AsyncRuntime.submit(executorService, getQueueUrlRequest, new Callable<GetQueueUrlResult>() {
             public GetQueueUrlResult call() throws Exception {
                 return getQueueUrl(getQueueUrlRequest);
             }
@@ -1438,10 +1438,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest,
+    public SdkFuture<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest,
             final AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
+        return AsyncRuntime.submit(executorService, getQueueUrlRequest, new Callable<GetQueueUrlResult>() {
             public GetQueueUrlResult call() throws Exception {
                 GetQueueUrlResult result = null;
                 try {
@@ -1481,10 +1481,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
+    public SdkFuture<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listDeadLetterSourceQueuesRequest, new Callable<ListDeadLetterSourceQueuesResult>() {
             public ListDeadLetterSourceQueuesResult call() throws Exception {
                 return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
             }
@@ -1516,11 +1516,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
+    public SdkFuture<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest,
             final AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listDeadLetterSourceQueuesRequest, new Callable<ListDeadLetterSourceQueuesResult>() {
             public ListDeadLetterSourceQueuesResult call() throws Exception {
                 ListDeadLetterSourceQueuesResult result = null;
                 try {
@@ -1554,9 +1554,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
+    public SdkFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listQueuesRequest, new Callable<ListQueuesResult>() {
             public ListQueuesResult call() throws Exception {
                 return listQueues(listQueuesRequest);
             }
@@ -1582,10 +1582,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
+    public SdkFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
+        return AsyncRuntime.submit(executorService, listQueuesRequest, new Callable<ListQueuesResult>() {
             public ListQueuesResult call() throws Exception {
                 ListQueuesResult result = null;
                 try {
@@ -1632,9 +1632,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest)
+    public SdkFuture<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, purgeQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 purgeQueue(purgeQueueRequest);
                 return null;
@@ -1674,10 +1674,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest,
+    public SdkFuture<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest,
             final AsyncHandler<PurgeQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, purgeQueueRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1790,10 +1790,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ReceiveMessageResult> receiveMessageAsync(
+    public SdkFuture<ReceiveMessageResult> receiveMessageAsync(
             final ReceiveMessageRequest receiveMessageRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
+        return AsyncRuntime.submit(executorService, receiveMessageRequest, new Callable<ReceiveMessageResult>() {
             public ReceiveMessageResult call() throws Exception {
                 return receiveMessage(receiveMessageRequest);
             }
@@ -1898,11 +1898,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ReceiveMessageResult> receiveMessageAsync(
+    public SdkFuture<ReceiveMessageResult> receiveMessageAsync(
             final ReceiveMessageRequest receiveMessageRequest,
             final AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
+        return AsyncRuntime.submit(executorService, receiveMessageRequest, new Callable<ReceiveMessageResult>() {
             public ReceiveMessageResult call() throws Exception {
                 ReceiveMessageResult result = null;
                 try {
@@ -1935,9 +1935,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
+    public SdkFuture<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, removePermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 removePermission(removePermissionRequest);
                 return null;
@@ -1963,11 +1963,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> removePermissionAsync(
+    public SdkFuture<Void> removePermissionAsync(
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, removePermissionRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -2017,9 +2017,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
+    public SdkFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
+        return AsyncRuntime.submit(executorService, sendMessageRequest, new Callable<SendMessageResult>() {
             public SendMessageResult call() throws Exception {
                 return sendMessage(sendMessageRequest);
             }
@@ -2061,10 +2061,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
+    public SdkFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
+        return AsyncRuntime.submit(executorService, sendMessageRequest, new Callable<SendMessageResult>() {
             public SendMessageResult call() throws Exception {
                 SendMessageResult result = null;
                 try {
@@ -2149,10 +2149,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageBatchResult> sendMessageBatchAsync(
+    public SdkFuture<SendMessageBatchResult> sendMessageBatchAsync(
             final SendMessageBatchRequest sendMessageBatchRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
+        return AsyncRuntime.submit(executorService, sendMessageBatchRequest, new Callable<SendMessageBatchResult>() {
             public SendMessageBatchResult call() throws Exception {
                 return sendMessageBatch(sendMessageBatchRequest);
             }
@@ -2229,11 +2229,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageBatchResult> sendMessageBatchAsync(
+    public SdkFuture<SendMessageBatchResult> sendMessageBatchAsync(
             final SendMessageBatchRequest sendMessageBatchRequest,
             final AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
+        return AsyncRuntime.submit(executorService, sendMessageBatchRequest, new Callable<SendMessageBatchResult>() {
             public SendMessageBatchResult call() throws Exception {
                 SendMessageBatchResult result = null;
                 try {
@@ -2275,10 +2275,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> setQueueAttributesAsync(
+    public SdkFuture<Void> setQueueAttributesAsync(
             final SetQueueAttributesRequest setQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setQueueAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 setQueueAttributes(setQueueAttributesRequest);
                 return null;
@@ -2313,11 +2313,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> setQueueAttributesAsync(
+    public SdkFuture<Void> setQueueAttributesAsync(
             final SetQueueAttributesRequest setQueueAttributesRequest,
             final AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, setQueueAttributesRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -17,11 +17,11 @@ package com.amazonaws.services.textract;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -89,15 +89,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      */
     @Deprecated
     public AmazonTextractAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Textract using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -107,7 +107,7 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *            to use when authenticating with AWS services.
      */
     public AmazonTextractAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -154,8 +154,8 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Textract using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +166,7 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *            services.
      */
     public AmazonTextractAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      */
     public AmazonTextractAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -334,10 +334,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeDocumentResult> analyzeDocumentAsync(
+    public SdkFuture<AnalyzeDocumentResult> analyzeDocumentAsync(
             final AnalyzeDocumentRequest analyzeDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
+        return AsyncRuntime.submit(executorService, analyzeDocumentRequest, new Callable<AnalyzeDocumentResult>() {
             public AnalyzeDocumentResult call() throws Exception {
                 return analyzeDocument(analyzeDocumentRequest);
             }
@@ -421,11 +421,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeDocumentResult> analyzeDocumentAsync(
+    public SdkFuture<AnalyzeDocumentResult> analyzeDocumentAsync(
             final AnalyzeDocumentRequest analyzeDocumentRequest,
             final AsyncHandler<AnalyzeDocumentRequest, AnalyzeDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
+        return AsyncRuntime.submit(executorService, analyzeDocumentRequest, new Callable<AnalyzeDocumentResult>() {
             public AnalyzeDocumentResult call() throws Exception {
                 AnalyzeDocumentResult result = null;
                 try {
@@ -485,10 +485,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeExpenseResult> analyzeExpenseAsync(
+    public SdkFuture<AnalyzeExpenseResult> analyzeExpenseAsync(
             final AnalyzeExpenseRequest analyzeExpenseRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeExpenseResult>() {
+        return AsyncRuntime.submit(executorService, analyzeExpenseRequest, new Callable<AnalyzeExpenseResult>() {
             public AnalyzeExpenseResult call() throws Exception {
                 return analyzeExpense(analyzeExpenseRequest);
             }
@@ -540,11 +540,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeExpenseResult> analyzeExpenseAsync(
+    public SdkFuture<AnalyzeExpenseResult> analyzeExpenseAsync(
             final AnalyzeExpenseRequest analyzeExpenseRequest,
             final AsyncHandler<AnalyzeExpenseRequest, AnalyzeExpenseResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeExpenseResult>() {
+        return AsyncRuntime.submit(executorService, analyzeExpenseRequest, new Callable<AnalyzeExpenseResult>() {
             public AnalyzeExpenseResult call() throws Exception {
                 AnalyzeExpenseResult result = null;
                 try {
@@ -586,9 +586,9 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeIDResult> analyzeIDAsync(final AnalyzeIDRequest analyzeIDRequest)
+    public SdkFuture<AnalyzeIDResult> analyzeIDAsync(final AnalyzeIDRequest analyzeIDRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeIDResult>() {
+        return AsyncRuntime.submit(executorService, analyzeIDRequest, new Callable<AnalyzeIDResult>() {
             public AnalyzeIDResult call() throws Exception {
                 return analyzeID(analyzeIDRequest);
             }
@@ -622,10 +622,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeIDResult> analyzeIDAsync(final AnalyzeIDRequest analyzeIDRequest,
+    public SdkFuture<AnalyzeIDResult> analyzeIDAsync(final AnalyzeIDRequest analyzeIDRequest,
             final AsyncHandler<AnalyzeIDRequest, AnalyzeIDResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeIDResult>() {
+        return AsyncRuntime.submit(executorService, analyzeIDRequest, new Callable<AnalyzeIDResult>() {
             public AnalyzeIDResult call() throws Exception {
                 AnalyzeIDResult result = null;
                 try {
@@ -686,10 +686,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDocumentTextResult> detectDocumentTextAsync(
+    public SdkFuture<DetectDocumentTextResult> detectDocumentTextAsync(
             final DetectDocumentTextRequest detectDocumentTextRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
+        return AsyncRuntime.submit(executorService, detectDocumentTextRequest, new Callable<DetectDocumentTextResult>() {
             public DetectDocumentTextResult call() throws Exception {
                 return detectDocumentText(detectDocumentTextRequest);
             }
@@ -742,11 +742,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDocumentTextResult> detectDocumentTextAsync(
+    public SdkFuture<DetectDocumentTextResult> detectDocumentTextAsync(
             final DetectDocumentTextRequest detectDocumentTextRequest,
             final AsyncHandler<DetectDocumentTextRequest, DetectDocumentTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
+        return AsyncRuntime.submit(executorService, detectDocumentTextRequest, new Callable<DetectDocumentTextResult>() {
             public DetectDocumentTextResult call() throws Exception {
                 DetectDocumentTextResult result = null;
                 try {
@@ -852,10 +852,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
+    public SdkFuture<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, getDocumentAnalysisRequest, new Callable<GetDocumentAnalysisResult>() {
             public GetDocumentAnalysisResult call() throws Exception {
                 return getDocumentAnalysis(getDocumentAnalysisRequest);
             }
@@ -953,11 +953,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
+    public SdkFuture<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest,
             final AsyncHandler<GetDocumentAnalysisRequest, GetDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, getDocumentAnalysisRequest, new Callable<GetDocumentAnalysisResult>() {
             public GetDocumentAnalysisResult call() throws Exception {
                 GetDocumentAnalysisResult result = null;
                 try {
@@ -1039,10 +1039,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
+    public SdkFuture<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
+        return AsyncRuntime.submit(executorService, getDocumentTextDetectionRequest, new Callable<GetDocumentTextDetectionResult>() {
             public GetDocumentTextDetectionResult call() throws Exception {
                 return getDocumentTextDetection(getDocumentTextDetectionRequest);
             }
@@ -1116,11 +1116,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
+    public SdkFuture<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest,
             final AsyncHandler<GetDocumentTextDetectionRequest, GetDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
+        return AsyncRuntime.submit(executorService, getDocumentTextDetectionRequest, new Callable<GetDocumentTextDetectionResult>() {
             public GetDocumentTextDetectionResult call() throws Exception {
                 GetDocumentTextDetectionResult result = null;
                 try {
@@ -1191,10 +1191,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetExpenseAnalysisResult> getExpenseAnalysisAsync(
+    public SdkFuture<GetExpenseAnalysisResult> getExpenseAnalysisAsync(
             final GetExpenseAnalysisRequest getExpenseAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetExpenseAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, getExpenseAnalysisRequest, new Callable<GetExpenseAnalysisResult>() {
             public GetExpenseAnalysisResult call() throws Exception {
                 return getExpenseAnalysis(getExpenseAnalysisRequest);
             }
@@ -1257,11 +1257,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetExpenseAnalysisResult> getExpenseAnalysisAsync(
+    public SdkFuture<GetExpenseAnalysisResult> getExpenseAnalysisAsync(
             final GetExpenseAnalysisRequest getExpenseAnalysisRequest,
             final AsyncHandler<GetExpenseAnalysisRequest, GetExpenseAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetExpenseAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, getExpenseAnalysisRequest, new Callable<GetExpenseAnalysisResult>() {
             public GetExpenseAnalysisResult call() throws Exception {
                 GetExpenseAnalysisResult result = null;
                 try {
@@ -1330,10 +1330,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
+    public SdkFuture<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, startDocumentAnalysisRequest, new Callable<StartDocumentAnalysisResult>() {
             public StartDocumentAnalysisResult call() throws Exception {
                 return startDocumentAnalysis(startDocumentAnalysisRequest);
             }
@@ -1394,11 +1394,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
+    public SdkFuture<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest,
             final AsyncHandler<StartDocumentAnalysisRequest, StartDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, startDocumentAnalysisRequest, new Callable<StartDocumentAnalysisResult>() {
             public StartDocumentAnalysisResult call() throws Exception {
                 StartDocumentAnalysisResult result = null;
                 try {
@@ -1466,10 +1466,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
+    public SdkFuture<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
+        return AsyncRuntime.submit(executorService, startDocumentTextDetectionRequest, new Callable<StartDocumentTextDetectionResult>() {
             public StartDocumentTextDetectionResult call() throws Exception {
                 return startDocumentTextDetection(startDocumentTextDetectionRequest);
             }
@@ -1529,11 +1529,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
+    public SdkFuture<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest,
             final AsyncHandler<StartDocumentTextDetectionRequest, StartDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
+        return AsyncRuntime.submit(executorService, startDocumentTextDetectionRequest, new Callable<StartDocumentTextDetectionResult>() {
             public StartDocumentTextDetectionResult call() throws Exception {
                 StartDocumentTextDetectionResult result = null;
                 try {
@@ -1603,10 +1603,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartExpenseAnalysisResult> startExpenseAnalysisAsync(
+    public SdkFuture<StartExpenseAnalysisResult> startExpenseAnalysisAsync(
             final StartExpenseAnalysisRequest startExpenseAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartExpenseAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, startExpenseAnalysisRequest, new Callable<StartExpenseAnalysisResult>() {
             public StartExpenseAnalysisResult call() throws Exception {
                 return startExpenseAnalysis(startExpenseAnalysisRequest);
             }
@@ -1668,11 +1668,11 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartExpenseAnalysisResult> startExpenseAnalysisAsync(
+    public SdkFuture<StartExpenseAnalysisResult> startExpenseAnalysisAsync(
             final StartExpenseAnalysisRequest startExpenseAnalysisRequest,
             final AsyncHandler<StartExpenseAnalysisRequest, StartExpenseAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartExpenseAnalysisResult>() {
+        return AsyncRuntime.submit(executorService, startExpenseAnalysisRequest, new Callable<StartExpenseAnalysisResult>() {
             public StartExpenseAnalysisResult call() throws Exception {
                 StartExpenseAnalysisResult result = null;
                 try {
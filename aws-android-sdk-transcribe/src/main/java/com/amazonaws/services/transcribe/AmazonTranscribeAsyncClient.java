@@ -17,11 +17,11 @@ package com.amazonaws.services.transcribe;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -88,15 +88,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     @Deprecated
     public AmazonTranscribeAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Transcribe using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -106,7 +106,7 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *            to use when authenticating with AWS services.
      */
     public AmazonTranscribeAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -154,8 +154,8 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Transcribe using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +166,7 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *            services.
      */
     public AmazonTranscribeAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     public AmazonTranscribeAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -284,10 +284,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateCallAnalyticsCategoryResult> createCallAnalyticsCategoryAsync(
+    public SdkFuture<CreateCallAnalyticsCategoryResult> createCallAnalyticsCategoryAsync(
             final CreateCallAnalyticsCategoryRequest createCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, createCallAnalyticsCategoryRequest, new Callable<CreateCallAnalyticsCategoryResult>() {
             public CreateCallAnalyticsCategoryResult call() throws Exception {
                 return createCallAnalyticsCategory(createCallAnalyticsCategoryRequest);
             }
@@ -321,11 +321,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateCallAnalyticsCategoryResult> createCallAnalyticsCategoryAsync(
+    public SdkFuture<CreateCallAnalyticsCategoryResult> createCallAnalyticsCategoryAsync(
             final CreateCallAnalyticsCategoryRequest createCallAnalyticsCategoryRequest,
             final AsyncHandler<CreateCallAnalyticsCategoryRequest, CreateCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, createCallAnalyticsCategoryRequest, new Callable<CreateCallAnalyticsCategoryResult>() {
             public CreateCallAnalyticsCategoryResult call() throws Exception {
                 CreateCallAnalyticsCategoryResult result = null;
                 try {
@@ -363,10 +363,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateLanguageModelResult> createLanguageModelAsync(
+    public SdkFuture<CreateLanguageModelResult> createLanguageModelAsync(
             final CreateLanguageModelRequest createLanguageModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLanguageModelResult>() {
+        return AsyncRuntime.submit(executorService, createLanguageModelRequest, new Callable<CreateLanguageModelResult>() {
             public CreateLanguageModelResult call() throws Exception {
                 return createLanguageModel(createLanguageModelRequest);
             }
@@ -396,11 +396,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateLanguageModelResult> createLanguageModelAsync(
+    public SdkFuture<CreateLanguageModelResult> createLanguageModelAsync(
             final CreateLanguageModelRequest createLanguageModelRequest,
             final AsyncHandler<CreateLanguageModelRequest, CreateLanguageModelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLanguageModelResult>() {
+        return AsyncRuntime.submit(executorService, createLanguageModelRequest, new Callable<CreateLanguageModelResult>() {
             public CreateLanguageModelResult call() throws Exception {
                 CreateLanguageModelResult result = null;
                 try {
@@ -437,10 +437,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateMedicalVocabularyResult> createMedicalVocabularyAsync(
+    public SdkFuture<CreateMedicalVocabularyResult> createMedicalVocabularyAsync(
             final CreateMedicalVocabularyRequest createMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateMedicalVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, createMedicalVocabularyRequest, new Callable<CreateMedicalVocabularyResult>() {
             public CreateMedicalVocabularyResult call() throws Exception {
                 return createMedicalVocabulary(createMedicalVocabularyRequest);
             }
@@ -469,11 +469,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateMedicalVocabularyResult> createMedicalVocabularyAsync(
+    public SdkFuture<CreateMedicalVocabularyResult> createMedicalVocabularyAsync(
             final CreateMedicalVocabularyRequest createMedicalVocabularyRequest,
             final AsyncHandler<CreateMedicalVocabularyRequest, CreateMedicalVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateMedicalVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, createMedicalVocabularyRequest, new Callable<CreateMedicalVocabularyResult>() {
             public CreateMedicalVocabularyResult call() throws Exception {
                 CreateMedicalVocabularyResult result = null;
                 try {
@@ -510,10 +510,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyResult> createVocabularyAsync(
+    public SdkFuture<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, createVocabularyRequest, new Callable<CreateVocabularyResult>() {
             public CreateVocabularyResult call() throws Exception {
                 return createVocabulary(createVocabularyRequest);
             }
@@ -542,11 +542,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyResult> createVocabularyAsync(
+    public SdkFuture<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest,
             final AsyncHandler<CreateVocabularyRequest, CreateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, createVocabularyRequest, new Callable<CreateVocabularyResult>() {
             public CreateVocabularyResult call() throws Exception {
                 CreateVocabularyResult result = null;
                 try {
@@ -583,10 +583,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyFilterResult> createVocabularyFilterAsync(
+    public SdkFuture<CreateVocabularyFilterResult> createVocabularyFilterAsync(
             final CreateVocabularyFilterRequest createVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyFilterResult>() {
+        return AsyncRuntime.submit(executorService, createVocabularyFilterRequest, new Callable<CreateVocabularyFilterResult>() {
             public CreateVocabularyFilterResult call() throws Exception {
                 return createVocabularyFilter(createVocabularyFilterRequest);
             }
@@ -615,11 +615,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyFilterResult> createVocabularyFilterAsync(
+    public SdkFuture<CreateVocabularyFilterResult> createVocabularyFilterAsync(
             final CreateVocabularyFilterRequest createVocabularyFilterRequest,
             final AsyncHandler<CreateVocabularyFilterRequest, CreateVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyFilterResult>() {
+        return AsyncRuntime.submit(executorService, createVocabularyFilterRequest, new Callable<CreateVocabularyFilterResult>() {
             public CreateVocabularyFilterResult call() throws Exception {
                 CreateVocabularyFilterResult result = null;
                 try {
@@ -655,10 +655,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteCallAnalyticsCategoryResult> deleteCallAnalyticsCategoryAsync(
+    public SdkFuture<DeleteCallAnalyticsCategoryResult> deleteCallAnalyticsCategoryAsync(
             final DeleteCallAnalyticsCategoryRequest deleteCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, deleteCallAnalyticsCategoryRequest, new Callable<DeleteCallAnalyticsCategoryResult>() {
             public DeleteCallAnalyticsCategoryResult call() throws Exception {
                 return deleteCallAnalyticsCategory(deleteCallAnalyticsCategoryRequest);
             }
@@ -686,11 +686,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteCallAnalyticsCategoryResult> deleteCallAnalyticsCategoryAsync(
+    public SdkFuture<DeleteCallAnalyticsCategoryResult> deleteCallAnalyticsCategoryAsync(
             final DeleteCallAnalyticsCategoryRequest deleteCallAnalyticsCategoryRequest,
             final AsyncHandler<DeleteCallAnalyticsCategoryRequest, DeleteCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, deleteCallAnalyticsCategoryRequest, new Callable<DeleteCallAnalyticsCategoryResult>() {
             public DeleteCallAnalyticsCategoryResult call() throws Exception {
                 DeleteCallAnalyticsCategoryResult result = null;
                 try {
@@ -725,10 +725,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteCallAnalyticsJobResult> deleteCallAnalyticsJobAsync(
+    public SdkFuture<DeleteCallAnalyticsJobResult> deleteCallAnalyticsJobAsync(
             final DeleteCallAnalyticsJobRequest deleteCallAnalyticsJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsJobResult>() {
+        return AsyncRuntime.submit(executorService, deleteCallAnalyticsJobRequest, new Callable<DeleteCallAnalyticsJobResult>() {
             public DeleteCallAnalyticsJobResult call() throws Exception {
                 return deleteCallAnalyticsJob(deleteCallAnalyticsJobRequest);
             }
@@ -755,11 +755,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteCallAnalyticsJobResult> deleteCallAnalyticsJobAsync(
+    public SdkFuture<DeleteCallAnalyticsJobResult> deleteCallAnalyticsJobAsync(
             final DeleteCallAnalyticsJobRequest deleteCallAnalyticsJobRequest,
             final AsyncHandler<DeleteCallAnalyticsJobRequest, DeleteCallAnalyticsJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteCallAnalyticsJobResult>() {
+        return AsyncRuntime.submit(executorService, deleteCallAnalyticsJobRequest, new Callable<DeleteCallAnalyticsJobResult>() {
             public DeleteCallAnalyticsJobResult call() throws Exception {
                 DeleteCallAnalyticsJobResult result = null;
                 try {
@@ -794,10 +794,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteLanguageModelAsync(
+    public SdkFuture<Void> deleteLanguageModelAsync(
             final DeleteLanguageModelRequest deleteLanguageModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteLanguageModelRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteLanguageModel(deleteLanguageModelRequest);
                 return null;
@@ -825,11 +825,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteLanguageModelAsync(
+    public SdkFuture<Void> deleteLanguageModelAsync(
             final DeleteLanguageModelRequest deleteLanguageModelRequest,
             final AsyncHandler<DeleteLanguageModelRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteLanguageModelRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -865,10 +865,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteMedicalTranscriptionJobAsync(
+    public SdkFuture<Void> deleteMedicalTranscriptionJobAsync(
             final DeleteMedicalTranscriptionJobRequest deleteMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteMedicalTranscriptionJobRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteMedicalTranscriptionJob(deleteMedicalTranscriptionJobRequest);
                 return null;
@@ -897,11 +897,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteMedicalTranscriptionJobAsync(
+    public SdkFuture<Void> deleteMedicalTranscriptionJobAsync(
             final DeleteMedicalTranscriptionJobRequest deleteMedicalTranscriptionJobRequest,
             final AsyncHandler<DeleteMedicalTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteMedicalTranscriptionJobRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -937,10 +937,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteMedicalVocabularyAsync(
+    public SdkFuture<Void> deleteMedicalVocabularyAsync(
             final DeleteMedicalVocabularyRequest deleteMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteMedicalVocabularyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteMedicalVocabulary(deleteMedicalVocabularyRequest);
                 return null;
@@ -969,11 +969,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteMedicalVocabularyAsync(
+    public SdkFuture<Void> deleteMedicalVocabularyAsync(
             final DeleteMedicalVocabularyRequest deleteMedicalVocabularyRequest,
             final AsyncHandler<DeleteMedicalVocabularyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteMedicalVocabularyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1009,10 +1009,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTranscriptionJobAsync(
+    public SdkFuture<Void> deleteTranscriptionJobAsync(
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTranscriptionJobRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTranscriptionJob(deleteTranscriptionJobRequest);
                 return null;
@@ -1041,11 +1041,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTranscriptionJobAsync(
+    public SdkFuture<Void> deleteTranscriptionJobAsync(
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest,
             final AsyncHandler<DeleteTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTranscriptionJobRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1081,9 +1081,9 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyAsync(final DeleteVocabularyRequest deleteVocabularyRequest)
+    public SdkFuture<Void> deleteVocabularyAsync(final DeleteVocabularyRequest deleteVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVocabularyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVocabulary(deleteVocabularyRequest);
                 return null;
@@ -1112,11 +1112,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyAsync(
+    public SdkFuture<Void> deleteVocabularyAsync(
             final DeleteVocabularyRequest deleteVocabularyRequest,
             final AsyncHandler<DeleteVocabularyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVocabularyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1152,10 +1152,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyFilterAsync(
+    public SdkFuture<Void> deleteVocabularyFilterAsync(
             final DeleteVocabularyFilterRequest deleteVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVocabularyFilterRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteVocabularyFilter(deleteVocabularyFilterRequest);
                 return null;
@@ -1184,11 +1184,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyFilterAsync(
+    public SdkFuture<Void> deleteVocabularyFilterAsync(
             final DeleteVocabularyFilterRequest deleteVocabularyFilterRequest,
             final AsyncHandler<DeleteVocabularyFilterRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteVocabularyFilterRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -1231,10 +1231,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLanguageModelResult> describeLanguageModelAsync(
+    public SdkFuture<DescribeLanguageModelResult> describeLanguageModelAsync(
             final DescribeLanguageModelRequest describeLanguageModelRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLanguageModelResult>() {
+        return AsyncRuntime.submit(executorService, describeLanguageModelRequest, new Callable<DescribeLanguageModelResult>() {
             public DescribeLanguageModelResult call() throws Exception {
                 return describeLanguageModel(describeLanguageModelRequest);
             }
@@ -1269,11 +1269,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLanguageModelResult> describeLanguageModelAsync(
+    public SdkFuture<DescribeLanguageModelResult> describeLanguageModelAsync(
             final DescribeLanguageModelRequest describeLanguageModelRequest,
             final AsyncHandler<DescribeLanguageModelRequest, DescribeLanguageModelResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLanguageModelResult>() {
+        return AsyncRuntime.submit(executorService, describeLanguageModelRequest, new Callable<DescribeLanguageModelResult>() {
             public DescribeLanguageModelResult call() throws Exception {
                 DescribeLanguageModelResult result = null;
                 try {
@@ -1309,10 +1309,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCallAnalyticsCategoryResult> getCallAnalyticsCategoryAsync(
+    public SdkFuture<GetCallAnalyticsCategoryResult> getCallAnalyticsCategoryAsync(
             final GetCallAnalyticsCategoryRequest getCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, getCallAnalyticsCategoryRequest, new Callable<GetCallAnalyticsCategoryResult>() {
             public GetCallAnalyticsCategoryResult call() throws Exception {
                 return getCallAnalyticsCategory(getCallAnalyticsCategoryRequest);
             }
@@ -1340,11 +1340,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCallAnalyticsCategoryResult> getCallAnalyticsCategoryAsync(
+    public SdkFuture<GetCallAnalyticsCategoryResult> getCallAnalyticsCategoryAsync(
             final GetCallAnalyticsCategoryRequest getCallAnalyticsCategoryRequest,
             final AsyncHandler<GetCallAnalyticsCategoryRequest, GetCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, getCallAnalyticsCategoryRequest, new Callable<GetCallAnalyticsCategoryResult>() {
             public GetCallAnalyticsCategoryResult call() throws Exception {
                 GetCallAnalyticsCategoryResult result = null;
                 try {
@@ -1386,10 +1386,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCallAnalyticsJobResult> getCallAnalyticsJobAsync(
+    public SdkFuture<GetCallAnalyticsJobResult> getCallAnalyticsJobAsync(
             final GetCallAnalyticsJobRequest getCallAnalyticsJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsJobResult>() {
+        return AsyncRuntime.submit(executorService, getCallAnalyticsJobRequest, new Callable<GetCallAnalyticsJobResult>() {
             public GetCallAnalyticsJobResult call() throws Exception {
                 return getCallAnalyticsJob(getCallAnalyticsJobRequest);
             }
@@ -1423,11 +1423,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCallAnalyticsJobResult> getCallAnalyticsJobAsync(
+    public SdkFuture<GetCallAnalyticsJobResult> getCallAnalyticsJobAsync(
             final GetCallAnalyticsJobRequest getCallAnalyticsJobRequest,
             final AsyncHandler<GetCallAnalyticsJobRequest, GetCallAnalyticsJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCallAnalyticsJobResult>() {
+        return AsyncRuntime.submit(executorService, getCallAnalyticsJobRequest, new Callable<GetCallAnalyticsJobResult>() {
             public GetCallAnalyticsJobResult call() throws Exception {
                 GetCallAnalyticsJobResult result = null;
                 try {
@@ -1467,10 +1467,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
+    public SdkFuture<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
             final GetMedicalTranscriptionJobRequest getMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, getMedicalTranscriptionJobRequest, new Callable<GetMedicalTranscriptionJobResult>() {
             public GetMedicalTranscriptionJobResult call() throws Exception {
                 return getMedicalTranscriptionJob(getMedicalTranscriptionJobRequest);
             }
@@ -1502,11 +1502,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
+    public SdkFuture<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
             final GetMedicalTranscriptionJobRequest getMedicalTranscriptionJobRequest,
             final AsyncHandler<GetMedicalTranscriptionJobRequest, GetMedicalTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, getMedicalTranscriptionJobRequest, new Callable<GetMedicalTranscriptionJobResult>() {
             public GetMedicalTranscriptionJobResult call() throws Exception {
                 GetMedicalTranscriptionJobResult result = null;
                 try {
@@ -1542,10 +1542,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMedicalVocabularyResult> getMedicalVocabularyAsync(
+    public SdkFuture<GetMedicalVocabularyResult> getMedicalVocabularyAsync(
             final GetMedicalVocabularyRequest getMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, getMedicalVocabularyRequest, new Callable<GetMedicalVocabularyResult>() {
             public GetMedicalVocabularyResult call() throws Exception {
                 return getMedicalVocabulary(getMedicalVocabularyRequest);
             }
@@ -1573,11 +1573,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMedicalVocabularyResult> getMedicalVocabularyAsync(
+    public SdkFuture<GetMedicalVocabularyResult> getMedicalVocabularyAsync(
             final GetMedicalVocabularyRequest getMedicalVocabularyRequest,
             final AsyncHandler<GetMedicalVocabularyRequest, GetMedicalVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, getMedicalVocabularyRequest, new Callable<GetMedicalVocabularyResult>() {
             public GetMedicalVocabularyResult call() throws Exception {
                 GetMedicalVocabularyResult result = null;
                 try {
@@ -1618,10 +1618,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTranscriptionJobResult> getTranscriptionJobAsync(
+    public SdkFuture<GetTranscriptionJobResult> getTranscriptionJobAsync(
             final GetTranscriptionJobRequest getTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, getTranscriptionJobRequest, new Callable<GetTranscriptionJobResult>() {
             public GetTranscriptionJobResult call() throws Exception {
                 return getTranscriptionJob(getTranscriptionJobRequest);
             }
@@ -1654,11 +1654,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTranscriptionJobResult> getTranscriptionJobAsync(
+    public SdkFuture<GetTranscriptionJobResult> getTranscriptionJobAsync(
             final GetTranscriptionJobRequest getTranscriptionJobRequest,
             final AsyncHandler<GetTranscriptionJobRequest, GetTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, getTranscriptionJobRequest, new Callable<GetTranscriptionJobResult>() {
             public GetTranscriptionJobResult call() throws Exception {
                 GetTranscriptionJobResult result = null;
                 try {
@@ -1693,10 +1693,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyResult> getVocabularyAsync(
+    public SdkFuture<GetVocabularyResult> getVocabularyAsync(
             final GetVocabularyRequest getVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, getVocabularyRequest, new Callable<GetVocabularyResult>() {
             public GetVocabularyResult call() throws Exception {
                 return getVocabulary(getVocabularyRequest);
             }
@@ -1723,11 +1723,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyResult> getVocabularyAsync(
+    public SdkFuture<GetVocabularyResult> getVocabularyAsync(
             final GetVocabularyRequest getVocabularyRequest,
             final AsyncHandler<GetVocabularyRequest, GetVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, getVocabularyRequest, new Callable<GetVocabularyResult>() {
             public GetVocabularyResult call() throws Exception {
                 GetVocabularyResult result = null;
                 try {
@@ -1763,10 +1763,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyFilterResult> getVocabularyFilterAsync(
+    public SdkFuture<GetVocabularyFilterResult> getVocabularyFilterAsync(
             final GetVocabularyFilterRequest getVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyFilterResult>() {
+        return AsyncRuntime.submit(executorService, getVocabularyFilterRequest, new Callable<GetVocabularyFilterResult>() {
             public GetVocabularyFilterResult call() throws Exception {
                 return getVocabularyFilter(getVocabularyFilterRequest);
             }
@@ -1794,11 +1794,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyFilterResult> getVocabularyFilterAsync(
+    public SdkFuture<GetVocabularyFilterResult> getVocabularyFilterAsync(
             final GetVocabularyFilterRequest getVocabularyFilterRequest,
             final AsyncHandler<GetVocabularyFilterRequest, GetVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyFilterResult>() {
+        return AsyncRuntime.submit(executorService, getVocabularyFilterRequest, new Callable<GetVocabularyFilterResult>() {
             public GetVocabularyFilterResult call() throws Exception {
                 GetVocabularyFilterResult result = null;
                 try {
@@ -1836,10 +1836,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListCallAnalyticsCategoriesResult> listCallAnalyticsCategoriesAsync(
+    public SdkFuture<ListCallAnalyticsCategoriesResult> listCallAnalyticsCategoriesAsync(
             final ListCallAnalyticsCategoriesRequest listCallAnalyticsCategoriesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsCategoriesResult>() {
+        return AsyncRuntime.submit(executorService, listCallAnalyticsCategoriesRequest, new Callable<ListCallAnalyticsCategoriesResult>() {
             public ListCallAnalyticsCategoriesResult call() throws Exception {
                 return listCallAnalyticsCategories(listCallAnalyticsCategoriesRequest);
             }
@@ -1869,11 +1869,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListCallAnalyticsCategoriesResult> listCallAnalyticsCategoriesAsync(
+    public SdkFuture<ListCallAnalyticsCategoriesResult> listCallAnalyticsCategoriesAsync(
             final ListCallAnalyticsCategoriesRequest listCallAnalyticsCategoriesRequest,
             final AsyncHandler<ListCallAnalyticsCategoriesRequest, ListCallAnalyticsCategoriesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsCategoriesResult>() {
+        return AsyncRuntime.submit(executorService, listCallAnalyticsCategoriesRequest, new Callable<ListCallAnalyticsCategoriesResult>() {
             public ListCallAnalyticsCategoriesResult call() throws Exception {
                 ListCallAnalyticsCategoriesResult result = null;
                 try {
@@ -1909,10 +1909,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListCallAnalyticsJobsResult> listCallAnalyticsJobsAsync(
+    public SdkFuture<ListCallAnalyticsJobsResult> listCallAnalyticsJobsAsync(
             final ListCallAnalyticsJobsRequest listCallAnalyticsJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsJobsResult>() {
+        return AsyncRuntime.submit(executorService, listCallAnalyticsJobsRequest, new Callable<ListCallAnalyticsJobsResult>() {
             public ListCallAnalyticsJobsResult call() throws Exception {
                 return listCallAnalyticsJobs(listCallAnalyticsJobsRequest);
             }
@@ -1940,11 +1940,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListCallAnalyticsJobsResult> listCallAnalyticsJobsAsync(
+    public SdkFuture<ListCallAnalyticsJobsResult> listCallAnalyticsJobsAsync(
             final ListCallAnalyticsJobsRequest listCallAnalyticsJobsRequest,
             final AsyncHandler<ListCallAnalyticsJobsRequest, ListCallAnalyticsJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCallAnalyticsJobsResult>() {
+        return AsyncRuntime.submit(executorService, listCallAnalyticsJobsRequest, new Callable<ListCallAnalyticsJobsResult>() {
             public ListCallAnalyticsJobsResult call() throws Exception {
                 ListCallAnalyticsJobsResult result = null;
                 try {
@@ -1982,10 +1982,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListLanguageModelsResult> listLanguageModelsAsync(
+    public SdkFuture<ListLanguageModelsResult> listLanguageModelsAsync(
             final ListLanguageModelsRequest listLanguageModelsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLanguageModelsResult>() {
+        return AsyncRuntime.submit(executorService, listLanguageModelsRequest, new Callable<ListLanguageModelsResult>() {
             public ListLanguageModelsResult call() throws Exception {
                 return listLanguageModels(listLanguageModelsRequest);
             }
@@ -2015,11 +2015,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListLanguageModelsResult> listLanguageModelsAsync(
+    public SdkFuture<ListLanguageModelsResult> listLanguageModelsAsync(
             final ListLanguageModelsRequest listLanguageModelsRequest,
             final AsyncHandler<ListLanguageModelsRequest, ListLanguageModelsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLanguageModelsResult>() {
+        return AsyncRuntime.submit(executorService, listLanguageModelsRequest, new Callable<ListLanguageModelsResult>() {
             public ListLanguageModelsResult call() throws Exception {
                 ListLanguageModelsResult result = null;
                 try {
@@ -2055,10 +2055,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
+    public SdkFuture<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
             final ListMedicalTranscriptionJobsRequest listMedicalTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalTranscriptionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listMedicalTranscriptionJobsRequest, new Callable<ListMedicalTranscriptionJobsResult>() {
             public ListMedicalTranscriptionJobsResult call() throws Exception {
                 return listMedicalTranscriptionJobs(listMedicalTranscriptionJobsRequest);
             }
@@ -2086,11 +2086,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
+    public SdkFuture<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
             final ListMedicalTranscriptionJobsRequest listMedicalTranscriptionJobsRequest,
             final AsyncHandler<ListMedicalTranscriptionJobsRequest, ListMedicalTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalTranscriptionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listMedicalTranscriptionJobsRequest, new Callable<ListMedicalTranscriptionJobsResult>() {
             public ListMedicalTranscriptionJobsResult call() throws Exception {
                 ListMedicalTranscriptionJobsResult result = null;
                 try {
@@ -2127,10 +2127,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMedicalVocabulariesResult> listMedicalVocabulariesAsync(
+    public SdkFuture<ListMedicalVocabulariesResult> listMedicalVocabulariesAsync(
             final ListMedicalVocabulariesRequest listMedicalVocabulariesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, listMedicalVocabulariesRequest, new Callable<ListMedicalVocabulariesResult>() {
             public ListMedicalVocabulariesResult call() throws Exception {
                 return listMedicalVocabularies(listMedicalVocabulariesRequest);
             }
@@ -2159,11 +2159,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMedicalVocabulariesResult> listMedicalVocabulariesAsync(
+    public SdkFuture<ListMedicalVocabulariesResult> listMedicalVocabulariesAsync(
             final ListMedicalVocabulariesRequest listMedicalVocabulariesRequest,
             final AsyncHandler<ListMedicalVocabulariesRequest, ListMedicalVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, listMedicalVocabulariesRequest, new Callable<ListMedicalVocabulariesResult>() {
             public ListMedicalVocabulariesResult call() throws Exception {
                 ListMedicalVocabulariesResult result = null;
                 try {
@@ -2200,10 +2200,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 return listTagsForResource(listTagsForResourceRequest);
             }
@@ -2232,11 +2232,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public SdkFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return AsyncRuntime.submit(executorService, listTagsForResourceRequest, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
                 ListTagsForResourceResult result = null;
                 try {
@@ -2271,10 +2271,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
+    public SdkFuture<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listTranscriptionJobsRequest, new Callable<ListTranscriptionJobsResult>() {
             public ListTranscriptionJobsResult call() throws Exception {
                 return listTranscriptionJobs(listTranscriptionJobsRequest);
             }
@@ -2301,11 +2301,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
+    public SdkFuture<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest,
             final AsyncHandler<ListTranscriptionJobsRequest, ListTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
+        return AsyncRuntime.submit(executorService, listTranscriptionJobsRequest, new Callable<ListTranscriptionJobsResult>() {
             public ListTranscriptionJobsResult call() throws Exception {
                 ListTranscriptionJobsResult result = null;
                 try {
@@ -2341,10 +2341,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabulariesResult> listVocabulariesAsync(
+    public SdkFuture<ListVocabulariesResult> listVocabulariesAsync(
             final ListVocabulariesRequest listVocabulariesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, listVocabulariesRequest, new Callable<ListVocabulariesResult>() {
             public ListVocabulariesResult call() throws Exception {
                 return listVocabularies(listVocabulariesRequest);
             }
@@ -2372,11 +2372,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabulariesResult> listVocabulariesAsync(
+    public SdkFuture<ListVocabulariesResult> listVocabulariesAsync(
             final ListVocabulariesRequest listVocabulariesRequest,
             final AsyncHandler<ListVocabulariesRequest, ListVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
+        return AsyncRuntime.submit(executorService, listVocabulariesRequest, new Callable<ListVocabulariesResult>() {
             public ListVocabulariesResult call() throws Exception {
                 ListVocabulariesResult result = null;
                 try {
@@ -2411,10 +2411,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
+    public SdkFuture<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
             final ListVocabularyFiltersRequest listVocabularyFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabularyFiltersResult>() {
+        return AsyncRuntime.submit(executorService, listVocabularyFiltersRequest, new Callable<ListVocabularyFiltersResult>() {
             public ListVocabularyFiltersResult call() throws Exception {
                 return listVocabularyFilters(listVocabularyFiltersRequest);
             }
@@ -2441,11 +2441,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
+    public SdkFuture<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
             final ListVocabularyFiltersRequest listVocabularyFiltersRequest,
             final AsyncHandler<ListVocabularyFiltersRequest, ListVocabularyFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabularyFiltersResult>() {
+        return AsyncRuntime.submit(executorService, listVocabularyFiltersRequest, new Callable<ListVocabularyFiltersResult>() {
             public ListVocabularyFiltersResult call() throws Exception {
                 ListVocabularyFiltersResult result = null;
                 try {
@@ -2487,10 +2487,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartCallAnalyticsJobResult> startCallAnalyticsJobAsync(
+    public SdkFuture<StartCallAnalyticsJobResult> startCallAnalyticsJobAsync(
             final StartCallAnalyticsJobRequest startCallAnalyticsJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartCallAnalyticsJobResult>() {
+        return AsyncRuntime.submit(executorService, startCallAnalyticsJobRequest, new Callable<StartCallAnalyticsJobResult>() {
             public StartCallAnalyticsJobResult call() throws Exception {
                 return startCallAnalyticsJob(startCallAnalyticsJobRequest);
             }
@@ -2524,11 +2524,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartCallAnalyticsJobResult> startCallAnalyticsJobAsync(
+    public SdkFuture<StartCallAnalyticsJobResult> startCallAnalyticsJobAsync(
             final StartCallAnalyticsJobRequest startCallAnalyticsJobRequest,
             final AsyncHandler<StartCallAnalyticsJobRequest, StartCallAnalyticsJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartCallAnalyticsJobResult>() {
+        return AsyncRuntime.submit(executorService, startCallAnalyticsJobRequest, new Callable<StartCallAnalyticsJobResult>() {
             public StartCallAnalyticsJobResult call() throws Exception {
                 StartCallAnalyticsJobResult result = null;
                 try {
@@ -2564,10 +2564,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
+    public SdkFuture<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
             final StartMedicalTranscriptionJobRequest startMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartMedicalTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, startMedicalTranscriptionJobRequest, new Callable<StartMedicalTranscriptionJobResult>() {
             public StartMedicalTranscriptionJobResult call() throws Exception {
                 return startMedicalTranscriptionJob(startMedicalTranscriptionJobRequest);
             }
@@ -2595,11 +2595,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
+    public SdkFuture<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
             final StartMedicalTranscriptionJobRequest startMedicalTranscriptionJobRequest,
             final AsyncHandler<StartMedicalTranscriptionJobRequest, StartMedicalTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartMedicalTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, startMedicalTranscriptionJobRequest, new Callable<StartMedicalTranscriptionJobResult>() {
             public StartMedicalTranscriptionJobResult call() throws Exception {
                 StartMedicalTranscriptionJobResult result = null;
                 try {
@@ -2635,10 +2635,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTranscriptionJobResult> startTranscriptionJobAsync(
+    public SdkFuture<StartTranscriptionJobResult> startTranscriptionJobAsync(
             final StartTranscriptionJobRequest startTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, startTranscriptionJobRequest, new Callable<StartTranscriptionJobResult>() {
             public StartTranscriptionJobResult call() throws Exception {
                 return startTranscriptionJob(startTranscriptionJobRequest);
             }
@@ -2666,11 +2666,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTranscriptionJobResult> startTranscriptionJobAsync(
+    public SdkFuture<StartTranscriptionJobResult> startTranscriptionJobAsync(
             final StartTranscriptionJobRequest startTranscriptionJobRequest,
             final AsyncHandler<StartTranscriptionJobRequest, StartTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
+        return AsyncRuntime.submit(executorService, startTranscriptionJobRequest, new Callable<StartTranscriptionJobResult>() {
             public StartTranscriptionJobResult call() throws Exception {
                 StartTranscriptionJobResult result = null;
                 try {
@@ -2706,9 +2706,9 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public SdkFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<TagResourceResult>() {
             public TagResourceResult call() throws Exception {
                 return tagResource(tagResourceRequest);
             }
@@ -2736,10 +2736,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public SdkFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
+        return AsyncRuntime.submit(executorService, tagResourceRequest, new Callable<TagResourceResult>() {
             public TagResourceResult call() throws Exception {
                 TagResourceResult result = null;
                 try {
@@ -2775,10 +2775,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public SdkFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<UntagResourceResult>() {
             public UntagResourceResult call() throws Exception {
                 return untagResource(untagResourceRequest);
             }
@@ -2806,11 +2806,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public SdkFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
+        return AsyncRuntime.submit(executorService, untagResourceRequest, new Callable<UntagResourceResult>() {
             public UntagResourceResult call() throws Exception {
                 UntagResourceResult result = null;
                 try {
@@ -2849,10 +2849,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateCallAnalyticsCategoryResult> updateCallAnalyticsCategoryAsync(
+    public SdkFuture<UpdateCallAnalyticsCategoryResult> updateCallAnalyticsCategoryAsync(
             final UpdateCallAnalyticsCategoryRequest updateCallAnalyticsCategoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, updateCallAnalyticsCategoryRequest, new Callable<UpdateCallAnalyticsCategoryResult>() {
             public UpdateCallAnalyticsCategoryResult call() throws Exception {
                 return updateCallAnalyticsCategory(updateCallAnalyticsCategoryRequest);
             }
@@ -2883,11 +2883,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateCallAnalyticsCategoryResult> updateCallAnalyticsCategoryAsync(
+    public SdkFuture<UpdateCallAnalyticsCategoryResult> updateCallAnalyticsCategoryAsync(
             final UpdateCallAnalyticsCategoryRequest updateCallAnalyticsCategoryRequest,
             final AsyncHandler<UpdateCallAnalyticsCategoryRequest, UpdateCallAnalyticsCategoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCallAnalyticsCategoryResult>() {
+        return AsyncRuntime.submit(executorService, updateCallAnalyticsCategoryRequest, new Callable<UpdateCallAnalyticsCategoryResult>() {
             public UpdateCallAnalyticsCategoryResult call() throws Exception {
                 UpdateCallAnalyticsCategoryResult result = null;
                 try {
@@ -2927,10 +2927,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateMedicalVocabularyResult> updateMedicalVocabularyAsync(
+    public SdkFuture<UpdateMedicalVocabularyResult> updateMedicalVocabularyAsync(
             final UpdateMedicalVocabularyRequest updateMedicalVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMedicalVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, updateMedicalVocabularyRequest, new Callable<UpdateMedicalVocabularyResult>() {
             public UpdateMedicalVocabularyResult call() throws Exception {
                 return updateMedicalVocabulary(updateMedicalVocabularyRequest);
             }
@@ -2962,11 +2962,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateMedicalVocabularyResult> updateMedicalVocabularyAsync(
+    public SdkFuture<UpdateMedicalVocabularyResult> updateMedicalVocabularyAsync(
             final UpdateMedicalVocabularyRequest updateMedicalVocabularyRequest,
             final AsyncHandler<UpdateMedicalVocabularyRequest, UpdateMedicalVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMedicalVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, updateMedicalVocabularyRequest, new Callable<UpdateMedicalVocabularyResult>() {
             public UpdateMedicalVocabularyResult call() throws Exception {
                 UpdateMedicalVocabularyResult result = null;
                 try {
@@ -3005,10 +3005,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyResult> updateVocabularyAsync(
+    public SdkFuture<UpdateVocabularyResult> updateVocabularyAsync(
             final UpdateVocabularyRequest updateVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, updateVocabularyRequest, new Callable<UpdateVocabularyResult>() {
             public UpdateVocabularyResult call() throws Exception {
                 return updateVocabulary(updateVocabularyRequest);
             }
@@ -3039,11 +3039,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyResult> updateVocabularyAsync(
+    public SdkFuture<UpdateVocabularyResult> updateVocabularyAsync(
             final UpdateVocabularyRequest updateVocabularyRequest,
             final AsyncHandler<UpdateVocabularyRequest, UpdateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
+        return AsyncRuntime.submit(executorService, updateVocabularyRequest, new Callable<UpdateVocabularyResult>() {
             public UpdateVocabularyResult call() throws Exception {
                 UpdateVocabularyResult result = null;
                 try {
@@ -3079,10 +3079,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
+    public SdkFuture<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
             final UpdateVocabularyFilterRequest updateVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyFilterResult>() {
+        return AsyncRuntime.submit(executorService, updateVocabularyFilterRequest, new Callable<UpdateVocabularyFilterResult>() {
             public UpdateVocabularyFilterResult call() throws Exception {
                 return updateVocabularyFilter(updateVocabularyFilterRequest);
             }
@@ -3110,11 +3110,11 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
+    public SdkFuture<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
             final UpdateVocabularyFilterRequest updateVocabularyFilterRequest,
             final AsyncHandler<UpdateVocabularyFilterRequest, UpdateVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyFilterResult>() {
+        return AsyncRuntime.submit(executorService, updateVocabularyFilterRequest, new Callable<UpdateVocabularyFilterResult>() {
             public UpdateVocabularyFilterResult call() throws Exception {
                 UpdateVocabularyFilterResult result = null;
                 try {
@@ -17,11 +17,11 @@ package com.amazonaws.services.translate;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.AsyncRuntime;
+import com.amazonaws.async.SdkFuture;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -89,15 +89,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      */
     @Deprecated
     public AmazonTranslateAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Translate using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be executed by the
+     * runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -107,7 +107,7 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *            to use when authenticating with AWS services.
      */
     public AmazonTranslateAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -154,8 +154,8 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Translate using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be executed
+     * by the runtime shared by async clients.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +166,7 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *            services.
      */
     public AmazonTranslateAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, AsyncRuntime.newClientExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      */
     public AmazonTranslateAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, AsyncRuntime
+                .newClientExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -284,10 +284,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateParallelDataResult> createParallelDataAsync(
+    public SdkFuture<CreateParallelDataResult> createParallelDataAsync(
             final CreateParallelDataRequest createParallelDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, createParallelDataRequest, new Callable<CreateParallelDataResult>() {
             public CreateParallelDataResult call() throws Exception {
                 return createParallelData(createParallelDataRequest);
             }
@@ -321,11 +321,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateParallelDataResult> createParallelDataAsync(
+    public SdkFuture<CreateParallelDataResult> createParallelDataAsync(
             final CreateParallelDataRequest createParallelDataRequest,
             final AsyncHandler<CreateParallelDataRequest, CreateParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, createParallelDataRequest, new Callable<CreateParallelDataResult>() {
             public CreateParallelDataResult call() throws Exception {
                 CreateParallelDataResult result = null;
                 try {
@@ -361,10 +361,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteParallelDataResult> deleteParallelDataAsync(
+    public SdkFuture<DeleteParallelDataResult> deleteParallelDataAsync(
             final DeleteParallelDataRequest deleteParallelDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, deleteParallelDataRequest, new Callable<DeleteParallelDataResult>() {
             public DeleteParallelDataResult call() throws Exception {
                 return deleteParallelData(deleteParallelDataRequest);
             }
@@ -392,11 +392,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteParallelDataResult> deleteParallelDataAsync(
+    public SdkFuture<DeleteParallelDataResult> deleteParallelDataAsync(
             final DeleteParallelDataRequest deleteParallelDataRequest,
             final AsyncHandler<DeleteParallelDataRequest, DeleteParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, deleteParallelDataRequest, new Callable<DeleteParallelDataResult>() {
             public DeleteParallelDataResult call() throws Exception {
                 DeleteParallelDataResult result = null;
                 try {
@@ -432,10 +432,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTerminologyAsync(
+    public SdkFuture<Void> deleteTerminologyAsync(
             final DeleteTerminologyRequest deleteTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTerminologyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 deleteTerminology(deleteTerminologyRequest);
                 return null;
@@ -464,11 +464,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTerminologyAsync(
+    public SdkFuture<Void> deleteTerminologyAsync(
             final DeleteTerminologyRequest deleteTerminologyRequest,
             final AsyncHandler<DeleteTerminologyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return AsyncRuntime.submit(executorService, deleteTerminologyRequest, new Callable<Void>() {
             public Void call() throws Exception {
                 Void result = null;
                 try {
@@ -505,10 +505,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
+    public SdkFuture<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
             final DescribeTextTranslationJobRequest describeTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTextTranslationJobResult>() {
+        return AsyncRuntime.submit(executorService, describeTextTranslationJobRequest, new Callable<DescribeTextTranslationJobResult>() {
             public DescribeTextTranslationJobResult call() throws Exception {
                 return describeTextTranslationJob(describeTextTranslationJobRequest);
             }
@@ -537,11 +537,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
+    public SdkFuture<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
             final DescribeTextTranslationJobRequest describeTextTranslationJobRequest,
             final AsyncHandler<DescribeTextTranslationJobRequest, DescribeTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTextTranslationJobResult>() {
+        return AsyncRuntime.submit(executorService, describeTextTranslationJobRequest, new Callable<DescribeTextTranslationJobResult>() {
             public DescribeTextTranslationJobResult call() throws Exception {
                 DescribeTextTranslationJobResult result = null;
                 try {
@@ -576,10 +576,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetParallelDataResult> getParallelDataAsync(
+    public SdkFuture<GetParallelDataResult> getParallelDataAsync(
             final GetParallelDataRequest getParallelDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, getParallelDataRequest, new Callable<GetParallelDataResult>() {
             public GetParallelDataResult call() throws Exception {
                 return getParallelData(getParallelDataRequest);
             }
@@ -606,11 +606,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetParallelDataResult> getParallelDataAsync(
+    public SdkFuture<GetParallelDataResult> getParallelDataAsync(
             final GetParallelDataRequest getParallelDataRequest,
             final AsyncHandler<GetParallelDataRequest, GetParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, getParallelDataRequest, new Callable<GetParallelDataResult>() {
             public GetParallelDataResult call() throws Exception {
                 GetParallelDataResult result = null;
                 try {
@@ -645,10 +645,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTerminologyResult> getTerminologyAsync(
+    public SdkFuture<GetTerminologyResult> getTerminologyAsync(
             final GetTerminologyRequest getTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
+        return AsyncRuntime.submit(executorService, getTerminologyRequest, new Callable<GetTerminologyResult>() {
             public GetTerminologyResult call() throws Exception {
                 return getTerminology(getTerminologyRequest);
             }
@@ -675,11 +675,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTerminologyResult> getTerminologyAsync(
+    public SdkFuture<GetTerminologyResult> getTerminologyAsync(
             final GetTerminologyRequest getTerminologyRequest,
             final AsyncHandler<GetTerminologyRequest, GetTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
+        return AsyncRuntime.submit(executorService, getTerminologyRequest, new Callable<GetTerminologyResult>() {
             public GetTerminologyResult call() throws Exception {
                 GetTerminologyResult result = null;
                 try {
@@ -726,10 +726,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ImportTerminologyResult> importTerminologyAsync(
+    public SdkFuture<ImportTerminologyResult> importTerminologyAsync(
             final ImportTerminologyRequest importTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
+        return AsyncRuntime.submit(executorService, importTerminologyRequest, new Callable<ImportTerminologyResult>() {
             public ImportTerminologyResult call() throws Exception {
                 return importTerminology(importTerminologyRequest);
             }
@@ -768,11 +768,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ImportTerminologyResult> importTerminologyAsync(
+    public SdkFuture<ImportTerminologyResult> importTerminologyAsync(
             final ImportTerminologyRequest importTerminologyRequest,
             final AsyncHandler<ImportTerminologyRequest, ImportTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
+        return AsyncRuntime.submit(executorService, importTerminologyRequest, new Callable<ImportTerminologyResult>() {
             public ImportTerminologyResult call() throws Exception {
                 ImportTerminologyResult result = null;
                 try {
@@ -806,10 +806,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListParallelDataResult> listParallelDataAsync(
+    public SdkFuture<ListParallelDataResult> listParallelDataAsync(
             final ListParallelDataRequest listParallelDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, listParallelDataRequest, new Callable<ListParallelDataResult>() {
             public ListParallelDataResult call() throws Exception {
                 return listParallelData(listParallelDataRequest);
             }
@@ -835,11 +835,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListParallelDataResult> listParallelDataAsync(
+    public SdkFuture<ListParallelDataResult> listParallelDataAsync(
             final ListParallelDataRequest listParallelDataRequest,
             final AsyncHandler<ListParallelDataRequest, ListParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, listParallelDataRequest, new Callable<ListParallelDataResult>() {
             public ListParallelDataResult call() throws Exception {
                 ListParallelDataResult result = null;
                 try {
@@ -874,10 +874,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTerminologiesResult> listTerminologiesAsync(
+    public SdkFuture<ListTerminologiesResult> listTerminologiesAsync(
             final ListTerminologiesRequest listTerminologiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
+        return AsyncRuntime.submit(executorService, listTerminologiesRequest, new Callable<ListTerminologiesResult>() {
             public ListTerminologiesResult call() throws Exception {
                 return listTerminologies(listTerminologiesRequest);
             }
@@ -904,11 +904,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTerminologiesResult> listTerminologiesAsync(
+    public SdkFuture<ListTerminologiesResult> listTerminologiesAsync(
             final ListTerminologiesRequest listTerminologiesRequest,
             final AsyncHandler<ListTerminologiesRequest, ListTerminologiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
+        return AsyncRuntime.submit(executorService, listTerminologiesRequest, new Callable<ListTerminologiesResult>() {
             public ListTerminologiesResult call() throws Exception {
                 ListTerminologiesResult result = null;
                 try {
@@ -944,10 +944,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
+    public SdkFuture<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
             final ListTextTranslationJobsRequest listTextTranslationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTextTranslationJobsResult>() {
+        return AsyncRuntime.submit(executorService, listTextTranslationJobsRequest, new Callable<ListTextTranslationJobsResult>() {
             public ListTextTranslationJobsResult call() throws Exception {
                 return listTextTranslationJobs(listTextTranslationJobsRequest);
             }
@@ -975,11 +975,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
+    public SdkFuture<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
             final ListTextTranslationJobsRequest listTextTranslationJobsRequest,
             final AsyncHandler<ListTextTranslationJobsRequest, ListTextTranslationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTextTranslationJobsResult>() {
+        return AsyncRuntime.submit(executorService, listTextTranslationJobsRequest, new Callable<ListTextTranslationJobsResult>() {
             public ListTextTranslationJobsResult call() throws Exception {
                 ListTextTranslationJobsResult result = null;
                 try {
@@ -1031,10 +1031,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTextTranslationJobResult> startTextTranslationJobAsync(
+    public SdkFuture<StartTextTranslationJobResult> startTextTranslationJobAsync(
             final StartTextTranslationJobRequest startTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTextTranslationJobResult>() {
+        return AsyncRuntime.submit(executorService, startTextTranslationJobRequest, new Callable<StartTextTranslationJobResult>() {
             public StartTextTranslationJobResult call() throws Exception {
                 return startTextTranslationJob(startTextTranslationJobRequest);
             }
@@ -1078,11 +1078,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTextTranslationJobResult> startTextTranslationJobAsync(
+    public SdkFuture<StartTextTranslationJobResult> startTextTranslationJobAsync(
             final StartTextTranslationJobRequest startTextTranslationJobRequest,
             final AsyncHandler<StartTextTranslationJobRequest, StartTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTextTranslationJobResult>() {
+        return AsyncRuntime.submit(executorService, startTextTranslationJobRequest, new Callable<StartTextTranslationJobResult>() {
             public StartTextTranslationJobResult call() throws Exception {
                 StartTextTranslationJobResult result = null;
                 try {
@@ -1130,10 +1130,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTextTranslationJobResult> stopTextTranslationJobAsync(
+    public SdkFuture<StopTextTranslationJobResult> stopTextTranslationJobAsync(
             final StopTextTranslationJobRequest stopTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTextTranslationJobResult>() {
+        return AsyncRuntime.submit(executorService, stopTextTranslationJobRequest, new Callable<StopTextTranslationJobResult>() {
             public StopTextTranslationJobResult call() throws Exception {
                 return stopTextTranslationJob(stopTextTranslationJobRequest);
             }
@@ -1173,11 +1173,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTextTranslationJobResult> stopTextTranslationJobAsync(
+    public SdkFuture<StopTextTranslationJobResult> stopTextTranslationJobAsync(
             final StopTextTranslationJobRequest stopTextTranslationJobRequest,
             final AsyncHandler<StopTextTranslationJobRequest, StopTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTextTranslationJobResult>() {
+        return AsyncRuntime.submit(executorService, stopTextTranslationJobRequest, new Callable<StopTextTranslationJobResult>() {
             public StopTextTranslationJobResult call() throws Exception {
                 StopTextTranslationJobResult result = null;
                 try {
@@ -1218,10 +1218,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TranslateTextResult> translateTextAsync(
+    public SdkFuture<TranslateTextResult> translateTextAsync(
             final TranslateTextRequest translateTextRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
+        return AsyncRuntime.submit(executorService, translateTextRequest, new Callable<TranslateTextResult>() {
             public TranslateTextResult call() throws Exception {
                 return translateText(translateTextRequest);
             }
@@ -1254,11 +1254,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TranslateTextResult> translateTextAsync(
+    public SdkFuture<TranslateTextResult> translateTextAsync(
             final TranslateTextRequest translateTextRequest,
             final AsyncHandler<TranslateTextRequest, TranslateTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
+        return AsyncRuntime.submit(executorService, translateTextRequest, new Callable<TranslateTextResult>() {
             public TranslateTextResult call() throws Exception {
                 TranslateTextResult result = null;
                 try {
@@ -1299,10 +1299,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateParallelDataResult> updateParallelDataAsync(
+    public SdkFuture<UpdateParallelDataResult> updateParallelDataAsync(
             final UpdateParallelDataRequest updateParallelDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, updateParallelDataRequest, new Callable<UpdateParallelDataResult>() {
             public UpdateParallelDataResult call() throws Exception {
                 return updateParallelData(updateParallelDataRequest);
             }
@@ -1335,11 +1335,11 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateParallelDataResult> updateParallelDataAsync(
+    public SdkFuture<UpdateParallelDataResult> updateParallelDataAsync(
             final UpdateParallelDataRequest updateParallelDataRequest,
             final AsyncHandler<UpdateParallelDataRequest, UpdateParallelDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateParallelDataResult>() {
+        return AsyncRuntime.submit(executorService, updateParallelDataRequest, new Callable<UpdateParallelDataResult>() {
             public UpdateParallelDataResult call() throws Exception {
                 UpdateParallelDataResult result = null;
                 try {